@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceImpl;
+import com.hazelcast.instance.impl.HazelcastInstanceProxy;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.properties.ClusterProperty;
+
+import static com.hazelcast.internal.util.UuidUtil.newUnsecureUUID;
+
+/**
+ * Utilities shared by the benchmarks which need a running member.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Returns the configuration of a standalone member: all discovery
+     * mechanisms are disabled so that the benchmark doesn't join other
+     * members running on the same machine.
+     */
+    public static Config standaloneMemberConfig() {
+        Config config = new Config();
+        config.setClusterName("benchmark-" + newUnsecureUUID());
+        config.setProperty(ClusterProperty.PHONE_HOME_ENABLED.getName(), "false");
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getAutoDetectionConfig().setEnabled(false);
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(false);
+        return config;
+    }
+
+    /**
+     * Returns the {@link NodeEngineImpl} of the given member.
+     */
+    public static NodeEngineImpl nodeEngine(HazelcastInstance instance) {
+        HazelcastInstanceImpl impl = instance instanceof HazelcastInstanceProxy proxy
+                ? proxy.getOriginal()
+                : (HazelcastInstanceImpl) instance;
+        return impl.node.nodeEngine;
+    }
+}
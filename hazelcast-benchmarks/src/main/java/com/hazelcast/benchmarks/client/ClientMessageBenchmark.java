@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.client;
+
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.ClientMessageReader;
+import com.hazelcast.client.impl.protocol.ClientMessageWriter;
+import com.hazelcast.client.impl.protocol.codec.MapPutCodec;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.internal.serialization.impl.HeapData.HEAP_DATA_OVERHEAD;
+
+/**
+ * Measures the encoding and decoding of a {@code Map.Put} request by its
+ * codec, and the writing and reading of the encoded message to and from a
+ * byte buffer, as done by the client protocol pipeline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientMessageBenchmark {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int DATA_TYPE = -1;
+
+    /**
+     * The size of the serialized value payload in bytes.
+     */
+    @Param({"16", "1024"})
+    public int valueSize;
+
+    private Data key;
+    private Data value;
+    private ClientMessage request;
+    private final ClientMessageWriter writer = new ClientMessageWriter();
+    private final ClientMessageReader reader = new ClientMessageReader(0);
+    private ByteBuffer writeBuffer;
+    private ByteBuffer encodedRequest;
+
+    @Setup
+    public void setup() {
+        key = data(16);
+        value = data(valueSize);
+        request = encodeRequest();
+        writeBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+        encodedRequest = ByteBuffer.allocate(BUFFER_SIZE);
+        writer.writeTo(encodedRequest, request);
+        encodedRequest.flip();
+    }
+
+    @Benchmark
+    public ClientMessage encodeRequest() {
+        return MapPutCodec.encodeRequest("map", key, value, 1L, -1L);
+    }
+
+    @Benchmark
+    public MapPutCodec.RequestParameters decodeRequest() {
+        return MapPutCodec.decodeRequest(request);
+    }
+
+    @Benchmark
+    public ByteBuffer writeToBuffer() {
+        writeBuffer.clear();
+        writer.writeTo(writeBuffer, request);
+        return writeBuffer;
+    }
+
+    @Benchmark
+    public ClientMessage readFromBuffer() {
+        reader.reset();
+        reader.readFrom(encodedRequest.duplicate(), true);
+        return reader.getClientMessage();
+    }
+
+    private static Data data(int payloadSize) {
+        byte[] bytes = new byte[HEAP_DATA_OVERHEAD + payloadSize];
+        Arrays.fill(bytes, HEAP_DATA_OVERHEAD, bytes.length, (byte) 1);
+        HeapData data = new HeapData(bytes);
+        // the type is in the header, a payload of ones doesn't need a real serializer
+        ByteBuffer.wrap(bytes).putInt(HeapData.TYPE_OFFSET, DATA_TYPE);
+        return data;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.jet;
+
+import com.hazelcast.internal.util.concurrent.ConcurrentConveyor;
+import com.hazelcast.internal.util.concurrent.OneToOneConcurrentArrayQueue;
+import com.hazelcast.internal.util.concurrent.QueuedPipe;
+import com.hazelcast.jet.impl.execution.ConcurrentInboundEdgeStream;
+import com.hazelcast.jet.impl.execution.InboundEdgeStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures draining of items from the input queues of a tasklet by {@link
+ * ConcurrentInboundEdgeStream}. The queues are filled by the benchmark
+ * thread before each drain, the time per item includes the offer to the
+ * queue.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InboundEdgeStreamBenchmark {
+
+    private static final int ITEM_COUNT = 8192;
+
+    /**
+     * The number of input queues, that is of upstream processors sending
+     * to the edge.
+     */
+    @Param({"1", "8"})
+    public int queueCount;
+
+    /**
+     * Exactly-once (true) or at-least-once (false) barrier handling.
+     */
+    @Param({"true", "false"})
+    public boolean waitForAllBarriers;
+
+    private ConcurrentConveyor<Object> conveyor;
+    private InboundEdgeStream stream;
+    private Object[] items;
+    private Consumer<Object> sink;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup(Blackhole blackhole) {
+        QueuedPipe<Object>[] queues = new QueuedPipe[queueCount];
+        for (int i = 0; i < queueCount; i++) {
+            queues[i] = new OneToOneConcurrentArrayQueue<>(ITEM_COUNT);
+        }
+        conveyor = ConcurrentConveyor.concurrentConveyor(null, queues);
+        stream = ConcurrentInboundEdgeStream.create(conveyor, 0, 0, waitForAllBarriers, "benchmark", null);
+        // the same number of items in total is split among the queues
+        items = new Object[ITEM_COUNT / queueCount];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i;
+        }
+        sink = blackhole::consume;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public void drainTo() {
+        for (int i = 0; i < queueCount; i++) {
+            QueuedPipe<Object> queue = conveyor.queue(i);
+            for (Object item : items) {
+                queue.offer(item);
+            }
+        }
+        // drain until all queues are empty
+        boolean madeProgress;
+        do {
+            madeProgress = stream.drainTo(sink).isMadeProgress();
+        } while (madeProgress);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.map;
+
+import com.hazelcast.benchmarks.BenchmarkSupport;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.recordstore.DefaultRecordStore;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.map.impl.record.Record.UNSET;
+
+/**
+ * Measures get and put on the {@link DefaultRecordStore} of a single
+ * partition, without the operation and invocation overhead.
+ * <p>
+ * The record store is called directly from the benchmark thread instead
+ * of the partition thread, so the benchmark must be single-threaded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class RecordStoreBenchmark {
+
+    private static final String MAP_NAME = "records";
+    private static final int KEY_COUNT_MASK = 1024 - 1;
+
+    @Param({"BINARY", "OBJECT"})
+    public InMemoryFormat inMemoryFormat;
+
+    private HazelcastInstance instance;
+    private RecordStore<?> recordStore;
+    private Data[] keys;
+    private Data value;
+    private int index;
+
+    @Setup
+    public void setup() {
+        Config config = BenchmarkSupport.standaloneMemberConfig();
+        config.getMapConfig(MAP_NAME).setInMemoryFormat(inMemoryFormat);
+        instance = Hazelcast.newHazelcastInstance(config);
+        instance.getMap(MAP_NAME);
+
+        NodeEngineImpl nodeEngine = BenchmarkSupport.nodeEngine(instance);
+        SerializationService serializationService = nodeEngine.getSerializationService();
+        int partitionId = nodeEngine.getPartitionService().getPartitionId("key");
+        MapService mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+        recordStore = mapService.getMapServiceContext().getRecordStore(partitionId, MAP_NAME);
+
+        // the record store doesn't check that it owns the keys
+        keys = new Data[KEY_COUNT_MASK + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = serializationService.toData("key-" + i);
+            recordStore.put(keys[i], serializationService.toData(i), UNSET, UNSET);
+        }
+        value = serializationService.toData("value");
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public Object get() {
+        return recordStore.get(nextKey(), false, null, true);
+    }
+
+    @Benchmark
+    public Object put() {
+        return recordStore.put(nextKey(), value, UNSET, UNSET);
+    }
+
+    private Data nextKey() {
+        return keys[index++ & KEY_COUNT_MASK];
+    }
+}
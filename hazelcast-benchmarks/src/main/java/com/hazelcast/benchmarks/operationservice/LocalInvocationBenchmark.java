@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.operationservice;
+
+import com.hazelcast.benchmarks.BenchmarkSupport;
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.OperationService;
+import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.spi.properties.ClusterProperty.PARTITION_OPERATION_THREAD_QUEUE_TYPE;
+
+/**
+ * Measures the round trip of an empty operation invoked on the local
+ * member through {@link OperationService}: on a partition thread and on a
+ * generic thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalInvocationBenchmark {
+
+    /**
+     * The type of the partition operation thread queue.
+     */
+    @Param({"linked", "array"})
+    public String queueType;
+
+    private HazelcastInstance instance;
+    private OperationService operationService;
+    private Address localAddress;
+    private int partitionId;
+
+    @Setup
+    public void setup() {
+        Config config = BenchmarkSupport.standaloneMemberConfig();
+        config.setProperty(PARTITION_OPERATION_THREAD_QUEUE_TYPE.getName(), queueType);
+        instance = Hazelcast.newHazelcastInstance(config);
+        NodeEngineImpl nodeEngine = BenchmarkSupport.nodeEngine(instance);
+        operationService = nodeEngine.getOperationService();
+        localAddress = nodeEngine.getThisAddress();
+        partitionId = nodeEngine.getPartitionService().getPartitionId("key");
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public Object invokeOnPartition() {
+        return operationService.invokeOnPartition(null, new PartitionNoOpOperation(), partitionId).join();
+    }
+
+    @Benchmark
+    public Object invokeOnLocalTarget() {
+        return operationService.invokeOnTarget(null, new GenericNoOpOperation(), localAddress).join();
+    }
+
+    private static final class PartitionNoOpOperation extends Operation implements PartitionAwareOperation {
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public Object getResponse() {
+            return Boolean.TRUE;
+        }
+    }
+
+    private static final class GenericNoOpOperation extends Operation {
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public Object getResponse() {
+            return Boolean.TRUE;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.query;
+
+import com.hazelcast.benchmarks.BenchmarkSupport;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.query.impl.IndexImpl;
+import com.hazelcast.query.impl.IndexRegistry;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.query.impl.QueryableEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the point and range lookups in the global on-heap {@link
+ * IndexImpl} of a map.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexQueryBenchmark {
+
+    private static final String MAP_NAME = "indexed";
+    private static final String HASH_INDEX = "hashIndex";
+    private static final String SORTED_INDEX = "sortedIndex";
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"100000"})
+    public int entryCount;
+
+    /**
+     * The number of distinct values, an equality lookup returns {@code
+     * entryCount / distinctValues} entries.
+     */
+    @Param({"1000"})
+    public int distinctValues;
+
+    /**
+     * The number of distinct values matched by a range lookup.
+     */
+    @Param({"10"})
+    public int rangeWidth;
+
+    private HazelcastInstance instance;
+    private InternalIndex hashIndex;
+    private InternalIndex sortedIndex;
+
+    @Setup
+    public void setup() {
+        Config config = BenchmarkSupport.standaloneMemberConfig();
+        config.getMapConfig(MAP_NAME)
+              .addIndexConfig(new IndexConfig(IndexType.HASH, "this").setName(HASH_INDEX))
+              .addIndexConfig(new IndexConfig(IndexType.SORTED, "this").setName(SORTED_INDEX));
+        instance = Hazelcast.newHazelcastInstance(config);
+
+        IMap<Integer, Integer> map = instance.getMap(MAP_NAME);
+        Map<Integer, Integer> batch = new HashMap<>();
+        for (int i = 0; i < entryCount; i++) {
+            batch.put(i, i % distinctValues);
+            if (batch.size() == BATCH_SIZE) {
+                map.putAll(batch);
+                batch.clear();
+            }
+        }
+        map.putAll(batch);
+
+        MapService mapService = BenchmarkSupport.nodeEngine(instance).getService(MapService.SERVICE_NAME);
+        IndexRegistry indexRegistry = mapService.getMapServiceContext().getMapContainer(MAP_NAME).getGlobalIndexRegistry();
+        hashIndex = indexRegistry.getIndex(HASH_INDEX);
+        sortedIndex = indexRegistry.getIndex(SORTED_INDEX);
+    }
+
+    @TearDown
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public Set<QueryableEntry> hashIndexEquals() {
+        return hashIndex.getRecords(randomValue());
+    }
+
+    @Benchmark
+    public Set<QueryableEntry> sortedIndexEquals() {
+        return sortedIndex.getRecords(randomValue());
+    }
+
+    @Benchmark
+    public Set<QueryableEntry> sortedIndexRange() {
+        int from = ThreadLocalRandom.current().nextInt(distinctValues - rangeWidth + 1);
+        return sortedIndex.getRecords(from, true, from + rangeWidth - 1, true);
+    }
+
+    private Integer randomValue() {
+        return ThreadLocalRandom.current().nextInt(distinctValues);
+    }
+}
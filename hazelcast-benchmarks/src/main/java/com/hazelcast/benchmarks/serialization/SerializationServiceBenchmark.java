@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.benchmarks.serialization;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.internal.serialization.impl.compact.SchemaService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.Portable;
+import com.hazelcast.nio.serialization.PortableReader;
+import com.hazelcast.nio.serialization.PortableWriter;
+import com.hazelcast.nio.serialization.compact.CompactReader;
+import com.hazelcast.nio.serialization.compact.CompactSerializer;
+import com.hazelcast.nio.serialization.compact.CompactWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code toData()} and {@code toObject()} of the serialization
+ * service for the same small object serialized in the Compact,
+ * IdentifiedDataSerializable and Portable formats.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationServiceBenchmark {
+
+    private static final int FACTORY_ID = 1;
+    private static final int CLASS_ID = 1;
+
+    @Param({"COMPACT", "IDENTIFIED_DATA_SERIALIZABLE", "PORTABLE"})
+    public Format format;
+
+    private InternalSerializationService serializationService;
+    private Object object;
+    private Data data;
+
+    @Setup
+    public void setup() {
+        SerializationConfig config = new SerializationConfig();
+        config.addDataSerializableFactory(FACTORY_ID, classId -> new IdsPerson());
+        config.addPortableFactory(FACTORY_ID, classId -> new PortablePerson());
+        config.getCompactSerializationConfig().addSerializer(new CompactPersonSerializer());
+        serializationService = new DefaultSerializationServiceBuilder()
+                .setConfig(config)
+                .setSchemaService(new LocalSchemaService())
+                .build();
+        object = format.create(42L, "John Doe", 35, 1234.5);
+        data = serializationService.toData(object);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializationService.dispose();
+    }
+
+    @Benchmark
+    public Data toData() {
+        return serializationService.toData(object);
+    }
+
+    @Benchmark
+    public Object toObject() {
+        return serializationService.toObject(data);
+    }
+
+    public enum Format {
+        COMPACT {
+            @Override
+            Object create(long id, String name, int age, double score) {
+                return new CompactPerson(id, name, age, score);
+            }
+        },
+        IDENTIFIED_DATA_SERIALIZABLE {
+            @Override
+            Object create(long id, String name, int age, double score) {
+                return new IdsPerson(id, name, age, score);
+            }
+        },
+        PORTABLE {
+            @Override
+            Object create(long id, String name, int age, double score) {
+                return new PortablePerson(id, name, age, score);
+            }
+        };
+
+        abstract Object create(long id, String name, int age, double score);
+    }
+
+    public static final class CompactPerson {
+        final long id;
+        final String name;
+        final int age;
+        final double score;
+
+        CompactPerson(long id, String name, int age, double score) {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+            this.score = score;
+        }
+    }
+
+    static final class CompactPersonSerializer implements CompactSerializer<CompactPerson> {
+        @Nonnull
+        @Override
+        public CompactPerson read(@Nonnull CompactReader reader) {
+            return new CompactPerson(reader.readInt64("id"), reader.readString("name"),
+                    reader.readInt32("age"), reader.readFloat64("score"));
+        }
+
+        @Override
+        public void write(@Nonnull CompactWriter writer, @Nonnull CompactPerson person) {
+            writer.writeInt64("id", person.id);
+            writer.writeString("name", person.name);
+            writer.writeInt32("age", person.age);
+            writer.writeFloat64("score", person.score);
+        }
+
+        @Nonnull
+        @Override
+        public String getTypeName() {
+            return "person";
+        }
+
+        @Nonnull
+        @Override
+        public Class<CompactPerson> getCompactClass() {
+            return CompactPerson.class;
+        }
+    }
+
+    public static final class IdsPerson implements IdentifiedDataSerializable {
+        private long id;
+        private String name;
+        private int age;
+        private double score;
+
+        public IdsPerson() {
+        }
+
+        IdsPerson(long id, String name, int age, double score) {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+            this.score = score;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeLong(id);
+            out.writeString(name);
+            out.writeInt(age);
+            out.writeDouble(score);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            id = in.readLong();
+            name = in.readString();
+            age = in.readInt();
+            score = in.readDouble();
+        }
+
+        @Override
+        public int getFactoryId() {
+            return FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return CLASS_ID;
+        }
+    }
+
+    public static final class PortablePerson implements Portable {
+        private long id;
+        private String name;
+        private int age;
+        private double score;
+
+        public PortablePerson() {
+        }
+
+        PortablePerson(long id, String name, int age, double score) {
+            this.id = id;
+            this.name = name;
+            this.age = age;
+            this.score = score;
+        }
+
+        @Override
+        public void writePortable(PortableWriter writer) throws IOException {
+            writer.writeLong("id", id);
+            writer.writeString("name", name);
+            writer.writeInt("age", age);
+            writer.writeDouble("score", score);
+        }
+
+        @Override
+        public void readPortable(PortableReader reader) throws IOException {
+            id = reader.readLong("id");
+            name = reader.readString("name");
+            age = reader.readInt("age");
+            score = reader.readDouble("score");
+        }
+
+        @Override
+        public int getFactoryId() {
+            return FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return CLASS_ID;
+        }
+    }
+
+    /**
+     * Keeps the Compact schemas locally, there's no cluster to replicate
+     * them to.
+     */
+    private static final class LocalSchemaService implements SchemaService {
+        private final Map<Long, Schema> schemas = new ConcurrentHashMap<>();
+
+        @Override
+        public Schema get(long schemaId) {
+            return schemas.get(schemaId);
+        }
+
+        @Override
+        public void put(Schema schema) {
+            putLocal(schema);
+        }
+
+        @Override
+        public void putLocal(Schema schema) {
+            schemas.putIfAbsent(schema.getSchemaId(), schema);
+        }
+    }
+}
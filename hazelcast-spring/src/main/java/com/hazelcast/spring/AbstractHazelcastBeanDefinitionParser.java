@@ -647,14 +647,13 @@ public abstract class AbstractHazelcastBeanDefinitionParser extends AbstractBean
 
             // Resolve columns.
             List<String> columns = new ArrayList<>();
+            List<String> includedColumns = new ArrayList<>();
 
             for (Node columnsNode : childElements(indexNode)) {
                 if ("attributes".equals(cleanNodeName(columnsNode))) {
-                    for (Node columnNode : childElements(columnsNode)) {
-                        if ("attribute".equals(cleanNodeName(columnNode))) {
-                            columns.add(getTextContent(columnNode));
-                        }
-                    }
+                    handleIndexAttributes(columns, columnsNode);
+                } else if ("included-attributes".equals(cleanNodeName(columnsNode))) {
+                    handleIndexAttributes(includedColumns, columnsNode);
                 } else if ("btree-index".equals(cleanNodeName(columnsNode))) {
                     BTreeIndexConfig treeIndexConfig = new BTreeIndexConfig();
                     for (Node columnNode : childElements(columnsNode)) {
@@ -672,10 +671,19 @@ public abstract class AbstractHazelcastBeanDefinitionParser extends AbstractBean
 
 
             indexConfBuilder.addPropertyValue("attributes", columns);
+            indexConfBuilder.addPropertyValue("includedAttributes", includedColumns);
 
             indexes.add(indexConfBuilder.getBeanDefinition());
         }
 
+        private void handleIndexAttributes(List<String> columns, Node columnsNode) {
+            for (Node columnNode : childElements(columnsNode)) {
+                if ("attribute".equals(cleanNodeName(columnNode))) {
+                    columns.add(getTextContent(columnNode));
+                }
+            }
+        }
+
         private Node searchForNode(Node parentNode, String nodeCleanName) {
             for (Node node : childElements(parentNode)) {
                 if (cleanNodeName(node).equals(nodeCleanName)) {
@@ -17,7 +17,6 @@
 package com.hazelcast.jet.sql.impl;
 
 import com.hazelcast.function.ComparatorEx;
-import com.hazelcast.function.FunctionEx;
 import com.hazelcast.internal.serialization.impl.SerializationUtil;
 import com.hazelcast.jet.sql.impl.opt.FieldCollation;
 import com.hazelcast.nio.ObjectDataInput;
@@ -132,21 +131,6 @@ public final class ExpressionUtil {
         }
     }
 
-    public static FunctionEx<JetSqlRow, JetSqlRow> projectionFn(
-            @Nonnull List<Expression<?>> projections,
-            @Nonnull ExpressionEvalContext context
-    ) {
-        return row0 -> projection(projections, context, row0.getRow());
-    }
-
-    public static FunctionEx<JetSqlRow, JetSqlRow> calcFn(
-            @Nonnull List<Expression<?>> projections,
-            @Nonnull Expression<Boolean> predicate,
-            @Nonnull ExpressionEvalContext context
-    ) {
-        return row0 -> projection(predicate, projections, row0.getRow(), context);
-    }
-
     /**
      * Concatenates {@code leftRow} and {@code rightRow} into one, evaluates
      * the {@code predicate} on it, and if the predicate passed, returns the
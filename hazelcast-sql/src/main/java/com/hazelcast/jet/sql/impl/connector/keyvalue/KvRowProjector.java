@@ -30,6 +30,7 @@ import com.hazelcast.sql.impl.extract.QueryExtractor;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.extract.QueryTarget;
 import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
+import com.hazelcast.sql.impl.row.HeapRow;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.row.Row;
 import com.hazelcast.sql.impl.type.QueryDataType;
@@ -111,6 +112,32 @@ public class KvRowProjector implements Row {
         return ExpressionUtil.projection(predicate, projections, this, evalContext);
     }
 
+    /**
+     * Extracts the fields of the given entry into the given row without
+     * evaluating the predicate and the projections, so that the row can be
+     * evaluated by the batch evaluation while this projector moves on to
+     * the next entry.
+     *
+     * @param row the row to copy the fields to, it must have {@link
+     *            #getFieldCount()} columns
+     * @return the given row
+     */
+    public HeapRow copyRow(Data key, Data value, HeapRow row) {
+        keyTarget.setTarget(null, key);
+        valueTarget.setTarget(null, value);
+        for (int i = 0; i < extractors.length; i++) {
+            row.set(i, extractors[i].get());
+        }
+        return row;
+    }
+
+    /**
+     * Returns the number of the fields extracted from an entry.
+     */
+    public int getFieldCount() {
+        return extractors.length;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T get(int index) {
@@ -187,6 +214,14 @@ public class KvRowProjector implements Row {
             return paths;
         }
 
+        public Expression<Boolean> predicate() {
+            return predicate;
+        }
+
+        public List<Expression<?>> projections() {
+            return projections;
+        }
+
         public KvRowProjector get(ExpressionEvalContext evalContext, Extractors extractors) {
             return new KvRowProjector(
                     paths,
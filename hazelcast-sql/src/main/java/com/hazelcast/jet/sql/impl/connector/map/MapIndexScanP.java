@@ -391,10 +391,8 @@ public final class MapIndexScanP extends AbstractProcessor {
         }
 
         private JetSqlRow projectAndFilter(@Nonnull QueryableEntry<?, ?> entry) {
-            row.setKeyValue(
-                    entry.getKeyIfPresent(), entry.getKeyDataIfPresent(),
-                    entry.getValueIfPresent(), entry.getValueDataIfPresent()
-            );
+            // Entries read from a covering index serve the included attributes without deserializing the value
+            row.setEntry(entry);
             return ExpressionUtil.projection(metadata.getRemainingFilter(), metadata.getProjection(), row, evalContext);
         }
 
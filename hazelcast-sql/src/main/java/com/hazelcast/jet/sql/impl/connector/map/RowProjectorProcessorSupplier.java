@@ -18,10 +18,9 @@ package com.hazelcast.jet.sql.impl.connector.map;
 
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.ProcessorSupplier;
-import com.hazelcast.jet.core.ResettableSingletonTraverser;
-import com.hazelcast.jet.impl.processor.TransformP;
 import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
 import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.jet.sql.impl.processors.CalcBatchP;
 import com.hazelcast.map.impl.LazyMapEntry;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
@@ -31,7 +30,7 @@ import com.hazelcast.sql.impl.expression.Expression;
 import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.extract.QueryTargetDescriptor;
-import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.row.HeapRow;
 import com.hazelcast.sql.impl.type.QueryDataType;
 
 import javax.annotation.Nonnull;
@@ -40,6 +39,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static com.hazelcast.sql.impl.expression.vector.BatchEvaluator.MAX_BATCH_SIZE;
+
 public final class RowProjectorProcessorSupplier implements ProcessorSupplier, IdentifiedDataSerializable {
 
     private KvRowProjector.Supplier projectorSupplier;
@@ -66,13 +67,23 @@ public final class RowProjectorProcessorSupplier implements ProcessorSupplier, I
     public Collection<? extends Processor> get(int count) {
         List<Processor> processors = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
-            ResettableSingletonTraverser<JetSqlRow> traverser = new ResettableSingletonTraverser<>();
             KvRowProjector projector = projectorSupplier.get(evalContext, extractors);
-            TransformP<LazyMapEntry<Object, Object>, JetSqlRow> processor = new TransformP<>(entry -> {
-                traverser.accept(projector.project(entry.getKeyData(), entry.getValueData()));
-                return traverser;
-            });
-            processor.setCooperative(projector.isCooperative());
+            // the fields of every entry of a batch are copied to the row of its position,
+            // the rows are created on demand and reused by the next batches
+            HeapRow[] rows = new HeapRow[MAX_BATCH_SIZE];
+            CalcBatchP<LazyMapEntry<Object, Object>> processor = new CalcBatchP<>(
+                    projectorSupplier.predicate(),
+                    projectorSupplier.projections(),
+                    (position, entry) -> {
+                        HeapRow row = rows[position];
+                        if (row == null) {
+                            row = new HeapRow(projector.getFieldCount());
+                            rows[position] = row;
+                        }
+                        return projector.copyRow(entry.getKeyData(), entry.getValueData(), row);
+                    },
+                    projector.isCooperative()
+            );
             processors.add(processor);
         }
         return processors;
@@ -151,6 +151,9 @@ public class SqlCreateJob extends SqlCreate {
                 case "maxProcessorAccumulatedRecords":
                     jobConfig.setMaxProcessorAccumulatedRecords(ParseUtils.parseLong(validator, option));
                     break;
+                case "spillMemoryBudget":
+                    jobConfig.setSpillMemoryBudget(ParseUtils.parseLong(validator, option));
+                    break;
                 case "suspendOnFailure":
                     jobConfig.setSuspendOnFailure(Boolean.parseBoolean(value));
                     break;
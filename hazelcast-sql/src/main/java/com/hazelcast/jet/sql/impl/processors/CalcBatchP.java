@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.function.SupplierEx;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Inbox;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.sql.impl.SqlServiceImpl;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.compile.ExpressionCompiler;
+import com.hazelcast.sql.impl.expression.vector.BatchEvaluator;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.row.Row;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.hazelcast.spi.properties.ClusterProperty.SQL_EXPRESSION_COMPILATION_ENABLED;
+import static com.hazelcast.sql.impl.expression.vector.BatchEvaluator.MAX_BATCH_SIZE;
+
+/**
+ * Processor which filters and projects the received items in batches using
+ * {@link BatchEvaluator}. Items are removed from the inbox only after all
+ * the rows projected from them were emitted. If {@link
+ * com.hazelcast.spi.properties.ClusterProperty#SQL_EXPRESSION_COMPILATION_ENABLED}
+ * is set, the expressions are compiled using the {@link ExpressionCompiler}
+ * of the member's plan cache.
+ * SQL engine-specific private API.
+ *
+ * @param <T> received item type
+ */
+public class CalcBatchP<T> extends AbstractProcessor {
+
+    private final Expression<Boolean> predicate;
+    private final List<Expression<?>> projections;
+    private final RowFn<T> rowFn;
+    private final boolean cooperative;
+
+    private final Row[] rows = new Row[MAX_BATCH_SIZE];
+    private final JetSqlRow[] output = new JetSqlRow[MAX_BATCH_SIZE];
+
+    private ExpressionEvalContext evalContext;
+    private BatchEvaluator evaluator;
+    private int inputSize;
+    private int outputSize;
+    private int outputPosition;
+
+    /**
+     * @param predicate   the filter or {@code null} if all the items pass
+     * @param projections the projections producing the output rows
+     * @param rowFn       the function exposing the received items as rows
+     * @param cooperative whether the expressions may be evaluated in a
+     *                    cooperative processor
+     */
+    public CalcBatchP(
+            @Nullable Expression<Boolean> predicate,
+            @Nonnull List<Expression<?>> projections,
+            @Nonnull RowFn<T> rowFn,
+            boolean cooperative
+    ) {
+        this.predicate = predicate;
+        this.projections = projections;
+        this.rowFn = rowFn;
+        this.cooperative = cooperative;
+    }
+
+    @Override
+    protected void init(@Nonnull Context context) throws Exception {
+        evalContext = ExpressionEvalContext.from(context);
+        evaluator = BatchEvaluator.create(predicate, projections, expressionCompiler(evalContext.getNodeEngine()));
+        super.init(context);
+    }
+
+    @Nullable
+    private static ExpressionCompiler expressionCompiler(NodeEngine nodeEngine) {
+        if (!nodeEngine.getProperties().getBoolean(SQL_EXPRESSION_COMPILATION_ENABLED)
+                || !(nodeEngine.getSqlService() instanceof SqlServiceImpl sqlService)) {
+            return null;
+        }
+        return sqlService.getPlanCache().getExpressionCompiler();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void process(int ordinal, @Nonnull Inbox inbox) {
+        if (inputSize == 0) {
+            Iterator<Object> iterator = inbox.iterator();
+            while (inputSize < rows.length && iterator.hasNext()) {
+                rows[inputSize] = rowFn.toRow(inputSize, (T) iterator.next());
+                ++inputSize;
+            }
+            outputSize = evaluator.evaluate(rows, inputSize, output, evalContext);
+            outputPosition = 0;
+        }
+
+        for (; outputPosition < outputSize; ++outputPosition) {
+            if (!tryEmit(output[outputPosition])) {
+                return;
+            }
+            output[outputPosition] = null;
+        }
+
+        for (int i = 0; i < inputSize; ++i) {
+            inbox.remove();
+            rows[i] = null;
+        }
+        inputSize = 0;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return cooperative;
+    }
+
+    @Override
+    public boolean closeIsCooperative() {
+        return true;
+    }
+
+    /**
+     * Returns a supplier of processors filtering and projecting {@link
+     * JetSqlRow}s.
+     */
+    public static SupplierEx<Processor> calcBatchP(
+            @Nullable Expression<Boolean> predicate,
+            @Nonnull List<Expression<?>> projections,
+            boolean cooperative
+    ) {
+        return () -> new CalcBatchP<JetSqlRow>(predicate, projections, (position, row) -> row.getRow(), cooperative);
+    }
+
+    /**
+     * Exposes a received item as a {@link Row}.
+     *
+     * @param <T> received item type
+     */
+    @FunctionalInterface
+    public interface RowFn<T> {
+
+        /**
+         * Returns the row for the given item. The returned row must stay
+         * valid until the whole batch is evaluated, rows of different
+         * positions within the batch must not share any state.
+         *
+         * @param position the position of the item in the batch
+         * @param item     the received item
+         */
+        Row toRow(int position, T item);
+    }
+}
@@ -18,7 +18,9 @@ package com.hazelcast.sql.impl.exec.scan;
 
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
 import com.hazelcast.sql.impl.extract.QueryExtractor;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.extract.QueryTarget;
@@ -28,23 +30,37 @@ import com.hazelcast.sql.impl.type.QueryDataType;
 
 import java.util.List;
 
+import static com.hazelcast.query.QueryConstants.KEY_ATTRIBUTE_NAME;
+import static com.hazelcast.query.QueryConstants.THIS_ATTRIBUTE_NAME;
+
 /**
  * Key-value row that is used for iteration over maps. The row is mutable and is not used by parent operators.
+ * <p>
+ * When the row is pointed to an entry read from a covering index, the fields whose attributes are cached in the
+ * entry are served from the entry without touching the key or the value.
  */
 public final class MapScanRow implements Row {
 
     private final QueryTarget keyTarget;
     private final QueryTarget valueTarget;
     private final QueryExtractor[] fieldExtractors;
+    private final QueryDataType[] fieldTypes;
+    private final String[] fieldAttributes;
+
+    private QueryableEntry<?, ?> entry;
 
     private MapScanRow(
         QueryTarget keyTarget,
         QueryTarget valueTarget,
-        QueryExtractor[] fieldExtractors
+        QueryExtractor[] fieldExtractors,
+        QueryDataType[] fieldTypes,
+        String[] fieldAttributes
     ) {
         this.keyTarget = keyTarget;
         this.valueTarget = valueTarget;
         this.fieldExtractors = fieldExtractors;
+        this.fieldTypes = fieldTypes;
+        this.fieldAttributes = fieldAttributes;
     }
 
     public static MapScanRow create(
@@ -59,15 +75,24 @@ public final class MapScanRow implements Row {
         QueryTarget valueTarget = valueDescriptor.create(serializationService, extractors, false);
 
         QueryExtractor[] fieldExtractors = new QueryExtractor[fieldPaths.size()];
+        QueryDataType[] types = new QueryDataType[fieldPaths.size()];
+        String[] fieldAttributes = new String[fieldPaths.size()];
 
         for (int i = 0; i < fieldPaths.size(); i++) {
             QueryPath fieldPath = fieldPaths.get(i);
             QueryDataType fieldType = fieldTypes.get(i);
 
             fieldExtractors[i] = createExtractor(keyTarget, valueTarget, fieldPath, fieldType);
+            types[i] = fieldType;
+
+            // Only the generic targets extract fields the same way as the index does
+            QueryTargetDescriptor descriptor = fieldPath.isKey() ? keyDescriptor : valueDescriptor;
+            if (descriptor instanceof GenericQueryTargetDescriptor) {
+                fieldAttributes[i] = toAttributeName(fieldPath);
+            }
         }
 
-        return new MapScanRow(keyTarget, valueTarget, fieldExtractors);
+        return new MapScanRow(keyTarget, valueTarget, fieldExtractors, types, fieldAttributes);
     }
 
     /**
@@ -81,17 +106,37 @@ public final class MapScanRow implements Row {
     public void setKeyValue(Object rawKey, Data rawKeyData, Object rawValue, Data rawValueData) {
         keyTarget.setTarget(rawKey, rawKeyData);
         valueTarget.setTarget(rawValue, rawValueData);
+        entry = null;
+    }
+
+    /**
+     * Set current entry. Fields covered by the index the entry was read from are served from the entry.
+     *
+     * @param entry the entry
+     */
+    public void setEntry(QueryableEntry<?, ?> entry) {
+        setKeyValue(
+            entry.getKeyIfPresent(), entry.getKeyDataIfPresent(),
+            entry.getValueIfPresent(), entry.getValueDataIfPresent()
+        );
+        this.entry = entry;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(int idx) {
+        if (entry != null && isCovered(idx)) {
+            return (T) fieldTypes[idx].normalize(entry.getAttributeValue(fieldAttributes[idx]));
+        }
         return (T) fieldExtractors[idx].get();
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(int idx, boolean useLazyDeserialization) {
+        if (entry != null && isCovered(idx)) {
+            return (T) fieldTypes[idx].normalize(entry.getAttributeValue(fieldAttributes[idx]));
+        }
         return (T) fieldExtractors[idx].get(useLazyDeserialization);
     }
 
@@ -100,6 +145,19 @@ public final class MapScanRow implements Row {
         return fieldExtractors.length;
     }
 
+    private boolean isCovered(int idx) {
+        String attribute = fieldAttributes[idx];
+        return attribute != null && entry.isAttributeCovered(attribute);
+    }
+
+    private static String toAttributeName(QueryPath path) {
+        if (path.isKey()) {
+            return path.isTopLevel() ? KEY_ATTRIBUTE_NAME.value() : KEY_ATTRIBUTE_NAME.value() + '.' + path.getPath();
+        } else {
+            return path.isTopLevel() ? THIS_ATTRIBUTE_NAME.value() : path.getPath();
+        }
+    }
+
     private static QueryExtractor createExtractor(
         QueryTarget keyTarget,
         QueryTarget valueTarget,
@@ -134,6 +134,18 @@ public class CaseExpression<T> implements Expression<T> {
         return elseExpression.getType();
     }
 
+    public Expression<Boolean>[] getWhenExpressions() {
+        return whenExpressions;
+    }
+
+    public Expression<?>[] getThenExpressions() {
+        return thenExpressions;
+    }
+
+    public Expression<?> getElseExpression() {
+        return elseExpression;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -97,6 +97,10 @@ public final class ColumnExpression<T> implements Expression<T> {
         return type;
     }
 
+    public int getIndex() {
+        return index;
+    }
+
     @Override
     public int getClassId() {
         return JetSqlSerializerHook.EXPRESSION_COLUMN;
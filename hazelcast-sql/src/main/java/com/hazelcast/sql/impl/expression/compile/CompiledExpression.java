@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.compile;
+
+import com.hazelcast.query.impl.Comparables;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.Row;
+
+/**
+ * Base class of the classes generated by {@link ExpressionCompiler}.
+ * <p>
+ * Generated code evaluates boolean sub-expressions into primitive ternary
+ * values ({@link #TRUE}, {@link #FALSE} and {@link #UNKNOWN}) and other
+ * sub-expressions into objects. The static helpers of this class are small
+ * enough to be inlined into the generated methods by the JIT.
+ * <p>
+ * Instances don't hold any per-row state, they are thread-safe.
+ */
+public abstract class CompiledExpression {
+
+    protected static final int TRUE = 1;
+    protected static final int FALSE = 0;
+    protected static final int UNKNOWN = -1;
+
+    /**
+     * Evaluates the compiled expression, the result is the same as the
+     * result of {@link com.hazelcast.sql.impl.expression.Expression#eval}
+     * of the source expression.
+     *
+     * @param row     the row to evaluate the expression on
+     * @param context the expression evaluation context
+     * @return the result produced by the evaluation
+     */
+    public abstract Object eval(Row row, ExpressionEvalContext context);
+
+    /**
+     * Binds the objects referenced by the generated code: constant values,
+     * converters and the sub-expressions left to the interpreter. Called
+     * once, right after the instantiation.
+     */
+    protected abstract void bind(Object[] references);
+
+    protected static Boolean toBoolean(int value) {
+        return value == UNKNOWN ? null : value == TRUE;
+    }
+
+    protected static int ternary(Object value) {
+        if (value == null) {
+            return UNKNOWN;
+        }
+        return (Boolean) value ? TRUE : FALSE;
+    }
+
+    protected static int not(int value) {
+        return value == UNKNOWN ? UNKNOWN : TRUE - value;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    protected static int compare(Object left, Object right) {
+        return Comparables.compare((Comparable) left, (Comparable) right);
+    }
+
+    protected static int compareLongs(Object left, Object right) {
+        if (left instanceof Long && right instanceof Long) {
+            return Long.compare((Long) left, (Long) right);
+        }
+        return compare(left, right);
+    }
+
+    protected static int compareInts(Object left, Object right) {
+        if (left instanceof Integer && right instanceof Integer) {
+            return Integer.compare((Integer) left, (Integer) right);
+        }
+        return compare(left, right);
+    }
+
+    protected static int compareDoubles(Object left, Object right) {
+        if (left instanceof Double && right instanceof Double) {
+            return Double.compare((Double) left, (Double) right);
+        }
+        return compare(left, right);
+    }
+
+    protected static int compareStrings(Object left, Object right) {
+        if (left instanceof String && right instanceof String) {
+            return ((String) left).compareTo((String) right);
+        }
+        return compare(left, right);
+    }
+}
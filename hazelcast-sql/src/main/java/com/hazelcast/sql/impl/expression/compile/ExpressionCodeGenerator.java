@@ -0,0 +1,308 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.compile;
+
+import com.hazelcast.sql.impl.expression.CaseExpression;
+import com.hazelcast.sql.impl.expression.CastExpression;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ParameterExpression;
+import com.hazelcast.sql.impl.expression.UniExpression;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsFalsePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotFalsePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+import com.hazelcast.sql.impl.type.converter.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates the class body of a {@link CompiledExpression} subclass for an
+ * expression tree.
+ * <p>
+ * Columns, constants, parameters, AND, OR, NOT, the IS [NOT] NULL/TRUE/FALSE
+ * predicates, comparisons, CASE and CAST are translated into Java code. Any
+ * other sub-expression is kept as a reference and evaluated by the
+ * interpreter. Constant values and the other referenced objects are not part
+ * of the generated code, so that all the expressions of the same shape share
+ * a single generated class.
+ */
+final class ExpressionCodeGenerator {
+
+    private static final String ROW = "com.hazelcast.sql.impl.row.Row";
+    private static final String CONTEXT = "com.hazelcast.sql.impl.expression.ExpressionEvalContext";
+    private static final String PARAMETERS = "(" + ROW + " row, " + CONTEXT + " context)";
+    private static final String ARGUMENTS = "(row, context)";
+
+    private static final Set<Class<?>> PREDICATES = Set.of(
+            AndPredicate.class,
+            OrPredicate.class,
+            NotPredicate.class,
+            IsNullPredicate.class,
+            IsNotNullPredicate.class,
+            IsTruePredicate.class,
+            IsNotTruePredicate.class,
+            IsFalsePredicate.class,
+            IsNotFalsePredicate.class
+    );
+
+    private final StringBuilder fields = new StringBuilder();
+    private final StringBuilder bindings = new StringBuilder();
+    private final StringBuilder methods = new StringBuilder();
+    private final List<Object> references = new ArrayList<>();
+    private int methodCount;
+
+    /**
+     * Generates the class body for the given expression.
+     *
+     * @return the class body or {@code null} if the expression wouldn't
+     * benefit from the compilation, because it is a leaf or because it's
+     * evaluated by the interpreter anyway.
+     */
+    String generate(Expression<?> expression) {
+        if (!isPredicate(expression) && !(expression instanceof CaseExpression)
+                && !(expression instanceof CastExpression)) {
+            return null;
+        }
+
+        String value = value(expression);
+        return fields
+                + "protected void bind(Object[] references) {\n" + bindings + "}\n"
+                + "public Object eval" + PARAMETERS + " {\n"
+                + "return " + value + ";\n"
+                + "}\n"
+                + methods;
+    }
+
+    /**
+     * Returns the objects to pass to {@link CompiledExpression#bind}.
+     */
+    Object[] references() {
+        return references.toArray();
+    }
+
+    /**
+     * Returns Java code evaluating the given expression into an object.
+     */
+    private String value(Expression<?> expression) {
+        if (isPredicate(expression)) {
+            return "toBoolean(" + predicate(expression) + ")";
+        }
+
+        if (expression instanceof ColumnExpression<?> column
+                && column.getType().getTypeFamily() != QueryDataTypeFamily.OBJECT) {
+            // OBJECT columns might need a deserialization, they are left to the interpreter
+            return "row.get(" + column.getIndex() + ", false)";
+        }
+
+        if (expression instanceof ConstantExpression<?> constant) {
+            return reference("Object", constant.getValue());
+        }
+
+        if (expression instanceof ParameterExpression<?> parameter) {
+            return "context.getArgument(" + parameter.getIndex() + ")";
+        }
+
+        if (expression instanceof CaseExpression<?> caseExpression) {
+            return caseValue(caseExpression);
+        }
+
+        if (expression instanceof CastExpression<?> cast) {
+            return castValue(cast);
+        }
+
+        return reference(Expression.class.getName(), expression) + ".eval" + ARGUMENTS;
+    }
+
+    /**
+     * Returns Java code evaluating the given boolean expression into a
+     * ternary {@code int}.
+     */
+    @SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:npathcomplexity"})
+    private String predicate(Expression<?> expression) {
+        if (expression instanceof AndPredicate and) {
+            return junction(and.operands(), "FALSE", "TRUE");
+        }
+
+        if (expression instanceof OrPredicate or) {
+            return junction(or.operands(), "TRUE", "FALSE");
+        }
+
+        if (expression instanceof NotPredicate not) {
+            return "not(" + predicate(not.getOperand()) + ")";
+        }
+
+        if (expression instanceof IsNullPredicate || expression instanceof IsNotNullPredicate) {
+            String operator = expression instanceof IsNullPredicate ? " == " : " != ";
+            return "(" + value(((UniExpression<?>) expression).getOperand()) + operator + "null ? TRUE : FALSE)";
+        }
+
+        if (expression instanceof IsTruePredicate || expression instanceof IsNotTruePredicate) {
+            String operator = expression instanceof IsTruePredicate ? " == " : " != ";
+            return "(" + predicate(((UniExpression<?>) expression).getOperand()) + operator + "TRUE ? TRUE : FALSE)";
+        }
+
+        if (expression instanceof IsFalsePredicate || expression instanceof IsNotFalsePredicate) {
+            String operator = expression instanceof IsFalsePredicate ? " == " : " != ";
+            return "(" + predicate(((UniExpression<?>) expression).getOperand()) + operator + "FALSE ? TRUE : FALSE)";
+        }
+
+        if (isCompiledComparison(expression)) {
+            return comparison((ComparisonPredicate) expression);
+        }
+
+        return "ternary(" + value(expression) + ")";
+    }
+
+    /**
+     * AND and OR, the operands are evaluated in order until one of them
+     * evaluates to the {@code decisive} value.
+     */
+    private String junction(Expression<?>[] operands, String decisive, String otherwise) {
+        StringBuilder body = new StringBuilder()
+                .append("int result = ").append(otherwise).append(";\n")
+                .append("int value;\n");
+        for (Expression<?> operand : operands) {
+            body.append("value = ").append(predicate(operand)).append(";\n")
+                    .append("if (value == ").append(decisive).append(") {\nreturn ").append(decisive).append(";\n}\n")
+                    .append("if (value == UNKNOWN) {\nresult = UNKNOWN;\n}\n");
+        }
+        body.append("return result;\n");
+        return method("int", body);
+    }
+
+    private String comparison(ComparisonPredicate comparison) {
+        String order;
+        switch (comparison.getMode()) {
+            case EQUALS:
+                order = "order == 0";
+                break;
+            case NOT_EQUALS:
+                order = "order != 0";
+                break;
+            case GREATER_THAN:
+                order = "order > 0";
+                break;
+            case GREATER_THAN_OR_EQUAL:
+                order = "order >= 0";
+                break;
+            case LESS_THAN:
+                order = "order < 0";
+                break;
+            case LESS_THAN_OR_EQUAL:
+                order = "order <= 0";
+                break;
+            default:
+                throw new IllegalStateException("unexpected comparison mode: " + comparison.getMode());
+        }
+
+        StringBuilder body = new StringBuilder()
+                .append("Object left = ").append(value(comparison.getOperand1())).append(";\n")
+                .append("if (left == null) {\nreturn UNKNOWN;\n}\n")
+                .append("Object right = ").append(value(comparison.getOperand2())).append(";\n")
+                .append("if (right == null) {\nreturn UNKNOWN;\n}\n")
+                .append("int order = ").append(comparator(comparison.getOperand1().getType())).append("(left, right);\n")
+                .append("return ").append(order).append(" ? TRUE : FALSE;\n");
+        return method("int", body);
+    }
+
+    private String caseValue(CaseExpression<?> caseExpression) {
+        Expression<Boolean>[] whenExpressions = caseExpression.getWhenExpressions();
+        Expression<?>[] thenExpressions = caseExpression.getThenExpressions();
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < whenExpressions.length; i++) {
+            body.append("if (").append(predicate(whenExpressions[i])).append(" == TRUE) {\n")
+                    .append("return ").append(value(thenExpressions[i])).append(";\n")
+                    .append("}\n");
+        }
+        body.append("return ").append(value(caseExpression.getElseExpression())).append(";\n");
+        return method("Object", body);
+    }
+
+    private String castValue(CastExpression<?> cast) {
+        QueryDataType fromType = cast.getOperand().getType();
+        QueryDataType toType = cast.getType();
+        String converter = Converter.class.getName();
+
+        // the types are a part of the code, so that every cast gets monomorphic call sites
+        StringBuilder body = new StringBuilder()
+                .append("// ").append(fromType.getTypeFamily()).append(" -> ").append(toType.getTypeFamily()).append('\n')
+                .append("Object value = ").append(value(cast.getOperand())).append(";\n")
+                .append("if (value == null) {\nreturn null;\n}\n")
+                .append("return ").append(reference(converter, toType.getConverter()))
+                .append(".convertToSelf(").append(reference(converter, fromType.getConverter())).append(", value);\n");
+        return method("Object", body);
+    }
+
+    private String method(String returnType, StringBuilder body) {
+        String name = (returnType.equals("int") ? "p" : "v") + methodCount++;
+        methods.append("private ").append(returnType).append(' ').append(name).append(PARAMETERS).append(" {\n")
+                .append(body)
+                .append("}\n");
+        return name + ARGUMENTS;
+    }
+
+    private String reference(String type, Object object) {
+        int index = references.size();
+        references.add(object);
+
+        String name = "r" + index;
+        fields.append("private ").append(type).append(' ').append(name).append(";\n");
+        bindings.append(name).append(" = (").append(type).append(") references[").append(index).append("];\n");
+        return name;
+    }
+
+    private static String comparator(QueryDataType type) {
+        switch (type.getTypeFamily()) {
+            case BIGINT:
+                return "compareLongs";
+            case INTEGER:
+                return "compareInts";
+            case DOUBLE:
+                return "compareDoubles";
+            case VARCHAR:
+                return "compareStrings";
+            default:
+                return "compare";
+        }
+    }
+
+    private static boolean isPredicate(Expression<?> expression) {
+        return PREDICATES.contains(expression.getClass()) || isCompiledComparison(expression);
+    }
+
+    /**
+     * Comparisons of OBJECT operands check the classes of the values, they
+     * are left to the interpreter.
+     */
+    private static boolean isCompiledComparison(Expression<?> expression) {
+        return expression instanceof ComparisonPredicate comparison
+                && comparison.getOperand1().getType().getTypeFamily() != QueryDataTypeFamily.OBJECT;
+    }
+}
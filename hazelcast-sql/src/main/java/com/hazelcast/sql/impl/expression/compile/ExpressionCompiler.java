@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.compile;
+
+import com.hazelcast.internal.util.Preconditions;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.sql.impl.expression.Expression;
+import org.codehaus.commons.compiler.CompileException;
+import org.codehaus.janino.ClassBodyEvaluator;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles expression trees into generated classes extending {@link
+ * CompiledExpression}. The generated code calls the operands directly
+ * instead of going through the megamorphic {@link Expression#eval} calls of
+ * the interpreter, and it doesn't box the intermediate boolean results.
+ * <p>
+ * The generated classes are cached by their source code, which doesn't
+ * contain the values of the constants, so that the repeated executions of a
+ * query, and the queries differing only in the literals, pay just for the
+ * instantiation. Once the cache is full, the newly seen expressions are not
+ * compiled and the caller falls back to the interpreter.
+ */
+public final class ExpressionCompiler {
+
+    private static final String CLASS_NAME = "com.hazelcast.sql.impl.expression.compile.generated.GeneratedExpression";
+
+    private static final ILogger LOGGER = Logger.getLogger(ExpressionCompiler.class);
+
+    private final int capacity;
+    private final ConcurrentHashMap<String, Template> templates = new ConcurrentHashMap<>();
+
+    public ExpressionCompiler(int capacity) {
+        Preconditions.checkPositive("capacity", capacity);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Compiles the given expression.
+     *
+     * @return the compiled expression or {@code null} if the expression
+     * should be evaluated by the interpreter: it wouldn't benefit from the
+     * compilation, it failed to compile or the cache is full.
+     */
+    @Nullable
+    public CompiledExpression compile(@Nonnull Expression<?> expression) {
+        ExpressionCodeGenerator generator = new ExpressionCodeGenerator();
+        String source = generator.generate(expression);
+        if (source == null) {
+            return null;
+        }
+
+        Template template = templates.get(source);
+        if (template == null) {
+            if (templates.size() >= capacity) {
+                return null;
+            }
+            template = templates.computeIfAbsent(source, ExpressionCompiler::cook);
+        }
+        return template.instantiate(generator.references());
+    }
+
+    /**
+     * Drops all the generated classes.
+     */
+    public void clear() {
+        templates.clear();
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    private static Template cook(String source) {
+        try {
+            ClassBodyEvaluator evaluator = new ClassBodyEvaluator();
+            evaluator.setClassName(CLASS_NAME);
+            evaluator.setExtendedClass(CompiledExpression.class);
+            evaluator.setParentClassLoader(CompiledExpression.class.getClassLoader());
+            evaluator.cook(source);
+            return new Template(evaluator.getClazz().asSubclass(CompiledExpression.class));
+        } catch (CompileException | RuntimeException e) {
+            LOGGER.warning("Failed to compile an expression, it will be interpreted. Generated code:\n" + source, e);
+            return new Template(null);
+        }
+    }
+
+    /**
+     * A generated class or {@code null} if the compilation failed. Failures
+     * are cached too, to not repeat them.
+     */
+    private static final class Template {
+
+        private final Class<? extends CompiledExpression> clazz;
+
+        private Template(Class<? extends CompiledExpression> clazz) {
+            this.clazz = clazz;
+        }
+
+        CompiledExpression instantiate(Object[] references) {
+            if (clazz == null) {
+                return null;
+            }
+
+            CompiledExpression instance;
+            try {
+                instance = clazz.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to instantiate " + clazz, e);
+            }
+            instance.bind(references);
+            return instance;
+        }
+    }
+}
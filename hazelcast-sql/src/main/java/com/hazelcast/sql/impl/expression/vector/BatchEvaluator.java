@@ -0,0 +1,291 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.vector;
+
+import com.hazelcast.sql.impl.expression.BiExpression;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.ParameterExpression;
+import com.hazelcast.sql.impl.expression.compile.CompiledExpression;
+import com.hazelcast.sql.impl.expression.compile.ExpressionCompiler;
+import com.hazelcast.sql.impl.expression.math.MinusFunction;
+import com.hazelcast.sql.impl.expression.math.MultiplyFunction;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.expression.vector.VectorValue.Arithmetic;
+import com.hazelcast.sql.impl.expression.vector.VectorValue.Arithmetic.Operator;
+import com.hazelcast.sql.impl.expression.vector.VectorValue.Column;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates a filter predicate and a list of projections over batches of
+ * rows.
+ * <p>
+ * Comparisons, null checks and plus/minus/multiply arithmetic over numeric
+ * columns, constants and parameters are evaluated column-at-a-time on
+ * primitive vectors, narrowing a selection vector of the surviving rows;
+ * AND, OR and NOT combine the selections. Any other expression is evaluated
+ * row-wise, but only on the rows which are still selected, using its
+ * compiled form if an {@link ExpressionCompiler} is given. Output rows are
+ * materialized only for the rows passing the filter.
+ * <p>
+ * The results are the same as produced by the row-wise evaluation done by
+ * {@code ExpressionUtil#projection}. Instances are not thread-safe, every
+ * processor must use its own instance.
+ */
+public final class BatchEvaluator {
+
+    /**
+     * The maximum number of rows in a single batch.
+     */
+    public static final int MAX_BATCH_SIZE = 256;
+
+    private final VectorPredicate predicate;
+    private final Expression<?>[] projections;
+    private final Arithmetic[] vectorProjections;
+    private final CompiledExpression[] compiledProjections;
+    private final Column[] columns;
+
+    private final int[] selection = new int[MAX_BATCH_SIZE];
+    private final boolean[] vectorized;
+
+    private BatchEvaluator(VectorPredicate predicate, Expression<?>[] projections, Arithmetic[] vectorProjections,
+                           CompiledExpression[] compiledProjections, Column[] columns) {
+        this.predicate = predicate;
+        this.projections = projections;
+        this.vectorProjections = vectorProjections;
+        this.compiledProjections = compiledProjections;
+        this.columns = columns;
+        this.vectorized = new boolean[projections.length];
+    }
+
+    /**
+     * Creates a new batch evaluator.
+     *
+     * @param predicate   the filter or {@code null} if all the rows pass.
+     * @param projections the projections to produce the output rows.
+     */
+    public static BatchEvaluator create(@Nullable Expression<Boolean> predicate, @Nonnull List<Expression<?>> projections) {
+        return create(predicate, projections, null);
+    }
+
+    /**
+     * Creates a new batch evaluator, compiling the expressions evaluated
+     * row-wise with the given compiler.
+     *
+     * @param predicate          the filter or {@code null} if all the rows pass.
+     * @param projections        the projections to produce the output rows.
+     * @param expressionCompiler the compiler or {@code null} to interpret the
+     *                           expressions evaluated row-wise.
+     */
+    public static BatchEvaluator create(
+            @Nullable Expression<Boolean> predicate,
+            @Nonnull List<Expression<?>> projections,
+            @Nullable ExpressionCompiler expressionCompiler
+    ) {
+        Compiler compiler = new Compiler(expressionCompiler);
+
+        VectorPredicate vectorPredicate = predicate == null ? null : compiler.compilePredicate(predicate);
+        Expression<?>[] projectionArray = projections.toArray(new Expression<?>[0]);
+        Arithmetic[] vectorProjections = new Arithmetic[projectionArray.length];
+        CompiledExpression[] compiledProjections = new CompiledExpression[projectionArray.length];
+        for (int i = 0; i < projectionArray.length; ++i) {
+            // plain columns and constants are cheaper to evaluate directly
+            VectorValue value = compiler.compileValue(projectionArray[i]);
+            vectorProjections[i] = value instanceof Arithmetic ? (Arithmetic) value : null;
+            if (vectorProjections[i] == null && expressionCompiler != null) {
+                compiledProjections[i] = expressionCompiler.compile(projectionArray[i]);
+            }
+        }
+
+        return new BatchEvaluator(vectorPredicate, projectionArray, vectorProjections, compiledProjections,
+                compiler.columns.values().toArray(new Column[0]));
+    }
+
+    /**
+     * Evaluates the filter and the projections over the given rows.
+     *
+     * @param rows    the rows of the batch.
+     * @param size    the number of rows in the batch, at most {@link
+     *                #MAX_BATCH_SIZE}.
+     * @param output  the array to store the output rows to, in the order of
+     *                the input rows.
+     * @param context the evaluation context.
+     * @return the number of the output rows.
+     */
+    public int evaluate(Row[] rows, int size, JetSqlRow[] output, ExpressionEvalContext context) {
+        assert size <= MAX_BATCH_SIZE;
+
+        for (Column column : columns) {
+            column.startBatch();
+        }
+
+        for (int i = 0; i < size; ++i) {
+            selection[i] = i;
+        }
+        int selected = predicate == null ? size : predicate.select(rows, selection, size, context, true);
+        if (selected == 0) {
+            return 0;
+        }
+
+        for (int i = 0; i < projections.length; ++i) {
+            Arithmetic vectorProjection = vectorProjections[i];
+            vectorized[i] = vectorProjection != null && vectorProjection.eval(rows, selection, selected, context);
+        }
+
+        for (int i = 0; i < selected; ++i) {
+            int position = selection[i];
+            Object[] values = new Object[projections.length];
+            for (int j = 0; j < projections.length; ++j) {
+                values[j] = project(j, rows[position], position, context);
+            }
+            output[i] = new JetSqlRow(context.getSerializationService(), values);
+        }
+        return selected;
+    }
+
+    private Object project(int index, Row row, int position, ExpressionEvalContext context) {
+        if (vectorized[index]) {
+            return vectorProjections[index].box(position);
+        }
+        CompiledExpression compiled = compiledProjections[index];
+        return compiled != null ? compiled.eval(row, context) : projections[index].evalTop(row, context);
+    }
+
+    /**
+     * Translates expressions into vector nodes, falling back to the row-wise
+     * evaluation for unsupported expressions.
+     */
+    private static final class Compiler {
+
+        private final Map<Integer, Column> columns = new HashMap<>();
+        private final ExpressionCompiler expressionCompiler;
+
+        Compiler(ExpressionCompiler expressionCompiler) {
+            this.expressionCompiler = expressionCompiler;
+        }
+
+        @SuppressWarnings("checkstyle:cyclomaticcomplexity")
+        VectorPredicate compilePredicate(Expression<?> expression) {
+            if (expression instanceof AndPredicate andPredicate) {
+                return new VectorPredicate.And(compilePredicates(andPredicate.operands()));
+            }
+
+            if (expression instanceof OrPredicate orPredicate) {
+                return new VectorPredicate.Or(compilePredicates(orPredicate.operands()));
+            }
+
+            if (expression instanceof NotPredicate notPredicate) {
+                return new VectorPredicate.Not(compilePredicate(notPredicate.getOperand()));
+            }
+
+            if (expression instanceof IsNullPredicate || expression instanceof IsNotNullPredicate) {
+                Expression<?> operand = expression instanceof IsNullPredicate isNullPredicate
+                        ? isNullPredicate.getOperand() : ((IsNotNullPredicate) expression).getOperand();
+                VectorValue value = compileValue(operand);
+                if (value != null) {
+                    // the row-wise fallbacks of vector nodes are rarely used, they are not worth compiling
+                    return new VectorPredicate.IsNull(value, expression instanceof IsNotNullPredicate,
+                            new VectorPredicate.RowWise(expression, null));
+                }
+            }
+
+            if (expression instanceof ComparisonPredicate comparison) {
+                VectorValue left = compileValue(comparison.getOperand1());
+                VectorValue right = compileValue(comparison.getOperand2());
+                if (left != null && right != null && left.floating == right.floating) {
+                    return new VectorPredicate.Comparison(left, right, comparison.getMode(),
+                            new VectorPredicate.RowWise(expression, null));
+                }
+            }
+
+            return rowWise(expression);
+        }
+
+        @SuppressWarnings("checkstyle:cyclomaticcomplexity")
+        VectorValue compileValue(Expression<?> expression) {
+            QueryDataTypeFamily family = expression.getType().getTypeFamily();
+            if (!VectorValue.isSupported(family)) {
+                return null;
+            }
+            boolean floating = VectorValue.isFloating(family);
+
+            if (expression instanceof ColumnExpression<?> column) {
+                return columns.computeIfAbsent(column.getIndex(), index -> new Column(index, floating));
+            }
+
+            if (expression instanceof ConstantExpression || expression instanceof ParameterExpression) {
+                return new VectorValue.Scalar(expression, floating);
+            }
+
+            Operator operator = operator(expression);
+            if (operator == null || family == QueryDataTypeFamily.REAL) {
+                return null;
+            }
+
+            BiExpression<?> arithmetic = (BiExpression<?>) expression;
+            VectorValue left = compileValue(arithmetic.getOperand1());
+            VectorValue right = compileValue(arithmetic.getOperand2());
+            if (left == null || right == null || !floating && (left.floating || right.floating)) {
+                return null;
+            }
+            return new Arithmetic(expression, operator, left, right);
+        }
+
+        private VectorPredicate.RowWise rowWise(Expression<?> expression) {
+            CompiledExpression compiled = expressionCompiler != null ? expressionCompiler.compile(expression) : null;
+            return new VectorPredicate.RowWise(expression, compiled);
+        }
+
+        private VectorPredicate[] compilePredicates(Expression<?>[] expressions) {
+            VectorPredicate[] predicates = new VectorPredicate[expressions.length];
+            for (int i = 0; i < expressions.length; ++i) {
+                predicates[i] = compilePredicate(expressions[i]);
+            }
+            return predicates;
+        }
+
+        private static Operator operator(Expression<?> expression) {
+            if (expression instanceof PlusFunction) {
+                return Operator.PLUS;
+            } else if (expression instanceof MinusFunction) {
+                return Operator.MINUS;
+            } else if (expression instanceof MultiplyFunction) {
+                return Operator.MULTIPLY;
+            } else {
+                return null;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.vector;
+
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.compile.CompiledExpression;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.row.Row;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Boolean expression evaluated over a batch of rows by narrowing a selection
+ * vector.
+ * <p>
+ * SQL predicates are ternary, a row may evaluate to {@code TRUE}, {@code
+ * FALSE} or {@code UNKNOWN}. To support negations without materializing the
+ * unknowns, every node is able to select either the rows evaluating to
+ * {@code TRUE} or the rows evaluating to {@code FALSE}.
+ * <p>
+ * Operands of AND and OR are evaluated only on the rows which are still
+ * undecided, which mirrors the short-circuiting of the row-wise evaluation.
+ */
+abstract class VectorPredicate {
+
+    /**
+     * Narrows the given selection to the rows on which this predicate
+     * evaluates to the given value.
+     *
+     * @param rows      the rows of the batch.
+     * @param selection the ascending positions of the rows to evaluate on,
+     *                  overwritten by the positions of the selected rows.
+     * @param size      the number of positions in the selection.
+     * @param context   the evaluation context.
+     * @param wanted    {@code true} to select the rows evaluating to {@code
+     *                  TRUE}, {@code false} to select the rows evaluating to
+     *                  {@code FALSE}.
+     * @return the number of the selected rows.
+     */
+    abstract int select(Row[] rows, int[] selection, int size, ExpressionEvalContext context, boolean wanted);
+
+    /**
+     * Selects the rows on which all of the given predicates evaluate to the
+     * given value.
+     */
+    static int selectAll(VectorPredicate[] predicates, Row[] rows, int[] selection, int size,
+                         ExpressionEvalContext context, boolean wanted) {
+        for (VectorPredicate predicate : predicates) {
+            if (size == 0) {
+                break;
+            }
+            size = predicate.select(rows, selection, size, context, wanted);
+        }
+        return size;
+    }
+
+    /**
+     * Selects the rows on which any of the given predicates evaluates to the
+     * given value.
+     */
+    static int selectAny(VectorPredicate[] predicates, Row[] rows, int[] selection, int size,
+                         ExpressionEvalContext context, boolean wanted) {
+        int[] remaining = Arrays.copyOf(selection, size);
+        int remainingSize = size;
+        int[] candidates = new int[size];
+        int[] merged = new int[size];
+
+        int selectedSize = 0;
+        for (VectorPredicate predicate : predicates) {
+            if (remainingSize == 0) {
+                break;
+            }
+            System.arraycopy(remaining, 0, candidates, 0, remainingSize);
+            int matched = predicate.select(rows, candidates, remainingSize, context, wanted);
+            remainingSize = subtract(remaining, remainingSize, candidates, matched);
+            selectedSize = merge(selection, selectedSize, candidates, matched, merged);
+        }
+        return selectedSize;
+    }
+
+    /**
+     * Removes the given ascending positions from the given ascending
+     * selection in place.
+     */
+    private static int subtract(int[] selection, int size, int[] removed, int removedSize) {
+        int count = 0;
+        int j = 0;
+        for (int i = 0; i < size; ++i) {
+            int position = selection[i];
+            while (j < removedSize && removed[j] < position) {
+                ++j;
+            }
+            if (j < removedSize && removed[j] == position) {
+                continue;
+            }
+            selection[count++] = position;
+        }
+        return count;
+    }
+
+    /**
+     * Merges the given ascending positions into the given ascending selection
+     * using the given scratch array.
+     */
+    private static int merge(int[] selection, int size, int[] added, int addedSize, int[] scratch) {
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < size && j < addedSize) {
+            scratch[count++] = selection[i] < added[j] ? selection[i++] : added[j++];
+        }
+        while (i < size) {
+            scratch[count++] = selection[i++];
+        }
+        while (j < addedSize) {
+            scratch[count++] = added[j++];
+        }
+        System.arraycopy(scratch, 0, selection, 0, count);
+        return count;
+    }
+
+    static final class And extends VectorPredicate {
+
+        private final VectorPredicate[] operands;
+
+        And(VectorPredicate[] operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        int select(Row[] rows, int[] selection, int size, ExpressionEvalContext context, boolean wanted) {
+            return wanted ? selectAll(operands, rows, selection, size, context, true)
+                    : selectAny(operands, rows, selection, size, context, false);
+        }
+
+    }
+
+    static final class Or extends VectorPredicate {
+
+        private final VectorPredicate[] operands;
+
+        Or(VectorPredicate[] operands) {
+            this.operands = operands;
+        }
+
+        @Override
+        int select(Row[] rows, int[] selection, int size, ExpressionEvalContext context, boolean wanted) {
+            return wanted ? selectAny(operands, rows, selection, size, context, true)
+                    : selectAll(operands, rows, selection, size, context, false);
+        }
+
+    }
+
+    static final class Not extends VectorPredicate {
+
+        private final VectorPredicate operand;
+
+        Not(VectorPredicate operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        int select(Row[] rows, int[] selection, int size, ExpressionEvalContext context, boolean wanted) {
+            return operand.select(rows, selection, size, context, !wanted);
+        }
+
+    }
+
+    /**
+     * IS NULL and IS NOT NULL, never evaluate to {@code UNKNOWN}.
+     */
+    static final class IsNull extends VectorPredicate {
+
+        private final VectorValue operand;
+        private final boolean negated;
+        private final RowWise fallback;
+
+        IsNull(VectorValue operand, boolean negated, RowWise fallback) {
+            this.operand = operand;
+            this.negated = negated;
+            this.fallback = fallback;
+        }
+
+        @Override
+        int select(Row[] rows, int[] selection, int size, ExpressionEvalContext context, boolean wanted) {
+            if (!operand.eval(rows, selection, size, context)) {
+                return fallback.select(rows, selection, size, context, wanted);
+            }
+
+            boolean wantedNull = wanted != negated;
+            int count = 0;
+            for (int i = 0; i < size; ++i) {
+                int position = selection[i];
+                if (operand.nulls[position] == wantedNull) {
+                    selection[count++] = position;
+                }
+            }
+            return count;
+        }
+
+    }
+
+    static final class Comparison extends VectorPredicate {
+
+        private final VectorValue left;
+        private final VectorValue right;
+        private final ComparisonMode mode;
+        private final RowWise fallback;
+
+        Comparison(VectorValue left, VectorValue right, ComparisonMode mode, RowWise fallback) {
+            assert left.floating == right.floating;
+            this.left = left;
+            this.right = right;
+            this.mode = mode;
+            this.fallback = fallback;
+        }
+
+        @Override
+        int select(Row[] rows, int[] selection, int size, ExpressionEvalContext context, boolean wanted) {
+            if (!left.eval(rows, selection, size, context) || !right.eval(rows, selection, size, context)) {
+                return fallback.select(rows, selection, size, context, wanted);
+            }
+
+            boolean floating = left.floating;
+            int count = 0;
+            for (int i = 0; i < size; ++i) {
+                int position = selection[i];
+                if (left.nulls[position] || right.nulls[position]) {
+                    // UNKNOWN is neither TRUE nor FALSE
+                    continue;
+                }
+
+                int order = floating ? Double.compare(left.doubles[position], right.doubles[position])
+                        : Long.compare(left.longs[position], right.longs[position]);
+                if (matches(order) == wanted) {
+                    selection[count++] = position;
+                }
+            }
+            return count;
+        }
+
+        private boolean matches(int order) {
+            switch (mode) {
+                case EQUALS:
+                    return order == 0;
+                case NOT_EQUALS:
+                    return order != 0;
+                case GREATER_THAN:
+                    return order > 0;
+                case GREATER_THAN_OR_EQUAL:
+                    return order >= 0;
+                case LESS_THAN:
+                    return order < 0;
+                case LESS_THAN_OR_EQUAL:
+                    return order <= 0;
+                default:
+                    throw new IllegalStateException("unexpected comparison mode: " + mode);
+            }
+        }
+
+    }
+
+    /**
+     * Evaluates an arbitrary boolean expression row by row, using its
+     * compiled form if available.
+     */
+    static final class RowWise extends VectorPredicate {
+
+        private final Expression<?> expression;
+        private final CompiledExpression compiled;
+
+        RowWise(Expression<?> expression, @Nullable CompiledExpression compiled) {
+            this.expression = expression;
+            this.compiled = compiled;
+        }
+
+        @Override
+        int select(Row[] rows, int[] selection, int size, ExpressionEvalContext context, boolean wanted) {
+            Boolean wantedValue = wanted;
+            int count = 0;
+            for (int i = 0; i < size; ++i) {
+                int position = selection[i];
+                Object value = compiled != null ? compiled.eval(rows[position], context)
+                        : expression.eval(rows[position], context);
+                if (wantedValue.equals(value)) {
+                    selection[count++] = position;
+                }
+            }
+            return count;
+        }
+
+    }
+
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.vector;
+
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.EmptyRow;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+
+import java.util.Arrays;
+
+/**
+ * Numeric value evaluated over a batch of rows into primitive vectors.
+ * <p>
+ * Integer families are carried in the {@link #longs} lane, approximate
+ * families in the {@link #doubles} lane. Vectors are indexed by the row
+ * position in the batch, only positions present in the selection passed to
+ * {@link #eval} are valid after the call.
+ */
+abstract class VectorValue {
+
+    final boolean floating;
+    final long[] longs;
+    final double[] doubles;
+    final boolean[] nulls;
+
+    VectorValue(boolean floating) {
+        this.floating = floating;
+        this.longs = floating ? null : new long[BatchEvaluator.MAX_BATCH_SIZE];
+        this.doubles = floating ? new double[BatchEvaluator.MAX_BATCH_SIZE] : null;
+        this.nulls = new boolean[BatchEvaluator.MAX_BATCH_SIZE];
+    }
+
+    /**
+     * Evaluates this value for the selected rows.
+     *
+     * @return {@code true} if the vectors were filled, {@code false} if the
+     * batch contains values which can't be represented in the primitive
+     * lane of this value and the caller must fall back to the row-wise
+     * evaluation.
+     */
+    abstract boolean eval(Row[] rows, int[] selection, int size, ExpressionEvalContext context);
+
+    final double doubleAt(int position) {
+        return floating ? doubles[position] : longs[position];
+    }
+
+    /**
+     * @return {@code true} if values of the given type family can be
+     * represented in a primitive lane, {@code false} otherwise.
+     */
+    static boolean isSupported(QueryDataTypeFamily family) {
+        return isIntegral(family) || isFloating(family);
+    }
+
+    static boolean isIntegral(QueryDataTypeFamily family) {
+        switch (family) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    static boolean isFloating(QueryDataTypeFamily family) {
+        return family == QueryDataTypeFamily.REAL || family == QueryDataTypeFamily.DOUBLE;
+    }
+
+    /**
+     * Stores the given value at the given position.
+     *
+     * @return {@code false} if the value doesn't belong to the lane of this
+     * vector, {@code true} otherwise.
+     */
+    final boolean store(int position, Object value) {
+        if (value == null) {
+            nulls[position] = true;
+            return true;
+        }
+        nulls[position] = false;
+
+        if (floating) {
+            if (value instanceof Double || value instanceof Float) {
+                doubles[position] = ((Number) value).doubleValue();
+                return true;
+            }
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            longs[position] = ((Number) value).longValue();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Column access, loads the column from the rows at most once per batch.
+     */
+    static final class Column extends VectorValue {
+
+        private final int index;
+        private final int[] epochs = new int[BatchEvaluator.MAX_BATCH_SIZE];
+        private int epoch;
+        private boolean regular;
+
+        Column(int index, boolean floating) {
+            super(floating);
+            this.index = index;
+        }
+
+        /**
+         * Invalidates the values loaded for the previous batch.
+         */
+        void startBatch() {
+            if (epoch == Integer.MAX_VALUE) {
+                Arrays.fill(epochs, 0);
+                epoch = 0;
+            }
+            ++epoch;
+            regular = true;
+        }
+
+        @Override
+        boolean eval(Row[] rows, int[] selection, int size, ExpressionEvalContext context) {
+            for (int i = 0; i < size; ++i) {
+                int position = selection[i];
+                if (epochs[position] == epoch) {
+                    continue;
+                }
+                epochs[position] = epoch;
+
+                if (!store(position, rows[position].get(index, false))) {
+                    regular = false;
+                }
+            }
+            return regular;
+        }
+
+    }
+
+    /**
+     * Value which doesn't depend on the row: a constant or a parameter.
+     */
+    static final class Scalar extends VectorValue {
+
+        private final Expression<?> expression;
+
+        Scalar(Expression<?> expression, boolean floating) {
+            super(floating);
+            this.expression = expression;
+        }
+
+        @Override
+        boolean eval(Row[] rows, int[] selection, int size, ExpressionEvalContext context) {
+            Object value = expression.eval(EmptyRow.INSTANCE, context);
+            for (int i = 0; i < size; ++i) {
+                if (!store(selection[i], value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * Plus, minus and multiply over integer families or {@code DOUBLE}.
+     */
+    static final class Arithmetic extends VectorValue {
+
+        enum Operator {
+            PLUS,
+            MINUS,
+            MULTIPLY
+        }
+
+        private final Expression<?> expression;
+        private final Operator operator;
+        private final QueryDataTypeFamily family;
+        private final VectorValue left;
+        private final VectorValue right;
+
+        Arithmetic(Expression<?> expression, Operator operator, VectorValue left, VectorValue right) {
+            super(!isIntegral(expression.getType().getTypeFamily()));
+            this.expression = expression;
+            this.operator = operator;
+            this.family = expression.getType().getTypeFamily();
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        boolean eval(Row[] rows, int[] selection, int size, ExpressionEvalContext context) {
+            if (!left.eval(rows, selection, size, context) || !right.eval(rows, selection, size, context)) {
+                return false;
+            }
+
+            for (int i = 0; i < size; ++i) {
+                int position = selection[i];
+                if (left.nulls[position] || right.nulls[position]) {
+                    nulls[position] = true;
+                    continue;
+                }
+                nulls[position] = false;
+
+                if (floating) {
+                    doubles[position] = apply(left.doubleAt(position), right.doubleAt(position));
+                } else {
+                    longs[position] = apply(rows[position], position, context);
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Boxes the value at the given position into the class the row-wise
+         * evaluation of the expression would produce.
+         */
+        Object box(int position) {
+            if (nulls[position]) {
+                return null;
+            }
+
+            switch (family) {
+                case TINYINT:
+                    return (byte) longs[position];
+                case SMALLINT:
+                    return (short) longs[position];
+                case INTEGER:
+                    return (int) longs[position];
+                case BIGINT:
+                    return longs[position];
+                default:
+                    return doubles[position];
+            }
+        }
+
+        private double apply(double lhs, double rhs) {
+            switch (operator) {
+                case PLUS:
+                    return lhs + rhs;
+                case MINUS:
+                    return lhs - rhs;
+                default:
+                    return lhs * rhs;
+            }
+        }
+
+        private long apply(Row row, int position, ExpressionEvalContext context) {
+            long lhs = left.longs[position];
+            long rhs = right.longs[position];
+
+            try {
+                switch (family) {
+                    case TINYINT:
+                        return (byte) applyWrapping(lhs, rhs);
+                    case SMALLINT:
+                        return (short) applyWrapping(lhs, rhs);
+                    case INTEGER:
+                        return (int) applyWrapping(lhs, rhs);
+                    default:
+                        return applyExact(lhs, rhs);
+                }
+            } catch (ArithmeticException e) {
+                // let the expression itself report the overflow
+                return ((Number) expression.eval(row, context)).longValue();
+            }
+        }
+
+        private long applyWrapping(long lhs, long rhs) {
+            switch (operator) {
+                case PLUS:
+                    return lhs + rhs;
+                case MINUS:
+                    return lhs - rhs;
+                default:
+                    return lhs * rhs;
+            }
+        }
+
+        private long applyExact(long lhs, long rhs) {
+            switch (operator) {
+                case PLUS:
+                    return Math.addExact(lhs, rhs);
+                case MINUS:
+                    return Math.subtractExact(lhs, rhs);
+                default:
+                    return Math.multiplyExact(lhs, rhs);
+            }
+        }
+
+    }
+
+}
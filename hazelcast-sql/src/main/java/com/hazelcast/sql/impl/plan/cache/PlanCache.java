@@ -16,6 +16,7 @@
 
 package com.hazelcast.sql.impl.plan.cache;
 
+import com.hazelcast.sql.impl.expression.compile.ExpressionCompiler;
 import com.hazelcast.sql.impl.optimizer.PlanCheckContext;
 import com.hazelcast.sql.impl.optimizer.PlanKey;
 import com.hazelcast.sql.impl.optimizer.SqlPlan;
@@ -24,17 +25,20 @@ import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Cache for plans.
+ * Cache for plans. Also holds the classes generated for the expressions of
+ * the plans, see {@link ExpressionCompiler}.
  */
 public class PlanCache implements CachedPlanInvalidationCallback {
 
     private final int maxSize;
     private final ConcurrentHashMap<PlanKey, SqlPlan> plans = new ConcurrentHashMap<>();
+    private final ExpressionCompiler expressionCompiler;
 
     public PlanCache(int maxSize) {
         assert maxSize > 0;
 
         this.maxSize = maxSize;
+        this.expressionCompiler = new ExpressionCompiler(maxSize);
     }
 
     public SqlPlan get(PlanKey key) {
@@ -64,6 +68,11 @@ public class PlanCache implements CachedPlanInvalidationCallback {
 
     public void clear() {
         plans.clear();
+        expressionCompiler.clear();
+    }
+
+    public ExpressionCompiler getExpressionCompiler() {
+        return expressionCompiler;
     }
 
     public int size() {
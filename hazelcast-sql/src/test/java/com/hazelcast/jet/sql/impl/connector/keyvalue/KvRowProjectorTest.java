@@ -31,6 +31,7 @@ import com.hazelcast.sql.impl.extract.GenericQueryTargetDescriptor;
 import com.hazelcast.sql.impl.extract.QueryExtractor;
 import com.hazelcast.sql.impl.extract.QueryPath;
 import com.hazelcast.sql.impl.extract.QueryTarget;
+import com.hazelcast.sql.impl.row.HeapRow;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import com.hazelcast.test.HazelcastParallelClassRunner;
@@ -94,6 +95,30 @@ public class KvRowProjectorTest {
         assertThat(row).isEqualTo(jetRow(2, 4));
     }
 
+    @Test
+    public void test_copyRow() {
+        InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+
+        KvRowProjector projector = new KvRowProjector(
+                new QueryPath[]{QueryPath.KEY_PATH, QueryPath.VALUE_PATH},
+                new QueryDataType[]{INT, INT},
+                new GenericQueryTarget(serializationService, null, true),
+                new GenericQueryTarget(serializationService, null, false),
+                null,
+                emptyList(),
+                SqlTestSupport.createExpressionEvalContext()
+        );
+
+        HeapRow first = projector.copyRow(serializationService.toData(1), serializationService.toData(8),
+                new HeapRow(projector.getFieldCount()));
+        HeapRow second = projector.copyRow(serializationService.toData(2), serializationService.toData(9),
+                new HeapRow(projector.getFieldCount()));
+
+        // the copied rows don't change when the projector moves to the next entry
+        assertThat(first).isEqualTo(HeapRow.of(1, 8));
+        assertThat(second).isEqualTo(HeapRow.of(2, 9));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void when_filteredByPredicate_then_returnsNull() {
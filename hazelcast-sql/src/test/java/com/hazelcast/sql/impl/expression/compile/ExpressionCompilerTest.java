@@ -0,0 +1,191 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.compile;
+
+import com.hazelcast.sql.impl.expression.CaseExpression;
+import com.hazelcast.sql.impl.expression.CastExpression;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.FunctionalPredicateExpression;
+import com.hazelcast.sql.impl.expression.ParameterExpression;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsFalsePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotFalsePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.hazelcast.jet.core.JetTestSupport.TEST_SS;
+import static com.hazelcast.jet.sql.SqlTestSupport.createExpressionEvalContext;
+import static com.hazelcast.sql.impl.type.QueryDataType.BIGINT;
+import static com.hazelcast.sql.impl.type.QueryDataType.BOOLEAN;
+import static com.hazelcast.sql.impl.type.QueryDataType.DOUBLE;
+import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static com.hazelcast.sql.impl.type.QueryDataType.VARCHAR;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ExpressionCompilerTest {
+
+    private static final int ROW_COUNT = 500;
+
+    private static final Expression<?> A = ColumnExpression.create(0, INT);
+    private static final Expression<?> B = ColumnExpression.create(1, BIGINT);
+    private static final Expression<?> C = ColumnExpression.create(2, DOUBLE);
+    private static final Expression<?> S = ColumnExpression.create(3, VARCHAR);
+    private static final Expression<?> F = ColumnExpression.create(4, BOOLEAN);
+
+    private static final Expression<Boolean> A_LESS = compare(A, ConstantExpression.create(50, INT), ComparisonMode.LESS_THAN);
+    private static final Expression<Boolean> C_GREATER =
+            compare(C, ConstantExpression.create(0.5, DOUBLE), ComparisonMode.GREATER_THAN);
+
+    private final ExpressionEvalContext context = createExpressionEvalContext(100L);
+    private final List<Row> rows = rows();
+
+    @Test
+    public void when_comparisons_then_sameAsInterpreted() {
+        for (ComparisonMode mode : ComparisonMode.values()) {
+            check(compare(A, ConstantExpression.create(10, INT), mode));
+            check(compare(B, ParameterExpression.create(0, BIGINT), mode));
+            check(compare(C, ConstantExpression.create(0.5, DOUBLE), mode));
+            check(compare(S, ConstantExpression.create("x2", VARCHAR), mode));
+            check(compare(F, ConstantExpression.create(true, BOOLEAN), mode));
+        }
+    }
+
+    @Test
+    public void when_ternaryLogic_then_sameAsInterpreted() {
+        check(AndPredicate.create(A_LESS, C_GREATER, F));
+        check(OrPredicate.create(A_LESS, C_GREATER, F));
+        check(NotPredicate.create(AndPredicate.create(A_LESS, F)));
+        check(NotPredicate.create(OrPredicate.create(A_LESS, NotPredicate.create(F))));
+        check(AndPredicate.create(IsNullPredicate.create(B), NotPredicate.create(A_LESS)));
+        check(OrPredicate.create(IsNotNullPredicate.create(S), C_GREATER));
+        check(IsTruePredicate.create(F));
+        check(IsNotTruePredicate.create(A_LESS));
+        check(IsFalsePredicate.create(OrPredicate.create(A_LESS, F)));
+        check(IsNotFalsePredicate.create(F));
+    }
+
+    @Test
+    public void when_caseAndCast_then_sameAsInterpreted() {
+        check(CaseExpression.create(new Expression<?>[]{
+                A_LESS, CastExpression.create(A, VARCHAR),
+                C_GREATER, CastExpression.create(C, VARCHAR),
+                S
+        }));
+        check(CaseExpression.coalesce(B, CastExpression.create(A, BIGINT), ConstantExpression.create(-1L, BIGINT)));
+        check(CaseExpression.nullif(A, ConstantExpression.create(10, INT)));
+        check(compare(CastExpression.create(B, DOUBLE), C, ComparisonMode.GREATER_THAN));
+    }
+
+    @Test
+    public void when_unsupportedOperand_then_interpreted() {
+        Expression<Boolean> startsWithX = new FunctionalPredicateExpression(row -> {
+            String value = row.get(3);
+            return value == null ? null : value.startsWith("x");
+        });
+        Expression<?> sum = PlusFunction.create(B, ConstantExpression.create(1L, BIGINT), BIGINT);
+
+        check(AndPredicate.create(A_LESS, startsWithX));
+        check(compare(sum, ConstantExpression.create(50L, BIGINT), ComparisonMode.GREATER_THAN_OR_EQUAL));
+    }
+
+    @Test
+    public void when_leafOrUnsupportedTop_then_notCompiled() {
+        ExpressionCompiler compiler = new ExpressionCompiler(10);
+
+        assertThat(compiler.compile(A)).isNull();
+        assertThat(compiler.compile(ConstantExpression.create(1, INT))).isNull();
+        assertThat(compiler.compile(PlusFunction.create(A, A, INT))).isNull();
+        assertThat(compiler.size()).isZero();
+    }
+
+    @Test
+    public void when_sameShape_then_classShared() {
+        ExpressionCompiler compiler = new ExpressionCompiler(10);
+
+        CompiledExpression less10 = compiler.compile(compare(A, ConstantExpression.create(10, INT), ComparisonMode.LESS_THAN));
+        CompiledExpression less90 = compiler.compile(compare(A, ConstantExpression.create(90, INT), ComparisonMode.LESS_THAN));
+
+        assertThat(compiler.size()).isEqualTo(1);
+        assertThat(less10.getClass()).isSameAs(less90.getClass());
+        Row row = new JetSqlRow(TEST_SS, new Object[]{50}).getRow();
+        assertThat(less10.eval(row, context)).isEqualTo(false);
+        assertThat(less90.eval(row, context)).isEqualTo(true);
+    }
+
+    @Test
+    public void when_cacheFull_then_notCompiled() {
+        ExpressionCompiler compiler = new ExpressionCompiler(1);
+
+        assertThat(compiler.compile(A_LESS)).isNotNull();
+        assertThat(compiler.compile(C_GREATER)).isNull();
+        assertThat(compiler.compile(compare(A, ConstantExpression.create(10, INT), ComparisonMode.LESS_THAN))).isNotNull();
+
+        compiler.clear();
+        assertThat(compiler.compile(C_GREATER)).isNotNull();
+    }
+
+    private void check(Expression<?> expression) {
+        CompiledExpression compiled = new ExpressionCompiler(10).compile(expression);
+        assertThat(compiled).as("compiled %s", expression).isNotNull();
+
+        for (Row row : rows) {
+            assertThat(compiled.eval(row, context)).as("%s", expression).isEqualTo(expression.eval(row, context));
+        }
+    }
+
+    private static List<Row> rows() {
+        Random random = new Random(42);
+        List<Row> rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; ++i) {
+            Object a = random.nextInt(10) == 0 ? null : random.nextInt(100);
+            Object b = random.nextInt(10) == 0 ? null : (long) random.nextInt(200) - 50;
+            Object c = random.nextInt(10) == 0 ? null : random.nextDouble();
+            Object s = random.nextInt(10) == 0 ? null : (random.nextBoolean() ? "x" : "y") + random.nextInt(5);
+            Object f = random.nextInt(10) == 0 ? null : random.nextBoolean();
+            rows.add(new JetSqlRow(TEST_SS, new Object[]{a, b, c, s, f}).getRow());
+        }
+        return rows;
+    }
+
+    private static Expression<Boolean> compare(Expression<?> left, Expression<?> right, ComparisonMode mode) {
+        return ComparisonPredicate.create(left, right, mode);
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2025 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.vector;
+
+import com.hazelcast.jet.sql.impl.ExpressionUtil;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.expression.CaseExpression;
+import com.hazelcast.sql.impl.expression.CastExpression;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.FunctionalPredicateExpression;
+import com.hazelcast.sql.impl.expression.ParameterExpression;
+import com.hazelcast.sql.impl.expression.compile.ExpressionCompiler;
+import com.hazelcast.sql.impl.expression.math.MinusFunction;
+import com.hazelcast.sql.impl.expression.math.MultiplyFunction;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.hazelcast.jet.core.JetTestSupport.TEST_SS;
+import static com.hazelcast.jet.impl.util.Util.toList;
+import static com.hazelcast.jet.sql.SqlTestSupport.createExpressionEvalContext;
+import static com.hazelcast.sql.impl.expression.vector.BatchEvaluator.MAX_BATCH_SIZE;
+import static com.hazelcast.sql.impl.type.QueryDataType.BIGINT;
+import static com.hazelcast.sql.impl.type.QueryDataType.DOUBLE;
+import static com.hazelcast.sql.impl.type.QueryDataType.INT;
+import static com.hazelcast.sql.impl.type.QueryDataType.VARCHAR;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class BatchEvaluatorTest {
+
+    private static final int ROW_COUNT = 3 * MAX_BATCH_SIZE + 17;
+
+    private static final Expression<?> A = ColumnExpression.create(0, INT);
+    private static final Expression<?> B = ColumnExpression.create(1, BIGINT);
+    private static final Expression<?> C = ColumnExpression.create(2, DOUBLE);
+    private static final Expression<?> S = ColumnExpression.create(3, VARCHAR);
+
+    private static final List<Expression<?>> PROJECTIONS = asList(
+            A,
+            PlusFunction.create(B, ConstantExpression.create(1L, BIGINT), BIGINT),
+            MultiplyFunction.create(C, C, DOUBLE),
+            MinusFunction.create(A, ConstantExpression.create(7, INT), INT),
+            S
+    );
+
+    private final ExpressionEvalContext context = createExpressionEvalContext(100L);
+    private ExpressionCompiler compiler;
+
+    @Test
+    public void when_noPredicate_then_allRowsProjected() {
+        check(null, PROJECTIONS, rows(false));
+    }
+
+    @Test
+    public void when_comparisons_then_sameAsRowWise() {
+        List<JetSqlRow> rows = rows(false);
+        check(compare(A, ConstantExpression.create(10, INT), ComparisonMode.GREATER_THAN), PROJECTIONS, rows);
+        check(compare(B, ParameterExpression.create(0, BIGINT), ComparisonMode.LESS_THAN_OR_EQUAL), PROJECTIONS, rows);
+        check(compare(C, ConstantExpression.create(0.5, DOUBLE), ComparisonMode.NOT_EQUALS), PROJECTIONS, rows);
+        check(compare(A, A, ComparisonMode.EQUALS), PROJECTIONS, rows);
+    }
+
+    @Test
+    public void when_ternaryLogic_then_sameAsRowWise() {
+        List<JetSqlRow> rows = rows(false);
+        Expression<Boolean> aLess = compare(A, ConstantExpression.create(50, INT), ComparisonMode.LESS_THAN);
+        Expression<Boolean> cGreater = compare(C, ConstantExpression.create(0.5, DOUBLE), ComparisonMode.GREATER_THAN);
+
+        check(and(aLess, cGreater), PROJECTIONS, rows);
+        check(or(aLess, cGreater), PROJECTIONS, rows);
+        check(not(and(aLess, cGreater)), PROJECTIONS, rows);
+        check(not(or(aLess, not(cGreater))), PROJECTIONS, rows);
+        check(and(IsNullPredicate.create(B), not(aLess)), PROJECTIONS, rows);
+        check(or(IsNotNullPredicate.create(B), cGreater), PROJECTIONS, rows);
+    }
+
+    @Test
+    public void when_arithmeticInPredicate_then_sameAsRowWise() {
+        Expression<?> sum = PlusFunction.create(B, MultiplyFunction.create(B, ConstantExpression.create(2L, BIGINT), BIGINT), BIGINT);
+        check(compare(sum, ConstantExpression.create(150L, BIGINT), ComparisonMode.GREATER_THAN), PROJECTIONS, rows(false));
+    }
+
+    @Test
+    public void when_unsupportedOperand_then_evaluatedRowWise() {
+        Expression<Boolean> startsWithX = new FunctionalPredicateExpression(row -> {
+            String value = row.get(3);
+            return value == null ? null : value.startsWith("x");
+        });
+        Expression<Boolean> aLess = compare(A, ConstantExpression.create(50, INT), ComparisonMode.LESS_THAN);
+
+        List<JetSqlRow> rows = rows(false);
+        check(and(aLess, startsWithX), PROJECTIONS, rows);
+        check(or(startsWithX, aLess), PROJECTIONS, rows);
+        check(not(startsWithX), PROJECTIONS, rows);
+    }
+
+    @Test
+    public void when_compiled_then_sameAsRowWise() {
+        compiler = new ExpressionCompiler(10);
+        Expression<Boolean> startsWithX = new FunctionalPredicateExpression(row -> {
+            String value = row.get(3);
+            return value == null ? null : value.startsWith("x");
+        });
+        Expression<Boolean> aLess = compare(A, ConstantExpression.create(50, INT), ComparisonMode.LESS_THAN);
+        Expression<Boolean> sLess = compare(S, ConstantExpression.create("x5", VARCHAR), ComparisonMode.LESS_THAN);
+        List<Expression<?>> projections = asList(
+                A,
+                CaseExpression.create(new Expression<?>[]{aLess, CastExpression.create(A, VARCHAR), S}),
+                and(aLess, sLess)
+        );
+
+        List<JetSqlRow> rows = rows(false);
+        check(or(sLess, startsWithX), projections, rows);
+        check(and(aLess, or(sLess, IsNullPredicate.create(S))), projections, rows);
+        assertThat(compiler.size()).isPositive();
+    }
+
+    @Test
+    public void when_valuesNotMatchingColumnType_then_evaluatedRowWise() {
+        // some of the DOUBLE values are longs
+        List<JetSqlRow> rows = rows(true);
+        check(compare(C, ConstantExpression.create(0.5, DOUBLE), ComparisonMode.GREATER_THAN), asList(A, C), rows);
+    }
+
+    @Test
+    public void when_overflow_then_sameErrorAsRowWise() {
+        List<Expression<?>> projections = asList(A, PlusFunction.create(B, ConstantExpression.create(Long.MAX_VALUE, BIGINT), BIGINT));
+        Expression<Boolean> positive = compare(B, ConstantExpression.create(0L, BIGINT), ComparisonMode.GREATER_THAN);
+        List<JetSqlRow> rows = rows(false);
+
+        assertThatThrownBy(() -> evaluateRowWise(positive, projections, rows))
+                .isInstanceOf(QueryException.class)
+                .hasMessageContaining("BIGINT overflow");
+        assertThatThrownBy(() -> evaluateBatched(positive, projections, rows))
+                .isInstanceOf(QueryException.class)
+                .hasMessageContaining("BIGINT overflow");
+    }
+
+    private void check(Expression<Boolean> predicate, List<Expression<?>> projections, List<JetSqlRow> rows) {
+        List<Object[]> expected = toList(evaluateRowWise(predicate, projections, rows), JetSqlRow::getValues);
+        List<Object[]> actual = toList(evaluateBatched(predicate, projections, rows), JetSqlRow::getValues);
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    private List<JetSqlRow> evaluateRowWise(Expression<Boolean> predicate, List<Expression<?>> projections, List<JetSqlRow> rows) {
+        return ExpressionUtil.evaluate(predicate, projections, rows.stream(), context);
+    }
+
+    private List<JetSqlRow> evaluateBatched(Expression<Boolean> predicate, List<Expression<?>> projections, List<JetSqlRow> rows) {
+        BatchEvaluator evaluator = BatchEvaluator.create(predicate, projections, compiler);
+        Row[] batch = new Row[MAX_BATCH_SIZE];
+        JetSqlRow[] output = new JetSqlRow[MAX_BATCH_SIZE];
+
+        List<JetSqlRow> result = new ArrayList<>();
+        for (int start = 0; start < rows.size(); start += MAX_BATCH_SIZE) {
+            int size = Math.min(MAX_BATCH_SIZE, rows.size() - start);
+            for (int i = 0; i < size; ++i) {
+                batch[i] = rows.get(start + i).getRow();
+            }
+            int outputSize = evaluator.evaluate(batch, size, output, context);
+            result.addAll(asList(output).subList(0, outputSize));
+        }
+        return result;
+    }
+
+    private static List<JetSqlRow> rows(boolean irregular) {
+        Random random = new Random(42);
+        List<JetSqlRow> rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; ++i) {
+            Object a = random.nextInt(10) == 0 ? null : random.nextInt(100);
+            Object b = random.nextInt(10) == 0 ? null : (long) random.nextInt(200) - 50;
+            Object c = random.nextInt(10) == 0 ? null : irregular && i % 2 == 0 ? (Object) (long) random.nextInt(2)
+                    : (Object) random.nextDouble();
+            Object s = random.nextInt(10) == 0 ? null : random.nextBoolean() ? "x" + i : "y" + i;
+            rows.add(new JetSqlRow(TEST_SS, new Object[]{a, b, c, s}));
+        }
+        return rows;
+    }
+
+    private static Expression<Boolean> compare(Expression<?> left, Expression<?> right, ComparisonMode mode) {
+        return ComparisonPredicate.create(left, right, mode);
+    }
+
+    private static Expression<Boolean> and(Expression<?>... operands) {
+        return AndPredicate.create(operands);
+    }
+
+    private static Expression<Boolean> or(Expression<?>... operands) {
+        return OrPredicate.create(operands);
+    }
+
+    private static Expression<Boolean> not(Expression<?> operand) {
+        return NotPredicate.create(operand);
+    }
+}
@@ -16,6 +16,10 @@
 
 package com.hazelcast.internal.tpcengine;
 
+import com.hazelcast.internal.tpcengine.iouring.IOUring;
+import com.hazelcast.internal.tpcengine.iouring.IOUringReactorBuilder;
+import com.hazelcast.internal.tpcengine.logging.TpcLogger;
+import com.hazelcast.internal.tpcengine.logging.TpcLoggerLocator;
 import com.hazelcast.internal.tpcengine.nio.NioReactorBuilder;
 
 import static com.hazelcast.internal.tpcengine.util.Preconditions.checkNotNull;
@@ -27,10 +31,13 @@ import static com.hazelcast.internal.tpcengine.util.Preconditions.checkPositive;
 public class TpcEngineBuilder {
 
     public static final String NAME_REACTOR_COUNT = "hazelcast.tpc.reactor.count";
+    public static final String NAME_REACTOR_TYPE = "hazelcast.tpc.reactor.type";
+
+    private static final TpcLogger LOGGER = TpcLoggerLocator.getLogger(TpcEngineBuilder.class);
 
     int reactorCount = Integer.getInteger(NAME_REACTOR_COUNT, Runtime.getRuntime().availableProcessors());
 
-    ReactorBuilder reactorBuilder = new NioReactorBuilder();
+    ReactorBuilder reactorBuilder = newReactorBuilder(ReactorType.fromString(System.getProperty(NAME_REACTOR_TYPE, "nio")));
 
     /**
      * Sets the ReactorBuilder.
@@ -44,6 +51,37 @@ public class TpcEngineBuilder {
         return this;
     }
 
+    /**
+     * Sets the ReactorBuilder to the default builder for the given type.
+     * <p/>
+     * If the type is {@link ReactorType#IOURING} and io_uring isn't available
+     * on this system, a {@link ReactorType#NIO} builder is used instead.
+     *
+     * @param reactorType the type of reactor.
+     * @return this
+     * @throws NullPointerException if reactorType is <code>null</code>.
+     */
+    public TpcEngineBuilder setReactorType(ReactorType reactorType) {
+        this.reactorBuilder = newReactorBuilder(checkNotNull(reactorType, "reactorType"));
+        return this;
+    }
+
+    private static ReactorBuilder newReactorBuilder(ReactorType reactorType) {
+        switch (reactorType) {
+            case NIO:
+                return new NioReactorBuilder();
+            case IOURING:
+                if (IOUring.isAvailable()) {
+                    return new IOUringReactorBuilder();
+                }
+                LOGGER.warning("io_uring is not available, falling back to nio. Cause: "
+                        + IOUring.unavailabilityCause().getMessage());
+                return new NioReactorBuilder();
+            default:
+                throw new IllegalArgumentException("Unrecognized reactor type [" + reactorType + ']');
+        }
+    }
+
     /**
      * Sets the number of reactors.
      *
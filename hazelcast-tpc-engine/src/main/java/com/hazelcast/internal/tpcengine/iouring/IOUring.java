@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.tpcengine.iouring;
+
+import com.hazelcast.internal.tpcengine.logging.TpcLogger;
+import com.hazelcast.internal.tpcengine.logging.TpcLoggerLocator;
+import com.hazelcast.internal.tpcengine.util.OS;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import static com.hazelcast.internal.tpcengine.util.CloseUtil.closeQuietly;
+
+/**
+ * The entry point to the io_uring support of the tpc-engine.
+ * <p/>
+ * The io_uring syscalls are made through a small JNI library bundled into
+ * the Hazelcast jars, the same way as the CPU affinity helper. The library
+ * maps the submission and completion queues of a ring into memory, so that
+ * preparing a request and harvesting a completion doesn't need a syscall.
+ * A single {@code io_uring_enter} per eventloop iteration submits all
+ * prepared requests and waits for completions.
+ * <p/>
+ * io_uring is only used on Linux x86_64 with a kernel of at least 6.0,
+ * because the reactor relies on multishot receives with a provided buffer
+ * ring. If the {@code hazelcast.tpc.iouring.disabled} system property is
+ * set to {@code true}, io_uring is never used.
+ * <p/>
+ * The methods returning an int return a negative errno on failure, like
+ * the underlying syscalls.
+ */
+@SuppressWarnings({"java:S1181", "checkstyle:MethodCount"})
+public final class IOUring {
+
+    static final int IORING_CQE_F_BUFFER = 1;
+    static final int IORING_CQE_F_MORE = 1 << 1;
+    static final int IORING_CQE_BUFFER_SHIFT = 16;
+
+    static final int ECANCELED = 125;
+    static final int ENOBUFS = 105;
+    static final int EINVAL = 22;
+
+    static final int SHUT_RDWR = 2;
+
+    private static final String IOURING_DISABLED = "hazelcast.tpc.iouring.disabled";
+    private static final int MIN_KERNEL_MAJOR_VERSION = 6;
+    private static final int IPV4_ADDRESS_LENGTH = 4;
+    private static final int IPV6_ADDRESS_LENGTH = 16;
+    private static final int SOCKADDR_ADDRESS_LENGTH_SHIFT = 16;
+    private static final int SOCKADDR_PORT_MASK = 0xFFFF;
+
+    private static final TpcLogger LOGGER = TpcLoggerLocator.getLogger(IOUring.class);
+    private static final Throwable UNAVAILABILITY_CAUSE;
+
+    static {
+        Throwable cause = null;
+        if (Boolean.getBoolean(IOURING_DISABLED)) {
+            cause = new UnsupportedOperationException("io_uring is disabled by " + IOURING_DISABLED);
+        } else if (!OS.isLinux() || !OS.isX86_64()) {
+            cause = new UnsupportedOperationException("io_uring is only supported on Linux x86_64, found "
+                    + OS.osName() + " " + OS.osArch());
+        } else if (OS.linuxKernelMajorVersion() < MIN_KERNEL_MAJOR_VERSION) {
+            cause = new UnsupportedOperationException("io_uring requires at least Linux " + MIN_KERNEL_MAJOR_VERSION
+                    + ".0, found " + OS.osVersion());
+        } else {
+            try {
+                System.load(extractBundledLib());
+                int res = checkSupport();
+                if (res < 0) {
+                    cause = new UnsupportedOperationException("io_uring is not usable: " + strerror(-res));
+                }
+            } catch (Throwable t) {
+                cause = t;
+            }
+        }
+
+        if (cause != null) {
+            LOGGER.fine("io_uring is not available", cause);
+        }
+        UNAVAILABILITY_CAUSE = cause;
+    }
+
+    private IOUring() {
+    }
+
+    /**
+     * Checks if io_uring can be used on this system.
+     *
+     * @return true if io_uring is available.
+     */
+    public static boolean isAvailable() {
+        return UNAVAILABILITY_CAUSE == null;
+    }
+
+    /**
+     * Returns the reason why io_uring can't be used.
+     *
+     * @return the cause, or <code>null</code> if io_uring is available.
+     */
+    public static Throwable unavailabilityCause() {
+        return UNAVAILABILITY_CAUSE;
+    }
+
+    /**
+     * Ensures that io_uring can be used.
+     *
+     * @throws UnsupportedOperationException if io_uring isn't available.
+     */
+    public static void ensureAvailable() {
+        if (UNAVAILABILITY_CAUSE != null) {
+            throw new UnsupportedOperationException("io_uring is not available", UNAVAILABILITY_CAUSE);
+        }
+    }
+
+    static IOException newIOException(String msg, int res) {
+        return new IOException(msg + ": " + strerror(-res));
+    }
+
+    static int checkResult(String msg, int res) throws IOException {
+        if (res < 0) {
+            throw newIOException(msg, res);
+        }
+        return res;
+    }
+
+    static byte[] toAddressBytes(InetSocketAddress address) throws IOException {
+        if (address.isUnresolved()) {
+            throw new IOException("Unresolved address " + address);
+        }
+        return address.getAddress().getAddress();
+    }
+
+    /**
+     * Decodes the address written by {@link #sockaddr(int, boolean, byte[])}.
+     */
+    static SocketAddress toSocketAddress(int res, byte[] addr) throws UnknownHostException {
+        int length = res >>> SOCKADDR_ADDRESS_LENGTH_SHIFT;
+        if (length != IPV4_ADDRESS_LENGTH && length != IPV6_ADDRESS_LENGTH) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        System.arraycopy(addr, 0, bytes, 0, length);
+        // IPv4-mapped IPv6 addresses are turned into an Inet4Address.
+        return new InetSocketAddress(InetAddress.getByAddress(bytes), res & SOCKADDR_PORT_MASK);
+    }
+
+    static SocketAddress localAddress(int fd) throws IOException {
+        byte[] addr = new byte[IPV6_ADDRESS_LENGTH];
+        return toSocketAddress(checkResult("getsockname failed", sockaddr(fd, false, addr)), addr);
+    }
+
+    static SocketAddress remoteAddress(int fd) throws IOException {
+        byte[] addr = new byte[IPV6_ADDRESS_LENGTH];
+        return toSocketAddress(checkResult("getpeername failed", sockaddr(fd, true, addr)), addr);
+    }
+
+    @SuppressWarnings({"java:S5443", "java:S112"})
+    private static String extractBundledLib() {
+        InputStream src = null;
+        try {
+            src = IOUring.class.getClassLoader().getResourceAsStream("lib/linux-x86_64/libiouring_helper.so");
+            if (src == null) {
+                throw new UnsupportedOperationException("libiouring_helper.so is not found");
+            }
+            File dest = File.createTempFile("hazelcast-libiouring-helper-", ".so");
+            dest.deleteOnExit();
+            Files.copy(src, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            return dest.getAbsolutePath();
+        } catch (Error | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            closeQuietly(src);
+        }
+    }
+
+    // ------------------------- ring -------------------------
+
+    /**
+     * Sets up a small ring and checks the features and operations the
+     * reactor needs.
+     *
+     * @return 0 if supported, a negative errno otherwise.
+     */
+    static native int checkSupport();
+
+    /**
+     * Sets up a ring with a provided buffer ring of bufferCount buffers of
+     * bufferSize bytes.
+     *
+     * @return the address of the native ring structure.
+     * @throws IOException if the ring can't be set up.
+     */
+    static native long setup(int entries, int bufferCount, int bufferSize) throws IOException;
+
+    /**
+     * Unregisters the buffer ring, closes the ring and frees the native memory.
+     */
+    static native void exit(long ring);
+
+    /**
+     * Returns the memory of the provided buffers. Buffer {@code bid} starts
+     * at {@code bid * bufferSize}.
+     */
+    static native ByteBuffer buffers(long ring);
+
+    /**
+     * Gives the provided buffer back to the kernel.
+     */
+    static native void recycleBuffer(long ring, int bid);
+
+    /**
+     * Submits the prepared requests and optionally waits for at least a
+     * single completion or until the timeout expired.
+     *
+     * @param timeoutNanos the timeout, -1 waits without a timeout.
+     * @return the number of submitted requests or a negative errno.
+     */
+    static native int enter(long ring, boolean wait, long timeoutNanos);
+
+    /**
+     * Copies the available completions into cqes: for every completion the
+     * user data followed by the result in the high and the flags in the low
+     * 32 bits.
+     *
+     * @return the number of harvested completions.
+     */
+    static native int harvest(long ring, long[] cqes);
+
+    // ------------------------- requests -------------------------
+    // the prep methods only fail if the submission queue is still full
+    // after submitting it, in that case they return false.
+
+    static native boolean prepAcceptMultishot(long ring, int fd, long userData);
+
+    static native boolean prepRecvMultishot(long ring, int fd, long userData);
+
+    static native boolean prepSend(long ring, int fd, ByteBuffer buffer, int offset, int length, long userData);
+
+    static native boolean prepConnect(long ring, int fd, ByteBuffer sockaddr, byte[] addr, int port, long userData);
+
+    static native boolean prepRead(long ring, int fd, ByteBuffer buffer, int length, long userData);
+
+    static native boolean prepCancel(long ring, long targetUserData, long userData);
+
+    // ------------------------- sockets -------------------------
+
+    /**
+     * Creates a TCP socket. An IPv6 socket accepting IPv4 traffic is created
+     * when IPv6 is available, an IPv4 socket otherwise.
+     *
+     * @return the fd or a negative errno.
+     */
+    static native int socket();
+
+    static native int bind(int fd, byte[] addr, int port);
+
+    static native int listen(int fd, int backlog);
+
+    /**
+     * Writes the local or peer address into addr.
+     *
+     * @return the port in the low and the address length in the high 16
+     * bits, or a negative errno.
+     */
+    static native int sockaddr(int fd, boolean peer, byte[] addr);
+
+    static native int setIntOption(int fd, int level, int name, int value);
+
+    static native int getIntOption(int fd, int level, int name);
+
+    static native int shutdown(int fd, int how);
+
+    static native int close(int fd);
+
+    static native int eventfd();
+
+    static native int eventfdWrite(int fd);
+
+    static native String strerror(int errno);
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.tpcengine.iouring;
+
+import com.hazelcast.internal.tpcengine.net.AcceptRequest;
+import com.hazelcast.internal.tpcengine.net.AsyncServerSocket;
+import com.hazelcast.internal.tpcengine.net.AsyncSocketOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.ECANCELED;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.IORING_CQE_F_MORE;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.SHUT_RDWR;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.checkResult;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.newIOException;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.toAddressBytes;
+import static com.hazelcast.internal.tpcengine.iouring.IOUringEventloop.OP_ACCEPT;
+import static com.hazelcast.internal.tpcengine.util.CloseUtil.closeQuietly;
+import static com.hazelcast.internal.tpcengine.util.ExceptionUtil.sneakyThrow;
+import static com.hazelcast.internal.tpcengine.util.Preconditions.checkInstanceOf;
+import static com.hazelcast.internal.tpcengine.util.Preconditions.checkNotNegative;
+import static com.hazelcast.internal.tpcengine.util.Preconditions.checkNotNull;
+
+/**
+ * io_uring implementation of the {@link AsyncServerSocket}.
+ * <p/>
+ * Connections are accepted by a single multishot accept, so there is no
+ * request per accepted connection.
+ */
+public final class IOUringAsyncServerSocket extends AsyncServerSocket {
+
+    private final int fd;
+    private final int handlerId;
+    private final IOUringReactor reactor;
+    private final IOUringEventloop eventloop;
+    private final Thread eventloopThread;
+    private final IOUringAsyncServerSocketOptions options;
+    private final Consumer<AcceptRequest> consumer;
+    // only accessed from eventloop thread
+    private boolean started;
+    // only accessed from eventloop thread
+    private boolean acceptArmed;
+    private volatile SocketAddress localAddress;
+
+    IOUringAsyncServerSocket(IOUringAsyncServerSocketBuilder builder) {
+        this.reactor = builder.reactor;
+        this.eventloop = (IOUringEventloop) reactor.eventloop();
+        this.consumer = builder.acceptConsumer;
+        this.options = builder.options;
+        this.eventloopThread = reactor.eventloopThread();
+        this.fd = builder.fd;
+        this.handlerId = eventloop.register(new Handler());
+    }
+
+    @Override
+    public AsyncSocketOptions options() {
+        return options;
+    }
+
+    @Override
+    public IOUringReactor getReactor() {
+        return reactor;
+    }
+
+    @Override
+    protected SocketAddress getLocalAddress0() throws IOException {
+        return localAddress;
+    }
+
+    @Override
+    public int getLocalPort() {
+        SocketAddress address = localAddress;
+        return address == null ? -1 : ((InetSocketAddress) address).getPort();
+    }
+
+    @Override
+    protected void close0() throws IOException {
+        if (Thread.currentThread() == eventloopThread) {
+            closeFd();
+        } else {
+            // The file descriptor is closed on the eventloop, because the accept
+            // request could still refer to it.
+            try {
+                reactor.execute(this::closeFd);
+            } catch (RejectedExecutionException e) {
+                // the reactor is terminated, so there are no pending requests left.
+                IOUring.close(fd);
+            }
+        }
+    }
+
+    private void closeFd() {
+        eventloop.submit();
+        IOUring.shutdown(fd, SHUT_RDWR);
+        IOUring.close(fd);
+        eventloop.deregister(handlerId);
+    }
+
+    @Override
+    public void bind(SocketAddress localAddress, int backlog) {
+        checkNotNull(localAddress, "localAddress");
+        checkNotNegative(backlog, "backlog");
+
+        try {
+            if (logger.isInfoEnabled()) {
+                logger.info(eventloopThread.getName() + " Binding to " + localAddress);
+            }
+            InetSocketAddress inetAddress = checkInstanceOf(InetSocketAddress.class, localAddress, "localAddress");
+            if (this.localAddress != null) {
+                throw new IOException("Already bound to " + this.localAddress);
+            }
+            checkResult("bind failed", IOUring.bind(fd, toAddressBytes(inetAddress), inetAddress.getPort()));
+            checkResult("listen failed", IOUring.listen(fd, backlog));
+            this.localAddress = IOUring.localAddress(fd);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to bind to " + localAddress, e);
+        }
+    }
+
+    @SuppressWarnings("java:S1181")
+    @Override
+    public void start() {
+        if (Thread.currentThread() == eventloopThread) {
+            start0();
+        } else {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            reactor.execute(() -> {
+                try {
+                    start0();
+                    future.complete(null);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                    throw sneakyThrow(t);
+                }
+            });
+
+            future.join();
+        }
+    }
+
+    private void start0() {
+        if (started) {
+            throw new IllegalStateException(this + " is already started");
+        }
+        started = true;
+
+        armAccept();
+
+        if (logger.isInfoEnabled()) {
+            logger.info(getLocalAddress() + " started accepting");
+        }
+    }
+
+    private void armAccept() {
+        if (localAddress != null && !acceptArmed && !isClosed()) {
+            acceptArmed = true;
+            eventloop.acceptMultishot(handlerId, fd);
+        }
+    }
+
+    @SuppressWarnings("java:S1135")
+    private final class Handler implements IOUringHandler {
+
+        @Override
+        public void close(String reason, Throwable cause) {
+            IOUringAsyncServerSocket.this.close(reason, cause);
+        }
+
+        @Override
+        public void handle(int op, int res, int flags) throws IOException {
+            if (op != OP_ACCEPT) {
+                throw new IllegalStateException("Unexpected operation " + op);
+            }
+
+            if ((flags & IORING_CQE_F_MORE) == 0) {
+                acceptArmed = false;
+            }
+
+            if (res >= 0) {
+                accepted(res);
+            } else if (res != -ECANCELED && !isClosed()) {
+                throw newIOException("Failed to accept", res);
+            }
+
+            armAccept();
+        }
+
+        private void accepted(int acceptedFd) throws IOException {
+            metrics.incAccepted();
+            IOUringAcceptRequest acceptRequest = new IOUringAcceptRequest(acceptedFd);
+            if (logger.isInfoEnabled()) {
+                logger.info(IOUringAsyncServerSocket.this + " accepted: " + IOUring.remoteAddress(acceptedFd)
+                        + "->" + IOUring.localAddress(acceptedFd));
+            }
+
+            try {
+                consumer.accept(acceptRequest);
+            } catch (Throwable t) {
+                closeQuietly(acceptRequest);
+                throw sneakyThrow(t);
+            }
+        }
+    }
+}
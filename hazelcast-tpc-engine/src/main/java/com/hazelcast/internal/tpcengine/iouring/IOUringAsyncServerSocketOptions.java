@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.tpcengine.iouring;
+
+import com.hazelcast.internal.tpcengine.Option;
+import com.hazelcast.internal.tpcengine.net.AsyncSocketOptions;
+
+import static com.hazelcast.internal.tpcengine.util.Preconditions.checkNotNull;
+
+/**
+ * The AsyncSocketOptions for the {@link IOUringAsyncServerSocket}.
+ */
+public class IOUringAsyncServerSocketOptions implements AsyncSocketOptions {
+
+    private final int fd;
+
+    IOUringAsyncServerSocketOptions(int fd) {
+        this.fd = fd;
+    }
+
+    @Override
+    public boolean isSupported(Option option) {
+        checkNotNull(option, "option");
+
+        return SO_RCVBUF.equals(option) || SO_REUSEADDR.equals(option) || SO_REUSEPORT.equals(option);
+    }
+
+    @Override
+    public <T> boolean set(Option<T> option, T value) {
+        checkNotNull(option, "option");
+        checkNotNull(value, "value");
+
+        if (isSupported(option)) {
+            NativeSocketOption.of(option).set(fd, value);
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public <T> T get(Option<T> option) {
+        checkNotNull(option, "option");
+
+        if (isSupported(option)) {
+            return (T) NativeSocketOption.of(option).get(fd);
+        } else {
+            return null;
+        }
+    }
+}
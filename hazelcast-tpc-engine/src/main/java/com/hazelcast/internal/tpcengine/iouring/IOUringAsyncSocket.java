@@ -0,0 +1,605 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.tpcengine.iouring;
+
+import com.hazelcast.internal.tpcengine.iobuffer.IOBuffer;
+import com.hazelcast.internal.tpcengine.net.AsyncSocket;
+import com.hazelcast.internal.tpcengine.net.AsyncSocketMetrics;
+import com.hazelcast.internal.tpcengine.net.AsyncSocketOptions;
+import com.hazelcast.internal.tpcengine.net.AsyncSocketReader;
+import com.hazelcast.internal.tpcengine.net.AsyncSocketWriter;
+import com.hazelcast.internal.tpcengine.util.CircularQueue;
+import org.jctools.queues.MpmcArrayQueue;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.ECANCELED;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.ENOBUFS;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.IORING_CQE_F_MORE;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.SHUT_RDWR;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.newIOException;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.toAddressBytes;
+import static com.hazelcast.internal.tpcengine.iouring.IOUringEventloop.OP_CANCEL;
+import static com.hazelcast.internal.tpcengine.iouring.IOUringEventloop.OP_CONNECT;
+import static com.hazelcast.internal.tpcengine.iouring.IOUringEventloop.OP_RECV;
+import static com.hazelcast.internal.tpcengine.iouring.IOUringEventloop.OP_SEND;
+import static com.hazelcast.internal.tpcengine.net.AsyncSocketOptions.SO_RCVBUF;
+import static com.hazelcast.internal.tpcengine.net.AsyncSocketOptions.SO_SNDBUF;
+import static com.hazelcast.internal.tpcengine.util.BufferUtil.allocateBuffer;
+import static com.hazelcast.internal.tpcengine.util.BufferUtil.compactOrClear;
+import static com.hazelcast.internal.tpcengine.util.BufferUtil.put;
+import static com.hazelcast.internal.tpcengine.util.ExceptionUtil.sneakyThrow;
+import static com.hazelcast.internal.tpcengine.util.Preconditions.checkInstanceOf;
+import static com.hazelcast.internal.tpcengine.util.Preconditions.checkNotNull;
+import static java.lang.Thread.currentThread;
+
+/**
+ * io_uring implementation of the {@link AsyncSocket}.
+ * <p/>
+ * Data is received by a multishot recv into the provided buffers of the
+ * reactor. The reader processes the data in place; only the bytes it leaves
+ * unconsumed are copied to the receive buffer of the socket. Data is sent
+ * from a direct send buffer with at most one send in flight; the flush that
+ * triggered the send stays in effect until everything is written.
+ */
+@SuppressWarnings({"checkstyle:DeclarationOrder", "checkstyle:VisibilityOrder", "checkstyle:MethodCount", "java:S1181"})
+public final class IOUringAsyncSocket extends AsyncSocket {
+
+    // large enough for a sockaddr_storage
+    private static final int SOCKADDR_SIZE = 128;
+
+    private final IOUringAsyncSocketOptions options;
+    private final AtomicReference<Thread> flushThread = new AtomicReference<>(currentThread());
+    private final MpmcArrayQueue writeQueue;
+    private final Handler handler;
+    private final int fd;
+    private final int handlerId;
+    private final IOUringReactor reactor;
+    private final IOUringEventloop eventloop;
+    private final Thread eventloopThread;
+    private final AsyncSocketReader reader;
+    private final CircularQueue localTaskQueue;
+    private final AsyncSocketWriter writer;
+
+    // only accessed from eventloop thread
+    private boolean started;
+    // only accessed from eventloop thread
+    private boolean connecting;
+    // only accessed from eventloop thread
+    private boolean connected;
+    // only accessed from eventloop thread
+    private boolean readable = true;
+    // only accessed from eventloop thread
+    private boolean recvArmed;
+    private volatile CompletableFuture<Void> connectFuture;
+
+    @SuppressWarnings("checkstyle:executablestatementcount")
+    IOUringAsyncSocket(IOUringAsyncSocketBuilder builder) {
+        super(builder.clientSide);
+
+        assert currentThread() == builder.reactor.eventloopThread();
+
+        try {
+            this.reactor = builder.reactor;
+            this.eventloop = (IOUringEventloop) reactor.eventloop();
+            this.localTaskQueue = eventloop.localTaskQueue;
+            this.options = builder.options;
+            this.eventloopThread = reactor.eventloopThread();
+            this.fd = builder.fd;
+            if (!clientSide) {
+                this.localAddress = IOUring.localAddress(fd);
+                this.remoteAddress = IOUring.remoteAddress(fd);
+                this.connected = true;
+            }
+            this.writeQueue = new MpmcArrayQueue<>(builder.writeQueueCapacity);
+            this.handler = new Handler(builder);
+            this.handlerId = eventloop.register(handler);
+            this.reader = builder.reader;
+            reader.init(this);
+            this.writer = builder.writer;
+            if (writer != null) {
+                writer.init(this, writeQueue);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public AsyncSocketOptions options() {
+        return options;
+    }
+
+    @Override
+    public IOUringReactor reactor() {
+        return reactor;
+    }
+
+    @Override
+    public void setReadable(boolean readable) {
+        if (currentThread() == eventloopThread) {
+            setReadable0(readable);
+        } else {
+            CompletableFuture future = new CompletableFuture();
+            reactor.execute(() -> {
+                try {
+                    setReadable0(readable);
+                    future.complete(null);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                    throw sneakyThrow(t);
+                }
+            });
+
+            future.join();
+        }
+    }
+
+    private void setReadable0(boolean readable) {
+        this.readable = readable;
+        if (readable) {
+            armRecv();
+        } else if (recvArmed) {
+            // Cancel the multishot recv, so even if data is received or still
+            // available on the socket, we will not get further completions.
+            // The recv is re-armed when it completes with ECANCELED and the
+            // socket has become readable again in the meantime.
+            eventloop.cancel(handlerId, OP_RECV);
+            // Submit right away, so data arriving after this call is not received.
+            eventloop.submit();
+        }
+    }
+
+    private void armRecv() {
+        if (readable && connected && !recvArmed && !isClosed()) {
+            recvArmed = true;
+            eventloop.recvMultishot(handlerId, fd);
+        }
+    }
+
+    @Override
+    public boolean isReadable() {
+        if (currentThread() == eventloopThread) {
+            return readable;
+        } else {
+            CompletableFuture<Boolean> future = new CompletableFuture<>();
+            reactor.execute(() -> future.complete(readable));
+            return future.join();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (currentThread() == reactor.eventloopThread()) {
+            start0();
+        } else {
+            CompletableFuture future = new CompletableFuture();
+            reactor.execute(() -> {
+                try {
+                    start0();
+                    future.complete(null);
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                    throw sneakyThrow(e);
+                }
+            });
+            future.join();
+        }
+    }
+
+    private void start0() {
+        if (started) {
+            throw new IllegalStateException(this + " is already started");
+        }
+        started = true;
+
+        assert flushThread.get() == reactor.eventloopThread();
+
+        if (!clientSide) {
+            // on the server side we immediately start reading.
+            armRecv();
+            // and on the server side we can immediately start sending
+            resetFlushed();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> connect(SocketAddress address) {
+        checkNotNull(address, "address");
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Connecting to address:" + address);
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (currentThread() == eventloopThread) {
+            connect0(address, future);
+        } else {
+            reactor.execute(() -> connect0(address, future));
+        }
+
+        return future;
+    }
+
+    private void connect0(SocketAddress address, CompletableFuture<Void> future) {
+        try {
+            if (!started) {
+                throw new IllegalStateException(this + " can't connect when socket not yet started");
+            }
+
+            if (connecting) {
+                throw new IllegalStateException(this + " is already trying to connect");
+            }
+
+            assert flushThread.get() == reactor.eventloopThread();
+
+            InetSocketAddress inetAddress = checkInstanceOf(InetSocketAddress.class, address, "address");
+            byte[] addr = toAddressBytes(inetAddress);
+            connecting = true;
+            connectFuture = future;
+            eventloop.connect(handlerId, fd, handler.sockaddr, addr, inetAddress.getPort());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw sneakyThrow(e);
+        }
+    }
+
+    @SuppressWarnings("java:S1135")
+    @Override
+    public void flush() {
+        Thread currentThread = currentThread();
+
+        if (flushThread.get() != null) {
+            // the socket is already flushed, we are done.
+            return;
+        }
+
+        // The socket is not flushed, so we are going to try to flush it.
+        if (!flushThread.compareAndSet(null, currentThread)) {
+            // A different thread triggered a flush, we are done.
+            return;
+        }
+
+        if (currentThread == eventloopThread) {
+            localTaskQueue.add(handler);
+        } else {
+            reactor.offer(handler);
+        }
+    }
+
+    @SuppressWarnings({"java:S3398", "java:S1066"})
+    private void resetFlushed() {
+        flushThread.set(null);
+
+        if (!writeQueue.isEmpty()) {
+            if (flushThread.compareAndSet(null, currentThread())) {
+                reactor.offer(handler);
+            }
+        }
+    }
+
+    @Override
+    public boolean write(Object msg) {
+        checkNotNull(msg, "msg");
+
+        if (writer == null && !(msg instanceof IOBuffer)) {
+            throw new IllegalArgumentException("Message needs to be an IOBuffer if no writer is configured.");
+        }
+
+        if (writeQueue.add(msg)) {
+            return true;
+        } else {
+            // lets trigger a flush since the writeQueue is full.
+            flush();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean writeAndFlush(Object msg) {
+        boolean result = write(msg);
+        flush();
+        return result;
+    }
+
+    @Override
+    public boolean unsafeWriteAndFlush(Object msg) {
+        checkNotNull(msg, "msg");
+
+        if (writer == null && !(msg instanceof IOBuffer)) {
+            throw new IllegalArgumentException(
+                    "Only accepting IOBuffers if writer isn't set.");
+        }
+
+        Thread currentThread = currentThread();
+        if (currentThread != eventloopThread) {
+            throw new IllegalStateException(
+                    "insideWriteAndFlush can only be made from eventloop thread, "
+                            + "found " + currentThread);
+        }
+
+        boolean triggeredFlush;
+
+        Thread currentFlushThread = flushThread.get();
+        if (currentFlushThread == null) {
+            // the socket isn't flushed, lets try to flush it.
+            triggeredFlush = flushThread.compareAndSet(null, currentThread);
+            // At this point we know for sure that the socket was flushed; either
+            // by the current thread or by a different one.
+        } else {
+            // the socket was already flushed
+            triggeredFlush = false;
+        }
+
+        boolean offered = writeQueue.offer(msg);
+
+        if (triggeredFlush && offered) {
+            reactor.execute(handler);
+        }
+
+        return offered;
+    }
+
+    @Override
+    protected void close0() throws IOException {
+        if (currentThread() == eventloopThread) {
+            closeFd();
+        } else {
+            // Shutting down right away wakes up the pending requests. The file descriptor
+            // is closed on the eventloop, because a prepared request could still refer to it.
+            IOUring.shutdown(fd, SHUT_RDWR);
+            try {
+                reactor.execute(this::closeFd);
+            } catch (RejectedExecutionException e) {
+                // the reactor is terminated, so there are no pending requests left.
+                IOUring.close(fd);
+            }
+        }
+        super.close0();
+    }
+
+    private void closeFd() {
+        eventloop.submit();
+        IOUring.shutdown(fd, SHUT_RDWR);
+        IOUring.close(fd);
+        eventloop.deregister(handlerId);
+        handler.releaseWriteQueue();
+    }
+
+    @SuppressWarnings("java:S125")
+    private final class Handler implements IOUringHandler, Runnable {
+        private final AsyncSocketMetrics metrics = IOUringAsyncSocket.this.metrics;
+        private final ByteBuffer sndBuffer;
+        private final ByteBuffer sockaddr;
+        private final boolean directBuffers;
+        // The data the reader didn't consume, in write mode.
+        private ByteBuffer rcvBuffer;
+        // The IOBuffer that didn't completely fit in the sndBuffer.
+        private IOBuffer pendingIOBuffer;
+        private boolean sendInFlight;
+
+        private Handler(IOUringAsyncSocketBuilder builder) {
+            this.directBuffers = builder.directBuffers;
+            this.rcvBuffer = allocateBuffer(directBuffers, builder.options.get(SO_RCVBUF));
+            // the kernel reads from the sndBuffer, so it must be a direct buffer.
+            this.sndBuffer = ByteBuffer.allocateDirect(builder.options.get(SO_SNDBUF));
+            this.sockaddr = builder.clientSide ? ByteBuffer.allocateDirect(SOCKADDR_SIZE) : null;
+        }
+
+        @Override
+        public void run() {
+            try {
+                handleWrite();
+            } catch (Throwable e) {
+                close(null, e);
+                throw sneakyThrow(e);
+            }
+        }
+
+        @Override
+        public void close(String reason, Throwable cause) {
+            if (cause instanceof EOFException) {
+                // The stacktrace of an EOFException isn't important. It just means that the
+                // Exception is closed by the remote side.
+                IOUringAsyncSocket.this.close(reason != null ? reason : cause.getMessage(), null);
+            } else {
+                IOUringAsyncSocket.this.close(reason, cause);
+            }
+        }
+
+        @Override
+        public void handle(int op, int res, int flags) throws Exception {
+            switch (op) {
+                case OP_RECV:
+                    handleRecv(res, flags);
+                    break;
+                case OP_SEND:
+                    handleSend(res);
+                    break;
+                case OP_CONNECT:
+                    handleConnect(res);
+                    break;
+                case OP_CANCEL:
+                    // the outcome is seen by the completion of the cancelled recv.
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected operation " + op);
+            }
+        }
+
+        private void handleRecv(int res, int flags) throws IOException {
+            if ((flags & IORING_CQE_F_MORE) == 0) {
+                recvArmed = false;
+            }
+
+            if (res > 0) {
+                metrics.incReadEvents();
+                metrics.incBytesRead(res);
+                onRead(eventloop.receivedData(flags, res));
+            } else if (res == 0) {
+                throw new EOFException("Socket closed by peer");
+            } else if (res != -ENOBUFS && res != -ECANCELED) {
+                throw newIOException("Failed to receive", res);
+            }
+
+            // A multishot recv ends when it is cancelled or when it ran out of
+            // provided buffers. In the latter case the buffers are recycled by the
+            // time the recv is re-armed.
+            armRecv();
+        }
+
+        private void onRead(ByteBuffer data) {
+            if (rcvBuffer.position() == 0) {
+                // Nothing left over from the previous read, so the reader can
+                // process the provided buffer without copying.
+                reader.onRead(data);
+                if (data.hasRemaining()) {
+                    ensureRcvBufferRemaining(data.remaining());
+                    rcvBuffer.put(data);
+                }
+            } else {
+                ensureRcvBufferRemaining(data.remaining());
+                rcvBuffer.put(data);
+                rcvBuffer.flip();
+                reader.onRead(rcvBuffer);
+                compactOrClear(rcvBuffer);
+            }
+        }
+
+        private void ensureRcvBufferRemaining(int remaining) {
+            if (rcvBuffer.remaining() < remaining) {
+                int capacity = Math.max(rcvBuffer.capacity() * 2, rcvBuffer.position() + remaining);
+                ByteBuffer newRcvBuffer = allocateBuffer(directBuffers, capacity);
+                rcvBuffer.flip();
+                newRcvBuffer.put(rcvBuffer);
+                rcvBuffer = newRcvBuffer;
+            }
+        }
+
+        private void handleWrite() {
+            if (sendInFlight || isClosed()) {
+                // the completion of the send will continue writing.
+                return;
+            }
+
+            metrics.incWriteEvents();
+
+            boolean clean = writer == null
+                    ? fillSndBuffer()
+                    : writer.onWrite(sndBuffer);
+
+            sndBuffer.flip();
+            if (sndBuffer.hasRemaining()) {
+                sendInFlight = true;
+                eventloop.send(handlerId, fd, sndBuffer);
+            } else {
+                sndBuffer.clear();
+                if (clean) {
+                    resetFlushed();
+                } else {
+                    // the writer has more data but didn't write anything; try again later.
+                    localTaskQueue.add(this);
+                }
+            }
+        }
+
+        /**
+         * Copies the queued IOBuffers into the sndBuffer.
+         *
+         * @return true if all IOBuffers are copied.
+         */
+        private boolean fillSndBuffer() {
+            for (; ; ) {
+                if (pendingIOBuffer == null) {
+                    // the writeQueue is guaranteed to have only IOBuffers if the writer isn't set.
+                    pendingIOBuffer = (IOBuffer) writeQueue.poll();
+                    if (pendingIOBuffer == null) {
+                        return true;
+                    }
+                }
+
+                ByteBuffer src = pendingIOBuffer.byteBuffer();
+                put(sndBuffer, src);
+                if (src.hasRemaining()) {
+                    // the sndBuffer is full.
+                    return false;
+                }
+                pendingIOBuffer.release();
+                pendingIOBuffer = null;
+            }
+        }
+
+        private void handleSend(int res) throws IOException {
+            sendInFlight = false;
+            if (res < 0) {
+                throw newIOException("Failed to send", res);
+            }
+
+            metrics.incBytesWritten(res);
+            sndBuffer.position(sndBuffer.position() + res);
+            compactOrClear(sndBuffer);
+            handleWrite();
+        }
+
+        // Is called when side of the socket that initiates the connect
+        // gets the completion of the connect.
+        private void handleConnect(int res) throws IOException {
+            try {
+                assert flushThread.get() != null;
+
+                if (res < 0) {
+                    throw newIOException("Failed to connect", res);
+                }
+
+                connected = true;
+                remoteAddress = IOUring.remoteAddress(fd);
+                localAddress = IOUring.localAddress(fd);
+                if (logger.isInfoEnabled()) {
+                    logger.info("Connection established " + IOUringAsyncSocket.this);
+                }
+
+                armRecv();
+
+                connectFuture.complete(null);
+                connectFuture = null;
+
+                // From this point on, the socket is willing to send data.
+                resetFlushed();
+            } catch (Throwable e) {
+                if (connectFuture != null) {
+                    connectFuture.completeExceptionally(e);
+                }
+                throw sneakyThrow(e);
+            }
+        }
+
+        private void releaseWriteQueue() {
+            if (pendingIOBuffer != null) {
+                pendingIOBuffer.release();
+                pendingIOBuffer = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.tpcengine.iouring;
+
+import com.hazelcast.internal.tpcengine.Eventloop;
+import com.hazelcast.internal.tpcengine.Scheduler;
+import com.hazelcast.internal.tpcengine.util.NanoClock;
+import org.jctools.queues.MpmcArrayQueue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.IORING_CQE_BUFFER_SHIFT;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.IORING_CQE_F_BUFFER;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.IORING_CQE_F_MORE;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.checkResult;
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.newIOException;
+
+/**
+ * io_uring specific Eventloop implementation.
+ * <p/>
+ * Requests are only prepared while the eventloop is processing completions
+ * and tasks; they are submitted in a single io_uring_enter at the start of
+ * the next iteration, which also waits for completions if there is no other
+ * work.
+ * <p/>
+ * The user data of a request contains the id of the {@link IOUringHandler}
+ * that submitted it and the operation. A handler id is only reused after
+ * the handler is deregistered and all its requests have completed, so a
+ * completion is never delivered to the wrong handler and the memory used by
+ * an in-flight request stays reachable.
+ */
+@SuppressWarnings({"checkstyle:MethodCount", "checkstyle:DeclarationOrder"})
+class IOUringEventloop extends Eventloop {
+
+    static final int OP_ACCEPT = 1;
+    static final int OP_RECV = 2;
+    static final int OP_SEND = 3;
+    static final int OP_CONNECT = 4;
+    static final int OP_CANCEL = 5;
+
+    private static final int OP_WAKEUP = 6;
+    private static final int OP_BITS = 8;
+    private static final long OP_MASK = (1 << OP_BITS) - 1;
+    // handler id 0 is used for the eventfd read that wakes up the eventloop.
+    private static final int WAKEUP_HANDLER_ID = 0;
+    private static final int INITIAL_HANDLER_CAPACITY = 64;
+    private static final int CQE_BATCH_SIZE = 512;
+    private static final int EVENTFD_VALUE_SIZE = 8;
+
+    final long ring;
+    final int eventfd;
+    private final int bufferSize;
+    private final ByteBuffer readBuffer;
+    private final ByteBuffer eventfdBuffer = ByteBuffer.allocateDirect(EVENTFD_VALUE_SIZE);
+    private final long[] cqes = new long[2 * CQE_BATCH_SIZE];
+
+    private IOUringHandler[] handlers = new IOUringHandler[INITIAL_HANDLER_CAPACITY];
+    private int[] pendingRequests = new int[INITIAL_HANDLER_CAPACITY];
+    private boolean[] deregistered = new boolean[INITIAL_HANDLER_CAPACITY];
+    private int[] freeIds = new int[INITIAL_HANDLER_CAPACITY];
+    private int freeIdCount;
+    private int nextId = WAKEUP_HANDLER_ID + 1;
+
+    IOUringEventloop(IOUringReactor reactor, IOUringReactorBuilder builder) {
+        super(reactor, builder);
+
+        try {
+            this.ring = IOUring.setup(builder.entries, builder.bufferCount, builder.bufferSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            this.eventfd = checkResult("Failed to create eventfd", IOUring.eventfd());
+        } catch (IOException e) {
+            IOUring.exit(ring);
+            throw new UncheckedIOException(e);
+        }
+
+        this.bufferSize = builder.bufferSize;
+        this.readBuffer = IOUring.buffers(ring);
+        armWakeup();
+    }
+
+    @SuppressWarnings("java:S3776")
+    @Override
+    protected void run() throws Exception {
+        final NanoClock nanoClock0 = nanoClock;
+        final boolean spin0 = spin;
+        final long ring0 = ring;
+        final AtomicBoolean wakeupNeeded0 = wakeupNeeded;
+        final MpmcArrayQueue externalTaskQueue0 = externalTaskQueue;
+        final Scheduler scheduler0 = scheduler;
+
+        boolean moreWork = false;
+        do {
+            int res;
+            if (spin0 || moreWork) {
+                res = IOUring.enter(ring0, false, -1);
+            } else {
+                wakeupNeeded0.set(true);
+                if (externalTaskQueue0.isEmpty()) {
+                    if (earliestDeadlineNanos == -1) {
+                        res = IOUring.enter(ring0, true, -1);
+                    } else {
+                        long timeoutNanos = earliestDeadlineNanos - nanoClock0.nanoTime();
+                        res = timeoutNanos <= 0
+                                ? IOUring.enter(ring0, false, -1)
+                                : IOUring.enter(ring0, true, timeoutNanos);
+                    }
+                    // we need to update the clock because we could have been blocked for quite
+                    // some time and clock could be very much out of sync.
+                    nanoClock0.update();
+                } else {
+                    res = IOUring.enter(ring0, false, -1);
+                }
+                wakeupNeeded0.set(false);
+            }
+
+            if (res < 0) {
+                throw newIOException("io_uring_enter failed", res);
+            }
+
+            processCompletions();
+
+            moreWork = runExternalTasks();
+            moreWork |= scheduler0.tick();
+            moreWork |= runScheduledTasks();
+            moreWork |= runLocalTasks();
+        } while (!stop);
+    }
+
+    private void processCompletions() {
+        final long ring0 = ring;
+        final long[] cqes0 = cqes;
+        int count;
+        do {
+            count = IOUring.harvest(ring0, cqes0);
+            for (int k = 0; k < count; k++) {
+                long userData = cqes0[2 * k];
+                long resAndFlags = cqes0[2 * k + 1];
+                complete(userData, (int) (resAndFlags >> Integer.SIZE), (int) resAndFlags);
+            }
+        } while (count == CQE_BATCH_SIZE);
+    }
+
+    @SuppressWarnings("java:S1181")
+    private void complete(long userData, int res, int flags) {
+        int id = (int) (userData >>> OP_BITS);
+        int op = (int) (userData & OP_MASK);
+
+        if (id == WAKEUP_HANDLER_ID) {
+            armWakeup();
+            return;
+        }
+
+        if ((flags & IORING_CQE_F_MORE) == 0) {
+            // the last completion of the request
+            pendingRequests[id]--;
+        }
+
+        try {
+            if (deregistered[id]) {
+                if (pendingRequests[id] == 0) {
+                    free(id);
+                }
+                return;
+            }
+
+            IOUringHandler handler = handlers[id];
+            try {
+                handler.handle(op, res, flags);
+            } catch (Throwable e) {
+                handler.close(null, e);
+            }
+        } finally {
+            // the provided buffer is recycled no matter if and how the completion was handled.
+            if ((flags & IORING_CQE_F_BUFFER) != 0) {
+                IOUring.recycleBuffer(ring, flags >>> IORING_CQE_BUFFER_SHIFT);
+            }
+        }
+    }
+
+    private void armWakeup() {
+        eventfdBuffer.clear();
+        checkPrepared(IOUring.prepRead(ring, eventfd, eventfdBuffer, EVENTFD_VALUE_SIZE,
+                userData(WAKEUP_HANDLER_ID, OP_WAKEUP)));
+    }
+
+    /**
+     * Returns the data received in a provided buffer.
+     * <p/>
+     * The returned ByteBuffer is reused for every completion and the buffer is
+     * recycled as soon as the completion is handled, so the data needs to be
+     * consumed or copied before returning from the handler.
+     *
+     * @param flags  the flags of the completion.
+     * @param length the number of bytes received.
+     * @return the ByteBuffer with the position and limit set to the data.
+     */
+    ByteBuffer receivedData(int flags, int length) {
+        int offset = (flags >>> IORING_CQE_BUFFER_SHIFT) * bufferSize;
+        readBuffer.limit(offset + length).position(offset);
+        return readBuffer;
+    }
+
+    int register(IOUringHandler handler) {
+        int id;
+        if (freeIdCount > 0) {
+            id = freeIds[--freeIdCount];
+        } else {
+            id = nextId++;
+            if (id == handlers.length) {
+                int newCapacity = handlers.length * 2;
+                handlers = Arrays.copyOf(handlers, newCapacity);
+                pendingRequests = Arrays.copyOf(pendingRequests, newCapacity);
+                deregistered = Arrays.copyOf(deregistered, newCapacity);
+                freeIds = Arrays.copyOf(freeIds, newCapacity);
+            }
+        }
+
+        handlers[id] = handler;
+        pendingRequests[id] = 0;
+        deregistered[id] = false;
+        return id;
+    }
+
+    /**
+     * Deregisters the handler. Completions of pending requests are ignored
+     * from now on.
+     */
+    void deregister(int id) {
+        if (deregistered[id]) {
+            return;
+        }
+
+        deregistered[id] = true;
+        if (pendingRequests[id] == 0) {
+            free(id);
+        }
+    }
+
+    private void free(int id) {
+        handlers[id] = null;
+        freeIds[freeIdCount++] = id;
+    }
+
+    void acceptMultishot(int id, int fd) {
+        prepared(id, IOUring.prepAcceptMultishot(ring, fd, userData(id, OP_ACCEPT)));
+    }
+
+    void recvMultishot(int id, int fd) {
+        prepared(id, IOUring.prepRecvMultishot(ring, fd, userData(id, OP_RECV)));
+    }
+
+    void send(int id, int fd, ByteBuffer buffer) {
+        prepared(id, IOUring.prepSend(ring, fd, buffer, buffer.position(), buffer.remaining(), userData(id, OP_SEND)));
+    }
+
+    void connect(int id, int fd, ByteBuffer sockaddr, byte[] addr, int port) {
+        prepared(id, IOUring.prepConnect(ring, fd, sockaddr, addr, port, userData(id, OP_CONNECT)));
+    }
+
+    void cancel(int id, int op) {
+        prepared(id, IOUring.prepCancel(ring, userData(id, op), userData(id, OP_CANCEL)));
+    }
+
+    /**
+     * Submits the prepared requests without waiting for completions. Needs
+     * to be called before closing a file descriptor that prepared requests
+     * refer to.
+     */
+    void submit() {
+        IOUring.enter(ring, false, -1);
+    }
+
+    private void prepared(int id, boolean prepared) {
+        checkPrepared(prepared);
+        pendingRequests[id]++;
+    }
+
+    private static void checkPrepared(boolean prepared) {
+        if (!prepared) {
+            throw new IllegalStateException("The io_uring submission queue is full");
+        }
+    }
+
+    private static long userData(int id, int op) {
+        return ((long) id << OP_BITS) | op;
+    }
+
+    @Override
+    protected void destroy() {
+        for (int id = WAKEUP_HANDLER_ID + 1; id < nextId; id++) {
+            IOUringHandler handler = handlers[id];
+            if (handler != null && !deregistered[id]) {
+                try {
+                    handler.close(reactor + " is terminating.", null);
+                } catch (Exception e) {
+                    logger.fine(e);
+                }
+            }
+        }
+
+        IOUring.close(eventfd);
+        IOUring.exit(ring);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.tpcengine.iouring;
+
+/**
+ * A handler that gets signalled when a request it submitted to the ring
+ * completes, for example data has arrived at a socket.
+ */
+public interface IOUringHandler {
+
+    /**
+     * Signals the Handler that socket should be closed.
+     *
+     * @param reason the reason (can be null).
+     * @param cause  the cause (can be null).
+     */
+    void close(String reason, Throwable cause);
+
+    /**
+     * Signals that a request completed.
+     *
+     * @param op    the operation the request was submitted for.
+     * @param res   the result of the request, a negative errno on failure.
+     * @param flags the flags of the completion.
+     * @throws Exception if handling lead to problems.
+     */
+    @SuppressWarnings("java:S112")
+    void handle(int op, int res, int flags) throws Exception;
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.tpcengine.iouring;
+
+import com.hazelcast.internal.tpcengine.Reactor;
+import com.hazelcast.internal.tpcengine.ReactorBuilder;
+import com.hazelcast.internal.tpcengine.ReactorType;
+
+import static com.hazelcast.internal.tpcengine.util.Preconditions.checkPositive;
+
+/**
+ * A {@link ReactorBuilder} that builds a {@link IOUringReactor}.
+ * <p/>
+ * All sockets of a reactor receive into a single ring of provided buffers.
+ * A socket only holds on to a buffer while its reader processes the data,
+ * so the buffer count bounds the number of receives that can complete in a
+ * single eventloop iteration, not the number of sockets.
+ */
+public class IOUringReactorBuilder extends ReactorBuilder {
+
+    public static final String NAME_IOURING_ENTRIES = "hazelcast.tpc.iouring.entries";
+    public static final String NAME_IOURING_BUFFER_COUNT = "hazelcast.tpc.iouring.buffer.count";
+    public static final String NAME_IOURING_BUFFER_SIZE = "hazelcast.tpc.iouring.buffer.size";
+
+    private static final int DEFAULT_ENTRIES = 4096;
+    private static final int DEFAULT_BUFFER_COUNT = 1024;
+    private static final int DEFAULT_BUFFER_SIZE = 16384;
+    // the kernel limit for the number of entries in a provided buffer ring.
+    private static final int MAX_BUFFER_COUNT = 32768;
+
+    int entries;
+    int bufferCount;
+    int bufferSize;
+
+    /**
+     * Creates a new IOUringReactorBuilder.
+     */
+    public IOUringReactorBuilder() {
+        super(ReactorType.IOURING);
+        this.entries = Integer.getInteger(NAME_IOURING_ENTRIES, DEFAULT_ENTRIES);
+        this.bufferCount = checkBufferCount(Integer.getInteger(NAME_IOURING_BUFFER_COUNT, DEFAULT_BUFFER_COUNT));
+        this.bufferSize = Integer.getInteger(NAME_IOURING_BUFFER_SIZE, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Sets the number of entries of the submission queue. The completion
+     * queue has twice as many entries.
+     *
+     * @param entries the number of entries.
+     * @throws IllegalArgumentException if entries not positive.
+     */
+    public void setEntries(int entries) {
+        this.entries = checkPositive(entries, "entries");
+    }
+
+    /**
+     * Sets the number of provided buffers used for receiving.
+     *
+     * @param bufferCount the number of buffers.
+     * @throws IllegalArgumentException if bufferCount isn't a power of 2 or larger than 32768.
+     */
+    public void setBufferCount(int bufferCount) {
+        this.bufferCount = checkBufferCount(bufferCount);
+    }
+
+    private static int checkBufferCount(int bufferCount) {
+        checkPositive(bufferCount, "bufferCount");
+        if (Integer.bitCount(bufferCount) != 1 || bufferCount > MAX_BUFFER_COUNT) {
+            throw new IllegalArgumentException("bufferCount should be a power of 2 not larger than "
+                    + MAX_BUFFER_COUNT + ", found " + bufferCount);
+        }
+        return bufferCount;
+    }
+
+    /**
+     * Sets the size of a single provided buffer.
+     *
+     * @param bufferSize the size in bytes.
+     * @throws IllegalArgumentException if bufferSize not positive.
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = checkPositive(bufferSize, "bufferSize");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException if io_uring isn't available.
+     */
+    @Override
+    public Reactor build() {
+        IOUring.ensureAvailable();
+
+        return new IOUringReactor(this);
+    }
+}
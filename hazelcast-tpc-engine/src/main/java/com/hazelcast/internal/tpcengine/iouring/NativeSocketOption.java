@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.tpcengine.iouring;
+
+import com.hazelcast.internal.tpcengine.Option;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static com.hazelcast.internal.tpcengine.iouring.IOUring.checkResult;
+import static com.hazelcast.internal.tpcengine.net.AsyncSocketOptions.SO_KEEPALIVE;
+import static com.hazelcast.internal.tpcengine.net.AsyncSocketOptions.SO_RCVBUF;
+import static com.hazelcast.internal.tpcengine.net.AsyncSocketOptions.SO_REUSEADDR;
+import static com.hazelcast.internal.tpcengine.net.AsyncSocketOptions.SO_REUSEPORT;
+import static com.hazelcast.internal.tpcengine.net.AsyncSocketOptions.SO_SNDBUF;
+import static com.hazelcast.internal.tpcengine.net.AsyncSocketOptions.TCP_KEEPCOUNT;
+import static com.hazelcast.internal.tpcengine.net.AsyncSocketOptions.TCP_KEEPIDLE;
+import static com.hazelcast.internal.tpcengine.net.AsyncSocketOptions.TCP_KEEPINTERVAL;
+import static com.hazelcast.internal.tpcengine.net.AsyncSocketOptions.TCP_NODELAY;
+
+/**
+ * A socket option that is set with setsockopt on the file descriptor of a
+ * socket.
+ */
+@SuppressWarnings({"checkstyle:cyclomaticcomplexity", "checkstyle:returncount"})
+final class NativeSocketOption {
+
+    private static final int SOL_SOCKET = 1;
+    private static final int IPPROTO_TCP = 6;
+
+    private static final NativeSocketOption NATIVE_SO_REUSEADDR = new NativeSocketOption(SOL_SOCKET, 2, true);
+    private static final NativeSocketOption NATIVE_SO_SNDBUF = new NativeSocketOption(SOL_SOCKET, 7, false);
+    private static final NativeSocketOption NATIVE_SO_RCVBUF = new NativeSocketOption(SOL_SOCKET, 8, false);
+    private static final NativeSocketOption NATIVE_SO_KEEPALIVE = new NativeSocketOption(SOL_SOCKET, 9, true);
+    private static final NativeSocketOption NATIVE_SO_REUSEPORT = new NativeSocketOption(SOL_SOCKET, 15, true);
+    private static final NativeSocketOption NATIVE_TCP_NODELAY = new NativeSocketOption(IPPROTO_TCP, 1, true);
+    private static final NativeSocketOption NATIVE_TCP_KEEPIDLE = new NativeSocketOption(IPPROTO_TCP, 4, false);
+    private static final NativeSocketOption NATIVE_TCP_KEEPINTVL = new NativeSocketOption(IPPROTO_TCP, 5, false);
+    private static final NativeSocketOption NATIVE_TCP_KEEPCNT = new NativeSocketOption(IPPROTO_TCP, 6, false);
+
+    private final int level;
+    private final int name;
+    private final boolean bool;
+
+    private NativeSocketOption(int level, int name, boolean bool) {
+        this.level = level;
+        this.name = name;
+        this.bool = bool;
+    }
+
+    static NativeSocketOption of(Option option) {
+        if (TCP_NODELAY.equals(option)) {
+            return NATIVE_TCP_NODELAY;
+        } else if (SO_RCVBUF.equals(option)) {
+            return NATIVE_SO_RCVBUF;
+        } else if (SO_SNDBUF.equals(option)) {
+            return NATIVE_SO_SNDBUF;
+        } else if (SO_KEEPALIVE.equals(option)) {
+            return NATIVE_SO_KEEPALIVE;
+        } else if (SO_REUSEADDR.equals(option)) {
+            return NATIVE_SO_REUSEADDR;
+        } else if (SO_REUSEPORT.equals(option)) {
+            return NATIVE_SO_REUSEPORT;
+        } else if (TCP_KEEPCOUNT.equals(option)) {
+            return NATIVE_TCP_KEEPCNT;
+        } else if (TCP_KEEPINTERVAL.equals(option)) {
+            return NATIVE_TCP_KEEPINTVL;
+        } else if (TCP_KEEPIDLE.equals(option)) {
+            return NATIVE_TCP_KEEPIDLE;
+        } else {
+            return null;
+        }
+    }
+
+    void set(int fd, Object value) {
+        int intValue = bool ? (((Boolean) value) ? 1 : 0) : (Integer) value;
+        try {
+            checkResult("Failed to set socket option", IOUring.setIntOption(fd, level, name, intValue));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    Object get(int fd) {
+        int value;
+        try {
+            value = checkResult("Failed to get socket option", IOUring.getIntOption(fd, level, name));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (bool) {
+            return value != 0;
+        } else if (this == NATIVE_SO_RCVBUF || this == NATIVE_SO_SNDBUF) {
+            // Linux doubles the buffer sizes to leave room for bookkeeping and reports the
+            // doubled value. Like the JDK, the value that was set is returned.
+            return value / 2;
+        } else {
+            return value;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.hazelcast.internal.tpcengine;
 
+import com.hazelcast.internal.tpcengine.iouring.IOUring;
 import com.hazelcast.internal.tpcengine.nio.NioReactorBuilder;
 import org.junit.Test;
 
@@ -31,6 +32,24 @@ public class TpcEngineBuilderTest {
         assertThrows(NullPointerException.class, () -> builder.setReactorBuilder(null));
     }
 
+    @Test
+    public void test_setReactorTypeWhenNull() {
+        TpcEngineBuilder builder = new TpcEngineBuilder();
+        assertThrows(NullPointerException.class, () -> builder.setReactorType(null));
+    }
+
+    @Test
+    public void test_setReactorType_ioUring() {
+        TpcEngine engine = new TpcEngineBuilder()
+                .setReactorCount(1)
+                .setReactorType(ReactorType.IOURING)
+                .build();
+
+        // falls back to nio if io_uring isn't available
+        ReactorType expected = IOUring.isAvailable() ? ReactorType.IOURING : ReactorType.NIO;
+        assertEquals(expected, engine.reactorType());
+    }
+
     @Test
     public void test_setReactorCountWhenZero() {
         TpcEngineBuilder builder = new TpcEngineBuilder();
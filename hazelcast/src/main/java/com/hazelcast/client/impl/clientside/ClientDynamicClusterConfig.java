@@ -105,6 +105,7 @@ import com.hazelcast.internal.config.ServicesConfig;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.jet.config.JetConfig;
+import com.hazelcast.query.impl.IndexUtils;
 
 import javax.annotation.Nonnull;
 import java.io.File;
@@ -140,6 +141,16 @@ public class ClientDynamicClusterConfig extends Config {
 
     @Override
     public Config addMapConfig(MapConfig mapConfig) {
+        mapConfig.getIndexConfigs().forEach(IndexUtils::checkNoIncludedAttributes);
+        if (mapConfig.isOffHeapStorageEnabled()) {
+            throw new UnsupportedOperationException("Off-heap storage cannot be enabled from a client: " + mapConfig);
+        }
+        if (mapConfig.isColumnarStorageEnabled()) {
+            throw new UnsupportedOperationException("Columnar storage cannot be enabled from a client: " + mapConfig);
+        }
+        if (mapConfig.isGetCoalescingEnabled()) {
+            throw new UnsupportedOperationException("Get coalescing cannot be enabled from a client: " + mapConfig);
+        }
         List<ListenerConfigHolder> listenerConfigs = adaptListenerConfigs(mapConfig.getEntryListenerConfigs());
         List<ListenerConfigHolder> partitionLostListenerConfigs =
                 adaptListenerConfigs(mapConfig.getPartitionLostListenerConfigs());
@@ -23,6 +23,7 @@ import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.util.Timer;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.ReadCoalescer;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
 import com.hazelcast.security.SecurityInterceptorConstants;
@@ -31,11 +32,14 @@ import com.hazelcast.security.permission.MapPermission;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.security.Permission;
+import java.util.concurrent.CompletableFuture;
 
 public class MapGetMessageTask
         extends AbstractMapPartitionMessageTask<MapGetCodec.RequestParameters> {
 
     private transient long startTimeNanos;
+    // taken before the task is queued on the partition thread
+    private final long arrivalSequence = ReadCoalescer.arrivalSequence();
 
     public MapGetMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
         super(clientMessage, node, connection);
@@ -59,6 +63,16 @@ public class MapGetMessageTask
         return operation;
     }
 
+    @Override
+    protected CompletableFuture<Object> processInternal() {
+        MapService mapService = getService(MapService.SERVICE_NAME);
+        ReadCoalescer readCoalescer = mapService.getMapServiceContext().getMapContainer(parameters.name).getReadCoalescer();
+        if (readCoalescer == null) {
+            return super.processInternal();
+        }
+        return readCoalescer.readQueued(parameters.key, getPartitionId(), arrivalSequence, super::processInternal);
+    }
+
     @Override
     protected void beforeProcess() {
         startTimeNanos = Timer.nanos();
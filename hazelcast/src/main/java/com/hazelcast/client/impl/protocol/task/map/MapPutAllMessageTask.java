@@ -16,10 +16,12 @@
 
 package com.hazelcast.client.impl.protocol.task.map;
 
+import com.hazelcast.client.impl.operations.OperationFactoryWrapper;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.codec.MapPutAllCodec;
 import com.hazelcast.instance.impl.Node;
 import com.hazelcast.internal.nio.Connection;
+import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.util.Timer;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapEntries;
@@ -30,10 +32,14 @@ import com.hazelcast.security.SecurityInterceptorConstants;
 import com.hazelcast.security.permission.ActionConstants;
 import com.hazelcast.security.permission.MapPermission;
 import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.impl.operationservice.OperationFactory;
 
 import java.security.Permission;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import static com.hazelcast.internal.util.CollectionUtil.asIntegerList;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
 
 public class MapPutAllMessageTask
@@ -53,6 +59,42 @@ public class MapPutAllMessageTask
         return operationProvider.createPutAllOperation(parameters.name, mapEntries, triggerMapLoader);
     }
 
+    /**
+     * Stores a request without a partition ID, as sent by the client
+     * {@link com.hazelcast.map.MapIngestPipeline} to members of version 6.0
+     * or later, on all partitions of its entries with a single operation per
+     * member.
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected CompletableFuture<Object> processInternal() {
+        if (getPartitionId() != -1) {
+            return super.processInternal();
+        }
+        IPartitionService partitionService = nodeEngine.getPartitionService();
+        Map<Integer, MapEntries> entriesByPartition = new HashMap<>();
+        for (Map.Entry<Data, Data> entry : parameters.entries) {
+            int partitionId = partitionService.getPartitionId(entry.getKey());
+            entriesByPartition.computeIfAbsent(partitionId, id -> new MapEntries()).add(entry.getKey(), entry.getValue());
+        }
+        int[] partitions = new int[entriesByPartition.size()];
+        MapEntries[] entries = new MapEntries[entriesByPartition.size()];
+        int index = 0;
+        for (Map.Entry<Integer, MapEntries> entry : entriesByPartition.entrySet()) {
+            partitions[index] = entry.getKey();
+            entries[index] = entry.getValue();
+            index++;
+        }
+
+        boolean triggerMapLoader = !parameters.isTriggerMapLoaderExists || parameters.triggerMapLoader;
+        OperationFactory factory = getMapOperationProvider(parameters.name)
+                .createPutAllOperationFactory(parameters.name, partitions, entries, triggerMapLoader);
+        // encodeResponse ignores the responses of the partitions
+        return (CompletableFuture) nodeEngine.getOperationService()
+                .invokeOnPartitionsAsync(getServiceName(), new OperationFactoryWrapper(factory, endpoint.getUuid()),
+                        asIntegerList(partitions));
+    }
+
     @Override
     protected MapPutAllCodec.RequestParameters decodeClientMessage(ClientMessage clientMessage) {
         return MapPutAllCodec.decodeRequest(clientMessage);
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.client.impl.proxy;
+
+import com.hazelcast.client.impl.clientside.HazelcastClientInstance;
+import com.hazelcast.client.impl.protocol.ClientMessage;
+import com.hazelcast.client.impl.protocol.codec.MapPutAllCodec;
+import com.hazelcast.client.impl.spi.ClientContext;
+import com.hazelcast.client.impl.spi.impl.ClientInvocation;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.AbstractMapIngestPipeline;
+import com.hazelcast.map.impl.MapEntries;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.internal.cluster.Versions.V6_0;
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
+
+/**
+ * The {@link com.hazelcast.map.MapIngestPipeline} of the client map proxy.
+ * <p>
+ * A batch is sent as a single {@link MapPutAllCodec} request without a
+ * partition ID to the member owning its partitions, which stores the entries
+ * on all of them, instead of a request per partition. Members older than 6.0
+ * don't handle such requests, so the batches of their partitions, as well as
+ * of the partitions whose owner isn't connected, are sent as one request per
+ * partition, like {@link ClientMapProxy#putAll} does.
+ */
+final class ClientMapIngestPipeline<K, V> extends AbstractMapIngestPipeline<K, V, UUID> {
+
+    private final ClientMapProxy<K, V> proxy;
+    private final HazelcastClientInstance client;
+    private final ClientContext context;
+    private final boolean triggerMapLoader;
+
+    ClientMapIngestPipeline(ClientMapProxy<K, V> proxy, HazelcastClientInstance client, int batchSize,
+                            int maxInFlightBatches, long flushDelay, @Nonnull TimeUnit flushDelayUnit,
+                            boolean triggerMapLoader) {
+        super(batchSize, maxInFlightBatches, flushDelay, flushDelayUnit);
+        this.proxy = proxy;
+        this.client = client;
+        this.triggerMapLoader = triggerMapLoader;
+        this.context = proxy.getContext();
+        start(context.getTaskScheduler());
+    }
+
+    @Override
+    protected Data toKeyData(Object key) {
+        return context.getSerializationService().toData(key);
+    }
+
+    @Override
+    protected Data toValueData(Object value) {
+        return context.getSerializationService().toData(value);
+    }
+
+    @Override
+    protected int getPartitionId(Data key) {
+        return context.getPartitionService().getPartitionId(key);
+    }
+
+    @Nullable
+    @Override
+    protected UUID getOwner(int partitionId) {
+        UUID owner = context.getPartitionService().getPartitionOwner(partitionId);
+        if (owner == null || context.getConnectionManager().getActiveConnection(owner) == null) {
+            return null;
+        }
+        return owner;
+    }
+
+    @Override
+    protected CompletionStage<?> send(@Nullable UUID owner, @Nonnull Map<Integer, MapEntries> entriesByPartition) {
+        Member member = owner == null ? null : context.getClusterService().getMember(owner);
+        CompletableFuture<?> future = member == null || member.getVersion().asVersion().isLessThan(V6_0)
+                ? sendPerPartition(entriesByPartition)
+                : sendToMember(owner, entriesByPartition);
+        return future.whenCompleteAsync((response, t) -> proxy.finalizeIngestedBatch(entriesByPartition.values()),
+                CALLER_RUNS);
+    }
+
+    private CompletableFuture<?> sendToMember(UUID owner, Map<Integer, MapEntries> entriesByPartition) {
+        List<Map.Entry<Data, Data>> entries = new ArrayList<>();
+        for (MapEntries partitionEntries : entriesByPartition.values()) {
+            partitionEntries.putAllToList(entries);
+        }
+        ClientMessage request = MapPutAllCodec.encodeRequest(proxy.getName(), entries, triggerMapLoader);
+        return new ClientInvocation(client, request, proxy.getName(), owner).invoke();
+    }
+
+    private CompletableFuture<?> sendPerPartition(Map<Integer, MapEntries> entriesByPartition) {
+        CompletableFuture<?>[] futures = new CompletableFuture[entriesByPartition.size()];
+        int index = 0;
+        for (Map.Entry<Integer, MapEntries> entry : entriesByPartition.entrySet()) {
+            List<Map.Entry<Data, Data>> entries = new ArrayList<>(entry.getValue().size());
+            entry.getValue().putAllToList(entries);
+            ClientMessage request = MapPutAllCodec.encodeRequest(proxy.getName(), entries, triggerMapLoader);
+            futures[index++] = new ClientInvocation(client, request, proxy.getName(), entry.getKey()).invoke();
+        }
+        return CompletableFuture.allOf(futures);
+    }
+}
@@ -127,11 +127,13 @@ import com.hazelcast.map.IMap;
 import com.hazelcast.map.IMapEvent;
 import com.hazelcast.map.LocalMapStats;
 import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.MapIngestPipeline;
 import com.hazelcast.map.MapInterceptor;
 import com.hazelcast.map.MapPartitionLostEvent;
 import com.hazelcast.map.QueryCache;
 import com.hazelcast.map.impl.DataAwareEntryEvent;
 import com.hazelcast.map.impl.ListenerAdapter;
+import com.hazelcast.map.impl.MapEntries;
 import com.hazelcast.map.impl.SimpleEntryView;
 import com.hazelcast.map.impl.querycache.subscriber.QueryCacheEndToEndProvider;
 import com.hazelcast.map.impl.querycache.subscriber.QueryCacheRequest;
@@ -1363,6 +1365,7 @@ public class ClientMapProxy<K, V> extends ClientProxy
     @Override
     public void addIndex(IndexConfig indexConfig) {
         checkNotNull(indexConfig, "Index config cannot be null.");
+        IndexUtils.checkNoIncludedAttributes(indexConfig);
 
         IndexConfig indexConfig0 = IndexUtils.validateAndNormalize(name, indexConfig);
 
@@ -1700,6 +1703,17 @@ public class ClientMapProxy<K, V> extends ClientProxy
     protected void finalizePutAll(Map<? extends K, ? extends V> map, Map<Integer, List<Entry<Data, Data>>> entryMap) {
     }
 
+    @Override
+    public MapIngestPipeline<K, V> newIngestPipeline(int batchSize, int maxInFlightBatches,
+                                                     long flushDelay, @Nonnull TimeUnit flushDelayUnit) {
+        checkNotNull(flushDelayUnit, "Null flushDelayUnit is not allowed");
+        return new ClientMapIngestPipeline<>(this, getClient(), batchSize, maxInFlightBatches, flushDelay, flushDelayUnit,
+                true);
+    }
+
+    protected void finalizeIngestedBatch(Collection<MapEntries> entries) {
+    }
+
     public CompletableFuture<Void> putAllWithMetadataAsync(@Nonnull Collection<? extends EntryView<K, V>> entries) {
         checkNotNull(entries, "Null argument entries is not allowed");
         ClientPartitionService partitionService = getContext().getPartitionService();
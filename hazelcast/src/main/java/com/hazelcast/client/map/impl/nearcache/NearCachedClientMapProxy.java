@@ -40,6 +40,7 @@ import com.hazelcast.internal.util.CollectionUtil;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.LocalMapStats;
+import com.hazelcast.map.impl.MapEntries;
 import com.hazelcast.map.impl.SimpleEntryView;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
@@ -575,6 +576,16 @@ public class NearCachedClientMapProxy<K, V> extends ClientMapProxy<K, V> {
         }
     }
 
+    @Override
+    protected void finalizeIngestedBatch(Collection<MapEntries> entries) {
+        for (MapEntries mapEntries : entries) {
+            for (int i = 0; i < mapEntries.size(); i++) {
+                Data key = mapEntries.getKey(i);
+                invalidateNearCache(serializeKeys ? key : toObject(key));
+            }
+        }
+    }
+
     @Override
     protected void finalizePutAll(
             Collection<? extends EntryView<K, V>> entries,
@@ -162,6 +162,19 @@ public final class ClientProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.client.io.write.through", true);
 
+    /**
+     * Optimization that lets the outbound pipeline of a connection that has more
+     * data to send than fits in its send buffer, fill up to 4 send buffers and
+     * write them with a single gathering write, instead of writing a single send
+     * buffer and waiting for the socket to become writable again. This reduces
+     * the number of write calls and selector wakeups under load at the cost of
+     * extra send buffers per busy connection.
+     * <p>
+     * It is disabled by default.
+     */
+    public static final HazelcastProperty IO_WRITE_GATHERING_ENABLED
+            = new HazelcastProperty("hazelcast.client.io.write.gathering", false);
+
     /**
      * Property needed for concurrency detection so that write through and dynamic response handling
      * can be done correctly. This property sets the window the concurrency detection will signalling
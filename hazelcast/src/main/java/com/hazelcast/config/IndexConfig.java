@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.readNullableList;
 import static com.hazelcast.internal.serialization.impl.SerializationUtil.writeNullableList;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
@@ -42,6 +43,12 @@ import static com.hazelcast.internal.util.Preconditions.checkNotNull;
  * for low cardinality attributes at the cost of reduced query performance.
  * <p>
  * Index could be created on one or more attributes.
+ * <p>
+ * Sorted and hash indexes may additionally include attributes which are not
+ * indexed but stored in the index entries along with the indexed ones. A query
+ * which only reads indexed and included attributes, for instance a projection
+ * of such attributes, is then answered from the index entries without
+ * deserializing the map values.
  *
  * @see com.hazelcast.config.IndexType
  * @see com.hazelcast.config.MapConfig#setIndexConfigs(List)
@@ -59,6 +66,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
     /** Indexed attributes. */
     private List<String> attributes;
 
+    /** Attributes stored in the index entries without being indexed. */
+    private List<String> includedAttributes;
+
     private BitmapIndexOptions bitmapIndexOptions;
 
     private BTreeIndexConfig bTreeIndexConfig = new BTreeIndexConfig();
@@ -101,6 +111,12 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         for (String attribute : other.getAttributes()) {
             addAttributeInternal(attribute);
         }
+
+        if (other.includedAttributes != null) {
+            for (String includedAttribute : other.includedAttributes) {
+                addIncludedAttributeInternal(includedAttribute);
+            }
+        }
     }
 
     /**
@@ -202,6 +218,67 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         return this;
     }
 
+    /**
+     * Gets attributes included in the index entries.
+     * <p>
+     * Included attributes are not indexed, so they cannot be used to look up
+     * the index, but their values are stored in the index entries. A query
+     * which reads only indexed and included attributes is answered from the
+     * index without deserializing the map values. Included attributes are
+     * supported by sorted and hash indexes only.
+     *
+     * @return Included attributes.
+     */
+    public List<String> getIncludedAttributes() {
+        if (includedAttributes == null) {
+            includedAttributes = new ArrayList<>();
+        }
+
+        return includedAttributes;
+    }
+
+    /**
+     * Adds an attribute to be included in the index entries.
+     *
+     * @param attribute Attribute name.
+     * @return This instance for chaining.
+     * @see #getIncludedAttributes()
+     */
+    public IndexConfig addIncludedAttribute(String attribute) {
+        addIncludedAttributeInternal(attribute);
+
+        return this;
+    }
+
+    private void addIncludedAttributeInternal(String attribute) {
+        IndexUtils.validateAttribute(attribute);
+
+        if (includedAttributes == null) {
+            includedAttributes = new ArrayList<>();
+        }
+
+        includedAttributes.add(attribute);
+    }
+
+    /**
+     * Sets attributes to be included in the index entries.
+     *
+     * @param includedAttributes Included attributes.
+     * @return This instance for chaining.
+     * @see #getIncludedAttributes()
+     */
+    public IndexConfig setIncludedAttributes(List<String> includedAttributes) {
+        checkNotNull(includedAttributes, "Included attributes cannot be null.");
+
+        this.includedAttributes = new ArrayList<>(includedAttributes.size());
+
+        for (String includedAttribute : includedAttributes) {
+            addIncludedAttributeInternal(includedAttribute);
+        }
+
+        return this;
+    }
+
     /**
      * Provides access to index options specific to bitmap indexes.
      *
@@ -260,6 +337,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         writeNullableList(attributes, out);
         out.writeObject(bitmapIndexOptions);
         out.writeObject(bTreeIndexConfig);
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            writeNullableList(includedAttributes, out);
+        }
     }
 
     @Override
@@ -269,6 +349,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
         attributes = readNullableList(in);
         bitmapIndexOptions = in.readObject();
         bTreeIndexConfig = in.readObject();
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            includedAttributes = readNullableList(in);
+        }
     }
 
     @Override
@@ -299,6 +382,10 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
             return false;
         }
 
+        if (!getIncludedAttributes().equals(that.getIncludedAttributes())) {
+            return false;
+        }
+
         return getAttributes().equals(that.getAttributes());
     }
 
@@ -308,6 +395,7 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
 
         result = 31 * result + (type != null ? type.hashCode() : 0);
         result = 31 * result + getAttributes().hashCode();
+        result = 31 * result + getIncludedAttributes().hashCode();
         result = 31 * result + getBitmapIndexOptions().hashCode();
         result = 31 * result + getBTreeIndexConfig().hashCode();
 
@@ -317,6 +405,9 @@ public class IndexConfig implements IdentifiedDataSerializable, Versioned {
     @Override
     public String toString() {
         String string = "IndexConfig{name=" + name + ", type=" + type + ", attributes=" + getAttributes();
+        if (includedAttributes != null && !includedAttributes.isEmpty()) {
+            string += ", includedAttributes=" + includedAttributes;
+        }
         if (bitmapIndexOptions != null && !bitmapIndexOptions.areDefault()) {
             string += ", bitmapIndexOptions=" + bitmapIndexOptions;
         }
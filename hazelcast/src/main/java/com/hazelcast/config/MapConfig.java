@@ -100,6 +100,18 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
      * Default value of whether per entry statistics are enabled or not
      */
     public static final boolean DEFAULT_ENTRY_STATS_ENABLED = false;
+    /**
+     * Default value of whether off-heap storage is enabled or not
+     */
+    public static final boolean DEFAULT_OFF_HEAP_STORAGE_ENABLED = false;
+    /**
+     * Default value of whether columnar storage is enabled or not
+     */
+    public static final boolean DEFAULT_COLUMNAR_STORAGE_ENABLED = false;
+    /**
+     * Default value of whether get coalescing is enabled or not
+     */
+    public static final boolean DEFAULT_GET_COALESCING_ENABLED = false;
     /**
      * Default max size.
      */
@@ -118,6 +130,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
     private boolean readBackupData;
     private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
     private boolean perEntryStatsEnabled = DEFAULT_ENTRY_STATS_ENABLED;
+    private boolean offHeapStorageEnabled = DEFAULT_OFF_HEAP_STORAGE_ENABLED;
+    private boolean columnarStorageEnabled = DEFAULT_COLUMNAR_STORAGE_ENABLED;
+    private boolean getCoalescingEnabled = DEFAULT_GET_COALESCING_ENABLED;
     private int backupCount = DEFAULT_BACKUP_COUNT;
     private int asyncBackupCount = MIN_BACKUP_COUNT;
     private int timeToLiveSeconds = DEFAULT_TTL_SECONDS;
@@ -173,6 +188,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         this.cacheDeserializedValues = config.cacheDeserializedValues;
         this.statisticsEnabled = config.statisticsEnabled;
         this.perEntryStatsEnabled = config.perEntryStatsEnabled;
+        this.offHeapStorageEnabled = config.offHeapStorageEnabled;
+        this.columnarStorageEnabled = config.columnarStorageEnabled;
+        this.getCoalescingEnabled = config.getCoalescingEnabled;
         this.mergePolicyConfig = new MergePolicyConfig(config.mergePolicyConfig);
         this.wanReplicationRef = config.wanReplicationRef != null ? new WanReplicationRef(config.wanReplicationRef) : null;
         this.entryListenerConfigs = new ArrayList<>(config.getEntryListenerConfigs());
@@ -491,6 +509,117 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         return this;
     }
 
+    /**
+     * Checks if the record stores of this map keep their keys, values and
+     * record metadata in off-heap memory.
+     *
+     * @return {@code true} if off-heap storage is enabled, {@code false} otherwise
+     * @since 6.0
+     */
+    public boolean isOffHeapStorageEnabled() {
+        return offHeapStorageEnabled;
+    }
+
+    /**
+     * Set to enable/disable off-heap storage for this map.
+     * Its default value is {@code false}.
+     * <p>
+     * When you enable off-heap storage, the record stores of this map keep
+     * their keys, values and record metadata in off-heap memory instead of
+     * on the Java heap. It only applies to the {@link InMemoryFormat#BINARY}
+     * in-memory format. The members on which native memory access is not
+     * available use on-heap storage.
+     *
+     * @param offHeapStorageEnabled {@code true} to enable
+     *                              off-heap storage, {@code false} to disable
+     * @return the current map config instance
+     * @since 6.0
+     */
+    public MapConfig setOffHeapStorageEnabled(boolean offHeapStorageEnabled) {
+        this.offHeapStorageEnabled = offHeapStorageEnabled;
+        return this;
+    }
+
+    /**
+     * Checks if the record stores of this map keep a columnar copy of the
+     * Compact values.
+     *
+     * @return {@code true} if columnar storage is enabled, {@code false} otherwise
+     * @since 6.0
+     */
+    public boolean isColumnarStorageEnabled() {
+        return columnarStorageEnabled;
+    }
+
+    /**
+     * Set to enable/disable columnar storage for this map.
+     * Its default value is {@code false}.
+     * <p>
+     * When you enable columnar storage, the record stores of this map
+     * additionally keep the fields of Compact values in a columnar layout:
+     * primitive column chunks, dictionary-encoded strings and per-chunk
+     * min/max zone maps. Predicate queries, partition iterators with a
+     * predicate and aggregations scanning the map skip the chunks that the
+     * zone maps rule out and read the column values instead of the
+     * serialized values. The aggregators still accumulate the values entry
+     * by entry. Point operations keep using the regular records.
+     * <p>
+     * The columnar copy is kept in addition to the records, so the map
+     * needs up to twice the memory of its values. SQL queries don't use the
+     * columnar copy, they scan the records.
+     * <p>
+     * It only applies to the {@link InMemoryFormat#BINARY} in-memory format
+     * and on-heap storage. A partition falls back to the regular scan as
+     * soon as it holds a value which is not Compact or has another schema
+     * than the first Compact value stored in it.
+     *
+     * @param columnarStorageEnabled {@code true} to enable
+     *                               columnar storage, {@code false} to disable
+     * @return the current map config instance
+     * @since 6.0
+     */
+    public MapConfig setColumnarStorageEnabled(boolean columnarStorageEnabled) {
+        this.columnarStorageEnabled = columnarStorageEnabled;
+        return this;
+    }
+
+    /**
+     * Checks if concurrent gets of the same key are coalesced for this map.
+     *
+     * @return {@code true} if get coalescing is enabled, {@code false} otherwise
+     * @since 6.0
+     */
+    public boolean isGetCoalescingEnabled() {
+        return getCoalescingEnabled;
+    }
+
+    /**
+     * Set to enable/disable get coalescing for this map.
+     * Its default value is {@code false}.
+     * <p>
+     * When you enable get coalescing, concurrent {@code get} calls for the
+     * same key are coalesced: while a get operation for a key is queued on
+     * the partition thread, other {@code get} calls for that key don't
+     * invoke their own operation but receive the response of the queued
+     * one. Only gets of partitions owned by the member that receives them
+     * are coalesced, i.e. the calls of smart clients and of member-side
+     * proxies reading local partitions. A coalesced get never returns a
+     * value older than the one it would have read on its own.
+     * <p>
+     * The {@code coalescedGetCount}, {@code coalescingGetOperationCount}
+     * and {@code getCoalescingRatio} map metrics report the effect when
+     * {@linkplain #setStatisticsEnabled(boolean) statistics} are enabled.
+     *
+     * @param getCoalescingEnabled {@code true} to enable
+     *                             get coalescing, {@code false} to disable
+     * @return the current map config instance
+     * @since 6.0
+     */
+    public MapConfig setGetCoalescingEnabled(boolean getCoalescingEnabled) {
+        this.getCoalescingEnabled = getCoalescingEnabled;
+        return this;
+    }
+
     /**
      * Checks if read-backup-data (reading local backup entries) is enabled for this map.
      *
@@ -899,6 +1028,15 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (perEntryStatsEnabled != that.perEntryStatsEnabled) {
             return false;
         }
+        if (offHeapStorageEnabled != that.offHeapStorageEnabled) {
+            return false;
+        }
+        if (columnarStorageEnabled != that.columnarStorageEnabled) {
+            return false;
+        }
+        if (getCoalescingEnabled != that.getCoalescingEnabled) {
+            return false;
+        }
         if (!name.equals(that.name)) {
             return false;
         }
@@ -993,6 +1131,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         result = 31 * result + getPartitionLostListenerConfigs().hashCode();
         result = 31 * result + (statisticsEnabled ? 1 : 0);
         result = 31 * result + (perEntryStatsEnabled ? 1 : 0);
+        result = 31 * result + (offHeapStorageEnabled ? 1 : 0);
+        result = 31 * result + (columnarStorageEnabled ? 1 : 0);
+        result = 31 * result + (getCoalescingEnabled ? 1 : 0);
         result = 31 * result + (partitioningStrategyConfig != null ? partitioningStrategyConfig.hashCode() : 0);
         result = 31 * result + (splitBrainProtectionName != null ? splitBrainProtectionName.hashCode() : 0);
         result = 31 * result + merkleTreeConfig.hashCode();
@@ -1033,6 +1174,9 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
                 + ", cacheDeserializedValues=" + cacheDeserializedValues
                 + ", statisticsEnabled=" + statisticsEnabled
                 + ", entryStatsEnabled=" + perEntryStatsEnabled
+                + ", offHeapStorageEnabled=" + offHeapStorageEnabled
+                + ", columnarStorageEnabled=" + columnarStorageEnabled
+                + ", getCoalescingEnabled=" + getCoalescingEnabled
                 + ", tieredStoreConfig=" + tieredStoreConfig
                 + ", partitioningAttributeConfigs=" + partitioningAttributeConfigs
                 + ", userCodeNamespace=" + userCodeNamespace
@@ -1087,6 +1231,12 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (out.getVersion().isGreaterOrEqual(Versions.V5_4)) {
             out.writeString(userCodeNamespace);
         }
+
+        if (out.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            out.writeBoolean(offHeapStorageEnabled);
+            out.writeBoolean(columnarStorageEnabled);
+            out.writeBoolean(getCoalescingEnabled);
+        }
     }
 
     @Override
@@ -1127,5 +1277,11 @@ public class MapConfig implements IdentifiedDataSerializable, NamedConfig, Versi
         if (in.getVersion().isGreaterOrEqual(Versions.V5_4)) {
             userCodeNamespace = in.readString();
         }
+
+        if (in.getVersion().isGreaterOrEqual(Versions.V6_0)) {
+            offHeapStorageEnabled = in.readBoolean();
+            columnarStorageEnabled = in.readBoolean();
+            getCoalescingEnabled = in.readBoolean();
+        }
     }
 }
@@ -20,11 +20,13 @@ import com.hazelcast.internal.config.ConfigDataSerializerHook;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Objects;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.util.Preconditions.checkNotNegative;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.Preconditions.isNotNull;
@@ -33,7 +35,7 @@ import static com.hazelcast.internal.util.Preconditions.isNotNull;
  * Contains the configuration for a Near Cache.
  */
 @SuppressWarnings("checkstyle:methodcount")
-public class NearCacheConfig implements IdentifiedDataSerializable, Serializable, NamedConfig {
+public class NearCacheConfig implements IdentifiedDataSerializable, Serializable, NamedConfig, Versioned {
 
     /**
      * Default value for the in-memory format.
@@ -55,6 +57,11 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
      */
     public static final LocalUpdatePolicy DEFAULT_LOCAL_UPDATE_POLICY = LocalUpdatePolicy.INVALIDATE;
 
+    /**
+     * @see AdmissionPolicy#ALWAYS
+     */
+    public static final AdmissionPolicy DEFAULT_ADMISSION_POLICY = AdmissionPolicy.ALWAYS;
+
     /**
      * Default value of the time to live in seconds.
      */
@@ -87,6 +94,35 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         CACHE_ON_UPDATE
     }
 
+    /**
+     * Defines which entries fetched from the backing data structure are
+     * stored in a full Near Cache.
+     *
+     * @since 6.0
+     */
+    public enum AdmissionPolicy {
+        /**
+         * Every fetched entry is stored, the entry chosen by the
+         * {@link EvictionConfig#getEvictionPolicy() eviction policy}
+         * is evicted in its favour.
+         */
+        ALWAYS,
+
+        /**
+         * TinyLFU admission: the access frequency of recently read keys is
+         * estimated with a count-min sketch, and a fetched entry is only
+         * stored if its key was read more often than the key chosen by the
+         * {@link EvictionConfig#getEvictionPolicy() eviction policy} to be
+         * evicted in its favour.
+         * <p>
+         * This protects the Near Cache from being polluted by keys that are
+         * read only once, e.g. by scans, at the cost of not caching new hot
+         * keys until they were read a few times. It has no effect when the
+         * eviction policy is {@link EvictionPolicy#NONE}.
+         */
+        TINY_LFU
+    }
+
     private boolean cacheLocalEntries;
     private boolean serializeKeys = DEFAULT_SERIALIZE_KEYS;
     private boolean invalidateOnChange = DEFAULT_INVALIDATE_ON_CHANGE;
@@ -96,6 +132,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
     private EvictionConfig evictionConfig = new EvictionConfig();
     private InMemoryFormat inMemoryFormat = DEFAULT_MEMORY_FORMAT;
     private LocalUpdatePolicy localUpdatePolicy = DEFAULT_LOCAL_UPDATE_POLICY;
+    private AdmissionPolicy admissionPolicy = DEFAULT_ADMISSION_POLICY;
     private NearCachePreloaderConfig preloaderConfig = new NearCachePreloaderConfig();
 
     public NearCacheConfig() {
@@ -115,6 +152,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         this.evictionConfig = config.evictionConfig;
         this.cacheLocalEntries = config.cacheLocalEntries;
         this.localUpdatePolicy = config.localUpdatePolicy;
+        this.admissionPolicy = config.admissionPolicy;
         this.preloaderConfig = config.preloaderConfig;
     }
 
@@ -364,6 +402,28 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         return this;
     }
 
+    /**
+     * Returns the {@link AdmissionPolicy} of this Near Cache.
+     *
+     * @return the {@link AdmissionPolicy} of this Near Cache
+     * @since 6.0
+     */
+    public AdmissionPolicy getAdmissionPolicy() {
+        return admissionPolicy;
+    }
+
+    /**
+     * Sets the {@link AdmissionPolicy} of this Near Cache.
+     *
+     * @param admissionPolicy the {@link AdmissionPolicy} of this Near Cache
+     * @return this Near Cache config instance
+     * @since 6.0
+     */
+    public NearCacheConfig setAdmissionPolicy(AdmissionPolicy admissionPolicy) {
+        this.admissionPolicy = checkNotNull(admissionPolicy, "Admission policy cannot be null!");
+        return this;
+    }
+
     /**
      * Returns the {@link NearCachePreloaderConfig} of this Near Cache.
      *
@@ -405,6 +465,9 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         out.writeInt(localUpdatePolicy.ordinal());
         out.writeObject(evictionConfig);
         out.writeObject(preloaderConfig);
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            out.writeInt(admissionPolicy.ordinal());
+        }
     }
 
     @Override
@@ -418,6 +481,9 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         localUpdatePolicy = LocalUpdatePolicy.values()[in.readInt()];
         evictionConfig = in.readObject();
         preloaderConfig = in.readObject();
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            admissionPolicy = AdmissionPolicy.values()[in.readInt()];
+        }
     }
 
     @Override
@@ -431,6 +497,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
                 + ", evictionConfig=" + evictionConfig
                 + ", cacheLocalEntries=" + cacheLocalEntries
                 + ", localUpdatePolicy=" + localUpdatePolicy
+                + ", admissionPolicy=" + admissionPolicy
                 + ", preloaderConfig=" + preloaderConfig
                 + '}';
     }
@@ -474,6 +541,9 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         if (localUpdatePolicy != that.localUpdatePolicy) {
             return false;
         }
+        if (admissionPolicy != that.admissionPolicy) {
+            return false;
+        }
         return Objects.equals(preloaderConfig, that.preloaderConfig);
     }
 
@@ -489,6 +559,7 @@ public class NearCacheConfig implements IdentifiedDataSerializable, Serializable
         result = 31 * result + (evictionConfig != null ? evictionConfig.hashCode() : 0);
         result = 31 * result + (cacheLocalEntries ? 1 : 0);
         result = 31 * result + (localUpdatePolicy != null ? localUpdatePolicy.hashCode() : 0);
+        result = 31 * result + (admissionPolicy != null ? admissionPolicy.hashCode() : 0);
         result = 31 * result + (preloaderConfig != null ? preloaderConfig.hashCode() : 0);
         return result;
     }
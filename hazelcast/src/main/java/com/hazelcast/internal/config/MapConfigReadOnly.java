@@ -334,6 +334,21 @@ public class MapConfigReadOnly extends MapConfig {
         throw throwReadOnly();
     }
 
+    @Override
+    public MapConfig setOffHeapStorageEnabled(boolean offHeapStorageEnabled) {
+        throw throwReadOnly();
+    }
+
+    @Override
+    public MapConfig setColumnarStorageEnabled(boolean columnarStorageEnabled) {
+        throw throwReadOnly();
+    }
+
+    @Override
+    public MapConfig setGetCoalescingEnabled(boolean getCoalescingEnabled) {
+        throw throwReadOnly();
+    }
+
     @Override
     public MapConfig setReadBackupData(boolean readBackupData) {
         throw throwReadOnly();
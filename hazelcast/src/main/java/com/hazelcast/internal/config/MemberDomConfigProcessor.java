@@ -2005,6 +2005,12 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
                 mapConfig.setStatisticsEnabled(getBooleanValue(getTextContent(node)));
             } else if (matches("per-entry-stats-enabled", nodeName)) {
                 mapConfig.setPerEntryStatsEnabled(getBooleanValue(getTextContent(node)));
+            } else if (matches("off-heap-storage-enabled", nodeName)) {
+                mapConfig.setOffHeapStorageEnabled(getBooleanValue(getTextContent(node)));
+            } else if (matches("columnar-storage-enabled", nodeName)) {
+                mapConfig.setColumnarStorageEnabled(getBooleanValue(getTextContent(node)));
+            } else if (matches("get-coalescing-enabled", nodeName)) {
+                mapConfig.setGetCoalescingEnabled(getBooleanValue(getTextContent(node)));
             } else if (matches("cache-deserialized-values", nodeName)) {
                 CacheDeserializedValues cacheDeserializedValues = CacheDeserializedValues
                         .parseString(getTextContent(node));
@@ -3400,6 +3406,8 @@ public class MemberDomConfigProcessor extends AbstractDomConfigProcessor {
             } else if (matches("receive-window-multiplier", nodeName)) {
                 edgeConfig.setReceiveWindowMultiplier(
                         getIntegerValue("receive-window-multiplier", getTextContent(child)));
+            } else if (matches("compression-enabled", nodeName)) {
+                edgeConfig.setCompressionEnabled(getBooleanValue(getTextContent(child)));
             }
         }
     }
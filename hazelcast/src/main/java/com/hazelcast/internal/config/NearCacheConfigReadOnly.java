@@ -78,6 +78,11 @@ public class NearCacheConfigReadOnly extends NearCacheConfig {
         throw new UnsupportedOperationException("This config is read-only");
     }
 
+    @Override
+    public NearCacheConfig setAdmissionPolicy(AdmissionPolicy admissionPolicy) {
+        throw new UnsupportedOperationException("This config is read-only");
+    }
+
     @Override
     public NearCacheConfig setEvictionConfig(EvictionConfig evictionConfig) {
         throw new UnsupportedOperationException("This config is read-only");
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.memory.impl;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.MemoryManager;
+import com.hazelcast.memory.NativeOutOfMemoryError;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM;
+import static com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry.MEM_AVAILABLE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
+
+/**
+ * Memory manager which allocates blocks straight from the native heap through
+ * {@code Unsafe#allocateMemory()} and accesses them through the global
+ * {@link com.hazelcast.internal.memory.GlobalMemoryAccessorRegistry#MEM MEM} accessor.
+ * <p>
+ * There is no pooling: every {@code allocate()} is a {@code malloc()} and every
+ * {@code free()} is a {@code free()}. The manager only keeps track of the number
+ * of bytes currently allocated through it, so that the owner can report its
+ * native memory footprint. Blocks which are still allocated when the manager is
+ * disposed are <em>not</em> freed; it's the owner's duty to free them first.
+ */
+public class UnsafeMallocMemoryManager implements MemoryManager {
+
+    private final Allocator malloc = new Allocator();
+    private final AtomicLong usedMemory = new AtomicLong();
+
+    public UnsafeMallocMemoryManager() {
+        if (!isAvailable()) {
+            throw new IllegalStateException("Native memory access is not available on this platform");
+        }
+    }
+
+    /**
+     * @return {@code true} if both {@code Unsafe} and the global native
+     * memory accessor are available, so that this memory manager can be used.
+     */
+    public static boolean isAvailable() {
+        return UNSAFE_AVAILABLE && MEM_AVAILABLE;
+    }
+
+    @Override
+    public MemoryAllocator getAllocator() {
+        return malloc;
+    }
+
+    @Override
+    public MemoryAccessor getAccessor() {
+        return MEM;
+    }
+
+    /**
+     * @return the number of bytes currently allocated and not yet freed
+     */
+    public long getUsedMemory() {
+        return usedMemory.get();
+    }
+
+    @Override
+    public void dispose() {
+        malloc.dispose();
+    }
+
+    private final class Allocator implements MemoryAllocator {
+
+        @Override
+        public long allocate(long size) {
+            assert size > 0 : "UnsafeMallocMemoryManager.allocate(" + size + ")";
+            long address = malloc(size);
+            UNSAFE.setMemory(address, size, (byte) 0);
+            usedMemory.addAndGet(size);
+            return address;
+        }
+
+        @Override
+        public long reallocate(long address, long currentSize, long newSize) {
+            assert newSize > 0 : "UnsafeMallocMemoryManager.reallocate(" + newSize + ")";
+            long newAddress;
+            try {
+                newAddress = UNSAFE.reallocateMemory(address, newSize);
+            } catch (OutOfMemoryError e) {
+                throw new NativeOutOfMemoryError("Cannot reallocate " + newSize + " bytes of native memory", e);
+            }
+            if (newSize > currentSize) {
+                UNSAFE.setMemory(newAddress + currentSize, newSize - currentSize, (byte) 0);
+            }
+            usedMemory.addAndGet(newSize - currentSize);
+            return newAddress;
+        }
+
+        @Override
+        public void free(long address, long size) {
+            assert address != NULL_ADDRESS : "UnsafeMallocMemoryManager.free(NULL_ADDRESS)";
+            UNSAFE.freeMemory(address);
+            usedMemory.addAndGet(-size);
+        }
+
+        @Override
+        public void dispose() {
+            // nothing to do, blocks are owned and freed by the callers
+        }
+
+        private long malloc(long size) {
+            try {
+                return UNSAFE.allocateMemory(size);
+            } catch (OutOfMemoryError e) {
+                throw new NativeOutOfMemoryError("Cannot allocate " + size + " bytes of native memory", e);
+            }
+        }
+    }
+}
@@ -122,6 +122,9 @@ public final class MetricDescriptorConstants {
     public static final String EVENT_METRIC_EVENT_SERVICE_SYNC_DELIVERY_FAILURE_COUNT = "syncDeliveryFailureCount";
     public static final String EVENT_METRIC_EVENT_SERVICE_EVENT_QUEUE_SIZE = "eventQueueSize";
     public static final String EVENT_METRIC_EVENT_SERVICE_EVENTS_PROCESSED = "eventsProcessed";
+    public static final String EVENT_METRIC_EVENT_SERVICE_BATCH_COUNT = "batchCount";
+    public static final String EVENT_METRIC_EVENT_SERVICE_BATCHED_EVENT_COUNT = "batchedEventCount";
+    public static final String EVENT_METRIC_EVENT_SERVICE_PENDING_BATCHED_EVENT_COUNT = "pendingBatchedEventCount";
     public static final String EVENT_METRIC_EVENT_SERVICE_SEGMENT_LISTENER_COUNT = "listenerCount";
     public static final String EVENT_METRIC_EVENT_SERVICE_SEGMENT_PUBLICATION_COUNT = "publicationCount";
     // ===[/EVENT]======================================================
@@ -216,6 +219,9 @@ public final class MetricDescriptorConstants {
     public static final String MAP_METRIC_VALUES_COUNT = "valuesCount";
     public static final String MAP_METRIC_ENTRYSET_COUNT = "entrySetCount";
     public static final String MAP_METRIC_QUERY_LIMITER_HIT_COUNT = "queryLimiterHitCount";
+    public static final String MAP_METRIC_COALESCED_GET_COUNT = "coalescedGetCount";
+    public static final String MAP_METRIC_COALESCING_GET_OPERATION_COUNT = "coalescingGetOperationCount";
+    public static final String MAP_METRIC_GET_COALESCING_RATIO = "getCoalescingRatio";
     public static final String MAP_METRIC_CREATION_TIME = "creationTime";
     public static final String MAP_METRIC_OWNED_ENTRY_COUNT = "ownedEntryCount";
     public static final String MAP_METRIC_BACKUP_ENTRY_COUNT = "backupEntryCount";
@@ -254,6 +260,8 @@ public final class MetricDescriptorConstants {
     public static final String MAP_METRIC_INDEX_PARTITION_UPDATES_STARTED = "partitionUpdatesStarted";
     public static final String MAP_METRIC_INDEX_PARTITION_UPDATES_FINISHED = "partitionUpdatesFinished";
     public static final String MAP_METRIC_INDEX_NOT_READY_QUERY_COUNT = "notReadyQueryCount";
+    public static final String MAP_METRIC_INDEX_BUILD_ENTRY_COUNT = "buildEntryCount";
+    public static final String MAP_METRIC_INDEX_BUILD_FAILURE_COUNT = "buildFailureCount";
     public static final String MAP_METRIC_FULL_PARTITION_REPLICATION_COUNT = "fullPartitionReplicationCount";
     public static final String MAP_METRIC_DIFF_PARTITION_REPLICATION_COUNT = "differentialPartitionReplicationCount";
     public static final String MAP_METRIC_FULL_PARTITION_REPLICATION_RECORDS_COUNT
@@ -318,6 +326,8 @@ public final class MetricDescriptorConstants {
     public static final String NEARCACHE_METRIC_EXPIRATIONS = "expirations";
     public static final String NEARCACHE_METRIC_INVALIDATIONS = "invalidations";
     public static final String NEARCACHE_METRIC_INVALIDATION_REQUESTS = "invalidationRequests";
+    public static final String NEARCACHE_METRIC_ADMISSION_REJECTIONS = "admissionRejections";
+    public static final String NEARCACHE_METRIC_ADMISSION_REJECTION_RATIO = "admissionRejectionRatio";
     public static final String NEARCACHE_METRIC_PERSISTENCE_COUNT = "persistenceCount";
     public static final String NEARCACHE_METRIC_LAST_PERSISTENCE_TIME = "lastPersistenceTime";
     public static final String NEARCACHE_METRIC_LAST_PERSISTENCE_DURATION = "lastPersistenceDuration";
@@ -344,6 +354,8 @@ public final class MetricDescriptorConstants {
             "priorityWriteQueuePendingBytes";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS = "idleTimeMillis";
     public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SCHEDULED = "scheduled";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_CALLS = "writeCalls";
+    public static final String NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FRAMES_PER_WRITE = "framesPerWrite";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_PROCESS_COUNT = "processCount";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_OWNER_ID = "ownerId";
     public static final String NETWORKING_METRIC_NIO_PIPELINE_STARTED_MIGRATIONS = "startedMigrations";
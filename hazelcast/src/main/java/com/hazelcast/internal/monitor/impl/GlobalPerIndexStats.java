@@ -73,6 +73,8 @@ public class GlobalPerIndexStats implements PerIndexStats {
             "totalRemoveLatency");
     private static final AtomicLongFieldUpdater<GlobalPerIndexStats> VALUES_MEMORY_COST = newUpdater(GlobalPerIndexStats.class,
             "valuesMemoryCost");
+    private static final AtomicLongFieldUpdater<GlobalPerIndexStats> STORE_MEMORY_COST = newUpdater(GlobalPerIndexStats.class,
+            "storeMemoryCost");
     private static final AtomicLongFieldUpdater<GlobalPerIndexStats> PARTITIONS_INDEXED = newUpdater(GlobalPerIndexStats.class,
             "partitionsIndexed");
     private static final AtomicLongFieldUpdater<GlobalPerIndexStats> PARTITION_UPDATES_STARTED = newUpdater(
@@ -81,6 +83,10 @@ public class GlobalPerIndexStats implements PerIndexStats {
             GlobalPerIndexStats.class, "partitionUpdatesFinished");
     private static final AtomicLongFieldUpdater<GlobalPerIndexStats> INDEX_NOT_READY_QUERY_COUNT = newUpdater(
             GlobalPerIndexStats.class, "indexNotReadyQueryCount");
+    private static final AtomicLongFieldUpdater<GlobalPerIndexStats> INDEX_BUILD_ENTRY_COUNT = newUpdater(
+            GlobalPerIndexStats.class, "indexBuildEntryCount");
+    private static final AtomicLongFieldUpdater<GlobalPerIndexStats> INDEX_BUILD_FAILURE_COUNT = newUpdater(
+            GlobalPerIndexStats.class, "indexBuildFailureCount");
 
     private final boolean ordered;
     private final boolean usesCachedQueryableEntries;
@@ -98,10 +104,13 @@ public class GlobalPerIndexStats implements PerIndexStats {
     private volatile long removeCount;
     private volatile long totalRemoveLatency;
     private volatile long valuesMemoryCost;
+    private volatile long storeMemoryCost;
     private volatile long partitionsIndexed;
     private volatile long partitionUpdatesStarted;
     private volatile long partitionUpdatesFinished;
     private volatile long indexNotReadyQueryCount;
+    private volatile long indexBuildEntryCount;
+    private volatile long indexBuildFailureCount;
 
     /**
      * Constructs a new instance of global index stats.
@@ -187,12 +196,21 @@ public class GlobalPerIndexStats implements PerIndexStats {
 
     @Override
     public long getMemoryCost() {
+        long localStoreMemoryCost = storeMemoryCost;
+        if (localStoreMemoryCost > 0) {
+            // the index store tracks the cost of its own structures, the values
+            // are not retained by such stores in their boxed form
+            return localStoreMemoryCost
+                    + IndexHeapMemoryCostUtil.estimateQueryableEntriesCost(entryCount, usesCachedQueryableEntries);
+        }
         return IndexHeapMemoryCostUtil.estimateMapCost(entryCount, ordered, usesCachedQueryableEntries) + valuesMemoryCost;
     }
 
     @Override
     public void updateMemoryCost(long delta) {
-        // no-op
+        // Called by index stores which are able to track the memory cost of
+        // their structures precisely, see NumericOrderedIndexStore.
+        STORE_MEMORY_COST.addAndGet(this, delta);
     }
 
     @Override
@@ -295,6 +313,26 @@ public class GlobalPerIndexStats implements PerIndexStats {
         INDEX_NOT_READY_QUERY_COUNT.incrementAndGet(this);
     }
 
+    @Override
+    public long getIndexBuildEntryCount() {
+        return indexBuildEntryCount;
+    }
+
+    @Override
+    public void addIndexBuildEntries(long entries) {
+        INDEX_BUILD_ENTRY_COUNT.addAndGet(this, entries);
+    }
+
+    @Override
+    public long getIndexBuildFailureCount() {
+        return indexBuildFailureCount;
+    }
+
+    @Override
+    public void incrementIndexBuildFailureCount() {
+        INDEX_BUILD_FAILURE_COUNT.incrementAndGet(this);
+    }
+
     @Override
     public long getPartitionsIndexed() {
         return partitionsIndexed;
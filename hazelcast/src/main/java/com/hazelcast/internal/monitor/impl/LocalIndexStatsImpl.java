@@ -19,6 +19,8 @@ package com.hazelcast.internal.monitor.impl;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.query.LocalIndexStats;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_BUILD_ENTRY_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_BUILD_FAILURE_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_AVERAGE_HIT_LATENCY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_AVERAGE_HIT_SELECTIVITY;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_INDEX_CREATION_TIME;
@@ -95,6 +97,12 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
     @Probe(name = MAP_METRIC_INDEX_NOT_READY_QUERY_COUNT)
     private volatile long indexNotReadyQueryCount;
 
+    @Probe(name = MAP_METRIC_INDEX_BUILD_ENTRY_COUNT)
+    private volatile long indexBuildEntryCount;
+
+    @Probe(name = MAP_METRIC_INDEX_BUILD_FAILURE_COUNT)
+    private volatile long indexBuildFailureCount;
+
     @Override
     public long getCreationTime() {
         return creationTime;
@@ -284,6 +292,14 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
         return partitionUpdatesFinished;
     }
 
+    public long getIndexBuildEntryCount() {
+        return indexBuildEntryCount;
+    }
+
+    public long getIndexBuildFailureCount() {
+        return indexBuildFailureCount;
+    }
+
     /**
      * Sets all the values in this stats to the corresponding values in the
      * given on-demand stats.
@@ -307,6 +323,8 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
         this.partitionUpdatesStarted = onDemandStats.getPartitionUpdatesStarted();
         this.partitionUpdatesFinished = onDemandStats.getPartitionUpdatesFinished();
         this.indexNotReadyQueryCount = onDemandStats.getIndexNotReadyQueryCount();
+        this.indexBuildEntryCount = onDemandStats.getIndexBuildEntryCount();
+        this.indexBuildFailureCount = onDemandStats.getIndexBuildFailureCount();
     }
 
     @Override
@@ -328,6 +346,8 @@ public class LocalIndexStatsImpl implements LocalIndexStats {
                 + ", indexNotReadyQueryCount=" + indexNotReadyQueryCount
                 + ", partitionUpdatesStarted=" + partitionUpdatesStarted
                 + ", partitionUpdatesFinished=" + partitionUpdatesFinished
+                + ", indexBuildEntryCount=" + indexBuildEntryCount
+                + ", indexBuildFailureCount=" + indexBuildFailureCount
                 + '}';
     }
 
@@ -36,6 +36,9 @@ import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRI
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_ENTRYSET_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_EVICTION_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_EXPIRATION_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_COALESCED_GET_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_COALESCING_GET_OPERATION_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_GET_COALESCING_RATIO;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_GET_COUNT;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_HEAP_COST;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MAP_METRIC_HITS;
@@ -97,6 +100,10 @@ public class LocalMapStatsImpl implements LocalMapStats {
             newUpdater(LocalMapStatsImpl.class, "entrySetCount");
     private static final AtomicLongFieldUpdater<LocalMapStatsImpl> QUERY_LIMITER_HIT_COUNT =
             newUpdater(LocalMapStatsImpl.class, "queryLimiterHitCount");
+    private static final AtomicLongFieldUpdater<LocalMapStatsImpl> COALESCED_GET_COUNT =
+            newUpdater(LocalMapStatsImpl.class, "coalescedGetCount");
+    private static final AtomicLongFieldUpdater<LocalMapStatsImpl> COALESCING_GET_OPERATION_COUNT =
+            newUpdater(LocalMapStatsImpl.class, "coalescingGetOperationCount");
 
     // The resolution is in nanoseconds for the following latencies
     private static final AtomicLongFieldUpdater<LocalMapStatsImpl> TOTAL_GET_LATENCIES =
@@ -151,6 +158,10 @@ public class LocalMapStatsImpl implements LocalMapStats {
     private volatile long entrySetCount;
     @Probe(name = MAP_METRIC_QUERY_LIMITER_HIT_COUNT)
     private volatile long queryLimiterHitCount;
+    @Probe(name = MAP_METRIC_COALESCED_GET_COUNT)
+    private volatile long coalescedGetCount;
+    @Probe(name = MAP_METRIC_COALESCING_GET_OPERATION_COUNT)
+    private volatile long coalescingGetOperationCount;
 
     private volatile long totalGetLatenciesNanos;
     private volatile long totalPutLatenciesNanos;
@@ -573,6 +584,41 @@ public class LocalMapStatsImpl implements LocalMapStats {
         return queryLimiterHitCount;
     }
 
+    /**
+     * Increments the number of gets answered by an in-flight
+     * {@code GetOperation} of another caller.
+     */
+    public void incrementCoalescedGets() {
+        COALESCED_GET_COUNT.incrementAndGet(this);
+    }
+
+    /**
+     * Increments the number of {@code GetOperation}s executed by the read
+     * coalescer on behalf of one or more callers.
+     */
+    public void incrementCoalescingGetOperations() {
+        COALESCING_GET_OPERATION_COUNT.incrementAndGet(this);
+    }
+
+    public long getCoalescedGetCount() {
+        return coalescedGetCount;
+    }
+
+    public long getCoalescingGetOperationCount() {
+        return coalescingGetOperationCount;
+    }
+
+    /**
+     * Returns the fraction of coalesced gets which didn't need their own
+     * {@code GetOperation}, {@code 0} if no get was coalesced so far.
+     */
+    @Probe(name = MAP_METRIC_GET_COALESCING_RATIO)
+    public double getCoalescingRatio() {
+        long coalesced = coalescedGetCount;
+        long total = coalesced + coalescingGetOperationCount;
+        return total == 0 ? 0 : (double) coalesced / total;
+    }
+
     public void updateIndexStats(Map<String, OnDemandIndexStats> freshIndexStats) {
         // A new index can be added, but already existing indexes can't be
         // removed, that matches the current implementation properties of the
@@ -635,6 +681,8 @@ public class LocalMapStatsImpl implements LocalMapStats {
                 + ", replicationStats=" + replicationStats
                 + ", indexesSkippedQueryCount=" + indexesSkippedQueryCount
                 + ", noMatchingIndexQueryCount=" + noMatchingIndexQueryCount
+                + ", coalescedGetCount=" + coalescedGetCount
+                + ", coalescingGetOperationCount=" + coalescingGetOperationCount
                 + '}';
     }
 }
@@ -22,6 +22,8 @@ import com.hazelcast.nearcache.NearCacheStats;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.LongAccumulator;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_ADMISSION_REJECTIONS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_ADMISSION_REJECTION_RATIO;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_CREATION_TIME;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_EVICTIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NEARCACHE_METRIC_EXPIRATIONS;
@@ -58,6 +60,10 @@ public class NearCacheStatsImpl implements NearCacheStats {
             newUpdater(NearCacheStatsImpl.class, "invalidations");
     private static final AtomicLongFieldUpdater<NearCacheStatsImpl> INVALIDATION_REQUESTS =
             newUpdater(NearCacheStatsImpl.class, "invalidationRequests");
+    private static final AtomicLongFieldUpdater<NearCacheStatsImpl> ADMISSION_EVALUATIONS =
+            newUpdater(NearCacheStatsImpl.class, "admissionEvaluations");
+    private static final AtomicLongFieldUpdater<NearCacheStatsImpl> ADMISSION_REJECTIONS =
+            newUpdater(NearCacheStatsImpl.class, "admissionRejections");
     private static final AtomicLongFieldUpdater<NearCacheStatsImpl> PERSISTENCE_COUNT =
             newUpdater(NearCacheStatsImpl.class, "persistenceCount");
 
@@ -80,6 +86,9 @@ public class NearCacheStatsImpl implements NearCacheStats {
     private volatile long invalidations;
     @Probe(name = NEARCACHE_METRIC_INVALIDATION_REQUESTS)
     private volatile long invalidationRequests;
+    private volatile long admissionEvaluations;
+    @Probe(name = NEARCACHE_METRIC_ADMISSION_REJECTIONS)
+    private volatile long admissionRejections;
 
     @Probe(name = NEARCACHE_METRIC_PERSISTENCE_COUNT)
     private volatile long persistenceCount;
@@ -107,6 +116,10 @@ public class NearCacheStatsImpl implements NearCacheStats {
         expirations = stats.getExpirations();
         invalidations = stats.getInvalidations();
         invalidationRequests = stats.getInvalidationRequests();
+        if (stats instanceof NearCacheStatsImpl impl) {
+            admissionEvaluations = impl.admissionEvaluations;
+        }
+        admissionRejections = stats.getAdmissionRejections();
 
         persistenceCount = stats.getPersistenceCount();
         lastPersistenceTime = stats.getLastPersistenceTime();
@@ -238,6 +251,33 @@ public class NearCacheStatsImpl implements NearCacheStats {
         INVALIDATION_REQUESTS.incrementAndGet(this);
     }
 
+    /**
+     * Increments the number of fetched entries evaluated by the admission
+     * policy of a full Near Cache.
+     */
+    public void incrementAdmissionEvaluations() {
+        ADMISSION_EVALUATIONS.incrementAndGet(this);
+    }
+
+    @Override
+    public long getAdmissionRejections() {
+        return admissionRejections;
+    }
+
+    public void incrementAdmissionRejections() {
+        ADMISSION_REJECTIONS.incrementAndGet(this);
+    }
+
+    @Probe(name = NEARCACHE_METRIC_ADMISSION_REJECTION_RATIO)
+    @Override
+    public double getAdmissionRejectionRatio() {
+        long evaluations = admissionEvaluations;
+        if (evaluations == 0) {
+            return Double.NaN;
+        }
+        return (double) admissionRejections / evaluations * PERCENTAGE;
+    }
+
     public void resetInvalidationEvents() {
         INVALIDATION_REQUESTS.set(this, 0);
     }
@@ -307,6 +347,8 @@ public class NearCacheStatsImpl implements NearCacheStats {
                 + ", expirations=" + expirations
                 + ", invalidations=" + invalidations
                 + ", invalidationRequests=" + invalidationRequests
+                + ", admissionRejections=" + admissionRejections
+                + ", admissionRejectionRatio=" + format("%.1f%%", getAdmissionRejectionRatio())
                 + ", lastPersistenceTime=" + lastPersistenceTime
                 + ", persistenceCount=" + persistenceCount
                 + ", lastPersistenceDuration=" + lastPersistenceDuration
@@ -57,6 +57,10 @@ public class OnDemandIndexStats {
 
     private long indexNotReadyQueryCount;
 
+    private long indexBuildEntryCount;
+
+    private long indexBuildFailureCount;
+
     /**
      * Returns the creation time.
      */
@@ -281,6 +285,22 @@ public class OnDemandIndexStats {
         this.indexNotReadyQueryCount = indexNotReadyQueryCount;
     }
 
+    public long getIndexBuildEntryCount() {
+        return indexBuildEntryCount;
+    }
+
+    public void setIndexBuildEntryCount(long indexBuildEntryCount) {
+        this.indexBuildEntryCount = indexBuildEntryCount;
+    }
+
+    public long getIndexBuildFailureCount() {
+        return indexBuildFailureCount;
+    }
+
+    public void setIndexBuildFailureCount(long indexBuildFailureCount) {
+        this.indexBuildFailureCount = indexBuildFailureCount;
+    }
+
     public long getPartitionUpdatesStarted() {
         return partitionUpdatesStarted;
     }
@@ -306,7 +326,9 @@ public class OnDemandIndexStats {
                 + ", totalRemoveLatency=" + totalRemoveLatency + ", memoryCost=" + memoryCost + ", totalHitCount=" + totalHitCount
                 + ", partitionsIndexed=" + partitionsIndexed + ", partitionUpdatesStarted=" + partitionUpdatesStarted
                 + ", partitionUpdatesFinished=" + partitionUpdatesFinished
-                + ", indexNotReadyQueryCount=" + indexNotReadyQueryCount + "}";
+                + ", indexNotReadyQueryCount=" + indexNotReadyQueryCount
+                + ", indexBuildEntryCount=" + indexBuildEntryCount
+                + ", indexBuildFailureCount=" + indexBuildFailureCount + "}";
     }
 
 }
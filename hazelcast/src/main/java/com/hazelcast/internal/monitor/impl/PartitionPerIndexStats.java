@@ -49,6 +49,10 @@ public class PartitionPerIndexStats implements PerIndexStats {
     private static final VarHandle MEMORY_COST;
     private static final AtomicLongFieldUpdater<PartitionPerIndexStats> INDEX_NOT_READY_QUERY_COUNT =
             newUpdater(PartitionPerIndexStats.class, "indexNotReadyQueryCount");
+    private static final AtomicLongFieldUpdater<PartitionPerIndexStats> INDEX_BUILD_ENTRY_COUNT =
+            newUpdater(PartitionPerIndexStats.class, "indexBuildEntryCount");
+    private static final AtomicLongFieldUpdater<PartitionPerIndexStats> INDEX_BUILD_FAILURE_COUNT =
+            newUpdater(PartitionPerIndexStats.class, "indexBuildFailureCount");
 
     static {
         try {
@@ -93,6 +97,8 @@ public class PartitionPerIndexStats implements PerIndexStats {
     private volatile long memoryCost;
     private volatile long partitionsIndexed;
     private volatile long indexNotReadyQueryCount;
+    private volatile long indexBuildEntryCount;
+    private volatile long indexBuildFailureCount;
 
     private boolean hasQueries;
 
@@ -314,6 +320,26 @@ public class PartitionPerIndexStats implements PerIndexStats {
         INDEX_NOT_READY_QUERY_COUNT.incrementAndGet(this);
     }
 
+    @Override
+    public long getIndexBuildEntryCount() {
+        return indexBuildEntryCount;
+    }
+
+    @Override
+    public void addIndexBuildEntries(long entries) {
+        INDEX_BUILD_ENTRY_COUNT.addAndGet(this, entries);
+    }
+
+    @Override
+    public long getIndexBuildFailureCount() {
+        return indexBuildFailureCount;
+    }
+
+    @Override
+    public void incrementIndexBuildFailureCount() {
+        INDEX_BUILD_FAILURE_COUNT.incrementAndGet(this);
+    }
+
     private class MemoryAllocatorWithStats implements MemoryAllocator {
 
         private final MemoryAllocator delegate;
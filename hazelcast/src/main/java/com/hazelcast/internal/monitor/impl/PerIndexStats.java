@@ -179,6 +179,24 @@ public interface PerIndexStats {
         @Override
         public void incrementIndexNotReadyQueryCount() {
         }
+
+        @Override
+        public long getIndexBuildEntryCount() {
+            return 0;
+        }
+
+        @Override
+        public void addIndexBuildEntries(long entries) {
+        }
+
+        @Override
+        public long getIndexBuildFailureCount() {
+            return 0;
+        }
+
+        @Override
+        public void incrementIndexBuildFailureCount() {
+        }
     };
 
     /**
@@ -408,4 +426,28 @@ public interface PerIndexStats {
      * due to active partition changes.
      */
     void incrementIndexNotReadyQueryCount();
+
+    /**
+     * Returns the number of entries indexed by online builds of the
+     * associated index, see {@link com.hazelcast.map.impl.operation.IndexBuildTask}.
+     */
+    long getIndexBuildEntryCount();
+
+    /**
+     * Adds the given number of entries to the number of entries indexed by
+     * online builds of the associated index.
+     */
+    void addIndexBuildEntries(long entries);
+
+    /**
+     * Returns the number of partitions whose online build of the associated
+     * index failed. Such partitions are left unindexed.
+     */
+    long getIndexBuildFailureCount();
+
+    /**
+     * Increments the number of partitions whose online build of the
+     * associated index failed.
+     */
+    void incrementIndexBuildFailureCount();
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.admission;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.hazelcast.internal.util.HashUtil.fastIntMix;
+import static com.hazelcast.internal.util.QuickMath.nextPowerOfTwo;
+
+/**
+ * A count-min sketch estimating the access frequency of keys with 4-bit
+ * counters, as used by TinyLFU.
+ * <p>
+ * Every key is mapped to {@value #DEPTH} counters, the estimated frequency
+ * is the minimum of them. The counters saturate at 15. After a number of
+ * increments proportional to the maximum number of tracked keys, all
+ * counters are halved so that the sketch follows changes of the access
+ * pattern and old popularity fades away.
+ * <p>
+ * The counters are updated with a compare-and-set of their slot, so that a
+ * concurrent increment can't carry a saturated counter into its neighbour.
+ * The number of increments until the next reset is tracked without
+ * synchronization though, so a reset may happen slightly earlier or later
+ * than intended under concurrent access, which only affects the accuracy of
+ * the estimation.
+ */
+public final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int COUNTERS_PER_SLOT = 16;
+    private static final int COUNTER_BITS = 4;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAX_TABLE_SIZE = 1 << 20;
+    private static final int SAMPLE_SIZE_FACTOR = 10;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L,
+    };
+
+    private final AtomicLongArray table;
+    private final int counterMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param maximumSize the number of keys whose frequencies are tracked,
+     *                    typically the maximum size of the cache
+     */
+    public FrequencySketch(int maximumSize) {
+        int tableSize = nextPowerOfTwo(Math.max(1, Math.min(maximumSize, MAX_TABLE_SIZE)));
+        this.table = new AtomicLongArray(tableSize);
+        this.counterMask = tableSize * COUNTERS_PER_SLOT - 1;
+        this.sampleSize = (int) Math.min((long) SAMPLE_SIZE_FACTOR * Math.max(1, maximumSize), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of accesses of the given key, up to 15.
+     */
+    public int frequency(Object key) {
+        int hash = fastIntMix(key.hashCode());
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table.get(index / COUNTERS_PER_SLOT) >>> offsetOf(index)) & COUNTER_MASK);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the given key.
+     */
+    public void increment(Object key) {
+        int hash = fastIntMix(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = indexOf(hash, i);
+            added |= incrementAt(index / COUNTERS_PER_SLOT, offsetOf(index));
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Increments the counter at the given offset of the slot, unless it is
+     * saturated.
+     *
+     * @return {@code true} if the counter was incremented
+     */
+    private boolean incrementAt(int slot, int offset) {
+        long mask = COUNTER_MASK << offset;
+        for (; ; ) {
+            long value = table.get(slot);
+            if ((value & mask) == mask) {
+                return false;
+            }
+            if (table.compareAndSet(slot, value, value + (1L << offset))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Halves all counters.
+     */
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length(); i++) {
+            long value = table.getAndUpdate(i, v -> (v >>> 1) & RESET_MASK);
+            odd += Long.bitCount(value & ONE_MASK);
+        }
+        // each key is counted DEPTH times, the truncated odd counters are subtracted per key
+        additions = (additions - (odd / DEPTH)) / 2;
+    }
+
+    private int indexOf(int hash, int depth) {
+        long h = (hash + SEEDS[depth]) * SEEDS[depth];
+        h += h >>> Integer.SIZE;
+        return (int) h & counterMask;
+    }
+
+    private static int offsetOf(int index) {
+        return (index % COUNTERS_PER_SLOT) * COUNTER_BITS;
+    }
+}
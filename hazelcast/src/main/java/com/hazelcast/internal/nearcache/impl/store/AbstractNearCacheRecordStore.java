@@ -20,6 +20,7 @@ import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.internal.eviction.EvictionCandidate;
 import com.hazelcast.internal.eviction.EvictionChecker;
 import com.hazelcast.internal.eviction.EvictionListener;
 import com.hazelcast.internal.eviction.impl.evaluator.EvictionPolicyEvaluator;
@@ -29,6 +30,7 @@ import com.hazelcast.internal.nearcache.NearCache;
 import com.hazelcast.internal.nearcache.NearCacheRecord;
 import com.hazelcast.internal.nearcache.NearCacheRecordStore;
 import com.hazelcast.internal.nearcache.impl.SampleableNearCacheRecordMap;
+import com.hazelcast.internal.nearcache.impl.admission.FrequencySketch;
 import com.hazelcast.internal.nearcache.impl.invalidation.MetaDataContainer;
 import com.hazelcast.internal.nearcache.impl.invalidation.StaleReadDetector;
 import com.hazelcast.internal.serialization.Data;
@@ -38,6 +40,7 @@ import com.hazelcast.nearcache.NearCacheStats;
 
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
+import static com.hazelcast.config.NearCacheConfig.AdmissionPolicy.TINY_LFU;
 import static com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider.getEvictionPolicyEvaluator;
 import static com.hazelcast.internal.nearcache.NearCache.CACHED_AS_NULL;
 import static com.hazelcast.internal.nearcache.NearCache.UpdateSemantic.READ_UPDATE;
@@ -74,6 +77,8 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
     protected final NearCacheConfig nearCacheConfig;
     protected final NearCacheStatsImpl nearCacheStats;
     protected final SerializationService serializationService;
+    // estimates the read frequency of keys, null if TinyLFU admission is disabled
+    protected final FrequencySketch admissionSketch;
 
     protected NCRM records;
     protected EvictionChecker evictionChecker;
@@ -100,6 +105,9 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         this.classLoader = classLoader;
         this.nearCacheStats = nearCacheStats;
         this.evictionDisabled = nearCacheConfig.getEvictionConfig().getEvictionPolicy() == EvictionPolicy.NONE;
+        this.admissionSketch = !evictionDisabled && nearCacheConfig.getAdmissionPolicy() == TINY_LFU
+                ? new FrequencySketch(nearCacheConfig.getEvictionConfig().getSize())
+                : null;
     }
 
     @Override
@@ -227,6 +235,9 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
     @Override
     public V get(K key) {
         checkAvailable();
+        if (admissionSketch != null) {
+            admissionSketch.increment(key);
+        }
 
         R record = null;
         V value = null;
@@ -333,6 +344,10 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         if (evictionDisabled) {
             return false;
         }
+        if (admissionSketch != null && !withoutMaxSizeCheck) {
+            // a full Near Cache evicts when a new key is admitted, see admit()
+            return false;
+        }
 
         EvictionChecker evictionChecker = withoutMaxSizeCheck ? null : this.evictionChecker;
         evictionStrategy.evict(records, evictionPolicyEvaluator, evictionChecker, this);
@@ -347,6 +362,9 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         if (evictionDisabled && evictionChecker.isEvictionRequired() && !containsRecordKey(key)) {
             return NOT_RESERVED;
         }
+        if (admissionSketch != null && !admit(key, updateSemantic)) {
+            return NOT_RESERVED;
+        }
 
         long reservationId = nextReservationId();
 
@@ -386,6 +404,31 @@ public abstract class AbstractNearCacheRecordStore<K, V, KS, R extends NearCache
         return reservedRecord;
     }
 
+    /**
+     * Applies TinyLFU admission: when the Near Cache is full, the key of a
+     * fetched entry is only admitted if it was read more often than the
+     * eviction candidate, which is then evicted in its favour. Updates of
+     * local writes are always admitted.
+     */
+    private boolean admit(K key, NearCache.UpdateSemantic updateSemantic) {
+        if (!evictionChecker.isEvictionRequired() || containsRecordKey(key)) {
+            return true;
+        }
+        EvictionCandidate<KS, R> candidate = evictionStrategy.selectEvictionCandidate(records, evictionPolicyEvaluator);
+        if (candidate == null) {
+            return true;
+        }
+        if (updateSemantic == READ_UPDATE) {
+            nearCacheStats.incrementAdmissionEvaluations();
+            if (admissionSketch.frequency(key) <= admissionSketch.frequency(candidate.getAccessor())) {
+                nearCacheStats.incrementAdmissionRejections();
+                return false;
+            }
+        }
+        records.tryEvict(candidate, this);
+        return true;
+    }
+
     private void onRecordAccess(R record) {
         record.setLastAccessTime(Clock.currentTimeMillis());
         record.incrementHits();
@@ -39,12 +39,14 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FRAMES_PER_WRITE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_IDLE_TIME_MILLIS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_NORMAL_FRAMES_WRITTEN;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_WRITE_QUEUE_PENDING_BYTES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_WRITE_QUEUE_SIZE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_SCHEDULED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_CALLS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_QUEUE_PENDING_BYTES;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_QUEUE_SIZE;
 import static com.hazelcast.internal.metrics.ProbeLevel.DEBUG;
@@ -53,6 +55,7 @@ import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
 import static com.hazelcast.internal.metrics.ProbeUnit.MS;
 import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static com.hazelcast.internal.nio.IOUtil.newByteBuffer;
 import static com.hazelcast.internal.util.EmptyStatement.ignore;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.collection.ArrayUtils.append;
@@ -67,6 +70,9 @@ public final class NioOutboundPipeline
         extends NioPipeline
         implements Supplier<OutboundFrame>, OutboundPipeline {
 
+    // the maximum number of send buffers written with a single gathering write
+    private static final int MAX_GATHERED_BUFFERS = 4;
+
     public enum State {
         /*
          * The pipeline isn't scheduled (nothing to do).
@@ -116,6 +122,13 @@ public final class NioOutboundPipeline
 
     private OutboundHandler[] handlers = new OutboundHandler[0];
     private ByteBuffer sendBuffer;
+    // Send buffers that got filled and are waiting to be written ahead of the sendBuffer.
+    // Only used when write gathering is enabled.
+    private final ByteBuffer[] gatheredBuffers;
+    private int gatheredCount;
+    // Written send buffers kept for reuse.
+    private final ByteBuffer[] spareBuffers;
+    private int spareCount;
 
     private final AtomicReference<State> scheduled = new AtomicReference<>(State.SCHEDULED);
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN, unit = BYTES, level = DEBUG)
@@ -124,6 +137,8 @@ public final class NioOutboundPipeline
     private final SwCounter normalFramesWritten = newSwCounter();
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_PRIORITY_FRAMES_WRITTEN, level = DEBUG)
     private final SwCounter priorityFramesWritten = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_WRITE_CALLS, level = DEBUG)
+    private final SwCounter writeCalls = newSwCounter();
 
     private volatile long lastWriteTime;
 
@@ -134,6 +149,7 @@ public final class NioOutboundPipeline
     private final ConcurrencyDetection concurrencyDetection;
     private final boolean writeThroughEnabled;
     private final boolean selectionKeyWakeupEnabled;
+    private final boolean writeGatheringEnabled;
 
     NioOutboundPipeline(NioChannel channel,
                         NioThread owner,
@@ -142,11 +158,15 @@ public final class NioOutboundPipeline
                         IOBalancer balancer,
                         ConcurrencyDetection concurrencyDetection,
                         boolean writeThroughEnabled,
-                        boolean selectionKeyWakeupEnabled) {
+                        boolean selectionKeyWakeupEnabled,
+                        boolean writeGatheringEnabled) {
         super(channel, owner, errorHandler, OP_WRITE, logger, balancer);
         this.concurrencyDetection = concurrencyDetection;
         this.writeThroughEnabled = writeThroughEnabled;
         this.selectionKeyWakeupEnabled = selectionKeyWakeupEnabled;
+        this.writeGatheringEnabled = writeGatheringEnabled;
+        this.gatheredBuffers = writeGatheringEnabled ? new ByteBuffer[MAX_GATHERED_BUFFERS] : null;
+        this.spareBuffers = writeGatheringEnabled ? new ByteBuffer[MAX_GATHERED_BUFFERS] : null;
     }
 
     @Override
@@ -199,6 +219,12 @@ public final class NioOutboundPipeline
         return scheduled.get().ordinal();
     }
 
+    @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_FRAMES_PER_WRITE, level = DEBUG)
+    private double framesPerWrite() {
+        long calls = writeCalls.get();
+        return calls == 0 ? 0 : (double) (normalFramesWritten.get() + priorityFramesWritten.get()) / calls;
+    }
+
     public void write(OutboundFrame frame) {
         if (frame.isUrgent()) {
             priorityWriteQueue.offer(frame);
@@ -305,20 +331,17 @@ public final class NioOutboundPipeline
     public void process() throws Exception {
         processCount.inc();
 
-        OutboundHandler[] localHandlers = handlers;
-        HandlerStatus pipelineStatus = CLEAN;
-        for (int handlerIndex = 0; handlerIndex < localHandlers.length; handlerIndex++) {
-            OutboundHandler handler = localHandlers[handlerIndex];
-
-            HandlerStatus handlerStatus = handler.onWrite();
-
-            if (localHandlers != handlers) {
-                // change in the pipeline detected, therefor the loop is restarted.
-                localHandlers = handlers;
-                pipelineStatus = CLEAN;
-                handlerIndex = -1;
-            } else if (handlerStatus != CLEAN) {
-                pipelineStatus = handlerStatus;
+        HandlerStatus pipelineStatus = processHandlers();
+
+        if (writeGatheringEnabled) {
+            // As long as the handlers have more to write than fits in the sendBuffer, the
+            // sendBuffer is set aside and the handlers continue with a fresh one, so that
+            // the pending data is written with a single gathering write.
+            while (pipelineStatus == DIRTY
+                    && sendBuffer.hasRemaining()
+                    && gatheredCount < MAX_GATHERED_BUFFERS - 1) {
+                gatherSendBuffer();
+                pipelineStatus = processHandlers();
             }
         }
 
@@ -331,7 +354,7 @@ public final class NioOutboundPipeline
             return;
         }
 
-        if (sendBuffer.remaining() > 0) {
+        if (sendBuffer.remaining() > 0 || gatheredCount > 0) {
             pipelineStatus = DIRTY;
         }
 
@@ -350,6 +373,43 @@ public final class NioOutboundPipeline
         }
     }
 
+    private HandlerStatus processHandlers() throws Exception {
+        OutboundHandler[] localHandlers = handlers;
+        HandlerStatus pipelineStatus = CLEAN;
+        for (int handlerIndex = 0; handlerIndex < localHandlers.length; handlerIndex++) {
+            OutboundHandler handler = localHandlers[handlerIndex];
+
+            HandlerStatus handlerStatus = handler.onWrite();
+
+            if (localHandlers != handlers) {
+                // change in the pipeline detected, therefor the loop is restarted.
+                localHandlers = handlers;
+                pipelineStatus = CLEAN;
+                handlerIndex = -1;
+            } else if (handlerStatus != CLEAN) {
+                pipelineStatus = handlerStatus;
+            }
+        }
+        return pipelineStatus;
+    }
+
+    // sets the sendBuffer aside for the next write and gives the last handler an empty one.
+    private void gatherSendBuffer() {
+        gatheredBuffers[gatheredCount++] = sendBuffer;
+
+        ByteBuffer buffer;
+        if (spareCount > 0) {
+            buffer = spareBuffers[--spareCount];
+            spareBuffers[spareCount] = null;
+        } else {
+            buffer = newByteBuffer(sendBuffer.capacity(), sendBuffer.isDirect());
+            // the handlers expect their dst buffer in reading mode
+            buffer.flip();
+        }
+        handlers[handlers.length - 1].dst(buffer);
+        sendBuffer = buffer;
+    }
+
     private void postProcessBlocked() {
         // pipeline is blocked; no point in receiving OP_WRITE events.
         unregisterOp(OP_WRITE);
@@ -437,11 +497,42 @@ public final class NioOutboundPipeline
 
     private void flushToSocket() throws IOException {
         lastWriteTime = currentTimeMillis();
-        int written = socketChannel.write(sendBuffer);
+        long written;
+        if (gatheredCount == 0) {
+            written = socketChannel.write(sendBuffer);
+        } else {
+            gatheredBuffers[gatheredCount] = sendBuffer;
+            written = socketChannel.write(gatheredBuffers, 0, gatheredCount + 1);
+            gatheredBuffers[gatheredCount] = null;
+            recycleGatheredBuffers();
+        }
+        writeCalls.inc();
         bytesWritten.inc(written);
         //System.out.println(channel + " bytes written:" + written);
     }
 
+    // moves the completely written gathered buffers to the spare buffers. Buffers of a
+    // handler that got replaced, e.g. the protocol buffer, have a different capacity
+    // than the sendBuffer and are dropped.
+    private void recycleGatheredBuffers() {
+        int recycled = 0;
+        while (recycled < gatheredCount && !gatheredBuffers[recycled].hasRemaining()) {
+            ByteBuffer buffer = gatheredBuffers[recycled];
+            if (buffer.capacity() == sendBuffer.capacity() && buffer.isDirect() == sendBuffer.isDirect()) {
+                buffer.clear();
+                buffer.flip();
+                spareBuffers[spareCount++] = buffer;
+            }
+            recycled++;
+        }
+
+        if (recycled > 0) {
+            System.arraycopy(gatheredBuffers, recycled, gatheredBuffers, 0, gatheredCount - recycled);
+            Arrays.fill(gatheredBuffers, gatheredCount - recycled, gatheredCount, null);
+            gatheredCount -= recycled;
+        }
+    }
+
     void drainWriteQueues() {
         writeQueue.clear();
         priorityWriteQueue.clear();
@@ -514,6 +605,11 @@ public final class NioOutboundPipeline
     private void updatePipeline(OutboundHandler[] newHandlers) {
         this.handlers = newHandlers;
         this.sendBuffer = newHandlers.length == 0 ? null : (ByteBuffer) newHandlers[newHandlers.length - 1].dst();
+        if (spareBuffers != null) {
+            // the spare buffers were sized for the dst of the previous last handler
+            Arrays.fill(spareBuffers, null);
+            spareCount = 0;
+        }
 
         OutboundHandler prev = null;
         for (OutboundHandler handler : handlers) {
@@ -73,4 +73,15 @@ public interface BufferObjectDataOutput extends ObjectDataOutput, Closeable,
     void position(int newPos);
 
     void clear();
+
+    /**
+     * Makes this output write to the given buffer from position 0 on and
+     * hands over the buffer written so far, whose first {@link #position()}
+     * bytes hold the written data. The returned buffer isn't used by this
+     * output anymore.
+     *
+     * @param newBuffer the buffer to write to
+     * @return the buffer written so far
+     */
+    byte[] swapBuffer(byte[] newBuffer);
 }
@@ -20,6 +20,8 @@ import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.server.ServerConnection;
 import com.hazelcast.internal.serialization.impl.HeapData;
 
+import java.util.function.Consumer;
+
 import static com.hazelcast.internal.nio.PacketIOHelper.HEADER_SIZE;
 
 /**
@@ -109,6 +111,8 @@ public final class Packet extends HeapData implements OutboundFrame {
 
     private int partitionId;
     private transient ServerConnection conn;
+    private transient int payloadLength = -1;
+    private transient Consumer<byte[]> payloadReleaser;
 
     public Packet() {
         raiseFlags(FLAG_4_0);
@@ -124,6 +128,25 @@ public final class Packet extends HeapData implements OutboundFrame {
         raiseFlags(FLAG_4_0);
     }
 
+    /**
+     * Creates a packet whose payload is a prefix of the given buffer, so that
+     * the buffer the payload was serialized into can be sent without copying
+     * it into an array of the exact size.
+     * <p>
+     * Once the packet is written out, the buffer is passed to the given
+     * releaser, which may reuse it. Such a packet can therefore only be
+     * written to a single connection, once.
+     *
+     * @param buffer          the buffer holding the payload
+     * @param payloadLength   the length of the payload
+     * @param payloadReleaser called with the buffer once the packet is written
+     */
+    public Packet(byte[] buffer, int payloadLength, Consumer<byte[]> payloadReleaser) {
+        this(buffer);
+        this.payloadLength = payloadLength;
+        this.payloadReleaser = payloadReleaser;
+    }
+
     /**
      * Gets the Connection this Packet was send with.
      *
@@ -147,6 +170,23 @@ public final class Packet extends HeapData implements OutboundFrame {
         return this;
     }
 
+    /**
+     * Passes the buffer of the payload to the releaser given at construction,
+     * if any. Called once the packet has been written out.
+     */
+    public void releasePayload() {
+        if (payloadReleaser != null) {
+            Consumer<byte[]> releaser = payloadReleaser;
+            payloadReleaser = null;
+            releaser.accept(payload);
+        }
+    }
+
+    @Override
+    public int totalSize() {
+        return payloadLength < 0 ? super.totalSize() : payloadLength;
+    }
+
     public Type getPacketType() {
         return Type.fromFlags(flags);
     }
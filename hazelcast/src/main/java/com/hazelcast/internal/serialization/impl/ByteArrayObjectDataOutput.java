@@ -489,6 +489,14 @@ public class ByteArrayObjectDataOutput extends VersionedObjectDataOutput impleme
         return newBuffer;
     }
 
+    @Override
+    public byte[] swapBuffer(byte[] newBuffer) {
+        byte[] oldBuffer = buffer;
+        buffer = newBuffer;
+        pos = 0;
+        return oldBuffer;
+    }
+
     @Override
     @SuppressWarnings("MagicNumber")
     public void clear() {
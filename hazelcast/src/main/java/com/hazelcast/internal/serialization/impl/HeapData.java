@@ -68,7 +68,7 @@ public class HeapData implements Data {
     @Override
     public void copyTo(byte[] dest, int destPos) {
         if (totalSize() > 0) {
-            System.arraycopy(payload, 0, dest, destPos, payload.length);
+            System.arraycopy(payload, 0, dest, destPos, totalSize());
         }
     }
 
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util;
+
+import java.util.Arrays;
+
+import static com.hazelcast.internal.nio.Bits.readIntL;
+
+/**
+ * A pure-Java codec for the LZ4 block format. It trades compression ratio
+ * for speed: the compressor is a single greedy pass over the input which
+ * looks up 4-byte sequences in a small hash table.
+ * <p>
+ * The blocks carry no header, so the caller must record the uncompressed
+ * length and supply it to {@link #decompress}. An instance is not
+ * thread-safe, it keeps the hash table of the compressor between calls.
+ */
+@SuppressWarnings("checkstyle:magicnumber")
+public final class Lz4BlockCodec {
+
+    private static final int MIN_MATCH = 4;
+    // the last literals of a block, they can't be a part of a match
+    private static final int LAST_LITERALS = 5;
+    // the last match must start at least this many bytes before the end of the block
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = (1 << 16) - 1;
+    private static final int RUN_MASK = 0x0f;
+    private static final int ML_BITS = 4;
+    private static final int HASH_LOG = 12;
+    // the step over incompressible data grows every (1 << SKIP_TRIGGER) misses
+    private static final int SKIP_TRIGGER = 6;
+
+    private final int[] hashTable = new int[1 << HASH_LOG];
+
+    /**
+     * Returns the maximum size of the block that {@link #compress} produces
+     * from the input of the given length.
+     */
+    public static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses {@code srcLen} bytes of {@code src} starting at {@code
+     * srcOff} into {@code dest} starting at {@code destOff}. The destination
+     * must have room for {@link #maxCompressedLength(int)} bytes.
+     *
+     * @return the length of the compressed block
+     */
+    @SuppressWarnings({"checkstyle:innerassignment", "checkstyle:cyclomaticcomplexity"})
+    public int compress(byte[] src, int srcOff, int srcLen, byte[] dest, int destOff) {
+        int srcEnd = srcOff + srcLen;
+        int dp = destOff;
+        int anchor = srcOff;
+        if (srcLen > MF_LIMIT) {
+            Arrays.fill(hashTable, -1);
+            int mfLimit = srcEnd - MF_LIMIT;
+            int matchLimit = srcEnd - LAST_LITERALS;
+            int sp = srcOff;
+            search:
+            while (true) {
+                int ref;
+                int attempts = 1 << SKIP_TRIGGER;
+                do {
+                    if (sp > mfLimit) {
+                        break search;
+                    }
+                    int h = hash(readIntL(src, sp));
+                    ref = hashTable[h];
+                    hashTable[h] = sp;
+                    if (ref >= srcOff && sp - ref <= MAX_DISTANCE && readIntL(src, ref) == readIntL(src, sp)) {
+                        break;
+                    }
+                    sp += attempts++ >>> SKIP_TRIGGER;
+                } while (true);
+
+                while (sp > anchor && ref > srcOff && src[sp - 1] == src[ref - 1]) {
+                    sp--;
+                    ref--;
+                }
+                int s = sp + MIN_MATCH;
+                int r = ref + MIN_MATCH;
+                while (s < matchLimit && src[s] == src[r]) {
+                    s++;
+                    r++;
+                }
+                dp = writeSequence(src, anchor, sp - anchor, sp - ref, s - sp - MIN_MATCH, dest, dp);
+                anchor = sp = s;
+            }
+        }
+        return writeLastLiterals(src, anchor, srcEnd - anchor, dest, dp) - destOff;
+    }
+
+    /**
+     * Decompresses the block of {@code srcLen} bytes of {@code src} starting
+     * at {@code srcOff} into {@code dest} starting at {@code destOff}.
+     *
+     * @param destLen the exact length of the uncompressed data
+     * @throws IllegalArgumentException if the block is malformed or doesn't
+     *                                  decompress to {@code destLen} bytes
+     */
+    public static void decompress(byte[] src, int srcOff, int srcLen, byte[] dest, int destOff, int destLen) {
+        int srcEnd = srcOff + srcLen;
+        int destEnd = destOff + destLen;
+        int sp = srcOff;
+        int dp = destOff;
+        while (sp < srcEnd) {
+            int token = src[sp++] & 0xff;
+            int literalLength = token >>> ML_BITS;
+            if (literalLength == RUN_MASK) {
+                int b;
+                do {
+                    checkMalformed(sp < srcEnd);
+                    b = src[sp++] & 0xff;
+                    literalLength += b;
+                } while (b == 0xff);
+            }
+            checkMalformed(literalLength <= srcEnd - sp && literalLength <= destEnd - dp);
+            System.arraycopy(src, sp, dest, dp, literalLength);
+            sp += literalLength;
+            dp += literalLength;
+            if (sp == srcEnd) {
+                break;
+            }
+
+            checkMalformed(srcEnd - sp >= 2);
+            int offset = (src[sp] & 0xff) | (src[sp + 1] & 0xff) << 8;
+            sp += 2;
+            int ref = dp - offset;
+            checkMalformed(offset > 0 && ref >= destOff);
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK) {
+                int b;
+                do {
+                    checkMalformed(sp < srcEnd);
+                    b = src[sp++] & 0xff;
+                    matchLength += b;
+                } while (b == 0xff);
+            }
+            matchLength += MIN_MATCH;
+            checkMalformed(matchLength <= destEnd - dp);
+            if (offset >= matchLength) {
+                System.arraycopy(dest, ref, dest, dp, matchLength);
+                dp += matchLength;
+            } else {
+                // the match overlaps the bytes it produces
+                for (int end = dp + matchLength; dp < end; ) {
+                    dest[dp++] = dest[ref++];
+                }
+            }
+        }
+        checkMalformed(dp == destEnd);
+    }
+
+    private static int writeSequence(byte[] src, int literalOff, int literalLength, int offset, int matchLength,
+                                     byte[] dest, int dp) {
+        int tokenPos = dp++;
+        int token = Math.min(literalLength, RUN_MASK) << ML_BITS | Math.min(matchLength, RUN_MASK);
+        dest[tokenPos] = (byte) token;
+        dp = writeLength(literalLength, dest, dp);
+        System.arraycopy(src, literalOff, dest, dp, literalLength);
+        dp += literalLength;
+        dest[dp++] = (byte) offset;
+        dest[dp++] = (byte) (offset >>> 8);
+        return writeLength(matchLength, dest, dp);
+    }
+
+    private static int writeLastLiterals(byte[] src, int literalOff, int literalLength, byte[] dest, int dp) {
+        dest[dp++] = (byte) (Math.min(literalLength, RUN_MASK) << ML_BITS);
+        dp = writeLength(literalLength, dest, dp);
+        System.arraycopy(src, literalOff, dest, dp, literalLength);
+        return dp + literalLength;
+    }
+
+    // writes the bytes that extend a length which doesn't fit into its half of the token
+    private static int writeLength(int length, byte[] dest, int dp) {
+        if (length >= RUN_MASK) {
+            int remaining = length - RUN_MASK;
+            while (remaining >= 0xff) {
+                dest[dp++] = (byte) 0xff;
+                remaining -= 0xff;
+            }
+            dest[dp++] = (byte) remaining;
+        }
+        return dp;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (Integer.SIZE - HASH_LOG);
+    }
+
+    private static void checkMalformed(boolean condition) {
+        if (!condition) {
+            throw new IllegalArgumentException("Malformed LZ4 block");
+        }
+    }
+}
@@ -19,9 +19,11 @@ package com.hazelcast.jet.config;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
 
 import java.io.IOException;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
 
 /**
@@ -31,7 +33,7 @@ import static com.hazelcast.internal.util.Preconditions.checkPositive;
  *
  * @since Jet 3.0
  */
-public class EdgeConfig implements IdentifiedDataSerializable {
+public class EdgeConfig implements IdentifiedDataSerializable, Versioned {
 
     /**
      * The default size of the {@link #setQueueSize(int) concurrent queues}
@@ -52,6 +54,7 @@ public class EdgeConfig implements IdentifiedDataSerializable {
     private int queueSize = DEFAULT_QUEUE_SIZE;
     private int receiveWindowMultiplier = DEFAULT_RECEIVE_WINDOW_MULTIPLIER;
     private int packetSizeLimit = DEFAULT_PACKET_SIZE_LIMIT;
+    private boolean compressionEnabled;
 
     /**
      * Sets the capacity of processor-to-processor concurrent queues. The value
@@ -152,6 +155,35 @@ public class EdgeConfig implements IdentifiedDataSerializable {
         return packetSizeLimit;
     }
 
+    /**
+     * Enables the compression of the network packets of a distributed edge.
+     * Each packet is compressed as a whole with a fast LZ4-class codec, which
+     * pays off when the items are large and repetitive, such as JSON
+     * documents or Compact records, and the network bandwidth is scarcer
+     * than CPU time. The receive window is still accounted in terms of the
+     * uncompressed data.
+     * <p>
+     * Compression is disabled by default. This setting has no effect on a
+     * non-distributed edge.
+     *
+     * @return {@code this} instance for fluent API
+     * @since 6.0
+     */
+    public EdgeConfig setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+        return this;
+    }
+
+    /**
+     * Returns whether the {@link #setCompressionEnabled(boolean) compression
+     * of network packets} is enabled.
+     *
+     * @since 6.0
+     */
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
     @Override
     public int getFactoryId() {
         return JetConfigDataSerializerHook.FACTORY_ID;
@@ -167,6 +199,9 @@ public class EdgeConfig implements IdentifiedDataSerializable {
         out.writeInt(queueSize);
         out.writeInt(receiveWindowMultiplier);
         out.writeInt(packetSizeLimit);
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            out.writeBoolean(compressionEnabled);
+        }
     }
 
     @Override
@@ -174,6 +209,9 @@ public class EdgeConfig implements IdentifiedDataSerializable {
         queueSize = in.readInt();
         receiveWindowMultiplier = in.readInt();
         packetSizeLimit = in.readInt();
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            compressionEnabled = in.readBoolean();
+        }
     }
 
     @Override
@@ -193,7 +231,10 @@ public class EdgeConfig implements IdentifiedDataSerializable {
         if (receiveWindowMultiplier != that.receiveWindowMultiplier) {
             return false;
         }
-        return packetSizeLimit == that.packetSizeLimit;
+        if (packetSizeLimit != that.packetSizeLimit) {
+            return false;
+        }
+        return compressionEnabled == that.compressionEnabled;
     }
 
     @Override
@@ -201,6 +242,7 @@ public class EdgeConfig implements IdentifiedDataSerializable {
         int result = queueSize;
         result = 31 * result + receiveWindowMultiplier;
         result = 31 * result + packetSizeLimit;
+        result = 31 * result + (compressionEnabled ? 1 : 0);
         return result;
     }
 
@@ -210,6 +252,7 @@ public class EdgeConfig implements IdentifiedDataSerializable {
                + "queueSize=" + queueSize
                + ", receiveWindowMultiplier=" + receiveWindowMultiplier
                + ", packetSizeLimit=" + packetSizeLimit
+               + ", compressionEnabled=" + compressionEnabled
                + '}';
     }
 }
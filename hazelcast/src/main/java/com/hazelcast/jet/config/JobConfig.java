@@ -1365,6 +1365,190 @@ public class JobConfig implements IdentifiedDataSerializable {
         return this;
     }
 
+    /**
+     * Returns the memory budget in bytes after which the batch grouping and
+     * sorting processors of the job spill to disk, or {@code 0} if spilling
+     * is disabled.
+     *
+     * @see #setSpillMemoryBudget(long)
+     * @since 6.0
+     */
+    public long getSpillMemoryBudget() {
+        Long budget = (Long) arguments.get(JobConfigArguments.KEY_SPILL_MEMORY_BUDGET);
+        return budget != null ? budget : 0;
+    }
+
+    /**
+     * Sets the memory budget in bytes of the batch grouping and sorting
+     * processors of the job on each member. The processors of a single vertex
+     * on a member share the budget equally. Once a processor exceeds its
+     * share, it writes its records to a sorted run on local disk and merges
+     * the runs when its input is exhausted, instead of keeping everything on
+     * the heap.
+     * <p>
+     * The memory used is estimated from the serialized size of a sample of
+     * the accumulated records, the actual heap usage is typically a few times
+     * higher. The processors also spill, instead of failing, when they reach
+     * the {@linkplain #setMaxProcessorAccumulatedRecords(long) maximum number
+     * of accumulated records}. Aggregations without a {@linkplain
+     * com.hazelcast.jet.aggregate.AggregateOperation#combineFn() combine
+     * function} don't spill.
+     * <p>
+     * The spill files are written to the directory configured by {@link
+     * com.hazelcast.spi.properties.ClusterProperty#JET_SPILL_DIRECTORY}.
+     * The number of spilled bytes is reported by the {@code spilledBytes}
+     * processor metric.
+     * <p>
+     * The default value is {@code 0}, which disables spilling.
+     *
+     * @since 6.0
+     */
+    public JobConfig setSpillMemoryBudget(long bytes) {
+        throwIfLocked();
+        checkNotNegative(bytes, "spillMemoryBudget can't be negative");
+        if (bytes == 0) {
+            arguments.remove(JobConfigArguments.KEY_SPILL_MEMORY_BUDGET);
+        } else {
+            arguments.put(JobConfigArguments.KEY_SPILL_MEMORY_BUDGET, bytes);
+        }
+        return this;
+    }
+
+    /**
+     * Returns where the stateful mapping and the sliding window stages of the
+     * job keep their per-key state.
+     *
+     * @see #setKeyedStateBackend(KeyedStateBackend)
+     * @since 6.0
+     */
+    @Nonnull
+    @Beta
+    public KeyedStateBackend getKeyedStateBackend() {
+        String backend = (String) arguments.get(JobConfigArguments.KEY_KEYED_STATE_BACKEND);
+        return backend != null ? KeyedStateBackend.valueOf(backend) : KeyedStateBackend.HEAP;
+    }
+
+    /**
+     * Sets where the stateful mapping stages ({@code mapStateful()}, {@code
+     * flatMapStateful()} and {@code filterStateful()} after {@code
+     * groupingKey()}) and the sliding and tumbling window aggregation stages
+     * of the job keep their per-key state. With millions of keys, the
+     * {@linkplain KeyedStateBackend#OFF_HEAP off-heap} backend avoids long GC
+     * pauses, at the cost of serializing the state on every update. Session
+     * windows and the combined accumulators of the sliding windows being
+     * emitted are always kept on heap.
+     * <p>
+     * With the off-heap backend, the state object passed to the mapping
+     * function is a copy, the changes done to it after the function returns
+     * are lost. The snapshot format doesn't depend on the backend, a job can
+     * be restarted from a snapshot with a different backend.
+     * <p>
+     * The default value is {@link KeyedStateBackend#HEAP}.
+     *
+     * @since 6.0
+     */
+    @Nonnull
+    @Beta
+    public JobConfig setKeyedStateBackend(@Nonnull KeyedStateBackend backend) {
+        throwIfLocked();
+        checkNotNull(backend, "backend");
+        if (backend == KeyedStateBackend.HEAP) {
+            arguments.remove(JobConfigArguments.KEY_KEYED_STATE_BACKEND);
+        } else {
+            arguments.put(JobConfigArguments.KEY_KEYED_STATE_BACKEND, backend.name());
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of consecutive snapshots of the job that form a
+     * chain of one full snapshot followed by incremental snapshots.
+     *
+     * @see #setFullSnapshotInterval(int)
+     * @since 6.0
+     */
+    @Beta
+    public int getFullSnapshotInterval() {
+        Integer interval = (Integer) arguments.get(JobConfigArguments.KEY_FULL_SNAPSHOT_INTERVAL);
+        return interval != null ? interval : 1;
+    }
+
+    /**
+     * Sets how often the job takes a full snapshot. If the value is larger
+     * than 1, only every {@code interval}-th snapshot contains the entire
+     * state. The snapshots in between are incremental: they contain only the
+     * entries added or changed since the previous snapshot and a marker for
+     * each removed entry. This reduces the amount of data written when a
+     * large state changes slowly. The job is restored by combining the last
+     * full snapshot with the incremental snapshots that followed it.
+     * <p>
+     * The stateful mapping and the sliding window processors track which
+     * keys changed since the previous snapshot and save only those. The
+     * other processors save their state in full. To write the markers, each
+     * member keeps the serialized keys of the last snapshot in memory.
+     * Entries saved with a {@link com.hazelcast.jet.core.BroadcastKey} are
+     * always written in full.
+     * <p>
+     * The first snapshot after the job is (re)started, the snapshot following
+     * a failed snapshot and all {@linkplain
+     * com.hazelcast.jet.Job#exportSnapshot(String) exported snapshots} are
+     * always full.
+     * <p>
+     * The default value is {@code 1}, which means every snapshot is full.
+     *
+     * @since 6.0
+     */
+    @Nonnull
+    @Beta
+    public JobConfig setFullSnapshotInterval(int interval) {
+        throwIfLocked();
+        checkTrue(interval > 0, "fullSnapshotInterval must be positive");
+        if (interval == 1) {
+            arguments.remove(JobConfigArguments.KEY_FULL_SNAPSHOT_INTERVAL);
+        } else {
+            arguments.put(JobConfigArguments.KEY_FULL_SNAPSHOT_INTERVAL, interval);
+        }
+        return this;
+    }
+
+    /**
+     * Returns whether the non-cooperative processors of the job run on
+     * virtual threads.
+     *
+     * @see #setVirtualThreadsEnabled(boolean)
+     * @since 6.0
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return Boolean.TRUE.equals(arguments.get(JobConfigArguments.KEY_VIRTUAL_THREADS_ENABLED));
+    }
+
+    /**
+     * Sets whether the non-cooperative processors of the job, such as the
+     * JDBC and JMS connectors or the {@code mapUsingService} stages with a
+     * non-cooperative service, run on virtual threads instead of dedicated
+     * platform threads. A virtual thread releases its carrier thread while
+     * the processor blocks or idles, so jobs with many non-cooperative
+     * processors use far less memory and fewer context switches.
+     * <p>
+     * Virtual threads require Java 21 or newer. On older versions the
+     * setting is ignored and a warning is logged. Note that a processor
+     * which blocks inside a {@code synchronized} block pins the carrier
+     * thread for that time.
+     * <p>
+     * The default value is {@code false}.
+     *
+     * @since 6.0
+     */
+    public JobConfig setVirtualThreadsEnabled(boolean enabled) {
+        throwIfLocked();
+        if (enabled) {
+            arguments.put(JobConfigArguments.KEY_VIRTUAL_THREADS_ENABLED, true);
+        } else {
+            arguments.remove(JobConfigArguments.KEY_VIRTUAL_THREADS_ENABLED);
+        }
+        return this;
+    }
+
     /**
      * Returns maximum execution time for the job in milliseconds.
      *
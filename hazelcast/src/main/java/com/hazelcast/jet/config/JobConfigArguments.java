@@ -67,6 +67,42 @@ public final class JobConfigArguments {
      */
     public static final String KEY_USER_CODE_NAMESPACE = "__jet.userCodeNamespace";
 
+    /**
+     * The key under which the spill memory budget of the job is stored. The
+     * value is a {@code Long}.
+     * <p>
+     * This argument should be set by calling {@link
+     * JobConfig#setSpillMemoryBudget(long)}.
+     */
+    public static final String KEY_SPILL_MEMORY_BUDGET = "__jet.spillMemoryBudget";
+
+    /**
+     * The key under which the name of the {@link KeyedStateBackend} of the
+     * job is stored.
+     * <p>
+     * This argument should be set by calling {@link
+     * JobConfig#setKeyedStateBackend(KeyedStateBackend)}.
+     */
+    public static final String KEY_KEYED_STATE_BACKEND = "__jet.keyedStateBackend";
+
+    /**
+     * The key under which the full snapshot interval of the job is stored.
+     * The value is an {@code Integer}.
+     * <p>
+     * This argument should be set by calling {@link
+     * JobConfig#setFullSnapshotInterval(int)}.
+     */
+    public static final String KEY_FULL_SNAPSHOT_INTERVAL = "__jet.fullSnapshotInterval";
+
+    /**
+     * The key under which it's stored whether the non-cooperative tasklets of
+     * the job run on virtual threads. The value is a {@code Boolean}.
+     * <p>
+     * This argument should be set by calling {@link
+     * JobConfig#setVirtualThreadsEnabled(boolean)}.
+     */
+    public static final String KEY_VIRTUAL_THREADS_ENABLED = "__jet.virtualThreadsEnabled";
+
     private JobConfigArguments() {
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.config;
+
+import com.hazelcast.spi.annotation.Beta;
+
+/**
+ * Defines where the stateful mapping and the sliding window stages of a
+ * job keep their per-key state.
+ *
+ * @see JobConfig#setKeyedStateBackend(KeyedStateBackend)
+ * @since 6.0
+ */
+@Beta
+public enum KeyedStateBackend {
+
+    /**
+     * The state objects are kept on the Java heap. State updates are cheap,
+     * but with many keys the state increases the GC pauses. This is the
+     * default.
+     */
+    HEAP,
+
+    /**
+     * The state objects are kept serialized in native memory, outside the
+     * Java heap. Each event deserializes the state of its key and serializes
+     * it back after the update. Snapshots copy the serialized state without
+     * deserializing it.
+     * <p>
+     * If native memory access isn't available on the platform, the state is
+     * kept on the heap.
+     */
+    OFF_HEAP
+}
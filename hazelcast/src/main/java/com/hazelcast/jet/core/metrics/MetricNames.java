@@ -195,6 +195,96 @@ public final class MetricNames {
      */
     public static final String DISTRIBUTED_BYTES_OUT = "distributedBytesOut";
 
+    /**
+     * Tracks the data volume (bytes) going out over the network for
+     * DISTRIBUTED output {@link Edge}s with {@linkplain
+     * com.hazelcast.jet.config.EdgeConfig#setCompressionEnabled(boolean)
+     * compression enabled}, after the compression. The uncompressed volume
+     * is tracked by {@link #DISTRIBUTED_BYTES_OUT}.
+     *
+     * @since 6.0
+     */
+    public static final String DISTRIBUTED_COMPRESSED_BYTES_OUT = "distributedCompressedBytesOut";
+
+    /**
+     * The size of the data going out over the network for DISTRIBUTED output
+     * {@link Edge}s with {@linkplain
+     * com.hazelcast.jet.config.EdgeConfig#setCompressionEnabled(boolean)
+     * compression enabled}, as a percentage of its uncompressed size.
+     *
+     * @see #DISTRIBUTED_COMPRESSED_BYTES_OUT
+     * @since 6.0
+     */
+    public static final String DISTRIBUTED_COMPRESSION_RATIO = "distributedCompressionRatio";
+
+    /**
+     * Total time (nanoseconds) spent compressing the data going out over the
+     * network for DISTRIBUTED output {@link Edge}s with {@linkplain
+     * com.hazelcast.jet.config.EdgeConfig#setCompressionEnabled(boolean)
+     * compression enabled}.
+     *
+     * @since 6.0
+     */
+    public static final String DISTRIBUTED_COMPRESSION_TIME = "distributedCompressionTime";
+
+    /**
+     * Tracks the data volume (bytes) coming in over the network for
+     * DISTRIBUTED input {@link Edge}s with {@linkplain
+     * com.hazelcast.jet.config.EdgeConfig#setCompressionEnabled(boolean)
+     * compression enabled}, before the decompression. The uncompressed
+     * volume is tracked by {@link #DISTRIBUTED_BYTES_IN}.
+     *
+     * @since 6.0
+     */
+    public static final String DISTRIBUTED_COMPRESSED_BYTES_IN = "distributedCompressedBytesIn";
+
+    /**
+     * Total time (nanoseconds) spent decompressing the data coming in over
+     * the network for DISTRIBUTED input {@link Edge}s with {@linkplain
+     * com.hazelcast.jet.config.EdgeConfig#setCompressionEnabled(boolean)
+     * compression enabled}.
+     *
+     * @since 6.0
+     */
+    public static final String DISTRIBUTED_DECOMPRESSION_TIME = "distributedDecompressionTime";
+
+    /**
+     * The share of the time a cooperative worker thread spent running
+     * tasklets which made progress over the last second, in percent. The
+     * worker can be identified based on the {@link
+     * MetricTags#COOPERATIVE_WORKER} tag of the metric. The job metrics
+     * report it for all cooperative workers of the member, which may also run
+     * the tasklets of other jobs.
+     *
+     * @since 6.0
+     */
+    public static final String COOPERATIVE_WORKER_UTILIZATION = "cooperativeWorkerUtilization";
+
+    /**
+     * Tracks the data volume (bytes) written to local disk by the batch
+     * grouping and sorting {@link Processor}s of a particular {@link Vertex}
+     * when the job exceeds its {@linkplain
+     * com.hazelcast.jet.config.JobConfig#setSpillMemoryBudget(long) spill
+     * memory budget}. The {@link Vertex} and the {@link Processor} can be
+     * identified based on the {@link MetricTags#VERTEX} &
+     * {@link MetricTags#PROCESSOR} tags of the metric.
+     *
+     * @since 6.0
+     */
+    public static final String SPILLED_BYTES = "spilledBytes";
+
+    /**
+     * Counts the sorted runs written to local disk by the batch grouping and
+     * sorting {@link Processor}s of a particular {@link Vertex}. The
+     * {@link Vertex} and the {@link Processor} can be identified based on the
+     * {@link MetricTags#VERTEX} & {@link MetricTags#PROCESSOR} tags of the
+     * metric.
+     *
+     * @see #SPILLED_BYTES
+     * @since 6.0
+     */
+    public static final String SPILLED_RUNS = "spilledRuns";
+
     /**
      * {@linkplain JobStatus#getId() Numerical ID} of the job's status.
      *
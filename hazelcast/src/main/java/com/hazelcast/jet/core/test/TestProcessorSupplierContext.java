@@ -20,6 +20,7 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.ManagedContext;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
 import com.hazelcast.jet.config.JobConfig;
 import com.hazelcast.jet.config.ProcessingGuarantee;
 import com.hazelcast.jet.core.ProcessorSupplier;
@@ -44,6 +45,7 @@ public class TestProcessorSupplierContext
     private int memberIndex;
     private ManagedContext managedContext = object -> object;
     private final Map<String, File> attached = new HashMap<>();
+    private InternalSerializationService defaultSerializationService;
 
     @Nonnull @Override
     public TestProcessorSupplierContext setLogger(@Nonnull ILogger logger) {
@@ -160,11 +162,21 @@ public class TestProcessorSupplierContext
     }
 
     /**
+     * Returns the serialization service of the {@linkplain
+     * #hazelcastInstance() Hazelcast instance}, or a default serialization
+     * service if the instance isn't set.
+     *
      * @since 5.4
      */
     @Nonnull
     @Override
     public InternalSerializationService serializationService() {
+        if (hazelcastInstance() == null) {
+            if (defaultSerializationService == null) {
+                defaultSerializationService = new DefaultSerializationServiceBuilder().build();
+            }
+            return defaultSerializationService;
+        }
         return (InternalSerializationService) getNodeEngine().getSerializationService();
     }
 }
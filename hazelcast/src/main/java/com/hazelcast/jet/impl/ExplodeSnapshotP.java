@@ -25,25 +25,52 @@ import com.hazelcast.jet.impl.execution.BroadcastEntry;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataValueTerminator;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataValueTombstone;
 
 import javax.annotation.Nonnull;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
 
 import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.impl.SnapshotValidator.indexOf;
 import static com.hazelcast.jet.impl.util.Util.uncheckCall;
 
 public class ExplodeSnapshotP extends AbstractProcessor {
 
     private final Map<String, FlatMapper<byte[], Object>> vertexToFlatMapper = new HashMap<>();
-    private final long expectedSnapshotId;
+    private final long[] snapshotIdChain;
+    private final Set<Long> ignoredSnapshotIds = new HashSet<>();
     private InternalSerializationService serializationService;
+    // the index in snapshotIdChain of the snapshot of the chunk being processed
+    private int chainIndex;
 
-    ExplodeSnapshotP(Map<String, Integer> vertexToOrdinal, long expectedSnapshotId) {
-        this.expectedSnapshotId = expectedSnapshotId;
+    /**
+     * When restoring from an incremental snapshot, each snapshot of the chain
+     * is received from its own edge. The edge of the latest snapshot has the
+     * highest priority and the edge of the full snapshot the lowest, so the
+     * chunks are applied as they are received: an entry is emitted only if
+     * no later snapshot contained its key, a tombstone hides the entries of
+     * its key in the earlier snapshots. Only the keys of the incremental
+     * snapshots are remembered, the entries are never merged in memory. The
+     * broadcast entries are always saved in full, they are taken from the
+     * latest snapshot only.
+     *
+     * @param snapshotIdChain the ID of the snapshot to restore from, preceded
+     *      by the IDs of the snapshots it builds on, if it's incremental
+     */
+    ExplodeSnapshotP(Map<String, Integer> vertexToOrdinal, long[] snapshotIdChain) {
+        this.snapshotIdChain = snapshotIdChain;
         for (Entry<String, Integer> en : vertexToOrdinal.entrySet()) {
-            Object oldValue = vertexToFlatMapper.put(en.getKey(), flatMapper(en.getValue(), this::traverser));
+            // the keys of the vertex found in the incremental snapshots read so far
+            Set<Object> seenKeys = new HashSet<>();
+            Function<byte[], Traverser<Object>> mapper = snapshotIdChain.length == 1
+                    ? this::traverser
+                    : chunk -> chainTraverser(chunk, seenKeys);
+            Object oldValue = vertexToFlatMapper.put(en.getKey(), flatMapper(en.getValue(), mapper));
             assert oldValue == null : "Duplicate ordinal: " + en.getValue();
         }
     }
@@ -73,8 +100,22 @@ public class ExplodeSnapshotP extends AbstractProcessor {
         });
     }
 
+    private Traverser<Object> chainTraverser(byte[] data, Set<Object> seenKeys) {
+        int index = chainIndex;
+        boolean latest = index == snapshotIdChain.length - 1;
+        return traverser(data).filter(item -> {
+            if (item instanceof BroadcastEntry) {
+                return latest;
+            }
+            Entry<?, ?> en = (Entry<?, ?>) item;
+            // the keys of the full snapshot are unique, no need to remember them
+            boolean seen = index == 0 ? seenKeys.contains(en.getKey()) : !seenKeys.add(en.getKey());
+            return !seen && en.getValue() != SnapshotDataValueTombstone.INSTANCE;
+        });
+    }
+
     @Override
-    protected boolean tryProcess0(@Nonnull Object item) {
+    protected boolean tryProcess(int ordinal, @Nonnull Object item) {
         if (((Entry) item).getKey() instanceof SnapshotValidationRecord.SnapshotValidationKey) {
             // ignore the validation record
             return true;
@@ -91,9 +132,13 @@ public class ExplodeSnapshotP extends AbstractProcessor {
             return true;
         }
         long snapshotId = castItem.getKey().snapshotId();
-        if (snapshotId != expectedSnapshotId) {
-            getLogger().warning("Data for unexpected snapshot ID encountered, ignoring. Expected="
-                    + expectedSnapshotId + ", found=" + snapshotId);
+        chainIndex = indexOf(snapshotIdChain, snapshotId);
+        if (chainIndex < 0) {
+            // the map can contain leftover data of failed incremental snapshots, log only once
+            if (ignoredSnapshotIds.add(snapshotId)) {
+                getLogger().warning("Data for unexpected snapshot ID encountered, ignoring. Expected="
+                        + snapshotIdChain[snapshotIdChain.length - 1] + ", found=" + snapshotId);
+            }
             return true;
         }
         return flatMapper.tryProcess(castItem.getValue());
@@ -55,10 +55,12 @@ import com.hazelcast.jet.impl.operation.GetLocalExecutionMetricsOperation;
 import com.hazelcast.jet.impl.operation.InitExecutionOperation;
 import com.hazelcast.jet.impl.operation.StartExecutionOperation;
 import com.hazelcast.jet.impl.operation.TerminateExecutionOperation;
+import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
 import com.hazelcast.jet.impl.util.NonCompletableFuture;
 import com.hazelcast.jet.impl.util.Util;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
 import com.hazelcast.spi.impl.executionservice.ExecutionService;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.version.Version;
@@ -66,6 +68,7 @@ import com.hazelcast.version.Version;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -95,6 +98,7 @@ import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.Util.idToString;
 import static com.hazelcast.jet.config.ProcessingGuarantee.NONE;
 import static com.hazelcast.jet.core.Edge.between;
+import static com.hazelcast.jet.core.Edge.from;
 import static com.hazelcast.jet.core.JobStatus.COMPLETED;
 import static com.hazelcast.jet.core.JobStatus.FAILED;
 import static com.hazelcast.jet.core.JobStatus.NOT_RUNNING;
@@ -529,19 +533,35 @@ public class MasterJobContext {
         // snapshot map is not updated here, so it does not need to be
         // configured with failOnIndeterminateOperationState
         IMap<Object, Object> snapshotMap = mc.nodeEngine().getHazelcastInstance().getMap(mapName);
-        long resolvedSnapshotId = validateSnapshot(
+        long[] snapshotIdChain = validateSnapshot(
                 snapshotId, snapshotMap, mc.jobIdString(), snapshotName);
+        long resolvedSnapshotId = snapshotIdChain[snapshotIdChain.length - 1];
         logger.info(String.format(
-                "About to restore the state of %s from snapshot %d, mapName = %s",
-                mc.jobIdString(), resolvedSnapshotId, mapName));
+                "About to restore the state of %s from snapshot %d, mapName = %s%s",
+                mc.jobIdString(), resolvedSnapshotId, mapName,
+                snapshotIdChain.length > 1 ? ", incremental snapshots: " + Arrays.toString(snapshotIdChain) : ""));
         List<Vertex> originalVertices = new ArrayList<>();
         dag.iterator().forEachRemaining(originalVertices::add);
 
         Map<String, Integer> vertexToOrdinal = new HashMap<>();
-        Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read", readMapP(mapName));
         Vertex explodeVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "explode",
-                () -> new ExplodeSnapshotP(vertexToOrdinal, resolvedSnapshotId));
-        dag.edge(between(readSnapshotVertex, explodeVertex).isolated());
+                () -> new ExplodeSnapshotP(vertexToOrdinal, snapshotIdChain));
+        if (snapshotIdChain.length == 1) {
+            Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read", readMapP(mapName));
+            dag.edge(between(readSnapshotVertex, explodeVertex).isolated());
+        } else {
+            // Each snapshot of the chain is read by its own vertex, the latest
+            // one first, so that the chunks are merged as they are read. The
+            // chunks of a key in all snapshots must be merged by the same processor.
+            for (int i = snapshotIdChain.length - 1; i >= 0; i--) {
+                long chainSnapshotId = snapshotIdChain[i];
+                Vertex readSnapshotVertex = dag.newVertex(SNAPSHOT_VERTEX_PREFIX + "read-" + chainSnapshotId,
+                        readMapP(mapName, snapshotDataOf(chainSnapshotId), MasterJobContext::snapshotChunk));
+                dag.edge(from(readSnapshotVertex).to(explodeVertex, snapshotIdChain.length - 1 - i)
+                        .partitioned(MasterJobContext::snapshotChunkPartitionKey)
+                        .priority(snapshotIdChain.length - 1 - i));
+            }
+        }
 
         int index = 0;
         // add the edges
@@ -553,6 +573,18 @@ public class MasterJobContext {
         }
     }
 
+    private static Object snapshotChunkPartitionKey(Entry<Object, Object> chunk) {
+        return chunk.getKey() instanceof SnapshotDataKey key ? key.getPartitionKey() : 0;
+    }
+
+    private static Predicate<Object, Object> snapshotDataOf(long snapshotId) {
+        return chunk -> chunk.getKey() instanceof SnapshotDataKey key && key.snapshotId() == snapshotId;
+    }
+
+    private static Entry<Object, Object> snapshotChunk(Entry<Object, Object> chunk) {
+        return entry(chunk.getKey(), chunk.getValue());
+    }
+
     private boolean scheduleRestartIfClusterIsNotSafe() {
         if (mc.coordinationService().shouldStartJobs()) {
             return false;
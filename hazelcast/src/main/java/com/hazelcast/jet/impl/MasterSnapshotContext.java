@@ -44,6 +44,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.logging.Level;
 
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.jet.Util.idToString;
 import static com.hazelcast.jet.core.JobStatus.RUNNING;
 import static com.hazelcast.jet.impl.JobRepository.exportedSnapshotMapName;
@@ -75,6 +76,19 @@ class MasterSnapshotContext {
     @Nonnull
     private volatile CompletableFuture<Void> terminalSnapshotFuture = completedFuture(null);
 
+    /**
+     * IDs of the snapshots which together form the last successful automatic
+     * snapshot of the current execution: a full snapshot followed by
+     * incremental snapshots. If it's empty, the next snapshot must be full.
+     * See {@link com.hazelcast.jet.config.JobConfig#setFullSnapshotInterval}.
+     */
+    private final List<Long> snapshotChain = new ArrayList<>();
+
+    /**
+     * The total number of chunks of the snapshots in {@link #snapshotChain}.
+     */
+    private long snapshotChainNumChunks;
+
     private class SnapshotRequest {
         /**
          * User-specified name of the snapshot or null, if no name is specified
@@ -91,6 +105,16 @@ class MasterSnapshotContext {
          * be null.
          */
         final CompletableFuture<Void> future;
+        /**
+         * If true, the members remember the snapshot contents so that the
+         * next snapshot can be incremental. Set when the request is started.
+         */
+        boolean trackChanges;
+        /**
+         * If true, the snapshot contains only the changes since the previous
+         * snapshot. Set when the request is started.
+         */
+        boolean isIncremental;
 
         SnapshotRequest(@Nullable String snapshotName, boolean isTerminal, @Nullable CompletableFuture<Void> future) {
             this.snapshotName = snapshotName;
@@ -110,12 +134,29 @@ class MasterSnapshotContext {
         }
 
         public int snapshotFlags() {
-            return SnapshotFlags.create(isTerminal, isExport());
+            return SnapshotFlags.create(isTerminal, isExport(), trackChanges, isIncremental);
         }
 
         public String mapName() {
-            return isExport() ? exportedSnapshotMapName(snapshotName)
-                    : snapshotDataMapName(mc.jobId(), mc.jobExecutionRecord().ongoingDataMapIndex());
+            if (isExport()) {
+                return exportedSnapshotMapName(snapshotName);
+            }
+            // incremental snapshots are added to the map with the snapshots they build on
+            return snapshotDataMapName(mc.jobId(), isIncremental
+                    ? mc.jobExecutionRecord().dataMapIndex()
+                    : mc.jobExecutionRecord().ongoingDataMapIndex());
+        }
+
+        /**
+         * Decides whether the snapshot will be full or incremental. Members
+         * older than 6.0 can't read the snapshot chain of the validation
+         * record, so until the cluster is upgraded all snapshots are full.
+         */
+        void initIncremental() {
+            int fullSnapshotInterval = mc.jobConfig().getFullSnapshotInterval();
+            trackChanges = fullSnapshotInterval > 1 && !isExport()
+                    && mc.nodeEngine().getClusterService().getClusterVersion().isGreaterOrEqual(V6_0);
+            isIncremental = trackChanges && !snapshotChain.isEmpty() && snapshotChain.size() < fullSnapshotInterval;
         }
 
         /**
@@ -200,6 +241,7 @@ class MasterSnapshotContext {
                     return;
                 }
                 snapshotInProgress = true;
+                requestedSnapshot.initIncremental();
                 mc.jobExecutionRecord().startNewSnapshot(requestedSnapshot.snapshotName);
                 localExecutionId = mc.executionId();
             } finally {
@@ -212,7 +254,9 @@ class MasterSnapshotContext {
 
             try {
                 mc.writeJobExecutionRecordSafe(false);
-                mc.nodeEngine().getHazelcastInstance().getMap(mapName).clear();
+                if (!requestedSnapshot.isIncremental) {
+                    mc.nodeEngine().getHazelcastInstance().getMap(mapName).clear();
+                }
             } catch (Exception e) {
                 logger.warning(String.format("Failed to start snapshot %d for %s",
                         newSnapshotId, jobNameAndExecutionId(mc.jobName(), localExecutionId)),
@@ -328,10 +372,16 @@ class MasterSnapshotContext {
                 // to have failOnIndeterminateOperationState enabled.
                 IMap<Object, Object> snapshotMap = safeImap(mc.nodeEngine().getHazelcastInstance().getMap(mapName));
                 try {
+                    // an incremental snapshot is valid together with the snapshots it builds on
+                    long[] baseSnapshotIds = requestedSnapshot.isIncremental
+                            ? snapshotChain.stream().mapToLong(Long::longValue).toArray()
+                            : new long[0];
+                    long numChunks = mergedResult.getNumChunks()
+                            + (requestedSnapshot.isIncremental ? snapshotChainNumChunks : 0);
                     SnapshotValidationRecord validationRecord = new SnapshotValidationRecord(snapshotId,
-                            mergedResult.getNumChunks(), mergedResult.getNumBytes(),
+                            numChunks, mergedResult.getNumBytes(),
                             mc.jobExecutionRecord().ongoingSnapshotStartTime(), mc.jobId(), mc.jobName(),
-                            mc.jobRecord().getDagJson());
+                            mc.jobRecord().getDagJson(), baseSnapshotIds);
 
                     // The decision moment for _exported_ snapshots: after this the snapshot is valid to be restored
                     // from, however it will be not listed by JetInstance.getJobStateSnapshots unless the validation
@@ -353,7 +403,7 @@ class MasterSnapshotContext {
                         // update also for failed snapshots because the map may have contained different snapshot before
                         mc.jobRepository().cacheValidationRecord(requestedSnapshot.snapshotName, validationRecord);
                     }
-                    if (oldValue != null) {
+                    if (oldValue != null && !requestedSnapshot.isIncremental) {
                         logger.severe("SnapshotValidationRecord overwritten after writing to '" + mapName
                                 + "' for " + mc.jobIdString() + ": snapshot data might be corrupted");
                     }
@@ -365,7 +415,8 @@ class MasterSnapshotContext {
                 // update snapshot state in memory after success or failure
                 stats = mc.jobExecutionRecord().ongoingSnapshotDone(
                         mergedResult.getNumBytes(), mergedResult.getNumKeys(), mergedResult.getNumChunks(),
-                        mergedResult.getError(), requestedSnapshot.isTerminal);
+                        mergedResult.getError(), requestedSnapshot.isTerminal, requestedSnapshot.isIncremental);
+                updateSnapshotChain(snapshotId, requestedSnapshot, isSuccess, mergedResult.getNumChunks());
 
                 // There is no need to restart job in case of a failed snapshot:
                 // - ongoingSnapshotId is safe in IMap, because it was written at the beginning
@@ -414,8 +465,12 @@ class MasterSnapshotContext {
                     try {
                         // Clear data of failed snapshot (automatic or exported) to decrease memory usage.
                         // This can be done regardless of skipPhase2 because failed snapshot
-                        // can never be used for restore.
-                        snapshotMap.clear();
+                        // can never be used for restore. The map of a failed incremental snapshot
+                        // also contains the last successful snapshot, its leftover chunks will be
+                        // cleared before the next full snapshot is written to the map.
+                        if (!requestedSnapshot.isIncremental) {
+                            snapshotMap.clear();
+                        }
                     } catch (Exception e) {
                         logger.warning(mc.jobIdString() + ": failed to clear snapshot map '" + mapName
                                 + "' after a failure", e);
@@ -424,7 +479,7 @@ class MasterSnapshotContext {
 
                 // Do not clear snapshot data when JobExecutionRecord update was indeterminate.
                 // It may turn out that this will be a correct snapshot after all.
-                if (isSuccess && !skipPhase2 && !requestedSnapshot.isExport()) {
+                if (isSuccess && !skipPhase2 && !requestedSnapshot.isExport() && !requestedSnapshot.isIncremental) {
                     // clear IMap for next automatic snapshot early to decrease memory usage
                     mc.jobRepository().clearSnapshotData(mc.jobId(), mc.jobExecutionRecord().ongoingDataMapIndex());
                 }
@@ -533,6 +588,20 @@ class MasterSnapshotContext {
         });
     }
 
+    private void updateSnapshotChain(long snapshotId, SnapshotRequest requestedSnapshot, boolean isSuccess,
+                                     long numChunks) {
+        if (!requestedSnapshot.isIncremental || !isSuccess) {
+            // After a failure the members might have tracked changes that weren't written. An export
+            // resets the tracked changes on members. In both cases the next snapshot must be full.
+            snapshotChain.clear();
+            snapshotChainNumChunks = 0;
+        }
+        if (isSuccess && requestedSnapshot.trackChanges) {
+            snapshotChain.add(snapshotId);
+            snapshotChainNumChunks += numChunks;
+        }
+    }
+
     CompletableFuture<Void> terminalSnapshotFuture() {
         return terminalSnapshotFuture;
     }
@@ -541,6 +610,9 @@ class MasterSnapshotContext {
         snapshotInProgress = false;
         assert snapshotQueue.isEmpty() : "snapshotQueue not empty";
         terminalSnapshotFuture = new CompletableFuture<>();
+        // the processors of the new execution don't know the contents of the previous snapshots
+        snapshotChain.clear();
+        snapshotChainNumChunks = 0;
     }
 
     void onExecutionTerminated() {
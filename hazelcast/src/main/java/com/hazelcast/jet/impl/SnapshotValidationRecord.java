@@ -20,13 +20,19 @@ import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.util.Arrays;
 
-public class SnapshotValidationRecord implements IdentifiedDataSerializable {
+import static com.hazelcast.internal.cluster.Versions.V6_0;
+
+public class SnapshotValidationRecord implements IdentifiedDataSerializable, Versioned {
     public static final SnapshotValidationKey KEY = SnapshotValidationKey.KEY;
 
+    private static final long[] NO_BASE_SNAPSHOTS = new long[0];
+
     private long snapshotId;
     private long numChunks;
     private long numBytes;
@@ -35,12 +41,14 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
     private long jobId;
     private String jobName;
     private String dagJsonString;
+    private long[] baseSnapshotIds = NO_BASE_SNAPSHOTS;
 
     public SnapshotValidationRecord() {
     }
 
     SnapshotValidationRecord(long snapshotId, long numChunks, long numBytes, long creationTime, long jobId,
-                                    @Nonnull String jobName, @Nonnull String dagJsonString) {
+                                    @Nonnull String jobName, @Nonnull String dagJsonString,
+                                    @Nonnull long[] baseSnapshotIds) {
         this.snapshotId = snapshotId;
         this.numChunks = numChunks;
         this.numBytes = numBytes;
@@ -48,6 +56,7 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
         this.jobId = jobId;
         this.jobName = jobName;
         this.dagJsonString = dagJsonString;
+        this.baseSnapshotIds = baseSnapshotIds;
     }
 
     public long snapshotId() {
@@ -78,6 +87,25 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
         return dagJsonString;
     }
 
+    /**
+     * Returns the IDs of the snapshots this incremental snapshot builds on,
+     * starting with the full snapshot. Their data is stored in the same map.
+     * Returns an empty array for a full snapshot.
+     */
+    public long[] baseSnapshotIds() {
+        return baseSnapshotIds;
+    }
+
+    /**
+     * Returns the IDs of all the snapshots needed to restore the state of
+     * this snapshot, in the order they were taken.
+     */
+    public long[] snapshotIdChain() {
+        long[] chain = Arrays.copyOf(baseSnapshotIds, baseSnapshotIds.length + 1);
+        chain[baseSnapshotIds.length] = snapshotId;
+        return chain;
+    }
+
     @Override
     public int getFactoryId() {
         return JetInitDataSerializerHook.FACTORY_ID;
@@ -97,6 +125,9 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
         out.writeLong(jobId);
         out.writeString(jobName);
         out.writeString(dagJsonString);
+        if (out.getVersion().isGreaterOrEqual(V6_0)) {
+            out.writeLongArray(baseSnapshotIds);
+        }
     }
 
     @Override
@@ -108,6 +139,11 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
         jobId = in.readLong();
         jobName = in.readString();
         dagJsonString = in.readString();
+        if (in.getVersion().isGreaterOrEqual(V6_0)) {
+            baseSnapshotIds = in.readLongArray();
+        } else {
+            baseSnapshotIds = NO_BASE_SNAPSHOTS;
+        }
     }
 
     @Override
@@ -119,6 +155,7 @@ public class SnapshotValidationRecord implements IdentifiedDataSerializable {
                 ", creationTime=" + creationTime +
                 ", jobId=" + jobId +
                 ", jobName='" + jobName + '\'' +
+                ", baseSnapshotIds=" + Arrays.toString(baseSnapshotIds) +
                 // dagJsonString may be long and does not bring much value in toString
                 '}';
     }
@@ -21,6 +21,8 @@ import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl.SnapshotDataKey;
 import com.hazelcast.map.IMap;
 
+import java.util.Arrays;
+
 import static com.hazelcast.jet.impl.JobExecutionRecord.NO_SNAPSHOT;
 
 final class SnapshotValidator {
@@ -37,9 +39,11 @@ final class SnapshotValidator {
      * @param jobIdString name and ID of the job, for debug output
      * @param snapshotName user-supplied snapshot name for debug output,
      *                     null if it's not an exported snapshot
-     * @return the snapshot ID of the snapshot being validated
+     * @return the IDs of the snapshots to restore the state from: the ID of
+     *      the snapshot being validated, preceded by the IDs of the snapshots
+     *      it builds on, if it's incremental
      */
-    static long validateSnapshot(
+    static long[] validateSnapshot(
             long snapshotId, IMap<Object, Object> snapshotMap, String jobIdString, String snapshotName
     ) {
         SnapshotValidationRecord validationRecord =
@@ -50,23 +54,40 @@ final class SnapshotValidator {
                     "snapshot %s in IMap %s (%d entries) is damaged. Unable to restore the state for %s.",
                     nameOrId, snapshotMap.getName(), snapshotMap.size(), jobIdString));
         }
+        long[] chain = validationRecord.snapshotIdChain();
+        if (snapshotId != NO_SNAPSHOT && snapshotId != validationRecord.snapshotId()) {
+            int index = indexOf(validationRecord.baseSnapshotIds(), snapshotId);
+            if (index < 0) {
+                throw new JetException(String.format(
+                        "%s: IMap '%s' was supposed to contain snapshotId %d, but it contains snapshotId %d",
+                        jobIdString, snapshotMap.getName(), snapshotId, validationRecord.snapshotId()));
+            }
+            // An incremental snapshot was written after the one we're looking for, but its completion
+            // wasn't recorded. The data of the requested snapshot is still in the map. We can't
+            // validate the number of chunks, the record contains the number for the newer snapshot.
+            return Arrays.copyOf(chain, index + 1);
+        }
         if (validationRecord.numChunks() != snapshotMap.size() - 1) {
             // fallback validation that counts using aggregate(), ignoring different snapshot IDs
             long filteredCount = snapshotMap.aggregate(
                     Aggregators.count(),
                     e -> e.getKey() instanceof SnapshotDataKey snapshotDataKey
-                            && snapshotDataKey.snapshotId() == snapshotId);
+                            && indexOf(chain, snapshotDataKey.snapshotId()) >= 0);
             if (validationRecord.numChunks() != filteredCount) {
                 throw new JetException(String.format(
                         "State for %s in IMap '%s' is corrupted: it should have %,d entries, but has %,d",
                         jobIdString, snapshotMap.getName(), validationRecord.numChunks(), snapshotMap.size() - 1));
             }
         }
-        if (snapshotId != NO_SNAPSHOT && snapshotId != validationRecord.snapshotId()) {
-            throw new JetException(String.format(
-                    "%s: IMap '%s' was supposed to contain snapshotId %d, but it contains snapshotId %d",
-                    jobIdString, snapshotMap.getName(), snapshotId, validationRecord.snapshotId()));
+        return chain;
+    }
+
+    static int indexOf(long[] array, long value) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == value) {
+                return i;
+            }
         }
-        return validationRecord.snapshotId();
+        return -1;
     }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+/**
+ * Implemented by the processors that know which keys of their state changed
+ * since the previous snapshot. In an incremental snapshot, such a processor
+ * saves the {@link #UNCHANGED} value for the other keys instead of
+ * serializing their state again. The state saved by the other processors
+ * is written to an incremental snapshot in full.
+ */
+public interface ChangeTrackingProcessor {
+
+    /**
+     * Saved to the snapshot as the value of a key whose state didn't change
+     * since the previous snapshot. Allowed only if the snapshot is {@linkplain
+     * #startSnapshot(boolean) incremental}.
+     */
+    Object UNCHANGED = new Object();
+
+    /**
+     * Called before the processor saves its state to a snapshot. If {@code
+     * incremental} is false, the processor must save the full state. In
+     * both cases it starts tracking the changes anew.
+     */
+    void startSnapshot(boolean incremental);
+}
@@ -121,6 +121,7 @@ public class ExecutionContext implements DynamicMetricsProvider {
     private volatile SnapshotContext snapshotContext;
 
     private boolean metricsEnabled;
+    private boolean virtualThreadsEnabled;
     private volatile RawJobMetrics metrics = RawJobMetrics.empty();
 
     private InternalSerializationService serializationService;
@@ -166,6 +167,7 @@ public class ExecutionContext implements DynamicMetricsProvider {
                         .createSerializationService(jobConfig.getSerializerConfigs());
 
         metricsEnabled = jobConfig.isMetricsEnabled() && nodeEngine.getConfig().getMetricsConfig().isEnabled();
+        virtualThreadsEnabled = jobConfig.isVirtualThreadsEnabled();
         return plan.initialize(nodeEngine, jobId, executionId, snapshotContext, tempDirectories, serializationService)
                 .thenAccept(ignored -> initWithPlan(plan));
     }
@@ -230,7 +232,7 @@ public class ExecutionContext implements DynamicMetricsProvider {
                 }
                 startTime.set(System.currentTimeMillis());
                 executionFuture = taskletExecService
-                        .beginExecute(tasklets, cancellationFuture, cl)
+                        .beginExecute(tasklets, cancellationFuture, cl, virtualThreadsEnabled)
                         .whenComplete(withTryCatch(logger, (r, t) -> setCompletionTime()))
                         .thenApply(res -> {
                             // There's a race here: a snapshot could be requested after the job just completed
@@ -448,6 +450,7 @@ public class ExecutionContext implements DynamicMetricsProvider {
         for (Tasklet tasklet : tasklets) {
             tasklet.provideDynamicMetrics(descriptor.copy(), context);
         }
+        jetServiceBackend.getTaskletExecutionService().collectWorkerUtilization(descriptor, context);
     }
 
     public void setCompletionTime() {
@@ -20,12 +20,15 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.util.counters.SwCounter;
+import com.hazelcast.jet.core.BroadcastKey;
 import com.hazelcast.jet.core.Watermark;
 import com.hazelcast.jet.impl.util.ProgressState;
 import com.hazelcast.jet.impl.util.ProgressTracker;
 import com.hazelcast.jet.impl.util.Util;
 
 import javax.annotation.Nonnull;
+import java.io.Serial;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Arrays;
 import java.util.BitSet;
 import java.util.HashMap;
@@ -207,8 +210,14 @@ public class OutboxImpl implements OutboxInternal {
             // We serialize the key and value immediately to effectively clone them,
             // so the caller can modify them right after they are accepted by this method.
             Data sKey = serializationService.toData(key);
-            Data sValue = serializationService.toData(value);
-            pendingSnapshotEntry = entry(sKey, sValue);
+            if (value == ChangeTrackingProcessor.UNCHANGED) {
+                pendingSnapshotEntry = new UnchangedSnapshotEntry(sKey);
+            } else {
+                Data sValue = serializationService.toData(value);
+                pendingSnapshotEntry = key instanceof BroadcastKey
+                        ? new BroadcastSnapshotEntry(sKey, sValue)
+                        : entry(sKey, sValue);
+            }
         }
 
         boolean success = offerInternal(snapshotEdge, pendingSnapshotEntry);
@@ -266,4 +275,33 @@ public class OutboxImpl implements OutboxInternal {
         }
         return counter.get();
     }
+
+    /**
+     * A serialized snapshot entry whose key is a {@link BroadcastKey}. Such
+     * keys aren't unique, each processor can save its own entry with the
+     * same key.
+     */
+    static final class BroadcastSnapshotEntry extends SimpleImmutableEntry<Data, Data> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        BroadcastSnapshotEntry(Data key, Data value) {
+            super(key, value);
+        }
+    }
+
+    /**
+     * A snapshot entry of a key whose state didn't change since the previous
+     * snapshot, see {@link ChangeTrackingProcessor#UNCHANGED}. It has no value.
+     */
+    static final class UnchangedSnapshotEntry extends SimpleImmutableEntry<Data, Data> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        UnchangedSnapshotEntry(Data key) {
+            super(key, null);
+        }
+    }
 }
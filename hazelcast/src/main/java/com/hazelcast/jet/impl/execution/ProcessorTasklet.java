@@ -131,6 +131,7 @@ public class ProcessorTasklet implements Tasklet {
     private long pendingSnapshotId2;
 
     private SnapshotBarrier currentBarrier;
+    private boolean snapshotStarted;
 
     /**
      * A "global watermark" is a watermark coalesced from all input edges,
@@ -353,7 +354,11 @@ public class ProcessorTasklet implements Tasklet {
                 return;
 
             case SAVE_SNAPSHOT:
+                if (!snapshotStarted) {
+                    startSnapshot();
+                }
                 if (doWithClassLoader(context.classLoader(), () -> processor.saveToSnapshot())) {
+                    snapshotStarted = false;
                     progTracker.madeProgress();
                     state = ssContext.isExportOnly() ? EMIT_BARRIER : SNAPSHOT_COMMIT_PREPARE;
                     stateMachineStep(); // recursion
@@ -507,6 +512,18 @@ public class ProcessorTasklet implements Tasklet {
         }
     }
 
+    private void startSnapshot() {
+        Processor unwrapped = processor instanceof ProcessorWrapper pw ? pw.getWrapped() : processor;
+        if (unwrapped instanceof ChangeTrackingProcessor changeTrackingProcessor) {
+            // The flags are known only after the snapshot started on this member, but the barriers from
+            // the remote members can arrive earlier. The processor saves its full state then.
+            boolean incremental = ssContext.activeSnapshotIdPhase1() >= pendingSnapshotId1
+                    && SnapshotFlags.isIncremental(ssContext.snapshotFlags());
+            doWithClassLoader(context.classLoader(), () -> changeTrackingProcessor.startSnapshot(incremental));
+        }
+        snapshotStarted = true;
+    }
+
     private void complete() {
         // check ssContext to see if a snapshot phase should be executed
         if (pendingSnapshotId1 == pendingSnapshotId2) {
@@ -21,9 +21,11 @@ import com.hazelcast.internal.metrics.MetricDescriptor;
 import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.internal.nio.Bits;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.Lz4BlockCodec;
 import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.RestartableException;
@@ -51,6 +53,10 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Receives from a remote member the data associated with a single edge.
+ * <p>
+ * If the edge has compression enabled, each packet is decompressed into a
+ * buffer reused for all packets before its items are deserialized, see
+ * {@link SenderTasklet}.
  */
 public class ReceiverTasklet implements Tasklet {
 
@@ -96,6 +102,10 @@ public class ReceiverTasklet implements Tasklet {
     private final ArrayDeque<ObjWithPtionIdAndSize> inbox = new ArrayDeque<>();
     private final OutboundCollector collector;
     private final InternalSerializationService serializationService;
+    // reused for all received packets, the items are read in place from their payload
+    private final BufferObjectDataInput input;
+    private final boolean compressionEnabled;
+    private byte[] decompressionBuffer = new byte[0];
 
     private boolean receptionDone;
 
@@ -105,6 +115,12 @@ public class ReceiverTasklet implements Tasklet {
     @Probe(name = MetricNames.DISTRIBUTED_BYTES_IN, unit = ProbeUnit.BYTES)
     private final Counter bytesInCounter = SwCounter.newSwCounter();
 
+    @Probe(name = MetricNames.DISTRIBUTED_COMPRESSED_BYTES_IN, unit = ProbeUnit.BYTES)
+    private final Counter compressedBytesInCounter = SwCounter.newSwCounter();
+
+    @Probe(name = MetricNames.DISTRIBUTED_DECOMPRESSION_TIME, unit = ProbeUnit.NS)
+    private final Counter decompressionTimeCounter = SwCounter.newSwCounter();
+
     //                    FLOW-CONTROL STATE
     //            All arrays are indexed by sender ID.
 
@@ -120,15 +136,18 @@ public class ReceiverTasklet implements Tasklet {
 
     //                 END FLOW-CONTROL STATE
 
+    @SuppressWarnings("checkstyle:parameternumber")
     public ReceiverTasklet(
             OutboundCollector collector, InternalSerializationService serializationService,
-            int rwinMultiplier, int flowControlPeriodMs, LoggingService loggingService,
+            int rwinMultiplier, boolean compressionEnabled, int flowControlPeriodMs, LoggingService loggingService,
             Address sourceAddress, int ordinal, String destinationVertexName,
             Connection memberConnection, String jobPrefix
     ) {
         this.collector = collector;
         this.serializationService = serializationService;
+        this.input = serializationService.createObjectDataInput((byte[]) null);
         this.rwinMultiplier = rwinMultiplier;
+        this.compressionEnabled = compressionEnabled;
         this.flowControlPeriodNs = (double) MILLISECONDS.toNanos(flowControlPeriodMs);
         this.sourceAddressString = sourceAddress.toString();
         this.ordinalString = String.valueOf(ordinal);
@@ -300,7 +319,14 @@ public class ReceiverTasklet implements Tasklet {
             long totalBytes = 0;
             long totalItems = 0;
             for (byte[] payload; (payload = incoming.poll()) != null; ) {
-                BufferObjectDataInput input = serializationService.createObjectDataInput(payload, PACKET_HEADER_SIZE);
+                if (compressionEnabled) {
+                    compressedBytesInCounter.inc(payload.length);
+                    input.init(decompress(payload), 0);
+                    // count the uncompressed bytes as if the header preceded them, like the sender does
+                    totalBytes += PACKET_HEADER_SIZE;
+                } else {
+                    input.init(payload, PACKET_HEADER_SIZE);
+                }
                 final int itemCount = input.readInt();
                 for (int i = 0; i < itemCount; i++) {
                     final int mark = input.position();
@@ -311,6 +337,8 @@ public class ReceiverTasklet implements Tasklet {
                 }
                 totalItems += itemCount;
                 totalBytes += input.position();
+                // release the payload and the state left by the items
+                input.clear();
                 tracker.madeProgress();
             }
             bytesInCounter.inc(totalBytes);
@@ -320,6 +348,19 @@ public class ReceiverTasklet implements Tasklet {
         }
     }
 
+    private byte[] decompress(byte[] payload) {
+        long start = System.nanoTime();
+        int blockOffset = PACKET_HEADER_SIZE + Bits.INT_SIZE_IN_BYTES;
+        int uncompressedLength = Bits.readIntB(payload, PACKET_HEADER_SIZE);
+        if (decompressionBuffer.length < uncompressedLength) {
+            decompressionBuffer = new byte[uncompressedLength];
+        }
+        Lz4BlockCodec.decompress(payload, blockOffset, payload.length - blockOffset,
+                decompressionBuffer, 0, uncompressedLength);
+        decompressionTimeCounter.inc(System.nanoTime() - start);
+        return decompressionBuffer;
+    }
+
     public void initIncomingQueue(Queue<byte[]> incomingQueue) {
         incoming = incomingQueue;
     }
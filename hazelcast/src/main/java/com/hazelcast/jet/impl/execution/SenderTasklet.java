@@ -26,7 +26,9 @@ import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.nio.Connection;
 import com.hazelcast.internal.nio.Packet;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.Lz4BlockCodec;
 import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.concurrent.ManyToOneConcurrentArrayQueue;
 import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.RestartableException;
 import com.hazelcast.jet.core.metrics.MetricNames;
@@ -51,18 +53,43 @@ import static com.hazelcast.jet.impl.util.Util.uncheckRun;
 
 /**
  * The tasklet that sends the data associated with a single edge through network.
+ * <p>
+ * Batches are serialized directly into buffers which become the payload of
+ * the packets, without copying. A buffer is handed back to this tasklet by
+ * the networking thread once its packet is written out, and serialization
+ * of the next batches reuses it.
+ * <p>
+ * If the edge has compression enabled, the serialized batch is compressed
+ * into the payload of the packet as a whole and its buffer is reused right
+ * away. The payload then holds the length of the uncompressed batch followed
+ * by the compressed block, see {@link Lz4BlockCodec}. The flow control keeps
+ * counting the uncompressed bytes.
  */
 public class SenderTasklet implements Tasklet {
     private static final int BUFFER_INITIAL_SIZE = 1 << 10;
     private static final int BUFFER_FIRST_GROWTH_SIZE = 1 << 15;
+    private static final int BUFFER_POOL_CAPACITY = 8;
+    /**
+     * Buffers grown beyond this many times the packet size limit by large
+     * items are not pooled.
+     */
+    private static final int MAX_POOLED_BUFFER_SIZE_MULTIPLIER = 4;
+    private static final long HUNDRED_PERCENT = 100;
 
     private final Connection connection;
     private final Queue<Object> inbox = new ArrayDeque<>();
     private final ProgressTracker progTracker = new ProgressTracker();
     private final InboundEdgeStream inboundEdgeStream;
     private final BufferObjectDataOutput outputBuffer;
+    private final byte[] packetHeader;
     private final int bufPosPastHeader;
     private final int packetSizeLimit;
+    // offered by HZ networking threads, polled by Jet thread
+    private final ManyToOneConcurrentArrayQueue<byte[]> bufferPool =
+            new ManyToOneConcurrentArrayQueue<>(BUFFER_POOL_CAPACITY);
+    private final Consumer<byte[]> releaseBufferFunction = this::releaseBuffer;
+    // null if the edge isn't compressed
+    private final Lz4BlockCodec codec;
 
     /* Used for metrics */
     private final String destinationAddressString;
@@ -75,6 +102,12 @@ public class SenderTasklet implements Tasklet {
     @Probe(name = MetricNames.DISTRIBUTED_BYTES_OUT, unit = ProbeUnit.BYTES)
     private final Counter bytesOutCounter = SwCounter.newSwCounter();
 
+    @Probe(name = MetricNames.DISTRIBUTED_COMPRESSED_BYTES_OUT, unit = ProbeUnit.BYTES)
+    private final Counter compressedBytesOutCounter = SwCounter.newSwCounter();
+
+    @Probe(name = MetricNames.DISTRIBUTED_COMPRESSION_TIME, unit = ProbeUnit.NS)
+    private final Counter compressionTimeCounter = SwCounter.newSwCounter();
+
     private boolean instreamExhausted;
     // read and written by Jet thread
     private long sentSeq;
@@ -83,12 +116,13 @@ public class SenderTasklet implements Tasklet {
     private volatile int sendSeqLimitCompressed;
     private final Consumer<Object> addToInboxFunction = inbox::add;
 
+    @SuppressWarnings("checkstyle:parameternumber")
     public SenderTasklet(
             InboundEdgeStream inboundEdgeStream,
             NodeEngine nodeEngine,
             Address destinationAddress,
             Connection connection,
-            int destinationVertexId, int packetSizeLimit, long executionId,
+            int destinationVertexId, int packetSizeLimit, boolean compressionEnabled, long executionId,
             String sourceVertexName, int sourceOrdinal,
             InternalSerializationService serializationService
     ) {
@@ -97,11 +131,13 @@ public class SenderTasklet implements Tasklet {
         this.sourceVertexName = sourceVertexName;
         this.sourceOrdinalString = String.valueOf(sourceOrdinal);
         this.packetSizeLimit = packetSizeLimit;
+        this.codec = compressionEnabled ? new Lz4BlockCodec() : null;
         // we use Connection directly because we rely on packets not being transparently skipped or reordered
         this.connection = connection;
         this.outputBuffer = serializationService.createObjectDataOutput(BUFFER_INITIAL_SIZE, BUFFER_FIRST_GROWTH_SIZE);
-        uncheckRun(() -> outputBuffer.write(createStreamPacketHeader(nodeEngine,
-                executionId, destinationVertexId, inboundEdgeStream.ordinal())));
+        this.packetHeader = createStreamPacketHeader(nodeEngine,
+                executionId, destinationVertexId, inboundEdgeStream.ordinal());
+        uncheckRun(() -> outputBuffer.write(packetHeader));
         bufPosPastHeader = outputBuffer.position();
     }
 
@@ -114,13 +150,50 @@ public class SenderTasklet implements Tasklet {
         }
         if (tryFillOutputBuffer()) {
             progTracker.madeProgress();
-            if (!connection.write(new Packet(outputBuffer.toByteArray()).setPacketType(Packet.Type.JET))) {
+            int payloadLength = outputBuffer.position();
+            byte[] payload = outputBuffer.swapBuffer(acquireBuffer(0));
+            uncheckRun(() -> outputBuffer.write(packetHeader));
+            Packet packet = codec == null
+                    ? new Packet(payload, payloadLength, releaseBufferFunction)
+                    : compress(payload, payloadLength);
+            packet.setPacketType(Packet.Type.JET);
+            if (!connection.write(packet)) {
                 throw new RestartableException("Connection write failed in " + toString());
             }
         }
         return progTracker.toProgressState();
     }
 
+    private Packet compress(byte[] batch, int batchLength) {
+        long start = System.nanoTime();
+        int uncompressedLength = batchLength - bufPosPastHeader;
+        int blockOffset = bufPosPastHeader + Bits.INT_SIZE_IN_BYTES;
+        byte[] payload = acquireBuffer(blockOffset + Lz4BlockCodec.maxCompressedLength(uncompressedLength));
+        System.arraycopy(batch, 0, payload, 0, bufPosPastHeader);
+        Bits.writeIntB(payload, bufPosPastHeader, uncompressedLength);
+        int payloadLength = blockOffset + codec.compress(batch, bufPosPastHeader, uncompressedLength, payload, blockOffset);
+        releaseBuffer(batch);
+        compressionTimeCounter.inc(System.nanoTime() - start);
+        compressedBytesOutCounter.inc(payloadLength);
+        return new Packet(payload, payloadLength, releaseBufferFunction);
+    }
+
+    private byte[] acquireBuffer(int minLength) {
+        byte[] buffer = bufferPool.poll();
+        // a pooled buffer too small for a compressed batch is dropped
+        return buffer != null && buffer.length >= minLength
+                ? buffer
+                : new byte[Math.max(minLength, packetSizeLimit + BUFFER_FIRST_GROWTH_SIZE)];
+    }
+
+    // Called from HZ networking thread, or from Jet thread for a compressed batch
+    private void releaseBuffer(byte[] buffer) {
+        if (buffer.length <= MAX_POOLED_BUFFER_SIZE_MULTIPLIER * (packetSizeLimit + BUFFER_FIRST_GROWTH_SIZE)) {
+            // the buffer is dropped if the pool is full
+            bufferPool.offer(buffer);
+        }
+    }
+
     private void tryFillInbox() {
         if (!inbox.isEmpty()) {
             progTracker.notDone();
@@ -177,6 +250,12 @@ public class SenderTasklet implements Tasklet {
         this.sendSeqLimitCompressed = sendSeqLimitCompressed;
     }
 
+    @Probe(name = MetricNames.DISTRIBUTED_COMPRESSION_RATIO, unit = ProbeUnit.PERCENT)
+    private long compressionRatio() {
+        long bytesOut = bytesOutCounter.get();
+        return bytesOut == 0 ? 0 : compressedBytesOutCounter.get() * HUNDRED_PERCENT / bytesOut;
+    }
+
     @Override
     public String toString() {
         return "SenderTasklet{" +
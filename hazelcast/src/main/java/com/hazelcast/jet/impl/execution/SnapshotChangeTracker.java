@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.execution;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.jet.impl.execution.OutboxImpl.BroadcastSnapshotEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Remembers the keys of the last snapshot written by a {@link
+ * StoreSnapshotTasklet} so that the next, incremental snapshot contains
+ * tombstones for the keys removed since then.
+ * <p>
+ * Only the serialized keys are kept, the values aren't compared. The
+ * processors which {@linkplain ChangeTrackingProcessor track the changes}
+ * save only the changed values, all values saved by the other processors
+ * are written. The entries with a broadcast key aren't tracked, they are
+ * always written.
+ */
+final class SnapshotChangeTracker {
+
+    private final Map<Data, TrackedKey> entries = new HashMap<>();
+    private long snapshotId = -1;
+    private long lastTrackedSnapshotId = -1;
+    private boolean trackChanges;
+    private boolean incremental;
+
+    /**
+     * Starts tracking the snapshot with the given ID.
+     *
+     * @return false, if the snapshot is incremental, but the previous
+     *      snapshot wasn't tracked. The snapshot can't be restored from then.
+     */
+    boolean startSnapshot(long snapshotId, int flags) {
+        boolean previousTracked = lastTrackedSnapshotId == snapshotId - 1;
+        this.snapshotId = snapshotId;
+        trackChanges = SnapshotFlags.isTrackChanges(flags);
+        incremental = SnapshotFlags.isIncremental(flags) && previousTracked;
+        if (!incremental) {
+            entries.clear();
+        }
+        return incremental || !SnapshotFlags.isIncremental(flags);
+    }
+
+    /**
+     * Returns the ID of the snapshot being tracked.
+     */
+    long snapshotId() {
+        return snapshotId;
+    }
+
+    /**
+     * Records the entry in the current snapshot.
+     */
+    void recordWritten(Entry<Data, Data> entry) {
+        if (!trackChanges || entry instanceof BroadcastSnapshotEntry) {
+            return;
+        }
+        TrackedKey tracked = entries.get(entry.getKey());
+        if (tracked == null) {
+            entries.put(entry.getKey(), new TrackedKey(snapshotId));
+        } else {
+            tracked.snapshotId = snapshotId;
+        }
+    }
+
+    /**
+     * Records the key saved with the {@link ChangeTrackingProcessor#UNCHANGED}
+     * value in the current snapshot.
+     *
+     * @return false, if the snapshot isn't incremental or the key wasn't in
+     *      the previous snapshot. The snapshot can't be restored from then.
+     */
+    boolean markUnchanged(Data key) {
+        TrackedKey tracked = entries.get(key);
+        if (!incremental || tracked == null) {
+            return false;
+        }
+        tracked.snapshotId = snapshotId;
+        return true;
+    }
+
+    /**
+     * Completes the current snapshot. Returns the keys which were present in
+     * the previous snapshot, but not in the current one, if it's incremental.
+     * Otherwise returns an empty list.
+     */
+    List<Data> completeSnapshot() {
+        if (trackChanges) {
+            lastTrackedSnapshotId = snapshotId;
+        }
+        if (!incremental) {
+            return List.of();
+        }
+        List<Data> removedKeys = new ArrayList<>();
+        entries.entrySet().removeIf(e -> {
+            if (e.getValue().snapshotId < snapshotId) {
+                removedKeys.add(e.getKey());
+                return true;
+            }
+            return false;
+        });
+        return removedKeys;
+    }
+
+    /**
+     * Returns the number of tracked keys.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private static final class TrackedKey {
+        long snapshotId;
+
+        TrackedKey(long snapshotId) {
+            this.snapshotId = snapshotId;
+        }
+    }
+}
@@ -173,6 +173,13 @@ public class SnapshotContext {
         return SnapshotFlags.isExportOnly(snapshotFlags);
     }
 
+    /**
+     * Returns the flags of the last begun snapshot.
+     */
+    int snapshotFlags() {
+        return snapshotFlags;
+    }
+
     boolean isLastPhase1Successful() {
         return lastPhase1Successful;
     }
@@ -240,8 +247,9 @@ public class SnapshotContext {
                     + numPrioritySsTasklets + ')');
         }
         if (numSsTasklets == 0) {
-            // member is already done with the job and master didn't know it yet - we are immediately successful
-            return completedFuture(new SnapshotPhase1Result(0, 0, 0, null));
+            // member is already done with the job and master didn't know it yet - we are immediately successful,
+            // unless a tasklet reported an error when it completed
+            return completedFuture(new SnapshotPhase1Result(0, 0, 0, snapshotError.getAndSet(null)));
         }
         phase1Future = new CompletableFuture<>();
         return phase1Future;
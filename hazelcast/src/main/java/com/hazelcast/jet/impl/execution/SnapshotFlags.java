@@ -32,6 +32,19 @@ public final class SnapshotFlags {
      */
     private static final int EXPORT = 2; // 0b10
 
+    /**
+     * If set, the members remember the entries of the snapshot so that the
+     * next snapshot can be incremental.
+     */
+    private static final int TRACK_CHANGES = 4; // 0b100
+
+    /**
+     * If set, the snapshot contains only the entries changed since the
+     * previous snapshot and tombstones for the removed ones. The previous
+     * snapshot must have had the {@link #TRACK_CHANGES} flag.
+     */
+    private static final int INCREMENTAL = 8; // 0b1000
+
     private SnapshotFlags() { }
 
     public static boolean isTerminal(int flags) {
@@ -54,12 +67,27 @@ public final class SnapshotFlags {
         return isExport(flags) && !isTerminal(flags);
     }
 
+    public static boolean isTrackChanges(int flags) {
+        return (flags & TRACK_CHANGES) != 0;
+    }
+
+    public static boolean isIncremental(int flags) {
+        return (flags & INCREMENTAL) != 0;
+    }
+
     public static String toString(int flags) {
         return "terminal=" + (isTerminal(flags) ? "yes" : "no")
-                + ",export=" + (isExport(flags) ? "yes" : "no");
+                + ",export=" + (isExport(flags) ? "yes" : "no")
+                + ",incremental=" + (isIncremental(flags) ? "yes" : "no");
     }
 
     public static int create(boolean isTerminal, boolean isExport) {
-        return (isTerminal ? TERMINAL : 0) | (isExport ? EXPORT : 0);
+        return create(isTerminal, isExport, false, false);
+    }
+
+    public static int create(boolean isTerminal, boolean isExport, boolean trackChanges, boolean isIncremental) {
+        assert !isIncremental || trackChanges : "incremental snapshot without change tracking";
+        return (isTerminal ? TERMINAL : 0) | (isExport ? EXPORT : 0)
+                | (trackChanges ? TRACK_CHANGES : 0) | (isIncremental ? INCREMENTAL : 0);
     }
 }
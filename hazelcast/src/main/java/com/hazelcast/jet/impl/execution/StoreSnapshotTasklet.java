@@ -24,12 +24,16 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.accumulator.LongLongAccumulator;
 import com.hazelcast.jet.core.metrics.MetricTags;
+import com.hazelcast.jet.impl.execution.OutboxImpl.UnchangedSnapshotEntry;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriter;
 import com.hazelcast.jet.impl.util.ProgressState;
 import com.hazelcast.jet.impl.util.ProgressTracker;
 import com.hazelcast.logging.ILogger;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
 import java.util.Map.Entry;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -50,6 +54,7 @@ public class StoreSnapshotTasklet implements Tasklet {
     private final ILogger logger;
     private final String vertexName;
     private final boolean isHigherPrioritySource;
+    private final boolean trackChanges;
 
     private final AsyncSnapshotWriter ssWriter;
     private final ProgressTracker progTracker = new ProgressTracker();
@@ -58,6 +63,10 @@ public class StoreSnapshotTasklet implements Tasklet {
     private boolean hasReachedBarrier;
     private Entry<Data, Data> pendingEntry;
     private Consumer<Object> addToInboxFunction;
+    private final SnapshotChangeTracker changeTracker;
+    private List<Data> removedKeys;
+    private int removedKeysIndex;
+    private final Queue<Object> itemsAwaitingSnapshotStart = new ArrayDeque<>();
 
     public StoreSnapshotTasklet(
             SnapshotContext snapshotContext,
@@ -65,13 +74,16 @@ public class StoreSnapshotTasklet implements Tasklet {
             AsyncSnapshotWriter ssWriter,
             ILogger logger,
             String vertexName,
-            boolean isHigherPrioritySource
+            boolean isHigherPrioritySource,
+            boolean trackChanges
     ) {
         this.snapshotContext = snapshotContext;
         this.inboundEdgeStream = inboundEdgeStream;
         this.logger = logger;
         this.vertexName = vertexName;
         this.isHigherPrioritySource = isHigherPrioritySource;
+        this.trackChanges = trackChanges;
+        this.changeTracker = new SnapshotChangeTracker();
 
         this.ssWriter = ssWriter;
         this.pendingSnapshotId = snapshotContext.activeSnapshotIdPhase1() + 1;
@@ -96,9 +108,30 @@ public class StoreSnapshotTasklet implements Tasklet {
                     progTracker.madeProgress();
                 }
                 pendingEntry = null;
+                if (!itemsAwaitingSnapshotStart.isEmpty()) {
+                    if (snapshotContext.activeSnapshotIdPhase1() < pendingSnapshotId) {
+                        return;
+                    }
+                    while (!itemsAwaitingSnapshotStart.isEmpty()) {
+                        progTracker.madeProgress();
+                        if (!processItem(itemsAwaitingSnapshotStart.poll())) {
+                            return;
+                        }
+                    }
+                    if (hasReachedBarrier) {
+                        state = FLUSH;
+                        stateMachineStep();
+                    }
+                    return;
+                }
                 ProgressState result = inboundEdgeStream.drainTo(addToInboxFunction);
                 if (result.isDone()) {
                     assert ssWriter.isEmpty() : "input is done, but we had some entries and not the barrier";
+                    if (changeTracker.size() > 0) {
+                        // the next incremental snapshot would keep the state of the completed processors
+                        snapshotContext.reportError(new JetException("Processors of vertex '" + vertexName
+                                + "' completed, the next snapshot must be a full one"));
+                    }
                     snapshotContext.storeSnapshotTaskletDone(pendingSnapshotId - 1, isHigherPrioritySource);
                     state = DONE;
                     progTracker.reset();
@@ -112,6 +145,9 @@ public class StoreSnapshotTasklet implements Tasklet {
 
             case FLUSH:
                 progTracker.notDone();
+                if (!offerTombstones()) {
+                    return;
+                }
                 if (ssWriter.flushAndResetMap()) {
                     progTracker.madeProgress();
                     state = REACHED_BARRIER;
@@ -136,6 +172,7 @@ public class StoreSnapshotTasklet implements Tasklet {
                 snapshotContext.phase1DoneForTasklet(bytes, keys, chunks);
                 metrics.set(new LongLongAccumulator(bytes, keys));
                 ssWriter.resetStats();
+                removedKeys = null;
                 pendingSnapshotId++;
                 hasReachedBarrier = false;
                 state = DRAIN;
@@ -148,16 +185,62 @@ public class StoreSnapshotTasklet implements Tasklet {
         }
     }
 
-    private boolean addToInbox(Object o) {
+    private void addToInbox(Object o) {
+        if (trackChanges && (!itemsAwaitingSnapshotStart.isEmpty()
+                || changeTracker.snapshotId() != pendingSnapshotId
+                        && snapshotContext.activeSnapshotIdPhase1() < pendingSnapshotId)) {
+            // The processors received the barrier from a remote member before the snapshot
+            // was started on this member, we don't know whether it's incremental yet.
+            itemsAwaitingSnapshotStart.add(o);
+            return;
+        }
+        processItem(o);
+    }
+
+    private boolean processItem(Object o) {
+        if (changeTracker.snapshotId() != pendingSnapshotId
+                && !changeTracker.startSnapshot(pendingSnapshotId, snapshotContext.snapshotFlags())) {
+            snapshotContext.reportError(new JetException("Incremental snapshot " + pendingSnapshotId
+                    + " requested, but the previous snapshot wasn't tracked by " + this));
+        }
         if (o instanceof SnapshotBarrier barrier) {
             assert pendingSnapshotId == barrier.snapshotId() : "Unexpected barrier, expected was " +
                     pendingSnapshotId + ", but barrier was " + barrier.snapshotId() + ", this=" + this;
             hasReachedBarrier = true;
         } else {
-            if (!ssWriter.offer((Entry<Data, Data>) o)) {
-                pendingEntry = (Entry<Data, Data>) o;
+            Entry<Data, Data> entry = (Entry<Data, Data>) o;
+            if (entry instanceof UnchangedSnapshotEntry) {
+                if (!changeTracker.markUnchanged(entry.getKey())) {
+                    snapshotContext.reportError(new JetException("Unchanged state saved to snapshot "
+                            + pendingSnapshotId + ", but it isn't incremental or the key wasn't in the previous one"));
+                }
+            } else {
+                changeTracker.recordWritten(entry);
+                if (!ssWriter.offer(entry)) {
+                    pendingEntry = entry;
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Offers the tombstones for the keys removed since the previous snapshot,
+     * if the current snapshot is incremental.
+     *
+     * @return true, if all tombstones were offered
+     */
+    private boolean offerTombstones() {
+        if (removedKeys == null) {
+            removedKeys = changeTracker.completeSnapshot();
+            removedKeysIndex = 0;
+        }
+        for (; removedKeysIndex < removedKeys.size(); removedKeysIndex++) {
+            if (!ssWriter.offerTombstone(removedKeys.get(removedKeysIndex))) {
                 return false;
             }
+            progTracker.madeProgress();
         }
         return true;
     }
@@ -17,8 +17,12 @@
 package com.hazelcast.jet.impl.execution;
 
 import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.metrics.MetricsRegistry;
 import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.internal.util.JavaVersion;
 import com.hazelcast.internal.util.RuntimeAvailableProcessors;
 import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
 import com.hazelcast.internal.util.concurrent.IdleStrategy;
@@ -26,6 +30,7 @@ import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.JetException;
+import com.hazelcast.jet.core.metrics.MetricNames;
 import com.hazelcast.jet.core.metrics.MetricTags;
 import com.hazelcast.jet.impl.execution.init.Contexts;
 import com.hazelcast.jet.impl.util.NonCompletableFuture;
@@ -35,11 +40,14 @@ import com.hazelcast.jet.impl.util.Util;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.executionservice.ExecutionService;
+import com.hazelcast.spi.properties.ClusterProperty;
 import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.sql.impl.ResultLimitReachedException;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -50,6 +58,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
@@ -65,6 +74,7 @@ import static com.hazelcast.internal.util.ExceptionUtil.sneakyThrow;
 import static com.hazelcast.internal.util.ExceptionUtil.withTryCatch;
 import static com.hazelcast.jet.impl.util.Util.doWithClassLoader;
 import static com.hazelcast.jet.impl.util.Util.uncheckRun;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_COOPERATIVE_WORK_STEALING_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_MAX_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_COOPERATIVE_MIN_MICROSECONDS;
 import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_NONCOOPERATIVE_MAX_MICROSECONDS;
@@ -72,7 +82,9 @@ import static com.hazelcast.spi.properties.ClusterProperty.JET_IDLE_NONCOOPERATI
 import static java.lang.Thread.currentThread;
 import static java.util.Collections.emptyList;
 import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.partitioningBy;
 import static java.util.stream.Collectors.toList;
 
@@ -80,7 +92,20 @@ public class TaskletExecutionService {
 
     public static final String TASKLET_INIT_CLOSE_EXECUTOR_NAME = "jet:tasklet_initClose";
 
+    // a worker steals after this many consecutive iterations without progress
+    private static final int STEAL_AFTER_IDLE_ITERATIONS = 4;
+    // a worker gives away a tasklet only if it has at least this many ready ones
+    private static final int MIN_READY_TASKLETS_TO_STEAL_FROM = 2;
+    // a tasklet stays on its worker for at least this long before it can be stolen
+    private static final long MIN_TASKLET_RESIDENCY_NANOS = MILLISECONDS.toNanos(100);
+    // how often a worker without tasklets looks for a tasklet to steal
+    private static final long STEAL_POLL_INTERVAL_MILLIS = 10;
+    private static final long UTILIZATION_WINDOW_NANOS = SECONDS.toNanos(1);
+    private static final int HUNDRED_PERCENT = 100;
+
     private final ExecutorService blockingTaskletExecutor = newCachedThreadPool(new BlockingTaskThreadFactory());
+    // null if virtual threads aren't supported by the JVM
+    private final ExecutorService virtualThreadExecutor;
     private final ExecutionService hzExecutionService;
     private final CooperativeWorker[] cooperativeWorkers;
     private final Thread[] cooperativeThreadPool;
@@ -93,6 +118,7 @@ public class TaskletExecutionService {
     private final Object lock = new Object();
     private final IdleStrategy idlerCooperative;
     private final IdleStrategy idlerNonCooperative;
+    private final boolean workStealingEnabled;
 
     public TaskletExecutionService(NodeEngine nodeEngine, int threadCount, HazelcastProperties properties) {
         hzExecutionService = nodeEngine.getExecutionService();
@@ -109,8 +135,10 @@ public class TaskletExecutionService {
         idlerNonCooperative = createIdler(
             properties, JET_IDLE_NONCOOPERATIVE_MIN_MICROSECONDS, JET_IDLE_NONCOOPERATIVE_MAX_MICROSECONDS
         );
+        workStealingEnabled = properties.getBoolean(JET_COOPERATIVE_WORK_STEALING_ENABLED);
+        virtualThreadExecutor = createVirtualThreadExecutor();
 
-        Arrays.setAll(cooperativeWorkers, i -> new CooperativeWorker());
+        Arrays.setAll(cooperativeWorkers, CooperativeWorker::new);
         Arrays.setAll(cooperativeThreadPool, i -> new CooperativeWorkerThread(cooperativeWorkers[i],
                 String.format("hz.%s.jet.cooperative.thread-%d", hzInstanceName, i)));
         Arrays.stream(cooperativeThreadPool).forEach(Thread::start);
@@ -144,6 +172,21 @@ public class TaskletExecutionService {
             @Nonnull List<? extends Tasklet> tasklets,
             @Nonnull CompletableFuture<Void> cancellationFuture,
             @Nonnull ClassLoader jobClassLoader
+    ) {
+        return beginExecute(tasklets, cancellationFuture, jobClassLoader, false);
+    }
+
+    /**
+     * Same as {@link #beginExecute(List, CompletableFuture, ClassLoader)},
+     * but if {@code virtualThreads} is true, the non-cooperative tasklets run
+     * on virtual threads. If the JVM doesn't support virtual threads, they run
+     * on platform threads.
+     */
+    CompletableFuture<Void> beginExecute(
+            @Nonnull List<? extends Tasklet> tasklets,
+            @Nonnull CompletableFuture<Void> cancellationFuture,
+            @Nonnull ClassLoader jobClassLoader,
+            boolean virtualThreads
     ) {
         final ExecutionTracker executionTracker = new ExecutionTracker(tasklets.size(), cancellationFuture);
         try {
@@ -152,7 +195,7 @@ public class TaskletExecutionService {
                             tasklet -> doWithClassLoader(jobClassLoader, tasklet::isCooperative)
                     ));
             submitCooperativeTasklets(executionTracker, jobClassLoader, byCooperation.get(true));
-            submitBlockingTasklets(executionTracker, jobClassLoader, byCooperation.get(false));
+            submitBlockingTasklets(executionTracker, jobClassLoader, byCooperation.get(false), virtualThreads);
         } catch (Throwable t) {
             executionTracker.future.internalCompleteExceptionally(t);
         }
@@ -163,16 +206,29 @@ public class TaskletExecutionService {
         isShutdown = true;
         Arrays.stream(cooperativeWorkers).forEach(thread -> thread.newTaskletSemaphore.release());
         blockingTaskletExecutor.shutdownNow();
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdownNow();
+        }
         hzExecutionService.shutdownExecutor(TASKLET_INIT_CLOSE_EXECUTOR_NAME);
     }
 
     private void submitBlockingTasklets(ExecutionTracker executionTracker, ClassLoader jobClassLoader,
-                                        List<Tasklet> tasklets) {
+                                        List<Tasklet> tasklets, boolean virtualThreads) {
+        ExecutorService executor = blockingTaskletExecutor;
+        if (virtualThreads && !tasklets.isEmpty()) {
+            if (virtualThreadExecutor != null) {
+                executor = virtualThreadExecutor;
+            } else {
+                logger.warning("Virtual threads were requested for non-cooperative tasklets, but they are not"
+                        + " supported by the JVM (Java " + JavaVersion.JAVA_21.getMajorVersion()
+                        + "+ is required), using platform threads instead");
+            }
+        }
         CountDownLatch startedLatch = new CountDownLatch(tasklets.size());
         executionTracker.blockingFutures = tasklets
                 .stream()
                 .map(t -> new BlockingWorker(new TaskletTracker(t, executionTracker, jobClassLoader), startedLatch))
-                .map(blockingTaskletExecutor::submit)
+                .map(executor::submit)
                 .collect(toList());
 
         // Do not return from this method until all workers have started. Otherwise
@@ -201,7 +257,9 @@ public class TaskletExecutionService {
         // some worker might have no tasklet.
         synchronized (lock) {
             for (Tasklet t : tasklets) {
-                trackersByThread[cooperativeThreadIndex].add(new TaskletTracker(t, executionTracker, jobClassLoader));
+                TaskletTracker tracker = new TaskletTracker(t, executionTracker, jobClassLoader);
+                tracker.homeWorker = cooperativeThreadIndex;
+                trackersByThread[cooperativeThreadIndex].add(tracker);
                 cooperativeThreadIndex = (cooperativeThreadIndex + 1) % trackersByThread.length;
             }
         }
@@ -212,6 +270,44 @@ public class TaskletExecutionService {
         Arrays.stream(cooperativeThreadPool).forEach(LockSupport::unpark);
     }
 
+    /**
+     * Creates an executor which starts a new virtual thread for each task, or
+     * returns {@code null} if the JVM doesn't support virtual threads. The
+     * API is accessed reflectively, because it's not available in the Java
+     * version we compile against.
+     */
+    @Nullable
+    private ExecutorService createVirtualThreadExecutor() {
+        if (!JavaVersion.isAtLeast(JavaVersion.JAVA_21)) {
+            return null;
+        }
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class)
+                    .invoke(builder, String.format("hz.%s.jet.blocking.virtual-thread-", hzInstanceName), 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            Method newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newExecutor.invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.warning("Failed to create the virtual thread executor, non-cooperative tasklets will"
+                    + " run on platform threads", e);
+            return null;
+        }
+    }
+
+    /**
+     * Collects the {@linkplain MetricNames#COOPERATIVE_WORKER_UTILIZATION
+     * utilization} of each cooperative worker.
+     */
+    void collectWorkerUtilization(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        for (CooperativeWorker worker : cooperativeWorkers) {
+            context.collect(descriptor.copy().withTag(MetricTags.COOPERATIVE_WORKER, String.valueOf(worker.index)),
+                    MetricNames.COOPERATIVE_WORKER_UTILIZATION, ProbeLevel.INFO, ProbeUnit.PERCENT,
+                    worker.utilization);
+        }
+    }
+
     private void awaitAll(List<? extends Future<?>> futures) {
         Throwable firstFailure = null;
         int failureCount = 0;
@@ -245,6 +341,9 @@ public class TaskletExecutionService {
             while (!blockingTaskletExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
                 logger.warning("Blocking tasklet executor did not terminate in 1 minute");
             }
+            while (virtualThreadExecutor != null && !virtualThreadExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.warning("Virtual thread tasklet executor did not terminate in 1 minute");
+            }
             for (Thread t : cooperativeThreadPool) {
                 t.join();
             }
@@ -335,6 +434,19 @@ public class TaskletExecutionService {
         }
     }
 
+    /**
+     * Runs the cooperative tasklets assigned to it in a loop.
+     * <p>
+     * If {@link ClusterProperty#JET_COOPERATIVE_WORK_STEALING_ENABLED work
+     * stealing} is enabled, a worker
+     * which made no progress for a few iterations posts a steal request to
+     * the worker with the most tasklets that are ready to make progress. That
+     * worker (the victim) handles the request between two iterations, that is
+     * when it doesn't run any tasklet: it moves a ready tasklet to the thief's
+     * list and wakes the thief up. A tasklet is thus never run by two threads
+     * at once and the copy-on-write list of trackers publishes its state to
+     * the thief.
+     */
     private final class CooperativeWorker implements Runnable {
         private static final int COOPERATIVE_LOGGING_THRESHOLD = 5;
 
@@ -342,18 +454,38 @@ public class TaskletExecutionService {
         private final CopyOnWriteArrayList<TaskletTracker> trackers;
         @Probe(name = "iterationCount")
         private final Counter iterationCount = SwCounter.newSwCounter();
-
+        // the tasklets other workers took over from this worker
+        @Probe(name = "stolenTaskletCount")
+        private final Counter stolenTaskletCount = SwCounter.newSwCounter();
+        // the share of the time spent in iterations which made progress, over the last second
+        @Probe(name = MetricNames.COOPERATIVE_WORKER_UTILIZATION, unit = ProbeUnit.PERCENT)
+        private volatile int utilization;
+
+        private final int index;
         private final ProgressTracker progressTracker = new ProgressTracker();
         // prevent lambda allocation on each iteration
         private final Consumer<TaskletTracker> runTasklet = this::runTasklet;
 
         private final Semaphore newTaskletSemaphore = new Semaphore(0);
 
+        // the number of tasklets which made progress in the last iteration, read by thieves
+        private volatile int readyTaskletCount;
+        // the thief waiting for a tasklet from this worker
+        private final AtomicReference<CooperativeWorker> stealRequest = new AtomicReference<>();
+        // the victim this worker waits for a tasklet from, cleared by the victim
+        private volatile CooperativeWorker stealVictim;
+
         private boolean finestLogEnabled;
         private Thread myThread;
         private Contexts.Container contextContainer;
-
-        CooperativeWorker() {
+        private int readyTaskletCountLocal;
+        private long iterationStart;
+        private boolean iterationMadeProgress;
+        private long utilizationWindowStart;
+        private long utilizationWindowBusyNanos;
+
+        CooperativeWorker(int index) {
+            this.index = index;
             this.trackers = new CopyOnWriteArrayList<>();
         }
 
@@ -361,16 +493,24 @@ public class TaskletExecutionService {
         public void run() {
             myThread = currentThread();
             contextContainer = Contexts.container();
+            utilizationWindowStart = iterationStart = System.nanoTime();
 
             IdleStrategy idlerLocal = idlerCooperative;
             long idleCount = 0;
 
             while (!isShutdown) {
+                updateUtilization();
                 finestLogEnabled = logger.isFinestEnabled();
                 progressTracker.reset();
+                readyTaskletCountLocal = 0;
                 // garbage-free iteration -- relies on implementation in COWArrayList that doesn't use an Iterator
                 trackers.forEach(runTasklet);
                 iterationCount.inc();
+                iterationMadeProgress = progressTracker.isMadeProgress();
+                if (workStealingEnabled) {
+                    readyTaskletCount = readyTaskletCountLocal;
+                    handleStealRequest();
+                }
                 if (!progressTracker.isMadeProgress() && newTaskletSemaphore.drainPermits() > 0) {
                     progressTracker.madeProgress();
                 }
@@ -379,15 +519,13 @@ public class TaskletExecutionService {
                 } else {
                     if (trackers.isEmpty()) {
                         newTaskletSemaphore.drainPermits();
-                        if (trackers.isEmpty() && !isShutdown) {
-                            try {
-                                newTaskletSemaphore.acquire();
-                            } catch (InterruptedException e) {
-                                logger.severe("Cooperative worker interrupted", e);
-                                return;
-                            }
+                        if (trackers.isEmpty() && !isShutdown && !awaitTasklets()) {
+                            return;
                         }
                     } else {
+                        if (workStealingEnabled && idleCount >= STEAL_AFTER_IDLE_ITERATIONS) {
+                            requestSteal();
+                        }
                         idlerLocal.idle(++idleCount);
                     }
                 }
@@ -396,6 +534,43 @@ public class TaskletExecutionService {
             trackers.clear();
         }
 
+        /**
+         * Blocks until a tasklet is assigned to this worker. With work
+         * stealing enabled, it wakes up regularly to look for a tasklet to
+         * steal.
+         *
+         * @return {@code false} if interrupted
+         */
+        private boolean awaitTasklets() {
+            utilization = 0;
+            try {
+                if (!workStealingEnabled) {
+                    newTaskletSemaphore.acquire();
+                    return true;
+                }
+                requestSteal();
+                newTaskletSemaphore.tryAcquire(STEAL_POLL_INTERVAL_MILLIS, MILLISECONDS);
+                return true;
+            } catch (InterruptedException e) {
+                logger.severe("Cooperative worker interrupted", e);
+                return false;
+            }
+        }
+
+        private void updateUtilization() {
+            long now = System.nanoTime();
+            if (iterationMadeProgress) {
+                utilizationWindowBusyNanos += now - iterationStart;
+            }
+            iterationStart = now;
+            long windowLength = now - utilizationWindowStart;
+            if (windowLength >= UTILIZATION_WINDOW_NANOS) {
+                utilization = (int) (utilizationWindowBusyNanos * HUNDRED_PERCENT / windowLength);
+                utilizationWindowStart = now;
+                utilizationWindowBusyNanos = 0;
+            }
+        }
+
         private void runTasklet(TaskletTracker t) {
             long start = 0;
             if (finestLogEnabled) {
@@ -407,7 +582,10 @@ public class TaskletExecutionService {
                 final ProgressState result = t.tasklet.call();
                 if (result.isDone()) {
                     dismissTasklet(t);
+                } else if (result.isMadeProgress()) {
+                    readyTaskletCountLocal++;
                 }
+                t.madeProgress = result.isMadeProgress();
                 progressTracker.mergeWith(result);
             } catch (Throwable e) {
                 handleTaskletExecutionError(t, e);
@@ -432,6 +610,79 @@ public class TaskletExecutionService {
             t.executionTracker.taskletDone();
             trackers.remove(t);
         }
+
+        /**
+         * Posts a steal request to the worker with the most ready tasklets,
+         * unless a request is already pending. A pending request is withdrawn
+         * if its victim is no longer busy, it might not handle it soon.
+         */
+        private void requestSteal() {
+            CooperativeWorker victim = stealVictim;
+            if (victim != null) {
+                if (victim.readyTaskletCount < MIN_READY_TASKLETS_TO_STEAL_FROM
+                        && victim.stealRequest.compareAndSet(this, null)) {
+                    stealVictim = null;
+                }
+                return;
+            }
+            int maxReadyTaskletCount = MIN_READY_TASKLETS_TO_STEAL_FROM - 1;
+            for (CooperativeWorker worker : cooperativeWorkers) {
+                int readyCount = worker.readyTaskletCount;
+                if (worker != this && readyCount > maxReadyTaskletCount) {
+                    maxReadyTaskletCount = readyCount;
+                    victim = worker;
+                }
+            }
+            if (victim != null) {
+                // set before posting the request, the victim clears it once it handles the request
+                stealVictim = victim;
+                if (!victim.stealRequest.compareAndSet(null, this)) {
+                    stealVictim = null;
+                }
+            }
+        }
+
+        // Called between two iterations, when no tasklet of this worker is running
+        private void handleStealRequest() {
+            CooperativeWorker thief = stealRequest.get();
+            if (thief == null || !stealRequest.compareAndSet(thief, null)) {
+                return;
+            }
+            TaskletTracker t = readyTaskletCountLocal >= MIN_READY_TASKLETS_TO_STEAL_FROM && !isShutdown
+                    ? selectTaskletToGiveAway(thief)
+                    : null;
+            if (t != null) {
+                logger.finest("Tasklet %s moves from cooperative worker %d to %d", t.tasklet, index, thief.index);
+                t.movedAt = System.nanoTime();
+                trackers.remove(t);
+                thief.trackers.add(t);
+                stolenTaskletCount.inc();
+            }
+            thief.stealVictim = null;
+            thief.newTaskletSemaphore.release();
+            LockSupport.unpark(thief.myThread);
+        }
+
+        /**
+         * Selects a ready tasklet that has stayed on this worker long enough.
+         * A tasklet originally assigned to the thief is preferred, otherwise
+         * the last one is selected: the earlier ones were assigned to this
+         * worker by more recent jobs.
+         */
+        private TaskletTracker selectTaskletToGiveAway(CooperativeWorker thief) {
+            long now = System.nanoTime();
+            TaskletTracker selected = null;
+            for (TaskletTracker t : trackers) {
+                if (!t.madeProgress || now - t.movedAt < MIN_TASKLET_RESIDENCY_NANOS) {
+                    continue;
+                }
+                if (t.homeWorker == thief.index) {
+                    return t;
+                }
+                selected = t;
+            }
+            return selected;
+        }
     }
 
     private static final class TaskletTracker {
@@ -439,6 +690,11 @@ public class TaskletExecutionService {
         final ExecutionTracker executionTracker;
         final ClassLoader jobClassLoader;
 
+        // the state used by work stealing, accessed by the worker running the tasklet
+        int homeWorker = -1;
+        long movedAt = System.nanoTime();
+        boolean madeProgress;
+
         TaskletTracker(Tasklet tasklet, ExecutionTracker executionTracker, ClassLoader jobClassLoader) {
             this.tasklet = tasklet;
             this.executionTracker = executionTracker;
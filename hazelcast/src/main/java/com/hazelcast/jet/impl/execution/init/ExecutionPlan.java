@@ -51,6 +51,8 @@ import com.hazelcast.jet.impl.execution.StoreSnapshotTasklet;
 import com.hazelcast.jet.impl.execution.Tasklet;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcCtx;
 import com.hazelcast.jet.impl.execution.init.Contexts.ProcSupplierCtx;
+import com.hazelcast.jet.impl.memory.SpillingProcessor;
+import com.hazelcast.jet.impl.processor.ProcessorWrapper;
 import com.hazelcast.jet.impl.util.AsyncSnapshotWriterImpl;
 import com.hazelcast.jet.impl.util.ImdgUtil;
 import com.hazelcast.jet.impl.util.ObjectWithPartitionId;
@@ -235,7 +237,8 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
                             ConcurrentInboundEdgeStream.create(ssConveyor, 0, 0, true, jobPrefix + "/ssFrom", null),
                             new AsyncSnapshotWriterImpl(nodeEngine, snapshotContext, vertex.name(), memberIndex, memberCount,
                                     jobSerializationService),
-                            storeSnapshotLogger, vertex.name(), higherPriorityVertices.contains(vertex.vertexId()));
+                            storeSnapshotLogger, vertex.name(), higherPriorityVertices.contains(vertex.vertexId()),
+                            jobConfig.getFullSnapshotInterval() > 1);
                     tasklets.add(ssTasklet);
                 }
 
@@ -274,6 +277,12 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
 
                     // vertices which are only used for snapshot restore will not be marked as "source=true" in metrics
                     // also do not consider snapshot restore edges for determining source tag
+                    // the spilling processors do blocking IO, they must know it before the tasklet is created
+                    Processor unwrapped = processor instanceof ProcessorWrapper wrapper ? wrapper.getWrapped() : processor;
+                    if (unwrapped instanceof SpillingProcessor spillingProcessor) {
+                        spillingProcessor.setSpillingEnabled(jobConfig.getSpillMemoryBudget() > 0);
+                    }
+
                     boolean isSource = vertex.inboundEdges().stream().allMatch(EdgeDef::isSnapshotRestoreEdge)
                             && !vertex.isSnapshotVertex();
 
@@ -695,7 +704,8 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
                     adaptedComparator);
             SenderTasklet t = new SenderTasklet(inboundEdgeStream, nodeEngine, destAddr,
                     memberConnections.get(destAddr),
-                    destVertexId, edge.getConfig().getPacketSizeLimit(), executionId,
+                    destVertexId, edge.getConfig().getPacketSizeLimit(), edge.getConfig().isCompressionEnabled(),
+                    executionId,
                     edge.sourceVertex().name(), edge.sourceOrdinal(), jobSerializationService
             );
             senderMap.computeIfAbsent(destVertexId, xx -> new HashMap<>())
@@ -789,6 +799,7 @@ public class ExecutionPlan implements IdentifiedDataSerializable {
                         ReceiverTasklet receiverTasklet = new ReceiverTasklet(
                                 collector, jobSerializationService,
                                 edge.getConfig().getReceiveWindowMultiplier(),
+                                edge.getConfig().isCompressionEnabled(),
                                 getJetConfig().getFlowControlPeriodMs(),
                                 nodeEngine.getLoggingService(), addr, edge.destOrdinal(), edge.destVertex().name(),
                                 memberConnections.get(addr), jobPrefix);
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Traversers;
+import com.hazelcast.jet.impl.execution.ChangeTrackingProcessor;
+
+import javax.annotation.Nonnull;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import static com.hazelcast.jet.Util.entry;
+
+/**
+ * {@link KeyedStateStore} keeping the state objects in an access-ordered
+ * {@link LinkedHashMap}. The least recently accessed entries come first, so
+ * the stale entries are found without visiting all entries.
+ * <p>
+ * The timestamps aren't stored separately, they are read from the state
+ * objects. The caller updates them in place, so every accessed key is
+ * considered changed for the next snapshot. All keys are changed until the
+ * first snapshot, so the changed keys aren't tracked until then. They
+ * aren't tracked at all if the job doesn't take incremental snapshots.
+ */
+public class HeapKeyedStateStore<K, V> implements KeyedStateStore<K, V> {
+
+    private static final int HASH_MAP_INITIAL_CAPACITY = 16;
+    private static final float HASH_MAP_LOAD_FACTOR = 0.75f;
+
+    private final Map<K, V> map = new LinkedHashMap<>(HASH_MAP_INITIAL_CAPACITY, HASH_MAP_LOAD_FACTOR, true);
+    private final Set<K> changedKeys = new HashSet<>();
+    private final ToLongFunction<? super V> timestampFn;
+    private final boolean trackChanges;
+    private boolean allChanged = true;
+
+    /**
+     * @param trackChanges whether to track the changed keys for incremental
+     *                     snapshots
+     */
+    public HeapKeyedStateStore(@Nonnull ToLongFunction<? super V> timestampFn, boolean trackChanges) {
+        this.timestampFn = timestampFn;
+        this.trackChanges = trackChanges;
+    }
+
+    @Override
+    public V get(@Nonnull K key) {
+        V value = map.get(key);
+        if (value != null && !allChanged) {
+            changedKeys.add(key);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(@Nonnull K key, @Nonnull V value, long timestamp) {
+        assert timestamp == timestampFn.applyAsLong(value) : "timestamp not in sync with the value";
+        map.put(key, value);
+        if (!allChanged) {
+            changedKeys.add(key);
+        }
+    }
+
+    @Override
+    public boolean isCopying() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Nonnull
+    @Override
+    public Traverser<Entry<K, V>> removeOlderThan(long limit) {
+        return new EvictingTraverser(limit);
+    }
+
+    @Nonnull
+    @Override
+    public Traverser<Entry<Object, Object>> snapshotEntries(boolean incremental) {
+        return Traversers.traverseIterable(map.entrySet())
+                .<Entry<Object, Object>>map(e -> incremental && !allChanged && !changedKeys.contains(e.getKey())
+                        ? entry(e.getKey(), ChangeTrackingProcessor.UNCHANGED)
+                        : entry(e.getKey(), e.getValue()))
+                .onFirstNull(() -> {
+                    changedKeys.clear();
+                    allChanged = !trackChanges;
+                });
+    }
+
+    @Nonnull
+    @Override
+    public Traverser<Entry<K, V>> entries() {
+        return Traversers.traverseIterable(map.entrySet());
+    }
+
+    @Override
+    public long usedNativeMemory() {
+        return 0;
+    }
+
+    @Override
+    public void dispose() {
+        map.clear();
+        changedKeys.clear();
+    }
+
+    private final class EvictingTraverser implements Traverser<Entry<K, V>> {
+        private final Iterator<Entry<K, V>> iterator = map.entrySet().iterator();
+        private final long limit;
+        private boolean done;
+
+        EvictingTraverser(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (done || !iterator.hasNext()) {
+                done = true;
+                return null;
+            }
+            Entry<K, V> entry = iterator.next();
+            // the map is access-ordered, the following entries were accessed later
+            if (timestampFn.applyAsLong(entry.getValue()) >= limit) {
+                done = true;
+                return null;
+            }
+            iterator.remove();
+            changedKeys.remove(entry.getKey());
+            return entry;
+        }
+    }
+}
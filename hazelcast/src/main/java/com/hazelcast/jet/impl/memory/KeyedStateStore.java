@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.memory.impl.UnsafeMallocMemoryManager;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.config.KeyedStateBackend;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.execution.ChangeTrackingProcessor;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Map.Entry;
+import java.util.function.ToLongFunction;
+
+/**
+ * Per-key state of a processor. Each entry has a timestamp used to evict the
+ * stale entries.
+ * <p>
+ * Not thread-safe, the store is confined to the processor.
+ *
+ * @param <K> the key type
+ * @param <V> the state type
+ */
+public interface KeyedStateStore<K, V> {
+
+    /**
+     * Returns the state of the key, or {@code null} if there is none. If the
+     * store {@linkplain #isCopying() is copying}, the result is a copy and
+     * the changes to it have to be stored with {@link #put}.
+     */
+    @Nullable
+    V get(@Nonnull K key);
+
+    /**
+     * Stores the state of the key, replacing the previous state.
+     */
+    void put(@Nonnull K key, @Nonnull V value, long timestamp);
+
+    /**
+     * Returns {@code true}, if {@link #get} returns copies of the stored
+     * state, {@code false} if it returns the stored instances.
+     */
+    boolean isCopying();
+
+    /**
+     * Returns the number of keys in the store.
+     */
+    int size();
+
+    /**
+     * Returns a traverser that removes the entries with timestamp lower than
+     * the given limit and returns them. The store must not be modified until
+     * the traverser is exhausted.
+     * <p>
+     * The store may skip some of the stale entries if it can't find them
+     * cheaply, they will be returned by a later call.
+     */
+    @Nonnull
+    Traverser<Entry<K, V>> removeOlderThan(long limit);
+
+    /**
+     * Returns a traverser over all entries to save to a snapshot. The keys
+     * and values may be returned in the serialized form. The store must not
+     * be modified until the traverser is exhausted.
+     * <p>
+     * The store tracks the keys whose state was {@linkplain #put put} or, if
+     * it {@linkplain #isCopying() isn't copying}, {@linkplain #get accessed}
+     * since the previous call. If {@code incremental} is true, the value of
+     * the other keys is {@link ChangeTrackingProcessor#UNCHANGED}.
+     */
+    @Nonnull
+    Traverser<Entry<Object, Object>> snapshotEntries(boolean incremental);
+
+    /**
+     * Returns a traverser over all entries. If the store {@linkplain
+     * #isCopying() is copying}, the values are copies. The store must not be
+     * modified until the traverser is exhausted.
+     */
+    @Nonnull
+    Traverser<Entry<K, V>> entries();
+
+    /**
+     * Returns the number of native memory bytes used by the store.
+     */
+    long usedNativeMemory();
+
+    /**
+     * Releases the resources of the store. The store can't be used
+     * afterwards.
+     */
+    void dispose();
+
+    /**
+     * Creates a store for the {@link KeyedStateBackend} configured for the
+     * job of the processor.
+     *
+     * @param timestampFn returns the timestamp of a state object, used by the
+     *                    on-heap store
+     */
+    @Nonnull
+    static <K, V> KeyedStateStore<K, V> create(
+            @Nonnull Processor.Context context,
+            @Nonnull ToLongFunction<? super V> timestampFn
+    ) {
+        if (context.jobConfig().getKeyedStateBackend() == KeyedStateBackend.OFF_HEAP) {
+            if (UnsafeMallocMemoryManager.isAvailable()) {
+                InternalSerializationService ss = ((InternalProcSupplierCtx) context).serializationService();
+                return new OffHeapKeyedStateStore<>(ss);
+            }
+            context.logger().warning("Native memory access is not available, keeping the keyed state on heap");
+        }
+        return new HeapKeyedStateStore<>(timestampFn, context.jobConfig().getFullSnapshotInterval() > 1);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.jet.Traverser;
+
+import javax.annotation.Nonnull;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Traverser merging several traversers, each of them sorted by the same
+ * comparator, into one sorted traverser. Items equal according to the
+ * comparator are emitted in the order of their traversers.
+ */
+public final class MergingTraverser<T> implements Traverser<T> {
+
+    private final List<? extends Traverser<? extends T>> sources;
+    private final PriorityQueue<Head<T>> heads;
+
+    public MergingTraverser(@Nonnull List<? extends Traverser<? extends T>> sources, @Nonnull Comparator<? super T> comparator) {
+        this.sources = sources;
+        Comparator<Head<T>> itemComparator = (h1, h2) -> comparator.compare(h1.item, h2.item);
+        this.heads = new PriorityQueue<>(Math.max(1, sources.size()),
+                itemComparator.thenComparingInt(h -> h.sourceIndex));
+        for (int i = 0; i < sources.size(); i++) {
+            T item = sources.get(i).next();
+            if (item != null) {
+                heads.add(new Head<>(item, i));
+            }
+        }
+    }
+
+    @Override
+    public T next() {
+        Head<T> head = heads.poll();
+        if (head == null) {
+            return null;
+        }
+        T result = head.item;
+        T item = sources.get(head.sourceIndex).next();
+        if (item != null) {
+            head.item = item;
+            heads.add(head);
+        }
+        return result;
+    }
+
+    private static final class Head<T> {
+        private T item;
+        private final int sourceIndex;
+
+        Head(T item, int sourceIndex) {
+            this.item = item;
+            this.sourceIndex = sourceIndex;
+        }
+    }
+}
@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.impl.UnsafeMallocMemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.hashslot.HashSlotArray8byteKey;
+import com.hazelcast.internal.util.hashslot.HashSlotCursor8byteKey;
+import com.hazelcast.internal.util.hashslot.impl.HashSlotArray8byteKeyImpl;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.impl.execution.ChangeTrackingProcessor;
+
+import javax.annotation.Nonnull;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.jet.Util.entry;
+
+/**
+ * {@link KeyedStateStore} keeping the serialized keys and state objects in
+ * native memory, so that they don't contribute to the Java heap object graph.
+ * <p>
+ * The 64-bit hash of the serialized key is mapped by an off-heap {@link
+ * HashSlotArray8byteKey} to the head of a chain of entry blocks. Keys with the
+ * same hash are chained and told apart by their serialized bytes. An entry
+ * block has the following layout:
+ * <pre>
+ * 0:  address of the next entry block in the chain (long)
+ * 8:  address of the value block (long)
+ * 16: size of the value block (int)
+ * 20: size of the key (int)
+ * 24: timestamp (long)
+ * 32: address of the previous entry block with the same timestamp (long)
+ * 40: address of the next entry block with the same timestamp (long)
+ * 48: hash of the key (long)
+ * 56: 1 if the entry changed since the previous snapshot, 0 otherwise (int)
+ * 60: serialized key
+ * </pre>
+ * The entries with the same timestamp form a doubly-linked list, the heads of
+ * the lists are kept in an on-heap map sorted by the timestamp. Evicting the
+ * stale entries visits only the lists of the expired timestamps, without
+ * walking the other entries and without deserializing anything but the
+ * evicted entries. The heap footprint of the index grows with the number of
+ * distinct timestamps, not with the number of keys. Snapshot entries are
+ * copied from native memory as serialized {@link Data} and never
+ * deserialized.
+ */
+public class OffHeapKeyedStateStore<K, V> implements KeyedStateStore<K, V> {
+
+    static final int NEXT_OFFSET = 0;
+    static final int VALUE_ADDRESS_OFFSET = 8;
+    static final int VALUE_SIZE_OFFSET = 16;
+    static final int KEY_SIZE_OFFSET = 20;
+    static final int TIMESTAMP_OFFSET = 24;
+    static final int TIME_PREV_OFFSET = 32;
+    static final int TIME_NEXT_OFFSET = 40;
+    static final int HASH_OFFSET = 48;
+    static final int CHANGED_OFFSET = 56;
+    static final int KEY_OFFSET = 60;
+
+    private static final int SLOT_VALUE_LENGTH = 8;
+
+    private final InternalSerializationService serializationService;
+    private final UnsafeMallocMemoryManager memoryManager;
+    private final MemoryAccessor mem;
+    private final MemoryAllocator malloc;
+    private final HashSlotArray8byteKey hashSlots;
+    // timestamp -> the first entry block with the timestamp
+    private final NavigableMap<Long, TimeBucket> timeIndex = new TreeMap<>();
+
+    private int size;
+    private boolean disposed;
+
+    public OffHeapKeyedStateStore(@Nonnull InternalSerializationService serializationService) {
+        this.serializationService = serializationService;
+        this.memoryManager = new UnsafeMallocMemoryManager();
+        this.mem = memoryManager.getAccessor();
+        this.malloc = memoryManager.getAllocator();
+        this.hashSlots = new HashSlotArray8byteKeyImpl(NULL_ADDRESS, memoryManager, SLOT_VALUE_LENGTH);
+        this.hashSlots.gotoNew();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(@Nonnull K key) {
+        Data keyData = serializationService.toData(key);
+        long entry = findEntry(keyData.hash64(), keyData.toByteArray());
+        return entry == NULL_ADDRESS ? null : (V) serializationService.toObject(readValue(entry));
+    }
+
+    @Override
+    public void put(@Nonnull K key, @Nonnull V value, long timestamp) {
+        Data keyData = serializationService.toData(key);
+        byte[] keyBytes = keyData.toByteArray();
+        long hash = keyData.hash64();
+        long entry = findEntry(hash, keyBytes);
+        if (entry == NULL_ADDRESS) {
+            entry = newEntry(hash, keyBytes);
+            long headAddress = hashSlots.ensure(hash).address();
+            mem.putLong(entry + NEXT_OFFSET, mem.getLong(headAddress));
+            mem.putLong(headAddress, entry);
+            size++;
+        } else if (mem.getLong(entry + TIMESTAMP_OFFSET) == timestamp) {
+            writeValue(entry, serializationService.toData(value).toByteArray());
+            mem.putInt(entry + CHANGED_OFFSET, 1);
+            return;
+        } else {
+            unlinkFromTimeIndex(entry);
+        }
+        writeValue(entry, serializationService.toData(value).toByteArray());
+        mem.putInt(entry + CHANGED_OFFSET, 1);
+        mem.putLong(entry + TIMESTAMP_OFFSET, timestamp);
+        linkToTimeIndex(entry, timestamp);
+    }
+
+    @Override
+    public boolean isCopying() {
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Visits the entries of the expired timestamps in the timestamp order,
+     * removing and deserializing them lazily.
+     */
+    @Nonnull
+    @Override
+    public Traverser<Entry<K, V>> removeOlderThan(long limit) {
+        return new EvictingTraverser(limit);
+    }
+
+    @Nonnull
+    @Override
+    public Traverser<Entry<Object, Object>> snapshotEntries(boolean incremental) {
+        EntryCursor cursor = new EntryCursor();
+        return () -> {
+            long entry = cursor.next();
+            if (entry == NULL_ADDRESS) {
+                return null;
+            }
+            boolean changed = mem.getInt(entry + CHANGED_OFFSET) != 0;
+            mem.putInt(entry + CHANGED_OFFSET, 0);
+            // the outbox doesn't serialize Data again
+            return entry(readKey(entry), incremental && !changed ? ChangeTrackingProcessor.UNCHANGED : readValue(entry));
+        };
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public Traverser<Entry<K, V>> entries() {
+        EntryCursor cursor = new EntryCursor();
+        return () -> {
+            long entry = cursor.next();
+            if (entry == NULL_ADDRESS) {
+                return null;
+            }
+            K key = serializationService.toObject(readKey(entry));
+            return entry(key, (V) serializationService.toObject(readValue(entry)));
+        };
+    }
+
+    @Override
+    public long usedNativeMemory() {
+        return memoryManager.getUsedMemory();
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        HashSlotCursor8byteKey cursor = hashSlots.cursor();
+        while (cursor.advance()) {
+            long entry = mem.getLong(cursor.valueAddress());
+            while (entry != NULL_ADDRESS) {
+                long next = mem.getLong(entry + NEXT_OFFSET);
+                freeEntry(entry);
+                entry = next;
+            }
+        }
+        hashSlots.dispose();
+        memoryManager.dispose();
+        timeIndex.clear();
+        size = 0;
+        disposed = true;
+    }
+
+    private long findEntry(long hash, byte[] keyBytes) {
+        long headAddress = hashSlots.get(hash);
+        if (headAddress == NULL_ADDRESS) {
+            return NULL_ADDRESS;
+        }
+        for (long entry = mem.getLong(headAddress); entry != NULL_ADDRESS; entry = mem.getLong(entry + NEXT_OFFSET)) {
+            if (keyEquals(entry, keyBytes)) {
+                return entry;
+            }
+        }
+        return NULL_ADDRESS;
+    }
+
+    private void removeEntry(long entry) {
+        long hash = mem.getLong(entry + HASH_OFFSET);
+        long headAddress = hashSlots.get(hash);
+        assert headAddress != NULL_ADDRESS : "entry not found";
+        long prev = NULL_ADDRESS;
+        long current = mem.getLong(headAddress);
+        while (current != entry) {
+            prev = current;
+            current = mem.getLong(current + NEXT_OFFSET);
+        }
+        long next = mem.getLong(entry + NEXT_OFFSET);
+        if (prev != NULL_ADDRESS) {
+            mem.putLong(prev + NEXT_OFFSET, next);
+        } else if (next != NULL_ADDRESS) {
+            mem.putLong(headAddress, next);
+        } else {
+            hashSlots.remove(hash);
+        }
+        unlinkFromTimeIndex(entry);
+        freeEntry(entry);
+        size--;
+    }
+
+    private boolean keyEquals(long entry, byte[] keyBytes) {
+        int keySize = mem.getInt(entry + KEY_SIZE_OFFSET);
+        if (keySize != keyBytes.length) {
+            return false;
+        }
+        long keyAddress = entry + KEY_OFFSET;
+        for (int i = 0; i < keySize; i++) {
+            if (mem.getByte(keyAddress + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void linkToTimeIndex(long entry, long timestamp) {
+        TimeBucket bucket = timeIndex.computeIfAbsent(timestamp, t -> new TimeBucket());
+        mem.putLong(entry + TIME_PREV_OFFSET, NULL_ADDRESS);
+        mem.putLong(entry + TIME_NEXT_OFFSET, bucket.head);
+        if (bucket.head != NULL_ADDRESS) {
+            mem.putLong(bucket.head + TIME_PREV_OFFSET, entry);
+        }
+        bucket.head = entry;
+    }
+
+    private void unlinkFromTimeIndex(long entry) {
+        long prev = mem.getLong(entry + TIME_PREV_OFFSET);
+        long next = mem.getLong(entry + TIME_NEXT_OFFSET);
+        if (next != NULL_ADDRESS) {
+            mem.putLong(next + TIME_PREV_OFFSET, prev);
+        }
+        if (prev != NULL_ADDRESS) {
+            mem.putLong(prev + TIME_NEXT_OFFSET, next);
+            return;
+        }
+        long timestamp = mem.getLong(entry + TIMESTAMP_OFFSET);
+        if (next == NULL_ADDRESS) {
+            timeIndex.remove(timestamp);
+        } else {
+            timeIndex.get(timestamp).head = next;
+        }
+    }
+
+    private long newEntry(long hash, byte[] keyBytes) {
+        long entry = malloc.allocate(KEY_OFFSET + keyBytes.length);
+        mem.putLong(entry + VALUE_ADDRESS_OFFSET, NULL_ADDRESS);
+        mem.putLong(entry + HASH_OFFSET, hash);
+        mem.putInt(entry + KEY_SIZE_OFFSET, keyBytes.length);
+        mem.copyFromByteArray(keyBytes, 0, entry + KEY_OFFSET, keyBytes.length);
+        return entry;
+    }
+
+    private void writeValue(long entry, byte[] valueBytes) {
+        long valueAddress = mem.getLong(entry + VALUE_ADDRESS_OFFSET);
+        int valueSize = mem.getInt(entry + VALUE_SIZE_OFFSET);
+        if (valueAddress == NULL_ADDRESS) {
+            valueAddress = malloc.allocate(valueBytes.length);
+        } else if (valueSize != valueBytes.length) {
+            valueAddress = malloc.reallocate(valueAddress, valueSize, valueBytes.length);
+        }
+        mem.copyFromByteArray(valueBytes, 0, valueAddress, valueBytes.length);
+        mem.putLong(entry + VALUE_ADDRESS_OFFSET, valueAddress);
+        mem.putInt(entry + VALUE_SIZE_OFFSET, valueBytes.length);
+    }
+
+    private Data readKey(long entry) {
+        byte[] keyBytes = new byte[mem.getInt(entry + KEY_SIZE_OFFSET)];
+        mem.copyToByteArray(entry + KEY_OFFSET, keyBytes, 0, keyBytes.length);
+        return new HeapData(keyBytes);
+    }
+
+    private Data readValue(long entry) {
+        byte[] valueBytes = new byte[mem.getInt(entry + VALUE_SIZE_OFFSET)];
+        mem.copyToByteArray(mem.getLong(entry + VALUE_ADDRESS_OFFSET), valueBytes, 0, valueBytes.length);
+        return new HeapData(valueBytes);
+    }
+
+    private void freeEntry(long entry) {
+        long valueAddress = mem.getLong(entry + VALUE_ADDRESS_OFFSET);
+        if (valueAddress != NULL_ADDRESS) {
+            malloc.free(valueAddress, mem.getInt(entry + VALUE_SIZE_OFFSET));
+        }
+        malloc.free(entry, KEY_OFFSET + mem.getInt(entry + KEY_SIZE_OFFSET));
+    }
+
+    private final class EvictingTraverser implements Traverser<Entry<K, V>> {
+        private final long limit;
+
+        EvictingTraverser(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            Entry<Long, TimeBucket> oldest = timeIndex.firstEntry();
+            if (oldest == null || oldest.getKey() >= limit) {
+                return null;
+            }
+            long entry = oldest.getValue().head;
+            K key = serializationService.toObject(readKey(entry));
+            V value = (V) serializationService.toObject(readValue(entry));
+            removeEntry(entry);
+            return entry(key, value);
+        }
+    }
+
+    /**
+     * Head of the list of the entry blocks with the same timestamp.
+     */
+    private static final class TimeBucket {
+        long head = NULL_ADDRESS;
+    }
+
+    /**
+     * Visits the entry blocks of all the hash slot chains.
+     */
+    private final class EntryCursor {
+        private final HashSlotCursor8byteKey cursor = hashSlots.cursor();
+        private long nextEntry = NULL_ADDRESS;
+        private boolean done;
+
+        /**
+         * Returns the address of the next entry block, or {@link
+         * MemoryAllocator#NULL_ADDRESS} if there are no more entries.
+         */
+        long next() {
+            while (nextEntry == NULL_ADDRESS) {
+                if (done || !cursor.advance()) {
+                    done = true;
+                    return NULL_ADDRESS;
+                }
+                nextEntry = mem.getLong(cursor.valueAddress());
+            }
+            long entry = nextEntry;
+            nextEntry = mem.getLong(entry + NEXT_OFFSET);
+            return entry;
+        }
+    }
+}
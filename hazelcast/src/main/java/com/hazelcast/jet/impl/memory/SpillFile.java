@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.jet.JetException;
+
+import javax.annotation.Nonnull;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static com.hazelcast.internal.util.Preconditions.checkState;
+
+/**
+ * A temporary file holding a sequence of serialized objects. The objects are
+ * first {@linkplain #write written}, then, after {@link #completeWrite()},
+ * {@linkplain #read() read} back in the same order. The file is deleted when
+ * closed.
+ * <p>
+ * Each object is stored as its serialized {@link Data} prefixed by its
+ * length, {@code null} is stored as the length {@code -1}.
+ * <p>
+ * Not thread-safe.
+ */
+public final class SpillFile implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final InternalSerializationService serializationService;
+    private final Path path;
+
+    private DataOutputStream out;
+    private DataInputStream in;
+    private long size;
+    private long count;
+    private long remaining;
+
+    public SpillFile(@Nonnull Path directory, @Nonnull InternalSerializationService serializationService) {
+        this.serializationService = serializationService;
+        try {
+            Files.createDirectories(directory);
+            this.path = Files.createTempFile(directory, "hz-jet-spill-", ".bin");
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+        } catch (IOException e) {
+            throw new JetException("Failed to create a spill file in " + directory, e);
+        }
+    }
+
+    /**
+     * Appends the given object to the file.
+     */
+    public void write(Object object) {
+        checkState(out != null, "write completed");
+        try {
+            if (object == null) {
+                out.writeInt(-1);
+                size += Integer.BYTES;
+            } else {
+                byte[] bytes = serializationService.toData(object).toByteArray();
+                out.writeInt(bytes.length);
+                out.write(bytes);
+                size += Integer.BYTES + bytes.length;
+            }
+            count++;
+        } catch (IOException e) {
+            throw new JetException("Failed to write to the spill file " + path, e);
+        }
+    }
+
+    /**
+     * Flushes the written objects to the disk and switches the file to
+     * reading.
+     */
+    public void completeWrite() {
+        checkState(out != null, "write completed");
+        try {
+            out.close();
+            out = null;
+            remaining = count;
+            in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+        } catch (IOException e) {
+            throw new JetException("Failed to complete the spill file " + path, e);
+        }
+    }
+
+    /**
+     * Returns {@code true}, if there are objects left to {@link #read()}.
+     */
+    public boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /**
+     * Reads the next object from the file.
+     *
+     * @throws NoSuchElementException if all objects were read
+     */
+    public Object read() {
+        checkState(in != null, "write not completed");
+        if (remaining == 0) {
+            throw new NoSuchElementException();
+        }
+        try {
+            int length = in.readInt();
+            remaining--;
+            if (length < 0) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return serializationService.toObject(new HeapData(bytes));
+        } catch (IOException e) {
+            throw new JetException("Failed to read from the spill file " + path, e);
+        }
+    }
+
+    /**
+     * Returns the number of bytes written to the file.
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of objects written to the file.
+     */
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void close() {
+        IOUtil.closeResource(out);
+        IOUtil.closeResource(in);
+        out = null;
+        in = null;
+        remaining = 0;
+        IOUtil.deleteQuietly(path.toFile());
+    }
+
+    @Override
+    public String toString() {
+        return "SpillFile{path=" + path + ", count=" + count + ", size=" + size + '}';
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.instance.impl.HazelcastInstanceImpl;
+import com.hazelcast.instance.impl.HazelcastInstanceProxy;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
+import com.hazelcast.spi.properties.ClusterProperty;
+
+import javax.annotation.Nonnull;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.hazelcast.jet.impl.util.Util.getNodeEngine;
+
+/**
+ * Helper of the batch processors that spill their accumulated state to local
+ * disk when it exceeds the {@linkplain JobConfig#setSpillMemoryBudget(long)
+ * memory budget} of the job.
+ * <p>
+ * The memory used by the processor is estimated as the number of records it
+ * holds multiplied by the average serialized size of the {@linkplain
+ * #sample sampled} records. When the estimate exceeds the processor's share
+ * of the budget, the processor sorts its records and {@linkplain #spill
+ * writes} them to a new {@linkplain #runs() run}. When the input is
+ * exhausted, the processor merges the runs with the records it holds.
+ * <p>
+ * Spilling does blocking file IO, so the processors using the spiller are
+ * {@linkplain SpillingProcessor not cooperative} when the job has a memory
+ * budget. A run is still written in chunks, so that the job can be cancelled
+ * while the processor is spilling.
+ */
+public final class Spiller {
+
+    /**
+     * Maximum number of objects written in one call to {@link #spill}.
+     */
+    static final int CHUNK_SIZE = 1024;
+
+    /**
+     * Every n-th record is sampled to estimate the average record size.
+     */
+    private static final int SAMPLING_INTERVAL = 64;
+
+    private final long memoryBudget;
+    private final Counter spilledBytes;
+    private final Counter spilledRuns;
+    private final InternalSerializationService serializationService;
+    private final Processor.Context context;
+    private final List<SpillFile> runs = new ArrayList<>();
+
+    private SpillFile currentRun;
+    private long sampledRecords;
+    private long sampledBytes;
+    private long samplingCounter;
+
+    public Spiller(@Nonnull Processor.Context context, @Nonnull Counter spilledBytes, @Nonnull Counter spilledRuns) {
+        long jobBudget = context.jobConfig().getSpillMemoryBudget();
+        this.memoryBudget = jobBudget == 0 ? 0 : Math.max(1, jobBudget / context.localParallelism());
+        this.spilledBytes = spilledBytes;
+        this.spilledRuns = spilledRuns;
+        this.serializationService = memoryBudget > 0 ? ((InternalProcSupplierCtx) context).serializationService() : null;
+        this.context = context;
+    }
+
+    /**
+     * Returns {@code true}, if the job has a spill memory budget.
+     */
+    public boolean isEnabled() {
+        return memoryBudget > 0;
+    }
+
+    /**
+     * Samples a record, which consists of the given objects, to estimate the
+     * average record size. Only every n-th call serializes the objects, the
+     * rest are no-op.
+     */
+    public void sample(Object... record) {
+        if (!isEnabled() || samplingCounter++ % SAMPLING_INTERVAL != 0) {
+            return;
+        }
+        for (Object object : record) {
+            if (object != null) {
+                sampledBytes += serializationService.toData(object).totalSize();
+            }
+        }
+        sampledRecords++;
+    }
+
+    /**
+     * Returns {@code true}, if the estimated size of the given number of
+     * records exceeds the memory budget of the processor.
+     */
+    public boolean isBudgetExceeded(long recordCount) {
+        return isEnabled() && sampledRecords > 0 && recordCount * sampledBytes / sampledRecords > memoryBudget;
+    }
+
+    /**
+     * Writes up to {@value #CHUNK_SIZE} objects from the given iterator to the
+     * current run. Returns {@code true}, if the iterator is exhausted and the
+     * run is complete. Otherwise, the caller has to call this method again
+     * with the same iterator.
+     */
+    public boolean spill(@Nonnull Iterator<?> objects) {
+        if (currentRun == null) {
+            currentRun = new SpillFile(directory(), serializationService);
+        }
+        for (int i = 0; i < CHUNK_SIZE && objects.hasNext(); i++) {
+            currentRun.write(objects.next());
+        }
+        if (objects.hasNext()) {
+            return false;
+        }
+        currentRun.completeWrite();
+        runs.add(currentRun);
+        spilledBytes.inc(currentRun.size());
+        spilledRuns.inc();
+        currentRun = null;
+        return true;
+    }
+
+    /**
+     * Returns the complete runs, ready for reading.
+     */
+    @Nonnull
+    public List<SpillFile> runs() {
+        return runs;
+    }
+
+    /**
+     * Returns {@code true}, if there are files that {@link #close()} has to
+     * delete.
+     */
+    public boolean hasFiles() {
+        return currentRun != null || !runs.isEmpty();
+    }
+
+    /**
+     * Deletes all spill files.
+     */
+    public void close() {
+        if (currentRun != null) {
+            currentRun.close();
+            currentRun = null;
+        }
+        for (SpillFile run : runs) {
+            run.close();
+        }
+        runs.clear();
+    }
+
+    private Path directory() {
+        String directory = null;
+        if (context.hazelcastInstance() instanceof HazelcastInstanceImpl
+                || context.hazelcastInstance() instanceof HazelcastInstanceProxy) {
+            directory = getNodeEngine(context.hazelcastInstance()).getProperties()
+                    .getString(ClusterProperty.JET_SPILL_DIRECTORY);
+        }
+        if (directory == null) {
+            directory = System.getProperty("java.io.tmpdir");
+        }
+        return Paths.get(directory);
+    }
+}
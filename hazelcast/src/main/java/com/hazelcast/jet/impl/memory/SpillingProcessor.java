@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+/**
+ * Implemented by the processors that use a {@link Spiller}. Spilling and
+ * merging the runs does blocking file IO, so such a processor must not be
+ * cooperative if the job has a {@linkplain
+ * com.hazelcast.jet.config.JobConfig#setSpillMemoryBudget(long) spill memory
+ * budget}. The cooperativeness is queried before the processor is
+ * initialized, so the execution plan tells it about the budget when it
+ * creates the processor.
+ */
+public interface SpillingProcessor {
+
+    /**
+     * Called before {@link com.hazelcast.jet.core.Processor#isCooperative()}
+     * with {@code true}, if the job has a spill memory budget.
+     */
+    void setSpillingEnabled(boolean spillingEnabled);
+}
@@ -36,4 +36,10 @@ public class AggregateP<A, R> extends GroupP<String, A, R, R> {
         super(nCopies(aggrOp.arity(), t -> CONSTANT_KEY), aggrOp, (k, r) -> r);
         keyToAcc.put(CONSTANT_KEY, aggrOp.createFn().get());
     }
+
+    @Override
+    protected boolean isSpillable() {
+        // there's a single accumulator, spilling it doesn't reduce the memory usage
+        return false;
+    }
 }
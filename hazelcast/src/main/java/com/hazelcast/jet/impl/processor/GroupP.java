@@ -17,23 +17,36 @@
 package com.hazelcast.jet.impl.processor;
 
 import com.hazelcast.function.FunctionEx;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.aggregate.AggregateOperation1;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.metrics.MetricNames;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.MergingTraverser;
+import com.hazelcast.jet.impl.memory.SpillFile;
+import com.hazelcast.jet.impl.memory.Spiller;
+import com.hazelcast.jet.impl.memory.SpillingProcessor;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static com.hazelcast.internal.util.Preconditions.checkTrue;
+import static com.hazelcast.jet.Traversers.traverseIterable;
 import static java.util.Collections.singletonList;
 
 /**
@@ -41,16 +54,36 @@ import static java.util.Collections.singletonList;
  * aggregate operation on each group. The items may originate from one or
  * more inbound edges. The supplied aggregate operation must have as many
  * accumulation functions as there are inbound edges.
+ * <p>
+ * If the job has a {@linkplain
+ * com.hazelcast.jet.config.JobConfig#setSpillMemoryBudget(long) spill
+ * memory budget} and the aggregate operation has a combine function, the
+ * processor writes its groups sorted by the key hash to a run on disk every
+ * time it exceeds its share of the budget or the maximum number of
+ * accumulated records. At completion, it merges the runs and combines the
+ * accumulators of equal keys. The processor isn't cooperative then, since
+ * it does blocking file IO.
  */
-public class GroupP<K, A, R, OUT> extends AbstractProcessor {
+public class GroupP<K, A, R, OUT> extends AbstractProcessor implements SpillingProcessor {
+
+    private static final int OBJECTS_PER_GROUP = 3;
+    private static final Comparator<Group<?, ?>> BY_HASH = Comparator.comparingInt(g -> g.hash);
 
     protected final Map<K, A> keyToAcc = new HashMap<>();
 
+    @Probe(name = MetricNames.SPILLED_BYTES, unit = ProbeUnit.BYTES)
+    private final Counter spilledBytes = SwCounter.newSwCounter();
+    @Probe(name = MetricNames.SPILLED_RUNS)
+    private final Counter spilledRuns = SwCounter.newSwCounter();
+
     private final List<FunctionEx<?, ? extends K>> groupKeyFns;
     private final AggregateOperation<A, R> aggrOp;
     private final BiFunction<? super K, ? super R, OUT> mapToOutputFn;
 
+    private boolean spillingEnabled;
     private long maxEntries;
+    private Spiller spiller;
+    private Iterator<Object> spilledObjects;
     private Traverser<OUT> resultTraverser;
 
     public GroupP(
@@ -73,42 +106,139 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
         this(singletonList(groupKeyFn), aggrOp, mapToOutputFn);
     }
 
+    @Override
+    public void setSpillingEnabled(boolean spillingEnabled) {
+        this.spillingEnabled = spillingEnabled;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return !spillingEnabled || !isSpillable();
+    }
+
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxEntries = context.maxProcessorAccumulatedRecords();
+        if (isSpillable()) {
+            spiller = new Spiller(context, spilledBytes, spilledRuns);
+            if (!spiller.isEnabled()) {
+                spiller = null;
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true}, if the processor can spill its groups to disk.
+     * The accumulators of the groups spilled to different runs are merged
+     * using the combine function of the aggregate operation.
+     */
+    protected boolean isSpillable() {
+        return aggrOp.combineFn() != null;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     protected boolean tryProcess(int ordinal, @Nonnull Object item) {
+        if (!completeSpill()) {
+            return false;
+        }
         Function<Object, ? extends K> keyFn = (Function<Object, ? extends K>) groupKeyFns.get(ordinal);
         K key = keyFn.apply(item);
-        A acc = keyToAcc.computeIfAbsent(key, k -> {
-            if (keyToAcc.size() == maxEntries) {
-                throw new AccumulationLimitExceededException();
+        A acc = keyToAcc.get(key);
+        if (acc == null) {
+            if (keyToAcc.size() == maxEntries || spiller != null && spiller.isBudgetExceeded(keyToAcc.size())) {
+                if (spiller == null) {
+                    throw new AccumulationLimitExceededException();
+                }
+                spilledObjects = spilledObjects(sortedGroups());
+                keyToAcc.clear();
+                return false;
             }
-
-            return aggrOp.createFn().get();
-        });
+            acc = aggrOp.createFn().get();
+            keyToAcc.put(key, acc);
+        }
         aggrOp.accumulateFn(ordinal).accept(acc, item);
+        if (spiller != null) {
+            spiller.sample(key, acc);
+        }
         return true;
     }
 
     @Override
     public boolean complete() {
+        if (!completeSpill()) {
+            return false;
+        }
         if (resultTraverser == null) {
-            resultTraverser = new ResultTraverser()
+            Traverser<Entry<K, A>> groups = spiller == null || spiller.runs().isEmpty()
+                    ? new ResultTraverser()
+                    : new MergedResultTraverser();
+            resultTraverser = groups
                     // reuse null filtering done by map()
                     .map(e -> mapToOutputFn.apply(e.getKey(), aggrOp.finishFn().apply(e.getValue())));
         }
         return emitFromTraverser(resultTraverser);
     }
 
+    @Override
+    public void close() {
+        if (spiller != null) {
+            spiller.close();
+        }
+    }
+
     @Override
     public boolean closeIsCooperative() {
+        // deleting files might block
+        return spiller == null || !spiller.hasFiles();
+    }
+
+    private boolean completeSpill() {
+        if (spilledObjects == null) {
+            return true;
+        }
+        if (!spiller.spill(spilledObjects)) {
+            return false;
+        }
+        spilledObjects = null;
         return true;
     }
 
+    private List<Group<K, A>> sortedGroups() {
+        List<Group<K, A>> groups = new ArrayList<>(keyToAcc.size());
+        for (Entry<K, A> e : keyToAcc.entrySet()) {
+            groups.add(new Group<>(Objects.hashCode(e.getKey()), e.getKey(), e.getValue()));
+        }
+        groups.sort(BY_HASH);
+        return groups;
+    }
+
+    /**
+     * Returns the objects to write to a run: the hash, the key and the
+     * accumulator of each group. The hash is written so that the run stays
+     * sorted even if the hash of a deserialized key differs.
+     */
+    private static Iterator<Object> spilledObjects(List<? extends Group<?, ?>> groups) {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < groups.size() * OBJECTS_PER_GROUP;
+            }
+
+            @Override
+            public Object next() {
+                Group<?, ?> group = groups.get(index / OBJECTS_PER_GROUP);
+                return switch (index++ % OBJECTS_PER_GROUP) {
+                    case 0 -> group.hash;
+                    case 1 -> group.key;
+                    default -> group.acc;
+                };
+            }
+        };
+    }
+
     private class ResultTraverser implements Traverser<Entry<K, A>> {
         private final Iterator<Entry<K, A>> iter = keyToAcc.entrySet().iterator();
 
@@ -124,4 +254,82 @@ public class GroupP<K, A, R, OUT> extends AbstractProcessor {
             }
         }
     }
+
+    /**
+     * Merges the groups from the spilled runs and the groups in memory, all
+     * sorted by the key hash. Groups with the same hash are collected and
+     * the accumulators of equal keys combined before emitting them.
+     */
+    private class MergedResultTraverser implements Traverser<Entry<K, A>> {
+        private final Traverser<Group<K, A>> merged;
+        private final List<Group<K, A>> sameHash = new ArrayList<>();
+        private Iterator<Group<K, A>> sameHashIter = sameHash.iterator();
+        private Group<K, A> pending;
+
+        @SuppressWarnings("unchecked")
+        MergedResultTraverser() {
+            List<Traverser<Group<K, A>>> sources = new ArrayList<>();
+            for (SpillFile run : spiller.runs()) {
+                sources.add(() -> run.hasNext() ? new Group<>((Integer) run.read(), (K) run.read(), (A) run.read()) : null);
+            }
+            sources.add(traverseIterable(sortedGroups()));
+            keyToAcc.clear();
+            merged = new MergingTraverser<>(sources, BY_HASH);
+        }
+
+        @Override
+        public Entry<K, A> next() {
+            if (!sameHashIter.hasNext()) {
+                sameHash.clear();
+                Group<K, A> group = pending != null ? pending : merged.next();
+                if (group == null) {
+                    return null;
+                }
+                do {
+                    add(group);
+                    group = merged.next();
+                } while (group != null && group.hash == sameHash.get(0).hash);
+                pending = group;
+                sameHashIter = sameHash.iterator();
+            }
+            return sameHashIter.next();
+        }
+
+        private void add(Group<K, A> group) {
+            for (Group<K, A> g : sameHash) {
+                if (Objects.equals(g.key, group.key)) {
+                    aggrOp.combineFn().accept(g.acc, group.acc);
+                    return;
+                }
+            }
+            sameHash.add(group);
+        }
+    }
+
+    private static final class Group<K, A> implements Entry<K, A> {
+        private final int hash;
+        private final K key;
+        private final A acc;
+
+        Group(int hash, K key, A acc) {
+            this.hash = hash;
+            this.key = key;
+            this.acc = acc;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public A getValue() {
+            return acc;
+        }
+
+        @Override
+        public A setValue(A value) {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -17,6 +17,8 @@
 package com.hazelcast.jet.impl.processor;
 
 import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.util.collection.Long2ObjectHashMap;
 import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.util.counters.SwCounter;
@@ -31,8 +33,11 @@ import com.hazelcast.jet.core.SlidingWindowPolicy;
 import com.hazelcast.jet.core.Watermark;
 import com.hazelcast.jet.core.function.KeyedWindowResultFunction;
 import com.hazelcast.jet.core.processor.Processors;
+import com.hazelcast.jet.impl.execution.ChangeTrackingProcessor;
+import com.hazelcast.jet.impl.execution.init.Contexts.InternalProcSupplierCtx;
 import com.hazelcast.jet.impl.execution.init.JetInitDataSerializerHook;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.KeyedStateStore;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
@@ -64,21 +69,26 @@ import static com.hazelcast.jet.core.BroadcastKey.broadcastKey;
 import static com.hazelcast.jet.impl.util.Util.logLateEvent;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
-import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * Handles various setups of sliding and tumbling window aggregation.
  * See {@link Processors} for more documentation.
+ * <p>
+ * The accumulators of each frame are kept in a {@link KeyedStateStore} of
+ * the backend configured for the job, the frame timestamp is the timestamp
+ * of all its entries. The combined accumulators of the sliding window are
+ * derived from the frames and stay on heap. The frames track the changed
+ * keys, so an incremental snapshot serializes only the changed accumulators.
  *
  * @param <A> type of the frame accumulator object
  * @param <R> type of the finished result
  */
-public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
+public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor implements ChangeTrackingProcessor {
 
     // package-visible for testing
-    final Long2ObjectHashMap<Map<K, A>> tsToKeyToAcc = new Long2ObjectHashMap<>();
+    final Long2ObjectHashMap<KeyedStateStore<K, A>> tsToKeyToAcc = new Long2ObjectHashMap<>();
     Map<K, A> slidingWindow;
     // Holds the sliding window while emitting early window results. We reuse the
     // slidingWindow field for early results so the code can be simpler.
@@ -106,7 +116,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     private final byte windowWatermarkKey;
 
     // extracted lambdas to reduce GC litter
-    private final LongFunction<Map<K, A>> createMapPerTsFunction;
+    private final LongFunction<KeyedStateStore<K, A>> createFrameFunction;
     private final Function<K, A> createAccFunction;
 
     @Probe(name = "lateEventsDropped")
@@ -121,9 +131,11 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     private long lastTimeEarlyResultsEmitted;
     private Traverser<? extends OUT> earlyWinTraverser;
     private long maxEntries;
+    private Context context;
 
     private Traverser<Object> flushTraverser;
     private Traverser<Entry> snapshotTraverser;
+    private boolean incrementalSnapshot;
 
     // Tracks the upper bound for the keyset of tsToKeyToAcc. Serves as an
     // optimization that avoids a full scan over the entire keyset.
@@ -165,9 +177,9 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
                         .onFirstNull(() -> nextWinToEmit = winPolicy.higherFrameTs(wm.timestamp()))
         );
         this.emptyAcc = aggrOp.createFn().get();
-        this.createMapPerTsFunction = x -> {
+        this.createFrameFunction = ts -> {
             totalFrames.inc();
-            return new HashMap<>();
+            return KeyedStateStore.create(context, acc -> ts);
         };
         this.createAccFunction = k -> {
             long newCount = totalKeysInFrames.inc();
@@ -184,6 +196,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         processingGuarantee = context.processingGuarantee();
         lastTimeEarlyResultsEmitted = NANOSECONDS.toMillis(System.nanoTime());
         maxEntries = context.maxProcessorAccumulatedRecords();
+        this.context = context;
     }
 
     @Override
@@ -212,7 +225,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
                 winPolicy.frameSize())
             .boxed();
         earlyWinTraverser = traverseStream(earlyWinRange)
-                .flatMap(winEnd -> traverseIterable(computeWindow(winEnd).entrySet())
+                .flatMap(winEnd -> computeWindow(winEnd)
                         .map(e -> mapToOutputFn.apply(
                                 winEnd - winPolicy.windowSize(),
                                 winEnd,
@@ -244,10 +257,16 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             return true;
         }
         final K key = keyFns.get(ordinal).apply(item);
-        A acc = tsToKeyToAcc
-                .computeIfAbsent(frameTs, createMapPerTsFunction)
-                .computeIfAbsent(key, createAccFunction);
+        KeyedStateStore<K, A> frame = tsToKeyToAcc.computeIfAbsent(frameTs, createFrameFunction);
+        A acc = frame.get(key);
+        boolean isNew = acc == null;
+        if (isNew) {
+            acc = createAccFunction.apply(key);
+        }
         aggrOp.accumulateFn(ordinal).accept(acc, item);
+        if (isNew || frame.isCopying()) {
+            frame.put(key, acc, frameTs);
+        }
         topTs = max(topTs, frameTs);
         return true;
     }
@@ -266,6 +285,11 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return flushBuffers();
     }
 
+    @Override
+    public void startSnapshot(boolean incremental) {
+        incrementalSnapshot = incremental;
+    }
+
     @Override
     public boolean saveToSnapshot() {
         if (!isLastStage || flushTraverser != null) {
@@ -273,8 +297,8 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         }
         if (snapshotTraverser == null) {
             snapshotTraverser = traverseIterable(tsToKeyToAcc.entrySet())
-                    .<Entry>flatMap(e -> traverseIterable(e.getValue().entrySet())
-                            .map(e2 -> entry(new SnapshotKey(e.getKey(), e2.getKey()), e2.getValue()))
+                    .<Entry>flatMap(e -> e.getValue().snapshotEntries(incrementalSnapshot)
+                            .map(e2 -> entry(new SnapshotKey(e.getKey(), toObject(e2.getKey())), e2.getValue()))
                     )
                     .append(entry(broadcastKey(Keys.NEXT_WIN_TO_EMIT), nextWinToEmit))
                     .onFirstNull(() -> {
@@ -285,6 +309,16 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return emitFromTraverserToSnapshot(snapshotTraverser);
     }
 
+    /**
+     * Deserializes the key returned by {@link KeyedStateStore#snapshotEntries},
+     * the snapshot key wraps it with the frame timestamp.
+     */
+    private Object toObject(Object key) {
+        return key instanceof Data data
+                ? ((InternalProcSupplierCtx) context).serializationService().toObject(data)
+                : key;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     protected void restoreFromSnapshot(@Nonnull Object key, @Nonnull Object value) {
@@ -314,20 +348,22 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             }
         }
         minRestoredFrameTs = Math.min(higherFrameTs, minRestoredFrameTs);
-        tsToKeyToAcc
-                .computeIfAbsent(higherFrameTs, createMapPerTsFunction)
-                .merge((K) k.key, (A) value, (o, n) -> {
-                    if (!badFrameRestored) {
-                        throw new JetException("Duplicate key in snapshot: " + k);
-                    }
-                    if (combineFn == null) {
-                        throw new JetException("AggregateOperation.combineFn required for merging restored frames");
-                    }
-                    combineFn.accept(o, n);
-                    totalKeysInFrames.inc(-1);
-                    return o;
-                });
-        totalKeysInFrames.inc();
+        KeyedStateStore<K, A> frame = tsToKeyToAcc.computeIfAbsent(higherFrameTs, createFrameFunction);
+        A acc = (A) value;
+        A old = frame.get((K) k.key);
+        if (old != null) {
+            if (!badFrameRestored) {
+                throw new JetException("Duplicate key in snapshot: " + k);
+            }
+            if (combineFn == null) {
+                throw new JetException("AggregateOperation.combineFn required for merging restored frames");
+            }
+            combineFn.accept(old, acc);
+            acc = old;
+        } else {
+            totalKeysInFrames.inc();
+        }
+        frame.put((K) k.key, acc, higherFrameTs);
         topTs = max(topTs, higherFrameTs);
     }
 
@@ -348,10 +384,11 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             if (nextWinToEmit > Long.MIN_VALUE + winPolicy.windowSize()) {
                 for (long ts = minRestoredFrameTs; ts <= nextWinToEmit - winPolicy.windowSize();
                         ts += winPolicy.frameSize()) {
-                    Map<K, A> removed = tsToKeyToAcc.remove(ts);
+                    KeyedStateStore<K, A> removed = tsToKeyToAcc.remove(ts);
                     if (removed != null) {
                         totalFrames.inc(-1);
                         totalKeysInFrames.inc(-removed.size());
+                        removed.dispose();
                     }
                 }
             }
@@ -359,11 +396,27 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return true;
     }
 
+    @Override
+    public void close() {
+        for (KeyedStateStore<K, A> frame : tsToKeyToAcc.values()) {
+            frame.dispose();
+        }
+    }
+
     @Override
     public boolean closeIsCooperative() {
         return true;
     }
 
+    @Probe(name = "keyedStateNativeMemory", unit = ProbeUnit.BYTES)
+    private long keyedStateNativeMemory() {
+        long used = 0;
+        for (KeyedStateStore<K, A> frame : tsToKeyToAcc.values()) {
+            used += frame.usedNativeMemory();
+        }
+        return used;
+    }
+
     private Traverser<Object> windowTraverserAndEvictor(long wm) {
         long rangeStart = startingWindowTs(wm);
         if (rangeStart == Long.MIN_VALUE) {
@@ -372,7 +425,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             return Traversers.empty();
         }
         return traverseStream(range(rangeStart, wm, winPolicy.frameSize()).boxed())
-                .flatMap(winEnd -> traverseIterable(computeWindow(winEnd).entrySet())
+                .flatMap(winEnd -> computeWindow(winEnd)
                         .<Object>map(e -> mapToOutputFn.apply(
                                 winEnd - winPolicy.windowSize(), winEnd,
                                 e.getKey(), aggrOp.finishFn().apply(e.getValue()),
@@ -401,12 +454,13 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return min(bottomTs, winPolicy.floorFrameTs(wm));
     }
 
-    private Map<K, A> computeWindow(long frameTs) {
+    private Traverser<Entry<K, A>> computeWindow(long frameTs) {
         if (winPolicy.isTumbling()) {
-            return tsToKeyToAcc.getOrDefault(frameTs, emptyMap());
+            KeyedStateStore<K, A> frame = tsToKeyToAcc.get(frameTs);
+            return frame != null ? frame.entries() : Traversers.empty();
         }
         if (aggrOp.deductFn() == null) {
-            return recomputeWindow(frameTs);
+            return traverseIterable(recomputeWindow(frameTs).entrySet());
         }
         if (slidingWindow == null) {
             slidingWindow = recomputeWindow(frameTs);
@@ -414,7 +468,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             // add leading-edge frame
             patchSlidingWindow(aggrOp.combineFn(), tsToKeyToAcc.get(frameTs));
         }
-        return slidingWindow;
+        return traverseIterable(slidingWindow.entrySet());
     }
 
     private Map<K, A> recomputeWindow(long frameTs) {
@@ -424,7 +478,12 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
              ts += winPolicy.frameSize()
         ) {
             assert combineFn != null : "combineFn == null";
-            for (Entry<K, A> entry : tsToKeyToAcc.getOrDefault(ts, emptyMap()).entrySet()) {
+            KeyedStateStore<K, A> frame = tsToKeyToAcc.get(ts);
+            if (frame == null) {
+                continue;
+            }
+            Traverser<Entry<K, A>> entries = frame.entries();
+            for (Entry<K, A> entry = entries.next(); entry != null; entry = entries.next()) {
                 combineFn.accept(
                         window.computeIfAbsent(entry.getKey(), k -> aggrOp.createFn().get()),
                         entry.getValue());
@@ -433,14 +492,16 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return window;
     }
 
-    private void patchSlidingWindow(BiConsumer<? super A, ? super A> patchOp, Map<K, A> patchingFrame) {
+    private void patchSlidingWindow(BiConsumer<? super A, ? super A> patchOp, KeyedStateStore<K, A> patchingFrame) {
         if (patchingFrame == null) {
             return;
         }
-        for (Entry<K, A> e : patchingFrame.entrySet()) {
+        Traverser<Entry<K, A>> entries = patchingFrame.entries();
+        for (Entry<K, A> e = entries.next(); e != null; e = entries.next()) {
+            A frameAcc = e.getValue();
             slidingWindow.compute(e.getKey(), (k, acc) -> {
                 A result = acc != null ? acc : aggrOp.createFn().get();
-                patchOp.accept(result, e.getValue());
+                patchOp.accept(result, frameAcc);
                 return result.equals(emptyAcc) ? null : result;
             });
         }
@@ -448,7 +509,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
 
     private void completeWindow(long frameTs) {
         long tsOfFrameToEvict = frameTs - winPolicy.windowSize() + winPolicy.frameSize();
-        Map<K, A> evictedFrame = tsToKeyToAcc.remove(tsOfFrameToEvict);
+        KeyedStateStore<K, A> evictedFrame = tsToKeyToAcc.remove(tsOfFrameToEvict);
         if (evictedFrame != null) {
             totalKeysInFrames.inc(-evictedFrame.size());
             totalFrames.inc(-1);
@@ -456,9 +517,11 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
                 // deduct trailing-edge frame
                 patchSlidingWindow(aggrOp.deductFn(), evictedFrame);
             }
+            evictedFrame.dispose();
         }
-        assert tsToKeyToAcc.values().stream().mapToInt(Map::size).sum() == totalKeysInFrames.get()
-                : "totalKeysInFrames mismatch, expected=" + tsToKeyToAcc.values().stream().mapToInt(Map::size).sum()
+        assert tsToKeyToAcc.values().stream().mapToInt(KeyedStateStore::size).sum() == totalKeysInFrames.get()
+                : "totalKeysInFrames mismatch, expected="
+                + tsToKeyToAcc.values().stream().mapToInt(KeyedStateStore::size).sum()
                 + ", actual=" + totalKeysInFrames.get();
     }
 
@@ -466,7 +529,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         if (winPolicy.isTumbling() || aggrOp.deductFn() == null) {
             return;
         }
-        Map<K, A> frameToDeduct = tsToKeyToAcc.get(frameTs - winPolicy.windowSize() + winPolicy.frameSize());
+        KeyedStateStore<K, A> frameToDeduct = tsToKeyToAcc.get(frameTs - winPolicy.windowSize() + winPolicy.frameSize());
         if (frameToDeduct != null) {
             patchSlidingWindow(aggrOp.deductFn(), frameToDeduct);
         }
@@ -16,51 +16,151 @@
 
 package com.hazelcast.jet.impl.processor;
 
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.core.AbstractProcessor;
 import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.metrics.MetricNames;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.MergingTraverser;
+import com.hazelcast.jet.impl.memory.SpillFile;
+import com.hazelcast.jet.impl.memory.Spiller;
+import com.hazelcast.jet.impl.memory.SpillingProcessor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.PriorityQueue;
 
-public class SortP<T> extends AbstractProcessor {
+/**
+ * Batch processor that sorts all its input items.
+ * <p>
+ * If the job has a {@linkplain
+ * com.hazelcast.jet.config.JobConfig#setSpillMemoryBudget(long) spill
+ * memory budget}, the processor writes the sorted items to a run on disk
+ * every time it exceeds its share of the budget or the maximum number of
+ * accumulated records, and merges the runs at completion. The processor
+ * isn't cooperative then, since it does blocking file IO.
+ */
+public class SortP<T> extends AbstractProcessor implements SpillingProcessor {
+
+    @Probe(name = MetricNames.SPILLED_BYTES, unit = ProbeUnit.BYTES)
+    private final Counter spilledBytes = SwCounter.newSwCounter();
+    @Probe(name = MetricNames.SPILLED_RUNS)
+    private final Counter spilledRuns = SwCounter.newSwCounter();
 
+    private final Comparator<T> comparator;
     private final PriorityQueue<T> priorityQueue;
-    private final Traverser<T> resultTraverser;
 
+    private boolean spillingEnabled;
     private long maxItems;
+    private Spiller spiller;
+    private Iterator<T> spilledItems;
+    private Traverser<T> resultTraverser;
 
+    @SuppressWarnings("unchecked")
     public SortP(@Nullable Comparator<T> comparator) {
-        this.priorityQueue = new PriorityQueue<>(comparator);
-        this.resultTraverser = priorityQueue::poll;
+        this.comparator = comparator != null ? comparator : (Comparator<T>) Comparator.naturalOrder();
+        this.priorityQueue = new PriorityQueue<>(this.comparator);
+    }
+
+    @Override
+    public void setSpillingEnabled(boolean spillingEnabled) {
+        this.spillingEnabled = spillingEnabled;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return !spillingEnabled;
     }
 
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxItems = context.maxProcessorAccumulatedRecords();
+        spiller = new Spiller(context, spilledBytes, spilledRuns);
     }
 
     @Override
     @SuppressWarnings("unchecked")
     protected boolean tryProcess0(@Nonnull Object item) {
-        if (priorityQueue.size() == maxItems) {
-            throw new AccumulationLimitExceededException();
+        if (!completeSpill()) {
+            return false;
+        }
+        if (priorityQueue.size() == maxItems || spiller.isBudgetExceeded(priorityQueue.size())) {
+            if (!spiller.isEnabled()) {
+                throw new AccumulationLimitExceededException();
+            }
+            spilledItems = drainingIterator();
+            return false;
         }
 
+        spiller.sample(item);
         priorityQueue.add((T) item);
         return true;
     }
 
     @Override
     public boolean complete() {
+        if (!completeSpill()) {
+            return false;
+        }
+        if (resultTraverser == null) {
+            resultTraverser = spiller.runs().isEmpty() ? priorityQueue::poll : mergingTraverser();
+        }
         return emitFromTraverser(resultTraverser);
     }
 
+    @Override
+    public void close() {
+        if (spiller != null) {
+            spiller.close();
+        }
+    }
+
     @Override
     public boolean closeIsCooperative() {
+        // deleting files might block
+        return spiller == null || !spiller.hasFiles();
+    }
+
+    private boolean completeSpill() {
+        if (spilledItems == null) {
+            return true;
+        }
+        if (!spiller.spill(spilledItems)) {
+            return false;
+        }
+        spilledItems = null;
         return true;
     }
+
+    @SuppressWarnings("unchecked")
+    private Traverser<T> mergingTraverser() {
+        List<Traverser<T>> sources = new ArrayList<>();
+        for (SpillFile run : spiller.runs()) {
+            sources.add(() -> run.hasNext() ? (T) run.read() : null);
+        }
+        sources.add(priorityQueue::poll);
+        return new MergingTraverser<>(sources, comparator);
+    }
+
+    private Iterator<T> drainingIterator() {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !priorityQueue.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                return priorityQueue.remove();
+            }
+        };
+    }
 }
@@ -17,6 +17,7 @@
 package com.hazelcast.jet.impl.processor;
 
 import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.util.counters.SwCounter;
 import com.hazelcast.jet.Traverser;
@@ -28,14 +29,13 @@ import com.hazelcast.jet.core.ResettableSingletonTraverser;
 import com.hazelcast.jet.core.Watermark;
 import com.hazelcast.jet.datamodel.TimestampedItem;
 import com.hazelcast.jet.function.TriFunction;
+import com.hazelcast.jet.impl.execution.ChangeTrackingProcessor;
 import com.hazelcast.jet.impl.memory.AccumulationLimitExceededException;
+import com.hazelcast.jet.impl.memory.KeyedStateStore;
 import com.hazelcast.jet.impl.util.Util;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -47,9 +47,7 @@ import static com.hazelcast.jet.impl.util.Util.logLateEvent;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 
-public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
-    private static final int HASH_MAP_INITIAL_CAPACITY = 16;
-    private static final float HASH_MAP_LOAD_FACTOR = 0.75f;
+public class TransformStatefulP<T, K, S, R> extends AbstractProcessor implements ChangeTrackingProcessor {
     private static final Watermark FLUSHING_WATERMARK = new Watermark(Long.MAX_VALUE);
 
     @Probe(name = "lateEventsDropped")
@@ -62,16 +60,16 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
     private final TriFunction<? super S, ? super K, ? super T, ? extends Traverser<R>> statefulFlatMapFn;
     @Nullable
     private final TriFunction<? super S, ? super K, ? super Long, ? extends Traverser<R>> onEvictFn;
-    private final Map<K, TimestampedItem<S>> keyToState =
-            new LinkedHashMap<>(HASH_MAP_INITIAL_CAPACITY, HASH_MAP_LOAD_FACTOR, true);
     private final FlatMapper<T, R> flatMapper = flatMapper(this::flatMapEvent);
 
     private final FlatMapper<Watermark, Object> wmFlatMapper = flatMapper(this::flatMapWm);
     private final EvictingTraverser evictingTraverser = new EvictingTraverser();
     private final Traverser<?> evictingTraverserFlattened = evictingTraverser.flatMap(x -> x);
 
+    private KeyedStateStore<K, TimestampedItem<S>> keyToState;
     private long currentWm = Long.MIN_VALUE;
     private Traverser<? extends Entry<?, ?>> snapshotTraverser;
+    private boolean incrementalSnapshot;
     private boolean inComplete;
 
     private long maxEntries;
@@ -95,6 +93,7 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
     @Override
     protected void init(@Nonnull Processor.Context context) throws Exception {
         maxEntries = context.maxProcessorAccumulatedRecords();
+        keyToState = KeyedStateStore.create(context, TimestampedItem::timestamp);
     }
 
     @Override
@@ -112,16 +111,22 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
             return Traversers.empty();
         }
         K key = keyFn.apply(event);
-        TimestampedItem<S> tsAndState = keyToState.computeIfAbsent(key, (k) -> {
+        TimestampedItem<S> tsAndState = keyToState.get(key);
+        boolean isNew = tsAndState == null;
+        if (isNew) {
             if (keyToState.size() == maxEntries) {
                 throw new AccumulationLimitExceededException();
             }
 
-            return createIfAbsentFn.apply(k);
-        });
+            tsAndState = createIfAbsentFn.apply(key);
+        }
         tsAndState.setTimestamp(max(tsAndState.timestamp(), timestamp));
         S state = tsAndState.item();
-        return statefulFlatMapFn.apply(state, key, event);
+        Traverser<R> result = statefulFlatMapFn.apply(state, key, event);
+        if (isNew || keyToState.isCopying()) {
+            keyToState.put(key, tsAndState, tsAndState.timestamp());
+        }
+        return result;
     }
 
     @Override
@@ -143,17 +148,29 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
         return tryProcessWatermark(FLUSHING_WATERMARK);
     }
 
+    @Override
+    public void close() {
+        if (keyToState != null) {
+            keyToState.dispose();
+        }
+    }
+
     @Override
     public boolean closeIsCooperative() {
         return true;
     }
 
+    @Probe(name = "keyedStateNativeMemory", unit = ProbeUnit.BYTES)
+    private long keyedStateNativeMemory() {
+        return keyToState != null ? keyToState.usedNativeMemory() : 0;
+    }
+
     private class EvictingTraverser implements Traverser<Traverser<?>> {
-        private Iterator<Entry<K, TimestampedItem<S>>> keyToStateIterator;
+        private Traverser<Entry<K, TimestampedItem<S>>> staleEntries;
         private final ResettableSingletonTraverser<Watermark> wmTraverser = new ResettableSingletonTraverser<>();
 
         void reset(Watermark wm) {
-            keyToStateIterator = keyToState.entrySet().iterator();
+            staleEntries = keyToState.removeOlderThan(Util.subtractClamped(currentWm, ttl));
             if (wm == FLUSHING_WATERMARK) {
                 // don't forward the flushing watermark
                 return;
@@ -163,21 +180,17 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
 
         @Override
         public Traverser<?> next() {
-            if (keyToStateIterator == null) {
+            if (staleEntries == null) {
                 return null;
             }
-            while (keyToStateIterator.hasNext()) {
-                Entry<K, TimestampedItem<S>> entry = keyToStateIterator.next();
-                long lastTouched = entry.getValue().timestamp();
-                if (lastTouched >= Util.subtractClamped(currentWm, ttl)) {
-                    break;
-                }
-                keyToStateIterator.remove();
+            Entry<K, TimestampedItem<S>> entry = staleEntries.next();
+            while (entry != null) {
                 if (onEvictFn != null) {
                     return onEvictFn.apply(entry.getValue().item(), entry.getKey(), currentWm);
                 }
+                entry = staleEntries.next();
             }
-            keyToStateIterator = null;
+            staleEntries = null;
             return wmTraverser;
         }
     }
@@ -186,6 +199,11 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
         WATERMARK
     }
 
+    @Override
+    public void startSnapshot(boolean incremental) {
+        incrementalSnapshot = incremental;
+    }
+
     @Override
     public boolean saveToSnapshot() {
         if (inComplete) {
@@ -194,7 +212,7 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
             return complete();
         }
         if (snapshotTraverser == null) {
-            snapshotTraverser = Traversers.<Entry<?, ?>>traverseIterable(keyToState.entrySet())
+            snapshotTraverser = keyToState.snapshotEntries(incrementalSnapshot)
                     .append(entry(broadcastKey(SnapshotKeys.WATERMARK), currentWm))
                     .onFirstNull(() -> snapshotTraverser = null);
         }
@@ -209,8 +227,11 @@ public class TransformStatefulP<T, K, S, R> extends AbstractProcessor {
             currentWm = (currentWm == Long.MIN_VALUE) ? wm : min(currentWm, wm);
         } else {
             @SuppressWarnings("unchecked")
-            TimestampedItem<S> old = keyToState.put((K) key, (TimestampedItem<S>) value);
-            assert old == null : "Duplicate key '" + key + '\'';
+            TimestampedItem<S> tsAndState = (TimestampedItem<S>) value;
+            @SuppressWarnings("unchecked")
+            K k = (K) key;
+            assert keyToState.get(k) == null : "Duplicate key '" + key + '\'';
+            keyToState.put(k, tsAndState, tsAndState.timestamp());
         }
     }
 }
@@ -25,6 +25,13 @@ public interface AsyncSnapshotWriter {
     @CheckReturnValue
     boolean offer(Entry<? extends Data, ? extends Data> entry);
 
+    /**
+     * Offers an entry marking that the given key was removed since the
+     * previous snapshot. Used for incremental snapshots.
+     */
+    @CheckReturnValue
+    boolean offerTombstone(Data key);
+
     @CheckReturnValue
     boolean flushAndResetMap();
     void resetStats();
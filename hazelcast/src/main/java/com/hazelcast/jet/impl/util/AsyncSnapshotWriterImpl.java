@@ -48,6 +48,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
+import static com.hazelcast.jet.Util.entry;
 import static com.hazelcast.jet.impl.JobRepository.safeImap;
 
 public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
@@ -60,6 +61,7 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     final AtomicInteger numConcurrentAsyncOps;
 
     private final IPartitionService partitionService;
+    private final Data tombstone;
 
     private final CustomByteArrayOutputStream[] buffers;
     private final int[] partitionKeys;
@@ -92,6 +94,7 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
     }
 
     // for test
+    @SuppressWarnings("checkstyle:executablestatementcount")
     AsyncSnapshotWriterImpl(int chunkSize,
                             NodeEngine nodeEngine,
                             SnapshotContext snapshotContext,
@@ -127,6 +130,7 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         byte[] valueTerminatorWithHeader = serializationService.toData(SnapshotDataValueTerminator.INSTANCE).toByteArray();
         valueTerminator = Arrays.copyOfRange(valueTerminatorWithHeader, HeapData.TYPE_OFFSET,
                 valueTerminatorWithHeader.length);
+        tombstone = serializationService.toData(SnapshotDataValueTombstone.INSTANCE);
         usableChunkCapacity = chunkSize - valueTerminator.length - serializedByteArrayHeader.length;
         if (usableChunkCapacity <= 0) {
             throw new IllegalArgumentException("too small chunk size: " + chunkSize);
@@ -204,6 +208,12 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         return true;
     }
 
+    @Override
+    @CheckReturnValue
+    public boolean offerTombstone(Data key) {
+        return offer(entry(key, tombstone));
+    }
+
     private void copyWithoutHeader(Data src, byte[] dst, int dstOffset) {
         byte[] bytes = src.toByteArray();
         System.arraycopy(bytes, HeapData.TYPE_OFFSET, dst, dstOffset, bytes.length - HeapData.TYPE_OFFSET);
@@ -449,6 +459,36 @@ public class AsyncSnapshotWriterImpl implements AsyncSnapshotWriter {
         }
     }
 
+    /**
+     * The value of an entry in an incremental snapshot which marks that the
+     * key was removed since the previous snapshot.
+     */
+    public static final class SnapshotDataValueTombstone implements IdentifiedDataSerializable {
+
+        public static final IdentifiedDataSerializable INSTANCE = new SnapshotDataValueTombstone();
+
+        private SnapshotDataValueTombstone() {
+        }
+
+        @Override
+        public int getFactoryId() {
+            return JetInitDataSerializerHook.FACTORY_ID;
+        }
+
+        @Override
+        public int getClassId() {
+            return JetInitDataSerializerHook.ASYNC_SNAPSHOT_WRITER_SNAPSHOT_DATA_VALUE_TOMBSTONE;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) {
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) {
+        }
+    }
+
     /**
      * Non-synchronized variant of {@code java.io.ByteArrayOutputStream} with capacity limit.
      */
@@ -28,6 +28,7 @@ import com.hazelcast.map.listener.MapPartitionLostListener;
 import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.IndexUtils;
+import com.hazelcast.spi.annotation.Beta;
 import com.hazelcast.spi.properties.ClusterProperty;
 
 import javax.annotation.Nonnull;
@@ -920,6 +921,33 @@ public interface IMap<K, V> extends ConcurrentMap<K, V>, BaseMap<K, V>, Iterable
      */
     CompletionStage<Void> putAllAsync(@Nonnull Map<? extends K, ? extends V> map);
 
+    /**
+     * Creates a pipeline for streaming entries into this map in batches. The
+     * entries are accumulated per member owning their partitions and sent as
+     * one request per member and batch.
+     * <p>
+     * The pipeline must be closed to send the remaining entries and to stop
+     * its periodic flushing.
+     *
+     * @param batchSize          the number of entries after which the
+     *                           entries of a member are sent
+     * @param maxInFlightBatches the maximum number of batches sent and not
+     *                           completed yet, before the pipeline applies
+     *                           backpressure
+     * @param flushDelay         the maximum time an entry waits in the pipeline
+     *                           before its batch is sent, while the number of
+     *                           batches in flight allows it
+     * @param flushDelayUnit     the unit of the flushDelay
+     * @return the pipeline
+     * @throws IllegalArgumentException if batchSize, maxInFlightBatches or
+     *                                  flushDelay isn't positive
+     * @see MapIngestPipeline
+     * @since 6.0
+     */
+    @Beta
+    MapIngestPipeline<K, V> newIngestPipeline(int batchSize, int maxInFlightBatches,
+                                              long flushDelay, @Nonnull TimeUnit flushDelayUnit);
+
     /**
      * Asynchronously puts the given key and value.
      * The entry lives forever.
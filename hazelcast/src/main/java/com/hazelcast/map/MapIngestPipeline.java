@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.core.Pipelining;
+import com.hazelcast.spi.annotation.Beta;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams entries into an {@link IMap} in batches.
+ * <p>
+ * The pipeline accumulates the entries per member owning their partitions and
+ * sends a batch once it reaches the configured size or once its oldest entry
+ * has waited for the configured flush delay. Every batch is a single request
+ * to its member, which stores the entries on all of its partitions, instead
+ * of one request per partition as {@link IMap#putAll(java.util.Map)} does.
+ * <p>
+ * The number of batches in flight is bounded. When the bound is reached, the
+ * pipeline applies backpressure: {@link #put(Object, Object)} blocks until a
+ * batch completes and {@link #offer(Object, Object)} rejects the entry, so
+ * that the producer can react to it, similar to what {@link Pipelining} does
+ * for individual asynchronous calls.
+ * <p>
+ * The entries are stored like {@link IMap#putAll(java.util.Map)} stores
+ * them, including the {@link MapLoader} being called for the keys not in
+ * memory yet, if the map has one configured. No ordering is guaranteed between batches
+ * that are in flight at the same time, so an entry may be overwritten by an
+ * older value of the same key that was put into the pipeline before it, if
+ * both are in flight at the same time.
+ * <p>
+ * If a batch fails, the pipeline fails: all subsequent calls rethrow the
+ * failure. No atomicity guarantees are given, the entries of a failed batch
+ * may be partially stored.
+ * <p>
+ * The pipeline isn't thread safe. Only a single thread should add entries
+ * to it.
+ *
+ * @param <K> the key type of the map
+ * @param <V> the value type of the map
+ * @see IMap#newIngestPipeline(int, int, long, TimeUnit)
+ * @since 6.0
+ */
+@Beta
+public interface MapIngestPipeline<K, V> extends AutoCloseable {
+
+    /**
+     * Adds the given entry to the pipeline, blocking while the batch it
+     * completes can't be sent because the maximum number of batches is in
+     * flight.
+     *
+     * @param key   the key of the entry
+     * @param value the value of the entry
+     * @throws InterruptedException if interrupted while waiting for a batch
+     *                              to complete
+     * @throws NullPointerException if the key or the value is {@code null}
+     */
+    void put(@Nonnull K key, @Nonnull V value) throws InterruptedException;
+
+    /**
+     * Adds the given entry to the pipeline, unless the batch it completes
+     * can't be sent because the maximum number of batches is in flight.
+     *
+     * @param key   the key of the entry
+     * @param value the value of the entry
+     * @return {@code true} if the entry was added, {@code false} if it was
+     * rejected because of backpressure
+     * @throws NullPointerException if the key or the value is {@code null}
+     */
+    boolean offer(@Nonnull K key, @Nonnull V value);
+
+    /**
+     * Sends all accumulated entries, blocking while the maximum number of
+     * batches is in flight.
+     *
+     * @return a {@link CompletionStage} completed once all batches sent so
+     * far have completed
+     * @throws InterruptedException if interrupted while waiting for a batch
+     *                              to complete
+     */
+    CompletionStage<Void> flush() throws InterruptedException;
+
+    /**
+     * Returns the number of batches sent and not completed yet.
+     *
+     * @return the number of batches in flight
+     */
+    int getInFlightBatchCount();
+
+    /**
+     * Flushes the pipeline and waits until all batches have completed.
+     *
+     * @throws InterruptedException if interrupted while waiting for the
+     *                              batches to complete
+     */
+    @Override
+    void close() throws InterruptedException;
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.MapIngestPipeline;
+import com.hazelcast.spi.impl.executionservice.TaskScheduler;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.Preconditions.checkState;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Base class of the {@link MapIngestPipeline} implementations of the member
+ * and the client proxies.
+ * <p>
+ * The entries are accumulated in a batch per owner of their partitions, the
+ * subclasses decide what the owner is and how a batch is sent to it. The
+ * batches in flight are bounded by a {@link Semaphore}: a permit is acquired
+ * before a batch is sent and released once it completes. The batches whose
+ * oldest entry has waited for the flush delay are sent by a periodic task,
+ * as long as a permit is available without waiting.
+ *
+ * @param <K> the key type of the map
+ * @param <V> the value type of the map
+ * @param <O> the type identifying the owner of a partition
+ */
+public abstract class AbstractMapIngestPipeline<K, V, O> implements MapIngestPipeline<K, V> {
+
+    private static final String NULL_KEY_IS_NOT_ALLOWED = "Null key is not allowed!";
+    private static final String NULL_VALUE_IS_NOT_ALLOWED = "Null value is not allowed!";
+
+    private final int batchSize;
+    private final long flushDelayNanos;
+    private final Semaphore permits;
+    // guarded by this
+    private final Map<O, Batch<O>> batches = new HashMap<>();
+    private final Set<CompletableFuture<?>> inFlightBatches = ConcurrentHashMap.newKeySet();
+    private volatile Throwable failure;
+    private volatile boolean closed;
+    private ScheduledFuture<?> flushTask;
+
+    protected AbstractMapIngestPipeline(int batchSize, int maxInFlightBatches,
+                                        long flushDelay, @Nonnull TimeUnit flushDelayUnit) {
+        this.batchSize = checkPositive("batchSize", batchSize);
+        this.permits = new Semaphore(checkPositive("maxInFlightBatches", maxInFlightBatches));
+        this.flushDelayNanos = flushDelayUnit.toNanos(checkPositive("flushDelay", flushDelay));
+    }
+
+    /**
+     * Starts the periodic flushing of the batches. Must be called once the
+     * subclass is fully constructed.
+     *
+     * @param scheduler the scheduler to run the periodic flushing on
+     */
+    protected final void start(@Nonnull TaskScheduler scheduler) {
+        flushTask = scheduler.scheduleWithRepetition(this::flushExpiredBatches, flushDelayNanos, flushDelayNanos, NANOSECONDS);
+    }
+
+    /**
+     * Serializes the given key, applying the partitioning strategy of the map.
+     */
+    protected abstract Data toKeyData(Object key);
+
+    /**
+     * Serializes the given value.
+     */
+    protected abstract Data toValueData(Object value);
+
+    /**
+     * Returns the partition ID of the given serialized key.
+     */
+    protected abstract int getPartitionId(Data key);
+
+    /**
+     * Returns the current owner of the given partition, or {@code null} if it
+     * isn't known or the batch can't be sent to it directly.
+     */
+    @Nullable
+    protected abstract O getOwner(int partitionId);
+
+    /**
+     * Sends the given entries to the given owner.
+     *
+     * @param owner              the owner of the partitions, or {@code null} if
+     *                           the batch must be sent to an arbitrary member
+     * @param entriesByPartition the entries grouped by partition ID
+     * @return the future completed once the entries are stored
+     */
+    protected abstract CompletionStage<?> send(@Nullable O owner, @Nonnull Map<Integer, MapEntries> entriesByPartition);
+
+    @Override
+    public void put(@Nonnull K key, @Nonnull V value) throws InterruptedException {
+        checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
+        checkNotNull(value, NULL_VALUE_IS_NOT_ALLOWED);
+        checkActive();
+
+        Data keyData = toKeyData(key);
+        Data valueData = toValueData(value);
+        int partitionId = getPartitionId(keyData);
+        O owner = getOwner(partitionId);
+        if (addIfNotFull(owner, partitionId, keyData, valueData)) {
+            return;
+        }
+        permits.acquire();
+        addAndSend(owner, partitionId, keyData, valueData);
+    }
+
+    @Override
+    public boolean offer(@Nonnull K key, @Nonnull V value) {
+        checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
+        checkNotNull(value, NULL_VALUE_IS_NOT_ALLOWED);
+        checkActive();
+
+        Data keyData = toKeyData(key);
+        Data valueData = toValueData(value);
+        int partitionId = getPartitionId(keyData);
+        O owner = getOwner(partitionId);
+        if (addIfNotFull(owner, partitionId, keyData, valueData)) {
+            return true;
+        }
+        if (!permits.tryAcquire()) {
+            return false;
+        }
+        addAndSend(owner, partitionId, keyData, valueData);
+        return true;
+    }
+
+    @Override
+    public CompletionStage<Void> flush() throws InterruptedException {
+        checkFailure();
+        for (; ; ) {
+            permits.acquire();
+            Batch<O> batch;
+            synchronized (this) {
+                Iterator<Batch<O>> iterator = batches.values().iterator();
+                if (!iterator.hasNext()) {
+                    permits.release();
+                    break;
+                }
+                batch = iterator.next();
+                iterator.remove();
+            }
+            send(batch);
+        }
+        return CompletableFuture.allOf(inFlightBatches.toArray(new CompletableFuture[0]));
+    }
+
+    @Override
+    public int getInFlightBatchCount() {
+        return inFlightBatches.size();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (flushTask != null) {
+            flushTask.cancel(false);
+        }
+        try {
+            flush().toCompletableFuture().get();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private void checkActive() {
+        checkState(!closed, "Ingest pipeline is closed");
+        checkFailure();
+    }
+
+    private void checkFailure() {
+        Throwable failure = this.failure;
+        if (failure != null) {
+            throw rethrow(failure);
+        }
+    }
+
+    /**
+     * Adds the entry to the batch of the owner, unless the entry would
+     * complete the batch.
+     *
+     * @return {@code true} if the entry was added
+     */
+    private synchronized boolean addIfNotFull(O owner, int partitionId, Data key, Data value) {
+        Batch<O> batch = batches.get(owner);
+        int size = batch == null ? 0 : batch.size;
+        if (size + 1 >= batchSize) {
+            return false;
+        }
+        if (batch == null) {
+            batch = new Batch<>(owner);
+            batches.put(owner, batch);
+        }
+        batch.add(partitionId, key, value);
+        return true;
+    }
+
+    /**
+     * Adds the entry to the batch of the owner and sends the batch if it is
+     * complete, using the permit already acquired by the caller. Otherwise,
+     * the batch was sent concurrently by the periodic flushing and the permit
+     * is released.
+     */
+    private void addAndSend(O owner, int partitionId, Data key, Data value) {
+        Batch<O> batch;
+        synchronized (this) {
+            batch = batches.computeIfAbsent(owner, Batch::new);
+            batch.add(partitionId, key, value);
+            if (batch.size < batchSize) {
+                permits.release();
+                return;
+            }
+            batches.remove(owner);
+        }
+        send(batch);
+    }
+
+    private void flushExpiredBatches() {
+        List<Batch<O>> expiredBatches = new ArrayList<>();
+        long now = System.nanoTime();
+        synchronized (this) {
+            Iterator<Batch<O>> iterator = batches.values().iterator();
+            while (iterator.hasNext()) {
+                Batch<O> batch = iterator.next();
+                if (now - batch.creationNanos < flushDelayNanos) {
+                    continue;
+                }
+                if (!permits.tryAcquire()) {
+                    break;
+                }
+                iterator.remove();
+                expiredBatches.add(batch);
+            }
+        }
+        for (Batch<O> batch : expiredBatches) {
+            send(batch);
+        }
+    }
+
+    private void send(Batch<O> batch) {
+        CompletableFuture<?> future;
+        try {
+            future = send(batch.owner, batch.entriesByPartition).toCompletableFuture();
+        } catch (Throwable t) {
+            permits.release();
+            onFailure(t);
+            throw rethrow(t);
+        }
+        inFlightBatches.add(future);
+        future.whenComplete((response, t) -> {
+            inFlightBatches.remove(future);
+            permits.release();
+            if (t != null) {
+                onFailure(t);
+            }
+        });
+    }
+
+    private void onFailure(Throwable t) {
+        if (failure == null) {
+            failure = t;
+        }
+    }
+
+    private static final class Batch<O> {
+
+        final O owner;
+        final long creationNanos = System.nanoTime();
+        final Map<Integer, MapEntries> entriesByPartition = new HashMap<>();
+        int size;
+
+        Batch(O owner) {
+            this.owner = owner;
+        }
+
+        void add(int partitionId, Data key, Data value) {
+            entriesByPartition.computeIfAbsent(partitionId, id -> new MapEntries()).add(key, value);
+            size++;
+        }
+    }
+}
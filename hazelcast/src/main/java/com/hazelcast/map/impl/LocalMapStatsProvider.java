@@ -442,6 +442,10 @@ public class LocalMapStatsProvider {
             freshIndexStats.setPartitionUpdatesStarted(indexStats.getPartitionUpdatesStarted());
             freshIndexStats.setPartitionUpdatesFinished(indexStats.getPartitionUpdatesFinished());
             freshIndexStats.setIndexNotReadyQueryCount(indexStats.getIndexNotReadyQueryCount());
+            freshIndexStats.setIndexBuildEntryCount(freshIndexStats.getIndexBuildEntryCount()
+                    + indexStats.getIndexBuildEntryCount());
+            freshIndexStats.setIndexBuildFailureCount(freshIndexStats.getIndexBuildFailureCount()
+                    + indexStats.getIndexBuildFailureCount());
         }
 
         return freshStats;
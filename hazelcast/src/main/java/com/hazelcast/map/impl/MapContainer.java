@@ -123,6 +123,21 @@ public interface MapContainer {
 
     InterceptorRegistry getInterceptorRegistry();
 
+    /**
+     * @return the coalescer for concurrent gets of this map or {@code null}
+     * if get coalescing is not enabled for this map
+     * @see com.hazelcast.config.MapConfig#setGetCoalescingEnabled(boolean)
+     */
+    @Nullable
+    ReadCoalescer getReadCoalescer();
+
+    /**
+     * @return {@code true} if the on-heap record stores of this map keep a
+     * columnar copy of its values
+     * @see com.hazelcast.config.MapConfig#setColumnarStorageEnabled(boolean)
+     */
+    boolean isColumnarStorageEnabled();
+
     /**
      * Callback invoked before record store and indexes are destroyed. Ensures that if map iterator observes a non-destroyed
      * state, then associated data structures are still valid.
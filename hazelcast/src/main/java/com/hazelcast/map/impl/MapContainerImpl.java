@@ -22,6 +22,7 @@ import com.hazelcast.config.EventJournalConfig;
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.instance.impl.Node;
+import com.hazelcast.internal.monitor.impl.LocalMapStatsImpl;
 import com.hazelcast.internal.namespace.NamespaceUtil;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
 import com.hazelcast.internal.partition.IPartitionService;
@@ -63,6 +64,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static com.hazelcast.config.InMemoryFormat.BINARY;
 import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.internal.eviction.EvictionPolicyEvaluatorProvider.getEvictionPolicyComparator;
@@ -95,6 +97,8 @@ public class MapContainerImpl implements MapContainer {
     protected final InternalSerializationService serializationService;
     protected final Function<Object, Data> toDataFunction = new ObjectToData();
     protected final InterceptorRegistry interceptorRegistry = new InterceptorRegistry();
+    protected final ReadCoalescer readCoalescer;
+    protected final boolean columnarStorageEnabled;
     protected final ConcurrentMap<Integer, IndexRegistry> partitionedIndexRegistry = new ConcurrentHashMap<>();
 
     /**
@@ -137,6 +141,17 @@ public class MapContainerImpl implements MapContainer {
                 ? createIndexRegistry(true, GLOBAL_INDEX_NOOP_PARTITION_ID) : null;
         this.mapStoreContext = createMapStoreContext(this);
         this.wanContext = new MapWanContext(this);
+        this.readCoalescer = createReadCoalescer(nodeEngine);
+        this.columnarStorageEnabled = mapConfig.getInMemoryFormat() == BINARY && mapConfig.isColumnarStorageEnabled();
+    }
+
+    private ReadCoalescer createReadCoalescer(NodeEngine nodeEngine) {
+        if (!mapConfig.isGetCoalescingEnabled()) {
+            return null;
+        }
+        LocalMapStatsImpl stats = mapConfig.isStatisticsEnabled()
+                ? mapServiceContext.getLocalMapStatsProvider().getLocalMapStatsImpl(name) : null;
+        return new ReadCoalescer(nodeEngine, stats);
     }
 
     @Override
@@ -434,6 +449,16 @@ public class MapContainerImpl implements MapContainer {
         return interceptorRegistry;
     }
 
+    @Override
+    public ReadCoalescer getReadCoalescer() {
+        return readCoalescer;
+    }
+
+    @Override
+    public boolean isColumnarStorageEnabled() {
+        return columnarStorageEnabled;
+    }
+
     /**
      * Callback invoked before record store and indexes are destroyed. Ensures that if map iterator observes a non-destroyed
      * state, then associated data structures are still valid.
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.internal.monitor.impl.LocalMapStatsImpl;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.impl.operationservice.OperationService;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
+import static com.hazelcast.internal.util.ThreadUtil.isRunningOnPartitionThread;
+
+/**
+ * Merges concurrent {@code IMap.get} calls for the same key, so that a single
+ * {@code GetOperation} serves all of them.
+ * <p>
+ * A get may only be served by a read which starts executing after the get was
+ * issued, otherwise it could observe a value older than a write which
+ * completed before the get started. Depending on where the get is issued, one
+ * of two strategies is used:
+ * <ul>
+ * <li>{@link #read} is used by callers outside of the partition threads, e.g.
+ * member-side proxies. The first caller for a key becomes the leader: it
+ * registers an in-flight read and invokes the operation. Callers arriving
+ * while the read is registered attach to it. The operation deregisters the
+ * read right before it reads the value on the partition owner, or before it
+ * is sent to a remote owner, so it is gone before the read starts wherever
+ * the partition is owned at that time.
+ * <li>{@link #readQueued} is used by client requests which are queued and run
+ * on the partition thread. Each request takes an {@link #arrivalSequence()}
+ * before it is queued and every executed read takes a higher sequence before
+ * it runs. A request whose arrival precedes the sequence of the last completed
+ * read of its key is answered with that read's response. The completed read is
+ * forgotten once the partition thread has processed the requests queued
+ * before it was published.
+ * </ul>
+ * This coalescer is created per map.
+ */
+public class ReadCoalescer {
+
+    // shared by all coalescers, only the ordering of the sequences matters
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final Runnable NO_OP = () -> { };
+
+    private final ConcurrentMap<Data, InternalCompletableFuture<Object>> inFlightReads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Data, CompletedRead> completedReads = new ConcurrentHashMap<>();
+    private final OperationService operationService;
+    private final LocalMapStatsImpl stats;
+
+    /**
+     * @param nodeEngine the node engine
+     * @param stats      the stats the coalesced and executed reads are
+     *                   reported to or {@code null} if statistics are disabled
+     */
+    public ReadCoalescer(NodeEngine nodeEngine, @Nullable LocalMapStatsImpl stats) {
+        this.operationService = nodeEngine.getOperationService();
+        this.stats = stats;
+    }
+
+    /**
+     * Returns the sequence a request passes to {@link #readQueued} when it
+     * gets executed. Must be taken before the request is queued on the
+     * partition thread.
+     */
+    public static long arrivalSequence() {
+        return SEQUENCE.get();
+    }
+
+    /**
+     * Returns a future for the value of the given key, either by attaching
+     * to an in-flight read of the same key or by invoking a new one.
+     *
+     * @param key         the key to read
+     * @param partitionId the partition of the key
+     * @param invoker     invokes the {@code GetOperation} of the caller,
+     *                    called only when the caller becomes the leader.
+     *                    The operation must run the given task right
+     *                    before it reads the value or is sent to another
+     *                    member.
+     * @return a future private to the caller
+     */
+    @SuppressWarnings("unchecked")
+    public <V> InternalCompletableFuture<V> read(Data key, int partitionId,
+                                                 Function<Runnable, ? extends InternalCompletableFuture<V>> invoker) {
+        if (isRunningOnPartitionThread()) {
+            return invoker.apply(NO_OP);
+        }
+
+        InternalCompletableFuture<Object> inFlight = inFlightReads.get(key);
+        if (inFlight == null) {
+            InternalCompletableFuture<Object> read = new InternalCompletableFuture<>();
+            inFlight = inFlightReads.putIfAbsent(key, read);
+            if (inFlight == null) {
+                return (InternalCompletableFuture<V>) lead(key, read, invoker);
+            }
+        }
+
+        onCoalesced();
+        return (InternalCompletableFuture<V>) attach(inFlight);
+    }
+
+    /**
+     * Returns a future for the value of the given key for a request running
+     * on the partition thread, either by reusing the response of a read which
+     * started after the request arrived or by invoking a new one.
+     *
+     * @param key             the key to read
+     * @param partitionId     the partition of the key
+     * @param arrivalSequence the {@link #arrivalSequence()} taken before the
+     *                        request was queued
+     * @param invoker         invokes the {@code GetOperation} of the request
+     * @return the future for the value
+     */
+    @SuppressWarnings("unchecked")
+    public <V> CompletableFuture<V> readQueued(Data key, int partitionId, long arrivalSequence,
+                                               Supplier<? extends CompletableFuture<V>> invoker) {
+        CompletedRead completed = completedReads.get(key);
+        if (completed != null && arrivalSequence < completed.sequence) {
+            onCoalesced();
+            return CompletableFuture.completedFuture((V) completed.response);
+        }
+
+        long sequence = SEQUENCE.incrementAndGet();
+        onExecuted();
+        CompletableFuture<V> future = invoker.get();
+        // completes inline when the partition is local, so the response is
+        // published before the partition thread picks up the next request
+        future.whenCompleteAsync((response, throwable) -> {
+            if (throwable == null) {
+                publish(key, partitionId, new CompletedRead(sequence, response));
+            }
+        }, CALLER_RUNS);
+        return future;
+    }
+
+    // only used for testing
+    int inFlightReadCount() {
+        return inFlightReads.size();
+    }
+
+    // only used for testing
+    int completedReadCount() {
+        return completedReads.size();
+    }
+
+    private InternalCompletableFuture<Object> lead(Data key, InternalCompletableFuture<Object> read,
+                                                   Function<Runnable, ? extends InternalCompletableFuture<?>> invoker) {
+        onExecuted();
+        InternalCompletableFuture<Object> future = attach(read);
+        try {
+            invoker.apply(() -> inFlightReads.remove(key, read)).whenCompleteAsync((response, throwable) -> {
+                inFlightReads.remove(key, read);
+                complete(read, response, throwable);
+            }, CALLER_RUNS);
+        } catch (Throwable t) {
+            inFlightReads.remove(key, read);
+            read.completeExceptionally(t);
+        }
+        return future;
+    }
+
+    private void publish(Data key, int partitionId, CompletedRead read) {
+        // a single eviction per key is pending at a time, it runs after the requests
+        // which were queued before the first response got published; replacing the
+        // response with an older one is harmless, it just serves fewer requests
+        if (completedReads.put(key, read) == null) {
+            operationService.execute(new CompletedReadEviction(partitionId, key));
+        }
+    }
+
+    private void onCoalesced() {
+        if (stats != null) {
+            stats.incrementCoalescedGets();
+        }
+    }
+
+    private void onExecuted() {
+        if (stats != null) {
+            stats.incrementCoalescingGetOperations();
+        }
+    }
+
+    // every caller gets its own future, so cancelling
+    // it doesn't affect the other attached callers
+    private static InternalCompletableFuture<Object> attach(InternalCompletableFuture<Object> read) {
+        InternalCompletableFuture<Object> future = new InternalCompletableFuture<>();
+        read.whenCompleteAsync((response, throwable) -> complete(future, response, throwable), CALLER_RUNS);
+        return future;
+    }
+
+    private static <V> void complete(CompletableFuture<V> future, V response, Throwable throwable) {
+        if (throwable == null) {
+            future.complete(response);
+        } else {
+            future.completeExceptionally(throwable);
+        }
+    }
+
+    private static final class CompletedRead {
+
+        private final long sequence;
+        private final Object response;
+
+        CompletedRead(long sequence, Object response) {
+            this.sequence = sequence;
+            this.response = response;
+        }
+    }
+
+    /**
+     * Runs on the partition thread after the requests queued before a
+     * completed read got published and forgets the completed read.
+     */
+    private final class CompletedReadEviction implements PartitionSpecificRunnable {
+
+        private final int partitionId;
+        private final Data key;
+
+        CompletedReadEviction(int partitionId, Data key) {
+            this.partitionId = partitionId;
+            this.key = key;
+        }
+
+        @Override
+        public int getPartitionId() {
+            return partitionId;
+        }
+
+        @Override
+        public void run() {
+            completedReads.remove(key);
+        }
+    }
+}
@@ -16,20 +16,14 @@
 
 package com.hazelcast.map.impl.operation;
 
-import com.hazelcast.config.CacheDeserializedValues;
 import com.hazelcast.config.IndexConfig;
-import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.MapService;
-import com.hazelcast.map.impl.record.Records;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
-import com.hazelcast.query.impl.CachedQueryEntry;
-import com.hazelcast.query.impl.Index;
 import com.hazelcast.query.impl.IndexRegistry;
 import com.hazelcast.query.impl.IndexUtils;
 import com.hazelcast.query.impl.InternalIndex;
-import com.hazelcast.query.impl.QueryableEntry;
 import com.hazelcast.spi.impl.AllowedDuringPassiveState;
 import com.hazelcast.spi.impl.operationservice.BackupAwareOperation;
 import com.hazelcast.spi.impl.operationservice.MutatingOperation;
@@ -38,8 +32,6 @@ import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
 
 import java.io.IOException;
 
-import static com.hazelcast.config.CacheDeserializedValues.NEVER;
-
 public class AddIndexOperation extends MapOperation
         implements PartitionAwareOperation, MutatingOperation, BackupAwareOperation,
                     // AddIndexOperation is used when map proxy for IMap with indexes is initialized during passive state
@@ -100,25 +92,13 @@ public class AddIndexOperation extends MapOperation
             return;
         }
 
-        SerializationService serializationService = getNodeEngine().getSerializationService();
-
-        index.beginPartitionUpdate();
-
-        CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
-        CachedQueryEntry<?, ?> cachedEntry = cacheDeserializedValues == NEVER ? new CachedQueryEntry<>(serializationService,
-                mapContainer.getExtractors()) : null;
-        recordStore.forEach((dataKey, record) -> {
-            Object value = Records.getValueOrCachedValue(record, serializationService);
-            QueryableEntry<?, ?> queryEntry = mapContainer.newQueryEntry(dataKey, value);
-            queryEntry.setRecord(record);
-            CachedQueryEntry<?, ?> newEntry =
-                    cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(dataKey, value);
-            index.putEntry(newEntry, null, queryEntry, Index.OperationSource.USER);
-        }, false, false);
-
-        index.markPartitionAsIndexed(partitionId);
+        // Small partitions are indexed right away, larger ones are indexed
+        // in chunks interleaved with the other operations of the partition.
+        // The index only becomes queryable once all partitions are indexed.
+        // A failure to index the first chunk fails this operation.
+        new IndexBuildTask(index, recordStore).start();
 
-        // Register index after we are done creating it and before sending response to the user.
+        // Register index before sending response to the user.
         // It would be better to do once on each member instead of for each partition
         // but currently there is no appropriate operation for that as index must be registered on each member.
         mapServiceContext.registerIndex(name, config);
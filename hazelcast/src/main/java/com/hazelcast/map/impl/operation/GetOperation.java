@@ -23,12 +23,17 @@ import com.hazelcast.map.impl.MapDataSerializerHook;
 import com.hazelcast.map.impl.operation.steps.GetOpSteps;
 import com.hazelcast.map.impl.operation.steps.engine.Step;
 import com.hazelcast.map.impl.operation.steps.engine.State;
+import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.spi.impl.operationservice.BlockingOperation;
 import com.hazelcast.spi.impl.operationservice.WaitNotifyKey;
 
+import java.io.IOException;
+
 public final class GetOperation extends ReadonlyKeyBasedMapOperation implements BlockingOperation {
 
     private Data result;
+    // closes the coalesced read of the key for new callers, see ReadCoalescer
+    private transient Runnable onReadStart;
 
     public GetOperation() {
     }
@@ -39,12 +44,41 @@ public final class GetOperation extends ReadonlyKeyBasedMapOperation implements
         this.dataKey = dataKey;
     }
 
+    /**
+     * Sets the task to run right before the operation reads the value or is
+     * sent to another member.
+     */
+    public void setOnReadStart(Runnable onReadStart) {
+        this.onReadStart = onReadStart;
+    }
+
+    @Override
+    public boolean checkMapExists() {
+        // the first step on the owner, also when the map doesn't exist there yet
+        runOnReadStart();
+        return super.checkMapExists();
+    }
+
     @Override
     protected void innerBeforeRun() throws Exception {
         super.innerBeforeRun();
         recordStore.checkIfLoaded();
     }
 
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        runOnReadStart();
+        super.writeInternal(out);
+    }
+
+    private void runOnReadStart() {
+        Runnable task = onReadStart;
+        if (task != null) {
+            onReadStart = null;
+            task.run();
+        }
+    }
+
     @Override
     protected void runInternal() {
         Object currentValue = recordStore.get(dataKey, false, getCallerAddress());
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.map.impl.MapContainer;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.Records;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.recordstore.expiry.ExpiryReason;
+import com.hazelcast.query.impl.CachedQueryEntry;
+import com.hazelcast.query.impl.Index;
+import com.hazelcast.query.impl.InternalIndex;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.spi.properties.HazelcastProperty;
+
+import static com.hazelcast.config.CacheDeserializedValues.NEVER;
+import static com.hazelcast.internal.util.Clock.currentTimeMillis;
+
+/**
+ * Builds the index of a partition online: the entries of the partition
+ * are indexed in chunks, each chunk running on the partition thread as a
+ * separate task, so that other operations of the partition interleave
+ * with the build instead of waiting for it.
+ * <p>
+ * The first chunk is built by the {@link AddIndexOperation} itself, so
+ * that a failure to index the entries, for instance because of an
+ * attribute which can't be extracted, fails the operation. A failure of
+ * a later chunk leaves the partition unindexed, so queries keep scanning
+ * it, and is counted by the {@code buildFailureCount} index metric.
+ * <p>
+ * The index is added to the index registry before the build starts, so
+ * that mutations of the partition made while it is being built are
+ * applied to it by the {@link com.hazelcast.map.impl.recordstore.IndexingMutationObserver}.
+ * The partition is only marked as indexed, and so the index only becomes
+ * queryable, once all chunks have been indexed. The build is abandoned
+ * if the partition, its record store or the index goes away meanwhile.
+ */
+public final class IndexBuildTask implements PartitionSpecificRunnable {
+
+    /**
+     * The number of entries indexed by a chunk of the build.
+     */
+    public static final HazelcastProperty INDEX_BUILD_CHUNK_SIZE
+            = new HazelcastProperty("hazelcast.internal.map.index.build.chunk.size", 1000);
+
+    private final int partitionId;
+    private final InternalIndex index;
+    private final RecordStore recordStore;
+    private final MapContainer mapContainer;
+    private final MapServiceContext mapServiceContext;
+    private final NodeEngine nodeEngine;
+    private final SerializationService serializationService;
+    private final CachedQueryEntry<?, ?> cachedEntry;
+    private final int chunkSize;
+    private final ILogger logger;
+
+    private IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+
+    IndexBuildTask(InternalIndex index, RecordStore recordStore) {
+        this.partitionId = recordStore.getPartitionId();
+        this.index = index;
+        this.recordStore = recordStore;
+        this.mapContainer = recordStore.getMapContainer();
+        this.mapServiceContext = mapContainer.getMapServiceContext();
+        this.nodeEngine = mapServiceContext.getNodeEngine();
+        this.serializationService = nodeEngine.getSerializationService();
+        CacheDeserializedValues cacheDeserializedValues = mapContainer.getMapConfig().getCacheDeserializedValues();
+        this.cachedEntry = cacheDeserializedValues == NEVER
+                ? new CachedQueryEntry<>(serializationService, mapContainer.getExtractors()) : null;
+        this.chunkSize = Math.max(1, nodeEngine.getProperties().getInteger(INDEX_BUILD_CHUNK_SIZE));
+        this.logger = nodeEngine.getLogger(getClass());
+    }
+
+    @Override
+    public int getPartitionId() {
+        return partitionId;
+    }
+
+    /**
+     * Starts the build on the partition thread: the first chunk is built
+     * right away, the remaining ones are scheduled to run after the
+     * operations queued meanwhile.
+     *
+     * @throws RuntimeException if the first chunk fails to be indexed, the
+     *                          partition is left unindexed then
+     */
+    void start() {
+        if (!recordStore.getIndexesBeingBuilt().add(index.getName())) {
+            // the index is already being built
+            return;
+        }
+        index.beginPartitionUpdate();
+        boolean done;
+        try {
+            done = buildChunk();
+        } catch (Throwable t) {
+            finish(false);
+            throw t;
+        }
+        continueOrFinish(done);
+    }
+
+    @Override
+    public void run() {
+        boolean done;
+        try {
+            if (!isValid()) {
+                finish(false);
+                return;
+            }
+            done = buildChunk();
+        } catch (Throwable t) {
+            logger.warning("Building index " + index.getName() + " of map " + recordStore.getName()
+                    + " failed for partition " + partitionId + ", the partition is left unindexed", t);
+            index.getPerIndexStats().incrementIndexBuildFailureCount();
+            finish(false);
+            return;
+        }
+        continueOrFinish(done);
+    }
+
+    private void continueOrFinish(boolean done) {
+        if (done) {
+            finish(true);
+        } else {
+            nodeEngine.getOperationService().execute(this);
+        }
+    }
+
+    /**
+     * Indexes the next chunk of entries.
+     *
+     * @return {@code true} if all entries of the partition are indexed
+     */
+    private boolean buildChunk() {
+        long now = currentTimeMillis();
+        int indexedCount = 0;
+        while (indexedCount < chunkSize && !isIterationDone()) {
+            MapKeysWithCursor cursor = recordStore.fetchKeys(pointers, chunkSize - indexedCount);
+            pointers = cursor.getIterationPointers();
+            for (Data dataKey : cursor.getBatch()) {
+                Record record = recordStore.getRecord(dataKey);
+                if (record == null
+                        || recordStore.getExpirySystem().hasExpired(dataKey, now, false) != ExpiryReason.NOT_EXPIRED) {
+                    continue;
+                }
+                indexEntry(dataKey, record);
+                indexedCount++;
+            }
+        }
+        index.getPerIndexStats().addIndexBuildEntries(indexedCount);
+        return isIterationDone();
+    }
+
+    private void indexEntry(Data dataKey, Record record) {
+        Object value = Records.getValueOrCachedValue(record, serializationService);
+        QueryableEntry<?, ?> queryEntry = mapContainer.newQueryEntry(dataKey, value);
+        queryEntry.setRecord(record);
+        CachedQueryEntry<?, ?> newEntry =
+                cachedEntry == null ? (CachedQueryEntry<?, ?>) queryEntry : cachedEntry.init(dataKey, value);
+        index.putEntry(newEntry, null, queryEntry, Index.OperationSource.USER);
+    }
+
+    private boolean isIterationDone() {
+        return pointers[pointers.length - 1].getIndex() < 0;
+    }
+
+    /**
+     * @return {@code true} if this member still owns the partition and
+     * neither the record store nor the index was replaced or destroyed
+     */
+    private boolean isValid() {
+        return nodeEngine.getPartitionService().isPartitionOwner(partitionId)
+                && mapServiceContext.getExistingRecordStore(partitionId, recordStore.getName()) == recordStore
+                && mapContainer.getOrCreateIndexRegistry(partitionId).getIndex(index.getName()) == index;
+    }
+
+    private void finish(boolean indexed) {
+        recordStore.getIndexesBeingBuilt().remove(index.getName());
+        if (indexed) {
+            index.markPartitionAsIndexed(partitionId);
+        } else {
+            index.markPartitionAsUnindexed(partitionId);
+        }
+    }
+}
@@ -31,6 +31,7 @@ import com.hazelcast.internal.util.collection.PartitionIdSet;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.EventJournalMapEvent;
 import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapIngestPipeline;
 import com.hazelcast.map.MapInterceptor;
 import com.hazelcast.map.QueryCache;
 import com.hazelcast.map.impl.ComputeEntryProcessor;
@@ -521,6 +522,13 @@ public class MapProxyImpl<K, V> extends MapProxySupport<K, V> implements EventJo
         return future;
     }
 
+    @Override
+    public MapIngestPipeline<K, V> newIngestPipeline(int batchSize, int maxInFlightBatches,
+                                                     long flushDelay, @Nonnull TimeUnit flushDelayUnit) {
+        checkNotNull(flushDelayUnit, "Null flushDelayUnit is not allowed");
+        return new MemberMapIngestPipeline<>(this, batchSize, maxInFlightBatches, flushDelay, flushDelayUnit, true);
+    }
+
     @Override
     public boolean tryLock(@Nonnull K key) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
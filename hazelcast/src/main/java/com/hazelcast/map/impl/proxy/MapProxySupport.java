@@ -56,10 +56,12 @@ import com.hazelcast.map.impl.MapEntries;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.PartitionContainer;
+import com.hazelcast.map.impl.ReadCoalescer;
 import com.hazelcast.map.impl.event.MapEventPublisher;
 import com.hazelcast.map.impl.operation.AddIndexOperationFactory;
 import com.hazelcast.map.impl.operation.AddInterceptorOperationSupplier;
 import com.hazelcast.map.impl.operation.AwaitMapFlushOperation;
+import com.hazelcast.map.impl.operation.GetOperation;
 import com.hazelcast.map.impl.operation.IsEmptyOperationFactory;
 import com.hazelcast.map.impl.operation.IsKeyLoadFinishedOperation;
 import com.hazelcast.map.impl.operation.IsPartitionLoadedOperationFactory;
@@ -428,6 +430,14 @@ abstract class MapProxySupport<K, V>
             }
         }
         MapOperation operation = operationProvider.createGetOperation(name, keyData);
+        ReadCoalescer readCoalescer = mapServiceContext.getMapContainer(name).getReadCoalescer();
+        if (readCoalescer != null) {
+            try {
+                return invokeCoalescedGetOperation(keyData, operation, readCoalescer).get();
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
         return invokeOperation(keyData, operation);
     }
 
@@ -447,7 +457,36 @@ abstract class MapProxySupport<K, V>
 
     protected InternalCompletableFuture<Data> getAsyncInternal(Object key) {
         Data keyData = toDataWithStrategy(key);
-        return invokeOperationAsync(key, operationProvider.createGetOperation(name, keyData), false);
+        MapOperation operation = operationProvider.createGetOperation(name, keyData);
+        ReadCoalescer readCoalescer = mapServiceContext.getMapContainer(name).getReadCoalescer();
+        if (readCoalescer != null) {
+            return invokeCoalescedGetOperation(keyData, operation, readCoalescer);
+        }
+        return invokeOperationAsync(key, operation, false);
+    }
+
+    private InternalCompletableFuture<Data> invokeCoalescedGetOperation(Data keyData, MapOperation operation,
+                                                                        ReadCoalescer readCoalescer) {
+        int partitionId = partitionService.getPartitionId(keyData);
+        operation.setThreadId(getThreadId());
+        long startTimeNanos = Timer.nanos();
+        InternalCompletableFuture<Data> result = readCoalescer.read(keyData, partitionId, onReadStart -> {
+            if (operation instanceof GetOperation getOperation) {
+                getOperation.setOnReadStart(onReadStart);
+            } else {
+                // can't tell when the read starts, close it for new callers right away
+                onReadStart.run();
+            }
+            return operationService.createInvocationBuilder(SERVICE_NAME, operation, partitionId)
+                    .setResultDeserialized(false)
+                    .setFailOnIndeterminateOperationState(failOnIndeterminateOperationState)
+                    .setAsync()
+                    .<Data>invoke();
+        });
+        if (statisticsEnabled) {
+            result.whenCompleteAsync(new IncrementStatsExecutionCallback<>(operation, startTimeNanos), CALLER_RUNS);
+        }
+        return result;
     }
 
     protected Data putInternal(Object key, Data valueData,
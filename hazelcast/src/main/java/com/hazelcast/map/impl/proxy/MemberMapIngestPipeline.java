@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.proxy;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.util.Timer;
+import com.hazelcast.map.impl.AbstractMapIngestPipeline;
+import com.hazelcast.map.impl.MapEntries;
+import com.hazelcast.spi.impl.operationservice.OperationFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.internal.util.CollectionUtil.asIntegerList;
+import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
+import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
+import static java.util.Collections.singletonMap;
+
+/**
+ * The {@link com.hazelcast.map.MapIngestPipeline} of the member-side map
+ * proxy. A batch is sent as a single {@code PartitionIteratingOperation} to
+ * the member owning its partitions, the same way
+ * {@link MapProxySupport#putAllInternal} sends its entries.
+ */
+final class MemberMapIngestPipeline<K, V> extends AbstractMapIngestPipeline<K, V, Address> {
+
+    private final MapProxySupport<K, V> proxy;
+    private final boolean triggerMapLoader;
+
+    MemberMapIngestPipeline(MapProxySupport<K, V> proxy, int batchSize, int maxInFlightBatches,
+                            long flushDelay, @Nonnull TimeUnit flushDelayUnit, boolean triggerMapLoader) {
+        super(batchSize, maxInFlightBatches, flushDelay, flushDelayUnit);
+        this.proxy = proxy;
+        this.triggerMapLoader = triggerMapLoader;
+        start(proxy.getNodeEngine().getExecutionService().getGlobalTaskScheduler());
+    }
+
+    @Override
+    protected Data toKeyData(Object key) {
+        return proxy.toDataWithStrategy(key);
+    }
+
+    @Override
+    protected Data toValueData(Object value) {
+        return proxy.serializationService.toData(value);
+    }
+
+    @Override
+    protected int getPartitionId(Data key) {
+        return proxy.partitionService.getPartitionId(key);
+    }
+
+    @Nullable
+    @Override
+    protected Address getOwner(int partitionId) {
+        return proxy.partitionService.getPartitionOwner(partitionId);
+    }
+
+    @Override
+    protected CompletionStage<?> send(@Nullable Address owner, @Nonnull Map<Integer, MapEntries> entriesByPartition) {
+        int size = entriesByPartition.size();
+        int[] partitions = new int[size];
+        MapEntries[] entries = new MapEntries[size];
+        long totalSize = 0;
+        int index = 0;
+        for (Map.Entry<Integer, MapEntries> entry : entriesByPartition.entrySet()) {
+            partitions[index] = entry.getKey();
+            entries[index] = entry.getValue();
+            totalSize += entry.getValue().size();
+            index++;
+        }
+
+        OperationFactory factory = proxy.operationProvider.createPutAllOperationFactory(proxy.name, partitions, entries,
+                triggerMapLoader);
+        List<Integer> partitionList = asIntegerList(partitions);
+        long startTimeNanos = Timer.nanos();
+        CompletableFuture<Map<Integer, Object>> future = owner == null
+                ? proxy.operationService.invokeOnPartitionsAsync(SERVICE_NAME, factory, partitionList)
+                : proxy.operationService.invokeOnPartitionsAsync(SERVICE_NAME, factory, singletonMap(owner, partitionList));
+        long finalTotalSize = totalSize;
+        return future.whenCompleteAsync((response, t) -> {
+            proxy.putAllVisitSerializedKeys(entries);
+            if (t == null) {
+                proxy.localMapStats.incrementPutLatencyNanos(finalTotalSize, Timer.nanosElapsed(startTimeNanos));
+            }
+        }, CALLER_RUNS);
+    }
+}
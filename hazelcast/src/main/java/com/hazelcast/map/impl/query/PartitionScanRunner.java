@@ -23,6 +23,7 @@ import com.hazelcast.internal.namespace.NamespaceUtil;
 import com.hazelcast.internal.partition.IPartitionService;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.util.Clock;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.impl.LazyMapEntry;
 import com.hazelcast.map.impl.MapContainer;
@@ -32,6 +33,8 @@ import com.hazelcast.map.impl.PartitionContainer;
 import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.recordstore.columnar.ColumnarStore;
+import com.hazelcast.map.impl.recordstore.expiry.ExpiryReason;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.QueryableEntriesSegment;
 import com.hazelcast.query.impl.QueryableEntry;
@@ -41,6 +44,7 @@ import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.OperationService;
 
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +60,14 @@ import static com.hazelcast.map.impl.record.Records.getValueOrCachedValue;
  */
 public class PartitionScanRunner {
 
+    /**
+     * The index of the first iteration pointer of a paged scan which runs on
+     * the columnar copy of a partition. The size of that pointer holds the
+     * generation of the copy, the index of the second pointer the chunk to
+     * continue from and its size the identifier of the copy.
+     */
+    private static final int COLUMNAR_SCAN = Integer.MIN_VALUE;
+
     protected final MapServiceContext mapServiceContext;
     protected final NodeEngine nodeEngine;
     protected final ILogger logger;
@@ -88,6 +100,11 @@ public class PartitionScanRunner {
         Map.Entry<Integer, Map.Entry> nearestAnchorEntry =
                 pagingPredicate == null ? null : pagingPredicate.getNearestAnchorEntry();
 
+        if (pagingPredicate == null && runOnColumns(recordStore, predicate, extractors, result)) {
+            result.orderAndLimit(null, null);
+            return;
+        }
+
         recordStore.forEachAfterLoad(new BiConsumer<>() {
             LazyMapEntry queryEntry = new LazyMapEntry();
 
@@ -119,6 +136,34 @@ public class PartitionScanRunner {
         result.orderAndLimit(pagingPredicate, nearestAnchorEntry);
     }
 
+    /**
+     * Runs the scan on the columnar copy of the partition, if the map has
+     * one which is usable and in sync with the records. Paging predicates
+     * always scan the records.
+     *
+     * @return {@code true} if the scan was run, {@code false} if the
+     * records have to be scanned instead
+     */
+    private boolean runOnColumns(RecordStore<Record> recordStore, Predicate predicate,
+                                 Extractors extractors, Result result) {
+        ColumnarStore columnarStore = recordStore.getColumnarStore();
+        if (columnarStore == null || !columnarStore.isUsable()) {
+            return false;
+        }
+        recordStore.checkIfLoaded();
+        if (columnarStore.size() != recordStore.size()) {
+            return false;
+        }
+        long now = Clock.currentTimeMillis();
+        return columnarStore.scan(predicate, extractors, entry -> {
+            if (recordStore.hasExpired(entry.getKeyData(), now, false) != ExpiryReason.NOT_EXPIRED) {
+                return false;
+            }
+            result.add(entry);
+            return true;
+        });
+    }
+
     /**
      * Executes the predicate on a partition chunk. The offset in the partition
      * is defined by the {@code pointers} and the soft limit is defined by the
@@ -134,6 +179,10 @@ public class PartitionScanRunner {
      * after iteration has started.
      * The iterator will not, however, skip an entry if it has not been changed
      * and will not return an entry twice.
+     * <p>
+     * Like the non-paged scan, the scan runs on the columnar copy of the
+     * partition if there is one which is usable and in sync with the records
+     * when the scan starts.
      *
      * @param mapName     the map name
      * @param predicate   the predicate which the entries must match
@@ -147,10 +196,15 @@ public class PartitionScanRunner {
                                        IterationPointer[] pointers, int fetchSize) {
         List<QueryableEntry> resultList = new LinkedList<>();
         PartitionContainer partitionContainer = mapServiceContext.getPartitionContainer(partitionId);
-        RecordStore recordStore = partitionContainer.getRecordStore(mapName);
+        RecordStore<Record> recordStore = partitionContainer.getRecordStore(mapName);
         Extractors extractors = mapServiceContext.getExtractors(mapName);
 
         return NamespaceUtil.callWithNamespace(nodeEngine, MapService.lookupNamespace(nodeEngine, mapName), () -> {
+            IterationPointer[] columnarPointers = runOnColumns(recordStore, predicate, extractors, pointers, fetchSize,
+                    resultList);
+            if (columnarPointers != null) {
+                return new QueryableEntriesSegment(resultList, columnarPointers);
+            }
             IterationPointer[] localPointers = pointers;
             while (resultList.size() < fetchSize && localPointers[localPointers.length - 1].getIndex() >= 0) {
                 MapEntriesWithCursor cursor = recordStore.fetchEntries(localPointers, fetchSize - resultList.size());
@@ -170,6 +224,55 @@ public class PartitionScanRunner {
         });
     }
 
+    /**
+     * Runs a batch of a paged scan on the columnar copy of the partition if
+     * the scan started on it, or if it's starting and the copy is usable and
+     * in sync with the records.
+     *
+     * @return the pointers to continue the scan from or {@code null} if the
+     * records have to be scanned instead
+     */
+    private IterationPointer[] runOnColumns(RecordStore<Record> recordStore, Predicate predicate, Extractors extractors,
+                                            IterationPointer[] pointers, int fetchSize, List<QueryableEntry> resultList) {
+        ColumnarStore columnarStore = recordStore.getColumnarStore();
+        int generation;
+        int fromChunk;
+        if (pointers.length == 2 && pointers[0].getIndex() == COLUMNAR_SCAN) {
+            if (columnarStore == null || columnarStore.id() != pointers[1].getSize()) {
+                throw new ConcurrentModificationException("The columnar copy of the partition was dropped during the scan");
+            }
+            generation = pointers[0].getSize();
+            fromChunk = pointers[1].getIndex();
+        } else if (isInitial(pointers) && columnarStore != null && columnarStore.isUsable()
+                && !(predicate instanceof PagingPredicateImpl)) {
+            recordStore.checkIfLoaded();
+            if (columnarStore.size() != recordStore.size()) {
+                return null;
+            }
+            generation = columnarStore.generation();
+            fromChunk = 0;
+        } else {
+            return null;
+        }
+
+        long now = Clock.currentTimeMillis();
+        int nextChunk = columnarStore.scan(predicate, extractors, generation, fromChunk, fetchSize, entry -> {
+            if (recordStore.hasExpired(entry.getKeyData(), now, false) != ExpiryReason.NOT_EXPIRED) {
+                return false;
+            }
+            resultList.add(entry);
+            return true;
+        });
+        return new IterationPointer[]{
+                new IterationPointer(COLUMNAR_SCAN, generation),
+                new IterationPointer(nextChunk, columnarStore.id())
+        };
+    }
+
+    private static boolean isInitial(IterationPointer[] pointers) {
+        return pointers.length == 1 && pointers[0].getIndex() == Integer.MAX_VALUE && pointers[0].getSize() == -1;
+    }
+
     protected boolean isUseCachedDeserializedValuesEnabled(MapContainer mapContainer, int partitionId) {
         return mapContainer.isUseCachedDeserializedValuesEnabled(partitionId);
     }
@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.record;
+
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.MemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.util.JVMUtil.OBJECT_HEADER_SIZE;
+import static com.hazelcast.internal.util.JVMUtil.REFERENCE_COST_IN_BYTES;
+import static com.hazelcast.internal.util.TimeStripUtil.recomputeWithBaseTime;
+import static com.hazelcast.internal.util.TimeStripUtil.stripBaseTime;
+import static com.hazelcast.map.impl.record.RecordReaderWriter.DATA_RECORD_WITH_STATS_READER_WRITER;
+
+/**
+ * A {@link Record} whose value and metadata live in an off-heap entry block.
+ * <p>
+ * An instance is in one of two states:
+ * <ul>
+ * <li><b>detached</b>: freshly created by {@link OffHeapRecordFactory} (or
+ * detached on removal), it keeps its value and metadata on-heap, like a
+ * {@link DataRecordWithStats}.</li>
+ * <li><b>attached</b>: a flyweight over an entry block owned by an off-heap
+ * storage. All reads and writes go straight to the native memory.</li>
+ * </ul>
+ * Layout of an entry block:
+ * <pre>
+ * +----------------------+---------+
+ * | next entry address   | long    |
+ * | value block address  | long    |
+ * | value size           | int     |   -1 when the value is {@code null}
+ * | version              | int     |
+ * | hits                 | int     |
+ * | creation time        | int     |   stripped, see TimeStripUtil
+ * | last access time     | int     |
+ * | last update time     | int     |
+ * | last stored time     | int     |
+ * | key size             | int     |
+ * | key bytes            | byte[]  |
+ * +----------------------+---------+
+ * </pre>
+ * The serialized value is kept in its own block so that updates don't need
+ * to move the entry.
+ * <p>
+ * Records are serialized with {@link RecordReaderWriter#DATA_RECORD_WITH_STATS_READER_WRITER},
+ * so replication and migration are wire-compatible with on-heap storages.
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public class OffHeapRecord implements Record<Data> {
+
+    public static final int NEXT_OFFSET = 0;
+    public static final int VALUE_ADDRESS_OFFSET = 8;
+    public static final int VALUE_SIZE_OFFSET = 16;
+    public static final int VERSION_OFFSET = 20;
+    public static final int HITS_OFFSET = 24;
+    public static final int CREATION_TIME_OFFSET = 28;
+    public static final int LAST_ACCESS_TIME_OFFSET = 32;
+    public static final int LAST_UPDATE_TIME_OFFSET = 36;
+    public static final int LAST_STORED_TIME_OFFSET = 40;
+    public static final int KEY_SIZE_OFFSET = 44;
+    public static final int KEY_OFFSET = 48;
+
+    private static final int NULL_VALUE_SIZE = -1;
+    private static final int NUMBER_OF_HEAP_INTS = 6;
+
+    private MemoryManager memoryManager;
+    private long address = NULL_ADDRESS;
+
+    // used only while detached
+    private Data value;
+    private int version;
+    private int hits;
+    private int creationTime = UNSET;
+    private int lastAccessTime = UNSET;
+    private int lastUpdateTime = UNSET;
+    private int lastStoredTime = UNSET;
+
+    // materialized value of an attached record, reset on every value update
+    private Data heapValue;
+
+    public OffHeapRecord() {
+    }
+
+    public OffHeapRecord(Data value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates a flyweight attached to an existing entry block.
+     */
+    public OffHeapRecord(MemoryManager memoryManager, long address) {
+        this.memoryManager = memoryManager;
+        this.address = address;
+    }
+
+    public long address() {
+        return address;
+    }
+
+    public boolean isAttached() {
+        return address != NULL_ADDRESS;
+    }
+
+    /**
+     * Copies the value and metadata of this detached record to the entry
+     * block at {@code entryAddress} and attaches this record to it.
+     * Any value block already referenced from the entry is freed.
+     */
+    public void attach(MemoryManager memoryManager, long entryAddress) {
+        assert !isAttached() : "Record is already attached to " + address;
+        this.memoryManager = memoryManager;
+        this.address = entryAddress;
+        freeValueBlock();
+        writeValue(value);
+        MemoryAccessor mem = memoryManager.getAccessor();
+        mem.putInt(entryAddress + VERSION_OFFSET, version);
+        mem.putInt(entryAddress + HITS_OFFSET, hits);
+        mem.putInt(entryAddress + CREATION_TIME_OFFSET, creationTime);
+        mem.putInt(entryAddress + LAST_ACCESS_TIME_OFFSET, lastAccessTime);
+        mem.putInt(entryAddress + LAST_UPDATE_TIME_OFFSET, lastUpdateTime);
+        mem.putInt(entryAddress + LAST_STORED_TIME_OFFSET, lastStoredTime);
+        this.value = null;
+    }
+
+    /**
+     * Copies the value and metadata of this attached record back on-heap,
+     * frees the value block and detaches this record from its entry block.
+     * The entry block itself is owned and freed by the storage.
+     */
+    public void detach() {
+        assert isAttached() : "Record is not attached";
+        Data detachedValue = getValue();
+        version = getVersion();
+        hits = getHits();
+        creationTime = getRawCreationTime();
+        lastAccessTime = getRawLastAccessTime();
+        lastUpdateTime = getRawLastUpdateTime();
+        lastStoredTime = getRawLastStoredTime();
+        freeValueBlock();
+        address = NULL_ADDRESS;
+        value = detachedValue;
+        heapValue = null;
+    }
+
+    /**
+     * @return the total number of native bytes used by the entry
+     * block at {@code entryAddress} including its value block
+     */
+    public static long entryCost(MemoryAccessor mem, long entryAddress) {
+        return KEY_OFFSET + mem.getInt(entryAddress + KEY_SIZE_OFFSET)
+                + Math.max(0, mem.getInt(entryAddress + VALUE_SIZE_OFFSET));
+    }
+
+    @Override
+    public Data getValue() {
+        if (!isAttached()) {
+            return value;
+        }
+        if (heapValue == null) {
+            heapValue = readValue();
+        }
+        return heapValue;
+    }
+
+    @Override
+    public void setValue(Data value) {
+        if (!isAttached()) {
+            this.value = value;
+            return;
+        }
+        freeValueBlock();
+        writeValue(value);
+        heapValue = null;
+    }
+
+    @Override
+    public long getCost() {
+        if (isAttached()) {
+            return entryCost(memoryManager.getAccessor(), address);
+        }
+        return OBJECT_HEADER_SIZE + 2 * REFERENCE_COST_IN_BYTES + Long.BYTES
+                + NUMBER_OF_HEAP_INTS * Integer.BYTES
+                + (value == null ? 0 : value.getHeapCost());
+    }
+
+    @Override
+    public RecordReaderWriter getMatchingRecordReaderWriter() {
+        return DATA_RECORD_WITH_STATS_READER_WRITER;
+    }
+
+    @Override
+    public int getVersion() {
+        return isAttached() ? getInt(VERSION_OFFSET) : version;
+    }
+
+    @Override
+    public void setVersion(int version) {
+        if (isAttached()) {
+            putInt(VERSION_OFFSET, version);
+        } else {
+            this.version = version;
+        }
+    }
+
+    @Override
+    public int getHits() {
+        return isAttached() ? getInt(HITS_OFFSET) : hits;
+    }
+
+    @Override
+    public void setHits(int hits) {
+        if (isAttached()) {
+            putInt(HITS_OFFSET, hits);
+        } else {
+            this.hits = hits;
+        }
+    }
+
+    @Override
+    public long getLastAccessTime() {
+        return recomputeWithBaseTime(getRawLastAccessTime());
+    }
+
+    @Override
+    public void setLastAccessTime(long lastAccessTime) {
+        setRawLastAccessTime(stripBaseTime(lastAccessTime));
+    }
+
+    @Override
+    public long getLastUpdateTime() {
+        return recomputeWithBaseTime(getRawLastUpdateTime());
+    }
+
+    @Override
+    public void setLastUpdateTime(long lastUpdateTime) {
+        setRawLastUpdateTime(stripBaseTime(lastUpdateTime));
+    }
+
+    @Override
+    public long getCreationTime() {
+        return recomputeWithBaseTime(getRawCreationTime());
+    }
+
+    @Override
+    public void setCreationTime(long creationTime) {
+        setRawCreationTime(stripBaseTime(creationTime));
+    }
+
+    @Override
+    public long getLastStoredTime() {
+        int rawLastStoredTime = getRawLastStoredTime();
+        if (rawLastStoredTime == UNSET) {
+            return 0L;
+        }
+        return recomputeWithBaseTime(rawLastStoredTime);
+    }
+
+    @Override
+    public void setLastStoredTime(long lastStoredTime) {
+        setRawLastStoredTime(stripBaseTime(lastStoredTime));
+    }
+
+    @Override
+    public int getRawCreationTime() {
+        return isAttached() ? getInt(CREATION_TIME_OFFSET) : creationTime;
+    }
+
+    @Override
+    public void setRawCreationTime(int creationTime) {
+        if (isAttached()) {
+            putInt(CREATION_TIME_OFFSET, creationTime);
+        } else {
+            this.creationTime = creationTime;
+        }
+    }
+
+    @Override
+    public int getRawLastAccessTime() {
+        return isAttached() ? getInt(LAST_ACCESS_TIME_OFFSET) : lastAccessTime;
+    }
+
+    @Override
+    public void setRawLastAccessTime(int lastAccessTime) {
+        if (isAttached()) {
+            putInt(LAST_ACCESS_TIME_OFFSET, lastAccessTime);
+        } else {
+            this.lastAccessTime = lastAccessTime;
+        }
+    }
+
+    @Override
+    public int getRawLastUpdateTime() {
+        return isAttached() ? getInt(LAST_UPDATE_TIME_OFFSET) : lastUpdateTime;
+    }
+
+    @Override
+    public void setRawLastUpdateTime(int lastUpdateTime) {
+        if (isAttached()) {
+            putInt(LAST_UPDATE_TIME_OFFSET, lastUpdateTime);
+        } else {
+            this.lastUpdateTime = lastUpdateTime;
+        }
+    }
+
+    @Override
+    public int getRawLastStoredTime() {
+        return isAttached() ? getInt(LAST_STORED_TIME_OFFSET) : lastStoredTime;
+    }
+
+    @Override
+    public void setRawLastStoredTime(int lastStoredTime) {
+        if (isAttached()) {
+            putInt(LAST_STORED_TIME_OFFSET, lastStoredTime);
+        } else {
+            this.lastStoredTime = lastStoredTime;
+        }
+    }
+
+    private Data readValue() {
+        MemoryAccessor mem = memoryManager.getAccessor();
+        int valueSize = mem.getInt(address + VALUE_SIZE_OFFSET);
+        if (valueSize == NULL_VALUE_SIZE) {
+            return null;
+        }
+        byte[] bytes = new byte[valueSize];
+        mem.copyToByteArray(mem.getLong(address + VALUE_ADDRESS_OFFSET), bytes, 0, valueSize);
+        return new HeapData(bytes);
+    }
+
+    private void writeValue(Data value) {
+        MemoryAccessor mem = memoryManager.getAccessor();
+        if (value == null) {
+            mem.putLong(address + VALUE_ADDRESS_OFFSET, NULL_ADDRESS);
+            mem.putInt(address + VALUE_SIZE_OFFSET, NULL_VALUE_SIZE);
+            return;
+        }
+        byte[] bytes = value.toByteArray();
+        long valueAddress = NULL_ADDRESS;
+        if (bytes.length > 0) {
+            valueAddress = memoryManager.getAllocator().allocate(bytes.length);
+            mem.copyFromByteArray(bytes, 0, valueAddress, bytes.length);
+        }
+        mem.putLong(address + VALUE_ADDRESS_OFFSET, valueAddress);
+        mem.putInt(address + VALUE_SIZE_OFFSET, bytes.length);
+    }
+
+    private void freeValueBlock() {
+        MemoryAccessor mem = memoryManager.getAccessor();
+        long valueAddress = mem.getLong(address + VALUE_ADDRESS_OFFSET);
+        if (valueAddress != NULL_ADDRESS) {
+            MemoryAllocator malloc = memoryManager.getAllocator();
+            malloc.free(valueAddress, mem.getInt(address + VALUE_SIZE_OFFSET));
+            mem.putLong(address + VALUE_ADDRESS_OFFSET, NULL_ADDRESS);
+        }
+    }
+
+    private int getInt(int offset) {
+        return memoryManager.getAccessor().getInt(address + offset);
+    }
+
+    private void putInt(int offset, int value) {
+        memoryManager.getAccessor().putInt(address + offset, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OffHeapRecord)) {
+            return false;
+        }
+        OffHeapRecord that = (OffHeapRecord) o;
+        return isAttached() && address == that.address;
+    }
+
+    @Override
+    public int hashCode() {
+        return isAttached() ? Long.hashCode(address) : System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapRecord{"
+                + "address=" + address
+                + ", version=" + getVersion()
+                + ", hits=" + getHits()
+                + ", creationTime=" + getCreationTime()
+                + ", lastAccessTime=" + getLastAccessTime()
+                + ", lastUpdateTime=" + getLastUpdateTime()
+                + ", lastStoredTime=" + getLastStoredTime()
+                + '}';
+    }
+}
@@ -23,9 +23,11 @@ import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MetadataPolicy;
 import com.hazelcast.internal.locksupport.LockStore;
 import com.hazelcast.internal.locksupport.LockSupportService;
+import com.hazelcast.internal.memory.impl.UnsafeMallocMemoryManager;
 import com.hazelcast.internal.monitor.LocalRecordStoreStats;
 import com.hazelcast.internal.monitor.impl.LocalRecordStoreStatsImpl;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.util.Clock;
 import com.hazelcast.internal.util.comparators.ValueComparator;
@@ -39,13 +41,19 @@ import com.hazelcast.map.impl.mapstore.MapDataStore;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.record.DataRecordFactory;
 import com.hazelcast.map.impl.record.ObjectRecordFactory;
+import com.hazelcast.map.impl.record.OffHeapRecordFactory;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.record.RecordFactory;
 import com.hazelcast.map.impl.record.RecordReaderWriter;
+import com.hazelcast.map.impl.recordstore.columnar.ColumnarStore;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.wan.impl.CallerProvenance;
 
 import javax.annotation.Nonnull;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.hazelcast.config.InMemoryFormat.BINARY;
 
 /**
  * Contains record store common parts.
@@ -64,6 +72,9 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     protected final SerializationService serializationService;
     protected final CompositeMutationObserver<Record> mutationObserver;
     protected final LocalRecordStoreStatsImpl stats = new LocalRecordStoreStatsImpl();
+    protected final boolean offHeapStorage;
+    protected final Set<String> indexesBeingBuilt = new HashSet<>();
+    protected final ColumnarStore columnarStore;
 
     protected RecordFactory recordFactory;
     protected Storage<Data, Record> storage;
@@ -82,11 +93,35 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         this.mapDataStore = mapStoreContext.getMapStoreManager().getMapDataStore(name, partitionId);
         this.lockStore = createLockStore();
         this.mutationObserver = new CompositeMutationObserver<>();
+        this.offHeapStorage = isOffHeapStorageEnabled(nodeEngine);
+        this.columnarStore = createColumnarStore();
+    }
+
+    private boolean isOffHeapStorageEnabled(NodeEngine nodeEngine) {
+        if (inMemoryFormat != BINARY || !mapContainer.getMapConfig().isOffHeapStorageEnabled()) {
+            return false;
+        }
+        if (!UnsafeMallocMemoryManager.isAvailable()) {
+            nodeEngine.getLogger(getClass()).warning("Off-heap storage is configured for map '" + name
+                    + "' but native memory access is not available, falling back to on-heap storage");
+            return false;
+        }
+        return true;
+    }
+
+    private ColumnarStore createColumnarStore() {
+        if (offHeapStorage || !mapContainer.isColumnarStorageEnabled()) {
+            return null;
+        }
+        return new ColumnarStore((InternalSerializationService) serializationService);
     }
 
     // overridden in different context
     RecordFactory createRecordFactory() {
         MapConfig mapConfig = mapContainer.getMapConfig();
+        if (offHeapStorage) {
+            return new OffHeapRecordFactory(serializationService);
+        }
         switch (mapConfig.getInMemoryFormat()) {
             case BINARY:
                 return new DataRecordFactory(mapContainer, serializationService);
@@ -130,6 +165,11 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         // Add observer for indexing
         indexingObserver = new IndexingMutationObserver<>(this, serializationService);
         mutationObserver.add(indexingObserver);
+
+        // Add observer for columnar storage
+        if (columnarStore != null) {
+            mutationObserver.add(new ColumnarMutationObserver(this, columnarStore));
+        }
     }
 
     public IndexingMutationObserver<Record> getIndexingObserver() {
@@ -175,6 +215,9 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
     }
 
     public Storage createStorage(RecordFactory recordFactory, InMemoryFormat memoryFormat) {
+        if (offHeapStorage) {
+            return new OffHeapStorage(getExpirySystem(), serializationService);
+        }
         return new StorageImpl(memoryFormat, getExpirySystem(), serializationService);
     }
 
@@ -188,6 +231,16 @@ abstract class AbstractRecordStore implements RecordStore<Record> {
         return mapContainer;
     }
 
+    @Override
+    public Set<String> getIndexesBeingBuilt() {
+        return indexesBeingBuilt;
+    }
+
+    @Override
+    public ColumnarStore getColumnarStore() {
+        return columnarStore;
+    }
+
     @Override
     public long getOwnedEntryCost() {
         return storage.getEntryCostEstimator().getEstimate();
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.columnar.ColumnarStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Keeps the {@link ColumnarStore} of a record store in sync with its
+ * records. Backup replicas are maintained as well, so that a promoted
+ * replica can serve columnar scans right away.
+ * <p>
+ * An unusable store is cleared, and thus becomes usable again, once the
+ * last record of the partition is removed.
+ */
+public class ColumnarMutationObserver implements MutationObserver<Record> {
+
+    private final RecordStore recordStore;
+    private final ColumnarStore columnarStore;
+
+    public ColumnarMutationObserver(RecordStore recordStore, ColumnarStore columnarStore) {
+        this.recordStore = recordStore;
+        this.columnarStore = columnarStore;
+    }
+
+    @Override
+    public void onPutRecord(@Nonnull Data key, Record record, Object oldValue, boolean backup) {
+        columnarStore.put(key, record);
+    }
+
+    @Override
+    public void onReplicationPutRecord(@Nonnull Data key, @Nonnull Record record, boolean populateIndex) {
+        columnarStore.put(key, record);
+    }
+
+    @Override
+    public void onUpdateRecord(@Nonnull Data key, @Nonnull Record record,
+                               Object oldValue, Object newValue, boolean backup) {
+        columnarStore.put(key, record);
+    }
+
+    @Override
+    public void onRemoveRecord(@Nonnull Data key, Record record, boolean backup) {
+        remove(key);
+    }
+
+    @Override
+    public void onEvictRecord(@Nonnull Data key, @Nonnull Record record, boolean backup) {
+        remove(key);
+    }
+
+    @Override
+    public void onLoadRecord(@Nonnull Data key, @Nonnull Record record, boolean backup) {
+        columnarStore.put(key, record);
+    }
+
+    @Override
+    public void onReset() {
+        columnarStore.clear();
+    }
+
+    @Override
+    public void onClear() {
+        columnarStore.clear();
+    }
+
+    @Override
+    public void onDestroy(boolean isDuringShutdown, boolean internal) {
+        columnarStore.clear();
+    }
+
+    private void remove(Data key) {
+        // observers are notified before the record is removed from the storage
+        if (!columnarStore.isUsable() && recordStore.size() <= 1) {
+            columnarStore.clear();
+        } else {
+            columnarStore.remove(key);
+        }
+    }
+}
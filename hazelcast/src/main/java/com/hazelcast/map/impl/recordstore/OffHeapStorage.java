@@ -0,0 +1,524 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.memory.MemoryAccessor;
+import com.hazelcast.internal.memory.MemoryAllocator;
+import com.hazelcast.internal.memory.impl.UnsafeMallocMemoryManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.util.ThreadLocalRandomProvider;
+import com.hazelcast.internal.util.hashslot.HashSlotArray8byteKey;
+import com.hazelcast.internal.util.hashslot.HashSlotCursor8byteKey;
+import com.hazelcast.internal.util.hashslot.impl.HashSlotArray8byteKeyImpl;
+import com.hazelcast.map.impl.EntryCostEstimator;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.OffHeapRecord;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.record.Records;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+
+import static com.hazelcast.internal.memory.MemoryAllocator.NULL_ADDRESS;
+import static com.hazelcast.internal.util.HashUtil.fastLongMix;
+import static com.hazelcast.map.impl.record.OffHeapRecord.KEY_OFFSET;
+import static com.hazelcast.map.impl.record.OffHeapRecord.KEY_SIZE_OFFSET;
+import static com.hazelcast.map.impl.record.OffHeapRecord.NEXT_OFFSET;
+import static com.hazelcast.map.impl.record.OffHeapRecord.VALUE_ADDRESS_OFFSET;
+import static com.hazelcast.map.impl.record.OffHeapRecord.VALUE_SIZE_OFFSET;
+import static com.hazelcast.map.impl.record.OffHeapRecord.entryCost;
+
+/**
+ * {@link Storage} which keeps keys, values and record metadata off-heap, so
+ * that a partition's entries don't contribute to the Java heap object graph.
+ * <p>
+ * The 64-bit hash of the key is mapped by an off-heap {@link HashSlotArray8byteKey}
+ * to the head of a chain of entry blocks (see {@link OffHeapRecord} for the
+ * layout of an entry block); keys with the same hash are chained and told
+ * apart by their serialized bytes.
+ * <p>
+ * Records handed out by this storage are {@link OffHeapRecord} flyweights over
+ * the entry blocks. A flyweight is valid until its entry is removed; the
+ * instance passed to {@link #removeRecord} is detached (its value and metadata
+ * are copied back on-heap) so that it stays usable after the removal.
+ * <p>
+ * Like all storages, it is confined to its partition thread.
+ */
+@SuppressWarnings("checkstyle:methodcount")
+public class OffHeapStorage implements Storage<Data, Record> {
+
+    private static final int SLOT_VALUE_LENGTH = 8;
+    private static final int SLOT_LENGTH = 16;
+
+    private final UnsafeMallocMemoryManager memoryManager;
+    private final MemoryAccessor mem;
+    private final MemoryAllocator malloc;
+    private final HashSlotArray8byteKey hashSlots;
+    private final SerializationService serializationService;
+    private final ExpirySystem expirySystem;
+
+    private int size;
+    private boolean destroyed;
+    // not final for testing purposes.
+    private EntryCostEstimator entryCostEstimator = new NativeMemoryCostEstimator();
+
+    public OffHeapStorage(ExpirySystem expirySystem, SerializationService serializationService) {
+        this.memoryManager = new UnsafeMallocMemoryManager();
+        this.mem = memoryManager.getAccessor();
+        this.malloc = memoryManager.getAllocator();
+        this.hashSlots = new HashSlotArray8byteKeyImpl(NULL_ADDRESS, memoryManager, SLOT_VALUE_LENGTH);
+        this.hashSlots.gotoNew();
+        this.expirySystem = expirySystem;
+        this.serializationService = serializationService;
+    }
+
+    /**
+     * @return number of native bytes currently used by this storage,
+     * including the hash slot array
+     */
+    public long getUsedNativeMemory() {
+        return memoryManager.getUsedMemory();
+    }
+
+    @Override
+    public void put(Data key, Record record) {
+        byte[] keyBytes = key.toByteArray();
+        long hash = key.hash64();
+        long entry = findEntry(hash, keyBytes);
+        if (entry == NULL_ADDRESS) {
+            entry = newEntry(keyBytes);
+            long headAddress = hashSlots.ensure(hash).address();
+            mem.putLong(entry + NEXT_OFFSET, mem.getLong(headAddress));
+            mem.putLong(headAddress, entry);
+            size++;
+        }
+
+        OffHeapRecord offHeapRecord = toOffHeapRecord(record);
+        if (offHeapRecord.isAttached()) {
+            assert offHeapRecord.address() == entry
+                    : "Record is attached to another entry " + offHeapRecord.address() + ", expected " + entry;
+            return;
+        }
+        offHeapRecord.attach(memoryManager, entry);
+    }
+
+    @Override
+    public Record updateRecordValue(Data key, Record record, Object value) {
+        record.setValue(serializationService.toData(value));
+        return record;
+    }
+
+    @Override
+    public Record get(Data key) {
+        long entry = findEntry(key.hash64(), key.toByteArray());
+        return entry == NULL_ADDRESS ? null : new OffHeapRecord(memoryManager, entry);
+    }
+
+    @Override
+    public Record getIfSameKey(Data key) {
+        throw new UnsupportedOperationException("OffHeapStorage#getIfSameKey");
+    }
+
+    @Override
+    public void removeRecord(Data dataKey, @Nonnull Record record) {
+        long hash = dataKey.hash64();
+        byte[] keyBytes = dataKey.toByteArray();
+        long headAddress = hashSlots.get(hash);
+        if (headAddress == NULL_ADDRESS) {
+            return;
+        }
+        long prev = NULL_ADDRESS;
+        long entry = mem.getLong(headAddress);
+        while (entry != NULL_ADDRESS && !keyEquals(entry, keyBytes)) {
+            prev = entry;
+            entry = mem.getLong(entry + NEXT_OFFSET);
+        }
+        if (entry == NULL_ADDRESS) {
+            return;
+        }
+
+        long next = mem.getLong(entry + NEXT_OFFSET);
+        if (prev != NULL_ADDRESS) {
+            mem.putLong(prev + NEXT_OFFSET, next);
+        } else if (next != NULL_ADDRESS) {
+            mem.putLong(headAddress, next);
+        } else {
+            hashSlots.remove(hash);
+        }
+
+        if (record instanceof OffHeapRecord offHeapRecord && offHeapRecord.address() == entry) {
+            offHeapRecord.detach();
+        }
+        freeEntry(entry);
+        size--;
+    }
+
+    @Override
+    public boolean containsKey(Data key) {
+        return findEntry(key.hash64(), key.toByteArray()) != NULL_ADDRESS;
+    }
+
+    /**
+     * Returns an iterator over a snapshot of the keys present at the time of
+     * the call. The records are looked up lazily, so entries removed during
+     * iteration are skipped and entries added during iteration are not seen.
+     */
+    @Override
+    public Iterator<Map.Entry<Data, Record>> mutationTolerantIterator() {
+        List<Data> keys = new ArrayList<>(size);
+        forEachEntry(entry -> keys.add(readKey(entry)));
+        return new KeySnapshotIterator(keys.iterator());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear(boolean isDuringShutdown) {
+        if (destroyed) {
+            return;
+        }
+        HashSlotCursor8byteKey cursor = hashSlots.cursor();
+        while (cursor.advance()) {
+            long entry = mem.getLong(cursor.valueAddress());
+            while (entry != NULL_ADDRESS) {
+                long next = mem.getLong(entry + NEXT_OFFSET);
+                freeEntry(entry);
+                entry = next;
+            }
+        }
+        hashSlots.clear();
+        size = 0;
+        entryCostEstimator.reset();
+    }
+
+    @Override
+    public void destroy(boolean isDuringShutdown) {
+        if (destroyed) {
+            return;
+        }
+        clear(isDuringShutdown);
+        hashSlots.dispose();
+        memoryManager.dispose();
+        destroyed = true;
+    }
+
+    @Override
+    public EntryCostEstimator getEntryCostEstimator() {
+        return entryCostEstimator;
+    }
+
+    @Override
+    public void setEntryCostEstimator(EntryCostEstimator entryCostEstimator) {
+        this.entryCostEstimator = entryCostEstimator;
+    }
+
+    /**
+     * Starts from a random slot and walks the slots circularly until
+     * {@code sampleCount} entries are collected or all slots are visited.
+     */
+    @Override
+    public Iterable<EntryView> getRandomSamples(int sampleCount) {
+        if (sampleCount < 0) {
+            throw new IllegalArgumentException("Sample count cannot be a negative value.");
+        }
+        if (sampleCount == 0 || size == 0) {
+            return Collections.emptyList();
+        }
+        List<EntryView> samples = new ArrayList<>(sampleCount);
+        long capacity = hashSlots.capacity();
+        long firstSlot = ThreadLocalRandomProvider.get().nextLong(capacity);
+        for (long i = 0; i < capacity && samples.size() < sampleCount; i++) {
+            long entry = mem.getLong(slotValueAddress((firstSlot + i) & (capacity - 1)));
+            while (entry != NULL_ADDRESS && samples.size() < sampleCount) {
+                Data key = readKey(entry);
+                samples.add(new LazyEvictableEntryView<>(key, new OffHeapRecord(memoryManager, entry),
+                        expirySystem.getExpiryMetadata(key), serializationService));
+                entry = mem.getLong(entry + NEXT_OFFSET);
+            }
+        }
+        return samples;
+    }
+
+    @Override
+    public MapKeysWithCursor fetchKeys(IterationPointer[] pointers, int size) {
+        List<Data> keys = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, (key, entry) -> keys.add(key));
+        return new MapKeysWithCursor(keys, newPointers);
+    }
+
+    @Override
+    public MapEntriesWithCursor fetchEntries(IterationPointer[] pointers, int size) {
+        List<Map.Entry<Data, Data>> entries = new ArrayList<>(size);
+        IterationPointer[] newPointers = fetchNext(pointers, size, (key, entry) -> entries.add(
+                new AbstractMap.SimpleEntry<>(key, new OffHeapRecord(memoryManager, entry).getValue())));
+        return new MapEntriesWithCursor(entries, newPointers);
+    }
+
+    @Override
+    public Data extractDataKeyFromLazy(EntryView entryView) {
+        return ((LazyEvictableEntryView) entryView).getDataKey();
+    }
+
+    @Override
+    public Data toBackingDataKeyFormat(Data key) {
+        return key;
+    }
+
+    /**
+     * Walks the home slots from the highest index downwards, the same way
+     * {@link com.hazelcast.internal.util.SampleableConcurrentHashMap} walks
+     * its buckets. For each home slot, the probe run starting at it is scanned
+     * for the entries hashing to it, so an entry is visited at the position
+     * given by its hash and not by where linear probing placed it. If the slot
+     * array has been resized since the previous call, a new pointer is appended
+     * and entries whose home slot in an earlier capacity lies above that
+     * pointer's index are skipped as already observed.
+     */
+    private IterationPointer[] fetchNext(IterationPointer[] pointers, int size, BiConsumer<Data, Long> consumer) {
+        int capacity = (int) hashSlots.capacity();
+        pointers = checkPointers(pointers, capacity);
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+
+        int nextSlot = lastPointer.getIndex() >= 0 && lastPointer.getIndex() < capacity
+                ? lastPointer.getIndex() : capacity - 1;
+        long mask = capacity - 1;
+        int counter = 0;
+        while (nextSlot >= 0 && counter < size) {
+            long homeSlot = nextSlot--;
+            for (long slot = homeSlot; isSlotAssigned(slot); slot = (slot + 1) & mask) {
+                if ((fastLongMix(slotKey(slot)) & mask) != homeSlot) {
+                    continue;
+                }
+                long entry = mem.getLong(slotValueAddress(slot));
+                while (entry != NULL_ADDRESS) {
+                    Data key = readKey(entry);
+                    if (hasNotBeenObserved(key, pointers)) {
+                        consumer.accept(key, entry);
+                        counter++;
+                    }
+                    entry = mem.getLong(entry + NEXT_OFFSET);
+                }
+            }
+        }
+        lastPointer.setIndex(nextSlot);
+        return pointers;
+    }
+
+    private static IterationPointer[] checkPointers(IterationPointer[] pointers, int capacity) {
+        IterationPointer lastPointer = pointers[pointers.length - 1];
+        boolean iterationStarted = lastPointer.getSize() == -1;
+        boolean resized = lastPointer.getSize() != capacity;
+        int newLength = !iterationStarted && resized ? pointers.length + 1 : pointers.length;
+
+        IterationPointer[] updatedPointers = new IterationPointer[newLength];
+        for (int i = 0; i < pointers.length; i++) {
+            updatedPointers[i] = new IterationPointer(pointers[i]);
+        }
+        if (iterationStarted || resized) {
+            updatedPointers[updatedPointers.length - 1] = new IterationPointer(Integer.MAX_VALUE, capacity);
+        }
+        return updatedPointers;
+    }
+
+    private static boolean hasNotBeenObserved(Data key, IterationPointer[] pointers) {
+        if (pointers.length < 2) {
+            return true;
+        }
+        long slotHash = fastLongMix(key.hash64());
+        for (int i = 0; i < pointers.length - 1; i++) {
+            IterationPointer pointer = pointers[i];
+            long homeSlot = slotHash & (pointer.getSize() - 1);
+            if (homeSlot > pointer.getIndex()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void forEachEntry(LongConsumer consumer) {
+        HashSlotCursor8byteKey cursor = hashSlots.cursor();
+        while (cursor.advance()) {
+            long entry = mem.getLong(cursor.valueAddress());
+            while (entry != NULL_ADDRESS) {
+                consumer.accept(entry);
+                entry = mem.getLong(entry + NEXT_OFFSET);
+            }
+        }
+    }
+
+    // see the memory layout described in HashSlotArray
+    private long slotKey(long slot) {
+        return mem.getLong(hashSlots.address() + slot * SLOT_LENGTH);
+    }
+
+    private long slotValueAddress(long slot) {
+        return hashSlots.address() + slot * SLOT_LENGTH + SLOT_VALUE_LENGTH;
+    }
+
+    private boolean isSlotAssigned(long slot) {
+        return mem.getLong(slotValueAddress(slot)) != NULL_ADDRESS;
+    }
+
+    private long findEntry(long hash, byte[] keyBytes) {
+        long headAddress = hashSlots.get(hash);
+        if (headAddress == NULL_ADDRESS) {
+            return NULL_ADDRESS;
+        }
+        long entry = mem.getLong(headAddress);
+        while (entry != NULL_ADDRESS) {
+            if (keyEquals(entry, keyBytes)) {
+                return entry;
+            }
+            entry = mem.getLong(entry + NEXT_OFFSET);
+        }
+        return NULL_ADDRESS;
+    }
+
+    private boolean keyEquals(long entry, byte[] keyBytes) {
+        int keySize = mem.getInt(entry + KEY_SIZE_OFFSET);
+        if (keySize != keyBytes.length) {
+            return false;
+        }
+        long keyAddress = entry + KEY_OFFSET;
+        for (int i = 0; i < keySize; i++) {
+            if (mem.getByte(keyAddress + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long newEntry(byte[] keyBytes) {
+        long entry = malloc.allocate(KEY_OFFSET + keyBytes.length);
+        mem.putInt(entry + KEY_SIZE_OFFSET, keyBytes.length);
+        mem.copyFromByteArray(keyBytes, 0, entry + KEY_OFFSET, keyBytes.length);
+        return entry;
+    }
+
+    private Data readKey(long entry) {
+        int keySize = mem.getInt(entry + KEY_SIZE_OFFSET);
+        byte[] keyBytes = new byte[keySize];
+        mem.copyToByteArray(entry + KEY_OFFSET, keyBytes, 0, keySize);
+        return new HeapData(keyBytes);
+    }
+
+    private void freeEntry(long entry) {
+        long valueAddress = mem.getLong(entry + VALUE_ADDRESS_OFFSET);
+        if (valueAddress != NULL_ADDRESS) {
+            malloc.free(valueAddress, mem.getInt(entry + VALUE_SIZE_OFFSET));
+        }
+        malloc.free(entry, KEY_OFFSET + mem.getInt(entry + KEY_SIZE_OFFSET));
+    }
+
+    private static OffHeapRecord toOffHeapRecord(Record record) {
+        if (record instanceof OffHeapRecord offHeapRecord) {
+            return offHeapRecord;
+        }
+        // records not created by OffHeapRecordFactory are copied,
+        // later changes to the given instance are not written through
+        OffHeapRecord offHeapRecord = new OffHeapRecord((Data) record.getValue());
+        Records.copyMetadataFrom(record, offHeapRecord);
+        return offHeapRecord;
+    }
+
+    private final class KeySnapshotIterator implements Iterator<Map.Entry<Data, Record>> {
+
+        private final Iterator<Data> keys;
+        private Map.Entry<Data, Record> next;
+
+        private KeySnapshotIterator(Iterator<Data> keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && keys.hasNext()) {
+                Data key = keys.next();
+                Record record = get(key);
+                if (record != null) {
+                    next = new AbstractMap.SimpleImmutableEntry<>(key, record);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<Data, Record> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<Data, Record> entry = next;
+            next = null;
+            return entry;
+        }
+    }
+
+    /**
+     * Reports the native memory used by the storage as its owned entry cost.
+     */
+    private final class NativeMemoryCostEstimator implements EntryCostEstimator<Data, Record> {
+
+        @Override
+        public long getEstimate() {
+            return destroyed ? 0 : memoryManager.getUsedMemory();
+        }
+
+        @Override
+        public void adjustEstimateBy(long adjustment) {
+            // estimate is taken from the memory manager
+        }
+
+        @Override
+        public long calculateValueCost(Record record) {
+            return record.getCost();
+        }
+
+        @Override
+        public long calculateEntryCost(Data key, Record record) {
+            return record instanceof OffHeapRecord offHeapRecord && offHeapRecord.isAttached()
+                    ? entryCost(mem, offHeapRecord.address())
+                    : key.getHeapCost() + record.getCost();
+        }
+
+        @Override
+        public void reset() {
+            // estimate is taken from the memory manager
+        }
+    }
+}
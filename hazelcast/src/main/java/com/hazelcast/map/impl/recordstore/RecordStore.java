@@ -36,6 +36,7 @@ import com.hazelcast.map.impl.mapstore.MapDataStore;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.record.RecordFactory;
+import com.hazelcast.map.impl.recordstore.columnar.ColumnarStore;
 import com.hazelcast.map.impl.recordstore.expiry.ExpiryMetadata;
 import com.hazelcast.map.impl.recordstore.expiry.ExpiryReason;
 import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
@@ -409,6 +410,24 @@ public interface RecordStore<R extends Record> {
 
     MapContainer getMapContainer();
 
+    /**
+     * Returns the names of the indexes being built online for this
+     * partition, see {@link com.hazelcast.map.impl.operation.IndexBuildTask}.
+     * Only accessed by the partition thread.
+     *
+     * @return the mutable set of names of the indexes being built
+     */
+    Set<String> getIndexesBeingBuilt();
+
+    /**
+     * Returns the columnar copy of the values of this partition, see
+     * {@link com.hazelcast.config.MapConfig#setColumnarStorageEnabled(boolean)}.
+     *
+     * @return the columnar store or {@code null} if columnar storage
+     * is not enabled for this map
+     */
+    ColumnarStore getColumnarStore();
+
     /**
      * @see MapDataStore#softFlush()
      */
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore.columnar;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.record.Record;
+
+/**
+ * A fixed-size chunk of rows of a {@link ColumnarStore}. Every column
+ * holds the raw {@code long} encoding of its values, see {@link
+ * ColumnarStore#box}, and numeric columns keep the minimum and maximum
+ * value ever stored in the chunk since it was last empty.
+ * <p>
+ * Guarded by the lock of the owning store.
+ */
+final class ColumnChunk {
+
+    static final int SIZE = 1024;
+
+    final Data[] keys = new Data[SIZE];
+    final Record[] records = new Record[SIZE];
+    final long[][] values;
+    final long[] minValues;
+    final long[] maxValues;
+
+    int liveCount;
+    boolean zoneMapsEmpty = true;
+
+    ColumnChunk(int columnCount) {
+        this.values = new long[columnCount][SIZE];
+        this.minValues = new long[columnCount];
+        this.maxValues = new long[columnCount];
+    }
+
+    void set(int row, Data key, Record record) {
+        if (records[row] == null) {
+            liveCount++;
+        }
+        keys[row] = key;
+        records[row] = record;
+    }
+
+    void clear(int row) {
+        keys[row] = null;
+        records[row] = null;
+        if (--liveCount == 0) {
+            // nothing left to describe, let the next rows narrow the zone maps
+            zoneMapsEmpty = true;
+        }
+    }
+
+    void widenLongZoneMap(int column, long value) {
+        if (zoneMapsEmpty || value < minValues[column]) {
+            minValues[column] = value;
+        }
+        if (zoneMapsEmpty || value > maxValues[column]) {
+            maxValues[column] = value;
+        }
+    }
+
+    void widenDoubleZoneMap(int column, long bits) {
+        double value = Double.longBitsToDouble(bits);
+        if (zoneMapsEmpty || Double.compare(value, Double.longBitsToDouble(minValues[column])) < 0) {
+            minValues[column] = bits;
+        }
+        if (zoneMapsEmpty || Double.compare(value, Double.longBitsToDouble(maxValues[column])) > 0) {
+            maxValues[column] = bits;
+        }
+    }
+
+    /**
+     * Must be called once all the columns of a written row have widened
+     * the zone maps.
+     */
+    void zoneMapsWidened() {
+        zoneMapsEmpty = false;
+    }
+}
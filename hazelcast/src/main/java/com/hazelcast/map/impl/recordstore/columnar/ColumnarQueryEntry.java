@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore.columnar;
+
+import com.hazelcast.map.impl.LazyMapEntry;
+import com.hazelcast.query.QueryException;
+
+import java.io.Serial;
+
+/**
+ * A query entry over a row of a {@link ColumnarStore}. The attributes
+ * backed by a column are served from the column, the other ones are
+ * extracted from the value of the record as usual.
+ * <p>
+ * The columns are only read while the entry is bound to a row, i.e.
+ * while the scan visiting the row holds the lock of the store. They are
+ * decoded with the {@link ColumnarStore.Columns} the scan started with,
+ * which the chunks of the scan were written with.
+ */
+@SuppressWarnings("rawtypes")
+final class ColumnarQueryEntry extends LazyMapEntry {
+
+    @Serial
+    private static final long serialVersionUID = 0L;
+
+    private final transient ColumnarStore.Columns columns;
+
+    private transient ColumnChunk chunk;
+    private transient int row;
+
+    ColumnarQueryEntry(ColumnarStore.Columns columns) {
+        this.columns = columns;
+    }
+
+    ColumnarStore.Columns columns() {
+        return columns;
+    }
+
+    void bind(ColumnChunk chunk, int row) {
+        this.chunk = chunk;
+        this.row = row;
+    }
+
+    void unbind() {
+        this.chunk = null;
+    }
+
+    @Override
+    public Object getAttributeValue(String attributeName) throws QueryException {
+        if (chunk != null) {
+            int column = columns.columnIndex(attributeName);
+            if (column >= 0) {
+                return columns.valueAt(chunk, row, column);
+            }
+        }
+        return super.getAttributeValue(attributeName);
+    }
+}
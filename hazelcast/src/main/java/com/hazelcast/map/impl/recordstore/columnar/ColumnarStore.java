@@ -0,0 +1,671 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore.columnar;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactInternalGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.FieldDescriptor;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.nio.serialization.FieldKind;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.impl.Comparables;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.query.impl.predicates.AndPredicate;
+import com.hazelcast.query.impl.predicates.RangePredicate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.hazelcast.query.impl.predicates.PredicateUtils.isNull;
+
+/**
+ * A columnar copy of the Compact values of a partition of a map, see
+ * {@link com.hazelcast.config.MapConfig#setColumnarStorageEnabled(boolean)}.
+ * <p>
+ * The store binds to the schema of the first Compact value put into it
+ * and shreds the boolean, integral, floating point and string fields of
+ * the values into {@link ColumnChunk column chunks}. Strings are encoded
+ * as codes of a per-partition dictionary; the dictionary only grows
+ * until the store is cleared. The rows of removed keys are reused.
+ * <p>
+ * A value which isn't Compact or has another schema makes the store
+ * unusable until it's cleared: its columns are dropped and scans fall
+ * back to the records.
+ * <p>
+ * The store is mutated by the partition thread only, through {@link
+ * com.hazelcast.map.impl.recordstore.ColumnarMutationObserver}, while
+ * scans may run on query threads. A scan captures the chunks and the
+ * {@link Columns schema binding} when it starts and holds the read lock
+ * while it visits a chunk. Clearing the store or making it unusable
+ * replaces both instead of mutating them, so a scan in flight keeps
+ * decoding the chunks it started with using their own schema and
+ * dictionary. It observes each chunk in a consistent state but not the
+ * whole store at a single point in time, the same way the regular
+ * partition scan is weakly consistent.
+ * <p>
+ * A scan may also be split into batches of chunks, see {@link
+ * #scan(Predicate, Extractors, int, int, int, MatchConsumer)}. Rows
+ * don't move between chunks, so an entry which isn't removed while such
+ * a scan is in progress is visited exactly once.
+ * <p>
+ * The store serves the predicate scans of {@link
+ * com.hazelcast.map.impl.query.PartitionScanRunner} only. The SQL map
+ * scan reads the records. The store doesn't replace the records of the
+ * partition, it's kept next to them.
+ */
+public final class ColumnarStore {
+
+    private static final ColumnChunk[] NO_CHUNKS = new ColumnChunk[0];
+    private static final String THIS_PREFIX = "this.";
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final InternalSerializationService ss;
+    private final int id = ThreadLocalRandom.current().nextInt();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // only mutated by the partition thread with the write lock held
+    private final Map<Data, Integer> rows = new HashMap<>();
+    private int[] freeRows = new int[INITIAL_CAPACITY];
+    private int freeRowCount;
+    private int rowCount;
+
+    // chunks are replaced on growth, scans keep working on their snapshot
+    private volatile boolean unusable;
+    private volatile int size;
+    private volatile int generation;
+    private volatile ColumnChunk[] chunks = NO_CHUNKS;
+    // null until the first value is put, replaced on reset
+    private Columns columns;
+
+    public ColumnarStore(InternalSerializationService ss) {
+        this.ss = ss;
+    }
+
+    /**
+     * Receives the entries matching the predicate of a {@link #scan}.
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+
+        /**
+         * @param entry the matching entry
+         * @return {@code true} if the consumer retained the entry, in which
+         * case the scan doesn't reuse it for the next rows
+         */
+        boolean accept(QueryableEntry entry);
+    }
+
+    /**
+     * @return {@code false} if a value which can't be stored in columns
+     * was put into the store since it was last cleared
+     */
+    public boolean isUsable() {
+        return !unusable;
+    }
+
+    /**
+     * @return a random identifier of this store, which tells it apart from
+     * the store of the same partition on another member or after the map
+     * was destroyed
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * @return the generation of the chunks of the store, which changes
+     * whenever the store is cleared or made unusable
+     */
+    public int generation() {
+        return generation;
+    }
+
+    /**
+     * @return the number of rows in the store
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Puts the value of the given record into the row of the given key.
+     *
+     * @param key    the key
+     * @param record the record holding the current value of the key
+     */
+    public void put(Data key, Record record) {
+        if (unusable) {
+            return;
+        }
+        CompactInternalGenericRecord value = toCompactRecord(record.getValue());
+
+        lock.writeLock().lock();
+        try {
+            if (value == null || !bind(value.getSchema())) {
+                makeUnusable();
+                return;
+            }
+            Integer row = rows.get(key);
+            if (row == null) {
+                row = allocateRow();
+                rows.put(key, row);
+                size = rows.size();
+            }
+            ColumnChunk chunk = chunks[row / ColumnChunk.SIZE];
+            int rowInChunk = row % ColumnChunk.SIZE;
+            chunk.set(rowInChunk, key, record);
+            for (int column = 0; column < columns.names.length; column++) {
+                writeValue(chunk, rowInChunk, column, value);
+            }
+            chunk.zoneMapsWidened();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the row of the given key, if any.
+     *
+     * @param key the key
+     */
+    public void remove(Data key) {
+        if (unusable) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer row = rows.remove(key);
+            if (row == null) {
+                return;
+            }
+            size = rows.size();
+            chunks[row / ColumnChunk.SIZE].clear(row % ColumnChunk.SIZE);
+            if (freeRowCount == freeRows.length) {
+                freeRows = Arrays.copyOf(freeRows, freeRowCount * 2);
+            }
+            freeRows[freeRowCount++] = row;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops all rows, the schema binding and the dictionary, the store is
+     * usable again afterwards.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+            unusable = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies the predicate to all rows of the store and passes the
+     * matching entries to the consumer. Chunks whose zone maps exclude
+     * the range predicates on numeric columns which the predicate is made
+     * of, directly or as a conjunction, are skipped without visiting
+     * their rows.
+     *
+     * @param predicate  the predicate
+     * @param extractors the extractors of the map
+     * @param consumer   the consumer of the matching entries
+     * @return {@code false} if the store is unusable and the caller has
+     * to scan the records instead, {@code true} otherwise
+     */
+    public boolean scan(Predicate predicate, Extractors extractors, MatchConsumer consumer) {
+        ColumnChunk[] snapshot;
+        Columns snapshotColumns;
+        List<ZoneMapFilter> filters;
+        lock.readLock().lock();
+        try {
+            if (unusable) {
+                return false;
+            }
+            snapshot = chunks;
+            snapshotColumns = columns;
+            filters = new ArrayList<>();
+            if (snapshot.length > 0 && !collectFilters(snapshotColumns, predicate, filters)) {
+                // the predicate can't match any row
+                return true;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        scan(snapshot, snapshotColumns, filters, 0, Integer.MAX_VALUE, predicate, extractors, consumer);
+        return true;
+    }
+
+    /**
+     * Applies the predicate to the rows of the chunks starting at the
+     * given one, the same way as {@link #scan(Predicate, Extractors,
+     * MatchConsumer)}, until the consumer retained at least the given
+     * number of entries or all chunks were visited. The scan can then be
+     * continued from the returned chunk.
+     * <p>
+     * If the store was cleared since the scan started, the scan is
+     * complete: all the entries the scan started with were removed.
+     *
+     * @param predicate  the predicate
+     * @param extractors the extractors of the map
+     * @param generation the {@link #generation()} of the store when the
+     *                   scan started
+     * @param fromChunk  the chunk to continue the scan from
+     * @param limit      the soft limit on the number of entries retained
+     *                   by the consumer
+     * @param consumer   the consumer of the matching entries
+     * @return the chunk to continue the scan from or {@code -1} if the
+     * scan is complete
+     * @throws ConcurrentModificationException if the store was made unusable
+     *                                         since the scan started
+     */
+    public int scan(Predicate predicate, Extractors extractors, int generation, int fromChunk, int limit,
+                    MatchConsumer consumer) {
+        ColumnChunk[] snapshot;
+        Columns snapshotColumns;
+        List<ZoneMapFilter> filters;
+        lock.readLock().lock();
+        try {
+            if (unusable) {
+                throw new ConcurrentModificationException("The columnar copy of the partition was dropped during the scan");
+            }
+            if (generation != this.generation) {
+                return -1;
+            }
+            snapshot = chunks;
+            snapshotColumns = columns;
+            filters = new ArrayList<>();
+            if (fromChunk < snapshot.length && !collectFilters(snapshotColumns, predicate, filters)) {
+                // the predicate can't match any row
+                return -1;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scan(snapshot, snapshotColumns, filters, fromChunk, limit, predicate, extractors, consumer);
+    }
+
+    @SuppressWarnings("checkstyle:parameternumber")
+    private int scan(ColumnChunk[] snapshot, Columns snapshotColumns, List<ZoneMapFilter> filters, int fromChunk,
+                     int limit, Predicate predicate, Extractors extractors, MatchConsumer consumer) {
+        ColumnarQueryEntry entry = new ColumnarQueryEntry(snapshotColumns);
+        RetainCounter counter = new RetainCounter(consumer);
+        for (int i = fromChunk; i < snapshot.length; i++) {
+            if (counter.retained >= limit) {
+                return i;
+            }
+            ColumnChunk chunk = snapshot[i];
+            lock.readLock().lock();
+            try {
+                if (chunk.liveCount == 0 || excluded(snapshotColumns, chunk, filters)) {
+                    continue;
+                }
+                entry = scan(chunk, predicate, extractors, counter, entry);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return -1;
+    }
+
+    private ColumnarQueryEntry scan(ColumnChunk chunk, Predicate predicate, Extractors extractors,
+                                    MatchConsumer consumer, ColumnarQueryEntry entry) {
+        for (int row = 0; row < ColumnChunk.SIZE; row++) {
+            Record record = chunk.records[row];
+            if (record == null) {
+                continue;
+            }
+            entry.init(ss, chunk.keys[row], record.getValue(), extractors);
+            entry.setRecord(record);
+            entry.bind(chunk, row);
+            if (predicate.apply(entry)) {
+                boolean retained = consumer.accept(entry);
+                if (retained) {
+                    // the retained entry falls back to the record from now on
+                    entry.unbind();
+                    entry = new ColumnarQueryEntry(entry.columns());
+                }
+            }
+        }
+        entry.unbind();
+        return entry;
+    }
+
+    private void writeValue(ColumnChunk chunk, int row, int column, CompactInternalGenericRecord value) {
+        String name = columns.names[column];
+        long raw;
+        switch (columns.kinds[column]) {
+            case BOOLEAN:
+                chunk.values[column][row] = value.getBoolean(name) ? 1 : 0;
+                return;
+            case STRING:
+                chunk.values[column][row] = columns.encode(value.getString(name));
+                return;
+            case INT8:
+                raw = value.getInt8(name);
+                break;
+            case INT16:
+                raw = value.getInt16(name);
+                break;
+            case INT32:
+                raw = value.getInt32(name);
+                break;
+            case INT64:
+                raw = value.getInt64(name);
+                break;
+            case FLOAT32:
+                chunk.values[column][row] = Double.doubleToRawLongBits(value.getFloat32(name));
+                chunk.widenDoubleZoneMap(column, chunk.values[column][row]);
+                return;
+            case FLOAT64:
+                chunk.values[column][row] = Double.doubleToRawLongBits(value.getFloat64(name));
+                chunk.widenDoubleZoneMap(column, chunk.values[column][row]);
+                return;
+            default:
+                throw new IllegalStateException("Unexpected column kind: " + columns.kinds[column]);
+        }
+        chunk.values[column][row] = raw;
+        chunk.widenLongZoneMap(column, raw);
+    }
+
+    private CompactInternalGenericRecord toCompactRecord(Object value) {
+        if (!(value instanceof Data data) || !data.isCompact()) {
+            return null;
+        }
+        try {
+            InternalGenericRecord record = ss.readAsInternalGenericRecord(data);
+            return record instanceof CompactInternalGenericRecord compactRecord ? compactRecord : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private boolean bind(Schema schema) {
+        if (columns != null) {
+            return schema.getSchemaId() == columns.schemaId;
+        }
+        columns = new Columns(schema);
+        return true;
+    }
+
+    private static boolean isColumnKind(FieldKind kind) {
+        return switch (kind) {
+            case BOOLEAN, INT8, INT16, INT32, INT64, FLOAT32, FLOAT64, STRING -> true;
+            default -> false;
+        };
+    }
+
+    private static boolean isNumericKind(FieldKind kind) {
+        return kind != FieldKind.BOOLEAN && kind != FieldKind.STRING;
+    }
+
+    private int allocateRow() {
+        if (freeRowCount > 0) {
+            return freeRows[--freeRowCount];
+        }
+        int row = rowCount++;
+        if (row / ColumnChunk.SIZE == chunks.length) {
+            ColumnChunk[] newChunks = Arrays.copyOf(chunks, chunks.length + 1);
+            newChunks[chunks.length] = new ColumnChunk(columns.names.length);
+            chunks = newChunks;
+        }
+        return row;
+    }
+
+    private void makeUnusable() {
+        reset();
+        unusable = true;
+    }
+
+    private void reset() {
+        // scans in flight keep visiting the chunks and the columns they
+        // started with, which are not mutated anymore
+        chunks = NO_CHUNKS;
+        columns = null;
+        generation++;
+        rows.clear();
+        size = 0;
+        freeRowCount = 0;
+        rowCount = 0;
+    }
+
+    /**
+     * Collects the zone map filters of the range predicates the given
+     * predicate is a conjunction of. Called with the lock held.
+     *
+     * @return {@code false} if the predicate can't match any row
+     */
+    private static boolean collectFilters(Columns columns, Predicate predicate, List<ZoneMapFilter> filters) {
+        if (predicate instanceof AndPredicate andPredicate) {
+            for (Predicate subPredicate : andPredicate.getPredicates()) {
+                if (!collectFilters(columns, subPredicate, filters)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return !(predicate instanceof RangePredicate rangePredicate) || collectFilter(columns, rangePredicate, filters);
+    }
+
+    private static boolean collectFilter(Columns columns, RangePredicate rangePredicate, List<ZoneMapFilter> filters) {
+        int column = columns.columnIndex(rangePredicate.getAttribute());
+        if (column < 0) {
+            return true;
+        }
+        FieldKind kind = columns.kinds[column];
+        if (kind == FieldKind.STRING) {
+            return !isAbsentFromDictionary(columns, rangePredicate);
+        }
+        if (isNumericKind(kind)) {
+            Comparable sample = columns.box(column, 0);
+            Comparable from = convert(sample, rangePredicate.getFrom());
+            Comparable to = convert(sample, rangePredicate.getTo());
+            if (from != null || to != null) {
+                filters.add(new ZoneMapFilter(column, from, rangePredicate.isFromInclusive(),
+                        to, rangePredicate.isToInclusive()));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether an equality predicate on a string column looks for a
+     * string which was never stored in the column.
+     */
+    private static boolean isAbsentFromDictionary(Columns columns, RangePredicate predicate) {
+        Comparable from = predicate.getFrom();
+        return from instanceof String value && value.equals(predicate.getTo())
+                && predicate.isFromInclusive() && predicate.isToInclusive()
+                && !columns.dictionaryCodes.containsKey(value);
+    }
+
+    /**
+     * Converts a bound the way the predicates convert the values they are
+     * given to the type of the attribute.
+     *
+     * @return the converted bound or {@code null} if it can't be used for
+     * pruning
+     */
+    private static Comparable convert(Comparable sample, Comparable bound) {
+        if (bound == null || isNull(bound)) {
+            return null;
+        }
+        if (sample.getClass().isAssignableFrom(bound.getClass())) {
+            return bound;
+        }
+        try {
+            Comparable converted = QueryableEntry.extractAttributeType(sample).getConverter().convert(bound);
+            return converted != null && converted.getClass() == sample.getClass() ? converted : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean excluded(Columns columns, ColumnChunk chunk, List<ZoneMapFilter> filters) {
+        if (chunk.zoneMapsEmpty) {
+            return false;
+        }
+        for (ZoneMapFilter filter : filters) {
+            if (filter.excludes(columns.box(filter.column, chunk.minValues[filter.column]),
+                    columns.box(filter.column, chunk.maxValues[filter.column]))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class RetainCounter implements MatchConsumer {
+
+        private final MatchConsumer consumer;
+        private int retained;
+
+        RetainCounter(MatchConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public boolean accept(QueryableEntry entry) {
+            if (consumer.accept(entry)) {
+                retained++;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private record ZoneMapFilter(int column, Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+
+        boolean excludes(Comparable min, Comparable max) {
+            if (from != null) {
+                int order = Comparables.compare(max, from);
+                if (order < 0 || order == 0 && !fromInclusive) {
+                    return true;
+                }
+            }
+            if (to != null) {
+                int order = Comparables.compare(min, to);
+                return order > 0 || order == 0 && !toInclusive;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The columns of the schema the store is bound to and the dictionary
+     * of its string columns. An instance is only mutated while the store
+     * is bound to it, i.e. until the store is reset, with the write lock
+     * held; its columns and dictionary codes never change.
+     */
+    static final class Columns {
+
+        private final long schemaId;
+        private final String[] names;
+        private final FieldKind[] kinds;
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final Map<String, Integer> dictionaryCodes = new HashMap<>();
+        private String[] dictionary = new String[INITIAL_CAPACITY];
+
+        private Columns(Schema schema) {
+            List<String> names = new ArrayList<>();
+            List<FieldKind> kinds = new ArrayList<>();
+            for (FieldDescriptor field : schema.getFields()) {
+                if (isColumnKind(field.getKind())) {
+                    indexes.put(field.getFieldName(), names.size());
+                    indexes.put(THIS_PREFIX + field.getFieldName(), names.size());
+                    names.add(field.getFieldName());
+                    kinds.add(field.getKind());
+                }
+            }
+            this.schemaId = schema.getSchemaId();
+            this.names = names.toArray(new String[0]);
+            this.kinds = kinds.toArray(new FieldKind[0]);
+        }
+
+        /**
+         * Returns the column backing the given attribute.
+         *
+         * @return the column index or {@code -1} if there is no such column
+         */
+        int columnIndex(String attributeName) {
+            Integer column = indexes.get(attributeName);
+            return column == null ? -1 : column;
+        }
+
+        /**
+         * Returns the value of a column boxed to the type the Compact getter
+         * returns for the field. Called with the lock of the store held.
+         */
+        Object valueAt(ColumnChunk chunk, int row, int column) {
+            return box(column, chunk.values[column][row]);
+        }
+
+        private Comparable box(int column, long raw) {
+            switch (kinds[column]) {
+                case BOOLEAN:
+                    return raw != 0;
+                case INT8:
+                    return (byte) raw;
+                case INT16:
+                    return (short) raw;
+                case INT32:
+                    return (int) raw;
+                case INT64:
+                    return raw;
+                case FLOAT32:
+                    return (float) Double.longBitsToDouble(raw);
+                case FLOAT64:
+                    return Double.longBitsToDouble(raw);
+                case STRING:
+                    return raw < 0 ? null : dictionary[(int) raw];
+                default:
+                    throw new IllegalStateException("Unexpected column kind: " + kinds[column]);
+            }
+        }
+
+        private long encode(String value) {
+            if (value == null) {
+                return -1;
+            }
+            Integer code = dictionaryCodes.get(value);
+            if (code == null) {
+                code = dictionaryCodes.size();
+                if (code == dictionary.length) {
+                    dictionary = Arrays.copyOf(dictionary, code * 2);
+                }
+                dictionary[code] = value;
+                dictionaryCodes.put(value, code);
+            }
+            return code;
+        }
+    }
+}
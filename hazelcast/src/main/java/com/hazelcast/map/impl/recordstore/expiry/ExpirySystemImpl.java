@@ -23,10 +23,12 @@ import com.hazelcast.internal.nearcache.impl.invalidation.InvalidationQueue;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.internal.util.MapUtil;
+import com.hazelcast.internal.util.Clock;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.recordstore.expiry.ExpiryTimerWheel.Node;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.properties.ClusterProperty;
 import com.hazelcast.spi.properties.HazelcastProperties;
@@ -52,6 +54,12 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
  * This class has all logic to remove expired entries. Expiry reason
  * can be ttl or idleness. An instance of this class is created for
  * each {@link RecordStore} and it is always accessed by same single thread.
+ * <p>
+ * Expirable keys are indexed by an {@link ExpiryTimerWheel}, so each run
+ * of the expiration task only visits the keys whose expiration time has
+ * come. When the timer wheel is disabled or the expiry metadata isn't
+ * created by this class, a percentage of the expirable keys is sampled
+ * instead.
  */
 public class ExpirySystemImpl implements ExpirySystem {
     private static final long DEFAULT_EXPIRED_KEY_SCAN_TIMEOUT_NANOS
@@ -61,6 +69,11 @@ public class ExpirySystemImpl implements ExpirySystem {
     private static final HazelcastProperty EXPIRED_KEY_SCAN_TIMEOUT_NANOS
             = new HazelcastProperty(PROP_EXPIRED_KEY_SCAN_TIMEOUT_NANOS,
             DEFAULT_EXPIRED_KEY_SCAN_TIMEOUT_NANOS, NANOSECONDS);
+    private static final String PROP_TIMER_WHEEL_ENABLED
+            = "hazelcast.internal.map.expiry.timer.wheel.enabled";
+    private static final HazelcastProperty TIMER_WHEEL_ENABLED
+            = new HazelcastProperty(PROP_TIMER_WHEEL_ENABLED, true);
+    private static final long LOCKED_KEY_RETRY_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(1);
     private static final int ONE_HUNDRED_PERCENT = 100;
     private static final int MIN_TOTAL_NUMBER_OF_KEYS_TO_SCAN = 100;
     private static final int MAX_SAMPLE_AT_A_TIME = 16;
@@ -69,6 +82,7 @@ public class ExpirySystemImpl implements ExpirySystem {
 
     private final long expiryDelayMillis;
     private final long expiredKeyScanTimeoutNanos;
+    private final boolean timerWheelEnabled;
     private final boolean canPrimaryDriveExpiration;
     private final ILogger logger;
     private final RecordStore recordStore;
@@ -78,6 +92,8 @@ public class ExpirySystemImpl implements ExpirySystem {
     private final InvalidationQueue<ExpiredKey> expiredKeys = new InvalidationQueue<>();
 
     private Iterator<Map.Entry<Data, ExpiryMetadata>> cachedExpirationIterator;
+    // created lazily, only accessed by the partition thread
+    private ExpiryTimerWheel timerWheel;
     // This is volatile since it can be initialized at runtime lazily and
     // can be accessed by query threads besides partition ones.
     private volatile Map<Data, ExpiryMetadata> expireTimeByKey;
@@ -95,6 +111,7 @@ public class ExpirySystemImpl implements ExpirySystem {
         this.mapServiceContext = mapServiceContext;
         this.canPrimaryDriveExpiration = mapServiceContext.getClearExpiredRecordsTask().canPrimaryDriveExpiration();
         this.expiredKeyScanTimeoutNanos = nodeEngine.getProperties().getNanos(EXPIRED_KEY_SCAN_TIMEOUT_NANOS);
+        this.timerWheelEnabled = hazelcastProperties.getBoolean(TIMER_WHEEL_ENABLED);
     }
 
     @Override
@@ -117,6 +134,7 @@ public class ExpirySystemImpl implements ExpirySystem {
     public void clear() {
         Map<Data, ExpiryMetadata> map = getOrCreateExpireTimeByKeyMap(false);
         map.clear();
+        clearTimerWheel();
     }
 
     protected final Map<Data, ExpiryMetadata> getOrCreateExpireTimeByKeyMap(boolean createIfAbsent) {
@@ -135,7 +153,9 @@ public class ExpirySystemImpl implements ExpirySystem {
     // this method is overridden
     protected ExpiryMetadata createExpiryMetadata(long ttlMillis, long maxIdleMillis,
                                                   long expirationTime, long lastUpdateTime) {
-        return new ExpiryMetadataImpl(ttlMillis, maxIdleMillis, expirationTime, lastUpdateTime);
+        return timerWheelEnabled
+                ? new Node(ttlMillis, maxIdleMillis, expirationTime, lastUpdateTime)
+                : new ExpiryMetadataImpl(ttlMillis, maxIdleMillis, expirationTime, lastUpdateTime);
     }
 
     /**
@@ -205,6 +225,10 @@ public class ExpirySystemImpl implements ExpirySystem {
                     expirationTime, lastUpdateTime);
             Data nativeKey = recordStore.getStorage().toBackingDataKeyFormat(key);
             expireTimeByKey.put(nativeKey, expiryMetadata);
+            if (expiryMetadata instanceof Node node) {
+                node.key = nativeKey;
+                schedule(node);
+            }
             return;
         }
 
@@ -213,6 +237,22 @@ public class ExpirySystemImpl implements ExpirySystem {
                 .setMaxIdle(maxIdleMillis)
                 .setExpirationTime(expirationTime)
                 .setLastUpdateTime(lastUpdateTime);
+        if (expiryMetadata instanceof Node node) {
+            schedule(node);
+        }
+    }
+
+    private void schedule(Node node) {
+        if (timerWheel == null) {
+            timerWheel = new ExpiryTimerWheel(Clock.currentTimeMillis());
+        }
+        timerWheel.schedule(node);
+    }
+
+    private void clearTimerWheel() {
+        if (timerWheel != null) {
+            timerWheel.clear();
+        }
     }
 
     @Override
@@ -304,6 +344,11 @@ public class ExpirySystemImpl implements ExpirySystem {
     @SuppressWarnings("checkstyle:magicnumber")
     @Override
     public final void evictExpiredEntries(final int percentage, final long now, final boolean backup) {
+        if (timerWheel != null) {
+            evictDueEntries(now, backup);
+            return;
+        }
+
         // 1. Find how many keys we can scan at max.
         final int maxScannableCount = findMaxScannableCount(percentage);
         if (maxScannableCount == 0) {
@@ -336,6 +381,61 @@ public class ExpirySystemImpl implements ExpirySystem {
     }
 
 
+    /**
+     * Evicts the expired entries whose expiration time has come according
+     * to the timer wheel, in batches and within the scan timeout. The due
+     * entries left over are evicted by the next run.
+     */
+    private void evictDueEntries(long now, boolean backup) {
+        // backup replicas expire entries expiryDelayMillis later
+        timerWheel.advance(backup ? now - expiryDelayMillis : now);
+
+        int scannedCount = 0;
+        int expiredCount = 0;
+        long scanLoopStartNanos = System.nanoTime();
+        try {
+            int dueCount;
+            do {
+                dueCount = findDueKeys(now, backup);
+                scannedCount += dueCount;
+                expiredCount += evictExpiredKeys(backup);
+            } while (dueCount == MAX_SAMPLE_AT_A_TIME
+                    && (System.nanoTime() - scanLoopStartNanos) < expiredKeyScanTimeoutNanos);
+        } catch (Exception e) {
+            BATCH_OF_EXPIRED.get().clear();
+            throw ExceptionUtil.rethrow(e);
+        }
+
+        tryToSendBackupExpiryOp();
+
+        if (logger.isFinestEnabled()) {
+            logProgress(scannedCount, scannedCount, expiredCount, scanLoopStartNanos, backup);
+        }
+    }
+
+    private int findDueKeys(long now, boolean backup) {
+        List batchOfExpired = BATCH_OF_EXPIRED.get();
+
+        int dueCount = 0;
+        Node node;
+        while (dueCount < MAX_SAMPLE_AT_A_TIME && (node = timerWheel.pollDue()) != null) {
+            dueCount++;
+            ExpiryReason expiryReason = hasExpired(node, now, backup);
+            if (expiryReason == ExpiryReason.NOT_EXPIRED) {
+                // either the expiration time was extended or a backup
+                // replica waits for the primary to expire the max-idle key
+                timerWheel.schedule(node, Math.max(node.getExpirationTime(),
+                        timerWheel.getCurrentTimeMillis() + expiryDelayMillis));
+            } else if (recordStore.isLocked(node.key)) {
+                timerWheel.schedule(node, timerWheel.getCurrentTimeMillis() + LOCKED_KEY_RETRY_DELAY_MILLIS);
+            } else {
+                batchOfExpired.add(node.key);
+                batchOfExpired.add(expiryReason);
+            }
+        }
+        return dueCount;
+    }
+
     private void logProgress(int maxScannableCount, int scannedCount,
                              int expiredCount, long scanLoopStartNanos, boolean backup) {
         logger.finest(String.format("mapName=%s, partitionId=%d, backup=%s, partitionSize=%d, "
@@ -423,13 +523,17 @@ public class ExpirySystemImpl implements ExpirySystem {
 
     // this method is overridden
     protected void callRemove(Data key, Map<Data, ExpiryMetadata> expireTimeByKey) {
-        expireTimeByKey.remove(key);
+        ExpiryMetadata expiryMetadata = expireTimeByKey.remove(key);
+        if (expiryMetadata instanceof Node node) {
+            timerWheel.deschedule(node);
+        }
     }
 
     // this method is overridden
     @Override
     public void destroy() {
         getOrCreateExpireTimeByKeyMap(false).clear();
+        clearTimerWheel();
     }
 
     @Override
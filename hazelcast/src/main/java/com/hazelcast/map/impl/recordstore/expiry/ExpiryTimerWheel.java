@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore.expiry;
+
+import com.hazelcast.internal.serialization.Data;
+
+/**
+ * A hashed hierarchical timing wheel indexing the expirable keys of a
+ * {@link com.hazelcast.map.impl.recordstore.RecordStore} by expiration
+ * time, see <a href="http://www.cs.columbia.edu/~nahum/w6998/papers/ton97-timing-wheels.pdf">
+ * Hashed and Hierarchical Timing Wheels</a>.
+ * <p>
+ * Each level of the wheel is an array of buckets spanning a power of two
+ * milliseconds, from about a second to about a week. The expiry metadata
+ * of a key is itself a {@link Node} of the doubly linked list of its
+ * bucket, so scheduling and descheduling a key are constant time and the
+ * wheel doesn't allocate. Advancing the wheel only visits the buckets
+ * whose time has come: nodes of a coarser level cascade down to finer
+ * levels and nodes whose expiration time has passed are moved to the due
+ * list, from where they are polled in batches. A node becomes due at
+ * most a tick of the finest level, about a second, after its expiration
+ * time.
+ * <p>
+ * Expiration times may be extended without rescheduling the node (e.g.
+ * on access of a key having max-idle), advancing the wheel reschedules
+ * such nodes lazily.
+ * <p>
+ * This class isn't thread safe, it is only accessed by the partition
+ * thread of its record store.
+ */
+final class ExpiryTimerWheel {
+
+    // ~1.02 seconds, ~1.09 minutes, ~1.17 hours, ~1.55 days, ~6.21 days
+    private static final int[] SHIFTS = {10, 16, 22, 27, 29};
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+
+    private final Node[][] wheel = new Node[BUCKETS.length][];
+    private final Node due = new Node();
+
+    private long currentTimeMillis;
+
+    ExpiryTimerWheel(long nowMillis) {
+        this.currentTimeMillis = nowMillis;
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Node[BUCKETS[i]];
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                wheel[i][j] = new Node();
+            }
+        }
+    }
+
+    long getCurrentTimeMillis() {
+        return currentTimeMillis;
+    }
+
+    /**
+     * Schedules the node by its expiration time, rescheduling it if it
+     * was already scheduled.
+     */
+    void schedule(Node node) {
+        schedule(node, node.getExpirationTime());
+    }
+
+    /**
+     * Schedules the node to be checked at the given time, rescheduling it
+     * if it was already scheduled. Nodes whose time has already come are
+     * moved to the due list.
+     */
+    void schedule(Node node, long timeMillis) {
+        unlink(node);
+        link(timeMillis <= currentTimeMillis ? due : findBucket(timeMillis), node);
+    }
+
+    void deschedule(Node node) {
+        unlink(node);
+    }
+
+    /**
+     * Advances the wheel to the given time, moving the nodes whose
+     * expiration time isn't later than the given time to the due list.
+     */
+    void advance(long timeMillis) {
+        long previousTimeMillis = currentTimeMillis;
+        if (timeMillis <= previousTimeMillis) {
+            return;
+        }
+        currentTimeMillis = timeMillis;
+        for (int i = 0; i < SHIFTS.length; i++) {
+            long previousTicks = previousTimeMillis >>> SHIFTS[i];
+            long currentTicks = timeMillis >>> SHIFTS[i];
+            long delta = currentTicks - previousTicks;
+            if (delta <= 0) {
+                break;
+            }
+            expire(i, previousTicks, delta);
+        }
+    }
+
+    /**
+     * Removes and returns the next due node or {@code null} if there is
+     * none.
+     */
+    Node pollDue() {
+        Node node = due.next;
+        if (node == due) {
+            return null;
+        }
+        unlink(node);
+        return node;
+    }
+
+    void clear() {
+        for (Node[] buckets : wheel) {
+            for (Node sentinel : buckets) {
+                clear(sentinel);
+            }
+        }
+        clear(due);
+    }
+
+    private void expire(int level, long previousTicks, long delta) {
+        Node[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(1 + delta, buckets.length);
+        int start = (int) (previousTicks & mask);
+        int end = start + steps;
+        for (int i = start; i < end; i++) {
+            Node sentinel = buckets[i & mask];
+            Node node = sentinel.next;
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            while (node != sentinel) {
+                Node next = node.next;
+                node.prev = null;
+                node.next = null;
+                // reschedules nodes having a later or extended expiration time
+                schedule(node);
+                node = next;
+            }
+        }
+    }
+
+    private Node findBucket(long timeMillis) {
+        long duration = timeMillis - currentTimeMillis;
+        int length = wheel.length - 1;
+        for (int i = 0; i < length; i++) {
+            if (duration < 1L << SHIFTS[i + 1]) {
+                long ticks = timeMillis >>> SHIFTS[i];
+                return wheel[i][(int) (ticks & (wheel[i].length - 1))];
+            }
+        }
+        return wheel[length][0];
+    }
+
+    private static void link(Node sentinel, Node node) {
+        node.prev = sentinel.prev;
+        node.next = sentinel;
+        sentinel.prev.next = node;
+        sentinel.prev = node;
+    }
+
+    private static void unlink(Node node) {
+        if (node.next != null) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+        }
+    }
+
+    private static void clear(Node sentinel) {
+        Node node = sentinel.next;
+        while (node != sentinel) {
+            Node next = node.next;
+            node.prev = null;
+            node.next = null;
+            node = next;
+        }
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+    }
+
+    /**
+     * Expiry metadata of a key scheduled in the {@link ExpiryTimerWheel}.
+     */
+    static final class Node extends ExpiryMetadataImpl {
+
+        Data key;
+        Node prev;
+        Node next;
+
+        Node(long ttl, long maxIdle, long expirationTime, long lastUpdateTime) {
+            super(ttl, maxIdle, expirationTime, lastUpdateTime);
+        }
+
+        private Node() {
+            // sentinel of a list
+            prev = this;
+            next = this;
+        }
+    }
+}
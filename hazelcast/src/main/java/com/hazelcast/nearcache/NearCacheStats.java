@@ -78,6 +78,21 @@ public interface NearCacheStats extends LocalInstanceStats {
      */
     long getInvalidationRequests();
 
+    /**
+     * @return number of fetched entries that were not stored in the full Near Cache
+     * by its {@link com.hazelcast.config.NearCacheConfig.AdmissionPolicy admission policy}
+     * @since 6.0
+     */
+    long getAdmissionRejections();
+
+    /**
+     * @return percentage of the fetched entries that were not stored in the full Near Cache
+     * by its {@link com.hazelcast.config.NearCacheConfig.AdmissionPolicy admission policy},
+     * {@code NaN} if no entry was evaluated yet
+     * @since 6.0
+     */
+    double getAdmissionRejectionRatio();
+
     /**
      * @return the number of Near Cache key persistences (when the pre-load feature is enabled)
      */
@@ -32,7 +32,9 @@ import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.predicates.PredicateDataSerializerHook;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
@@ -60,6 +62,11 @@ public abstract class AbstractIndex implements InternalIndex {
     protected final IndexCopyBehavior copyBehavior;
 
     private final String[] components;
+    /**
+     * Indexed and included attributes cached in the stored entries, or
+     * {@code null} if the index doesn't include any attributes.
+     */
+    private final String[] coveredComponents;
     private final IndexConfig config;
     private final boolean ordered;
     private final PerIndexStats stats;
@@ -78,6 +85,7 @@ public abstract class AbstractIndex implements InternalIndex {
             int partitionId) {
         this.config = config;
         this.components = IndexUtils.getComponents(config);
+        this.coveredComponents = getCoveredComponents(config, components);
         this.ordered = config.getType() == IndexType.SORTED;
         this.ss = ss;
         this.extractors = extractors;
@@ -133,6 +141,9 @@ public abstract class AbstractIndex implements InternalIndex {
         }
 
         Object newAttributeValue = extractAttributeValue(newEntry);
+        if (coveredComponents != null) {
+            coverAttributes(newEntry, entryToStore);
+        }
         if (oldEntry == null) {
             indexStore.insert(newAttributeValue, newEntry, entryToStore, operationStats);
             stats.onInsert(timestamp, operationStats, operationSource);
@@ -143,6 +154,27 @@ public abstract class AbstractIndex implements InternalIndex {
         }
     }
 
+    private void coverAttributes(CachedQueryEntry newEntry, QueryableEntry entryToStore) {
+        Object[] values = new Object[coveredComponents.length];
+        for (int i = 0; i < coveredComponents.length; i++) {
+            values[i] = newEntry.getAttributeValue(coveredComponents[i]);
+        }
+        entryToStore.coverAttributes(coveredComponents, values);
+    }
+
+    private static String[] getCoveredComponents(IndexConfig config, String[] components) {
+        List<String> includedAttributes = config.getIncludedAttributes();
+        if (includedAttributes.isEmpty()) {
+            return null;
+        }
+
+        String[] coveredComponents = Arrays.copyOf(components, components.length + includedAttributes.size());
+        for (int i = 0; i < includedAttributes.size(); i++) {
+            coveredComponents[components.length + i] = includedAttributes.get(i);
+        }
+        return coveredComponents;
+    }
+
     @Override
     public void removeEntry(CachedQueryEntry entry, OperationSource operationSource) {
         long timestamp = stats.makeTimestamp();
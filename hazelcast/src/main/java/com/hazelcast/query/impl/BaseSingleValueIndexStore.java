@@ -74,6 +74,23 @@ public abstract class BaseSingleValueIndexStore extends BaseIndexStore {
      */
     abstract Object removeInternal(Comparable value, Data recordKey);
 
+    /**
+     * @return {@code true} if a collection was inserted into this index store
+     * and its multi-value results have to be deduplicated.
+     */
+    final boolean isMultiResultDeduplicationRequired() {
+        return multiResultHasToDetectDuplicates;
+    }
+
+    /**
+     * Makes this index store deduplicate its multi-value results. Used by the
+     * stores delegating to other stores, so the delegates are aware of the
+     * collections inserted through the delegating store.
+     */
+    final void requireMultiResultDeduplication() {
+        multiResultHasToDetectDuplicates = true;
+    }
+
     final MultiResultSet createMultiResultSet() {
         return multiResultHasToDetectDuplicates ? new DuplicateDetectingMultiResult() : new FastMultiResultSet();
     }
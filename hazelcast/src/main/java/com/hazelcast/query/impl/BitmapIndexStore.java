@@ -27,18 +27,24 @@ import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.bitmap.Bitmap;
 import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.predicates.AndPredicate;
+import com.hazelcast.query.impl.predicates.BetweenPredicate;
+import com.hazelcast.query.impl.predicates.BoundedRangePredicate;
 import com.hazelcast.query.impl.predicates.EqualPredicate;
+import com.hazelcast.query.impl.predicates.GreaterLessPredicate;
 import com.hazelcast.query.impl.predicates.InPredicate;
 import com.hazelcast.query.impl.predicates.NotEqualPredicate;
 import com.hazelcast.query.impl.predicates.NotPredicate;
 import com.hazelcast.query.impl.predicates.OrPredicate;
 
-import java.util.HashMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
+import static com.hazelcast.internal.util.MapUtil.createHashMap;
+
 /**
  * The store of bitmap indexes.
  * <p>
@@ -65,6 +71,10 @@ public final class BitmapIndexStore extends BaseIndexStore {
         EVALUABLE_PREDICATES.add(EqualPredicate.class);
         EVALUABLE_PREDICATES.add(NotEqualPredicate.class);
         EVALUABLE_PREDICATES.add(InPredicate.class);
+
+        EVALUABLE_PREDICATES.add(GreaterLessPredicate.class);
+        EVALUABLE_PREDICATES.add(BetweenPredicate.class);
+        EVALUABLE_PREDICATES.add(BoundedRangePredicate.class);
     }
 
     private final String keyAttribute;
@@ -305,7 +315,7 @@ public final class BitmapIndexStore extends BaseIndexStore {
     public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
         takeReadLock();
         try {
-            return toSingleResultSet(toMap(bitmap.evaluate(predicate, new CanonicalizingConverter(converter))));
+            return toResultSet(bitmap.evaluate(predicate, new CanonicalizingConverter(converter)));
         } finally {
             releaseReadLock();
         }
@@ -422,13 +432,18 @@ public final class BitmapIndexStore extends BaseIndexStore {
         return value;
     }
 
-    private Map<Data, QueryableEntry> toMap(Iterator<QueryableEntry> iterator) {
-        Map<Data, QueryableEntry> map = new HashMap<>();
+    private static Set<QueryableEntry> toResultSet(Iterator<QueryableEntry> iterator) {
+        // Bitmaps never produce duplicates, so there is no need to hash the
+        // entries just to iterate or count them.
+        QueryableEntry[] entries = new QueryableEntry[INITIAL_CAPACITY];
+        int size = 0;
         while (iterator.hasNext()) {
-            QueryableEntry entry = iterator.next();
-            map.put(entry.getKeyData(), entry);
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size << 1);
+            }
+            entries[size++] = iterator.next();
         }
-        return map;
+        return new EntryArrayResultSet(entries, size);
     }
 
     private long extractLongKey(QueryableEntry entry) {
@@ -534,6 +549,48 @@ public final class BitmapIndexStore extends BaseIndexStore {
 
     }
 
+    /**
+     * The result set of bitmap evaluation backed by an array of distinct
+     * entries. The key lookup structure required for {@link #contains} is
+     * built lazily, it's needed only while intersecting with other results.
+     */
+    private static final class EntryArrayResultSet extends AbstractSet<QueryableEntry> {
+
+        private final QueryableEntry[] entries;
+        private final int size;
+
+        private volatile Map<Data, QueryableEntry> entriesByKey;
+
+        EntryArrayResultSet(QueryableEntry[] entries, int size) {
+            this.entries = entries;
+            this.size = size;
+        }
+
+        @Override
+        public boolean contains(Object mapEntry) {
+            Map<Data, QueryableEntry> entriesByKey = this.entriesByKey;
+            if (entriesByKey == null) {
+                entriesByKey = createHashMap(size);
+                for (int i = 0; i < size; ++i) {
+                    entriesByKey.put(entries[i].getKeyData(), entries[i]);
+                }
+                this.entriesByKey = entriesByKey;
+            }
+            return entriesByKey.containsKey(((QueryableEntry) mapEntry).getKeyData());
+        }
+
+        @Override
+        public Iterator<QueryableEntry> iterator() {
+            return Arrays.asList(entries).subList(0, size).iterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
     /**
      * Converts and at the same time canonicalizes the values passed in.
      */
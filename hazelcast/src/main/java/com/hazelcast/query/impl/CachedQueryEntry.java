@@ -85,6 +85,7 @@ public class CachedQueryEntry<K, V> extends QueryableEntry<K, V> implements Iden
             this.valueData = null;
         }
 
+        resetCoveredAttributes();
         return this;
     }
 
@@ -94,6 +95,7 @@ public class CachedQueryEntry<K, V> extends QueryableEntry<K, V> implements Iden
         this.keyData = null;
         this.valueObject = (V) value;
         this.valueData = null;
+        resetCoveredAttributes();
 
         return this;
     }
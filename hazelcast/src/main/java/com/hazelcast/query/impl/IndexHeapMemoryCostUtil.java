@@ -40,6 +40,7 @@ public final class IndexHeapMemoryCostUtil {
     private static final int BASE_BIG_DECIMAL_COST = 40;
     private static final int BASE_CONCURRENT_HASH_MAP_COST = 64 + BASE_ARRAY_COST;
     private static final int BASE_CONCURRENT_SKIP_LIST_MAP_COST = 48;
+    private static final int REFERENCE_COST = 4;
 
     private static final int DATE_COST = 24;
     private static final int SQL_TIMESTAMP_COST = 32;
@@ -70,6 +71,11 @@ public final class IndexHeapMemoryCostUtil {
     private static final int ROUGH_BIG_DECIMAL_COST = BASE_BIG_DECIMAL_COST + ROUGH_BIG_INTEGER_COST;
     private static final int ROUGH_UNKNOWN_CLASS_COST = 24;
 
+    // A primitive key of a LongBPlusTree costs 8 bytes plus a 4-byte reference
+    // to its value, the cost of the nodes (an object and two arrays per up to
+    // 64 keys, half-full in the worst case) is amortized over the keys.
+    private static final int ROUGH_PRIMITIVE_TREE_KEY_COST = 8 + REFERENCE_COST + 4;
+
     private IndexHeapMemoryCostUtil() {
     }
 
@@ -140,14 +146,59 @@ public final class IndexHeapMemoryCostUtil {
             mapCost = BASE_CONCURRENT_HASH_MAP_COST + size * CONCURRENT_HASH_MAP_ENTRY_COST;
         }
 
-        long queryableEntriesCost;
+        return mapCost + estimateQueryableEntriesCost(size, usesCachedQueryableEntries);
+    }
+
+    /**
+     * Estimates the on-heap memory cost of queryable entries referenced by an
+     * index.
+     *
+     * @param size                       the number of entries.
+     * @param usesCachedQueryableEntries {@code true} if queryable entries indexed
+     *                                   by the associated index are cached, {@code
+     *                                   false} otherwise.
+     * @return the estimated cost of the entries.
+     */
+    public static long estimateQueryableEntriesCost(long size, boolean usesCachedQueryableEntries) {
         if (usesCachedQueryableEntries) {
-            queryableEntriesCost = size * CACHED_QUERYABLE_ENTRY_COST;
+            return size * CACHED_QUERYABLE_ENTRY_COST;
         } else {
-            queryableEntriesCost = size * QUERY_ENTRY_COST;
+            return size * QUERY_ENTRY_COST;
         }
+    }
 
-        return mapCost + queryableEntriesCost;
+    /**
+     * Estimates the on-heap memory cost of a key stored in a primitive ordered
+     * index store together with the bucket holding the entries associated with
+     * the key. The entries themselves are not included.
+     *
+     * @param entryCount the number of entries associated with the key, a single
+     *                   entry is referenced directly without a bucket.
+     * @return the estimated key cost, zero if there are no entries.
+     */
+    public static long estimatePrimitiveTreeKeyCost(int entryCount) {
+        if (entryCount == 0) {
+            return 0;
+        }
+        if (entryCount == 1) {
+            return ROUGH_PRIMITIVE_TREE_KEY_COST;
+        }
+        long bucketCost = BASE_ARRAY_COST + entryCount * (long) REFERENCE_COST;
+        // align to 8 bytes
+        return ROUGH_PRIMITIVE_TREE_KEY_COST + ((bucketCost + 7) & ~7L);
+    }
+
+    /**
+     * Estimates the on-heap memory cost of a key stored in a primitive ordered
+     * index store together with the skip list holding the entries associated
+     * with the key. The entries themselves are not included.
+     *
+     * @param entryCount the number of entries associated with the key.
+     * @return the estimated key cost.
+     */
+    public static long estimatePrimitiveTreeKeyMapCost(int entryCount) {
+        return ROUGH_PRIMITIVE_TREE_KEY_COST + BASE_CONCURRENT_SKIP_LIST_MAP_COST
+                + entryCount * (long) CONCURRENT_SKIP_LIST_MAP_ENTRY_COST;
     }
 
 }
@@ -23,6 +23,7 @@ import com.hazelcast.internal.monitor.impl.PerIndexStats;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.query.impl.GlobalIndexPartitionTracker.PartitionStamp;
 import com.hazelcast.query.impl.getters.Extractors;
+import com.hazelcast.spi.properties.ClusterProperty;
 
 /**
  * Provides implementation of on-heap indexes.
@@ -50,6 +51,9 @@ public class IndexImpl extends AbstractIndex {
                                           PerIndexStats stats, String mapName, int ignored) {
         switch (config.getType()) {
             case SORTED:
+                if (isNumericOrderedStoreEnabled(node)) {
+                    return new NumericOrderedIndexStore(copyBehavior, stats);
+                }
                 return new OrderedIndexStore(copyBehavior);
             case HASH:
                 return new UnorderedIndexStore(copyBehavior);
@@ -60,6 +64,20 @@ public class IndexImpl extends AbstractIndex {
         }
     }
 
+    /**
+     * The store specialized for numeric values is used for sorted indexes on a
+     * single attribute when enabled. The attribute type, and so its
+     * converter, is not known until the first entry is indexed, the store
+     * settles its representation on the first value itself and falls back to
+     * the generic one for non-numeric converters.
+     */
+    private boolean isNumericOrderedStoreEnabled(Node node) {
+        if (getComponents().length != 1) {
+            return false;
+        }
+        return node != null && node.getProperties().getBoolean(ClusterProperty.INDEX_NUMERIC_ORDERED_STORE_ENABLED);
+    }
+
     @Override
     public final boolean hasPartitionIndexed(int partitionId) {
         return partitionTracker.isIndexed(partitionId);
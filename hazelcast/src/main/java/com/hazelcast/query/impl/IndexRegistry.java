@@ -562,6 +562,15 @@ public class IndexRegistry {
         return index;
     }
 
+    /**
+     * @return {@code true} if the given attribute has an ordered index which
+     * is able to answer range queries directly, {@code false} otherwise.
+     */
+    public boolean hasOrderedIndex(String attribute) {
+        InternalIndex index = attributeIndexRegistry.match(attribute, QueryContext.IndexMatchHint.PREFER_ORDERED);
+        return index != null && index.isOrdered();
+    }
+
     /**
      * @return a converter instance for the given attribute or {@code null} if
      * a converter is not available. The later may happen if the attribute is
@@ -133,9 +133,49 @@ public final class IndexUtils {
             normalizedConfig.getBitmapIndexOptions().setUniqueKey(uniqueKey).setUniqueKeyTransformation(uniqueKeyTransformation);
         }
 
+        normalizeIncludedAttributes(config, normalizedAttributeNames, normalizedConfig);
+
         return normalizedConfig;
     }
 
+    /**
+     * Checks that the index config has no included attributes. The client
+     * protocol doesn't carry the included attributes, so such an index can't
+     * be added from a client.
+     *
+     * @param config Index config.
+     * @throws UnsupportedOperationException If the index config has included attributes.
+     */
+    public static void checkNoIncludedAttributes(IndexConfig config) {
+        if (!config.getIncludedAttributes().isEmpty()) {
+            throw new UnsupportedOperationException("Indexes with included attributes cannot be added from a client: "
+                + config);
+        }
+    }
+
+    private static void normalizeIncludedAttributes(IndexConfig config, List<String> normalizedAttributeNames,
+                                                    IndexConfig normalizedConfig) {
+        List<String> includedAttributeNames = config.getIncludedAttributes();
+
+        if (!includedAttributeNames.isEmpty() && config.getType() == IndexType.BITMAP) {
+            throw new IllegalArgumentException("Bitmap indexes cannot include attributes: " + config);
+        }
+
+        for (String includedAttributeName : includedAttributeNames) {
+            validateAttribute(config, includedAttributeName);
+
+            String normalizedAttributeName = canonicalizeAttribute(includedAttributeName.trim());
+
+            if (normalizedAttributeNames.contains(normalizedAttributeName)
+                    || normalizedConfig.getIncludedAttributes().contains(normalizedAttributeName)) {
+                throw new IllegalArgumentException("Duplicate included attribute name [attributeName="
+                    + includedAttributeName + ", indexConfig=" + config + ']');
+            }
+
+            normalizedConfig.addIncludedAttribute(normalizedAttributeName);
+        }
+    }
+
     private static IndexConfig buildNormalizedConfig(String mapName, IndexType indexType, String indexName,
                                                      List<String> normalizedAttributeNames,
                                                      BTreeIndexConfig btreeIndexConfig) {
@@ -285,6 +325,14 @@ public final class IndexUtils {
             }
             gen.close();
 
+            if (!indexCfg.getIncludedAttributes().isEmpty()) {
+                gen.open("included-attributes");
+                for (String includedAttribute : indexCfg.getIncludedAttributes()) {
+                    gen.node("attribute", includedAttribute);
+                }
+                gen.close();
+            }
+
             if (indexCfg.getType() == IndexType.BITMAP) {
                 BitmapIndexOptions bitmapIndexOptions = indexCfg.getBitmapIndexOptions();
 
@@ -329,13 +377,9 @@ public final class IndexUtils {
 
         for (Node attributesNode : childElements(indexNode)) {
             if ("attributes".equals(cleanNodeName(attributesNode))) {
-                for (Node attributeNode : childElements(attributesNode)) {
-                    if ("attribute".equals(cleanNodeName(attributeNode))) {
-                        String attribute = getTextContent(attributeNode, domLevel3);
-
-                        res.addAttribute(attribute);
-                    }
-                }
+                getAttributesFromXml(attributesNode, domLevel3).forEach(res::addAttribute);
+            } else if ("included-attributes".equals(cleanNodeName(attributesNode))) {
+                getAttributesFromXml(attributesNode, domLevel3).forEach(res::addIncludedAttribute);
             }
         }
 
@@ -371,6 +415,18 @@ public final class IndexUtils {
         return res;
     }
 
+    private static List<String> getAttributesFromXml(Node attributesNode, boolean domLevel3) {
+        List<String> attributes = new ArrayList<>();
+
+        for (Node attributeNode : childElements(attributesNode)) {
+            if ("attribute".equals(cleanNodeName(attributeNode))) {
+                attributes.add(getTextContent(attributeNode, domLevel3));
+            }
+        }
+
+        return attributes;
+    }
+
     private static Capacity getCapacity(Node node, boolean domLevel3) {
         if (node == null) {
             return null;
@@ -421,6 +477,15 @@ public final class IndexUtils {
             res.addAttribute(attribute);
         }
 
+        Node includedAttributesNode = attrs.getNamedItem("included-attributes");
+        if (includedAttributesNode != null) {
+            for (Node attributeNode : childElements(includedAttributesNode)) {
+                String attribute = attributeNode.getNodeValue();
+
+                res.addIncludedAttribute(attribute);
+            }
+        }
+
         if (type == IndexType.BITMAP) {
             Node optionsNode = childElementWithName(indexNode, "bitmap-index-options", strict);
             if (optionsNode != null) {
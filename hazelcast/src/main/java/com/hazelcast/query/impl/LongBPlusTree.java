@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * B+tree mapping primitive {@code long} keys to values.
+ * <p>
+ * Keys are kept in primitive sorted arrays, so no boxing is involved while
+ * storing or searching them. Mutations update the affected nodes in place:
+ * a key is shifted into the spare capacity of its leaf, and only a full node
+ * is split in two. The tree is not thread-safe, the owner serializes the
+ * mutations with the reads, cursors are valid until the next mutation.
+ * <p>
+ * Nodes are split once they exceed {@link #MAX_NODE_SIZE} keys and are merged
+ * with a sibling once they drop below a quarter of it, if the merged node fits.
+ *
+ * @param <V> the type of values.
+ */
+@SuppressWarnings("unchecked")
+final class LongBPlusTree<V> {
+
+    /**
+     * The maximum number of keys (or children) a single node may hold.
+     */
+    static final int MAX_NODE_SIZE = 64;
+
+    private static final int MIN_NODE_SIZE = MAX_NODE_SIZE / 4;
+    private static final int INITIAL_NODE_CAPACITY = 4;
+
+    private Node root;
+    private int size;
+
+    /**
+     * @return the number of keys in this tree.
+     */
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the value associated with the given key, or {@code null} if
+     * there is no such key in this tree.
+     */
+    V get(long key) {
+        Node node = root;
+        if (node == null) {
+            return null;
+        }
+        while (!node.leaf) {
+            node = (Node) node.slots[node.childIndex(key)];
+        }
+        int index = node.indexOf(key);
+        return index >= 0 ? (V) node.slots[index] : null;
+    }
+
+    /**
+     * Associates the given value with the given key.
+     *
+     * @param key   the key.
+     * @param value the non-null value.
+     * @return the value previously associated with the key, or {@code null}
+     * if there was no such key.
+     */
+    V put(long key, V value) {
+        assert value != null;
+
+        if (root == null) {
+            root = new Node(true, INITIAL_NODE_CAPACITY);
+            root.insert(0, key, value);
+            size = 1;
+            return null;
+        }
+
+        PutResult result = new PutResult();
+        Node right = put(root, key, value, result);
+        if (right != null) {
+            Node newRoot = new Node(false, INITIAL_NODE_CAPACITY);
+            newRoot.insert(0, root.keys[0], root);
+            newRoot.insert(1, right.keys[0], right);
+            root = newRoot;
+        }
+        if (result.old == null) {
+            ++size;
+        }
+        return (V) result.old;
+    }
+
+    /**
+     * Removes the given key from this tree.
+     *
+     * @param key the key to remove.
+     * @return the value associated with the removed key, or {@code null} if
+     * there was no such key.
+     */
+    V remove(long key) {
+        if (root == null) {
+            return null;
+        }
+
+        Object removed = remove(root, key);
+        if (removed == null) {
+            return null;
+        }
+        --size;
+        if (root.size == 0) {
+            root = null;
+        } else {
+            while (!root.leaf && root.size == 1) {
+                root = (Node) root.slots[0];
+            }
+        }
+        return (V) removed;
+    }
+
+    /**
+     * Positions an ascending cursor at the first key matching the given
+     * predicate.
+     *
+     * @param notBefore the predicate telling whether a key is not before the
+     *                  first key of interest; must be monotone: once it
+     *                  matches a key, it must match all the larger keys.
+     * @return the cursor, invalid if no key matches.
+     */
+    Cursor ascendingFrom(LongPredicate notBefore) {
+        Cursor cursor = new Cursor(false);
+        Node node = root;
+        if (node == null) {
+            return cursor;
+        }
+
+        while (!node.leaf) {
+            // the separator keys are lower bounds of the subtrees, the first
+            // matching key is either in the last subtree whose separator
+            // doesn't match or in one of the following subtrees
+            int index = Math.max(0, node.firstMatching(notBefore) - 1);
+            cursor.push(node, index);
+            node = (Node) node.slots[index];
+        }
+
+        int index = node.firstMatching(notBefore);
+        cursor.push(node, index);
+        if (index == node.size) {
+            cursor.advance();
+        }
+        return cursor;
+    }
+
+    /**
+     * Positions a descending cursor at the last key matching the given
+     * predicate.
+     *
+     * @param notAfter the predicate telling whether a key is not after the
+     *                 last key of interest; must be monotone: once it doesn't
+     *                 match a key, it must not match all the larger keys.
+     * @return the cursor, invalid if no key matches.
+     */
+    Cursor descendingFrom(LongPredicate notAfter) {
+        Cursor cursor = new Cursor(true);
+        Node node = root;
+        if (node == null || !notAfter.test(node.keys[0])) {
+            return cursor;
+        }
+
+        LongPredicate after = notAfter.negate();
+        while (!node.leaf) {
+            // the separator keys are lower bounds of the subtrees, if the
+            // separator matches, all the keys in the preceding subtrees match
+            int index = Math.max(0, node.firstMatching(after) - 1);
+            cursor.push(node, index);
+            node = (Node) node.slots[index];
+        }
+
+        int index = node.firstMatching(after) - 1;
+        cursor.push(node, index);
+        if (index < 0) {
+            cursor.advance();
+        }
+        return cursor;
+    }
+
+    /**
+     * @return the new right sibling of the given node if it was split,
+     * {@code null} otherwise.
+     */
+    private static Node put(Node node, long key, Object value, PutResult result) {
+        if (node.leaf) {
+            int index = node.indexOf(key);
+            if (index >= 0) {
+                result.old = node.slots[index];
+                node.slots[index] = value;
+                return null;
+            }
+            return node.insert(-index - 1, key, value);
+        }
+
+        int childIndex = node.childIndex(key);
+        Node right = put((Node) node.slots[childIndex], key, value, result);
+        // only a key inserted into the first subtree may be below its separator
+        node.keys[childIndex] = Math.min(node.keys[childIndex], key);
+        return right == null ? null : node.insert(childIndex + 1, right.keys[0], right);
+    }
+
+    /**
+     * @return the removed value, or {@code null} if there was no such key.
+     */
+    private static Object remove(Node node, long key) {
+        if (node.leaf) {
+            int index = node.indexOf(key);
+            if (index < 0) {
+                return null;
+            }
+            Object removed = node.slots[index];
+            node.delete(index);
+            return removed;
+        }
+
+        int childIndex = node.childIndex(key);
+        Node child = (Node) node.slots[childIndex];
+        Object removed = remove(child, key);
+        if (removed == null) {
+            return null;
+        }
+
+        if (child.size == 0) {
+            node.delete(childIndex);
+        } else if (child.size < MIN_NODE_SIZE && node.size > 1) {
+            int leftIndex = childIndex + 1 < node.size ? childIndex : childIndex - 1;
+            Node left = (Node) node.slots[leftIndex];
+            Node right = (Node) node.slots[leftIndex + 1];
+            if (left.size + right.size <= MAX_NODE_SIZE) {
+                left.append(right);
+                node.delete(leftIndex + 1);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * A tree node. For leaves, the slots hold the values associated with
+     * the keys. For inner nodes, the slots hold the children and every key is
+     * a lower bound of the keys stored in the corresponding child subtree and
+     * is larger than all the keys stored in the preceding subtrees.
+     * <p>
+     * Only the first {@link #size} elements of the arrays are in use, the
+     * arrays grow up to {@link #MAX_NODE_SIZE} elements.
+     */
+    private static final class Node {
+
+        final boolean leaf;
+        long[] keys;
+        Object[] slots;
+        int size;
+
+        Node(boolean leaf, int capacity) {
+            this.leaf = leaf;
+            this.keys = new long[capacity];
+            this.slots = new Object[capacity];
+        }
+
+        int indexOf(long key) {
+            return Arrays.binarySearch(keys, 0, size, key);
+        }
+
+        int childIndex(long key) {
+            int index = indexOf(key);
+            return index >= 0 ? index : Math.max(0, -index - 2);
+        }
+
+        /**
+         * @return the index of the first key matching the given monotone
+         * predicate, or the size of this node if there is no such key.
+         */
+        int firstMatching(LongPredicate predicate) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (predicate.test(keys[middle])) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Inserts the given key and slot at the given index, splitting this
+         * node if it's full.
+         *
+         * @return the new right sibling of this node if it was split,
+         * {@code null} otherwise.
+         */
+        Node insert(int index, long key, Object slot) {
+            if (size < MAX_NODE_SIZE) {
+                if (size == keys.length) {
+                    int capacity = Math.min(MAX_NODE_SIZE, keys.length * 2);
+                    keys = Arrays.copyOf(keys, capacity);
+                    slots = Arrays.copyOf(slots, capacity);
+                }
+                System.arraycopy(keys, index, keys, index + 1, size - index);
+                System.arraycopy(slots, index, slots, index + 1, size - index);
+                keys[index] = key;
+                slots[index] = slot;
+                ++size;
+                return null;
+            }
+
+            int half = size / 2;
+            Node right = new Node(leaf, MAX_NODE_SIZE);
+            right.size = size - half;
+            System.arraycopy(keys, half, right.keys, 0, right.size);
+            System.arraycopy(slots, half, right.slots, 0, right.size);
+            Arrays.fill(slots, half, size, null);
+            size = half;
+            if (index <= half) {
+                insert(index, key, slot);
+            } else {
+                right.insert(index - half, key, slot);
+            }
+            return right;
+        }
+
+        void delete(int index) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            slots[--size] = null;
+        }
+
+        /**
+         * Moves all the keys and slots of the given right sibling to the end
+         * of this node, the merged node must fit.
+         */
+        void append(Node right) {
+            int newSize = size + right.size;
+            if (newSize > keys.length) {
+                keys = Arrays.copyOf(keys, MAX_NODE_SIZE);
+                slots = Arrays.copyOf(slots, MAX_NODE_SIZE);
+            }
+            System.arraycopy(right.keys, 0, keys, size, right.size);
+            System.arraycopy(right.slots, 0, slots, size, right.size);
+            size = newSize;
+        }
+
+    }
+
+    private static final class PutResult {
+
+        Object old;
+
+    }
+
+    /**
+     * Iterates over the keys of the tree in either ascending or descending
+     * order. The cursor must not be used once the tree is modified.
+     */
+    final class Cursor {
+
+        private final boolean descending;
+        private final Node[] nodes = new Node[depth()];
+        private final int[] indexes = new int[nodes.length];
+        private int top = -1;
+
+        private Cursor(boolean descending) {
+            this.descending = descending;
+        }
+
+        /**
+         * @return {@code true} if this cursor points to a key, {@code false}
+         * if it's exhausted.
+         */
+        boolean isValid() {
+            return top >= 0;
+        }
+
+        long key() {
+            assert isValid();
+            return nodes[top].keys[indexes[top]];
+        }
+
+        V value() {
+            assert isValid();
+            return (V) nodes[top].slots[indexes[top]];
+        }
+
+        /**
+         * Moves this cursor to the next key in its iteration order.
+         */
+        void advance() {
+            int step = descending ? -1 : 1;
+
+            // find the lowest level which has a next slot
+            while (top >= 0) {
+                int next = indexes[top] + step;
+                if (next >= 0 && next < nodes[top].size) {
+                    indexes[top] = next;
+                    break;
+                }
+                --top;
+            }
+            if (top < 0) {
+                return;
+            }
+
+            // descend to the closest leaf slot
+            while (!nodes[top].leaf) {
+                Node child = (Node) nodes[top].slots[indexes[top]];
+                push(child, descending ? child.size - 1 : 0);
+            }
+        }
+
+        private void push(Node node, int index) {
+            ++top;
+            nodes[top] = node;
+            indexes[top] = index;
+        }
+
+    }
+
+    private int depth() {
+        int depth = 0;
+        Node node = root;
+        while (node != null) {
+            ++depth;
+            node = node.leaf ? null : (Node) node.slots[0];
+        }
+        return depth;
+    }
+
+}
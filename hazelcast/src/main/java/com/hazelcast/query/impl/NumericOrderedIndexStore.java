@@ -0,0 +1,1130 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.core.TypeConverter;
+import com.hazelcast.internal.monitor.impl.PerIndexStats;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializableByConvention;
+import com.hazelcast.query.Predicate;
+
+import javax.annotation.Nonnull;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongPredicate;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.CompositeValue.POSITIVE_INFINITY;
+import static com.hazelcast.query.impl.OrderedIndexStore.DATA_COMPARATOR;
+import static com.hazelcast.query.impl.OrderedIndexStore.SPECIAL_AWARE_COMPARATOR;
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+
+/**
+ * Ordered index store specialized for numeric and date attributes.
+ * <p>
+ * Instead of boxing every attribute value and keeping a nested skip list per
+ * distinct value like {@link OrderedIndexStore} does, the store encodes the
+ * values into order-preserving primitive {@code long} keys of a {@link
+ * LongBPlusTree}. The entries associated with a key are referenced directly
+ * if there is just one of them, which is the common case for timestamps,
+ * prices and the like, kept in an array sorted by the entry keys if there are
+ * a few of them, or in a skip list sorted by the entry keys otherwise.
+ * <p>
+ * The primitive representation is chosen by the class of the first non-null
+ * value indexed, the same way {@link AbstractIndex} derives its {@link
+ * TypeConverter} from it. If the first value is not numeric or a value of
+ * another class is inserted later on, the store migrates its contents to an
+ * {@link OrderedIndexStore} and delegates to it until cleared.
+ * <p>
+ * Updates are serialized by the global write lock and modify the tree nodes
+ * in place, reads take the global read lock. The SQL iterators take the read
+ * lock for every batch of keys they fetch and resume after the last fetched
+ * key, so they are weakly consistent. The small buckets are copied on write,
+ * so a fetched bucket is never modified under a reader. The skip list buckets
+ * are updated in place, so that indexing many entries with the same value,
+ * for instance with a low-cardinality or a mostly-null attribute, doesn't
+ * copy the bucket on every update.
+ */
+@SuppressWarnings("rawtypes")
+public class NumericOrderedIndexStore extends BaseSingleValueIndexStore {
+
+    private static final QueryableEntry[] EMPTY_ENTRIES = new QueryableEntry[0];
+    /**
+     * The maximum number of entries of a bucket kept in an array, larger
+     * buckets are kept in an {@link EntryMap}.
+     */
+    private static final int MAX_ARRAY_BUCKET_SIZE = 16;
+    /**
+     * The number of entries at which an {@link EntryMap} bucket shrinks back
+     * to an array. It's lower than the maximum array size, so that a bucket
+     * doesn't flip between the two forms on every update.
+     */
+    private static final int MIN_MAP_BUCKET_SIZE = MAX_ARRAY_BUCKET_SIZE / 2;
+    /**
+     * The number of keys an SQL iterator fetches under the read lock at once.
+     */
+    private static final int ITERATOR_BATCH_SIZE = LongBPlusTree.MAX_NODE_SIZE;
+    private static final LongPredicate ANY_KEY = key -> true;
+
+    private final IndexCopyBehavior copyOn;
+    private final PerIndexStats stats;
+
+    private volatile State state = State.empty();
+
+    /**
+     * The memory cost reported to the stats, guarded by the write lock.
+     */
+    private long memoryCost;
+
+    public NumericOrderedIndexStore(IndexCopyBehavior copyOn, PerIndexStats stats) {
+        super(copyOn, true);
+        assert copyOn != null;
+        this.copyOn = copyOn;
+        this.stats = stats;
+    }
+
+    /**
+     * @return {@code true} if the values are stored in their primitive form,
+     * {@code false} if the store fell back to the generic representation.
+     */
+    boolean isPrimitive() {
+        return state.fallback == null;
+    }
+
+    @Override
+    Object insertInternal(Comparable value, QueryableEntry record) {
+        State current = state;
+        if (current.fallback == null && value != NULL && !current.accepts(value)) {
+            current = migrateToFallback(current);
+        }
+
+        OrderedIndexStore fallback = current.fallback;
+        if (fallback != null) {
+            if (isMultiResultDeduplicationRequired()) {
+                fallback.requireMultiResultDeduplication();
+            }
+            fallback.takeWriteLock();
+            try {
+                return fallback.insertInternal(value, record);
+            } finally {
+                fallback.releaseWriteLock();
+            }
+        }
+        return insertPrimitive(current, value, record);
+    }
+
+    private QueryableEntry insertPrimitive(State current, Comparable value, QueryableEntry record) {
+        Data recordKey = record.getKeyData();
+        if (value == NULL) {
+            Object bucket = current.nullBucket;
+            QueryableEntry old = getEntry(bucket, recordKey);
+            Object newBucket = putEntry(bucket, record, old == null);
+            if (newBucket != bucket) {
+                state = new State(current.type, current.tree, newBucket, null);
+            }
+            return old;
+        }
+
+        NumericType type = current.type == null ? NumericType.of(value.getClass()) : current.type;
+        long key = type.encode(value);
+        Object bucket = current.tree.get(key);
+        QueryableEntry old = getEntry(bucket, recordKey);
+        Object newBucket = putEntry(bucket, record, old == null);
+        if (newBucket != bucket) {
+            current.tree.put(key, newBucket);
+        }
+        if (current.type == null) {
+            state = new State(type, current.tree, current.nullBucket, null);
+        }
+        return old;
+    }
+
+    @Override
+    Object removeInternal(Comparable value, Data recordKey) {
+        State current = state;
+
+        OrderedIndexStore fallback = current.fallback;
+        if (fallback != null) {
+            fallback.takeWriteLock();
+            try {
+                return fallback.removeInternal(value, recordKey);
+            } finally {
+                fallback.releaseWriteLock();
+            }
+        }
+
+        if (value == NULL) {
+            Object bucket = current.nullBucket;
+            QueryableEntry removed = getEntry(bucket, recordKey);
+            if (removed != null) {
+                Object newBucket = removeEntry(bucket, recordKey);
+                if (newBucket != bucket) {
+                    state = new State(current.type, current.tree, newBucket, null);
+                }
+            }
+            return removed;
+        }
+
+        if (current.type == null || value.getClass() != current.type.clazz) {
+            // values of other classes are never stored in the tree
+            return null;
+        }
+
+        long key = current.type.encode(value);
+        Object bucket = current.tree.get(key);
+        QueryableEntry removed = getEntry(bucket, recordKey);
+        if (removed != null) {
+            Object newBucket = removeEntry(bucket, recordKey);
+            if (newBucket == null) {
+                current.tree.remove(key);
+            } else if (newBucket != bucket) {
+                current.tree.put(key, newBucket);
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public Comparable canonicalizeQueryArgumentScalar(Comparable value) {
+        // We still need to canonicalize query arguments for ordered indexes to
+        // support InPredicate queries.
+        return Comparables.canonicalizeForHashLookup(value);
+    }
+
+    @Override
+    public Comparable canonicalizeScalarForStorage(Comparable value) {
+        // The class of the original value defines its primitive encoding.
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        takeWriteLock();
+        try {
+            state = State.empty();
+            releaseMemoryCost();
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public boolean isEvaluateOnly() {
+        return false;
+    }
+
+    @Override
+    public boolean canEvaluate(Class<? extends Predicate> predicateClass) {
+        return false;
+    }
+
+    @Override
+    public Set<QueryableEntry> evaluate(Predicate predicate, TypeConverter converter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(boolean descending) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(descending));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(@Nonnull Comparable value) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(value, false));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(Comparison comparison, Comparable searchedValue, boolean descending) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(comparison, searchedValue, descending));
+    }
+
+    @Override
+    public Iterator<QueryableEntry> getSqlRecordIterator(
+            Comparable from,
+            boolean fromInclusive,
+            Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        return new OrderedIndexStore.IteratorFromBatch(getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive,
+                descending));
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(@Nonnull Comparable value, boolean descending) {
+        return getSqlRecordIteratorBatch(value, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable value,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        Object bucket;
+        takeReadLock();
+        try {
+            State current = state;
+            if (current.fallback != null) {
+                return current.fallback.getSqlRecordIteratorBatch(value, descending, lastEntryKeyData);
+            }
+            bucket = current.lookup(value);
+        } finally {
+            releaseReadLock();
+        }
+        if (bucket == null) {
+            return emptyIterator();
+        }
+        return singleton(new IndexKeyEntries(value, entryIterator(bucket, descending, lastEntryKeyData))).iterator();
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(boolean descending) {
+        State current = state;
+        if (current.fallback != null) {
+            return current.fallback.getSqlRecordIteratorBatch(descending);
+        }
+        return new KeyEntriesIterator(current, true, ANY_KEY, ANY_KEY, descending, null, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(comparison, searchedValue, descending, null);
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparison comparison,
+            @Nonnull Comparable searchedValue,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        switch (comparison) {
+            case LESS:
+                return getSqlRecordIteratorBatch(NULL, false, searchedValue, false, descending, lastEntryKeyData);
+            case LESS_OR_EQUAL:
+                return getSqlRecordIteratorBatch(NULL, false, searchedValue, true, descending, lastEntryKeyData);
+            case GREATER:
+                return getSqlRecordIteratorBatch(searchedValue, false, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            case GREATER_OR_EQUAL:
+                return getSqlRecordIteratorBatch(searchedValue, true, POSITIVE_INFINITY, true, descending, lastEntryKeyData);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending
+    ) {
+        return getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending, null);
+    }
+
+    @Override
+    @SuppressWarnings({"checkstyle:NPathComplexity", "checkstyle:CyclomaticComplexity"})
+    public Iterator<IndexKeyEntries> getSqlRecordIteratorBatch(
+            @Nonnull Comparable from,
+            boolean fromInclusive,
+            @Nonnull Comparable to,
+            boolean toInclusive,
+            boolean descending,
+            Data lastEntryKeyData
+    ) {
+        State current = state;
+        if (current.fallback != null) {
+            return current.fallback.getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending,
+                    lastEntryKeyData);
+        }
+
+        boolean useCursor = lastEntryKeyData != null;
+        if (useCursor && !descending && !fromInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `from` must be inclusive");
+        }
+        if (useCursor && descending && !toInclusive) {
+            throw new IllegalArgumentException("If `lastEntryKeyData` is not null then `to` must be inclusive");
+        }
+
+        int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+        if (order == 0) {
+            if (!fromInclusive || !toInclusive) {
+                return emptyIterator();
+            }
+            return getSqlRecordIteratorBatch(from, descending, lastEntryKeyData);
+        } else if (order > 0) {
+            return emptyIterator();
+        }
+
+        return new KeyEntriesIterator(current, includesNull(from, fromInclusive),
+                current.notBefore(from, fromInclusive), current.notAfter(to, toInclusive), descending,
+                descending ? to : from, lastEntryKeyData);
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable value) {
+        takeReadLock();
+        try {
+            State current = state;
+            if (current.fallback != null) {
+                return current.fallback.getRecords(value);
+            }
+            return toSingleResultSet(toMap(current.lookup(value)));
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Set<Comparable> values) {
+        takeReadLock();
+        try {
+            State current = state;
+            if (current.fallback != null) {
+                return current.fallback.getRecords(values);
+            }
+
+            MultiResultSet results = createMultiResultSet();
+            for (Comparable value : values) {
+                Object bucket = current.lookup(value);
+                if (bucket != null) {
+                    copyToMultiResultSet(results, toMap(bucket));
+                }
+            }
+            return results;
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparison comparison, Comparable searchedValue) {
+        switch (comparison) {
+            case LESS:
+                return getRecords(NULL, false, searchedValue, false);
+            case LESS_OR_EQUAL:
+                return getRecords(NULL, false, searchedValue, true);
+            case GREATER:
+                return getRecords(searchedValue, false, POSITIVE_INFINITY, true);
+            case GREATER_OR_EQUAL:
+                return getRecords(searchedValue, true, POSITIVE_INFINITY, true);
+            default:
+                throw new IllegalArgumentException("Unrecognized comparison: " + comparison);
+        }
+    }
+
+    @Override
+    public Set<QueryableEntry> getRecords(Comparable from, boolean fromInclusive, Comparable to, boolean toInclusive) {
+        int order = SPECIAL_AWARE_COMPARATOR.compare(from, to);
+        if (order == 0) {
+            if (!fromInclusive || !toInclusive) {
+                return emptySet();
+            }
+            return getRecords(from);
+        } else if (order > 0) {
+            return emptySet();
+        }
+
+        takeReadLock();
+        try {
+            State current = state;
+            if (current.fallback != null) {
+                return current.fallback.getRecords(from, fromInclusive, to, toInclusive);
+            }
+            return getRecords(current, from, fromInclusive, to, toInclusive);
+        } finally {
+            releaseReadLock();
+        }
+    }
+
+    private Set<QueryableEntry> getRecords(State current, Comparable from, boolean fromInclusive, Comparable to,
+                                           boolean toInclusive) {
+        MultiResultSet results = createMultiResultSet();
+        if (current.nullBucket != null && includesNull(from, fromInclusive)) {
+            copyToMultiResultSet(results, toMap(current.nullBucket));
+        }
+
+        LongBPlusTree<Object>.Cursor end = current.tree.descendingFrom(current.notAfter(to, toInclusive));
+        if (end.isValid()) {
+            long endKey = end.key();
+            LongBPlusTree<Object>.Cursor cursor = current.tree.ascendingFrom(current.notBefore(from, fromInclusive));
+            for (; cursor.isValid() && cursor.key() <= endKey; cursor.advance()) {
+                copyToMultiResultSet(results, toMap(cursor.value()));
+            }
+        }
+        return results;
+    }
+
+    private State migrateToFallback(State current) {
+        OrderedIndexStore fallback = new OrderedIndexStore(copyOn);
+        if (isMultiResultDeduplicationRequired()) {
+            fallback.requireMultiResultDeduplication();
+        }
+
+        for (QueryableEntry entry : entries(current.nullBucket)) {
+            fallback.insertInternal(NULL, entry);
+        }
+        LongBPlusTree<Object>.Cursor cursor = current.tree.ascendingFrom(ANY_KEY);
+        for (; cursor.isValid(); cursor.advance()) {
+            Comparable value = current.type.decode(cursor.key());
+            for (QueryableEntry entry : entries(cursor.value())) {
+                fallback.insertInternal(value, entry);
+            }
+        }
+
+        // from now on the memory cost is estimated by the stats
+        releaseMemoryCost();
+        State migrated = new State(null, new LongBPlusTree<>(), null, fallback);
+        state = migrated;
+        return migrated;
+    }
+
+    private void onBucketChanged(Object bucket, Object newBucket) {
+        onBucketChanged(bucketCost(bucket), newBucket);
+    }
+
+    private void onBucketChanged(long oldCost, Object newBucket) {
+        long delta = bucketCost(newBucket) - oldCost;
+        if (delta != 0) {
+            memoryCost += delta;
+            stats.updateMemoryCost(delta);
+        }
+    }
+
+    private void releaseMemoryCost() {
+        if (memoryCost != 0) {
+            stats.updateMemoryCost(-memoryCost);
+            memoryCost = 0;
+        }
+    }
+
+    private static boolean includesNull(Comparable from, boolean fromInclusive) {
+        int order = SPECIAL_AWARE_COMPARATOR.compare(NULL, from);
+        return order > 0 || order == 0 && fromInclusive;
+    }
+
+    private static QueryableEntry[] entries(Object bucket) {
+        if (bucket == null) {
+            return EMPTY_ENTRIES;
+        } else if (bucket instanceof QueryableEntry entry) {
+            return new QueryableEntry[]{entry};
+        } else if (bucket instanceof EntryMap map) {
+            return map.values().toArray(EMPTY_ENTRIES);
+        } else {
+            return (QueryableEntry[]) bucket;
+        }
+    }
+
+    private static long bucketCost(Object bucket) {
+        if (bucket == null) {
+            return 0;
+        } else if (bucket instanceof QueryableEntry) {
+            return IndexHeapMemoryCostUtil.estimatePrimitiveTreeKeyCost(1);
+        } else if (bucket instanceof EntryMap map) {
+            return IndexHeapMemoryCostUtil.estimatePrimitiveTreeKeyMapCost(map.size);
+        } else {
+            return IndexHeapMemoryCostUtil.estimatePrimitiveTreeKeyCost(((QueryableEntry[]) bucket).length);
+        }
+    }
+
+    private static int indexOf(QueryableEntry[] entries, Data recordKey) {
+        int low = 0;
+        int high = entries.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int order = DATA_COMPARATOR.compare(entries[middle].getKeyData(), recordKey);
+            if (order < 0) {
+                low = middle + 1;
+            } else if (order > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static QueryableEntry getEntry(Object bucket, Data recordKey) {
+        if (bucket instanceof EntryMap map) {
+            return map.get(recordKey);
+        }
+        QueryableEntry[] entries = entries(bucket);
+        int index = indexOf(entries, recordKey);
+        return index >= 0 ? entries[index] : null;
+    }
+
+    /**
+     * Adds or replaces the given entry. A single entry is its own bucket,
+     * up to {@link #MAX_ARRAY_BUCKET_SIZE} entries are kept in a sorted array
+     * which is copied on write, more entries are kept in an {@link EntryMap}
+     * which is updated in place.
+     *
+     * @param added {@code true} if the bucket doesn't contain an entry with
+     *              the same key yet
+     * @return the new bucket, or the same one if it was updated in place
+     */
+    private Object putEntry(Object bucket, QueryableEntry entry, boolean added) {
+        if (bucket == null) {
+            onBucketChanged(0, entry);
+            return entry;
+        }
+
+        if (bucket instanceof EntryMap map) {
+            long oldCost = bucketCost(map);
+            map.put(entry.getKeyData(), entry);
+            if (added) {
+                map.size++;
+                onBucketChanged(oldCost, map);
+            }
+            return map;
+        }
+
+        QueryableEntry[] entries = entries(bucket);
+        int index = indexOf(entries, entry.getKeyData());
+        if (index >= 0) {
+            if (entries.length == 1) {
+                return entry;
+            }
+            QueryableEntry[] newEntries = entries.clone();
+            newEntries[index] = entry;
+            return newEntries;
+        }
+
+        Object newBucket;
+        if (entries.length == MAX_ARRAY_BUCKET_SIZE) {
+            EntryMap map = new EntryMap(entries);
+            map.put(entry.getKeyData(), entry);
+            map.size++;
+            newBucket = map;
+        } else {
+            index = -index - 1;
+            QueryableEntry[] newEntries = new QueryableEntry[entries.length + 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            newEntries[index] = entry;
+            System.arraycopy(entries, index, newEntries, index + 1, entries.length - index);
+            newBucket = newEntries;
+        }
+        onBucketChanged(bucket, newBucket);
+        return newBucket;
+    }
+
+    /**
+     * Removes the entry with the given key, the bucket must contain it.
+     *
+     * @return the new bucket, the same one if it was updated in place or
+     * {@code null} if the bucket became empty
+     */
+    private Object removeEntry(Object bucket, Data recordKey) {
+        if (bucket instanceof EntryMap map) {
+            long oldCost = bucketCost(map);
+            if (map.size == MIN_MAP_BUCKET_SIZE + 1) {
+                // shrink back to a sorted array, the map is left intact for the concurrent readers
+                QueryableEntry[] newEntries = new QueryableEntry[MIN_MAP_BUCKET_SIZE];
+                int i = 0;
+                for (QueryableEntry entry : map.values()) {
+                    if (DATA_COMPARATOR.compare(entry.getKeyData(), recordKey) != 0) {
+                        newEntries[i++] = entry;
+                    }
+                }
+                onBucketChanged(oldCost, newEntries);
+                return newEntries;
+            }
+            map.remove(recordKey);
+            map.size--;
+            onBucketChanged(oldCost, map);
+            return map;
+        }
+
+        QueryableEntry[] entries = entries(bucket);
+        int index = indexOf(entries, recordKey);
+        if (index < 0) {
+            return bucket;
+        }
+
+        Object newBucket;
+        if (entries.length == 1) {
+            newBucket = null;
+        } else if (entries.length == 2) {
+            newBucket = entries[1 - index];
+        } else {
+            QueryableEntry[] newEntries = new QueryableEntry[entries.length - 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, entries.length - index - 1);
+            newBucket = newEntries;
+        }
+        onBucketChanged(bucket, newBucket);
+        return newBucket;
+    }
+
+    private static Map<Data, QueryableEntry> toMap(Object bucket) {
+        if (bucket instanceof EntryMap map) {
+            return map;
+        }
+        return bucket == null ? null : new BucketMap(entries(bucket));
+    }
+
+    private static Iterator<QueryableEntry> entryIterator(Object bucket, boolean descending, Data lastEntryKeyData) {
+        if (bucket instanceof EntryMap map) {
+            NavigableMap<Data, QueryableEntry> entries = map;
+            if (lastEntryKeyData != null) {
+                entries = descending ? entries.headMap(lastEntryKeyData, false) : entries.tailMap(lastEntryKeyData, false);
+            }
+            return (descending ? entries.descendingMap() : entries).values().iterator();
+        }
+        QueryableEntry[] entries = entries(bucket);
+        int index = lastEntryKeyData == null ? -1 : indexOf(entries, lastEntryKeyData);
+        if (descending) {
+            int start;
+            if (lastEntryKeyData == null) {
+                start = entries.length - 1;
+            } else {
+                start = index >= 0 ? index - 1 : -index - 2;
+            }
+            return new BucketIterator(entries, start, -1);
+        } else {
+            int start;
+            if (lastEntryKeyData == null) {
+                start = 0;
+            } else {
+                start = index >= 0 ? index + 1 : -index - 1;
+            }
+            return new BucketIterator(entries, start, 1);
+        }
+    }
+
+    /**
+     * The primitive encodings of the supported value classes. The encodings
+     * preserve the order established by {@link Comparables#compare}.
+     */
+    private enum NumericType {
+        BYTE(Byte.class) {
+            @Override
+            Comparable decode(long key) {
+                return (byte) key;
+            }
+        },
+        SHORT(Short.class) {
+            @Override
+            Comparable decode(long key) {
+                return (short) key;
+            }
+        },
+        INTEGER(Integer.class) {
+            @Override
+            Comparable decode(long key) {
+                return (int) key;
+            }
+        },
+        LONG(Long.class) {
+            @Override
+            Comparable decode(long key) {
+                return key;
+            }
+        },
+        FLOAT(Float.class) {
+            @Override
+            Comparable decode(long key) {
+                return (float) fromSortableBits(key);
+            }
+        },
+        DOUBLE(Double.class) {
+            @Override
+            Comparable decode(long key) {
+                return fromSortableBits(key);
+            }
+        },
+        DATE(Date.class) {
+            @Override
+            long encode(Comparable value) {
+                return ((Date) value).getTime();
+            }
+
+            @Override
+            Comparable decode(long key) {
+                return new Date(key);
+            }
+
+            @Override
+            boolean canEncode(Class<?> valueClass) {
+                return valueClass == Date.class;
+            }
+        };
+
+        private final Class<?> clazz;
+
+        NumericType(Class<?> clazz) {
+            this.clazz = clazz;
+        }
+
+        static NumericType of(Class<?> valueClass) {
+            for (NumericType type : values()) {
+                if (type.clazz == valueClass) {
+                    return type;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Encodes the given value, the class of the value must be accepted by
+         * {@link #canEncode}.
+         */
+        long encode(Comparable value) {
+            if (isFloatingPoint()) {
+                return toSortableBits(((Number) value).doubleValue());
+            } else {
+                return ((Number) value).longValue();
+            }
+        }
+
+        abstract Comparable decode(long key);
+
+        /**
+         * @return {@code true} if values of the given class can be encoded
+         * and compared with the stored keys directly, for instance to look up
+         * an {@code int} attribute by a {@code long} query argument.
+         */
+        boolean canEncode(Class<?> valueClass) {
+            if (isFloatingPoint()) {
+                return valueClass == Double.class || valueClass == Float.class;
+            } else {
+                return valueClass == Long.class || valueClass == Integer.class || valueClass == Short.class
+                        || valueClass == Byte.class;
+            }
+        }
+
+        private boolean isFloatingPoint() {
+            return this == FLOAT || this == DOUBLE;
+        }
+
+        private static long toSortableBits(double value) {
+            long bits = Double.doubleToLongBits(value);
+            // flip all the bits except the sign one for negative values, so
+            // the bits are ordered as signed longs in the Double.compare order
+            return bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE);
+        }
+
+        private static double fromSortableBits(long key) {
+            return Double.longBitsToDouble(key ^ ((key >> (Long.SIZE - 1)) & Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * The store contents. The tree is updated in place, a change of the
+     * other fields publishes a new state sharing the tree.
+     */
+    private static final class State {
+
+        /**
+         * The type of the values stored in the tree, {@code null} until the
+         * first non-null value is inserted.
+         */
+        final NumericType type;
+        final LongBPlusTree<Object> tree;
+        final Object nullBucket;
+        final OrderedIndexStore fallback;
+
+        State(NumericType type, LongBPlusTree<Object> tree, Object nullBucket, OrderedIndexStore fallback) {
+            this.type = type;
+            this.tree = tree;
+            this.nullBucket = nullBucket;
+            this.fallback = fallback;
+        }
+
+        static State empty() {
+            return new State(null, new LongBPlusTree<>(), null, null);
+        }
+
+        boolean accepts(Comparable value) {
+            return type == null ? NumericType.of(value.getClass()) != null : value.getClass() == type.clazz;
+        }
+
+        Object lookup(Comparable value) {
+            if (value == NULL) {
+                return nullBucket;
+            }
+            if (type == null) {
+                return null;
+            }
+            if (type.canEncode(value.getClass())) {
+                return tree.get(type.encode(value));
+            }
+
+            LongBPlusTree<Object>.Cursor cursor = tree.ascendingFrom(notBefore(value, true));
+            if (cursor.isValid() && SPECIAL_AWARE_COMPARATOR.compare(type.decode(cursor.key()), value) == 0) {
+                return cursor.value();
+            }
+            return null;
+        }
+
+        LongPredicate notBefore(Comparable from, boolean inclusive) {
+            if (type == null) {
+                return ANY_KEY;
+            }
+            if (type.canEncode(from.getClass())) {
+                long bound = type.encode(from);
+                return inclusive ? key -> key >= bound : key -> key > bound;
+            }
+            // special values and values of other classes are compared with
+            // the decoded keys, the search is logarithmic anyway
+            return inclusive
+                    ? key -> SPECIAL_AWARE_COMPARATOR.compare(type.decode(key), from) >= 0
+                    : key -> SPECIAL_AWARE_COMPARATOR.compare(type.decode(key), from) > 0;
+        }
+
+        LongPredicate notAfter(Comparable to, boolean inclusive) {
+            if (type == null) {
+                return ANY_KEY;
+            }
+            if (type.canEncode(to.getClass())) {
+                long bound = type.encode(to);
+                return inclusive ? key -> key <= bound : key -> key < bound;
+            }
+            return inclusive
+                    ? key -> SPECIAL_AWARE_COMPARATOR.compare(type.decode(key), to) <= 0
+                    : key -> SPECIAL_AWARE_COMPARATOR.compare(type.decode(key), to) < 0;
+        }
+
+    }
+
+    /**
+     * Iterates over the keys of a range of the tree, null values go first in
+     * the ascending order. The keys are fetched in batches under the read
+     * lock, every batch starts after the last key of the previous one.
+     */
+    private final class KeyEntriesIterator implements Iterator<IndexKeyEntries> {
+
+        private final NumericType type;
+        private final LongBPlusTree<Object> tree;
+        private final boolean descending;
+        private final Comparable cursorKey;
+        private final Data lastEntryKeyData;
+        private final LongPredicate notBefore;
+        private final LongPredicate notAfter;
+        private final long[] keys = new long[ITERATOR_BATCH_SIZE];
+        private final Object[] buckets = new Object[ITERATOR_BATCH_SIZE];
+        private int batchSize;
+        private int index;
+        private boolean exhausted;
+        private Object nullBucket;
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        KeyEntriesIterator(State state, boolean includeNull, LongPredicate notBefore, LongPredicate notAfter,
+                           boolean descending, Comparable cursorKey, Data lastEntryKeyData) {
+            this.type = state.type;
+            this.tree = state.tree;
+            this.descending = descending;
+            this.cursorKey = cursorKey;
+            this.lastEntryKeyData = lastEntryKeyData;
+            this.notBefore = notBefore;
+            this.notAfter = notAfter;
+            this.nullBucket = includeNull ? state.nullBucket : null;
+            // the tree of a state without a type was empty, it may contain
+            // the keys of another type once it's filled
+            this.exhausted = state.type == null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nullBucket != null || hasNextKey();
+        }
+
+        @Override
+        public IndexKeyEntries next() {
+            if (nullBucket != null && (!descending || !hasNextKey())) {
+                Object bucket = nullBucket;
+                nullBucket = null;
+                return entries(NULL, bucket);
+            }
+            if (!hasNextKey()) {
+                throw new NoSuchElementException();
+            }
+
+            IndexKeyEntries entries = entries(type.decode(keys[index]), buckets[index]);
+            buckets[index++] = null;
+            return entries;
+        }
+
+        private boolean hasNextKey() {
+            if (index == batchSize && !exhausted) {
+                fetch();
+            }
+            return index < batchSize;
+        }
+
+        private void fetch() {
+            LongPredicate start;
+            if (batchSize == 0) {
+                start = descending ? notAfter : notBefore;
+            } else {
+                long last = keys[batchSize - 1];
+                start = descending ? key -> key < last : key -> key > last;
+            }
+            LongPredicate end = descending ? notBefore : notAfter;
+
+            int count = 0;
+            takeReadLock();
+            try {
+                LongBPlusTree<Object>.Cursor cursor = descending ? tree.descendingFrom(start) : tree.ascendingFrom(start);
+                for (; count < ITERATOR_BATCH_SIZE && cursor.isValid() && end.test(cursor.key()); cursor.advance()) {
+                    keys[count] = cursor.key();
+                    buckets[count] = cursor.value();
+                    ++count;
+                }
+            } finally {
+                releaseReadLock();
+            }
+            batchSize = count;
+            index = 0;
+            exhausted = count < ITERATOR_BATCH_SIZE;
+        }
+
+        private IndexKeyEntries entries(Comparable key, Object bucket) {
+            Data after = null;
+            if (lastEntryKeyData != null && SPECIAL_AWARE_COMPARATOR.compare(cursorKey, key) == 0) {
+                after = lastEntryKeyData;
+            }
+            return new IndexKeyEntries(key, entryIterator(bucket, descending, after));
+        }
+
+    }
+
+    /**
+     * A bucket of more than {@link #MAX_ARRAY_BUCKET_SIZE} entries. It's
+     * updated in place under the write lock, readers see it the same way as
+     * the per-value maps of {@link OrderedIndexStore}.
+     */
+    @SerializableByConvention
+    private static final class EntryMap extends ConcurrentSkipListMap<Data, QueryableEntry> {
+
+        /**
+         * The number of entries, maintained by the writers, since the size of
+         * a skip list is computed by a traversal.
+         */
+        int size;
+
+        EntryMap(QueryableEntry[] entries) {
+            super(DATA_COMPARATOR);
+            for (QueryableEntry entry : entries) {
+                put(entry.getKeyData(), entry);
+            }
+            size = entries.length;
+        }
+    }
+
+    private static final class BucketIterator implements Iterator<QueryableEntry> {
+
+        private final QueryableEntry[] entries;
+        private final int step;
+        private int index;
+
+        BucketIterator(QueryableEntry[] entries, int start, int step) {
+            this.entries = entries;
+            this.index = start;
+            this.step = step;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index >= 0 && index < entries.length;
+        }
+
+        @Override
+        public QueryableEntry next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            QueryableEntry entry = entries[index];
+            index += step;
+            return entry;
+        }
+
+    }
+
+    /**
+     * Read-only map view of a bucket, as expected by the result sets.
+     */
+    private static final class BucketMap extends AbstractMap<Data, QueryableEntry> {
+
+        private final QueryableEntry[] entries;
+
+        BucketMap(QueryableEntry[] entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public QueryableEntry get(Object key) {
+            if (!(key instanceof Data recordKey)) {
+                return null;
+            }
+            int index = indexOf(entries, recordKey);
+            return index >= 0 ? entries[index] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return entries.length;
+        }
+
+        @Override
+        public Collection<QueryableEntry> values() {
+            return Arrays.asList(entries);
+        }
+
+        @Override
+        public Set<Entry<Data, QueryableEntry>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<Data, QueryableEntry>> iterator() {
+                    return Arrays.stream(entries)
+                            .map(entry -> (Entry<Data, QueryableEntry>) new SimpleImmutableEntry<Data, QueryableEntry>(
+                                    entry.getKeyData(), entry))
+                            .iterator();
+                }
+
+                @Override
+                public int size() {
+                    return entries.length;
+                }
+            };
+        }
+
+    }
+
+}
@@ -28,6 +28,7 @@ import com.hazelcast.query.impl.getters.Extractors;
 import com.hazelcast.query.impl.getters.MultiResult;
 import com.hazelcast.query.impl.getters.ReflectionHelper;
 
+import java.util.Arrays;
 import java.util.Map;
 
 import static com.hazelcast.query.QueryConstants.KEY_ATTRIBUTE_NAME;
@@ -49,6 +50,14 @@ public abstract class QueryableEntry<K, V> implements Extractable, Map.Entry<K,
     protected Record record;
     private transient JsonMetadata metadata;
 
+    /**
+     * Attribute names and values cached by covering indexes, laid out as
+     * {@code [name0, value0, name1, value1, ...]}. The array is replaced on
+     * every change, so that readers of already indexed entries never observe
+     * it partially filled.
+     */
+    private volatile Object[] coveredAttributes;
+
     public Record getRecord() {
         return record;
     }
@@ -59,9 +68,76 @@ public abstract class QueryableEntry<K, V> implements Extractable, Map.Entry<K,
 
     @Override
     public Object getAttributeValue(String attributeName) throws QueryException {
+        Object[] covered = coveredAttributes;
+        if (covered != null) {
+            for (int i = 0; i < covered.length; i += 2) {
+                if (attributeName.equals(covered[i])) {
+                    return covered[i + 1];
+                }
+            }
+        }
         return extractAttributeValue(attributeName);
     }
 
+    /**
+     * Checks whether the value of the given attribute is cached in this entry
+     * by a covering index, in which case {@link #getAttributeValue} returns it
+     * without touching the key or the value of this entry.
+     *
+     * @param attributeName the attribute name.
+     * @return {@code true} if the attribute is covered, {@code false} otherwise.
+     * @see com.hazelcast.config.IndexConfig#getIncludedAttributes()
+     */
+    public boolean isAttributeCovered(String attributeName) {
+        Object[] covered = coveredAttributes;
+        if (covered != null) {
+            for (int i = 0; i < covered.length; i += 2) {
+                if (attributeName.equals(covered[i])) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Caches the given attribute values in this entry, so that they are served
+     * by {@link #getAttributeValue} from now on. Attributes which are already
+     * cached are skipped.
+     *
+     * @param attributeNames  the attribute names.
+     * @param attributeValues the attribute values, in the same order as names.
+     */
+    void coverAttributes(String[] attributeNames, Object[] attributeValues) {
+        Object[] covered = coveredAttributes;
+        int length = covered == null ? 0 : covered.length;
+        Object[] newCovered = covered == null
+                ? new Object[attributeNames.length * 2]
+                : Arrays.copyOf(covered, length + attributeNames.length * 2);
+
+        int position = length;
+        for (int i = 0; i < attributeNames.length; i++) {
+            if (!isAttributeCovered(attributeNames[i])) {
+                newCovered[position++] = attributeNames[i];
+                newCovered[position++] = attributeValues[i];
+            }
+        }
+
+        if (position != length) {
+            coveredAttributes = position == newCovered.length ? newCovered : Arrays.copyOf(newCovered, position);
+        }
+    }
+
+    /**
+     * Drops the attribute values cached in this entry, if any. Must be called
+     * whenever this entry is reinitialized with another key or value.
+     */
+    protected void resetCoveredAttributes() {
+        if (coveredAttributes != null) {
+            coveredAttributes = null;
+        }
+    }
+
     public abstract Data getKeyData();
 
     public abstract Data getValueData();
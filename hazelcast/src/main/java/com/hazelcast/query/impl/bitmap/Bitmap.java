@@ -25,11 +25,18 @@ import com.hazelcast.query.impl.predicates.InPredicate;
 import com.hazelcast.query.impl.predicates.NotEqualPredicate;
 import com.hazelcast.query.impl.predicates.NotPredicate;
 import com.hazelcast.query.impl.predicates.OrPredicate;
+import com.hazelcast.query.impl.predicates.RangePredicate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.OrderedIndexStore.SPECIAL_AWARE_COMPARATOR;
+
 /**
  * Provides indexing and querying capabilities for a single attribute of entries
  * of type {@code E}. Each indexed entry is uniquely identified by its unique
@@ -37,7 +44,10 @@ import java.util.Map;
  * <p>
  * Internally, each bitmap manages a set of sparse bit sets, one for each
  * possible attribute value, and a sparse array to map from unique {@code long}
- * entry keys back to entries.
+ * entry keys back to entries. Range queries are answered by uniting the bit
+ * sets of the distinct attribute values falling into the range, the values
+ * are looked up in a sorted snapshot rebuilt lazily after the set of distinct
+ * values changes.
  *
  * @param <E> the type of entries being indexed.
  */
@@ -48,6 +58,12 @@ public final class Bitmap<E> {
 
     private final SparseArray<E> entries = new SparseArray<>();
 
+    // Sorted snapshot of the distinct values used for range queries, null if
+    // it has to be rebuilt. Queries run concurrently under the read lock of
+    // the owning store, so the snapshot may be rebuilt by multiple threads at
+    // the same time: that's fine since they produce the same result.
+    private volatile Comparable[] sortedValues;
+
     // Note! At the moment bitmap index doesn't support memory statistics,
     // because we cannot produce precise memory estimate.
     // Instead, we provide zero memory consumption estimation.
@@ -66,9 +82,8 @@ public final class Bitmap<E> {
             Object value = values.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
+            add(value, key);
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
-            bitSet.add(key);
         }
 
         entries.set(key, entry);
@@ -88,10 +103,7 @@ public final class Bitmap<E> {
             Object value = oldValues.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.get(value);
-            if (bitSet != null) {
-                bitSet.remove(key);
-            }
+            remove(value, key);
             operationStats.onEntryRemoved(ZeroCost.ZERO_COST);
         }
 
@@ -99,9 +111,8 @@ public final class Bitmap<E> {
             Object value = newValues.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.computeIfAbsent(value, x -> new SparseBitSet());
+            add(value, key);
             operationStats.onEntryAdded(ZeroCost.ZERO_COST);
-            bitSet.add(key);
         }
 
         entries.set(key, entry);
@@ -119,12 +130,7 @@ public final class Bitmap<E> {
             Object value = values.next();
             assert value != null;
 
-            SparseBitSet bitSet = bitSets.get(value);
-            if (bitSet != null) {
-                if (bitSet.remove(key)) {
-                    bitSets.remove(value);
-                }
-            }
+            remove(value, key);
             operationStats.onEntryRemoved(ZeroCost.ZERO_COST);
         }
 
@@ -137,6 +143,7 @@ public final class Bitmap<E> {
     public void clear() {
         bitSets.clear();
         entries.clear();
+        sortedValues = null;
     }
 
     /**
@@ -145,7 +152,8 @@ public final class Bitmap<E> {
      * <p>
      * The following predicates (and combinations of them) are supported:
      * {@link AndPredicate}, {@link OrPredicate}, {@link NotPredicate}, {@link
-     * NotEqualPredicate}, {@link EqualPredicate}, {@link InPredicate}.
+     * NotEqualPredicate}, {@link EqualPredicate}, {@link InPredicate}, {@link
+     * RangePredicate}.
      *
      * @param predicate the predicate to evaluate.
      * @param converter the converter to use for the predicate arguments
@@ -156,7 +164,7 @@ public final class Bitmap<E> {
         return new EntryIterator<>(predicateIterator(predicate, converter), entries.iterator());
     }
 
-    @SuppressWarnings("checkstyle:npathcomplexity")
+    @SuppressWarnings({"checkstyle:npathcomplexity", "checkstyle:returncount"})
     private AscendingLongIterator predicateIterator(Predicate predicate, TypeConverter converter) {
         if (predicate instanceof AndPredicate andPredicate) {
             Predicate[] predicates = andPredicate.getPredicates();
@@ -164,7 +172,7 @@ public final class Bitmap<E> {
             if (predicates.length == 1) {
                 return predicateIterator(predicates[0], converter);
             } else {
-                return BitmapAlgorithms.and(predicateIterators(predicates, converter));
+                return andIterator(predicates, converter);
             }
         }
 
@@ -198,9 +206,117 @@ public final class Bitmap<E> {
             return BitmapAlgorithms.or(valueIterators(values, converter));
         }
 
+        if (predicate instanceof RangePredicate rangePredicate) {
+            return rangeIterator(rangePredicate, converter);
+        }
+
         throw new IllegalArgumentException("unexpected predicate: " + predicate);
     }
 
+    private AscendingLongIterator andIterator(Predicate[] predicates, TypeConverter converter) {
+        // Negated predicates are subtracted from the intersection of the
+        // positive ones instead of being negated over all the known entries.
+
+        List<AscendingLongIterator> included = new ArrayList<>(predicates.length);
+        List<AscendingLongIterator> excluded = new ArrayList<>(predicates.length);
+        for (Predicate predicate : predicates) {
+            if (predicate instanceof NotPredicate notPredicate) {
+                excluded.add(predicateIterator(notPredicate.getPredicate(), converter));
+            } else if (predicate instanceof NotEqualPredicate notEqualPredicate) {
+                excluded.add(valueIterator(notEqualPredicate.getValue(), converter));
+            } else {
+                included.add(predicateIterator(predicate, converter));
+            }
+        }
+
+        if (included.isEmpty()) {
+            return BitmapAlgorithms.not(union(excluded), entries);
+        }
+        AscendingLongIterator intersection = included.size() == 1
+                ? included.get(0)
+                : BitmapAlgorithms.and(included.toArray(new AscendingLongIterator[0]));
+        return excluded.isEmpty() ? intersection : BitmapAlgorithms.andNot(intersection, union(excluded));
+    }
+
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    private AscendingLongIterator rangeIterator(RangePredicate predicate, TypeConverter converter) {
+        Comparable from = predicate.getFrom() == null ? null : converter.convert(predicate.getFrom());
+        Comparable to = predicate.getTo() == null ? null : converter.convert(predicate.getTo());
+        if (from == NULL || to == NULL) {
+            // nothing is comparable to nulls
+            return AscendingLongIterator.EMPTY;
+        }
+
+        Comparable[] values = sortedValues();
+        // nulls are ordered first and never match ranges
+        int fromIndex = values.length > 0 && values[0] == NULL ? 1 : 0;
+        if (from != null) {
+            fromIndex = Math.max(fromIndex, lowerBound(values, from, predicate.isFromInclusive()));
+        }
+        int toIndex = to == null ? values.length : lowerBound(values, to, !predicate.isToInclusive());
+        if (fromIndex >= toIndex) {
+            return AscendingLongIterator.EMPTY;
+        }
+
+        AscendingLongIterator[] iterators = new AscendingLongIterator[toIndex - fromIndex];
+        for (int i = fromIndex; i < toIndex; ++i) {
+            iterators[i - fromIndex] = bitSets.get(values[i]).iterator();
+        }
+        return iterators.length == 1 ? iterators[0] : BitmapAlgorithms.or(iterators);
+    }
+
+    private Comparable[] sortedValues() {
+        Comparable[] values = sortedValues;
+        if (values == null) {
+            values = bitSets.keySet().toArray(new Comparable[0]);
+            Arrays.sort(values, SPECIAL_AWARE_COMPARATOR);
+            sortedValues = values;
+        }
+        return values;
+    }
+
+    /**
+     * @return the index of the first value which is greater than or equal to
+     * the given bound if the bound is inclusive, or the index of the first
+     * value which is strictly greater than the given bound otherwise.
+     */
+    private static int lowerBound(Comparable[] values, Comparable bound, boolean inclusive) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int order = SPECIAL_AWARE_COMPARATOR.compare(values[middle], bound);
+            if (order < 0 || order == 0 && !inclusive) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static AscendingLongIterator union(List<AscendingLongIterator> iterators) {
+        return iterators.size() == 1 ? iterators.get(0) : BitmapAlgorithms.or(iterators.toArray(new AscendingLongIterator[0]));
+    }
+
+    private void add(Object value, long key) {
+        SparseBitSet bitSet = bitSets.get(value);
+        if (bitSet == null) {
+            bitSet = new SparseBitSet();
+            bitSets.put(value, bitSet);
+            sortedValues = null;
+        }
+        bitSet.add(key);
+    }
+
+    private void remove(Object value, long key) {
+        SparseBitSet bitSet = bitSets.get(value);
+        if (bitSet != null && bitSet.remove(key)) {
+            bitSets.remove(value);
+            sortedValues = null;
+        }
+    }
+
     private AscendingLongIterator[] predicateIterators(Predicate[] predicates, TypeConverter converter) {
         AscendingLongIterator[] iterators = new AscendingLongIterator[predicates.length];
         for (int i = 0; i < predicates.length; ++i) {
@@ -53,6 +53,14 @@ final class BitmapAlgorithms {
         return new NotIterator(iterator, universe);
     }
 
+    /**
+     * @return an iterator that represents a result of subtraction of the given
+     * excluded iterator from the given iterator.
+     */
+    public static AscendingLongIterator andNot(AscendingLongIterator iterator, AscendingLongIterator excluded) {
+        return new AndNotIterator(iterator, excluded);
+    }
+
     private static final class AndIterator implements AscendingLongIterator {
 
         // The idea: order iterators by their current index; if the index of the
@@ -287,6 +295,66 @@ final class BitmapAlgorithms {
 
     }
 
+    private static final class AndNotIterator implements AscendingLongIterator {
+
+        // The idea: for every index of the base iterator try to advance the
+        // excluded iterator to it, the index is a match if the excluded
+        // iterator skipped over it. Unlike the negation over the universe,
+        // only the base iterator indexes are ever visited.
+
+        private final AscendingLongIterator iterator;
+        private final AscendingLongIterator excluded;
+
+        private long index;
+
+        AndNotIterator(AscendingLongIterator iterator, AscendingLongIterator excluded) {
+            this.iterator = iterator;
+            this.excluded = excluded;
+            this.index = skipExcluded();
+        }
+
+        @Override
+        public long getIndex() {
+            return index;
+        }
+
+        @Override
+        public long advance() {
+            long current = index;
+            if (current == AscendingLongIterator.END) {
+                return AscendingLongIterator.END;
+            }
+
+            iterator.advance();
+            index = skipExcluded();
+            return current;
+        }
+
+        @Override
+        public long advanceAtLeastTo(long member) {
+            if (index == AscendingLongIterator.END || index >= member) {
+                return index;
+            }
+
+            iterator.advanceAtLeastTo(member);
+            index = skipExcluded();
+            return index;
+        }
+
+        private long skipExcluded() {
+            long candidate = iterator.getIndex();
+            while (candidate != AscendingLongIterator.END) {
+                if (excluded.advanceAtLeastTo(candidate) != candidate) {
+                    return candidate;
+                }
+                iterator.advance();
+                candidate = iterator.getIndex();
+            }
+            return AscendingLongIterator.END;
+        }
+
+    }
+
     private static final class NotIterator implements AscendingLongIterator {
 
         // The idea: find gaps in the base iterator and iterate indexes/members
@@ -42,12 +42,14 @@ import static java.util.Arrays.copyOf;
  * the low 16 bits.
  * </ul>
  * <p>
- * {@link Storage16 Storage16} also goes in two flavors:
+ * {@link Storage16 Storage16} goes in three flavors:
  * <ul>
  * <li>{@link ArrayStorage16 ArrayStorage16} which manages sorted short array of
  * 16-bit postfixes.
  * <li>{@link BitSetStorage16 BitSetStorage16} which manages directly indexable
  * long array of bits.
+ * <li>{@link RunStorage16 RunStorage16} which manages sorted short array of
+ * runs of consecutive 16-bit postfixes.
  * </ul>
  * <p>
  * The implementation (which was inspired by Roaring Bitmap) switches between
@@ -71,6 +73,21 @@ final class SparseBitSet {
      */
     public static final int ARRAY_STORAGE_16_MAX_SIZE = 4096;
 
+    /**
+     * The number of runs at which RunStorage16 is converted to BitSetStorage16
+     * or ArrayStorage16. At this number the memory cost of having sorted run
+     * array is equal to the cost of having directly indexable long array of
+     * bits.
+     */
+    public static final int RUN_STORAGE_16_MAX_RUNS = 2048;
+
+    /**
+     * The number of runs at which ArrayStorage16 and BitSetStorage16 are
+     * converted to RunStorage16. Chosen to be a half of {@link
+     * #RUN_STORAGE_16_MAX_RUNS} to avoid flip-flopping between the flavors.
+     */
+    public static final int RUN_STORAGE_16_CONVERSION_RUNS = RUN_STORAGE_16_MAX_RUNS / 2;
+
     private static final long INT_PREFIX_MASK = 0xFFFFFFFF00000000L;
     private static final long INT_POSTFIX_MASK = 0x00000000FFFFFFFFL;
     private static final long SHORT_PREFIX_MASK = 0x00000000FFFF0000L;
@@ -798,6 +815,16 @@ final class SparseBitSet {
             members[0] = member;
         }
 
+        /**
+         * Constructs a new storage for the given sorted members array, the
+         * array is not copied.
+         */
+        ArrayStorage16(short[] members, int size) {
+            assert size > 0 && size <= ARRAY_STORAGE_16_MAX_SIZE;
+            this.size = size;
+            this.members = members;
+        }
+
         /**
          * Constructs a new storage by downgrading from the given {@link
          * BitSetStorage16} data.
@@ -836,6 +863,10 @@ final class SparseBitSet {
                 // No space left: try to grow members array.
 
                 if (size == ARRAY_STORAGE_16_MAX_SIZE) {
+                    int runCount = countRuns(members, size);
+                    if (runCount <= RUN_STORAGE_16_CONVERSION_RUNS) {
+                        return new RunStorage16(members, size, runCount).add(member);
+                    }
                     return new BitSetStorage16(members, member, index);
                 }
 
@@ -960,6 +991,16 @@ final class SparseBitSet {
             ++size;
         }
 
+        private static int countRuns(short[] members, int size) {
+            int runCount = 1;
+            for (int i = 1; i < size; ++i) {
+                if (toUnsignedInt(members[i]) != toUnsignedInt(members[i - 1]) + 1) {
+                    ++runCount;
+                }
+            }
+            return runCount;
+        }
+
     }
 
     /**
@@ -976,6 +1017,10 @@ final class SparseBitSet {
         // masks lower 6 bits
         private static final long POSTFIX_MASK = 0xFFFFFFFFFFFFFFC0L;
 
+        // The runs are counted every time the size crosses a multiple of
+        // 1024, so the cost of counting is amortized over the additions.
+        private static final int RUN_CHECK_MASK = 1024 - 1;
+
         private final long[] members = new long[SIZE];
         private int size;
 
@@ -994,6 +1039,20 @@ final class SparseBitSet {
             this.size = members.length + 1;
         }
 
+        /**
+         * Constructs a new bit set storage by converting from the given {@link
+         * RunStorage16} data.
+         */
+        BitSetStorage16(short[] runs, int runCount, int size) {
+            for (int i = 0; i < runCount; ++i) {
+                int end = toUnsignedInt(runs[(i << 1) + 1]);
+                for (int bitIndex = toUnsignedInt(runs[i << 1]); bitIndex <= end; ++bitIndex) {
+                    members[bitIndex >>> BIT_SET_LONG_SHIFT] |= 1L << bitIndex;
+                }
+            }
+            this.size = size;
+        }
+
         @Override
         public Storage16 add(short member) {
             int bitIndex = toUnsignedInt(member);
@@ -1005,6 +1064,12 @@ final class SparseBitSet {
 
             if (newBitSet != bitSet) {
                 ++size;
+                if ((size & RUN_CHECK_MASK) == 0) {
+                    int runCount = countRuns();
+                    if (runCount <= RUN_STORAGE_16_CONVERSION_RUNS) {
+                        return new RunStorage16(members, size, runCount);
+                    }
+                }
             }
             return this;
         }
@@ -1100,6 +1165,285 @@ final class SparseBitSet {
             members[bitIndex >>> BIT_SET_LONG_SHIFT] |= 1L << bitIndex;
         }
 
+        private int countRuns() {
+            // A run starts at every set bit not preceded by another set bit.
+
+            int runCount = 0;
+            long carry = 0;
+            for (long bitSet : members) {
+                runCount += Long.bitCount(bitSet & ~(bitSet << 1 | carry));
+                carry = bitSet >>> (Long.SIZE - 1);
+            }
+            return runCount;
+        }
+
+    }
+
+    /**
+     * Manages sorted short array of runs of consecutive indexes of set bits.
+     * Each run is represented by a pair of its first and last (inclusive)
+     * members.
+     */
+    private static final class RunStorage16 implements Storage16 {
+
+        private static final int MIN_CAPACITY = 4;
+
+        private int size;
+        private int runCount;
+        private short[] runs;
+
+        /**
+         * Constructs a new storage by converting from the given sorted
+         * {@link ArrayStorage16} members array.
+         */
+        RunStorage16(short[] members, int size, int runCount) {
+            this.size = size;
+            this.runs = new short[Math.max(MIN_CAPACITY, runCount << 1)];
+
+            int start = toUnsignedInt(members[0]);
+            int end = start;
+            for (int i = 1; i < size; ++i) {
+                int member = toUnsignedInt(members[i]);
+                if (member != end + 1) {
+                    appendRun(start, end);
+                    start = member;
+                }
+                end = member;
+            }
+            appendRun(start, end);
+            assert this.runCount == runCount;
+        }
+
+        /**
+         * Constructs a new storage by converting from the given {@link
+         * BitSetStorage16} data.
+         */
+        RunStorage16(long[] bits, int size, int runCount) {
+            this.size = size;
+            this.runs = new short[Math.max(MIN_CAPACITY, runCount << 1)];
+
+            int start = -1;
+            int end = -1;
+            for (int i = 0; i < bits.length; ++i) {
+                long value = bits[i];
+                int base = i << BitSetStorage16.BIT_SET_LONG_SHIFT;
+                while (value != 0) {
+                    int member = base + numberOfTrailingZeros(value);
+                    if (start == -1) {
+                        start = member;
+                    } else if (member != end + 1) {
+                        appendRun(start, end);
+                        start = member;
+                    }
+                    end = member;
+                    // zero out the consumed bit
+                    value &= value - 1;
+                }
+            }
+            appendRun(start, end);
+            assert this.runCount == runCount;
+        }
+
+        @Override
+        public Storage16 add(short member) {
+            int unsignedMember = toUnsignedInt(member);
+            int run = findRun(0, unsignedMember);
+            if (run >= 0 && unsignedMember <= end(run)) {
+                // already in the runs
+                return this;
+            }
+
+            boolean extendsLeft = run >= 0 && end(run) + 1 == unsignedMember;
+            boolean extendsRight = run + 1 < runCount && start(run + 1) - 1 == unsignedMember;
+            if (extendsLeft && extendsRight) {
+                // the member fills the gap between two runs: merge them
+                runs[(run << 1) + 1] = runs[(run << 1) + 3];
+                removeRun(run + 1);
+            } else if (extendsLeft) {
+                runs[(run << 1) + 1] = member;
+            } else if (extendsRight) {
+                runs[(run + 1) << 1] = member;
+            } else {
+                insertRun(run + 1, member, member);
+            }
+            ++size;
+            return convertIfNeeded();
+        }
+
+        @Override
+        public Storage16 remove(short member) {
+            int unsignedMember = toUnsignedInt(member);
+            int run = findRun(0, unsignedMember);
+            if (run < 0 || unsignedMember > end(run)) {
+                // not a member
+                return this;
+            }
+
+            --size;
+            if (size == 0) {
+                // emptied
+                return null;
+            }
+
+            int start = start(run);
+            int end = end(run);
+            if (start == end) {
+                removeRun(run);
+            } else if (unsignedMember == start) {
+                runs[run << 1] = (short) (unsignedMember + 1);
+            } else if (unsignedMember == end) {
+                runs[(run << 1) + 1] = (short) (unsignedMember - 1);
+            } else {
+                // split the run
+                insertRun(run + 1, (short) (unsignedMember + 1), (short) end);
+                runs[(run << 1) + 1] = (short) (unsignedMember - 1);
+            }
+            return convertIfNeeded();
+        }
+
+        @Override
+        public void iterate(IteratorImpl iterator) {
+            assert size > 0;
+            iterator.position16 = 0;
+            iterator.index = iterator.index & INT_PREFIX_SHORT_PREFIX_MASK | start(0);
+        }
+
+        @Override
+        public boolean advance(IteratorImpl iterator) {
+            int run = iterator.position16;
+            long current = iterator.index;
+            if ((current & SHORT_POSTFIX_MASK) < end(run)) {
+                // still inside the current run
+                iterator.index = current + 1;
+                return true;
+            }
+
+            ++run;
+            if (run == runCount) {
+                return false;
+            }
+            iterator.index = current & INT_PREFIX_SHORT_PREFIX_MASK | start(run);
+            iterator.position16 = run;
+            return true;
+        }
+
+        @Override
+        public boolean iterateAtLeastFrom(short member, IteratorImpl iterator) {
+            int unsignedMember = toUnsignedInt(member);
+            return position(findRun(0, unsignedMember), unsignedMember, iterator);
+        }
+
+        @Override
+        public boolean advanceAtLeastTo(short member, IteratorImpl iterator) {
+            int unsignedMember = toUnsignedInt(member);
+            assert (iterator.index & SHORT_POSTFIX_MASK) < unsignedMember;
+            // the current run starts before the member for sure
+            return position(findRun(iterator.position16, unsignedMember), unsignedMember, iterator);
+        }
+
+        /**
+         * Positions the given iterator to the given member if it's inside the
+         * given run or to the start of the next run otherwise.
+         */
+        private boolean position(int run, int unsignedMember, IteratorImpl iterator) {
+            if (run >= 0 && unsignedMember <= end(run)) {
+                iterator.index = iterator.index & INT_PREFIX_SHORT_PREFIX_MASK | unsignedMember;
+                iterator.position16 = run;
+                return true;
+            }
+
+            ++run;
+            if (run == runCount) {
+                return false;
+            }
+            iterator.index = iterator.index & INT_PREFIX_SHORT_PREFIX_MASK | start(run);
+            iterator.position16 = run;
+            return true;
+        }
+
+        /**
+         * @return the index of the last run starting at or before the given
+         * member, searching from the given run index; or {@code from - 1} if
+         * there is no such run.
+         */
+        private int findRun(int from, int unsignedMember) {
+            int low = from;
+            int high = runCount - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (start(middle) <= unsignedMember) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return high;
+        }
+
+        private int start(int run) {
+            return toUnsignedInt(runs[run << 1]);
+        }
+
+        private int end(int run) {
+            return toUnsignedInt(runs[(run << 1) + 1]);
+        }
+
+        private void appendRun(int start, int end) {
+            runs[runCount << 1] = (short) start;
+            runs[(runCount << 1) + 1] = (short) end;
+            ++runCount;
+        }
+
+        private void insertRun(int run, short start, short end) {
+            int offset = run << 1;
+            int length = runCount << 1;
+            if (length == runs.length) {
+                // no space left: grow the runs array keeping it even-sized
+                int newCapacity = runs.length + (capacityDeltaShort(runs.length) + 1 & ~1);
+                short[] newRuns = new short[newCapacity];
+                arraycopy(runs, 0, newRuns, 0, offset);
+                arraycopy(runs, offset, newRuns, offset + 2, length - offset);
+                runs = newRuns;
+            } else {
+                // shift runs right to free a slot for the new run
+                arraycopy(runs, offset, runs, offset + 2, length - offset);
+            }
+            runs[offset] = start;
+            runs[offset + 1] = end;
+            ++runCount;
+        }
+
+        private void removeRun(int run) {
+            int offset = run << 1;
+            --runCount;
+            arraycopy(runs, offset + 2, runs, offset, (runCount << 1) - offset);
+        }
+
+        private Storage16 convertIfNeeded() {
+            if (runCount > RUN_STORAGE_16_MAX_RUNS) {
+                // Too fragmented: the runs cost more than a bit set.
+                return size > BitSetStorage16.MIN_SIZE ? new BitSetStorage16(runs, runCount, size) : toArrayStorage();
+            }
+            if (size < runCount << 1) {
+                // The runs cost more than a sorted array of the members.
+                return toArrayStorage();
+            }
+            return this;
+        }
+
+        private ArrayStorage16 toArrayStorage() {
+            short[] members = new short[Math.max(ArrayStorage16.MIN_CAPACITY, size)];
+            int index = 0;
+            for (int i = 0; i < runCount; ++i) {
+                int end = end(i);
+                for (int member = start(i); member <= end; ++member) {
+                    members[index++] = (short) member;
+                }
+            }
+            assert index == size;
+            return new ArrayStorage16(members, size);
+        }
+
     }
 
     /**
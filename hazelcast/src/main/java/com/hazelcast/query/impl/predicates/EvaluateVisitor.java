@@ -259,4 +259,40 @@ public class EvaluateVisitor extends AbstractVisitor {
         return new EvaluatePredicate(predicate, index.getName());
     }
 
+    @Override
+    public Predicate visit(GreaterLessPredicate predicate, IndexRegistry indexes) {
+        return visitRange(predicate, indexes);
+    }
+
+    @Override
+    public Predicate visit(BetweenPredicate predicate, IndexRegistry indexes) {
+        return visitRange(predicate, indexes);
+    }
+
+    @Override
+    public Predicate visit(BoundedRangePredicate predicate, IndexRegistry indexes) {
+        return visitRange(predicate, indexes);
+    }
+
+    private static Predicate visitRange(RangePredicate predicate, IndexRegistry indexes) {
+        String attribute = predicate.getAttribute();
+        if (indexes.hasOrderedIndex(attribute)) {
+            // ordered indexes are able to answer range queries directly
+            return predicate;
+        }
+
+        Index index = indexes.matchIndex(attribute, predicate.getClass(), IndexMatchHint.PREFER_ORDERED,
+                SKIP_PARTITIONS_COUNT_CHECK);
+        if (index == null) {
+            return predicate;
+        }
+
+        TypeConverter converter = index.getConverter();
+        if (converter == null) {
+            return predicate;
+        }
+
+        return new EvaluatePredicate(predicate, index.getName());
+    }
+
 }
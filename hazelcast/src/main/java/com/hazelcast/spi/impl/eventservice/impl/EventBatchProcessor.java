@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.internal.util.executor.TimeoutRunnable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processes a batch of events published on this member to a local listener.
+ * If the batch is not accepted by the event executor within the timeout, it
+ * is rejected.
+ *
+ * @see EventBatcher
+ */
+public final class EventBatchProcessor extends EventProcessor implements TimeoutRunnable {
+
+    private final EventEnvelopeBatch batch;
+    private final long timeoutMs;
+
+    EventBatchProcessor(EventServiceImpl eventService, EventEnvelopeBatch batch, int orderKey, long timeoutMs) {
+        super(eventService, null, orderKey);
+        this.batch = batch;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void run() {
+        process(batch);
+    }
+
+    @Override
+    public long getTimeout() {
+        return timeoutMs;
+    }
+
+    @Override
+    public TimeUnit getTimeUnit() {
+        return TimeUnit.MILLISECONDS;
+    }
+
+    @Override
+    public String toString() {
+        return "EventBatchProcessor{batch=" + batch + '}';
+    }
+}
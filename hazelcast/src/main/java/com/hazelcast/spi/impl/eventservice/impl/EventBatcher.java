@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.util.counters.MwCounter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_BATCHED_EVENT_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_BATCH_COUNT;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_PENDING_BATCHED_EVENT_COUNT;
+import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
+import static com.hazelcast.internal.util.HashUtil.hashToIndex;
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+
+/**
+ * Collects the events published to a listener registration into batches. The
+ * events of a registration are collected in a separate batch for each event
+ * thread, that is for each stripe of order keys, so that a batch can be
+ * processed on a single event thread without changing the threads on which
+ * the events are processed. A batch is dispatched when it reaches the
+ * configured size or on the next {@link #flushAll()}, which the
+ * {@link EventServiceImpl} calls periodically with the configured linger.
+ * <p>
+ * A batch is dispatched by the thread which filled or flushed it, under the
+ * lock of the batch, so the batches of a stripe are dispatched in the order
+ * in which their events were published. The dispatch only sends the batch
+ * or puts it to the event executor queue, a publisher never waits for or
+ * dispatches the batches taken by other threads.
+ *
+ * @see com.hazelcast.spi.properties.ClusterProperty#EVENT_BATCH_SIZE
+ * @see com.hazelcast.spi.properties.ClusterProperty#EVENT_BATCH_LINGER_MILLIS
+ */
+final class EventBatcher {
+
+    private final EventServiceImpl eventService;
+    private final int batchSize;
+    private final int stripeCount;
+    private final ConcurrentMap<BatchKey, PendingBatch> batches = new ConcurrentHashMap<>();
+
+    @Probe(name = EVENT_METRIC_EVENT_SERVICE_BATCH_COUNT)
+    private final MwCounter batchCount = newMwCounter();
+    @Probe(name = EVENT_METRIC_EVENT_SERVICE_BATCHED_EVENT_COUNT)
+    private final MwCounter batchedEventCount = newMwCounter();
+    @Probe(name = EVENT_METRIC_EVENT_SERVICE_PENDING_BATCHED_EVENT_COUNT, level = MANDATORY)
+    private final MwCounter pendingEventCount = newMwCounter();
+
+    /**
+     * @param eventService the event service dispatching the batches
+     * @param batchSize    the number of events after which a batch is dispatched
+     * @param stripeCount  the number of event threads
+     */
+    EventBatcher(EventServiceImpl eventService, int batchSize, int stripeCount) {
+        this.eventService = eventService;
+        this.batchSize = batchSize;
+        this.stripeCount = stripeCount;
+    }
+
+    /**
+     * Returns the order key with which the batch containing the events with
+     * the given order key is dispatched. It is the index of the event thread
+     * processing the events with the given order key, so the events are
+     * processed on the same thread as without batching.
+     */
+    int batchOrderKey(int orderKey) {
+        return hashToIndex(orderKey, stripeCount);
+    }
+
+    /**
+     * Adds the event to the batch of the registration and the order key. If
+     * the batch is full, it is dispatched.
+     *
+     * @param registrationId the ID of the registration the event is published to
+     * @param orderKey       the order key of the event
+     * @param serviceName    the name of the service responsible for the event
+     * @param subscriber     the address of the member with the listener
+     * @param event          the event or its serialized form
+     */
+    void add(UUID registrationId, int orderKey, String serviceName, Address subscriber, Object event) {
+        BatchKey key = new BatchKey(registrationId, batchOrderKey(orderKey));
+        PendingBatch batch;
+        do {
+            batch = batches.computeIfAbsent(key, k -> new PendingBatch(k, serviceName, subscriber));
+        } while (!batch.add(event));
+    }
+
+    /**
+     * Dispatches the events collected for the registration and the order
+     * key, if any. When this method returns, an event dispatched with the
+     * {@linkplain #batchOrderKey(int) batch order key} is processed after
+     * them.
+     */
+    void flush(UUID registrationId, int orderKey) {
+        PendingBatch batch = batches.get(new BatchKey(registrationId, batchOrderKey(orderKey)));
+        if (batch != null) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * Dispatches the events collected for all registrations. The batches to
+     * which no event was added since the previous call are removed.
+     */
+    void flushAll() {
+        for (PendingBatch batch : batches.values()) {
+            batch.flushOrRetire();
+        }
+    }
+
+    void clear() {
+        batches.clear();
+    }
+
+    /**
+     * Identifies the batch of a registration for an event thread.
+     *
+     * @param registrationId the ID of the registration
+     * @param orderKey       the index of the event thread, used as the order key of the batches
+     */
+    private record BatchKey(UUID registrationId, int orderKey) {
+    }
+
+    private final class PendingBatch {
+
+        final BatchKey key;
+        final String serviceName;
+        final Address subscriber;
+        List<Object> events = new ArrayList<>();
+        boolean retired;
+
+        PendingBatch(BatchKey key, String serviceName, Address subscriber) {
+            this.key = key;
+            this.serviceName = serviceName;
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * Returns {@code false} if the batch was retired and the event must
+         * be added to a new batch.
+         */
+        synchronized boolean add(Object event) {
+            if (retired) {
+                return false;
+            }
+            events.add(event);
+            pendingEventCount.inc();
+            if (events.size() >= batchSize) {
+                dispatch();
+            }
+            return true;
+        }
+
+        synchronized void flush() {
+            if (!events.isEmpty()) {
+                dispatch();
+            }
+        }
+
+        /**
+         * Dispatches the collected events or, if there are none, retires the
+         * batch.
+         */
+        synchronized void flushOrRetire() {
+            if (events.isEmpty()) {
+                retired = true;
+                batches.remove(key, this);
+            } else {
+                dispatch();
+            }
+        }
+
+        /**
+         * Dispatches the collected events. Called with the lock held, so
+         * that the batches are dispatched in the order they were collected.
+         */
+        private void dispatch() {
+            List<Object> batchEvents = events;
+            events = new ArrayList<>(batchEvents.size());
+            pendingEventCount.inc(-batchEvents.size());
+            batchCount.inc();
+            batchedEventCount.inc(batchEvents.size());
+            eventService.dispatchBatch(subscriber,
+                    new EventEnvelopeBatch(key.registrationId(), serviceName, batchEvents), key.orderKey());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.internal.nio.IOUtil;
+import com.hazelcast.internal.util.UUIDSerializationUtil;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.SpiDataSerializerHook;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A batch of events published to a single listener registration. The events
+ * are kept in the order in which they were published.
+ *
+ * @see EventEnvelope
+ */
+public final class EventEnvelopeBatch implements IdentifiedDataSerializable {
+
+    private UUID id;
+    private String serviceName;
+    private List<Object> events;
+
+    public EventEnvelopeBatch() {
+    }
+
+    EventEnvelopeBatch(UUID id, String serviceName, List<Object> events) {
+        this.id = id;
+        this.serviceName = serviceName;
+        this.events = events;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public List<Object> getEvents() {
+        return events;
+    }
+
+    /** The event ID. This corresponds to the listener registration ID. */
+    public UUID getEventId() {
+        return id;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SpiDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return SpiDataSerializerHook.EVENT_ENVELOPE_BATCH;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        UUIDSerializationUtil.writeUUID(out, id);
+        out.writeString(serviceName);
+        out.writeInt(events.size());
+        for (Object event : events) {
+            IOUtil.writeObject(out, event);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        id = UUIDSerializationUtil.readUUID(in);
+        serviceName = in.readString();
+        int size = in.readInt();
+        events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            events.add(IOUtil.readObject(in));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EventEnvelopeBatch{id='" + id + "', serviceName='" + serviceName + "', size=" + events.size() + '}';
+    }
+}
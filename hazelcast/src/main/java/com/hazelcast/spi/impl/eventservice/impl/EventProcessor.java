@@ -18,10 +18,13 @@ package com.hazelcast.spi.impl.eventservice.impl;
 
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.util.executor.StripedRunnable;
+import com.hazelcast.replicatedmap.ReplicatedMapCantBeCreatedOnLiteMemberException;
 import com.hazelcast.spi.impl.eventservice.EventPublishingService;
 
 import java.util.UUID;
 
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
+
 /**
  * An event processor responsible for fetching the registration and service responsible for the published event
  * and processing it. The processor is an instance of the {@link StripedRunnable} and events are processed on a
@@ -56,24 +59,51 @@ public class EventProcessor implements StripedRunnable {
         Object event = getEvent(envelope);
         String serviceName = envelope.getServiceName();
         EventPublishingService<Object, Object> service = eventService.nodeEngine.getService(serviceName);
-        Registration registration = getRegistration(envelope, serviceName);
+        Registration registration = getRegistration(envelope.getEventId(), serviceName);
         if (registration == null) {
             return;
         }
         service.dispatchEvent(event, registration.getListener());
     }
 
+    /**
+     * Processes the events of the batch in order. A failure to dispatch an
+     * event is logged and doesn't prevent the dispatching of the rest of the
+     * batch.
+     *
+     * @param batch the events to be processed
+     * @see #process(EventEnvelope)
+     */
+    void process(EventEnvelopeBatch batch) {
+        String serviceName = batch.getServiceName();
+        EventPublishingService<Object, Object> service = eventService.nodeEngine.getService(serviceName);
+        Registration registration = getRegistration(batch.getEventId(), serviceName);
+        if (registration == null) {
+            return;
+        }
+        for (Object event : batch.getEvents()) {
+            try {
+                service.dispatchEvent(toEventObject(event), registration.getListener());
+            } catch (ReplicatedMapCantBeCreatedOnLiteMemberException e) {
+                // expected when there is a lite member in the cluster, see RemoteEventProcessor
+                ignore(e);
+            } catch (Exception e) {
+                eventService.logger.warning("Error while processing event", e);
+            }
+        }
+    }
+
 
     /**
      * Returns the local registration responsible for the event and service or {@code null} if none exists,
      * the registration is not local or there is no listener in the registration.
      *
-     * @param eventEnvelope the event for which we need the registration
-     * @param serviceName   the service name
+     * @param id          the ID of the registration
+     * @param serviceName the service name
      * @return the listener registration or {@code null} if none exists, it is not local or there is no listener in
      * the registration
      */
-    private Registration getRegistration(EventEnvelope eventEnvelope, String serviceName) {
+    private Registration getRegistration(UUID id, String serviceName) {
         EventServiceSegment segment = eventService.getSegment(serviceName, false);
         if (segment == null) {
             if (eventService.nodeEngine.isRunning()) {
@@ -82,7 +112,6 @@ public class EventProcessor implements StripedRunnable {
             return null;
         }
 
-        UUID id = eventEnvelope.getEventId();
         Registration registration = (Registration) segment.getRegistrationIdMap().get(id);
         if (registration == null) {
             if (eventService.nodeEngine.isRunning()) {
@@ -109,7 +138,10 @@ public class EventProcessor implements StripedRunnable {
 
     /** Returns the deserialized event object contained in the {@code eventEnvelope} */
     private Object getEvent(EventEnvelope eventEnvelope) {
-        Object event = eventEnvelope.getEvent();
+        return toEventObject(eventEnvelope.getEvent());
+    }
+
+    private Object toEventObject(Object event) {
         if (event instanceof Data) {
             event = eventService.nodeEngine.toObject(event);
         }
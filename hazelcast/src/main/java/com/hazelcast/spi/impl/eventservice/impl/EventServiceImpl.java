@@ -58,11 +58,13 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import static com.hazelcast.instance.EndpointQualifier.MEMBER;
 import static com.hazelcast.internal.cluster.Versions.V5_3;
+import static com.hazelcast.internal.cluster.Versions.V6_0;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_DISCRIMINATOR_SERVICE;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_EVENTS_PROCESSED;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.EVENT_METRIC_EVENT_SERVICE_EVENT_QUEUE_SIZE;
@@ -81,6 +83,8 @@ import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.ThreadUtil.createThreadName;
 import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
 import static com.hazelcast.spi.impl.InternalCompletableFuture.newCompletedFuture;
+import static com.hazelcast.spi.properties.ClusterProperty.EVENT_BATCH_LINGER_MILLIS;
+import static com.hazelcast.spi.properties.ClusterProperty.EVENT_BATCH_SIZE;
 import static com.hazelcast.spi.properties.ClusterProperty.EVENT_QUEUE_CAPACITY;
 import static com.hazelcast.spi.properties.ClusterProperty.EVENT_QUEUE_TIMEOUT_MILLIS;
 import static com.hazelcast.spi.properties.ClusterProperty.EVENT_SYNC_TIMEOUT_MILLIS;
@@ -109,8 +113,14 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
  * This order can still be broken in some cases. This is possible because remote events are asynchronous,
  * and we don't wait for the response before publishing the next event. The previously published
  * event can be retransmitted causing it to be received by the target node at a later time.
+ * <p>
+ * If {@link com.hazelcast.spi.properties.ClusterProperty#EVENT_BATCH_SIZE} is greater than {@code 1}, the
+ * asynchronous events are collected per listener registration and event thread by an {@link EventBatcher}.
+ * Each batch takes a single slot in the executor queue and, for a remote subscriber, is sent as a single packet.
+ * The events of a batch are processed on the thread their order keys map to, so the order is kept as without
+ * batching.
  */
-@SuppressWarnings({"checkstyle:classfanoutcomplexity", "checkstyle:methodcount"})
+@SuppressWarnings({"checkstyle:classdataabstractioncoupling", "checkstyle:classfanoutcomplexity", "checkstyle:methodcount"})
 public class EventServiceImpl implements EventService, StaticMetricsProvider {
 
     public static final String SERVICE_NAME = "hz:core:eventService";
@@ -184,6 +194,10 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
 
     private final ConcurrentMap<UUID, Object> listenerCache = new ConcurrentHashMap<>();
 
+    /** The batcher of the asynchronous events, {@code null} if batching is disabled */
+    private final EventBatcher eventBatcher;
+    private final ScheduledFuture<?> batchFlushFuture;
+
     public EventServiceImpl(NodeEngineImpl nodeEngine) {
         this.nodeEngine = nodeEngine;
         this.serializationService = (InternalSerializationService) nodeEngine.getSerializationService();
@@ -201,6 +215,17 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
                 eventThreadCount,
                 eventQueueCapacity);
         this.segments = new ConcurrentHashMap<>();
+
+        int eventBatchSize = hazelcastProperties.getInteger(EVENT_BATCH_SIZE);
+        if (eventBatchSize > 1) {
+            long lingerMillis = Math.max(1, hazelcastProperties.getMillis(EVENT_BATCH_LINGER_MILLIS));
+            this.eventBatcher = new EventBatcher(this, eventBatchSize, eventThreadCount);
+            this.batchFlushFuture = nodeEngine.getExecutionService()
+                    .scheduleWithRepetition(eventBatcher::flushAll, lingerMillis, lingerMillis, MILLISECONDS);
+        } else {
+            this.eventBatcher = null;
+            this.batchFlushFuture = null;
+        }
     }
 
 
@@ -219,6 +244,9 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
     @Override
     public void provideStaticMetrics(MetricsRegistry registry) {
         registry.registerStaticMetrics(this, EVENT_PREFIX);
+        if (eventBatcher != null) {
+            registry.registerStaticMetrics(eventBatcher, EVENT_PREFIX);
+        }
     }
 
     @Override
@@ -602,11 +630,13 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
 
         Registration reg = (Registration) registration;
         try {
-            if (reg.getListener() != null) {
+            if (reg.getListener() == null) {
+                logger.warning("Something seems wrong! Listener instance is null! -> " + reg);
+            } else if (eventBatcher != null) {
+                eventBatcher.add(reg.getId(), orderKey, serviceName, reg.getSubscriber(), event);
+            } else {
                 eventExecutor.execute(new LocalEventDispatcher(this, serviceName, event, reg.getListener(),
                         orderKey, eventQueueTimeoutMs));
-            } else {
-                logger.warning("Something seems wrong! Listener instance is null! -> " + reg);
             }
         } catch (RejectedExecutionException e) {
             rejectedCount.inc();
@@ -625,7 +655,8 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
      * A synchronous event means that we send the event as an {@link SendEventOperation} and in case of failure
      * we increase the failure count and log the failure (see {@link EventProcessor})
      * Otherwise, we send an asynchronous event. This means that we don't wait to see if the processing failed with an
-     * exception (see {@link RemoteEventProcessor})
+     * exception (see {@link RemoteEventProcessor}). If batching is enabled, the asynchronous event is added to
+     * the batch of its registration instead.
      */
     private void sendEvent(Address subscriber, EventEnvelope eventEnvelope, int orderKey) {
         String serviceName = eventEnvelope.getServiceName();
@@ -633,7 +664,14 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
         boolean sync = segment.incrementPublish() % eventSyncFrequency == 0;
 
         if (sync) {
-            SendEventOperation op = new SendEventOperation(eventEnvelope, orderKey);
+            int syncOrderKey = orderKey;
+            if (eventBatcher != null && isBatchingSupported()) {
+                // don't let the synchronous event overtake the batched ones with the same order key:
+                // they are sent first and the subscriber processes them on the same event thread
+                eventBatcher.flush(eventEnvelope.getEventId(), orderKey);
+                syncOrderKey = eventBatcher.batchOrderKey(orderKey);
+            }
+            SendEventOperation op = new SendEventOperation(eventEnvelope, syncOrderKey);
             Future f = nodeEngine.getOperationService()
                     .createInvocationBuilder(serviceName, op, subscriber)
                     .setTryCount(SEND_RETRY_COUNT).invoke();
@@ -645,15 +683,56 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
                     logger.finest("Sync event delivery failed. Event: " + eventEnvelope, e);
                 }
             }
+        } else if (eventBatcher != null && isBatchingSupported()) {
+            eventBatcher.add(eventEnvelope.getEventId(), orderKey, serviceName, subscriber, eventEnvelope.getEvent());
         } else {
-            Packet packet = new Packet(serializationService.toBytes(eventEnvelope), orderKey)
-                    .setPacketType(Packet.Type.EVENT);
+            transmitEvent(subscriber, eventEnvelope, orderKey);
+        }
+    }
 
-            ServerConnectionManager cm = nodeEngine.getNode().getServer().getConnectionManager(MEMBER);
-            if (!cm.transmit(packet, subscriber)) {
-                if (nodeEngine.isRunning()) {
-                    logFailure("Failed to send event packet to: %s, connection might not be alive.", subscriber);
-                }
+    /**
+     * Returns {@code true} if all members can process an {@link EventEnvelopeBatch}.
+     */
+    private boolean isBatchingSupported() {
+        return nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V6_0);
+    }
+
+    private void transmitEvent(Address subscriber, Object envelope, int orderKey) {
+        Packet packet = new Packet(serializationService.toBytes(envelope), orderKey)
+                .setPacketType(Packet.Type.EVENT);
+
+        ServerConnectionManager cm = nodeEngine.getNode().getServer().getConnectionManager(MEMBER);
+        if (!cm.transmit(packet, subscriber)) {
+            if (nodeEngine.isRunning()) {
+                logFailure("Failed to send event packet to: %s, connection might not be alive.", subscriber);
+            }
+        }
+    }
+
+    /**
+     * Dispatches a batch of events collected by the {@link EventBatcher}. If the subscriber is this member, the
+     * batch is processed on the event executor, otherwise it is sent to the subscriber as a single packet.
+     *
+     * @param subscriber the address of the member with the listener
+     * @param batch      the events
+     * @param orderKey   the key defining the thread on which the batch is processed
+     */
+    void dispatchBatch(Address subscriber, EventEnvelopeBatch batch, int orderKey) {
+        if (!nodeEngine.getThisAddress().equals(subscriber)) {
+            transmitEvent(subscriber, batch, orderKey);
+            return;
+        }
+        if (!nodeEngine.isRunning()) {
+            return;
+        }
+        try {
+            eventExecutor.execute(new EventBatchProcessor(this, batch, orderKey, eventQueueTimeoutMs));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.inc();
+
+            if (eventExecutor.isLive()) {
+                logFailure("EventQueue overloaded! %s failed to publish %d events to %s",
+                        batch.getServiceName(), batch.getEvents().size(), batch.getEventId());
             }
         }
     }
@@ -790,6 +869,11 @@ public class EventServiceImpl implements EventService, StaticMetricsProvider {
 
     public void shutdown() {
         logger.finest("Stopping event executor...");
+        if (batchFlushFuture != null) {
+            eventBatcher.flushAll();
+            batchFlushFuture.cancel(false);
+            eventBatcher.clear();
+        }
         eventExecutor.shutdown();
         for (EventServiceSegment segment : segments.values()) {
             segment.clear();
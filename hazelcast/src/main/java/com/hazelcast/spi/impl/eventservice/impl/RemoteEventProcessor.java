@@ -27,6 +27,7 @@ import static com.hazelcast.internal.util.EmptyStatement.ignore;
  * An extension of the {@link EventProcessor} which logs and swallows any exception while processing the event.
  * The {@link #orderKey} for this processor is equal to the packet partition ID. This means that when running
  * inside a {@link com.hazelcast.internal.util.executor.StripedExecutor}, all events for the same partition ID will be ordered.
+ * The packet contains either a single {@link EventEnvelope} or an {@link EventEnvelopeBatch}.
  *
  * @see EventServiceImpl#sendEvent(Address, EventEnvelope, int)
  */
@@ -44,8 +45,12 @@ public class RemoteEventProcessor extends EventProcessor implements StripedRunna
     @Override
     public void run() {
         try {
-            EventEnvelope eventEnvelope = eventService.nodeEngine.toObject(packet);
-            process(eventEnvelope);
+            Object envelope = eventService.nodeEngine.toObject(packet);
+            if (envelope instanceof EventEnvelopeBatch batch) {
+                process(batch);
+            } else {
+                process((EventEnvelope) envelope);
+            }
         } catch (ReplicatedMapCantBeCreatedOnLiteMemberException e) {
             // this happens when there is a lite member in the cluster
             // and a data member creates a ReplicatedMap proxy
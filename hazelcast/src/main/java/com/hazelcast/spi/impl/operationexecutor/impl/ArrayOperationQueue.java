@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.util.concurrent.IdleStrategy;
+import com.hazelcast.internal.util.concurrent.MPSCQueue;
+import com.hazelcast.internal.util.concurrent.ManyToOneConcurrentArrayQueue;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static java.util.concurrent.locks.LockSupport.park;
+import static java.util.concurrent.locks.LockSupport.unpark;
+
+/**
+ * An {@link OperationQueue} for a single consumer thread which keeps the
+ * normal tasks in a {@link ManyToOneConcurrentArrayQueue}, so adding a task
+ * doesn't allocate and doesn't take a lock.
+ * <p>
+ * The array is bounded, the tasks added while it's full go to an overflow
+ * {@link MPSCQueue}. An overflowing task gets a ticket, the number of tasks
+ * ever added to the array at the time it was added: all tasks the same
+ * producer added to the array before it were added before that point and
+ * the ones it adds after it get added after that point. The ticket isn't
+ * taken atomically with adding the task to the overflow queue, so the
+ * consumer moves the overflowing tasks into a heap ordered by ticket and
+ * takes one once it has taken all tasks added to the array before its
+ * ticket. Before it takes a task from the array, it checks the overflowing
+ * tasks again, as the producer of the array task may have added an
+ * overflowing task just before it. This keeps the FIFO ordering of tasks
+ * added by the same thread.
+ * <p>
+ * The priority tasks are rare and are kept in a {@link ConcurrentLinkedQueue},
+ * they are taken before the normal ones.
+ * <p>
+ * If there is nothing to take, the consumer idles using the {@link
+ * IdleStrategy}. If there is no idle strategy, it parks until a producer
+ * unparks it.
+ * <p>
+ * Unlike {@link OperationQueueImpl}, this queue must be used by a single
+ * consumer thread only, so it's not suitable for the generic operation
+ * threads.
+ */
+public final class ArrayOperationQueue implements OperationQueue {
+
+    private final ManyToOneConcurrentArrayQueue<Object> normalQueue;
+    private final MPSCQueue<OverflowTask> overflowQueue = new MPSCQueue<>(null);
+    // only accessed by the consumer thread
+    private final PriorityQueue<OverflowTask> overflowTasks = new PriorityQueue<>(OverflowTask.ORDER);
+    private long overflowSequence;
+    private final Queue<Object> priorityQueue = new ConcurrentLinkedQueue<>();
+    private final IdleStrategy idleStrategy;
+
+    private volatile boolean consumerParked;
+    private Thread consumerThread;
+
+    /**
+     * @param capacity     the capacity of the array holding the normal tasks,
+     *                     rounded up to the next power of two
+     * @param idleStrategy the idle strategy of the consumer. If null, the
+     *                     consumer will block if the queue is empty.
+     */
+    public ArrayOperationQueue(int capacity, IdleStrategy idleStrategy) {
+        this.normalQueue = new ManyToOneConcurrentArrayQueue<>(capacity);
+        this.idleStrategy = idleStrategy;
+    }
+
+    /**
+     * Sets the consumer thread. It's needed for blocking, so that a producer
+     * knows which thread to unpark. This method should be called before the
+     * queue is safely published.
+     *
+     * @param consumerThread the consumer thread.
+     * @throws NullPointerException when consumerThread null.
+     */
+    public void setConsumerThread(Thread consumerThread) {
+        this.consumerThread = checkNotNull(consumerThread, "consumerThread can't be null");
+    }
+
+    @Override
+    public void add(Object task, boolean priority) {
+        checkNotNull(task, "task can't be null");
+
+        if (priority) {
+            priorityQueue.offer(task);
+        } else if (!normalQueue.offer(task)) {
+            addOverflowing(task, normalQueue.addedCount());
+        }
+
+        // the offer above is a CAS, so either we see the flag or the consumer sees the task
+        if (consumerParked) {
+            unpark(consumerThread);
+        }
+    }
+
+    @Override
+    public Object take(boolean priorityOnly) throws InterruptedException {
+        long iteration = 0;
+        for (; ; ) {
+            Object task = priorityOnly ? priorityQueue.poll() : poll();
+            if (task != null) {
+                return task;
+            }
+
+            if (consumerThread.isInterrupted()) {
+                throw new InterruptedException();
+            }
+
+            if (idleStrategy != null) {
+                idleStrategy.idle(iteration++);
+                continue;
+            }
+
+            consumerParked = true;
+            if (priorityOnly ? priorityQueue.isEmpty() : isEmpty()) {
+                park();
+            }
+            consumerParked = false;
+        }
+    }
+
+    @Override
+    public Object poll() {
+        Object task = priorityQueue.poll();
+        if (task != null) {
+            return task;
+        }
+
+        // the overflowing tasks are checked after the next array task is seen, so
+        // an overflowing task added by its producer before it is seen as well
+        Object normalTask = normalQueue.peek();
+        OverflowTask overflowTask = peekOverflowing();
+        if (overflowTask != null && overflowTask.addedCount <= normalQueue.removedCount()) {
+            overflowTasks.poll();
+            return overflowTask.task;
+        }
+
+        // might return null even if the queue isn't empty, if a producer has
+        // claimed the next slot but not yet written the task into it
+        return normalTask == null ? null : normalQueue.poll();
+    }
+
+    /**
+     * Adds a task which didn't fit into the array.
+     *
+     * @param task       the task
+     * @param addedCount the number of tasks added to the array before it
+     */
+    void addOverflowing(Object task, long addedCount) {
+        overflowQueue.offer(new OverflowTask(task, addedCount));
+    }
+
+    private OverflowTask peekOverflowing() {
+        if (!overflowQueue.isEmpty()) {
+            OverflowTask overflowTask;
+            while ((overflowTask = overflowQueue.poll()) != null) {
+                overflowTask.sequence = overflowSequence++;
+                overflowTasks.offer(overflowTask);
+            }
+        }
+        return overflowTasks.peek();
+    }
+
+    @Override
+    public int normalSize() {
+        // the heap is read racily when not called by the consumer thread
+        return normalQueue.size() + overflowQueue.size() + overflowTasks.size();
+    }
+
+    @Override
+    public int prioritySize() {
+        return priorityQueue.size();
+    }
+
+    @Override
+    public int size() {
+        return normalSize() + prioritySize();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        // the slots claimed by producers count, even if the tasks aren't written yet
+        return normalQueue.addedCount() == normalQueue.removedCount()
+                && overflowQueue.isEmpty()
+                && overflowTasks.isEmpty()
+                && priorityQueue.isEmpty();
+    }
+
+    private static final class OverflowTask {
+        // tasks with the same ticket keep the order they were added in
+        static final Comparator<OverflowTask> ORDER = Comparator.<OverflowTask>comparingLong(t -> t.addedCount)
+                .thenComparingLong(t -> t.sequence);
+
+        final Object task;
+        final long addedCount;
+        long sequence;
+
+        OverflowTask(Object task, long addedCount) {
+            this.task = task;
+            this.addedCount = addedCount;
+        }
+    }
+}
@@ -363,6 +363,19 @@ public final class ClusterProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.io.write.through", true);
 
+    /**
+     * Optimization that lets the outbound pipeline of a connection that has more
+     * data to send than fits in its send buffer, fill up to 4 send buffers and
+     * write them with a single gathering write, instead of writing a single send
+     * buffer and waiting for the socket to become writable again. This reduces
+     * the number of write calls and selector wakeups under load at the cost of
+     * extra send buffers per busy connection.
+     * <p>
+     * It is disabled by default.
+     */
+    public static final HazelcastProperty IO_WRITE_GATHERING_ENABLED
+            = new HazelcastProperty("hazelcast.io.write.gathering", false);
+
     /**
      * Property needed for concurrency detection so that write through can be
      * done correctly.
@@ -1170,6 +1183,24 @@ public final class ClusterProperty {
     public static final HazelcastProperty INDEX_COPY_BEHAVIOR
             = new HazelcastProperty("hazelcast.index.copy.behavior", IndexCopyBehavior.COPY_ON_READ.toString());
 
+    /**
+     * Enables the primitive-specialized store for sorted indexes on a single
+     * attribute. Values of {@code byte}, {@code short}, {@code int}, {@code long},
+     * {@code float}, {@code double} and {@link java.util.Date} attributes are then
+     * kept as primitive keys in a B+tree instead of a skip list of boxed values.
+     * If an attribute turns out to hold values of any other type, the index
+     * falls back to the generic sorted store.
+     * <p>
+     * The B+tree is updated in place under a lock, which its reads also take,
+     * while the generic store is read without locking.
+     * <p>
+     * The store is disabled by default.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty INDEX_NUMERIC_ORDERED_STORE_ENABLED
+            = new HazelcastProperty("hazelcast.index.numeric.ordered.store.enabled", false);
+
     /**
      * The number of threads that the client engine has available for processing
      * requests that are related to the query engine.
@@ -1459,6 +1490,52 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.operation.thread.count",
             (Function<HazelcastProperties, Integer>) properties -> max(2, RuntimeAvailableProcessors.get()));
 
+    /**
+     * The queue holding the pending operations of a partition operation thread.
+     * <ul>
+     * <li>{@code linked}: a linked lock-free queue, it allocates a node for
+     * every queued operation. This is the default.</li>
+     * <li>{@code array}: a lock-free queue backed by an array of
+     * {@link #PARTITION_OPERATION_THREAD_QUEUE_CAPACITY} slots, it doesn't
+     * allocate unless the array is full.</li>
+     * </ul>
+     * The queue isn't used if the thread-per-core mode is enabled.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_OPERATION_THREAD_QUEUE_TYPE
+            = new HazelcastProperty("hazelcast.operation.partitionthread.queue.type", "linked");
+
+    /**
+     * The number of array slots of a partition operation thread queue if
+     * {@link #PARTITION_OPERATION_THREAD_QUEUE_TYPE} is {@code array},
+     * rounded up to the next power of two. The operations queued while all
+     * slots are used are kept in a linked queue.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_OPERATION_THREAD_QUEUE_CAPACITY
+            = new HazelcastProperty("hazelcast.operation.partitionthread.queue.capacity", 16384);
+
+    /**
+     * What a partition operation thread does when its queue is empty:
+     * <ul>
+     * <li>{@code block}: it parks until an operation is queued. This is the
+     * default.</li>
+     * <li>{@code busyspin}: it spins, keeping its CPU busy.</li>
+     * <li>{@code backoff}: it spins, then yields and then parks for an
+     * increasing period. The limits can be given as {@code
+     * backoff,maxSpins,maxYields,minParkPeriodNs,maxParkPeriodNs}.</li>
+     * </ul>
+     * Spinning reduces the latency of handing an operation over to the
+     * thread, at the cost of CPU time. It only makes sense if there are
+     * not more partition threads than cores.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty PARTITION_OPERATION_THREAD_IDLE_STRATEGY
+            = new HazelcastProperty("hazelcast.operation.partitionthread.idlestrategy", "block");
+
     /**
      * The number of generic operation handler threads per member.
      * <p>
@@ -1612,6 +1689,37 @@ public final class ClusterProperty {
     public static final HazelcastProperty EVENT_SYNC_TIMEOUT_MILLIS
             = new HazelcastProperty("hazelcast.event.sync.timeout.millis", 5000, MILLISECONDS);
 
+    /**
+     * The maximum number of events published to a single listener registration
+     * which the {@link com.hazelcast.spi.impl.eventservice.impl.EventServiceImpl}
+     * collects into one batch. A batch is processed as a single task on the
+     * event executor and, when the listener is on a remote member, it is sent
+     * as a single packet. This reduces the per-event dispatch overhead and the
+     * number of slots used in the event queue when events are published at a
+     * high rate.
+     * <p>
+     * The events of a batch are delivered to the listener in the order in which
+     * they were published. When batching is enabled, all the events of a
+     * registration are processed by the same event thread.
+     * <p>
+     * Values less than or equal to {@code 1} disable batching.
+     *
+     * @see #EVENT_BATCH_LINGER_MILLIS
+     * @since 6.0
+     */
+    public static final HazelcastProperty EVENT_BATCH_SIZE
+            = new HazelcastProperty("hazelcast.event.batch.size", 1);
+
+    /**
+     * The maximum amount of time an event waits in a partially filled batch
+     * before the batch is dispatched. Only used if batching is enabled with
+     * {@link #EVENT_BATCH_SIZE}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty EVENT_BATCH_LINGER_MILLIS
+            = new HazelcastProperty("hazelcast.event.batch.linger.millis", 5, MILLISECONDS);
+
     /**
      * Enable or disable the sending of phone home data to Hazelcast’s phone home
      * server.
@@ -1865,6 +1973,25 @@ public final class ClusterProperty {
             = new HazelcastProperty("hazelcast.jet.idle.noncooperative.max.microseconds", 5000, MICROSECONDS)
             .setDeprecatedName("jet.idle.noncooperative.max.microseconds");
 
+    /**
+     * Enables work stealing among the cooperative worker threads. Cooperative
+     * tasklets are assigned to the workers round-robin when a job starts. With
+     * work stealing, a worker that has nothing to do takes over a tasklet that
+     * is ready to make progress from a worker which has several of them, so
+     * that a skewed load doesn't keep one worker saturated while the others
+     * are idle.
+     * <p>
+     * A stolen tasklet stays on its new worker for a while before it can move
+     * again, and a worker gives back the tasklets originally assigned to the
+     * thief first, to preserve the cache locality.
+     * <p>
+     * The default is {@code false}.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_COOPERATIVE_WORK_STEALING_ENABLED
+            = new HazelcastProperty("hazelcast.jet.cooperative.work.stealing.enabled", false);
+
     /**
      * The directory containing jars, that can be used to specify custom classpath for
      * a stage in a pipeline.
@@ -1875,6 +2002,17 @@ public final class ClusterProperty {
     public static final HazelcastProperty PROCESSOR_CUSTOM_LIB_DIR
             = new HazelcastProperty("hazelcast.jet.custom.lib.dir", "custom-lib");
 
+    /**
+     * The directory the Jet processors spill their state to, when the job
+     * has a {@linkplain com.hazelcast.jet.config.JobConfig#setSpillMemoryBudget(long)
+     * spill memory budget}. If not set, the {@code java.io.tmpdir} directory
+     * is used.
+     *
+     * @since 6.0
+     */
+    public static final HazelcastProperty JET_SPILL_DIRECTORY
+            = new HazelcastProperty("hazelcast.jet.spill.dir");
+
     /**
      * Controls whether cluster emojis can be used in log messages. This is just a hint for components calling the logging.
      *
@@ -1911,6 +2049,17 @@ public final class ClusterProperty {
     public static final HazelcastProperty SQL_TSTORE_ENABLED = new HazelcastProperty(
             "hazelcast.sql.tstore.enabled", false);
 
+    /**
+     * Enables compilation of SQL filter and projection expressions to
+     * bytecode. Expressions which can't be compiled are interpreted. The
+     * generated classes are cached together with the SQL plans.
+     *
+     * @since 6.0
+     */
+    @Beta
+    public static final HazelcastProperty SQL_EXPRESSION_COMPILATION_ENABLED = new HazelcastProperty(
+            "hazelcast.sql.expression.compilation.enabled", false);
+
 
     /**
      * When {@code true}, enables monitoring of the runtime environment to detect the intent of shutdown
@@ -0,0 +1,665 @@
+#define _GNU_SOURCE
+#include "iouring_helper.h"
+#include <errno.h>
+#include <stdlib.h>
+#include <string.h>
+#include <unistd.h>
+#include <netinet/in.h>
+#include <netinet/tcp.h>
+#include <sys/eventfd.h>
+#include <sys/mman.h>
+#include <sys/socket.h>
+#include <sys/syscall.h>
+#include <linux/io_uring.h>
+#include <linux/time_types.h>
+
+#define BUFFER_GROUP_ID 0
+
+struct hz_ring {
+    int ring_fd;
+    unsigned features;
+
+    void *sq_ptr;
+    size_t sq_len;
+    void *cq_ptr;
+    size_t cq_len;
+    struct io_uring_sqe *sqes;
+    size_t sqes_len;
+
+    unsigned *sq_head;
+    unsigned *sq_tail;
+    unsigned sq_mask;
+    unsigned sq_entries;
+    unsigned *sq_array;
+    /* the tail of the prepared, but not yet submitted, sqes */
+    unsigned sqe_tail;
+
+    unsigned *cq_head;
+    unsigned *cq_tail;
+    unsigned cq_mask;
+    struct io_uring_cqe *cqes;
+
+    struct io_uring_buf_ring *buf_ring;
+    size_t buf_ring_len;
+    unsigned char *bufs;
+    size_t bufs_len;
+    unsigned buf_count;
+    unsigned buf_size;
+    unsigned short buf_tail;
+};
+
+static void throw_io_exception(JNIEnv *env, const char *msg, int err)
+{
+    char buf[256];
+    jclass cls = (*env)->FindClass(env, "java/io/IOException");
+    if (cls == NULL) {
+        return;
+    }
+    snprintf(buf, sizeof(buf), "%s: %s", msg, strerror(err));
+    (*env)->ThrowNew(env, cls, buf);
+}
+
+static int sys_setup(unsigned entries, struct io_uring_params *p)
+{
+    return (int) syscall(__NR_io_uring_setup, entries, p);
+}
+
+static int sys_enter(int fd, unsigned to_submit, unsigned min_complete, unsigned flags, void *arg, size_t argsz)
+{
+    return (int) syscall(__NR_io_uring_enter, fd, to_submit, min_complete, flags, arg, argsz);
+}
+
+static int sys_register(int fd, unsigned opcode, void *arg, unsigned nr_args)
+{
+    return (int) syscall(__NR_io_uring_register, fd, opcode, arg, nr_args);
+}
+
+static void ring_unmap(struct hz_ring *r)
+{
+    if (r->sqes != NULL && r->sqes != MAP_FAILED) {
+        munmap(r->sqes, r->sqes_len);
+    }
+    if (r->cq_ptr != NULL && r->cq_ptr != MAP_FAILED && r->cq_ptr != r->sq_ptr) {
+        munmap(r->cq_ptr, r->cq_len);
+    }
+    if (r->sq_ptr != NULL && r->sq_ptr != MAP_FAILED) {
+        munmap(r->sq_ptr, r->sq_len);
+    }
+    if (r->buf_ring != NULL && r->buf_ring != MAP_FAILED) {
+        munmap(r->buf_ring, r->buf_ring_len);
+    }
+    if (r->bufs != NULL && r->bufs != MAP_FAILED) {
+        munmap(r->bufs, r->bufs_len);
+    }
+}
+
+static int ring_init(struct hz_ring *r, unsigned entries)
+{
+    struct io_uring_params p;
+    unsigned i;
+
+    memset(r, 0, sizeof(*r));
+    memset(&p, 0, sizeof(p));
+    p.flags = IORING_SETUP_SUBMIT_ALL | IORING_SETUP_SINGLE_ISSUER;
+    r->ring_fd = sys_setup(entries, &p);
+    if (r->ring_fd < 0 && errno == EINVAL) {
+        memset(&p, 0, sizeof(p));
+        r->ring_fd = sys_setup(entries, &p);
+    }
+    if (r->ring_fd < 0) {
+        return -errno;
+    }
+    r->features = p.features;
+
+    r->sq_len = p.sq_off.array + p.sq_entries * sizeof(unsigned);
+    r->cq_len = p.cq_off.cqes + p.cq_entries * sizeof(struct io_uring_cqe);
+    if (p.features & IORING_FEAT_SINGLE_MMAP) {
+        if (r->cq_len > r->sq_len) {
+            r->sq_len = r->cq_len;
+        }
+        r->cq_len = r->sq_len;
+    }
+
+    r->sq_ptr = mmap(NULL, r->sq_len, PROT_READ | PROT_WRITE, MAP_SHARED | MAP_POPULATE, r->ring_fd, IORING_OFF_SQ_RING);
+    if (r->sq_ptr == MAP_FAILED) {
+        goto fail;
+    }
+    if (p.features & IORING_FEAT_SINGLE_MMAP) {
+        r->cq_ptr = r->sq_ptr;
+    } else {
+        r->cq_ptr = mmap(NULL, r->cq_len, PROT_READ | PROT_WRITE, MAP_SHARED | MAP_POPULATE, r->ring_fd, IORING_OFF_CQ_RING);
+        if (r->cq_ptr == MAP_FAILED) {
+            goto fail;
+        }
+    }
+    r->sqes_len = p.sq_entries * sizeof(struct io_uring_sqe);
+    r->sqes = mmap(NULL, r->sqes_len, PROT_READ | PROT_WRITE, MAP_SHARED | MAP_POPULATE, r->ring_fd, IORING_OFF_SQES);
+    if (r->sqes == MAP_FAILED) {
+        goto fail;
+    }
+
+    r->sq_head = (unsigned *) ((char *) r->sq_ptr + p.sq_off.head);
+    r->sq_tail = (unsigned *) ((char *) r->sq_ptr + p.sq_off.tail);
+    r->sq_mask = *(unsigned *) ((char *) r->sq_ptr + p.sq_off.ring_mask);
+    r->sq_entries = p.sq_entries;
+    r->sq_array = (unsigned *) ((char *) r->sq_ptr + p.sq_off.array);
+    r->sqe_tail = *r->sq_tail;
+    /* sqe i is always at index i of the sq array */
+    for (i = 0; i < p.sq_entries; i++) {
+        r->sq_array[i] = i;
+    }
+
+    r->cq_head = (unsigned *) ((char *) r->cq_ptr + p.cq_off.head);
+    r->cq_tail = (unsigned *) ((char *) r->cq_ptr + p.cq_off.tail);
+    r->cq_mask = *(unsigned *) ((char *) r->cq_ptr + p.cq_off.ring_mask);
+    r->cqes = (struct io_uring_cqe *) ((char *) r->cq_ptr + p.cq_off.cqes);
+    return 0;
+
+fail:
+    {
+        int err = -errno;
+        ring_unmap(r);
+        close(r->ring_fd);
+        return err;
+    }
+}
+
+static int buf_ring_init(struct hz_ring *r, unsigned count, unsigned size)
+{
+    struct io_uring_buf_reg reg;
+    unsigned i;
+
+    r->buf_count = count;
+    r->buf_size = size;
+    r->buf_ring_len = count * sizeof(struct io_uring_buf);
+    r->buf_ring = mmap(NULL, r->buf_ring_len, PROT_READ | PROT_WRITE, MAP_PRIVATE | MAP_ANONYMOUS, -1, 0);
+    if (r->buf_ring == MAP_FAILED) {
+        r->buf_ring = NULL;
+        return -errno;
+    }
+    r->bufs_len = (size_t) count * size;
+    r->bufs = mmap(NULL, r->bufs_len, PROT_READ | PROT_WRITE, MAP_PRIVATE | MAP_ANONYMOUS, -1, 0);
+    if (r->bufs == MAP_FAILED) {
+        r->bufs = NULL;
+        return -errno;
+    }
+
+    memset(&reg, 0, sizeof(reg));
+    reg.ring_addr = (unsigned long) r->buf_ring;
+    reg.ring_entries = count;
+    reg.bgid = BUFFER_GROUP_ID;
+    if (sys_register(r->ring_fd, IORING_REGISTER_PBUF_RING, &reg, 1) < 0) {
+        return -errno;
+    }
+
+    r->buf_tail = 0;
+    for (i = 0; i < count; i++) {
+        struct io_uring_buf *buf = &r->buf_ring->bufs[(r->buf_tail + i) & (count - 1)];
+        buf->addr = (unsigned long) (r->bufs + (size_t) i * size);
+        buf->len = size;
+        buf->bid = (unsigned short) i;
+    }
+    r->buf_tail += count;
+    __atomic_store_n(&r->buf_ring->tail, r->buf_tail, __ATOMIC_RELEASE);
+    return 0;
+}
+
+static void ring_exit(struct hz_ring *r)
+{
+    if (r->buf_ring != NULL) {
+        struct io_uring_buf_reg reg;
+        memset(&reg, 0, sizeof(reg));
+        reg.bgid = BUFFER_GROUP_ID;
+        sys_register(r->ring_fd, IORING_UNREGISTER_PBUF_RING, &reg, 1);
+    }
+    close(r->ring_fd);
+    ring_unmap(r);
+}
+
+static int ring_submit(struct hz_ring *r, unsigned min_complete, unsigned flags, void *arg, size_t argsz)
+{
+    unsigned to_submit = r->sqe_tail - *r->sq_tail;
+    int res;
+
+    __atomic_store_n(r->sq_tail, r->sqe_tail, __ATOMIC_RELEASE);
+    if (to_submit == 0 && min_complete == 0) {
+        return 0;
+    }
+    res = sys_enter(r->ring_fd, to_submit, min_complete, flags, arg, argsz);
+    if (res < 0) {
+        /* an interrupted or timed out wait is not an error */
+        if (errno == EINTR || errno == ETIME || errno == EAGAIN || errno == EBUSY) {
+            return 0;
+        }
+        return -errno;
+    }
+    return res;
+}
+
+static struct io_uring_sqe *get_sqe(struct hz_ring *r)
+{
+    struct io_uring_sqe *sqe;
+    unsigned head = __atomic_load_n(r->sq_head, __ATOMIC_ACQUIRE);
+
+    if (r->sqe_tail - head >= r->sq_entries) {
+        /* the submission queue is full, submit what has been prepared */
+        ring_submit(r, 0, 0, NULL, 0);
+        head = __atomic_load_n(r->sq_head, __ATOMIC_ACQUIRE);
+        if (r->sqe_tail - head >= r->sq_entries) {
+            return NULL;
+        }
+    }
+    sqe = &r->sqes[r->sqe_tail & r->sq_mask];
+    r->sqe_tail++;
+    memset(sqe, 0, sizeof(*sqe));
+    return sqe;
+}
+
+static int fill_sockaddr(int fd, struct sockaddr_storage *ss, socklen_t *len, const jbyte *addr, jsize addr_len, jint port)
+{
+    struct sockaddr_storage local;
+    socklen_t local_len = sizeof(local);
+
+    if (getsockname(fd, (struct sockaddr *) &local, &local_len) < 0) {
+        return -errno;
+    }
+    memset(ss, 0, sizeof(*ss));
+    if (local.ss_family == AF_INET6) {
+        struct sockaddr_in6 *sin6 = (struct sockaddr_in6 *) ss;
+        sin6->sin6_family = AF_INET6;
+        sin6->sin6_port = htons((unsigned short) port);
+        if (addr_len == 4) {
+            /* IPv4-mapped IPv6 address */
+            sin6->sin6_addr.s6_addr[10] = 0xff;
+            sin6->sin6_addr.s6_addr[11] = 0xff;
+            memcpy(&sin6->sin6_addr.s6_addr[12], addr, 4);
+        } else if (addr_len == 16) {
+            memcpy(&sin6->sin6_addr, addr, 16);
+        } else {
+            return -EINVAL;
+        }
+        *len = sizeof(struct sockaddr_in6);
+    } else {
+        struct sockaddr_in *sin = (struct sockaddr_in *) ss;
+        if (addr_len != 4) {
+            return -EAFNOSUPPORT;
+        }
+        sin->sin_family = AF_INET;
+        sin->sin_port = htons((unsigned short) port);
+        memcpy(&sin->sin_addr, addr, 4);
+        *len = sizeof(struct sockaddr_in);
+    }
+    return 0;
+}
+
+static int check_ops(int ring_fd)
+{
+    static const int ops[] = {
+            IORING_OP_ACCEPT, IORING_OP_RECV, IORING_OP_SEND, IORING_OP_CONNECT, IORING_OP_READ, IORING_OP_ASYNC_CANCEL
+    };
+    size_t len = sizeof(struct io_uring_probe) + 256 * sizeof(struct io_uring_probe_op);
+    struct io_uring_probe *probe = calloc(1, len);
+    size_t i;
+    int res = 0;
+
+    if (probe == NULL) {
+        return -ENOMEM;
+    }
+    if (sys_register(ring_fd, IORING_REGISTER_PROBE, probe, 256) < 0) {
+        res = -errno;
+    } else {
+        for (i = 0; i < sizeof(ops) / sizeof(ops[0]); i++) {
+            if (ops[i] > probe->last_op || !(probe->ops[ops[i]].flags & IO_URING_OP_SUPPORTED)) {
+                res = -EOPNOTSUPP;
+                break;
+            }
+        }
+    }
+    free(probe);
+    return res;
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_checkSupport
+  (JNIEnv *env, jclass cls)
+{
+    struct hz_ring r;
+    int res = ring_init(&r, 2);
+
+    if (res < 0) {
+        return res;
+    }
+    if (!(r.features & IORING_FEAT_EXT_ARG)) {
+        res = -EOPNOTSUPP;
+    } else {
+        res = check_ops(r.ring_fd);
+    }
+    if (res == 0) {
+        res = buf_ring_init(&r, 2, 64);
+    }
+    ring_exit(&r);
+    return res;
+}
+
+JNIEXPORT jlong JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_setup
+  (JNIEnv *env, jclass cls, jint entries, jint buffer_count, jint buffer_size)
+{
+    struct hz_ring *r = malloc(sizeof(struct hz_ring));
+    int res;
+
+    if (r == NULL) {
+        throw_io_exception(env, "Failed to allocate the ring", ENOMEM);
+        return 0;
+    }
+    res = ring_init(r, (unsigned) entries);
+    if (res < 0) {
+        free(r);
+        throw_io_exception(env, "io_uring_setup failed", -res);
+        return 0;
+    }
+    res = buf_ring_init(r, (unsigned) buffer_count, (unsigned) buffer_size);
+    if (res < 0) {
+        ring_exit(r);
+        free(r);
+        throw_io_exception(env, "Failed to register the provided buffer ring", -res);
+        return 0;
+    }
+    return (jlong) (intptr_t) r;
+}
+
+JNIEXPORT void JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_exit
+  (JNIEnv *env, jclass cls, jlong ring)
+{
+    struct hz_ring *r = (struct hz_ring *) (intptr_t) ring;
+    ring_exit(r);
+    free(r);
+}
+
+JNIEXPORT jobject JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_buffers
+  (JNIEnv *env, jclass cls, jlong ring)
+{
+    struct hz_ring *r = (struct hz_ring *) (intptr_t) ring;
+    return (*env)->NewDirectByteBuffer(env, r->bufs, (jlong) r->bufs_len);
+}
+
+JNIEXPORT void JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_recycleBuffer
+  (JNIEnv *env, jclass cls, jlong ring, jint bid)
+{
+    struct hz_ring *r = (struct hz_ring *) (intptr_t) ring;
+    struct io_uring_buf *buf = &r->buf_ring->bufs[r->buf_tail & (r->buf_count - 1)];
+
+    buf->addr = (unsigned long) (r->bufs + (size_t) bid * r->buf_size);
+    buf->len = r->buf_size;
+    buf->bid = (unsigned short) bid;
+    r->buf_tail++;
+    __atomic_store_n(&r->buf_ring->tail, r->buf_tail, __ATOMIC_RELEASE);
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_enter
+  (JNIEnv *env, jclass cls, jlong ring, jboolean wait, jlong timeout_nanos)
+{
+    struct hz_ring *r = (struct hz_ring *) (intptr_t) ring;
+    struct io_uring_getevents_arg arg;
+    struct __kernel_timespec ts;
+
+    if (!wait) {
+        return ring_submit(r, 0, 0, NULL, 0);
+    }
+    if (timeout_nanos < 0) {
+        return ring_submit(r, 1, IORING_ENTER_GETEVENTS, NULL, 0);
+    }
+    ts.tv_sec = timeout_nanos / 1000000000L;
+    ts.tv_nsec = timeout_nanos % 1000000000L;
+    memset(&arg, 0, sizeof(arg));
+    arg.ts = (unsigned long) &ts;
+    return ring_submit(r, 1, IORING_ENTER_GETEVENTS | IORING_ENTER_EXT_ARG, &arg, sizeof(arg));
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_harvest
+  (JNIEnv *env, jclass cls, jlong ring, jlongArray cqes)
+{
+    struct hz_ring *r = (struct hz_ring *) (intptr_t) ring;
+    unsigned head = *r->cq_head;
+    unsigned tail = __atomic_load_n(r->cq_tail, __ATOMIC_ACQUIRE);
+    jsize capacity = (*env)->GetArrayLength(env, cqes) / 2;
+    jlong *dst;
+    jint count = 0;
+
+    if (head == tail) {
+        return 0;
+    }
+    dst = (*env)->GetPrimitiveArrayCritical(env, cqes, NULL);
+    if (dst == NULL) {
+        return 0;
+    }
+    while (head != tail && count < capacity) {
+        struct io_uring_cqe *cqe = &r->cqes[head & r->cq_mask];
+        dst[2 * count] = (jlong) cqe->user_data;
+        dst[2 * count + 1] = ((jlong) cqe->res << 32) | (jlong) cqe->flags;
+        head++;
+        count++;
+    }
+    (*env)->ReleasePrimitiveArrayCritical(env, cqes, dst, 0);
+    __atomic_store_n(r->cq_head, head, __ATOMIC_RELEASE);
+    return count;
+}
+
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepAcceptMultishot
+  (JNIEnv *env, jclass cls, jlong ring, jint fd, jlong user_data)
+{
+    struct io_uring_sqe *sqe = get_sqe((struct hz_ring *) (intptr_t) ring);
+    if (sqe == NULL) {
+        return JNI_FALSE;
+    }
+    sqe->opcode = IORING_OP_ACCEPT;
+    sqe->fd = fd;
+    sqe->ioprio = IORING_ACCEPT_MULTISHOT;
+    sqe->accept_flags = SOCK_CLOEXEC;
+    sqe->user_data = (unsigned long long) user_data;
+    return JNI_TRUE;
+}
+
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepRecvMultishot
+  (JNIEnv *env, jclass cls, jlong ring, jint fd, jlong user_data)
+{
+    struct io_uring_sqe *sqe = get_sqe((struct hz_ring *) (intptr_t) ring);
+    if (sqe == NULL) {
+        return JNI_FALSE;
+    }
+    sqe->opcode = IORING_OP_RECV;
+    sqe->fd = fd;
+    sqe->ioprio = IORING_RECV_MULTISHOT;
+    sqe->flags = IOSQE_BUFFER_SELECT;
+    sqe->buf_group = BUFFER_GROUP_ID;
+    sqe->user_data = (unsigned long long) user_data;
+    return JNI_TRUE;
+}
+
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepSend
+  (JNIEnv *env, jclass cls, jlong ring, jint fd, jobject buffer, jint offset, jint length, jlong user_data)
+{
+    char *address = (*env)->GetDirectBufferAddress(env, buffer);
+    struct io_uring_sqe *sqe = get_sqe((struct hz_ring *) (intptr_t) ring);
+    if (sqe == NULL) {
+        return JNI_FALSE;
+    }
+    sqe->opcode = IORING_OP_SEND;
+    sqe->fd = fd;
+    sqe->addr = (unsigned long) (address + offset);
+    sqe->len = (unsigned) length;
+    sqe->msg_flags = MSG_NOSIGNAL;
+    sqe->user_data = (unsigned long long) user_data;
+    return JNI_TRUE;
+}
+
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepConnect
+  (JNIEnv *env, jclass cls, jlong ring, jint fd, jobject sockaddr, jbyteArray addr, jint port, jlong user_data)
+{
+    struct sockaddr_storage *ss = (*env)->GetDirectBufferAddress(env, sockaddr);
+    jsize addr_len = (*env)->GetArrayLength(env, addr);
+    jbyte bytes[16];
+    socklen_t len;
+    struct io_uring_sqe *sqe;
+    int res;
+
+    if (addr_len > 16) {
+        addr_len = 16;
+    }
+    (*env)->GetByteArrayRegion(env, addr, 0, addr_len, bytes);
+    res = fill_sockaddr(fd, ss, &len, bytes, addr_len, port);
+    if (res < 0) {
+        throw_io_exception(env, "Invalid connect address", -res);
+        return JNI_FALSE;
+    }
+    sqe = get_sqe((struct hz_ring *) (intptr_t) ring);
+    if (sqe == NULL) {
+        return JNI_FALSE;
+    }
+    sqe->opcode = IORING_OP_CONNECT;
+    sqe->fd = fd;
+    sqe->addr = (unsigned long) ss;
+    sqe->off = len;
+    sqe->user_data = (unsigned long long) user_data;
+    return JNI_TRUE;
+}
+
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepRead
+  (JNIEnv *env, jclass cls, jlong ring, jint fd, jobject buffer, jint length, jlong user_data)
+{
+    void *address = (*env)->GetDirectBufferAddress(env, buffer);
+    struct io_uring_sqe *sqe = get_sqe((struct hz_ring *) (intptr_t) ring);
+    if (sqe == NULL) {
+        return JNI_FALSE;
+    }
+    sqe->opcode = IORING_OP_READ;
+    sqe->fd = fd;
+    sqe->addr = (unsigned long) address;
+    sqe->len = (unsigned) length;
+    sqe->user_data = (unsigned long long) user_data;
+    return JNI_TRUE;
+}
+
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepCancel
+  (JNIEnv *env, jclass cls, jlong ring, jlong target_user_data, jlong user_data)
+{
+    struct io_uring_sqe *sqe = get_sqe((struct hz_ring *) (intptr_t) ring);
+    if (sqe == NULL) {
+        return JNI_FALSE;
+    }
+    sqe->opcode = IORING_OP_ASYNC_CANCEL;
+    sqe->fd = -1;
+    sqe->addr = (unsigned long long) target_user_data;
+    sqe->user_data = (unsigned long long) user_data;
+    return JNI_TRUE;
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_socket
+  (JNIEnv *env, jclass cls)
+{
+    int off = 0;
+    int fd = socket(AF_INET6, SOCK_STREAM | SOCK_CLOEXEC, 0);
+    if (fd >= 0) {
+        if (setsockopt(fd, IPPROTO_IPV6, IPV6_V6ONLY, &off, sizeof(off)) < 0) {
+            int err = errno;
+            close(fd);
+            return -err;
+        }
+        return fd;
+    }
+    fd = socket(AF_INET, SOCK_STREAM | SOCK_CLOEXEC, 0);
+    return fd < 0 ? -errno : fd;
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_bind
+  (JNIEnv *env, jclass cls, jint fd, jbyteArray addr, jint port)
+{
+    struct sockaddr_storage ss;
+    socklen_t len;
+    jsize addr_len = (*env)->GetArrayLength(env, addr);
+    jbyte bytes[16];
+    int res;
+
+    if (addr_len > 16) {
+        return -EINVAL;
+    }
+    (*env)->GetByteArrayRegion(env, addr, 0, addr_len, bytes);
+    res = fill_sockaddr(fd, &ss, &len, bytes, addr_len, port);
+    if (res < 0) {
+        return res;
+    }
+    return bind(fd, (struct sockaddr *) &ss, len) < 0 ? -errno : 0;
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_listen
+  (JNIEnv *env, jclass cls, jint fd, jint backlog)
+{
+    return listen(fd, backlog) < 0 ? -errno : 0;
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_sockaddr
+  (JNIEnv *env, jclass cls, jint fd, jboolean peer, jbyteArray addr)
+{
+    struct sockaddr_storage ss;
+    socklen_t len = sizeof(ss);
+    int res = peer
+            ? getpeername(fd, (struct sockaddr *) &ss, &len)
+            : getsockname(fd, (struct sockaddr *) &ss, &len);
+
+    if (res < 0) {
+        return -errno;
+    }
+    if (ss.ss_family == AF_INET6) {
+        struct sockaddr_in6 *sin6 = (struct sockaddr_in6 *) &ss;
+        (*env)->SetByteArrayRegion(env, addr, 0, 16, (jbyte *) &sin6->sin6_addr);
+        return (16 << 16) | ntohs(sin6->sin6_port);
+    } else if (ss.ss_family == AF_INET) {
+        struct sockaddr_in *sin = (struct sockaddr_in *) &ss;
+        (*env)->SetByteArrayRegion(env, addr, 0, 4, (jbyte *) &sin->sin_addr);
+        return (4 << 16) | ntohs(sin->sin_port);
+    }
+    return -EAFNOSUPPORT;
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_setIntOption
+  (JNIEnv *env, jclass cls, jint fd, jint level, jint name, jint value)
+{
+    return setsockopt(fd, level, name, &value, sizeof(value)) < 0 ? -errno : 0;
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_getIntOption
+  (JNIEnv *env, jclass cls, jint fd, jint level, jint name)
+{
+    int value = 0;
+    socklen_t len = sizeof(value);
+    return getsockopt(fd, level, name, &value, &len) < 0 ? -errno : value;
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_shutdown
+  (JNIEnv *env, jclass cls, jint fd, jint how)
+{
+    return shutdown(fd, how) < 0 ? -errno : 0;
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_close
+  (JNIEnv *env, jclass cls, jint fd)
+{
+    return close(fd) < 0 ? -errno : 0;
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_eventfd
+  (JNIEnv *env, jclass cls)
+{
+    int fd = eventfd(0, EFD_CLOEXEC);
+    return fd < 0 ? -errno : fd;
+}
+
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_eventfdWrite
+  (JNIEnv *env, jclass cls, jint fd)
+{
+    return eventfd_write(fd, 1) < 0 ? -errno : 0;
+}
+
+JNIEXPORT jstring JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_strerror
+  (JNIEnv *env, jclass cls, jint err)
+{
+    return (*env)->NewStringUTF(env, strerror(err));
+}
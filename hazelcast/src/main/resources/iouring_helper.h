@@ -0,0 +1,229 @@
+/* DO NOT EDIT THIS FILE - it is machine generated */
+#include <jni.h>
+/* Header for class com_hazelcast_internal_tpcengine_iouring_IOUring */
+
+#ifndef _Included_com_hazelcast_internal_tpcengine_iouring_IOUring
+#define _Included_com_hazelcast_internal_tpcengine_iouring_IOUring
+#ifdef __cplusplus
+extern "C" {
+#endif
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_IORING_CQE_F_BUFFER
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_IORING_CQE_F_BUFFER 1L
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_IORING_CQE_F_MORE
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_IORING_CQE_F_MORE 2L
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_IORING_CQE_BUFFER_SHIFT
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_IORING_CQE_BUFFER_SHIFT 16L
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_ECANCELED
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_ECANCELED 125L
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_ENOBUFS
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_ENOBUFS 105L
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_EINVAL
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_EINVAL 22L
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_SHUT_RDWR
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_SHUT_RDWR 2L
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_MIN_KERNEL_MAJOR_VERSION
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_MIN_KERNEL_MAJOR_VERSION 6L
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_IPV4_ADDRESS_LENGTH
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_IPV4_ADDRESS_LENGTH 4L
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_IPV6_ADDRESS_LENGTH
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_IPV6_ADDRESS_LENGTH 16L
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_SOCKADDR_ADDRESS_LENGTH_SHIFT
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_SOCKADDR_ADDRESS_LENGTH_SHIFT 16L
+#undef com_hazelcast_internal_tpcengine_iouring_IOUring_SOCKADDR_PORT_MASK
+#define com_hazelcast_internal_tpcengine_iouring_IOUring_SOCKADDR_PORT_MASK 65535L
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    checkSupport
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_checkSupport
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    setup
+ * Signature: (III)J
+ */
+JNIEXPORT jlong JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_setup
+  (JNIEnv *, jclass, jint, jint, jint);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    exit
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_exit
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    buffers
+ * Signature: (J)Ljava/nio/ByteBuffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_buffers
+  (JNIEnv *, jclass, jlong);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    recycleBuffer
+ * Signature: (JI)V
+ */
+JNIEXPORT void JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_recycleBuffer
+  (JNIEnv *, jclass, jlong, jint);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    enter
+ * Signature: (JZJ)I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_enter
+  (JNIEnv *, jclass, jlong, jboolean, jlong);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    harvest
+ * Signature: (J[J)I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_harvest
+  (JNIEnv *, jclass, jlong, jlongArray);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    prepAcceptMultishot
+ * Signature: (JIJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepAcceptMultishot
+  (JNIEnv *, jclass, jlong, jint, jlong);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    prepRecvMultishot
+ * Signature: (JIJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepRecvMultishot
+  (JNIEnv *, jclass, jlong, jint, jlong);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    prepSend
+ * Signature: (JILjava/nio/ByteBuffer;IIJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepSend
+  (JNIEnv *, jclass, jlong, jint, jobject, jint, jint, jlong);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    prepConnect
+ * Signature: (JILjava/nio/ByteBuffer;[BIJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepConnect
+  (JNIEnv *, jclass, jlong, jint, jobject, jbyteArray, jint, jlong);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    prepRead
+ * Signature: (JILjava/nio/ByteBuffer;IJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepRead
+  (JNIEnv *, jclass, jlong, jint, jobject, jint, jlong);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    prepCancel
+ * Signature: (JJJ)Z
+ */
+JNIEXPORT jboolean JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_prepCancel
+  (JNIEnv *, jclass, jlong, jlong, jlong);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    socket
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_socket
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    bind
+ * Signature: (I[BI)I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_bind
+  (JNIEnv *, jclass, jint, jbyteArray, jint);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    listen
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_listen
+  (JNIEnv *, jclass, jint, jint);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    sockaddr
+ * Signature: (IZ[B)I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_sockaddr
+  (JNIEnv *, jclass, jint, jboolean, jbyteArray);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    setIntOption
+ * Signature: (IIII)I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_setIntOption
+  (JNIEnv *, jclass, jint, jint, jint, jint);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    getIntOption
+ * Signature: (III)I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_getIntOption
+  (JNIEnv *, jclass, jint, jint, jint);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    shutdown
+ * Signature: (II)I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_shutdown
+  (JNIEnv *, jclass, jint, jint);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    close
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_close
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    eventfd
+ * Signature: ()I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_eventfd
+  (JNIEnv *, jclass);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    eventfdWrite
+ * Signature: (I)I
+ */
+JNIEXPORT jint JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_eventfdWrite
+  (JNIEnv *, jclass, jint);
+
+/*
+ * Class:     com_hazelcast_internal_tpcengine_iouring_IOUring
+ * Method:    strerror
+ * Signature: (I)Ljava/lang/String;
+ */
+JNIEXPORT jstring JNICALL Java_com_hazelcast_internal_tpcengine_iouring_IOUring_strerror
+  (JNIEnv *, jclass, jint);
+
+#ifdef __cplusplus
+}
+#endif
+#endif
@@ -182,6 +182,7 @@ public abstract class AbstractClientConfigBuilderTest extends HazelcastTestSuppo
         assertTrue(nearCacheConfig.isInvalidateOnChange());
         assertTrue(nearCacheConfig.isSerializeKeys());
         assertEquals(InMemoryFormat.OBJECT, nearCacheConfig.getInMemoryFormat());
+        assertEquals(NearCacheConfig.AdmissionPolicy.TINY_LFU, nearCacheConfig.getAdmissionPolicy());
 
         final NearCacheConfig evictableNearCacheConfig = fullClientConfig.getNearCacheConfig("NearCacheEvictionConfigExample");
         EvictionConfig nearCacheEvictionConfig = evictableNearCacheConfig.getEvictionConfig();
@@ -92,6 +92,7 @@ import static com.hazelcast.client.config.ClientSqlResubmissionMode.RETRY_SELECT
 import static com.hazelcast.client.config.impl.ClientAliasedDiscoveryConfigUtils.aliasedDiscoveryConfigsFrom;
 import static com.hazelcast.config.EvictionPolicy.LFU;
 import static com.hazelcast.config.MaxSizePolicy.USED_NATIVE_MEMORY_SIZE;
+import static com.hazelcast.config.NearCacheConfig.AdmissionPolicy.TINY_LFU;
 import static com.hazelcast.config.NearCacheConfig.LocalUpdatePolicy.CACHE_ON_UPDATE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
@@ -578,6 +579,7 @@ public class ClientConfigXmlGeneratorTest extends HazelcastTestSupport {
             .setTimeToLiveSeconds(randomInt())
             .setMaxIdleSeconds(randomInt())
             .setLocalUpdatePolicy(CACHE_ON_UPDATE)
+            .setAdmissionPolicy(TINY_LFU)
             .setName(name);
         return expected;
     }
@@ -341,6 +341,7 @@ public class ConfigCompatibilityChecker {
                 && c1.getMaxIdleSeconds() == c2.getMaxIdleSeconds()
                 && c1.getInMemoryFormat() == c2.getInMemoryFormat()
                 && c1.getLocalUpdatePolicy() == c2.getLocalUpdatePolicy()
+                && c1.getAdmissionPolicy() == c2.getAdmissionPolicy()
                 && isCompatible(c1.getEvictionConfig(), c2.getEvictionConfig())
                 && nullSafeEqual(c1.getPreloaderConfig(), c2.getPreloaderConfig())
             );
@@ -77,6 +77,11 @@ public class NearCacheConfigReadOnlyTest {
         getReadOnlyConfig().setLocalUpdatePolicy(NearCacheConfig.LocalUpdatePolicy.CACHE_ON_UPDATE);
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void setAdmissionPolicyOnReadOnlyNearCacheConfigShouldFail() {
+        getReadOnlyConfig().setAdmissionPolicy(NearCacheConfig.AdmissionPolicy.TINY_LFU);
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void setEvictionConfigOnReadOnlyNearCacheConfigShouldFail() {
         getReadOnlyConfig().setEvictionConfig(new EvictionConfig());
@@ -157,6 +157,7 @@ public class NearCacheConfigTest {
         config.setTimeToLiveSeconds(23);
         config.setMaxIdleSeconds(42);
         config.setLocalUpdatePolicy(NearCacheConfig.LocalUpdatePolicy.CACHE_ON_UPDATE);
+        config.setAdmissionPolicy(NearCacheConfig.AdmissionPolicy.TINY_LFU);
 
         SerializationService serializationService = new DefaultSerializationServiceBuilder().build();
         Data serialized = serializationService.toData(config);
@@ -169,6 +170,7 @@ public class NearCacheConfigTest {
         assertEquals(config.getTimeToLiveSeconds(), deserialized.getTimeToLiveSeconds());
         assertEquals(config.getMaxIdleSeconds(), deserialized.getMaxIdleSeconds());
         assertEquals(config.getLocalUpdatePolicy(), deserialized.getLocalUpdatePolicy());
+        assertEquals(config.getAdmissionPolicy(), deserialized.getAdmissionPolicy());
         assertEquals(config.toString(), deserialized.toString());
     }
 
@@ -1081,6 +1081,48 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
         assertTrue(mapConfig.isPerEntryStatsEnabled());
     }
 
+    @Test
+    public void testMapConfig_offHeapStorageEnabled() {
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"mymap\">"
+                + "<off-heap-storage-enabled>true</off-heap-storage-enabled>"
+                + "</map>"
+                + HAZELCAST_END_TAG;
+
+        Config config = buildConfig(xml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isOffHeapStorageEnabled());
+    }
+
+    @Test
+    public void testMapConfig_columnarStorageEnabled() {
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"mymap\">"
+                + "<columnar-storage-enabled>true</columnar-storage-enabled>"
+                + "</map>"
+                + HAZELCAST_END_TAG;
+
+        Config config = buildConfig(xml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isColumnarStorageEnabled());
+    }
+
+    @Test
+    public void testMapConfig_getCoalescingEnabled() {
+        String xml = HAZELCAST_START_TAG
+                + "<map name=\"mymap\">"
+                + "<get-coalescing-enabled>true</get-coalescing-enabled>"
+                + "</map>"
+                + HAZELCAST_END_TAG;
+
+        Config config = buildConfig(xml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isGetCoalescingEnabled());
+    }
+
     @Override
     @Test
     public void testMapConfig_metadataPolicy_defaultValue() {
@@ -2718,6 +2760,10 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
                 + "               <attributes>\n"
                 + "                   <attribute>name</attribute>\n"
                 + "               </attributes>\n"
+                + "               <included-attributes>\n"
+                + "                   <attribute>age</attribute>\n"
+                + "                   <attribute>address.city</attribute>\n"
+                + "               </included-attributes>\n"
                 + "           </index>\n"
                 + "           <index>\n"
                 + "               <attributes>\n"
@@ -2745,7 +2791,9 @@ public class XMLConfigBuilderTest extends AbstractConfigBuilderTest {
         List<IndexConfig> indexConfigs = mapConfig.getIndexConfigs();
         assertFalse(indexConfigs.isEmpty());
         assertIndexEqual("name", false, indexConfigs.get(0));
+        assertEquals(List.of("age", "address.city"), indexConfigs.get(0).getIncludedAttributes());
         assertIndexEqual("age", true, indexConfigs.get(1));
+        assertTrue(indexConfigs.get(1).getIncludedAttributes().isEmpty());
         assertIndexEqual("age", true, indexConfigs.get(2));
         BTreeIndexConfig bTreeIndexConfig = indexConfigs.get(2).getBTreeIndexConfig();
         assertEquals(Capacity.of(1337, MemoryUnit.BYTES), bTreeIndexConfig.getPageSize());
@@ -1089,6 +1089,48 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
         assertTrue(mapConfig.isStatisticsEnabled());
     }
 
+    @Test
+    public void testMapConfig_offHeapStorageEnabled() {
+        String yaml = """
+                hazelcast:
+                  map:
+                    mymap:
+                      off-heap-storage-enabled: true""";
+
+        Config config = buildConfig(yaml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isOffHeapStorageEnabled());
+    }
+
+    @Test
+    public void testMapConfig_columnarStorageEnabled() {
+        String yaml = """
+                hazelcast:
+                  map:
+                    mymap:
+                      columnar-storage-enabled: true""";
+
+        Config config = buildConfig(yaml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isColumnarStorageEnabled());
+    }
+
+    @Test
+    public void testMapConfig_getCoalescingEnabled() {
+        String yaml = """
+                hazelcast:
+                  map:
+                    mymap:
+                      get-coalescing-enabled: true""";
+
+        Config config = buildConfig(yaml);
+        MapConfig mapConfig = config.getMapConfig("mymap");
+
+        assertTrue(mapConfig.isGetCoalescingEnabled());
+    }
+
     @Override
     @Test
     public void testMapConfig_metadataPolicy_defaultValue() {
@@ -2816,6 +2858,9 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
                         - type: HASH
                           attributes:
                             - "name"
+                          included-attributes:
+                            - "age"
+                            - "address.city"
                         - attributes:
                           - "age"
                         - type: SORTED
@@ -2837,7 +2882,9 @@ public class YamlConfigBuilderTest extends AbstractConfigBuilderTest {
         List<IndexConfig> indexConfigs = mapConfig.getIndexConfigs();
         assertFalse(indexConfigs.isEmpty());
         assertIndexEqual("name", false, indexConfigs.get(0));
+        assertEquals(List.of("age", "address.city"), indexConfigs.get(0).getIncludedAttributes());
         assertIndexEqual("age", true, indexConfigs.get(1));
+        assertTrue(indexConfigs.get(1).getIncludedAttributes().isEmpty());
         assertIndexEqual("age", true, indexConfigs.get(2));
         BTreeIndexConfig bTreeIndexConfig = indexConfigs.get(2).getBTreeIndexConfig();
         assertEquals(Capacity.of(1337, MemoryUnit.BYTES), bTreeIndexConfig.getPageSize());
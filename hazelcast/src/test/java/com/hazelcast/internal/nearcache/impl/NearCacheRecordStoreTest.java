@@ -22,6 +22,7 @@ import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.internal.nearcache.NearCacheRecordStore;
+import com.hazelcast.nearcache.NearCacheStats;
 import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
 import com.hazelcast.test.HazelcastParametrizedRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -35,7 +36,10 @@ import org.junit.runners.Parameterized.UseParametersRunnerFactory;
 
 import java.util.Collection;
 
+import static com.hazelcast.config.NearCacheConfig.AdmissionPolicy.TINY_LFU;
 import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParametrizedRunner.class)
@@ -163,4 +167,69 @@ public class NearCacheRecordStoreTest extends NearCacheRecordStoreTestSupport {
             assertTrue(maxSize >= nearCacheRecordStore.size());
         }
     }
+
+    @Test
+    public void tinyLfuAdmission_rejectsKeysReadOnce() {
+        int maxSize = 1000;
+        NearCacheRecordStore<Integer, String> nearCacheRecordStore = createTinyLfuNearCacheRecordStore(maxSize);
+        for (int i = 0; i < maxSize; i++) {
+            readAndPut(nearCacheRecordStore, i, 5);
+        }
+        assertEquals(maxSize, nearCacheRecordStore.size());
+
+        // a scan reads every key once
+        for (int i = maxSize; i < 2 * maxSize; i++) {
+            readAndPut(nearCacheRecordStore, i, 1);
+        }
+
+        // the frequencies are estimated, so a few keys of the scan may still be admitted
+        int hotKeysHit = 0;
+        for (int i = 0; i < maxSize; i++) {
+            if (nearCacheRecordStore.get(i) != null) {
+                hotKeysHit++;
+            }
+        }
+        assertEquals(maxSize, nearCacheRecordStore.size());
+        assertTrue("hotKeysHit: " + hotKeysHit, hotKeysHit > maxSize * 0.95);
+        NearCacheStats stats = nearCacheRecordStore.getNearCacheStats();
+        assertTrue("admissionRejections: " + stats.getAdmissionRejections(), stats.getAdmissionRejections() > maxSize * 0.95);
+        assertTrue(stats.getAdmissionRejectionRatio() > 95);
+    }
+    @Test
+    public void tinyLfuAdmission_admitsKeysReadOften() {
+        int maxSize = 1000;
+        NearCacheRecordStore<Integer, String> nearCacheRecordStore = createTinyLfuNearCacheRecordStore(maxSize);
+        for (int i = 0; i < maxSize; i++) {
+            readAndPut(nearCacheRecordStore, i, 2);
+        }
+
+        readAndPut(nearCacheRecordStore, maxSize, 15);
+
+        assertEquals(maxSize, nearCacheRecordStore.size());
+        assertNotNull(nearCacheRecordStore.get(maxSize));
+        assertEquals(1, nearCacheRecordStore.getNearCacheStats().getEvictions());
+        assertEquals(0, nearCacheRecordStore.getNearCacheStats().getAdmissionRejections());
+    }
+
+    private NearCacheRecordStore<Integer, String> createTinyLfuNearCacheRecordStore(int maxSize) {
+        EvictionConfig evictionConfig = new EvictionConfig()
+                .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                .setSize(maxSize)
+                .setEvictionPolicy(EvictionPolicy.LRU);
+        NearCacheConfig nearCacheConfig = createNearCacheConfig(DEFAULT_NEAR_CACHE_NAME, inMemoryFormat)
+                .setEvictionConfig(evictionConfig)
+                .setAdmissionPolicy(TINY_LFU);
+        return createNearCacheRecordStore(nearCacheConfig, inMemoryFormat);
+    }
+
+    /**
+     * Reads the key the given number of times before putting it, like a
+     * Near Cache populated by reads of a missing key does.
+     */
+    private static void readAndPut(NearCacheRecordStore<Integer, String> nearCacheRecordStore, int key, int readCount) {
+        for (int i = 0; i < readCount; i++) {
+            nearCacheRecordStore.get(key);
+        }
+        nearCacheRecordStore.put(key, null, "Record-" + key, null);
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.nearcache.impl.admission;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class FrequencySketchTest {
+
+    @Test
+    public void testFrequency_ofUnseenKey() {
+        FrequencySketch sketch = new FrequencySketch(1000);
+
+        assertEquals(0, sketch.frequency("key"));
+    }
+
+    @Test
+    public void testIncrement() {
+        FrequencySketch sketch = new FrequencySketch(1000);
+
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("key");
+        }
+
+        assertEquals(5, sketch.frequency("key"));
+        assertEquals(0, sketch.frequency("otherKey"));
+    }
+
+    @Test
+    public void testIncrement_saturates() {
+        FrequencySketch sketch = new FrequencySketch(1000);
+
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("key");
+        }
+
+        assertEquals(15, sketch.frequency("key"));
+    }
+
+    @Test
+    public void testIncrement_concurrently_saturates() throws Exception {
+        FrequencySketch sketch = new FrequencySketch(1 << 16);
+        int keyCount = 100;
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int round = 0; round < 100; round++) {
+                    for (int key = 0; key < keyCount; key++) {
+                        sketch.increment(key);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int key = 0; key < keyCount; key++) {
+            assertEquals(15, sketch.frequency(key));
+        }
+    }
+
+    @Test
+    public void testReset_halvesFrequencies() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 10; i++) {
+            sketch.increment("key");
+        }
+
+        // 10 * 16 additions trigger the reset
+        for (int i = 0; i < 160; i++) {
+            sketch.increment(i);
+        }
+
+        assertTrue(sketch.frequency("key") < 10);
+    }
+
+    @Test
+    public void testMaximumSize_notPositive() {
+        FrequencySketch sketch = new FrequencySketch(0);
+        sketch.increment("key");
+
+        assertEquals(1, sketch.frequency("key"));
+    }
+}
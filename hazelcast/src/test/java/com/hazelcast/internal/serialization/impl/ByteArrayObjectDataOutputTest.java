@@ -41,6 +41,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assume.assumeTrue;
 import static org.mockito.Mockito.mock;
@@ -387,6 +388,18 @@ public class ByteArrayObjectDataOutputTest {
         assertArrayEquals(new byte[0], arrayWhenBufferNull);
     }
 
+    @Test
+    public void testSwapBuffer() throws IOException {
+        out.write(TEST_DATA);
+        byte[] written = out.buffer;
+        byte[] newBuffer = new byte[10];
+
+        assertSame(written, out.swapBuffer(newBuffer));
+        assertSame(newBuffer, out.buffer);
+        assertEquals(0, out.position());
+        assertArrayEquals(TEST_DATA, Arrays.copyOf(written, TEST_DATA.length));
+    }
+
     @Test
     public void testClear() {
         out.clear();
@@ -337,6 +337,8 @@ public class DataSerializableConventionsTest {
             whiteList.add(Class.forName("com.hazelcast.query.impl.predicates.RangeVisitor$Ranges"));
             whiteList.add(Class.forName("com.hazelcast.internal.partition.operation.BeforePromotionOperation"));
             whiteList.add(Class.forName("com.hazelcast.internal.partition.operation.FinalizePromotionOperation"));
+            // a query view over a columnar row which is never serialized, it has no default constructor
+            whiteList.add(Class.forName("com.hazelcast.map.impl.recordstore.columnar.ColumnarQueryEntry"));
         } catch (ClassNotFoundException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class Lz4BlockCodecTest {
+
+    private final Lz4BlockCodec codec = new Lz4BlockCodec();
+    private final Random random = new Random(42);
+
+    @Test
+    public void emptyInput() {
+        assertRoundTrip(new byte[0]);
+    }
+
+    @Test
+    public void inputShorterThanMinimalMatch() {
+        assertRoundTrip("abcabcabc".getBytes(UTF_8));
+    }
+
+    @Test
+    public void repetitiveInput_isCompressed() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            sb.append("{\"id\":").append(i).append(",\"name\":\"employee-").append(i % 7).append("\"}");
+        }
+        byte[] input = sb.toString().getBytes(UTF_8);
+
+        int compressedLength = assertRoundTrip(input);
+
+        assertTrue("compressedLength=" + compressedLength, compressedLength < input.length / 3);
+    }
+
+    @Test
+    public void longRunsOfLiteralsAndMatches() {
+        byte[] input = new byte[100_000];
+        for (int i = 0; i < input.length; i += 10_000) {
+            // 1000 random bytes followed by a run of zeroes
+            byte[] literals = new byte[1000];
+            random.nextBytes(literals);
+            System.arraycopy(literals, 0, input, i, literals.length);
+        }
+        assertRoundTrip(input);
+    }
+
+    @Test
+    public void randomInput() {
+        for (int length : new int[] {13, 100, 4096, 70_000}) {
+            byte[] input = new byte[length];
+            random.nextBytes(input);
+            assertRoundTrip(input);
+        }
+    }
+
+    @Test
+    public void inputWithOffsets() {
+        byte[] input = "xxxxthe quick brown fox, the quick brown fox, the quick brown foxyyyy".getBytes(UTF_8);
+        byte[] compressed = new byte[3 + Lz4BlockCodec.maxCompressedLength(input.length)];
+        int compressedLength = codec.compress(input, 4, input.length - 8, compressed, 3);
+
+        byte[] decompressed = new byte[input.length - 3];
+        Lz4BlockCodec.decompress(compressed, 3, compressedLength, decompressed, 5, input.length - 8);
+
+        assertArrayEquals(Arrays.copyOfRange(input, 4, input.length - 4),
+                Arrays.copyOfRange(decompressed, 5, decompressed.length));
+    }
+
+    @Test
+    public void malformedBlock_throws() {
+        byte[] input = new byte[1000];
+        byte[] compressed = new byte[Lz4BlockCodec.maxCompressedLength(input.length)];
+        int compressedLength = codec.compress(input, 0, input.length, compressed, 0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> Lz4BlockCodec.decompress(compressed, 0, compressedLength, new byte[999], 0, 999));
+        assertThrows(IllegalArgumentException.class,
+                () -> Lz4BlockCodec.decompress(compressed, 0, compressedLength - 1, new byte[1000], 0, 1000));
+    }
+
+    private int assertRoundTrip(byte[] input) {
+        byte[] compressed = new byte[Lz4BlockCodec.maxCompressedLength(input.length)];
+        int compressedLength = codec.compress(input, 0, input.length, compressed, 0);
+
+        byte[] decompressed = new byte[input.length];
+        Lz4BlockCodec.decompress(compressed, 0, compressedLength, decompressed, 0, input.length);
+
+        assertArrayEquals(input, decompressed);
+        return compressedLength;
+    }
+}
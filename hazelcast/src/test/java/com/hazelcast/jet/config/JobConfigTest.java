@@ -162,6 +162,25 @@ public class JobConfigTest extends JetTestSupport {
         assertThat(config.isSuspendOnFailure()).isEqualTo(TRUE);
     }
 
+    @Test
+    public void when_virtualThreadsEnabled_thenReturnsEnabled() {
+        // Given
+        JobConfig config = new JobConfig();
+        assertThat(config.isVirtualThreadsEnabled()).isFalse();
+
+        // When
+        config.setVirtualThreadsEnabled(true);
+
+        // Then
+        assertThat(config.isVirtualThreadsEnabled()).isTrue();
+
+        // When
+        config.setVirtualThreadsEnabled(false);
+
+        // Then
+        assertThat(config.isVirtualThreadsEnabled()).isFalse();
+    }
+
     @Test
     public void addCustomClasspath() {
         JobConfig jobConfig = new JobConfig();
@@ -262,7 +281,8 @@ public class JobConfigTest extends JetTestSupport {
                 () -> jobConfig.setMetricsEnabled(false),
                 () -> jobConfig.setStoreMetricsAfterJobCompletion(false),
                 () -> jobConfig.setMaxProcessorAccumulatedRecords(0L),
-                () -> jobConfig.setTimeoutMillis(0L)
+                () -> jobConfig.setTimeoutMillis(0L),
+                () -> jobConfig.setVirtualThreadsEnabled(false)
         );
 
         jobConfig.lock();
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.core;
+
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.accumulator.LongAccumulator;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.config.KeyedStateBackend;
+import com.hazelcast.jet.impl.JobExecutionRecord;
+import com.hazelcast.jet.impl.JobRepository;
+import com.hazelcast.jet.impl.SnapshotValidationRecord;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.Sinks;
+import com.hazelcast.jet.pipeline.SourceBuilder;
+import com.hazelcast.jet.pipeline.StreamSource;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static com.hazelcast.jet.Traversers.traverseIterable;
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.config.ProcessingGuarantee.EXACTLY_ONCE;
+import static com.hazelcast.jet.core.JobStatus.RUNNING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class IncrementalSnapshotTest extends SimpleTestInClusterSupport {
+
+    private static final int KEY_COUNT = 100;
+    private static final int ITEMS_PER_PHASE = 10 * KEY_COUNT;
+    private static final int REMOVED_KEY_COUNT = KEY_COUNT / 2;
+
+    /**
+     * The source emits the counted keys in phase 0, removes half of the keys
+     * in phase 1 and counts all keys again in phase 2.
+     */
+    private static volatile int phase;
+    private static volatile boolean removalsEmitted;
+
+    @BeforeClass
+    public static void beforeClass() {
+        initialize(2, null);
+    }
+
+    @Test
+    public void when_restoredFromIncrementalSnapshot_then_stateRestored() {
+        phase = 0;
+        removalsEmitted = false;
+        IMap<Integer, Long> result = instance().getMap(randomMapName());
+
+        Pipeline p = Pipeline.create();
+        p.readFrom(source())
+         .withoutTimestamps()
+         .groupingKey(i -> i < 0 ? -i - 1 : i)
+         .<Entry<Integer, Long>>customTransform("count", CountingP::new)
+         .writeTo(Sinks.map(result));
+
+        JobConfig config = new JobConfig()
+                .setProcessingGuarantee(EXACTLY_ONCE)
+                .setSnapshotIntervalMillis(100)
+                .setFullSnapshotInterval(1000);
+        Job job = instance().getJet().newJob(p, config);
+
+        assertTrueEventually(() -> {
+            assertThat(result.size()).isEqualTo(KEY_COUNT);
+            assertThat(result.values()).containsOnly((long) ITEMS_PER_PHASE / KEY_COUNT);
+        });
+        long snapshotId = awaitIncrementalSnapshot(job, -1);
+
+        phase = 1;
+        assertTrueEventually(() -> assertThat(removalsEmitted).isTrue());
+        // wait until the removals are in a snapshot taken after they were emitted
+        awaitIncrementalSnapshot(job, lastSnapshotId(job, snapshotId) + 1);
+
+        job.restart();
+        assertTrueEventually(() -> assertThat(job.getStatus()).isEqualTo(RUNNING));
+        phase = 2;
+
+        assertTrueEventually(() -> {
+            for (int key = 0; key < KEY_COUNT; key++) {
+                long expected = key < REMOVED_KEY_COUNT ? ITEMS_PER_PHASE / KEY_COUNT : 2 * ITEMS_PER_PHASE / KEY_COUNT;
+                assertThat(result.get(key)).as("key " + key).isEqualTo(expected);
+            }
+        });
+        job.cancel();
+    }
+
+    @Test
+    public void when_mapStatefulRestoredFromIncrementalSnapshot_then_stateRestored() {
+        for (KeyedStateBackend backend : KeyedStateBackend.values()) {
+            phase = 0;
+            removalsEmitted = false;
+            IMap<Integer, Long> result = instance().getMap(randomMapName());
+
+            Pipeline p = Pipeline.create();
+            p.readFrom(source())
+             .withoutTimestamps()
+             .groupingKey(i -> i < 0 ? -i - 1 : i)
+             // the stateful stage saves only the changed keys, the removal items don't count
+             .mapStateful(LongAccumulator::new, (acc, key, item) -> {
+                 if (item < 0) {
+                     return null;
+                 }
+                 acc.add(1);
+                 return entry(key, acc.get());
+             })
+             .writeTo(Sinks.map(result));
+
+            JobConfig config = new JobConfig()
+                    .setProcessingGuarantee(EXACTLY_ONCE)
+                    .setSnapshotIntervalMillis(100)
+                    .setFullSnapshotInterval(1000)
+                    .setKeyedStateBackend(backend);
+            Job job = instance().getJet().newJob(p, config);
+
+            assertTrueEventually(() -> assertThat(result.values()).hasSize(KEY_COUNT)
+                    .containsOnly((long) ITEMS_PER_PHASE / KEY_COUNT));
+            long snapshotId = awaitIncrementalSnapshot(job, -1);
+            // a snapshot in which no key changed
+            awaitIncrementalSnapshot(job, snapshotId + 1);
+
+            job.restart();
+            assertTrueEventually(() -> assertThat(job.getStatus()).isEqualTo(RUNNING));
+            phase = 2;
+
+            assertTrueEventually(() -> assertThat(result.values()).as(backend.name()).hasSize(KEY_COUNT)
+                    .containsOnly(2L * ITEMS_PER_PHASE / KEY_COUNT));
+            job.cancel();
+        }
+    }
+
+    private static long awaitIncrementalSnapshot(Job job, long minSnapshotId) {
+        long[] snapshotId = {-1};
+        assertTrueEventually(() -> {
+            SnapshotValidationRecord record = lastValidationRecord(job);
+            assertThat(record).isNotNull();
+            assertThat(record.snapshotId()).isGreaterThanOrEqualTo(minSnapshotId);
+            assertThat(record.baseSnapshotIds()).isNotEmpty();
+            snapshotId[0] = record.snapshotId();
+        });
+        return snapshotId[0];
+    }
+
+    private static long lastSnapshotId(Job job, long defaultValue) {
+        SnapshotValidationRecord record = lastValidationRecord(job);
+        return record != null ? record.snapshotId() : defaultValue;
+    }
+
+    private static SnapshotValidationRecord lastValidationRecord(Job job) {
+        JobExecutionRecord executionRecord = new JobRepository(instance()).getJobExecutionRecord(job.getId());
+        if (executionRecord == null || executionRecord.dataMapIndex() < 0) {
+            return null;
+        }
+        IMap<Object, Object> snapshotMap = instance().getMap(
+                JobRepository.snapshotDataMapName(job.getId(), executionRecord.dataMapIndex()));
+        return (SnapshotValidationRecord) snapshotMap.get(SnapshotValidationRecord.KEY);
+    }
+
+    private static StreamSource<Integer> source() {
+        return SourceBuilder.stream("source", ctx -> new int[1])
+                .<Integer>fillBufferFn((offset, buf) -> {
+                    int limit = phase == 0 ? ITEMS_PER_PHASE
+                            : phase == 1 ? ITEMS_PER_PHASE + REMOVED_KEY_COUNT
+                            : 2 * ITEMS_PER_PHASE + REMOVED_KEY_COUNT;
+                    for (int i = 0; i < 64 && offset[0] < limit; i++, offset[0]++) {
+                        buf.add(item(offset[0]));
+                    }
+                    if (offset[0] >= ITEMS_PER_PHASE + REMOVED_KEY_COUNT) {
+                        removalsEmitted = true;
+                    }
+                })
+                .createSnapshotFn(offset -> offset[0])
+                .restoreSnapshotFn((offset, saved) -> offset[0] = saved.get(0))
+                .build();
+    }
+
+    private static int item(int offset) {
+        if (offset < ITEMS_PER_PHASE) {
+            return offset % KEY_COUNT;
+        }
+        if (offset < ITEMS_PER_PHASE + REMOVED_KEY_COUNT) {
+            // negative item removes the key
+            return -(offset - ITEMS_PER_PHASE) - 1;
+        }
+        return (offset - ITEMS_PER_PHASE - REMOVED_KEY_COUNT) % KEY_COUNT;
+    }
+
+    /**
+     * Counts the items for each key, emits the current count.
+     */
+    private static final class CountingP extends AbstractProcessor {
+        private final Map<Integer, Long> counts = new HashMap<>();
+        private Entry<Integer, Long> pendingItem;
+        private Traverser<Entry<Integer, Long>> snapshotTraverser;
+
+        @Override
+        protected boolean tryProcess0(@Nonnull Object item) {
+            if (pendingItem == null) {
+                int key = (Integer) item;
+                if (key < 0) {
+                    counts.remove(-key - 1);
+                    return true;
+                }
+                pendingItem = entry(key, counts.merge(key, 1L, Long::sum));
+            }
+            if (!tryEmit(pendingItem)) {
+                return false;
+            }
+            pendingItem = null;
+            return true;
+        }
+
+        @Override
+        public boolean saveToSnapshot() {
+            if (snapshotTraverser == null) {
+                snapshotTraverser = traverseIterable(counts.entrySet())
+                        .map(e -> entry(e.getKey(), e.getValue()))
+                        .onFirstNull(() -> snapshotTraverser = null);
+            }
+            return emitFromTraverserToSnapshot(snapshotTraverser);
+        }
+
+        @Override
+        protected void restoreFromSnapshot(@Nonnull Object key, @Nonnull Object value) {
+            counts.put((Integer) key, (Long) value);
+        }
+    }
+}
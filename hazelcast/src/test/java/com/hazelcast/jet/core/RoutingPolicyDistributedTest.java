@@ -18,6 +18,7 @@ package com.hazelcast.jet.core;
 
 import com.hazelcast.cluster.Address;
 import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.config.EdgeConfig;
 import com.hazelcast.jet.core.TestProcessors.CollectPerProcessorSink;
 import com.hazelcast.jet.core.TestProcessors.ListsSourceP;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -192,6 +193,25 @@ public class RoutingPolicyDistributedTest extends SimpleTestInClusterSupport {
         assertEquals("items on member1-processor1", Set.of(2, 4), new HashSet<>(consumerSup.getListAt(3)));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void when_distributedToOne_compressed() {
+        DAG dag = new DAG();
+        Vertex producer = producer(NUMBERS);
+        Vertex consumer = consumer();
+
+        dag.vertex(producer)
+           .vertex(consumer)
+           .edge(between(producer, consumer)
+                   .distributeTo(address1)
+                   .partitioned((Integer i) -> i % 271)
+                   .setConfig(new EdgeConfig().setCompressionEnabled(true)));
+
+        instance().getJet().newJob(dag).join();
+
+        assertEquals(setOf(NUMBERS), setOf(consumerSup.getLists().toArray(new List[0])));
+    }
+
     private Vertex consumer() {
         return new Vertex("consumer", consumerSup)
                 .localParallelism(2);
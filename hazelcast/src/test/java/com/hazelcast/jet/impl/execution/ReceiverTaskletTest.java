@@ -17,9 +17,11 @@
 package com.hazelcast.jet.impl.execution;
 
 import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.nio.Bits;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.util.Lz4BlockCodec;
 import com.hazelcast.logging.LoggingService;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.annotation.ParallelJVMTest;
@@ -31,8 +33,10 @@ import org.junit.runner.RunWith;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Queue;
 
+import static com.hazelcast.jet.impl.Networking.PACKET_HEADER_SIZE;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
@@ -50,7 +54,7 @@ public class ReceiverTaskletTest {
     public void before() {
         collector = new MockOutboundCollector(2);
         serService = new DefaultSerializationServiceBuilder().build();
-        t = new ReceiverTasklet(collector, serService, 3, 100, mock(LoggingService.class),
+        t = new ReceiverTasklet(collector, serService, 3, false, 100, mock(LoggingService.class),
                 new Address(), 0, "", null, "");
         t.initIncomingQueue(queue);
     }
@@ -62,7 +66,34 @@ public class ReceiverTaskletTest {
         assertEquals(asList(1, 2), collector.getBuffer());
     }
 
+    @Test
+    public void when_receiveCompressedObjects_then_emitThem() throws IOException {
+        collector = new MockOutboundCollector(3);
+        t = new ReceiverTasklet(collector, serService, 3, true, 100, mock(LoggingService.class),
+                new Address(), 0, "", null, "");
+        t.initIncomingQueue(queue);
+        pushCompressedObjects("a".repeat(100), "b".repeat(100));
+        pushCompressedObjects("c");
+        t.call();
+        assertEquals(asList("a".repeat(100), "b".repeat(100), "c"), collector.getBuffer());
+    }
+
     private void pushObjects(Object... objs) throws IOException {
+        queue.add(serializePacket(objs));
+    }
+
+    private void pushCompressedObjects(Object... objs) throws IOException {
+        byte[] packet = serializePacket(objs);
+        int blockOffset = PACKET_HEADER_SIZE + Bits.INT_SIZE_IN_BYTES;
+        int uncompressedLength = packet.length - PACKET_HEADER_SIZE;
+        byte[] payload = new byte[blockOffset + Lz4BlockCodec.maxCompressedLength(uncompressedLength)];
+        Bits.writeIntB(payload, PACKET_HEADER_SIZE, uncompressedLength);
+        int compressedLength = new Lz4BlockCodec()
+                .compress(packet, PACKET_HEADER_SIZE, uncompressedLength, payload, blockOffset);
+        queue.add(Arrays.copyOf(payload, blockOffset + compressedLength));
+    }
+
+    private byte[] serializePacket(Object... objs) throws IOException {
         final BufferObjectDataOutput out = serService.createObjectDataOutput();
         // packet header
         out.writeLong(0);
@@ -74,6 +105,6 @@ public class ReceiverTaskletTest {
             out.writeObject(obj);
             out.writeInt(Math.abs(obj.hashCode())); // partition id
         }
-        queue.add(out.toByteArray());
+        return out.toByteArray();
     }
 }
@@ -16,9 +16,11 @@
 
 package com.hazelcast.jet.impl.execution;
 
+import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.jet.config.ProcessingGuarantee;
 import com.hazelcast.jet.core.JetTestSupport;
+import com.hazelcast.jet.impl.execution.OutboxImpl.UnchangedSnapshotEntry;
 import com.hazelcast.jet.impl.operation.SnapshotPhase1Operation.SnapshotPhase1Result;
 import com.hazelcast.jet.impl.util.MockAsyncSnapshotWriter;
 import com.hazelcast.logging.Logger;
@@ -44,6 +46,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -57,6 +60,10 @@ public class StoreSnapshotTaskletTest extends JetTestSupport {
     private MockAsyncSnapshotWriter mockSsWriter;
 
     private void init(List<Object> inputData) {
+        init(inputData, false);
+    }
+
+    private void init(List<Object> inputData, boolean trackChanges) {
         ssContext = new SnapshotContext(Logger.getLogger(SnapshotContext.class), "test job", 1,
                 ProcessingGuarantee.EXACTLY_ONCE);
         ssContext.initTaskletCount(1, 1, 0);
@@ -71,7 +78,7 @@ public class StoreSnapshotTaskletTest extends JetTestSupport {
         input = new MockInboundStream(0, inputData, 128);
         mockSsWriter = new MockAsyncSnapshotWriter();
         sst = new StoreSnapshotTasklet(ssContext, input, mockSsWriter, Logger.getLogger(mockSsWriter.getClass()),
-                "myVertex", false);
+                "myVertex", false, trackChanges);
     }
 
     @Test
@@ -193,6 +200,86 @@ public class StoreSnapshotTaskletTest extends JetTestSupport {
         assertEquals(3, sst.pendingSnapshotId);
     }
 
+    @Test
+    public void when_incrementalSnapshot_then_savedEntriesAndTombstonesOffered() {
+        init(asList(entry("k1", "v1"), entry("k2", "v2"), new SnapshotBarrier(2, false)), true);
+        ssContext.startNewSnapshotPhase1(2, "map", SnapshotFlags.create(false, false, true, false));
+        completeSnapshot(2);
+        assertEquals(entry(serialize("k1"), serialize("v1")), mockSsWriter.poll());
+        assertEquals(entry(serialize("k2"), serialize("v2")), mockSsWriter.poll());
+        assertNull(mockSsWriter.poll());
+
+        ssContext.startNewSnapshotPhase1(3, "map", SnapshotFlags.create(false, false, true, true));
+        input.push(entry(serialize("k1"), serialize("v1")), entry(serialize("k3"), serialize("v3")),
+                new SnapshotBarrier(3, false));
+        completeSnapshot(3);
+        // the values aren't compared, all saved entries are written
+        assertEquals(entry(serialize("k1"), serialize("v1")), mockSsWriter.poll());
+        assertEquals(entry(serialize("k3"), serialize("v3")), mockSsWriter.poll());
+        Entry<? extends Data, ? extends Data> tombstone = mockSsWriter.poll();
+        assertEquals(serialize("k2"), tombstone.getKey());
+        assertNull(tombstone.getValue());
+        assertNull(mockSsWriter.poll());
+    }
+
+    @Test
+    public void when_processorsTrackChanges_then_unchangedKeysKept() {
+        init(asList(entry("k1", "v1"), entry("k2", "v2"), new SnapshotBarrier(2, false)), true);
+        ssContext.startNewSnapshotPhase1(2, "map", SnapshotFlags.create(false, false, true, false));
+        completeSnapshot(2);
+        assertEquals(entry(serialize("k1"), serialize("v1")), mockSsWriter.poll());
+        assertEquals(entry(serialize("k2"), serialize("v2")), mockSsWriter.poll());
+        assertNull(mockSsWriter.poll());
+
+        ssContext.startNewSnapshotPhase1(3, "map", SnapshotFlags.create(false, false, true, true));
+        input.push(new UnchangedSnapshotEntry(serialize("k1")), entry(serialize("k2"), serialize("v2")),
+                new SnapshotBarrier(3, false));
+        completeSnapshot(3);
+        // the processor reported k2 as changed, k1 isn't removed
+        assertEquals(entry(serialize("k2"), serialize("v2")), mockSsWriter.poll());
+        assertNull(mockSsWriter.poll());
+    }
+
+    @Test
+    public void when_doneWithTrackedState_then_nextSnapshotFails() throws Exception {
+        init(asList(entry("k1", "v1"), new SnapshotBarrier(2, false)), true);
+        ssContext.startNewSnapshotPhase1(2, "map", SnapshotFlags.create(false, false, true, false));
+        completeSnapshot(2);
+
+        input.push(DONE_ITEM);
+        assertEquals(DONE, sst.call());
+        CompletableFuture<SnapshotPhase1Result> future =
+                ssContext.startNewSnapshotPhase1(3, "map", SnapshotFlags.create(false, false, true, true));
+
+        assertTrue(future.isDone());
+        assertNotNull(future.get().getError());
+    }
+
+    @Test
+    public void when_itemsBeforeSnapshotStarted_then_offeredAfterStart() {
+        // the barrier can come from a remote member before the snapshot is started locally
+        init(asList(entry("k1", "v1"), new SnapshotBarrier(2, false)), true);
+        sst.call();
+        sst.call();
+        assertNull(mockSsWriter.poll());
+        assertEquals(2, sst.pendingSnapshotId);
+
+        ssContext.startNewSnapshotPhase1(2, "map", SnapshotFlags.create(false, false, true, false));
+        completeSnapshot(2);
+        assertEquals(entry(serialize("k1"), serialize("v1")), mockSsWriter.poll());
+        assertNull(mockSsWriter.poll());
+    }
+
+    private void completeSnapshot(long snapshotId) {
+        for (int i = 0; i < 10 && sst.pendingSnapshotId == snapshotId; i++) {
+            sst.call();
+            mockSsWriter.hasPendingFlushes = false;
+        }
+        assertEquals(snapshotId + 1, sst.pendingSnapshotId);
+        ssContext.startNewSnapshotPhase2(snapshotId, true);
+        ssContext.phase2DoneForTasklet();
+    }
+
     private HeapData serialize(String o) {
         // "abcd" is here to create 8 bytes for HeapData header (we use UTF-16)
         return new HeapData(("abcd" + o).getBytes(StandardCharsets.UTF_16));
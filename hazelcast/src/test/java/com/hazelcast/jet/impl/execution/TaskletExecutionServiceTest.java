@@ -17,10 +17,15 @@
 package com.hazelcast.jet.impl.execution;
 
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
 import com.hazelcast.internal.metrics.impl.MetricsRegistryImpl;
+import com.hazelcast.internal.util.JavaVersion;
 import com.hazelcast.jet.JetException;
 import com.hazelcast.jet.core.JetTestSupport;
+import com.hazelcast.jet.core.metrics.MetricNames;
 import com.hazelcast.jet.impl.util.ProgressState;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
@@ -36,6 +41,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 
 import javax.annotation.Nonnull;
 import java.util.List;
@@ -55,6 +61,7 @@ import static com.hazelcast.jet.impl.util.ExceptionUtil.peel;
 import static com.hazelcast.jet.impl.util.ProgressState.DONE;
 import static com.hazelcast.jet.impl.util.ProgressState.MADE_PROGRESS;
 import static com.hazelcast.jet.impl.util.ProgressState.NO_PROGRESS;
+import static com.hazelcast.spi.properties.ClusterProperty.JET_COOPERATIVE_WORK_STEALING_ENABLED;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -68,6 +75,8 @@ import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -80,12 +89,14 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
 
     private TaskletExecutionService tes;
     private ExecutorService executor;
+    private NodeEngine neMock;
+    private MetricsRegistryImpl metricsRegistry;
     private final ClassLoader classLoader = getClass().getClassLoader();
 
     @Before
     public void before() {
         executor = Executors.newCachedThreadPool();
-        NodeEngine neMock = mock(NodeEngine.class);
+        neMock = mock(NodeEngine.class);
 
         HazelcastInstance hzMock = mock(HazelcastInstance.class);
         when(neMock.getHazelcastInstance()).thenReturn(hzMock);
@@ -101,7 +112,7 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         when(loggingService.getLogger(TaskletExecutionService.class))
                .thenReturn(Logger.getLogger(TaskletExecutionService.class));
 
-        MetricsRegistryImpl metricsRegistry = new MetricsRegistryImpl(mock(ILogger.class), ProbeLevel.INFO);
+        metricsRegistry = new MetricsRegistryImpl(mock(ILogger.class), ProbeLevel.INFO);
         when(neMock.getMetricsRegistry()).thenReturn(metricsRegistry);
 
         HazelcastProperties properties = new HazelcastProperties(new Properties());
@@ -126,6 +137,22 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         t.assertDone();
     }
 
+    @Test
+    public void when_blockingTaskWithVirtualThreads_then_executed() {
+        // Given
+        final IdlingBlockingTasklet t = new IdlingBlockingTasklet();
+
+        // When
+        tes.beginExecute(singletonList(t), cancellationFuture, classLoader, true).join();
+
+        // Then
+        // falls back to platform threads if the JVM doesn't support virtual threads
+        String expectedPrefix = JavaVersion.isAtLeast(JavaVersion.JAVA_21)
+                ? "hz.test-hz-instance.jet.blocking.virtual-thread-"
+                : "hz.test-hz-instance.jet.blocking.thread-";
+        assertTrue(t.threadName, t.threadName.startsWith(expectedPrefix));
+    }
+
     @Test
     public void when_nonBlockingTask_then_executed() {
         // Given
@@ -241,6 +268,37 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         tasklets.forEach(MockTasklet::assertDone);
     }
 
+    @Test
+    public void when_workStealingEnabled_then_readyTaskletMovesToIdleWorker() {
+        // Given
+        tes.shutdown();
+        Properties properties = new Properties();
+        properties.setProperty(JET_COOPERATIVE_WORK_STEALING_ENABLED.getName(), "true");
+        tes = new TaskletExecutionService(neMock, THREAD_COUNT, new HazelcastProperties(properties));
+        // the tasklets are assigned round-robin, the first worker gets both busy ones
+        BusyTasklet busy1 = new BusyTasklet();
+        BusyTasklet busy2 = new BusyTasklet();
+        List<Tasklet> tasklets = asList(busy1, new MockTasklet(), new MockTasklet(), new MockTasklet(), busy2);
+
+        // When
+        CompletableFuture<Void> future = tes.beginExecute(tasklets, cancellationFuture, classLoader);
+
+        // Then
+        assertTrueEventually(() -> assertNotEquals(busy1.lastThread, busy2.lastThread));
+        assertTrueEventually(() -> {
+            MetricsCollectionContext context = mock(MetricsCollectionContext.class);
+            tes.collectWorkerUtilization(metricsRegistry.newMetricDescriptor(), context);
+            ArgumentCaptor<Long> utilization = ArgumentCaptor.forClass(Long.class);
+            verify(context, times(THREAD_COUNT)).collect(any(MetricDescriptor.class),
+                    eq(MetricNames.COOPERATIVE_WORKER_UTILIZATION), eq(ProbeLevel.INFO), eq(ProbeUnit.PERCENT),
+                    utilization.capture());
+            assertEquals(2, utilization.getAllValues().stream().filter(u -> u > 50).count());
+        });
+        busy1.done = true;
+        busy2.done = true;
+        future.join();
+    }
+
     @Test
     public void when_nonBlockingTaskletIsCancelled_then_completesEarly() {
         // Given
@@ -491,6 +549,37 @@ public class TaskletExecutionServiceTest extends JetTestSupport {
         }
     }
 
+    private static class BusyTasklet implements Tasklet {
+
+        volatile Thread lastThread;
+        volatile boolean done;
+
+        @Nonnull
+        @Override
+        public ProgressState call() {
+            lastThread = Thread.currentThread();
+            return done ? DONE : MADE_PROGRESS;
+        }
+    }
+
+    private static class IdlingBlockingTasklet implements Tasklet {
+
+        volatile String threadName;
+        private int callCount;
+
+        @Override
+        public boolean isCooperative() {
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        public ProgressState call() {
+            threadName = Thread.currentThread().getName();
+            return ++callCount > 10 ? DONE : NO_PROGRESS;
+        }
+    }
+
     private static class TaskletAssertingThreadLocal implements Tasklet {
 
         private static final ThreadLocal<Integer> threadLocal = ThreadLocal.withInitial(() -> 0);
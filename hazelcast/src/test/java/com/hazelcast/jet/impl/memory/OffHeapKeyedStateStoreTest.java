@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.impl.execution.ChangeTrackingProcessor;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapKeyedStateStoreTest {
+
+    private final InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+    private final OffHeapKeyedStateStore<String, Long> store = new OffHeapKeyedStateStore<>(ss);
+
+    @After
+    public void after() {
+        store.dispose();
+    }
+
+    @Test
+    public void when_put_then_getReturnsCopy() {
+        store.put("a", 1L, 10);
+        store.put("b", 2L, 10);
+        store.put("a", 300_000_000_000L, 20);
+
+        assertThat(store.get("a")).isEqualTo(300_000_000_000L);
+        assertThat(store.get("b")).isEqualTo(2L);
+        assertThat(store.get("c")).isNull();
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.isCopying()).isTrue();
+        assertThat(store.usedNativeMemory()).isPositive();
+    }
+
+    @Test
+    public void when_removeOlderThan_then_onlyStaleRemoved() {
+        for (int i = 0; i < 1000; i++) {
+            store.put("k" + i, (long) i, i);
+        }
+
+        Traverser<Entry<String, Long>> removed = store.removeOlderThan(500);
+        Set<String> removedKeys = new HashSet<>();
+        for (Entry<String, Long> e = removed.next(); e != null; e = removed.next()) {
+            assertThat(e.getValue()).isEqualTo(Long.parseLong(e.getKey().substring(1))).isLessThan(500);
+            removedKeys.add(e.getKey());
+        }
+
+        assertThat(removedKeys).hasSize(500);
+        assertThat(store.size()).isEqualTo(500);
+        assertThat(store.get("k499")).isNull();
+        assertThat(store.get("k500")).isEqualTo(500L);
+    }
+
+    @Test
+    public void when_timestampUpdated_then_evictedByNewTimestamp() {
+        for (int i = 0; i < 100; i++) {
+            store.put("k" + i, (long) i, i % 10);
+        }
+        // move every other key to a later timestamp, some to the same one
+        for (int i = 0; i < 100; i += 2) {
+            store.put("k" + i, (long) -i, i % 4 == 0 ? i % 10 : 100 + i);
+        }
+
+        Traverser<Entry<String, Long>> removed = store.removeOlderThan(10);
+        List<String> removedKeys = new ArrayList<>();
+        for (Entry<String, Long> e = removed.next(); e != null; e = removed.next()) {
+            removedKeys.add(e.getKey());
+        }
+
+        // the odd keys and the keys updated with an unchanged timestamp, oldest first
+        List<String> expected = IntStream.range(0, 100)
+                .filter(i -> i % 2 == 1 || i % 4 == 0)
+                .boxed()
+                .sorted(Comparator.comparingInt(i -> i % 10))
+                .map(i -> "k" + i)
+                .collect(toList());
+        assertThat(removedKeys).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(removedKeys).isSortedAccordingTo(Comparator.comparingInt(k -> Integer.parseInt(k.substring(1)) % 10));
+        assertThat(store.size()).isEqualTo(100 - expected.size());
+        assertThat(store.get("k2")).isEqualTo(-2L);
+
+        removed = store.removeOlderThan(Long.MAX_VALUE);
+        int count = 0;
+        for (Entry<String, Long> e = removed.next(); e != null; e = removed.next()) {
+            count++;
+        }
+        assertThat(count).isEqualTo(100 - expected.size());
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    public void when_entries_then_deserializedEntries() {
+        Map<String, Long> expected = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            store.put("k" + i, (long) i, i % 3);
+            expected.put("k" + i, (long) i);
+        }
+
+        Map<String, Long> actual = new HashMap<>();
+        Traverser<Entry<String, Long>> traverser = store.entries();
+        for (Entry<String, Long> e = traverser.next(); e != null; e = traverser.next()) {
+            actual.put(e.getKey(), e.getValue());
+        }
+        assertThat(actual).isEqualTo(expected);
+        assertThat(store.size()).isEqualTo(100);
+    }
+
+    @Test
+    public void when_snapshotEntries_then_serializedEntries() {
+        Map<String, Long> expected = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            store.put("k" + i, (long) i, 0);
+            expected.put("k" + i, (long) i);
+        }
+
+        Map<String, Long> actual = new HashMap<>();
+        Traverser<Entry<Object, Object>> traverser = store.snapshotEntries(false);
+        for (Entry<Object, Object> e = traverser.next(); e != null; e = traverser.next()) {
+            assertThat(e.getKey()).isInstanceOf(Data.class);
+            assertThat(e.getValue()).isInstanceOf(Data.class);
+            actual.put(ss.toObject(e.getKey()), ss.toObject(e.getValue()));
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void when_incrementalSnapshotEntries_then_unchangedValuesOmitted() {
+        store.put("a", 1L, 0);
+        store.put("b", 2L, 0);
+        assertThat(snapshot(false)).containsOnlyKeys("a", "b").containsValues(1L, 2L);
+
+        store.put("a", 3L, 0);
+        Map<String, Object> incremental = snapshot(true);
+        assertThat(incremental).containsEntry("a", 3L).containsEntry("b", ChangeTrackingProcessor.UNCHANGED);
+
+        // the changes are tracked since the last snapshot, full or not
+        store.put("b", 4L, 1);
+        assertThat(snapshot(false)).containsEntry("a", 3L).containsEntry("b", 4L);
+        assertThat(snapshot(true)).containsEntry("a", ChangeTrackingProcessor.UNCHANGED)
+                                  .containsEntry("b", ChangeTrackingProcessor.UNCHANGED);
+    }
+
+    @Test
+    public void when_allRemoved_then_onlySlotArrayMemoryUsed() {
+        store.put("a", 1L, 0);
+        long usedWithEntry = store.usedNativeMemory();
+        Traverser<Entry<String, Long>> removed = store.removeOlderThan(1);
+        assertThat(removed.next()).isNotNull();
+        assertThat(removed.next()).isNull();
+
+        assertThat(store.size()).isZero();
+        assertThat(store.usedNativeMemory()).isLessThan(usedWithEntry);
+    }
+
+    private Map<String, Object> snapshot(boolean incremental) {
+        Map<String, Object> entries = new HashMap<>();
+        Traverser<Entry<Object, Object>> traverser = store.snapshotEntries(incremental);
+        for (Entry<Object, Object> e = traverser.next(); e != null; e = traverser.next()) {
+            Object value = e.getValue() == ChangeTrackingProcessor.UNCHANGED ? e.getValue() : ss.toObject(e.getValue());
+            entries.put(ss.toObject(e.getKey()), value);
+        }
+        return entries;
+    }
+}
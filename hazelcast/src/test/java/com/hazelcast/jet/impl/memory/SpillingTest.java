@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.impl.memory;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.function.ComparatorEx;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.jet.Job;
+import com.hazelcast.jet.SimpleTestInClusterSupport;
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.Util;
+import com.hazelcast.jet.accumulator.LongAccumulator;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.metrics.Measurement;
+import com.hazelcast.jet.core.metrics.MetricNames;
+import com.hazelcast.jet.impl.processor.AggregateP;
+import com.hazelcast.jet.impl.processor.GroupP;
+import com.hazelcast.jet.impl.processor.SortP;
+import com.hazelcast.jet.pipeline.Pipeline;
+import com.hazelcast.jet.pipeline.test.TestSources;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.function.Functions.wholeItem;
+import static com.hazelcast.jet.Traversers.traverseItems;
+import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.aggregate.AggregateOperations.counting;
+import static com.hazelcast.jet.pipeline.test.AssertionSinks.assertAnyOrder;
+import static com.hazelcast.jet.pipeline.test.AssertionSinks.assertOrdered;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SpillingTest extends SimpleTestInClusterSupport {
+    private static final int MAX_PROCESSOR_ACCUMULATED_RECORDS = 5;
+    private static final int ITEM_COUNT = 100;
+    private static final int KEY_COUNT = 10;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void setUp() {
+        Config config = smallInstanceConfig();
+        config.getJetConfig()
+                .setCooperativeThreadCount(1)
+                .setMaxProcessorAccumulatedRecords(MAX_PROCESSOR_ACCUMULATED_RECORDS);
+
+        initialize(1, config);
+    }
+
+    @Test
+    public void when_groupingExceedsLimit_then_spills() {
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(items()))
+                .groupingKey(i -> i % KEY_COUNT)
+                .aggregate(counting())
+                .writeTo(assertAnyOrder(IntStream.range(0, KEY_COUNT)
+                        .mapToObj(i -> entry(i, (long) ITEM_COUNT / KEY_COUNT))
+                        .collect(toList())));
+
+        Job job = runWithBudget(pipeline, Long.MAX_VALUE);
+
+        assertThat(sum(job, MetricNames.SPILLED_RUNS)).isGreaterThanOrEqualTo(2);
+        assertThat(sum(job, MetricNames.SPILLED_BYTES)).isPositive();
+    }
+
+    @Test
+    public void when_groupingExceedsBudget_then_spills() {
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(items()))
+                .groupingKey(wholeItem())
+                .aggregate(counting())
+                .writeTo(assertAnyOrder(IntStream.range(0, ITEM_COUNT).mapToObj(i -> entry(i, 1L)).collect(toList())));
+
+        Job job = runWithBudget(pipeline, 1);
+
+        assertThat(sum(job, MetricNames.SPILLED_RUNS)).isGreaterThan(ITEM_COUNT / MAX_PROCESSOR_ACCUMULATED_RECORDS);
+    }
+
+    @Test
+    public void when_sortingExceedsLimit_then_spills() {
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(items()))
+                .sort(ComparatorEx.reverseOrder())
+                .writeTo(assertOrdered(IntStream.range(0, ITEM_COUNT).mapToObj(i -> ITEM_COUNT - 1 - i).collect(toList())));
+
+        Job job = runWithBudget(pipeline, Long.MAX_VALUE);
+
+        assertThat(sum(job, MetricNames.SPILLED_RUNS)).isGreaterThanOrEqualTo(ITEM_COUNT / MAX_PROCESSOR_ACCUMULATED_RECORDS - 1);
+    }
+
+    @Test
+    public void when_sortingExceedsBudget_then_spills() {
+        Pipeline pipeline = Pipeline.create();
+        pipeline.readFrom(TestSources.items(items()))
+                .sort()
+                .writeTo(assertOrdered(IntStream.range(0, ITEM_COUNT).boxed().collect(toList())));
+
+        Job job = runWithBudget(pipeline, 1);
+
+        assertThat(sum(job, MetricNames.SPILLED_BYTES)).isPositive();
+    }
+
+    @Test
+    public void when_spillingEnabled_then_processorsNotCooperative() {
+        SortP<Integer> sortP = new SortP<>(null);
+        GroupP<Integer, LongAccumulator, Long, Entry<Integer, Long>> groupP =
+                new GroupP<>(wholeItem(), counting(), Util::entry);
+        AggregateP<LongAccumulator, Long> aggregateP = new AggregateP<>(counting());
+        assertThat(sortP.isCooperative()).isTrue();
+        assertThat(groupP.isCooperative()).isTrue();
+
+        sortP.setSpillingEnabled(true);
+        groupP.setSpillingEnabled(true);
+        aggregateP.setSpillingEnabled(true);
+
+        assertThat(sortP.isCooperative()).isFalse();
+        assertThat(groupP.isCooperative()).isFalse();
+        // the single accumulator is never spilled
+        assertThat(aggregateP.isCooperative()).isTrue();
+    }
+
+    @Test
+    public void when_spillFileWritten_then_readInOrder() {
+        InternalSerializationService ss = new DefaultSerializationServiceBuilder().build();
+        List<Object> objects = asList("a", null, 42, entry(1, "b"), new ArrayList<>(asList(1L, 2L)));
+
+        SpillFile file = new SpillFile(temporaryFolder.getRoot().toPath().resolve("spill"), ss);
+        objects.forEach(file::write);
+        file.completeWrite();
+
+        List<Object> read = new ArrayList<>();
+        while (file.hasNext()) {
+            read.add(file.read());
+        }
+        assertThat(read).isEqualTo(objects);
+        assertThat(file.count()).isEqualTo(objects.size());
+        assertThat(file.size()).isPositive();
+        assertThat(temporaryFolder.getRoot().toPath().resolve("spill").toFile().list()).hasSize(1);
+
+        file.close();
+        assertThat(temporaryFolder.getRoot().toPath().resolve("spill").toFile().list()).isEmpty();
+    }
+
+    @Test
+    public void when_mergingSortedTraversers_then_sorted() {
+        List<Traverser<Integer>> sources = asList(
+                traverseItems(1, 4, 7, 7),
+                traverseItems(),
+                traverseItems(2, 3, 8),
+                traverseItems(0, 5, 6, 9)
+        );
+
+        MergingTraverser<Integer> merged = new MergingTraverser<>(sources, Comparator.naturalOrder());
+
+        List<Integer> result = new ArrayList<>();
+        Integer item = merged.next();
+        while (item != null) {
+            result.add(item);
+            item = merged.next();
+        }
+        assertThat(result).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 7, 8, 9);
+    }
+
+    private static Job runWithBudget(Pipeline pipeline, long spillMemoryBudget) {
+        JobConfig config = new JobConfig()
+                .setSpillMemoryBudget(spillMemoryBudget)
+                .setStoreMetricsAfterJobCompletion(true);
+        Job job = instance().getJet().newJob(pipeline, config);
+        job.join();
+        return job;
+    }
+
+    private static long sum(Job job, String metricName) {
+        return job.getMetrics().get(metricName).stream().mapToLong(Measurement::value).sum();
+    }
+
+    private static List<Integer> items() {
+        // shuffled, so that the sorting has some work to do
+        List<Integer> items = IntStream.range(0, ITEM_COUNT).boxed().collect(toList());
+        Collections.shuffle(items, new Random(42));
+        return items;
+    }
+}
@@ -22,10 +22,14 @@ import com.hazelcast.function.ToLongFunctionEx;
 import com.hazelcast.jet.accumulator.LongAccumulator;
 import com.hazelcast.jet.aggregate.AggregateOperation;
 import com.hazelcast.jet.aggregate.AggregateOperation1;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.config.KeyedStateBackend;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.SlidingWindowPolicy;
 import com.hazelcast.jet.core.TimestampKind;
 import com.hazelcast.jet.core.Watermark;
+import com.hazelcast.jet.core.test.TestOutbox;
+import com.hazelcast.jet.core.test.TestProcessorContext;
 import com.hazelcast.jet.datamodel.KeyedWindowResult;
 import com.hazelcast.test.HazelcastParallelParametersRunnerFactory;
 import com.hazelcast.test.HazelcastParametrizedRunner;
@@ -42,11 +46,14 @@ import org.junit.runners.Parameterized.Parameters;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.LongStream;
 
 import static com.hazelcast.jet.Util.entry;
+import static com.hazelcast.jet.config.ProcessingGuarantee.EXACTLY_ONCE;
 import static com.hazelcast.jet.core.JetTestSupport.wm;
 import static com.hazelcast.jet.core.SlidingWindowPolicy.slidingWinPolicy;
 import static com.hazelcast.jet.core.processor.Processors.aggregateToSlidingWindowP;
@@ -56,6 +63,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.shuffle;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.runners.Parameterized.UseParametersRunnerFactory;
 
@@ -72,17 +80,23 @@ public class SlidingWindowPTest {
     @Parameter(1)
     public boolean singleStageProcessor;
 
+    @Parameter(2)
+    public KeyedStateBackend keyedStateBackend;
+
     private SupplierEx<Processor> supplier;
     private SlidingWindowP lastSuppliedProcessor;
 
-    @Parameters(name = "hasDeduct={0}, singleStageProcessor={1}")
+    @Parameters(name = "hasDeduct={0}, singleStageProcessor={1}, keyedStateBackend={2}")
     public static Collection<Object[]> parameters() {
-        return Arrays.asList(
-                new Object[]{true, true},
-                new Object[]{true, false},
-                new Object[]{false, true},
-                new Object[]{false, false}
-        );
+        List<Object[]> parameters = new ArrayList<>();
+        for (boolean hasDeduct : new boolean[]{true, false}) {
+            for (boolean singleStageProcessor : new boolean[]{true, false}) {
+                for (KeyedStateBackend backend : KeyedStateBackend.values()) {
+                    parameters.add(new Object[]{hasDeduct, singleStageProcessor, backend});
+                }
+            }
+        }
+        return parameters;
     }
 
     @Before
@@ -125,6 +139,7 @@ public class SlidingWindowPTest {
     public void when_noFramesReceived_then_onlyEmitWm() {
         List<Watermark> wmList = singletonList(wm(1));
         verifyProcessor(supplier)
+                .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                 .disableCompleteCall()
                 .input(wmList)
                 .expectOutput(wmList);
@@ -134,6 +149,7 @@ public class SlidingWindowPTest {
     public void when_multiKeyWatermarkReceived_then_emitOnlySupportedWm() {
         List<Watermark> wmList = asList(wm(1, (byte) 0), wm(1, (byte) 1), wm(1, (byte) 2));
         verifyProcessor(supplier)
+                .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                 .disableCompleteCall()
                 .input(wmList)
                 .expectOutput(singletonList(wm(1)));
@@ -142,6 +158,7 @@ public class SlidingWindowPTest {
     @Test
     public void simple_smokeTest() {
         verifyProcessor(supplier)
+                .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                 .disableCompleteCall()
                 .disableLogging()
                 .input(asList(
@@ -159,6 +176,7 @@ public class SlidingWindowPTest {
     @Test
     public void when_receiveAscendingTimestamps_then_emitAscending() {
         verifyProcessor(supplier)
+                .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                 .disableCompleteCall()
                 .input(asList(
                         event(0, 1),
@@ -197,6 +215,7 @@ public class SlidingWindowPTest {
     @Test
     public void when_receiveDescendingTimestamps_then_emitAscending() {
         verifyProcessor(supplier)
+                .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                 .disableCompleteCall()
                 .input(asList(
                         event(4, 1),
@@ -272,6 +291,7 @@ public class SlidingWindowPTest {
                 wm(105)
         ));
         verifyProcessor(supplier)
+                .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                 .disableCompleteCall()
                 .disableLogging()
                 .input(inbox)
@@ -281,6 +301,7 @@ public class SlidingWindowPTest {
     @Test
     public void when_wmNeverReceived_then_emitEverythingInComplete() {
         verifyProcessor(supplier)
+                .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                 .input(asList(
                         event(0L, 1L), // to frame 0
                         event(1L, 1L) // to frame 1
@@ -298,6 +319,7 @@ public class SlidingWindowPTest {
     @Test
     public void when_lateEvent_then_ignored() {
         verifyProcessor(supplier)
+                .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                 .input(asList(
                         wm(10),
                         // this one is late
@@ -318,6 +340,43 @@ public class SlidingWindowPTest {
                 ));
     }
 
+    @Test
+    public void when_incrementalSnapshot_then_onlyChangedAccumulatorsSaved() {
+        SlidingWindowP p = (SlidingWindowP) supplier.get();
+        TestOutbox outbox = new TestOutbox(new int[]{128}, 128);
+        p.init(outbox, new TestProcessorContext()
+                .setProcessingGuarantee(EXACTLY_ONCE)
+                .setJobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend).setFullSnapshotInterval(10)));
+        assertTrue(p.tryProcess(0, event(0, 1)));
+        assertTrue(p.tryProcess(0, event(1, 1)));
+        p.startSnapshot(false);
+        assertTrue(p.saveToSnapshot());
+        assertEquals(Map.of(0L, 1L, 1L, 1L), savedFrames(outbox));
+
+        assertTrue(p.tryProcess(0, event(1, 2)));
+        p.startSnapshot(true);
+        assertTrue(p.saveToSnapshot());
+        Map<Long, Long> expected = new HashMap<>();
+        // the unchanged accumulator is saved without a value
+        expected.put(0L, null);
+        expected.put(1L, 3L);
+        assertEquals(expected, savedFrames(outbox));
+
+        assertTrue(p.tryProcessWatermark(wm(10)));
+        p.close();
+    }
+
+    private static Map<Long, Long> savedFrames(TestOutbox outbox) {
+        Map<Long, Long> frames = new HashMap<>();
+        for (Entry<Object, Object> e; (e = outbox.snapshotQueue().poll()) != null; ) {
+            if (e.getKey() instanceof SlidingWindowP.SnapshotKey key) {
+                frames.put(key.timestamp, e.getValue() == null ? null : ((LongAccumulator) e.getValue()).get());
+            }
+        }
+        outbox.reset();
+        return frames;
+    }
+
     private Entry<Long, ?> event(long frameTs, long value) {
         return singleStageProcessor
                 // frameTs is higher than any event timestamp in that frame;
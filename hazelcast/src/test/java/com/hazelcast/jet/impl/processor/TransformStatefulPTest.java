@@ -21,6 +21,8 @@ import com.hazelcast.function.SupplierEx;
 import com.hazelcast.function.ToLongFunctionEx;
 import com.hazelcast.jet.Traverser;
 import com.hazelcast.jet.Traversers;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.config.KeyedStateBackend;
 import com.hazelcast.jet.core.Processor;
 import com.hazelcast.jet.core.Watermark;
 import com.hazelcast.jet.core.processor.Processors;
@@ -66,12 +68,21 @@ public class TransformStatefulPTest {
     private final Function<JetEvent<Entry<Object, Long>>, Traverser<JetEvent<Entry<Object, Long>>>> expandJetEventFn =
             je -> traverseItems(je, jetEvent(je.timestamp(), entry(je.payload().getKey(), -je.payload().getValue())));
 
-    @Parameter
+    @Parameter(0)
     public boolean flatMap;
 
-    @Parameters(name = "flatMap={0}")
-    public static Collection<Object> parameters() {
-        return asList(true, false);
+    @Parameter(1)
+    public KeyedStateBackend keyedStateBackend;
+
+    @Parameters(name = "flatMap={0}, keyedStateBackend={1}")
+    public static Collection<Object[]> parameters() {
+        List<Object[]> parameters = new ArrayList<>();
+        for (boolean flatMap : new boolean[]{true, false}) {
+            for (KeyedStateBackend backend : KeyedStateBackend.values()) {
+                parameters.add(new Object[]{flatMap, backend});
+            }
+        }
+        return parameters;
     }
 
     @Test
@@ -89,6 +100,7 @@ public class TransformStatefulPTest {
                 expandEntryFn);
 
         TestSupport.verifyProcessor(supplier)
+                   .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                    .input(asList(
                            entry("a", 1L),
                            entry("b", 2L),
@@ -115,6 +127,7 @@ public class TransformStatefulPTest {
                 expandEntryFn);
 
         TestSupport.verifyProcessor(supplier)
+                   .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                    .input(singletonList(entry("a", 1L)))
                    .expectOutput(emptyList());
     }
@@ -135,6 +148,7 @@ public class TransformStatefulPTest {
         );
 
         TestSupport.verifyProcessor(supplier)
+                   .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                    .input(asList(
                            jetEvent(0, entry("a", 1L)),
                            jetEvent(1, entry("b", 2L)),
@@ -169,6 +183,7 @@ public class TransformStatefulPTest {
         );
 
         TestSupport.verifyProcessor(supplier)
+                   .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                 .input(asList(
                         jetEvent(1, entry("b", 1L)),
                         wm(2),
@@ -197,6 +212,7 @@ public class TransformStatefulPTest {
         );
 
         TestSupport.verifyProcessor(supplier)
+                   .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                 .input(asList(
                         jetEvent(0, entry("a", 1L)),
                         jetEvent(1, entry("b", 2L)),
@@ -230,6 +246,7 @@ public class TransformStatefulPTest {
         );
 
         TestSupport.verifyProcessor(supplier)
+                   .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                    .input(asList(
                            jetEvent(0, entry("a", 1L)),
                            jetEvent(1, entry("b", 2L)),
@@ -284,6 +301,7 @@ public class TransformStatefulPTest {
         }
 
         TestSupport.verifyProcessor(supplier)
+                   .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                    .input(input)
                    .disableLogging()
                    .expectOutput(asExpandedList(expandJetEventFn, input.toArray()));
@@ -304,6 +322,7 @@ public class TransformStatefulPTest {
         );
 
         TestSupport.verifyProcessor(supplier)
+                   .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                    .input(asList(
                            jetEvent(0, 1L),
                            jetEvent(1, 2L),
@@ -333,6 +352,7 @@ public class TransformStatefulPTest {
         );
 
         TestSupport.verifyProcessor(supplier)
+                   .jobConfig(new JobConfig().setKeyedStateBackend(keyedStateBackend))
                    .input(asList(
                            jetEvent(-10, entry("a", 1L)),
                            jetEvent(-9, entry("b", 2L)),
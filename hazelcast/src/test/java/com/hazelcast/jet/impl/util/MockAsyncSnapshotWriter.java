@@ -18,6 +18,7 @@ package com.hazelcast.jet.impl.util;
 
 import com.hazelcast.internal.serialization.Data;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Map.Entry;
@@ -42,6 +43,14 @@ public class MockAsyncSnapshotWriter implements AsyncSnapshotWriter {
         return true;
     }
 
+    /**
+     * Adds an entry with {@code null} value for the tombstone.
+     */
+    @Override
+    public boolean offerTombstone(Data key) {
+        return offer(new SimpleImmutableEntry<>(key, null));
+    }
+
     @Override
     public boolean flushAndResetMap() {
         if (ableToFlushRemaining) {
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.proxy.MapProxyImpl;
+import com.hazelcast.map.impl.recordstore.columnar.ColumnarStore;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecord;
+import com.hazelcast.nio.serialization.genericrecord.GenericRecordBuilder;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.impl.QueryableEntry;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static com.hazelcast.test.starter.ReflectionUtils.getFieldValueReflectively;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ColumnarStorageMapTest extends HazelcastTestSupport {
+
+    private static final String COLUMNAR_MAP_PREFIX = "columnar";
+    private static final String[] DEPARTMENTS = {"sales", "engineering", "support", null};
+
+    @Override
+    protected Config getConfig() {
+        // a few partitions, so that they hold several chunks of rows
+        return smallInstanceConfigWithoutJetAndMetrics()
+                .setProperty(ClusterProperty.PARTITION_COUNT.getName(), "2")
+                .addMapConfig(new MapConfig(COLUMNAR_MAP_PREFIX + "*").setColumnarStorageEnabled(true));
+    }
+
+    @Test
+    public void storeIsCreatedPerMap() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, GenericRecord> columnarMap = instance.getMap(COLUMNAR_MAP_PREFIX + randomMapName());
+        IMap<Integer, GenericRecord> map = instance.getMap(randomMapName());
+        columnarMap.put(1, employee(1));
+        map.put(1, employee(1));
+
+        ColumnarStore columnarStore = getColumnarStore(instance, columnarMap.getName(), 1);
+        assertTrue(columnarStore.isUsable());
+        assertEquals(1, columnarStore.size());
+        assertNull(getColumnarStore(instance, map.getName(), 1));
+    }
+
+    @Test
+    public void queriesMatchRecordScan() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, GenericRecord> columnarMap = instance.getMap(COLUMNAR_MAP_PREFIX + randomMapName());
+        IMap<Integer, GenericRecord> map = instance.getMap(randomMapName());
+        for (int i = 0; i < 5000; i++) {
+            columnarMap.put(i, employee(i));
+            map.put(i, employee(i));
+        }
+
+        assertSameResults(columnarMap, map);
+    }
+
+    @Test
+    public void updatesAndRemovesAreReflected() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, GenericRecord> columnarMap = instance.getMap(COLUMNAR_MAP_PREFIX + randomMapName());
+        IMap<Integer, GenericRecord> map = instance.getMap(randomMapName());
+        for (int i = 0; i < 5000; i++) {
+            columnarMap.put(i, employee(i));
+            map.put(i, employee(i));
+        }
+        for (int i = 0; i < 5000; i += 3) {
+            columnarMap.put(i, employee(i + 7919));
+            map.put(i, employee(i + 7919));
+        }
+        for (int i = 1; i < 5000; i += 5) {
+            columnarMap.remove(i);
+            map.remove(i);
+        }
+        for (int i = 5000; i < 5500; i++) {
+            columnarMap.set(i, employee(i));
+            map.set(i, employee(i));
+        }
+
+        assertSameResults(columnarMap, map);
+    }
+
+    @Test
+    public void otherSchemaFallsBackToRecords() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, GenericRecord> columnarMap = instance.getMap(COLUMNAR_MAP_PREFIX + randomMapName());
+        IMap<Integer, GenericRecord> map = instance.getMap(randomMapName());
+        for (int i = 0; i < 1000; i++) {
+            columnarMap.put(i, employee(i));
+            map.put(i, employee(i));
+        }
+        GenericRecord other = employeeBuilder(1).setString("title", "manager").build();
+        columnarMap.put(1, other);
+        map.put(1, other);
+
+        assertFalse(getColumnarStore(instance, columnarMap.getName(), 1).isUsable());
+        assertSameResults(columnarMap, map);
+
+        columnarMap.clear();
+        columnarMap.put(1, employee(1));
+        assertTrue(getColumnarStore(instance, columnarMap.getName(), 1).isUsable());
+    }
+
+    @Test
+    public void clearAndOtherSchemaDuringScan() throws Exception {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, GenericRecord> columnarMap = instance.getMap(COLUMNAR_MAP_PREFIX + randomMapName());
+        for (int i = 0; i < 5000; i++) {
+            columnarMap.put(i, employee(i));
+        }
+        ColumnarStore columnarStore = getColumnarStore(instance, columnarMap.getName(), 0);
+        ReentrantReadWriteLock lock = getFieldValueReflectively(columnarStore, "lock");
+        MapServiceContext mapServiceContext = getNodeEngineImpl(instance).<MapService>getService(MapService.SERVICE_NAME)
+                .getMapServiceContext();
+        int rowCount = columnarStore.size();
+
+        // the first row puts a value of another schema, which drops the columns while
+        // the rows are still there, then clears the map and puts values of the other
+        // schema, which binds the store to it; the mutations get in once the scan
+        // released the lock after the first chunk
+        AtomicInteger visited = new AtomicInteger();
+        Future<?>[] mutation = new Future<?>[1];
+        Predicate<Integer, GenericRecord> predicate = new Predicate<>() {
+            @Override
+            public boolean apply(Map.Entry<Integer, GenericRecord> entry) {
+                if (visited.getAndIncrement() == 0) {
+                    mutation[0] = spawn(() -> {
+                        columnarMap.put(0, employeeBuilder(0).setString("title", "manager").build());
+                        columnarMap.clear();
+                        for (int i = 0; i < 5000; i++) {
+                            columnarMap.put(i, employeeBuilder(i).setString("title", "manager").build());
+                        }
+                    });
+                    assertTrueEventually(() -> assertTrue(lock.hasQueuedThreads()));
+                }
+                int id = entry.getKey();
+                assertEquals(18 + id / 50, ((QueryableEntry) entry).getAttributeValue("age"));
+                return true;
+            }
+        };
+        AtomicInteger matched = new AtomicInteger();
+        assertTrue(columnarStore.scan(predicate, mapServiceContext.getMapContainer(columnarMap.getName()).getExtractors(),
+                entry -> {
+                    matched.incrementAndGet();
+                    return false;
+                }));
+        mutation[0].get();
+
+        assertEquals(rowCount, matched.get());
+        assertTrue(columnarStore.isUsable());
+        assertEquals(rowCount, columnarStore.size());
+    }
+
+    @Test
+    public void pagedScanMatchesRecordScan() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, GenericRecord> columnarMap = instance.getMap(COLUMNAR_MAP_PREFIX + randomMapName());
+        IMap<Integer, GenericRecord> map = instance.getMap(randomMapName());
+        for (int i = 0; i < 5000; i++) {
+            columnarMap.put(i, employee(i));
+            map.put(i, employee(i));
+        }
+
+        Predicate<Integer, GenericRecord> predicate = Predicates.greaterThan("age", 40);
+        for (int partitionId = 0; partitionId < 2; partitionId++) {
+            assertEquals(pagedKeys(map, partitionId, predicate), pagedKeys(columnarMap, partitionId, predicate));
+        }
+    }
+
+    @Test
+    public void migration() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(getConfig());
+        IMap<Integer, GenericRecord> columnarMap = instance1.getMap(COLUMNAR_MAP_PREFIX + randomMapName());
+        IMap<Integer, GenericRecord> map = instance1.getMap(randomMapName());
+        for (int i = 0; i < 5000; i++) {
+            columnarMap.put(i, employee(i));
+            map.put(i, employee(i));
+        }
+
+        HazelcastInstance instance2 = factory.newHazelcastInstance(getConfig());
+        waitAllForSafeState(instance1, instance2);
+        instance1.shutdown();
+
+        assertSameResults(instance2.getMap(columnarMap.getName()), instance2.getMap(map.getName()));
+    }
+
+    private static void assertSameResults(IMap<Integer, GenericRecord> columnarMap, IMap<Integer, GenericRecord> map) {
+        List<Predicate<Integer, GenericRecord>> predicates = List.of(
+                Predicates.greaterThan("age", 40),
+                Predicates.greaterEqual("age", 40L),
+                Predicates.lessThan("this.age", 25),
+                Predicates.between("age", 30, 35),
+                Predicates.equal("age", 33),
+                Predicates.equal("age", 1000),
+                Predicates.notEqual("age", 33),
+                Predicates.equal("department", "sales"),
+                Predicates.equal("department", "marketing"),
+                Predicates.greaterThan("salary", 5000.5),
+                Predicates.equal("active", true),
+                Predicates.equal("id", 42),
+                Predicates.and(Predicates.greaterThan("age", 50), Predicates.equal("department", "support")),
+                Predicates.or(Predicates.lessThan("age", 20), Predicates.greaterThan("salary", 9000)),
+                Predicates.sql("age >= 60 and active = false"),
+                Predicates.alwaysTrue());
+        for (Predicate<Integer, GenericRecord> predicate : predicates) {
+            assertEquals(predicate.toString(), new HashSet<>(map.keySet(predicate)),
+                    new HashSet<>(columnarMap.keySet(predicate)));
+            assertEquals(predicate.toString(), new HashSet<>(map.entrySet(predicate)),
+                    new HashSet<>(columnarMap.entrySet(predicate)));
+            assertEquals(predicate.toString(), map.aggregate(Aggregators.integerSum("age"), predicate),
+                    columnarMap.aggregate(Aggregators.integerSum("age"), predicate));
+        }
+        assertEquals(map.aggregate(Aggregators.doubleAvg("salary")), columnarMap.aggregate(Aggregators.doubleAvg("salary")));
+        assertEquals(map.aggregate(Aggregators.distinct("department")),
+                columnarMap.aggregate(Aggregators.distinct("department")));
+    }
+
+    private static List<Integer> pagedKeys(IMap<Integer, GenericRecord> map, int partitionId,
+                                           Predicate<Integer, GenericRecord> predicate) {
+        List<Integer> keys = new ArrayList<>();
+        ((MapProxyImpl<Integer, GenericRecord>) map)
+                .iterator(100, partitionId, Projections.<Map.Entry<Integer, GenericRecord>, Integer>singleAttribute("__key"),
+                        predicate)
+                .forEachRemaining(keys::add);
+        keys.sort(null);
+        // no entry is returned twice
+        assertEquals(keys.size(), new HashSet<>(keys).size());
+        return keys;
+    }
+
+    private static GenericRecord employee(int id) {
+        return employeeBuilder(id).build();
+    }
+
+    private static GenericRecordBuilder employeeBuilder(int id) {
+        return GenericRecordBuilder.compact("employee")
+                .setInt64("id", id)
+                // correlated with the id, so that the zone maps of the chunks differ
+                .setInt32("age", 18 + id / 50)
+                .setFloat64("salary", (id * 31) % 10_000 + 0.5)
+                .setBoolean("active", id % 3 != 0)
+                .setString("department", DEPARTMENTS[id % DEPARTMENTS.length])
+                .setArrayOfInt32("scores", new int[]{id, id + 1});
+    }
+
+    private static ColumnarStore getColumnarStore(HazelcastInstance instance, String mapName, int key) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        int partitionId = getPartitionService(instance).getPartitionId(key);
+        return mapServiceContext.getRecordStore(partitionId, mapName).getColumnarStore();
+    }
+}
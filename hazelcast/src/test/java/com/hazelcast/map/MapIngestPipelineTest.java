@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.client.config.RoutingMode;
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.client.util.ConfigRoutingUtil;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+
+import static com.hazelcast.test.Accessors.getOperationService;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapIngestPipelineTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+
+    private HazelcastInstance member;
+    private HazelcastInstance client;
+
+    @Before
+    public void setUp() {
+        member = factory.newHazelcastInstance(smallInstanceConfigWithoutJetAndMetrics());
+        factory.newHazelcastInstance(smallInstanceConfigWithoutJetAndMetrics());
+        client = factory.newHazelcastClient();
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testPut_fromMember() throws Exception {
+        testPut(member);
+    }
+
+    @Test
+    public void testPut_fromClient() throws Exception {
+        testPut(client);
+    }
+
+    @Test
+    public void testPut_fromSingleMemberRoutingClient() throws Exception {
+        // the batches of the partitions owned by the other member are sent per partition
+        testPut(factory.newHazelcastClient(ConfigRoutingUtil.newClientConfig(RoutingMode.SINGLE_MEMBER)));
+    }
+
+    private void testPut(HazelcastInstance instance) throws Exception {
+        IMap<Integer, String> map = instance.getMap(randomMapName());
+        try (MapIngestPipeline<Integer, String> pipeline = map.newIngestPipeline(100, 4, 1, MINUTES)) {
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                pipeline.put(i, "value-" + i);
+            }
+        }
+
+        assertEquals(ENTRY_COUNT, map.size());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals("value-" + i, map.get(i));
+        }
+    }
+
+    @Test
+    public void testFlush_fromMember() throws Exception {
+        testFlush(member);
+    }
+
+    @Test
+    public void testFlush_fromClient() throws Exception {
+        testFlush(client);
+    }
+
+    private void testFlush(HazelcastInstance instance) throws Exception {
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+        MapIngestPipeline<Integer, Integer> pipeline = map.newIngestPipeline(ENTRY_COUNT, 1, 1, MINUTES);
+        for (int i = 0; i < 10; i++) {
+            pipeline.put(i, i);
+        }
+        assertEquals(0, map.size());
+
+        pipeline.flush().toCompletableFuture().get();
+
+        assertEquals(10, map.size());
+        assertEquals(0, pipeline.getInFlightBatchCount());
+        pipeline.close();
+    }
+
+    @Test
+    public void testFlushDelay_fromMember() throws Exception {
+        testFlushDelay(member);
+    }
+
+    @Test
+    public void testFlushDelay_fromClient() throws Exception {
+        testFlushDelay(client);
+    }
+
+    private void testFlushDelay(HazelcastInstance instance) throws Exception {
+        IMap<Integer, Integer> map = instance.getMap(randomMapName());
+        try (MapIngestPipeline<Integer, Integer> pipeline = map.newIngestPipeline(ENTRY_COUNT, 1, 100, MILLISECONDS)) {
+            for (int i = 0; i < 10; i++) {
+                pipeline.put(i, i);
+            }
+
+            assertSizeEventually(10, map);
+        }
+    }
+
+    @Test
+    public void testOffer_rejectedWhileWindowIsFull_fromMember() throws Exception {
+        testOffer_rejectedWhileWindowIsFull(member);
+    }
+
+    @Test
+    public void testOffer_rejectedWhileWindowIsFull_fromClient() throws Exception {
+        testOffer_rejectedWhileWindowIsFull(client);
+    }
+
+    private void testOffer_rejectedWhileWindowIsFull(HazelcastInstance instance) throws Exception {
+        IMap<String, String> map = instance.getMap(randomMapName());
+        String key = generateKeyOwnedBy(member);
+        CountDownLatch release = blockPartitionThread(key);
+        try (MapIngestPipeline<String, String> pipeline = map.newIngestPipeline(1, 1, 1, MINUTES)) {
+            assertTrue(pipeline.offer(key, "value"));
+            assertEquals(1, pipeline.getInFlightBatchCount());
+            assertFalse(pipeline.offer("other", "value"));
+
+            release.countDown();
+            assertTrueEventually(() -> assertTrue(pipeline.offer("other", "value")));
+        } finally {
+            release.countDown();
+        }
+
+        assertEquals("value", map.get(key));
+        assertEquals("value", map.get("other"));
+    }
+
+    @Test
+    public void testPut_afterClose() throws Exception {
+        IMap<Integer, Integer> map = member.getMap(randomMapName());
+        MapIngestPipeline<Integer, Integer> pipeline = map.newIngestPipeline(10, 1, 1, MINUTES);
+        pipeline.close();
+
+        assertThrows(IllegalStateException.class, () -> pipeline.put(1, 1));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+
+        assertThrows(IllegalArgumentException.class, () -> map.newIngestPipeline(0, 1, 1, MINUTES));
+        assertThrows(IllegalArgumentException.class, () -> map.newIngestPipeline(1, 0, 1, MINUTES));
+        assertThrows(IllegalArgumentException.class, () -> map.newIngestPipeline(1, 1, 0, MINUTES));
+    }
+
+    private CountDownLatch blockPartitionThread(String key) {
+        int partitionId = getPartitionService(member).getPartitionId(key);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        getOperationService(member).execute(new PartitionSpecificRunnable() {
+            @Override
+            public int getPartitionId() {
+                return partitionId;
+            }
+
+            @Override
+            public void run() {
+                blocked.countDown();
+                assertOpenEventually(release);
+            }
+        });
+        assertOpenEventually(blocked);
+        return release;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.recordstore.OffHeapStorage;
+import com.hazelcast.map.impl.recordstore.RecordStore;
+import com.hazelcast.map.impl.recordstore.StorageImpl;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapStorageMapTest extends HazelcastTestSupport {
+
+    private static final String OFF_HEAP_MAP_PREFIX = "offHeap";
+
+    @Override
+    protected Config getConfig() {
+        return smallInstanceConfigWithoutJetAndMetrics()
+                .addMapConfig(new MapConfig(OFF_HEAP_MAP_PREFIX + "*").setOffHeapStorageEnabled(true));
+    }
+
+    @Test
+    public void storageIsSelectedPerMap() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> offHeapMap = instance.getMap(OFF_HEAP_MAP_PREFIX + randomMapName());
+        IMap<Integer, Integer> onHeapMap = instance.getMap(randomMapName());
+        offHeapMap.put(1, 1);
+        onHeapMap.put(1, 1);
+
+        assertInstanceOf(OffHeapStorage.class, getRecordStore(instance, offHeapMap.getName(), 1).getStorage());
+        assertInstanceOf(StorageImpl.class, getRecordStore(instance, onHeapMap.getName(), 1).getStorage());
+    }
+
+    @Test
+    public void basicOperations() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, String> map = instance.getMap(OFF_HEAP_MAP_PREFIX + randomMapName());
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "value-" + i);
+        }
+
+        assertEquals(1000, map.size());
+        assertEquals("value-42", map.get(42));
+        assertEquals("value-42", map.replace(42, "new"));
+        assertEquals("new", map.get(42));
+        assertEquals("value-43", map.remove(43));
+        assertNull(map.get(43));
+        assertEquals(999, map.entrySet().size());
+        assertEquals(999, map.keySet().size());
+        assertEquals(1, map.values(Predicates.equal("this", "new")).size());
+        assertEquals(1, map.getEntryView(42).getVersion());
+
+        map.clear();
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void iterator() {
+        HazelcastInstance instance = createHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = instance.getMap(OFF_HEAP_MAP_PREFIX + randomMapName());
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            map.put(i, i);
+            expected.put(i, i);
+        }
+
+        Map<Integer, Integer> actual = new HashMap<>();
+        map.iterator(100).forEachRemaining(entry -> actual.put(entry.getKey(), entry.getValue()));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void eviction() {
+        Config config = getConfig();
+        String mapName = OFF_HEAP_MAP_PREFIX + randomMapName();
+        config.getMapConfig(mapName).getEvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.PER_PARTITION)
+                .setSize(10);
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+        int partitionCount = getPartitionService(instance).getPartitionCount();
+
+        for (int i = 0; i < 100 * partitionCount; i++) {
+            map.put(i, i);
+        }
+
+        assertTrue(map.size() <= 10 * partitionCount);
+    }
+
+    @Test
+    public void migration() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance(getConfig());
+        IMap<Integer, Integer> map = instance1.getMap(OFF_HEAP_MAP_PREFIX + randomMapName());
+        for (int i = 0; i < 10_000; i++) {
+            map.put(i, i);
+        }
+
+        HazelcastInstance instance2 = factory.newHazelcastInstance(getConfig());
+        waitAllForSafeState(instance1, instance2);
+        instance1.shutdown();
+
+        IMap<Integer, Integer> map2 = instance2.getMap(map.getName());
+        assertEquals(10_000, map2.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, (int) map2.get(i));
+        }
+    }
+
+    private static RecordStore getRecordStore(HazelcastInstance instance, String mapName, int key) {
+        MapService mapService = getNodeEngineImpl(instance).getService(MapService.SERVICE_NAME);
+        MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        int partitionId = getPartitionService(instance).getPartitionId(key);
+        return mapServiceContext.getRecordStore(partitionId, mapName);
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.client.test.TestHazelcastFactory;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.monitor.impl.LocalMapStatsImpl;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getOperationService;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ReadCoalescerTest extends HazelcastTestSupport {
+
+    private static final int GET_COUNT = 10;
+
+    private final TestHazelcastFactory factory = new TestHazelcastFactory();
+
+    private Config config;
+    private HazelcastInstance member;
+    private HazelcastInstance client;
+
+    @Before
+    public void setUp() {
+        config = smallInstanceConfigWithoutJetAndMetrics()
+                .addMapConfig(new MapConfig("hot*").setGetCoalescingEnabled(true));
+        member = factory.newHazelcastInstance(config);
+        client = factory.newHazelcastClient();
+    }
+
+    @After
+    public void tearDown() {
+        factory.terminateAll();
+    }
+
+    @Test
+    public void testCoalescerCreated_onlyForMatchingMaps() {
+        assertNotNull(getMapContainer("hot-items").getReadCoalescer());
+        assertNull(getMapContainer("cold-items").getReadCoalescer());
+    }
+
+    @Test
+    public void testConcurrentClientGets_areCoalesced() throws Exception {
+        IMap<String, String> map = client.getMap("hot-items");
+        map.put("key", "value");
+
+        CountDownLatch release = blockPartitionThread("key");
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < GET_COUNT; i++) {
+            futures.add(map.getAsync("key").toCompletableFuture());
+        }
+        // the client requests are queued on the blocked partition thread,
+        // other operations may be queued as well
+        assertTrueEventually(() -> assertTrue(
+                getOperationService(member).getOperationExecutor().getQueueSize() >= GET_COUNT));
+        release.countDown();
+
+        for (CompletableFuture<String> future : futures) {
+            assertEquals("value", future.get());
+        }
+        LocalMapStatsImpl stats = getStats("hot-items");
+        long coalesced = stats.getCoalescedGetCount();
+        long executed = stats.getCoalescingGetOperationCount();
+        assertEquals(GET_COUNT, coalesced + executed);
+        assertTrue("coalesced: " + coalesced, coalesced > 0);
+        assertEquals((double) coalesced / GET_COUNT, stats.getCoalescingRatio(), 0.0001);
+        assertEquals(GET_COUNT, member.getMap("hot-items").getLocalMapStats().getGetOperationCount());
+    }
+
+    @Test
+    public void testConcurrentMemberGets_areCoalesced() throws Exception {
+        IMap<String, String> map = member.getMap("hot-items");
+        map.put("key", "value");
+
+        CountDownLatch release = blockPartitionThread("key");
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < GET_COUNT; i++) {
+            futures.add(map.getAsync("key").toCompletableFuture());
+        }
+        release.countDown();
+
+        for (CompletableFuture<String> future : futures) {
+            assertEquals("value", future.get());
+        }
+        assertEquals(1, getStats("hot-items").getCoalescingGetOperationCount());
+        assertEquals(GET_COUNT - 1, getStats("hot-items").getCoalescedGetCount());
+    }
+
+    @Test
+    public void testGet_afterCompletedRead_isNotCoalesced() {
+        IMap<String, String> map = member.getMap("hot-items");
+        map.put("key", "value");
+        assertEquals("value", map.get("key"));
+
+        map.put("key", "newValue");
+
+        assertEquals("newValue", map.get("key"));
+        assertEquals(0, getStats("hot-items").getCoalescedGetCount());
+        assertEquals(2, getStats("hot-items").getCoalescingGetOperationCount());
+        assertEquals(0, getMapContainer("hot-items").getReadCoalescer().inFlightReadCount());
+    }
+
+    @Test
+    public void testClientGet_afterCompletedRead_isNotCoalesced() {
+        IMap<String, String> map = client.getMap("hot-items");
+        map.put("key", "value");
+        assertEquals("value", map.get("key"));
+
+        map.put("key", "newValue");
+
+        assertEquals("newValue", map.get("key"));
+        assertEquals(0, getStats("hot-items").getCoalescedGetCount());
+        assertTrueEventually(() -> assertEquals(0, getMapContainer("hot-items").getReadCoalescer().completedReadCount()));
+    }
+
+    @Test
+    public void testClientGet_queuedBehindWrite_observesWrite() throws Exception {
+        IMap<String, String> map = client.getMap("hot-items");
+        map.put("key", "value");
+
+        CountDownLatch release = blockPartitionThread("key");
+        CompletableFuture<String> get = map.getAsync("key").toCompletableFuture();
+        // requests of a connection are queued in the order they were sent
+        CompletableFuture<String> put = map.putAsync("key", "newValue").toCompletableFuture();
+        release.countDown();
+        assertEquals("value", get.get());
+        assertEquals("value", put.get());
+
+        // the response of the first get may still be published
+        assertEquals("newValue", map.get("key"));
+    }
+
+    @Test
+    public void testGet_queuedBehindWrite_observesWrite() throws Exception {
+        IMap<String, String> map = member.getMap("hot-items");
+        map.put("key", "value");
+
+        CountDownLatch release = blockPartitionThread("key");
+        CompletableFuture<String> firstGet = map.getAsync("key").toCompletableFuture();
+        CompletableFuture<String> put = map.putAsync("key", "newValue").toCompletableFuture();
+        release.countDown();
+        assertEquals("value", firstGet.get());
+        assertEquals("value", put.get());
+
+        assertEquals("newValue", map.get("key"));
+    }
+
+    @Test
+    public void testGet_missingKey() {
+        IMap<String, String> map = client.getMap("hot-items");
+
+        assertNull(map.get("missing"));
+    }
+
+    @Test
+    public void testCancelledGet_doesNotAffectCoalescedGets() throws Exception {
+        IMap<String, String> map = member.getMap("hot-items");
+        map.put("key", "value");
+
+        CountDownLatch release = blockPartitionThread("key");
+        CompletableFuture<String> leader = map.getAsync("key").toCompletableFuture();
+        CompletableFuture<String> follower = map.getAsync("key").toCompletableFuture();
+        leader.cancel(true);
+        release.countDown();
+
+        assertEquals("value", follower.get());
+        assertTrue(leader.isCancelled());
+    }
+
+    @Test
+    public void testGets_duringMigration_observeCompletedWrites() throws Exception {
+        IMap<String, Integer> map = member.getMap("hot-counter");
+        map.put("key", 0);
+        AtomicInteger lastWritten = new AtomicInteger();
+        AtomicBoolean stop = new AtomicBoolean();
+        List<Future<?>> futures = new ArrayList<>();
+        futures.add(spawn(() -> {
+            for (int i = 1; !stop.get(); i++) {
+                map.set("key", i);
+                lastWritten.set(i);
+            }
+        }));
+        for (int i = 0; i < 4; i++) {
+            futures.add(spawn(() -> {
+                while (!stop.get()) {
+                    int written = lastWritten.get();
+                    int read = map.get("key");
+                    assertTrue("read " + read + " after " + written + " was written", read >= written);
+                }
+            }));
+        }
+
+        // the partition of the key moves to the other member and back, the
+        // gets are served by a local and by a remote owner
+        HazelcastInstance other = factory.newHazelcastInstance(config);
+        waitAllForSafeState(member, other);
+        other.shutdown();
+        waitAllForSafeState(member);
+        stop.set(true);
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertEquals(0, getMapContainer("hot-counter").getReadCoalescer().inFlightReadCount());
+    }
+
+    private CountDownLatch blockPartitionThread(String key) {
+        int partitionId = getPartitionService(member).getPartitionId(key);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        getOperationService(member).execute(new PartitionSpecificRunnable() {
+            @Override
+            public int getPartitionId() {
+                return partitionId;
+            }
+
+            @Override
+            public void run() {
+                blocked.countDown();
+                assertOpenEventually(release);
+            }
+        });
+        assertOpenEventually(blocked);
+        return release;
+    }
+
+    private MapContainer getMapContainer(String mapName) {
+        MapService mapService = getNodeEngineImpl(member).getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext().getMapContainer(mapName);
+    }
+
+    private LocalMapStatsImpl getStats(String mapName) {
+        MapService mapService = getNodeEngineImpl(member).getService(MapService.SERVICE_NAME);
+        return mapService.getMapServiceContext().getLocalMapStatsProvider().getLocalMapStatsImpl(mapName);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.monitor.impl.LocalIndexStatsImpl;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.query.QueryException;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class IndexBuildTaskTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 10_000;
+
+    private HazelcastInstance instance;
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void setUp() {
+        Config config = smallInstanceConfig()
+                .setProperty(IndexBuildTask.INDEX_BUILD_CHUNK_SIZE.getName(), "10");
+        instance = createHazelcastInstance(config);
+        map = instance.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+    }
+
+    @Test
+    public void testIndexBuiltInChunks() {
+        map.addIndex(new IndexConfig(IndexType.SORTED, "this").setName("index"));
+
+        assertTrueEventually(() -> {
+            LocalIndexStatsImpl stats = indexStats();
+            assertEquals(getPartitionService(instance).getPartitionCount(), stats.getPartitionsIndexed());
+            assertEquals(ENTRY_COUNT, stats.getIndexBuildEntryCount());
+        });
+
+        assertEquals(100, map.values(Predicates.lessThan("this", 100)).size());
+        assertTrue(indexStats().getQueryCount() > 0);
+    }
+
+    @Test
+    public void testMutationsDuringIndexBuild() {
+        map.addIndex(new IndexConfig(IndexType.SORTED, "this").setName("index"));
+        for (int i = 0; i < 1000; i++) {
+            map.remove(i);
+            map.put(ENTRY_COUNT + i, -i - 1);
+        }
+
+        assertTrueEventually(() -> assertEquals(getPartitionService(instance).getPartitionCount(),
+                indexStats().getPartitionsIndexed()));
+
+        assertEquals(1000, map.values(Predicates.lessThan("this", 0)).size());
+        assertEquals(ENTRY_COUNT - 1000, map.values(Predicates.greaterEqual("this", 0)).size());
+        assertEquals(0, map.values(Predicates.lessThan("this", 1000)).stream().filter(v -> v >= 0).count());
+        assertTrue(indexStats().getQueryCount() > 0);
+    }
+
+    @Test
+    public void testAddIndex_whenFirstChunkFails_thenAddIndexFails() {
+        assertThrows(QueryException.class,
+                () -> map.addIndex(new IndexConfig(IndexType.SORTED, "missing").setName("index")));
+    }
+
+    @Test
+    public void testIndexBuild_whenLaterChunkFails_thenPartitionLeftUnindexed() {
+        IMap<Integer, FailingValue> failingMap = instance.getMap(randomMapName());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            failingMap.put(i, new FailingValue(i));
+        }
+        int partitionCount = getPartitionService(instance).getPartitionCount();
+
+        failingMap.addIndex(new IndexConfig(IndexType.SORTED, "value").setName("index"));
+
+        assertTrueEventually(() -> {
+            LocalIndexStatsImpl stats = indexStats(failingMap);
+            assertTrue(stats.getIndexBuildFailureCount() > 0);
+            assertEquals(partitionCount, stats.getPartitionsIndexed() + stats.getIndexBuildFailureCount());
+        });
+    }
+
+    private LocalIndexStatsImpl indexStats() {
+        return indexStats(map);
+    }
+
+    private static LocalIndexStatsImpl indexStats(IMap<?, ?> map) {
+        return (LocalIndexStatsImpl) map.getLocalMapStats().getIndexStats().get("index");
+    }
+
+    /**
+     * A value which can only be indexed by the first chunk of the build,
+     * which runs within the {@link AddIndexOperation}.
+     */
+    public static class FailingValue implements Serializable {
+
+        private final int value;
+
+        FailingValue(int value) {
+            this.value = value;
+        }
+
+        public int getValue() {
+            boolean inAddIndexOperation = StackWalker.getInstance()
+                    .walk(frames -> frames.anyMatch(frame -> frame.getClassName().equals(AddIndexOperation.class.getName())));
+            if (!inAddIndexOperation) {
+                throw new IllegalStateException("extraction failed");
+            }
+            return value;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.hazelcast.config.Config;
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.config.IndexType;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.query.impl.IndexCopyBehavior;
@@ -43,6 +44,7 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ThreadLocalRandom;
@@ -65,6 +67,7 @@ import static com.hazelcast.query.impl.IndexCopyBehavior.NEVER;
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
 import static org.junit.runners.Parameterized.Parameter;
 import static org.junit.runners.Parameterized.Parameters;
 
@@ -119,6 +122,30 @@ public class QueryNullHandlingTest extends HazelcastTestSupport {
         verify(createHazelcastInstance().getMap("map"), indexType);
     }
 
+    @Test
+    public void testBitmapRangeQueriesMatchSorted() {
+        assumeTrue(indexType == BITMAP);
+        Config config = getConfig();
+        config.getMapConfig("sorted").addIndexConfig(new IndexConfig(SORTED, "value"));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IMap<Integer, Int> bitmapMap = instance.getMap("map");
+        IMap<Integer, Int> sortedMap = instance.getMap("sorted");
+        List<Integer> values = Arrays.asList(-3, 0, 1, 2, 2, 5, 7, null, null);
+        for (int i = 0; i < values.size(); i++) {
+            bitmapMap.put(i, new Int(values.get(i)));
+            sortedMap.put(i, new Int(values.get(i)));
+        }
+
+        List<Predicate<Integer, Int>> predicates = asList(
+                lessThan("value", 2), lessEqual("value", 2), greaterThan("value", 2), greaterEqual("value", 2),
+                lessThan("value", -10), greaterThan("value", 10), lessEqual("value", 7), greaterEqual("value", -3),
+                between("value", 0, 5), between("value", 5, 0), between("value", -3, 7));
+        for (Predicate<Integer, Int> predicate : predicates) {
+            assertEquals(predicate.toString(), new HashSet<>(sortedMap.keySet(predicate)),
+                    new HashSet<>(bitmapMap.keySet(predicate)));
+        }
+    }
+
     public static void verify(IMap<Integer, Int> map, IndexType indexType) {
         ThreadLocalRandom random = ThreadLocalRandom.current();
         List<Integer> values = Arrays.asList(0, 1, 2, 2, 5, null, null);
@@ -191,7 +218,8 @@ public class QueryNullHandlingTest extends HazelcastTestSupport {
             return p instanceof EqualPredicate || p instanceof GreaterLessPredicate || p instanceof InPredicate
                     || p instanceof BetweenPredicate;
         } else if (indexType == BITMAP) {
-            return p instanceof EqualPredicate || p instanceof NotEqualPredicate || p instanceof InPredicate;
+            return p instanceof EqualPredicate || p instanceof NotEqualPredicate || p instanceof InPredicate
+                    || p instanceof GreaterLessPredicate || p instanceof BetweenPredicate;
         } else {
             throw new RuntimeException("Unexpected index type");
         }
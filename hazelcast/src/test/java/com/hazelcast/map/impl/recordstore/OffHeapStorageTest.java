@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.recordstore;
+
+import com.hazelcast.core.EntryView;
+import com.hazelcast.internal.iteration.IterationPointer;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.map.impl.iterator.MapEntriesWithCursor;
+import com.hazelcast.map.impl.iterator.MapKeysWithCursor;
+import com.hazelcast.map.impl.record.OffHeapRecord;
+import com.hazelcast.map.impl.record.OffHeapRecordFactory;
+import com.hazelcast.map.impl.record.Record;
+import com.hazelcast.map.impl.recordstore.expiry.ExpirySystem;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class OffHeapStorageTest {
+
+    private SerializationService ss;
+    private OffHeapRecordFactory recordFactory;
+    private OffHeapStorage storage;
+
+    @Before
+    public void setUp() {
+        ss = new DefaultSerializationServiceBuilder().build();
+        recordFactory = new OffHeapRecordFactory(ss);
+        storage = new OffHeapStorage(ExpirySystem.NULL, ss);
+    }
+
+    @After
+    public void tearDown() {
+        storage.destroy(false);
+    }
+
+    @Test
+    public void testPutGet() {
+        Data key = ss.toData("key");
+        Record record = put(key, "value");
+
+        assertTrue(((OffHeapRecord) record).isAttached());
+        assertEquals(1, storage.size());
+        assertTrue(storage.containsKey(key));
+        assertEquals("value", ss.toObject(storage.get(key).getValue()));
+    }
+
+    @Test
+    public void testPut_overwritesExistingEntry() {
+        Data key = ss.toData("key");
+        put(key, "value1");
+        put(key, "value2");
+
+        assertEquals(1, storage.size());
+        assertEquals("value2", ss.toObject(storage.get(key).getValue()));
+    }
+
+    @Test
+    public void testMetadataIsWrittenThrough() {
+        Data key = ss.toData("key");
+        Record record = put(key, "value");
+        record.setVersion(42);
+        record.setHits(7);
+        record.setLastAccessTime(123456789L);
+
+        Record fetched = storage.get(key);
+        assertEquals(42, fetched.getVersion());
+        assertEquals(7, fetched.getHits());
+        assertEquals(record.getLastAccessTime(), fetched.getLastAccessTime());
+    }
+
+    @Test
+    public void testUpdateRecordValue() {
+        Data key = ss.toData("key");
+        Record record = put(key, "value");
+
+        storage.updateRecordValue(key, record, "newValue");
+
+        assertEquals("newValue", ss.toObject(storage.get(key).getValue()));
+    }
+
+    @Test
+    public void testUpdateRecordValue_toNull() {
+        Data key = ss.toData("key");
+        Record record = put(key, "value");
+
+        storage.updateRecordValue(key, record, null);
+
+        assertNull(storage.get(key).getValue());
+    }
+
+    @Test
+    public void testRemoveRecord_detachesRecord() {
+        Data key = ss.toData("key");
+        put(key, "value");
+        OffHeapRecord record = (OffHeapRecord) storage.get(key);
+        record.setVersion(3);
+
+        storage.removeRecord(key, record);
+
+        assertFalse(record.isAttached());
+        assertEquals("value", ss.toObject(record.getValue()));
+        assertEquals(3, record.getVersion());
+        assertNull(storage.get(key));
+        assertTrue(storage.isEmpty());
+    }
+
+    @Test
+    public void testRemoveRecord_releasesNativeMemory() {
+        long initialMemory = storage.getUsedNativeMemory();
+        Data key = ss.toData("key");
+        put(key, "value");
+        assertTrue(storage.getUsedNativeMemory() > initialMemory);
+
+        storage.removeRecord(key, storage.get(key));
+
+        assertEquals(initialMemory, storage.getUsedNativeMemory());
+    }
+
+    @Test
+    public void testClear() {
+        long initialMemory = storage.getUsedNativeMemory();
+        for (int i = 0; i < 1000; i++) {
+            put(ss.toData(i), i);
+        }
+
+        storage.clear(false);
+
+        assertEquals(0, storage.size());
+        assertNull(storage.get(ss.toData(1)));
+        // the slot array may have grown, but all entry blocks are freed
+        assertTrue(storage.getUsedNativeMemory() >= initialMemory);
+        put(ss.toData(1), 1);
+        assertEquals(1, (int) ss.toObject(storage.get(ss.toData(1)).getValue()));
+    }
+
+    @Test
+    public void testMutationTolerantIterator_toleratesRemoval() {
+        for (int i = 0; i < 100; i++) {
+            put(ss.toData(i), i);
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        Iterator<Map.Entry<Data, Record>> iterator = storage.mutationTolerantIterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Data, Record> entry = iterator.next();
+            int key = ss.toObject(entry.getKey());
+            seen.add(key);
+            assertEquals(key, (int) ss.toObject(entry.getValue().getValue()));
+            storage.removeRecord(entry.getKey(), entry.getValue());
+        }
+
+        assertEquals(100, seen.size());
+        assertTrue(storage.isEmpty());
+    }
+
+    @Test
+    public void testGetRandomSamples() {
+        for (int i = 0; i < 100; i++) {
+            put(ss.toData(i), i);
+        }
+
+        int count = 0;
+        for (EntryView entryView : storage.getRandomSamples(15)) {
+            Data key = storage.extractDataKeyFromLazy(entryView);
+            assertEquals(ss.toObject(key), entryView.getValue());
+            count++;
+        }
+        assertEquals(15, count);
+    }
+
+    @Test
+    public void testFetchKeys_returnsAllKeys() {
+        int entryCount = 1000;
+        for (int i = 0; i < entryCount; i++) {
+            put(ss.toData(i), i);
+        }
+
+        Set<Object> keys = new HashSet<>();
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        do {
+            MapKeysWithCursor cursor = storage.fetchKeys(pointers, 100);
+            cursor.getBatch().forEach(key -> keys.add(ss.toObject(key)));
+            pointers = cursor.getIterationPointers();
+        } while (pointers[pointers.length - 1].getIndex() >= 0);
+
+        assertEquals(entryCount, keys.size());
+    }
+
+    @Test
+    public void testFetchEntries_survivesResize() {
+        for (int i = 0; i < 100; i++) {
+            put(ss.toData(i), i);
+        }
+
+        Set<Object> keys = new HashSet<>();
+        IterationPointer[] pointers = {new IterationPointer(Integer.MAX_VALUE, -1)};
+        MapEntriesWithCursor cursor = storage.fetchEntries(pointers, 10);
+        cursor.getBatch().forEach(entry -> keys.add(ss.toObject(entry.getKey())));
+        pointers = cursor.getIterationPointers();
+
+        // grow the slot array during iteration
+        for (int i = 100; i < 10_000; i++) {
+            put(ss.toData(i), i);
+        }
+
+        int duplicates = 0;
+        while (pointers[pointers.length - 1].getIndex() >= 0) {
+            cursor = storage.fetchEntries(pointers, 100);
+            for (Map.Entry<Data, Data> entry : cursor.getBatch()) {
+                assertEquals((Object) ss.toObject(entry.getKey()), ss.toObject(entry.getValue()));
+                if (!keys.add(ss.toObject(entry.getKey()))) {
+                    duplicates++;
+                }
+            }
+            pointers = cursor.getIterationPointers();
+        }
+
+        assertEquals(0, duplicates);
+        for (int i = 0; i < 100; i++) {
+            assertTrue("Missing key " + i, keys.contains(i));
+        }
+    }
+
+    private Record put(Data key, Object value) {
+        Record record = recordFactory.newRecord(key, value);
+        storage.put(key, record);
+        return record;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.map.impl.recordstore.expiry;
+
+import com.hazelcast.map.impl.recordstore.expiry.ExpiryTimerWheel.Node;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ExpiryTimerWheelTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    // nodes may be due up to a tick of the finest level later
+    private static final long TICK_MILLIS = 1 << 10;
+
+    private final ExpiryTimerWheel timerWheel = new ExpiryTimerWheel(NOW);
+
+    @Test
+    public void testAdvance_movesExpiredNodesToDueList() {
+        long[] delays = {SECONDS.toMillis(3), MINUTES.toMillis(5), HOURS.toMillis(3), DAYS.toMillis(2), DAYS.toMillis(30)};
+        List<Node> nodes = new ArrayList<>();
+        for (long delay : delays) {
+            Node node = node(NOW + delay);
+            nodes.add(node);
+            timerWheel.schedule(node);
+        }
+
+        for (int i = 0; i < delays.length; i++) {
+            timerWheel.advance(NOW + delays[i] - 1);
+            assertNull(timerWheel.pollDue());
+
+            timerWheel.advance(NOW + delays[i] + TICK_MILLIS);
+            assertSame(nodes.get(i), timerWheel.pollDue());
+            assertNull(timerWheel.pollDue());
+        }
+    }
+
+    @Test
+    public void testAdvance_inSteps() {
+        Set<Node> nodes = new HashSet<>();
+        for (int i = 1; i <= 1000; i++) {
+            Node node = node(NOW + SECONDS.toMillis(i * 7));
+            nodes.add(node);
+            timerWheel.schedule(node);
+        }
+
+        for (long time = NOW; time <= NOW + SECONDS.toMillis(7000); time += SECONDS.toMillis(5)) {
+            timerWheel.advance(time);
+            Node node;
+            while ((node = timerWheel.pollDue()) != null) {
+                assertTrue(node.getExpirationTime() <= time);
+                assertTrue(node.getExpirationTime() > time - SECONDS.toMillis(5) - TICK_MILLIS);
+                assertTrue(nodes.remove(node));
+            }
+        }
+        assertTrue(nodes.isEmpty());
+    }
+
+    @Test
+    public void testSchedule_pastTime_isDue() {
+        Node node = node(NOW - 1);
+
+        timerWheel.schedule(node);
+
+        assertSame(node, timerWheel.pollDue());
+    }
+
+    @Test
+    public void testDeschedule() {
+        Node node = node(NOW + SECONDS.toMillis(10));
+        timerWheel.schedule(node);
+
+        timerWheel.deschedule(node);
+        timerWheel.advance(NOW + SECONDS.toMillis(20));
+
+        assertNull(timerWheel.pollDue());
+    }
+
+    @Test
+    public void testAdvance_reschedulesExtendedExpirationTime() {
+        Node node = node(NOW + SECONDS.toMillis(10));
+        timerWheel.schedule(node);
+
+        node.setExpirationTime(NOW + MINUTES.toMillis(10));
+        timerWheel.advance(NOW + MINUTES.toMillis(1));
+        assertNull(timerWheel.pollDue());
+
+        timerWheel.advance(NOW + MINUTES.toMillis(10) + TICK_MILLIS);
+        assertSame(node, timerWheel.pollDue());
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < 10; i++) {
+            timerWheel.schedule(node(NOW + SECONDS.toMillis(i)));
+        }
+
+        timerWheel.clear();
+        timerWheel.advance(NOW + MINUTES.toMillis(1));
+
+        assertNull(timerWheel.pollDue());
+        assertEquals(NOW + MINUTES.toMillis(1), timerWheel.getCurrentTimeMillis());
+    }
+
+    private static Node node(long expirationTime) {
+        return new Node(0, 0, expirationTime, NOW);
+    }
+}
@@ -19,6 +19,7 @@ package com.hazelcast.map.metrics;
 import com.hazelcast.config.Config;
 import com.hazelcast.core.HazelcastInstance;
 
+import javax.management.AttributeNotFoundException;
 import javax.management.InstanceNotFoundException;
 import javax.management.MBeanServer;
 import javax.management.MalformedObjectNameException;
@@ -72,7 +73,7 @@ public class MetricTestUtils {
     /**
      * Assert that the attribute value for an MBean in the local platform server equals the expected value
      * at least once in a series of query retries. We perform retries to handle the case where an updated
-     * attribute value may not have been published yet.
+     * attribute value, or the attribute itself, may not have been published yet.
      *
      * @param expected      The expected value
      * @param mbean         The MBean object name
@@ -83,7 +84,7 @@ public class MetricTestUtils {
         for (int i = 0; i < MBEAN_ASSERTION_RETRIES; i++) {
             try {
                 assertThat(mbeanServer.getAttribute(mbean, attributeName)).isEqualTo(expected);
-            } catch (AssertionError | InstanceNotFoundException e) {
+            } catch (AssertionError | InstanceNotFoundException | AttributeNotFoundException e) {
                 if (i == MBEAN_ASSERTION_RETRIES - 1) {
                     throw e instanceof AssertionError ? (AssertionError) e : new AssertionError(e);
                 } else {
@@ -45,6 +45,7 @@ import static com.hazelcast.internal.serialization.impl.SerializationConcurrency
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -187,6 +188,31 @@ public class PacketIOHelperTest extends HazelcastTestSupport {
         assertPacketEquals(originalPacket, clonedPacket);
     }
 
+    @Test
+    public void packetOverBufferPrefix_writesOnlyPayloadAndReleasesBuffer() {
+        byte[] buffer = new byte[64];
+        byte[] payload = "foobarbaz".getBytes();
+        System.arraycopy(payload, 0, buffer, 0, payload.length);
+        List<byte[]> released = new LinkedList<>();
+        Packet originalPacket = new Packet(buffer, payload.length, released::add);
+
+        ByteBuffer bb = ByteBuffer.allocate(20);
+        Packet clonedPacket;
+        boolean writeCompleted;
+        do {
+            assertTrue(released.isEmpty());
+            writeCompleted = packetWriter.writeTo(originalPacket, bb);
+            bb.flip();
+            clonedPacket = packetReader.readFrom(bb);
+            bb.clear();
+        } while (!writeCompleted);
+
+        assertNotNull(clonedPacket);
+        assertArrayEquals(payload, clonedPacket.toByteArray());
+        assertEquals(1, released.size());
+        assertSame(buffer, released.get(0));
+    }
+
     private static void assertPacketEquals(Packet originalPacket, Packet clonedPacket) {
         assertEquals(originalPacket.getFlags(), clonedPacket.getFlags());
         assertArrayEquals(originalPacket.toByteArray(), clonedPacket.toByteArray());
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.config.CacheDeserializedValues;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.config.MetadataPolicy;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.projection.Projections;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CoveringIndexTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    @Override
+    protected Config getConfig() {
+        Config config = smallInstanceConfig();
+        config.getMapConfig("covering")
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setCacheDeserializedValues(CacheDeserializedValues.NEVER)
+                .setMetadataPolicy(MetadataPolicy.OFF)
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "v2").addIncludedAttribute("v1"));
+        config.getMapConfig("plain")
+                .setInMemoryFormat(InMemoryFormat.BINARY)
+                .setCacheDeserializedValues(CacheDeserializedValues.NEVER)
+                .setMetadataPolicy(MetadataPolicy.OFF)
+                .addIndexConfig(new IndexConfig(IndexType.SORTED, "v2"));
+        return config;
+    }
+
+    @Test
+    public void testProjectionIsAnsweredFromCoveringIndex() {
+        IMap<Integer, Record> map = createHazelcastInstance().getMap("covering");
+        populate(map);
+
+        Record.deserializationCount.set(0);
+        Collection<Object[]> result = map.project(Projections.multiAttribute("v1", "v2"),
+                Predicates.greaterEqual("v2", ENTRY_COUNT / 2 * 1001));
+
+        assertEquals(ENTRY_COUNT / 2, result.size());
+        for (Object[] row : result) {
+            assertEquals((int) row[0] * 1001, (int) row[1] * 1000);
+        }
+        assertEquals(0, Record.deserializationCount.get());
+    }
+
+    @Test
+    public void testProjectionDeserializesWithoutCoveringIndex() {
+        IMap<Integer, Record> map = createHazelcastInstance().getMap("plain");
+        populate(map);
+
+        Record.deserializationCount.set(0);
+        Collection<Object[]> result = map.project(Projections.multiAttribute("v1", "v2"),
+                Predicates.greaterEqual("v2", ENTRY_COUNT / 2 * 1001));
+
+        assertEquals(ENTRY_COUNT / 2, result.size());
+        assertTrue(Record.deserializationCount.get() >= ENTRY_COUNT / 2);
+    }
+
+    @Test
+    public void testCoveredAttributesFollowUpdatesAndRemovals() {
+        IMap<Integer, Record> map = createHazelcastInstance().getMap("covering");
+        populate(map);
+
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            if (i % 2 == 0) {
+                map.delete(i);
+            } else {
+                Record record = new Record(i);
+                record.v1 = -i;
+                map.set(i, record);
+            }
+        }
+
+        Collection<Object[]> result = map.project(Projections.multiAttribute("v1", "v2"),
+                Predicates.greaterEqual("v2", 0));
+
+        assertEquals(ENTRY_COUNT / 2, result.size());
+        for (Object[] row : result) {
+            int key = (int) row[1] / 1001;
+            assertEquals(1, key % 2);
+            assertEquals(-key, (int) row[0]);
+        }
+    }
+
+    @Test
+    public void testInvalidIncludedAttributes() {
+        IMap<Integer, Record> map = createHazelcastInstance().getMap("invalid");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> map.addIndex(new IndexConfig(IndexType.BITMAP, "v3").addIncludedAttribute("v1")));
+        assertThrows(IllegalArgumentException.class,
+                () -> map.addIndex(new IndexConfig(IndexType.SORTED, "v2").addIncludedAttribute("this.v2")));
+        assertThrows(IllegalArgumentException.class,
+                () -> map.addIndex(new IndexConfig(IndexType.HASH, "v2").addIncludedAttribute("v1").addIncludedAttribute("v1")));
+    }
+
+    private static void populate(IMap<Integer, Record> map) {
+        for (int i = 0; i < ENTRY_COUNT; ++i) {
+            map.put(i, new Record(i));
+        }
+    }
+
+    static class Record implements DataSerializable {
+
+        static final AtomicInteger deserializationCount = new AtomicInteger();
+
+        int v1;
+        int v2;
+        int v3;
+
+        @SuppressWarnings("unused")
+        Record() {
+        }
+
+        Record(int key) {
+            this.v1 = key * 1000;
+            this.v2 = key * 1001;
+            this.v3 = key * 1002;
+        }
+
+        @Override
+        public void writeData(ObjectDataOutput out) throws IOException {
+            out.writeInt(v1);
+            out.writeInt(v2);
+            out.writeInt(v3);
+        }
+
+        @Override
+        public void readData(ObjectDataInput in) throws IOException {
+            v1 = in.readInt();
+            v2 = in.readInt();
+            v3 = in.readInt();
+
+            deserializationCount.incrementAndGet();
+        }
+    }
+}
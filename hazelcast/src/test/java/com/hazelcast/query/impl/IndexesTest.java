@@ -229,9 +229,10 @@ public class IndexesTest {
         matched = indexes.matchIndex(bitmapIndex.getName(), EqualPredicate.class, IndexMatchHint.EXACT_NAME,
                 SKIP_PARTITIONS_COUNT_CHECK);
         assertSame(bitmapIndex, matched);
+        // bitmap indexes evaluate range predicates too
         matched = indexes.matchIndex(bitmapIndex.getName(), GreaterLessPredicate.class, IndexMatchHint.EXACT_NAME,
                 SKIP_PARTITIONS_COUNT_CHECK);
-        assertNull(matched);
+        assertSame(bitmapIndex, matched);
     }
 
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LongBPlusTreeTest {
+
+    @Test
+    public void testEmpty() {
+        LongBPlusTree<String> tree = new LongBPlusTree<>();
+        assertTrue(tree.isEmpty());
+        assertNull(tree.get(1));
+        assertNull(tree.remove(1));
+        assertFalse(tree.ascendingFrom(key -> true).isValid());
+        assertFalse(tree.descendingFrom(key -> true).isValid());
+    }
+
+    @Test
+    public void testMutationsReturnPreviousValues() {
+        LongBPlusTree<String> tree = new LongBPlusTree<>();
+        for (long i = 0; i < 1000; ++i) {
+            assertNull(tree.put(i, "v" + i));
+        }
+
+        assertEquals("v500", tree.put(500, "updated"));
+        assertEquals("v10", tree.remove(10));
+        assertNull(tree.remove(10));
+        assertNull(tree.put(5000, "v5000"));
+
+        assertEquals(1000, tree.size());
+        assertEquals("updated", tree.get(500));
+        assertNull(tree.get(10));
+        assertEquals("v5000", tree.get(5000));
+    }
+
+    @Test
+    public void testDescendingInsertion() {
+        LongBPlusTree<Long> tree = new LongBPlusTree<>();
+        int count = LongBPlusTree.MAX_NODE_SIZE * LongBPlusTree.MAX_NODE_SIZE * 2;
+        for (long i = count - 1; i >= 0; --i) {
+            tree.put(i, i);
+        }
+        assertEquals(count, tree.size());
+        assertAscending(tree, 0, count);
+    }
+
+    @Test
+    public void testSequentialInsertionAndRemoval() {
+        LongBPlusTree<Long> tree = new LongBPlusTree<>();
+        int count = LongBPlusTree.MAX_NODE_SIZE * LongBPlusTree.MAX_NODE_SIZE * 3;
+        for (long i = 0; i < count; ++i) {
+            tree.put(i, i);
+        }
+        assertEquals(count, tree.size());
+        assertAscending(tree, 0, count);
+
+        // remove from both ends to trigger the merges on both sides
+        for (long i = 0; i < count / 3; ++i) {
+            assertEquals(i, (long) tree.remove(i));
+            assertEquals(count - 1 - i, (long) tree.remove(count - 1 - i));
+        }
+        assertEquals(count / 3, tree.size());
+        assertAscending(tree, count / 3, count - count / 3);
+
+        for (long i = count / 3; i < count - count / 3; ++i) {
+            tree.remove(i);
+        }
+        assertTrue(tree.isEmpty());
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(42);
+        NavigableMap<Long, Integer> expected = new TreeMap<>();
+        LongBPlusTree<Integer> tree = new LongBPlusTree<>();
+
+        for (int i = 0; i < 50_000; ++i) {
+            long key = random.nextInt(5_000) - 2_500;
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), tree.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), tree.put(key, i));
+            }
+
+            if (i % 1000 == 0) {
+                assertSameContents(expected, tree);
+            }
+        }
+        assertSameContents(expected, tree);
+
+        for (int i = 0; i < 1000; ++i) {
+            long from = random.nextInt(6_000) - 3_000;
+            long to = random.nextInt(6_000) - 3_000;
+            assertRange(expected, tree, from, to);
+        }
+    }
+
+    @Test
+    public void testCursorsOnSeparatorsOfRemovedKeys() {
+        LongBPlusTree<Long> tree = new LongBPlusTree<>();
+        for (long i = 0; i < 10_000; i += 2) {
+            tree.put(i, i);
+        }
+        // remove every first key of a leaf, so the separators refer to the keys
+        // which are not in the tree anymore
+        for (long i = 0; i < 10_000; i += LongBPlusTree.MAX_NODE_SIZE) {
+            tree.remove(i);
+        }
+
+        NavigableMap<Long, Long> expected = new TreeMap<>();
+        for (LongBPlusTree<Long>.Cursor cursor = tree.ascendingFrom(key -> true); cursor.isValid(); cursor.advance()) {
+            expected.put(cursor.key(), cursor.value());
+        }
+        for (long from = -1; from < 10_001; from += 7) {
+            assertRange(expected, tree, from, from + 300);
+        }
+    }
+
+    private static void assertAscending(LongBPlusTree<Long> tree, long from, long to) {
+        long expected = from;
+        for (LongBPlusTree<Long>.Cursor cursor = tree.ascendingFrom(key -> true); cursor.isValid(); cursor.advance()) {
+            assertEquals(expected, cursor.key());
+            assertEquals(expected, (long) cursor.value());
+            ++expected;
+        }
+        assertEquals(to, expected);
+    }
+
+    private static <V> void assertSameContents(NavigableMap<Long, V> expected, LongBPlusTree<V> tree) {
+        assertEquals(expected.size(), tree.size());
+        for (Map.Entry<Long, V> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), tree.get(entry.getKey()));
+        }
+
+        List<Long> actual = new ArrayList<>();
+        for (LongBPlusTree<V>.Cursor cursor = tree.ascendingFrom(key -> true); cursor.isValid(); cursor.advance()) {
+            actual.add(cursor.key());
+        }
+        assertEquals(new ArrayList<>(expected.keySet()), actual);
+
+        actual.clear();
+        for (LongBPlusTree<V>.Cursor cursor = tree.descendingFrom(key -> true); cursor.isValid(); cursor.advance()) {
+            actual.add(cursor.key());
+        }
+        assertEquals(new ArrayList<>(expected.descendingKeySet()), actual);
+    }
+
+    private static <V> void assertRange(NavigableMap<Long, V> expected, LongBPlusTree<V> tree, long from, long to) {
+        List<Long> actual = new ArrayList<>();
+        for (LongBPlusTree<V>.Cursor cursor = tree.ascendingFrom(key -> key >= from);
+             cursor.isValid() && cursor.key() <= to; cursor.advance()) {
+            actual.add(cursor.key());
+        }
+        List<Long> expectedKeys = from <= to ? new ArrayList<>(expected.subMap(from, true, to, true).keySet()) : List.of();
+        assertEquals(expectedKeys, actual);
+
+        actual.clear();
+        for (LongBPlusTree<V>.Cursor cursor = tree.descendingFrom(key -> key <= to);
+             cursor.isValid() && cursor.key() >= from; cursor.advance()) {
+            actual.add(cursor.key());
+        }
+        expectedKeys = from <= to
+                ? new ArrayList<>(expected.subMap(from, true, to, true).descendingKeySet())
+                : List.of();
+        assertEquals(expectedKeys, actual);
+    }
+}
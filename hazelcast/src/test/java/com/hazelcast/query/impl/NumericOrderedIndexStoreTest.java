@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.query.impl;
+
+import com.hazelcast.internal.monitor.impl.GlobalPerIndexStats;
+import com.hazelcast.internal.monitor.impl.PerIndexStats;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static com.hazelcast.query.impl.AbstractIndex.NULL;
+import static com.hazelcast.query.impl.CompositeValue.POSITIVE_INFINITY;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+@SuppressWarnings("rawtypes")
+public class NumericOrderedIndexStoreTest {
+
+    private final Random random = new Random(7);
+
+    private final NumericOrderedIndexStore store = new NumericOrderedIndexStore(IndexCopyBehavior.COPY_ON_READ,
+            PerIndexStats.EMPTY);
+    private final OrderedIndexStore expected = new OrderedIndexStore(IndexCopyBehavior.COPY_ON_READ);
+    private final List<Comparable> values = new ArrayList<>();
+
+    @Test
+    public void testIntegers() {
+        populate(2000, i -> random.nextInt(500) - 250);
+        assertTrue(store.isPrimitive());
+        assertSameResults(i -> random.nextInt(600) - 300);
+    }
+
+    @Test
+    public void testLongs() {
+        populate(2000, i -> random.nextBoolean() ? random.nextLong() : (long) random.nextInt(100));
+        assertTrue(store.isPrimitive());
+        assertSameResults(i -> random.nextBoolean() ? random.nextLong() : (long) random.nextInt(100));
+    }
+
+    @Test
+    public void testDoubles() {
+        double[] specials = {-0.0, 0.0, Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.MIN_VALUE, -Double.MAX_VALUE};
+        populate(2000, i -> i % 10 == 0 ? specials[random.nextInt(specials.length)] : (random.nextInt(200) - 100) / 4.0);
+        assertTrue(store.isPrimitive());
+        assertSameResults(i -> i % 10 == 0 ? specials[random.nextInt(specials.length)] : (random.nextInt(240) - 120) / 4.0);
+    }
+
+    @Test
+    public void testFloats() {
+        populate(1000, i -> (random.nextInt(200) - 100) / 3.0f);
+        assertTrue(store.isPrimitive());
+        assertSameResults(i -> (random.nextInt(200) - 100) / 3.0f);
+    }
+
+    @Test
+    public void testDates() {
+        populate(1000, i -> new Date(1_700_000_000_000L + random.nextInt(100) * 1000L));
+        assertTrue(store.isPrimitive());
+        assertSameResults(i -> new Date(1_700_000_000_000L + random.nextInt(120) * 1000L - 10_000L));
+    }
+
+    @Test
+    public void testMixedTypeQueryArguments() {
+        populate(1000, i -> random.nextInt(100));
+        assertTrue(store.isPrimitive());
+        assertSameResults(i -> switch (i % 4) {
+            case 0 -> (long) random.nextInt(100);
+            case 1 -> random.nextInt(100) / 2.0;
+            case 2 -> (short) random.nextInt(100);
+            default -> random.nextInt(100);
+        });
+    }
+
+    @Test
+    public void testFallbackOnValueOfAnotherClass() {
+        populate(500, i -> random.nextInt(100));
+        assertTrue(store.isPrimitive());
+
+        populate(500, 500, i -> (long) random.nextInt(100));
+        assertFalse(store.isPrimitive());
+        assertSameResults(i -> random.nextInt(100));
+
+        store.clear();
+        expected.clear();
+        assertTrue(store.isPrimitive());
+        populate(100, i -> random.nextInt(100));
+        assertTrue(store.isPrimitive());
+        assertSameResults(i -> random.nextInt(100));
+    }
+
+    @Test
+    public void testFallbackOnNonNumericValues() {
+        populate(500, i -> "value-" + random.nextInt(100));
+        assertFalse(store.isPrimitive());
+        assertSameResults(i -> "value-" + random.nextInt(100));
+    }
+
+    @Test
+    public void testRemoval() {
+        populate(1000, i -> random.nextInt(50));
+        for (int i = 0; i < 1000; i += 3) {
+            Data key = keyData(i);
+            Comparable value = valueOf(i);
+            assertEquals(expected.removeInternal(value, key) != null, store.removeInternal(value, key) != null);
+        }
+        // removing absent entries changes nothing
+        assertEquals(null, store.removeInternal(1_000_000, keyData(0)));
+        assertEquals(null, store.removeInternal(NULL, keyData(0)));
+        assertSameResults(i -> random.nextInt(60) - 5);
+    }
+
+    @Test
+    public void testLargeBuckets() {
+        // low cardinality, every bucket including the null one outgrows the array form
+        populate(3000, i -> random.nextInt(5));
+        assertTrue(store.isPrimitive());
+        assertSameResults(i -> random.nextInt(7) - 1);
+
+        // replace some entries in place
+        populate(0, 500, i -> random.nextInt(5));
+        assertSameResults(i -> random.nextInt(7) - 1);
+
+        // shrink the buckets back to the array form
+        for (int i = 0; i < 2980; ++i) {
+            Data key = keyData(i);
+            Comparable value = valueOf(i);
+            assertEquals(expected.removeInternal(value, key) != null, store.removeInternal(value, key) != null);
+        }
+        assertSameResults(i -> random.nextInt(7) - 1);
+    }
+
+    @Test
+    public void testCursorPagination() {
+        populate(300, i -> random.nextInt(20));
+        for (boolean descending : new boolean[]{false, true}) {
+            List<Integer> all = keys(store.getSqlRecordIteratorBatch(NULL, false, 15, true, descending));
+            for (int key : all) {
+                if (key < 0) {
+                    // batch separator
+                    continue;
+                }
+                Data cursor = keyData(key);
+                Comparable from = descending ? NULL : valueOf(key);
+                Comparable to = descending ? valueOf(key) : 15;
+                assertEquals(
+                        keys(expected.getSqlRecordIteratorBatch(from, !descending || from != NULL, to, true, descending, cursor)),
+                        keys(store.getSqlRecordIteratorBatch(from, !descending || from != NULL, to, true, descending, cursor)));
+            }
+        }
+    }
+
+    @Test
+    public void testIteratorResumesAfterUpdates() {
+        for (int i = 0; i < 1000; ++i) {
+            store.insertInternal((long) i * 2, new TestEntry(i, (long) i * 2));
+        }
+
+        for (boolean descending : new boolean[]{false, true}) {
+            Iterator<IndexKeyEntries> iterator = store.getSqlRecordIteratorBatch(descending);
+            List<Long> seen = new ArrayList<>();
+            for (int i = 0; i < 100; ++i) {
+                seen.add((Long) iterator.next().getIndexKey());
+            }
+
+            // split and merge the leaves the iterator hasn't reached yet
+            for (int i = 0; i < 1000; ++i) {
+                store.insertInternal((long) i * 2 + 1, new TestEntry(1000 + i, (long) i * 2 + 1));
+            }
+            for (int i = 0; i < 1000; ++i) {
+                if (i % 4 != 0) {
+                    store.removeInternal((long) i * 2 + 1, keyData(1000 + i));
+                }
+            }
+            while (iterator.hasNext()) {
+                seen.add((Long) iterator.next().getIndexKey());
+            }
+
+            for (int i = 1; i < seen.size(); ++i) {
+                assertEquals(descending, seen.get(i) < seen.get(i - 1));
+            }
+            for (long value = 0; value < 2000; value += 2) {
+                assertTrue(seen.contains(value));
+            }
+            for (int i = 0; i < 1000; ++i) {
+                if (i % 4 == 0) {
+                    store.removeInternal((long) i * 2 + 1, keyData(1000 + i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMemoryCost() {
+        GlobalPerIndexStats stats = new GlobalPerIndexStats(true, false);
+        NumericOrderedIndexStore store = new NumericOrderedIndexStore(IndexCopyBehavior.COPY_ON_READ, stats);
+
+        for (int i = 0; i < 1000; ++i) {
+            store.insertInternal((long) i, new TestEntry(i, i));
+        }
+        long primitiveCost = 1000 * IndexHeapMemoryCostUtil.estimatePrimitiveTreeKeyCost(1);
+        assertEquals(primitiveCost, stats.getMemoryCost());
+
+        // the generic store estimation takes over after the fallback
+        store.insertInternal(1000, new TestEntry(1000, 1000));
+        assertFalse(store.isPrimitive());
+        assertEquals(IndexHeapMemoryCostUtil.estimateMapCost(0, true, false), stats.getMemoryCost());
+
+        store.clear();
+        store.insertInternal(1L, new TestEntry(1, 1));
+        store.insertInternal(1L, new TestEntry(2, 1));
+        assertEquals(IndexHeapMemoryCostUtil.estimatePrimitiveTreeKeyCost(2), stats.getMemoryCost());
+
+        for (int i = 2; i <= 100; ++i) {
+            store.insertInternal(1L, new TestEntry(i, 1));
+        }
+        assertEquals(IndexHeapMemoryCostUtil.estimatePrimitiveTreeKeyMapCost(100), stats.getMemoryCost());
+        for (int i = 1; i <= 99; ++i) {
+            store.removeInternal(1L, keyData(i));
+        }
+        assertEquals(IndexHeapMemoryCostUtil.estimatePrimitiveTreeKeyCost(1), stats.getMemoryCost());
+
+        store.clear();
+        assertEquals(IndexHeapMemoryCostUtil.estimateMapCost(0, true, false), stats.getMemoryCost());
+    }
+
+    private void populate(int count, IntFunction<Comparable> valueGenerator) {
+        populate(0, count, valueGenerator);
+    }
+
+    private void populate(int from, int count, IntFunction<Comparable> valueGenerator) {
+        for (int i = from; i < from + count; ++i) {
+            Comparable value = i % 17 == 0 ? NULL : valueGenerator.apply(i);
+            while (values.size() <= i) {
+                values.add(null);
+            }
+            values.set(i, value);
+            TestEntry entry = new TestEntry(i, value);
+            Object expectedOld = expected.insertInternal(value, entry);
+            Object actualOld = store.insertInternal(value, entry);
+            assertEquals(expectedOld, actualOld);
+        }
+    }
+
+    private Comparable valueOf(int key) {
+        return values.get(key);
+    }
+
+    private void assertSameResults(IntFunction<Comparable> argumentGenerator) {
+        assertEquals(keys(expected.getSqlRecordIteratorBatch(false)), keys(store.getSqlRecordIteratorBatch(false)));
+        assertEquals(keys(expected.getSqlRecordIteratorBatch(true)), keys(store.getSqlRecordIteratorBatch(true)));
+        assertEquals(keySet(expected.getRecords(NULL)), keySet(store.getRecords(NULL)));
+
+        for (int i = 0; i < 200; ++i) {
+            Comparable value = argumentGenerator.apply(i);
+            Comparable other = argumentGenerator.apply(i + 1);
+            boolean fromInclusive = random.nextBoolean();
+            boolean toInclusive = random.nextBoolean();
+            boolean descending = random.nextBoolean();
+
+            assertEquals(keySet(expected.getRecords(value)), keySet(store.getRecords(value)));
+            assertEquals(keys(expected.getSqlRecordIteratorBatch(value, descending)),
+                    keys(store.getSqlRecordIteratorBatch(value, descending)));
+
+            Set<Comparable> arguments = Set.of(store.canonicalizeQueryArgumentScalar(value));
+            assertEquals(keySet(expected.getRecords(arguments)), keySet(store.getRecords(arguments)));
+
+            for (Comparison comparison : Comparison.values()) {
+                assertEquals(keySet(expected.getRecords(comparison, value)), keySet(store.getRecords(comparison, value)));
+                assertEquals(keys(expected.getSqlRecordIteratorBatch(comparison, value, descending)),
+                        keys(store.getSqlRecordIteratorBatch(comparison, value, descending)));
+            }
+
+            for (Comparable from : new Comparable[]{value, NULL}) {
+                for (Comparable to : new Comparable[]{other, POSITIVE_INFINITY}) {
+                    assertEquals(keySet(expected.getRecords(from, fromInclusive, to, toInclusive)),
+                            keySet(store.getRecords(from, fromInclusive, to, toInclusive)));
+                    assertEquals(keys(expected.getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending)),
+                            keys(store.getSqlRecordIteratorBatch(from, fromInclusive, to, toInclusive, descending)));
+                }
+            }
+        }
+    }
+
+    private static List<Integer> keys(Iterator<IndexKeyEntries> iterator) {
+        if (!iterator.hasNext()) {
+            return emptyList();
+        }
+        List<Integer> keys = new ArrayList<>();
+        while (iterator.hasNext()) {
+            IndexKeyEntries keyEntries = iterator.next();
+            // separate the batches to verify the grouping as well
+            keys.add(-1);
+            Iterator<QueryableEntry> entries = keyEntries.getEntries();
+            while (entries.hasNext()) {
+                keys.add((Integer) entries.next().getKey());
+            }
+        }
+        return keys;
+    }
+
+    private static Set<Integer> keySet(Set<QueryableEntry> entries) {
+        Set<Integer> keys = new HashSet<>();
+        for (QueryableEntry entry : entries) {
+            assertTrue(entries.contains(entry));
+            keys.add((Integer) entry.getKey());
+        }
+        assertEquals(keys.size(), entries.size());
+        return keys;
+    }
+
+    private static Data keyData(int key) {
+        return new HeapData(ByteBuffer.allocate(8).putInt(key).array());
+    }
+
+    private static class TestEntry extends QueryEntry {
+
+        private final int key;
+        private final Object value;
+        private final Data keyData;
+
+        TestEntry(int key, Object value) {
+            this.key = key;
+            this.value = value;
+            this.keyData = keyData(key);
+        }
+
+        @Override
+        public Data getKeyData() {
+            return keyData;
+        }
+
+        @Override
+        public Object getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+    }
+}
@@ -206,6 +206,54 @@ public class BitmapAlgorithmsTest {
         verifyNotAndThenClear();
     }
 
+    @Test
+    public void testAndNot() {
+        long seed = System.nanoTime();
+        System.out.println(getClass().getSimpleName() + ".testAndNot seed: " + seed);
+
+        actual.add(new SparseBitSet());
+        expected.add(new TreeSet<>());
+        actual.add(new SparseBitSet());
+        expected.add(new TreeSet<>());
+        verifyAndNotAndThenClear();
+
+        generate(0, 75000, 1);
+        actual.add(new SparseBitSet());
+        expected.add(new TreeSet<>());
+        verifyAndNotAndThenClear();
+
+        actual.add(new SparseBitSet());
+        expected.add(new TreeSet<>());
+        generate(0, 75000, 1);
+        verifyAndNotAndThenClear();
+
+        generate(0, 75000, 1);
+        generate(0, 75000, 2);
+        verifyAndNotAndThenClear();
+
+        generate(100, 40000, 2);
+        generate(0, 30000, 3);
+        verifyAndNotAndThenClear();
+
+        generate(0, 70000, 1);
+        generate(0, 70000, 1);
+        verifyAndNotAndThenClear();
+
+        generate(2000000, 30000, 3);
+        generateRandom(seed, 50000, 3000000);
+        verifyAndNotAndThenClear();
+
+        generateRandom(seed, 60000, 100000);
+        generateRandom(seed + 1, 60000, 100000);
+        verifyAndNotAndThenClear();
+
+        generateRandom(seed, 500000, -1);
+        generateRandom(seed + 1, 500000, -1);
+        actual.get(0).add(Long.MAX_VALUE);
+        expected.get(0).add(Long.MAX_VALUE);
+        verifyAndNotAndThenClear();
+    }
+
     private void verifyAnd() {
         assert !actual.isEmpty();
         assert !expected.isEmpty();
@@ -283,6 +331,33 @@ public class BitmapAlgorithmsTest {
         expectedUniverse.clear();
     }
 
+    private void verifyAndNotAndThenClear() {
+        assert actual.size() == 2;
+        assert expected.size() == 2;
+
+        SparseBitSet actual = this.actual.get(0);
+        SparseBitSet excluded = this.actual.get(1);
+
+        TreeSet<Long> expectedResult = new TreeSet<>(this.expected.get(0));
+        expectedResult.removeAll(this.expected.get(1));
+
+        verify(BitmapAlgorithms.andNot(actual.iterator(), excluded.iterator()), expectedResult);
+        verifyAdvanceAtLeastTo(BitmapAlgorithms.andNot(actual.iterator(), excluded.iterator()), expectedResult, 1);
+        verifyAdvanceAtLeastTo(BitmapAlgorithms.andNot(actual.iterator(), excluded.iterator()), expectedResult, 2);
+        verifyAdvanceAtLeastTo(BitmapAlgorithms.andNot(actual.iterator(), excluded.iterator()), expectedResult, 5);
+        verifyAdvanceAtLeastTo(BitmapAlgorithms.andNot(actual.iterator(), excluded.iterator()), expectedResult,
+                Short.MAX_VALUE);
+        verifyAdvanceAtLeastTo(BitmapAlgorithms.andNot(actual.iterator(), excluded.iterator()), expectedResult,
+                Integer.MAX_VALUE);
+        verifyAdvanceAtLeastTo(BitmapAlgorithms.andNot(actual.iterator(), excluded.iterator()), expectedResult,
+                Long.MAX_VALUE / 2);
+        verifyAdvanceAtLeastTo(BitmapAlgorithms.andNot(actual.iterator(), excluded.iterator()), expectedResult,
+                Long.MAX_VALUE);
+
+        this.actual.clear();
+        this.expected.clear();
+    }
+
     private AscendingLongIterator[] actualIterators() {
         AscendingLongIterator[] actualIterators = new AscendingLongIterator[actual.size()];
         for (int i = 0; i < actual.size(); ++i) {
@@ -34,8 +34,13 @@ import java.util.SortedSet;
 import java.util.TreeSet;
 
 import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.between;
 import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.greaterEqual;
+import static com.hazelcast.query.Predicates.greaterThan;
 import static com.hazelcast.query.Predicates.in;
+import static com.hazelcast.query.Predicates.lessEqual;
+import static com.hazelcast.query.Predicates.lessThan;
 import static com.hazelcast.query.Predicates.not;
 import static com.hazelcast.query.Predicates.notEqual;
 import static com.hazelcast.query.Predicates.or;
@@ -52,7 +57,7 @@ public class BitmapTest {
     private static final Predicate[] actualQueries;
 
     static {
-        actualQueries = new Predicate[10];
+        actualQueries = new Predicate[16];
         actualQueries[0] = notEqual("a", "0");
         actualQueries[1] = equal("a", 1L);
         actualQueries[2] = equal("a", 2);
@@ -69,12 +74,22 @@ public class BitmapTest {
         // single-predicate and/or
         actualQueries[8] = or(equal("a", 1.0D));
         actualQueries[9] = and(equal("a", 1.0F));
+
+        // ranges
+        actualQueries[10] = between("a", 2, 4);
+        actualQueries[11] = greaterEqual("a", 8);
+        actualQueries[12] = lessThan("a", "3");
+        actualQueries[13] = and(lessEqual("a", 9), greaterThan("a", 2L));
+        actualQueries[14] = between("a", 5, 2);
+
+        // negations subtracted from positive predicates
+        actualQueries[15] = and(greaterThan("a", 1), not(equal("a", 5)), notEqual("a", 6), not(in("a", 8, 9)));
     }
 
     private final ExpectedQuery[] expectedQueries;
 
     {
-        expectedQueries = new ExpectedQuery[10];
+        expectedQueries = new ExpectedQuery[16];
         expectedQueries[0] = new ExpectedQuery(value -> !bit(0, value));
         expectedQueries[1] = new ExpectedQuery(value -> bit(1, value));
         expectedQueries[2] = new ExpectedQuery(value -> bit(2, value));
@@ -87,6 +102,16 @@ public class BitmapTest {
                 value -> !(!bit(0, value) && (bit(1, value) || bit(2, value)) && !(bit(3, value) || bit(4, value))));
         expectedQueries[8] = new ExpectedQuery(value -> bit(1, value));
         expectedQueries[9] = new ExpectedQuery(value -> bit(1, value));
+
+        expectedQueries[10] = new ExpectedQuery(value -> anyBit(2, 4, value));
+        expectedQueries[11] = new ExpectedQuery(value -> anyBit(8, Long.SIZE - 1, value));
+        expectedQueries[12] = new ExpectedQuery(value -> anyBit(0, 2, value));
+        // multi-value attributes: each predicate may match a distinct value
+        expectedQueries[13] = new ExpectedQuery(value -> anyBit(0, 9, value) && anyBit(3, Long.SIZE - 1, value));
+        expectedQueries[14] = new ExpectedQuery(value -> false);
+
+        expectedQueries[15] = new ExpectedQuery(
+                value -> anyBit(2, Long.SIZE - 1, value) && !bit(5, value) && !bit(6, value) && !anyBit(8, 9, value));
     }
 
     private final Bitmap<String> bitmap = new Bitmap<>();
@@ -202,6 +227,15 @@ public class BitmapTest {
         return (value & 1L << bit) != 0;
     }
 
+    private static boolean anyBit(int from, int to, long value) {
+        for (int bit = from; bit <= to; ++bit) {
+            if (bit(bit, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private interface LongPredicate {
 
         boolean test(long value);
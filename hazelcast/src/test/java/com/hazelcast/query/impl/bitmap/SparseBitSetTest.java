@@ -24,11 +24,13 @@ import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
 import java.util.NavigableSet;
+import java.util.Random;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 import static com.hazelcast.query.impl.bitmap.SparseBitSet.ARRAY_STORAGE_16_MAX_SIZE;
 import static com.hazelcast.query.impl.bitmap.SparseBitSet.ARRAY_STORAGE_32_MAX_SIZE;
+import static com.hazelcast.query.impl.bitmap.SparseBitSet.RUN_STORAGE_16_MAX_RUNS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
@@ -264,6 +266,83 @@ public class SparseBitSetTest {
         }
     }
 
+    @Test
+    public void testRunStorage16() {
+        long offset = 3 * ((long) Short.MAX_VALUE * 2 + 2);
+
+        // runs of 10 members separated by gaps of 5 members: upgrade to runs
+        for (long i = 0; i < ARRAY_STORAGE_16_MAX_SIZE * 2; ++i) {
+            if (i % 15 < 10) {
+                set(offset + i);
+                verifyEvery(i, 97);
+            }
+        }
+        verifyAdvanceAtLeastTo();
+
+        // fill the gaps to merge the runs
+        for (long i = 0; i < ARRAY_STORAGE_16_MAX_SIZE; ++i) {
+            set(offset + i);
+            verifyEvery(i, 97);
+        }
+        verifyAdvanceAtLeastTo();
+
+        // split the runs until it's too fragmented for the runs
+        for (long i = 1; i < RUN_STORAGE_16_MAX_RUNS * 2 + 10; i += 2) {
+            clear(offset + i);
+            verifyEvery(i, 97);
+        }
+        verifyAdvanceAtLeastTo();
+
+        // remove everything
+        for (long i = 0; i < ARRAY_STORAGE_16_MAX_SIZE * 2; ++i) {
+            clear(offset + i);
+            verifyEvery(i, 97);
+        }
+        verify();
+    }
+
+    @Test
+    public void testRunStorage16Downgrade() {
+        for (long i = 100; i < 100 + ARRAY_STORAGE_16_MAX_SIZE + 10; ++i) {
+            set(i);
+        }
+        verify();
+
+        // punch holes until the runs are more expensive than the array
+        Random random = new Random(42);
+        for (int i = 0; i < ARRAY_STORAGE_16_MAX_SIZE; ++i) {
+            clear(100 + random.nextInt(ARRAY_STORAGE_16_MAX_SIZE + 10));
+            verifyEvery(i, 31);
+        }
+        verifyAdvanceAtLeastTo();
+    }
+
+    @Test
+    public void testBitSetStorage16ToRunStorage16() {
+        // sparse members: upgrade to the bit set
+        Random random = new Random(42);
+        for (int i = 0; i < ARRAY_STORAGE_16_MAX_SIZE * 2; ++i) {
+            set(random.nextInt(1 << Short.SIZE));
+            verifyEvery(i, 97);
+        }
+        verifyAdvanceAtLeastTo();
+
+        // fill everything up, the runs are merged until a single one is left
+        for (long i = 0; i < 1 << Short.SIZE; ++i) {
+            set(i);
+            verifyEvery(i, 997);
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+
+        for (long i = 1; i < 1 << Short.SIZE; i += 3) {
+            clear(i);
+            verifyEvery(i, 997);
+        }
+        verify();
+        verifyAdvanceAtLeastTo();
+    }
+
     @Test
     public void testIteratorAdvanceAtLeastTo() {
         // try empty set
@@ -413,6 +492,12 @@ public class SparseBitSetTest {
         assertEquals(AscendingLongIterator.END, current);
     }
 
+    private void verifyEvery(long iteration, int period) {
+        if (iteration % period == 0) {
+            verify();
+        }
+    }
+
     private void verifyAdvanceAtLeastTo() {
         verifyAdvanceAtLeastTo(actual.iterator(), 1);
         verifyAdvanceAtLeastTo(actual.iterator(), 2);
@@ -38,8 +38,11 @@ import java.util.Set;
 
 import static com.hazelcast.query.Predicates.alwaysFalse;
 import static com.hazelcast.query.Predicates.and;
+import static com.hazelcast.query.Predicates.between;
 import static com.hazelcast.query.Predicates.equal;
+import static com.hazelcast.query.Predicates.greaterThan;
 import static com.hazelcast.query.Predicates.in;
+import static com.hazelcast.query.Predicates.lessEqual;
 import static com.hazelcast.query.Predicates.like;
 import static com.hazelcast.query.Predicates.not;
 import static com.hazelcast.query.Predicates.notEqual;
@@ -67,6 +70,9 @@ public class EvaluateVisitorTest {
         EVALUABLE_PREDICATES.add(EqualPredicate.class);
         EVALUABLE_PREDICATES.add(NotEqualPredicate.class);
         EVALUABLE_PREDICATES.add(InPredicate.class);
+
+        EVALUABLE_PREDICATES.add(GreaterLessPredicate.class);
+        EVALUABLE_PREDICATES.add(BetweenPredicate.class);
     }
 
     private EvaluateVisitor visitor = new EvaluateVisitor();
@@ -86,6 +92,18 @@ public class EvaluateVisitorTest {
         when(indexes.matchIndex(eq("a"), any(), eq(IndexMatchHint.PREFER_UNORDERED), eq(SKIP_PARTITIONS_COUNT_CHECK)))
                 .then((Answer<InternalIndex>) invocation ->
                         EVALUABLE_PREDICATES.contains(invocation.getArgument(1)) ? bitmapA : null);
+        when(indexes.matchIndex(eq("a"), any(), eq(IndexMatchHint.PREFER_ORDERED), eq(SKIP_PARTITIONS_COUNT_CHECK)))
+                .then((Answer<InternalIndex>) invocation ->
+                        EVALUABLE_PREDICATES.contains(invocation.getArgument(1)) ? bitmapA : null);
+
+        // a bitmap index accompanied by an ordered index
+        InternalIndex bitmapO = mock(InternalIndex.class);
+        when(bitmapO.getConverter()).thenReturn(TypeConverters.INTEGER_CONVERTER);
+        when(bitmapO.getName()).thenReturn("o");
+        when(indexes.matchIndex(eq("o"), any(), eq(IndexMatchHint.PREFER_ORDERED), eq(SKIP_PARTITIONS_COUNT_CHECK)))
+                .then((Answer<InternalIndex>) invocation ->
+                        EVALUABLE_PREDICATES.contains(invocation.getArgument(1)) ? bitmapO : null);
+        when(indexes.hasOrderedIndex("o")).thenReturn(true);
 
         InternalIndex bitmapB = mock(InternalIndex.class);
         when(bitmapB.getConverter()).thenReturn(TypeConverters.STRING_CONVERTER);
@@ -157,6 +175,9 @@ public class EvaluateVisitorTest {
         assertNoOptimization(not(equal("r", 1)));
         assertNoOptimization(not(equal("nc", 1)));
         assertNoOptimization(notEqual("noIndex", 1));
+        assertNoOptimization(greaterThan("r", 1));
+        assertNoOptimization(greaterThan("o", 1));
+        assertNoOptimization(between("o", 1, 5));
     }
 
     @Test
@@ -190,6 +211,11 @@ public class EvaluateVisitorTest {
         assertOptimization(not(equal("a", 1)), eval(not(equal("a", 1)), "a"));
         assertOptimization(not(equal("ns", 1)), not(eval(equal("ns", 1), "ns")));
 
+        assertOptimization(greaterThan("a", 1), eval(greaterThan("a", 1), "a"));
+        assertOptimization(between("a", 1, 5), eval(between("a", 1, 5), "a"));
+        assertOptimization(and(greaterThan("a", 1), lessEqual("a", 5), notEqual("a", 3)),
+                eval(and(greaterThan("a", 1), lessEqual("a", 5), notEqual("a", 3)), "a"));
+
         assertOptimization(and(or(equal("a", 1), equal("b", 2)), equal("a", 3), equal("a", 4)),
                 and(or(eval(equal("a", 1), "a"), eval(equal("b", 2), "b")), eval(and(equal("a", 3), equal("a", 4)), "a")));
     }
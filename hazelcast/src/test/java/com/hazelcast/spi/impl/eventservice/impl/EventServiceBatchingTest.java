@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.ConfigAccessor;
+import com.hazelcast.config.ServiceConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.spi.impl.eventservice.EventPublishingService;
+import com.hazelcast.spi.impl.eventservice.EventService;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static com.hazelcast.spi.impl.eventservice.impl.EventServiceTest.getEventService;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.starter.ReflectionUtils.getFieldValueReflectively;
+import static com.hazelcast.test.starter.ReflectionUtils.setFieldValueReflectively;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class EventServiceBatchingTest extends HazelcastTestSupport {
+
+    private static final String SERVICE_NAME = "recording-service";
+    private static final String TOPIC = "topic";
+    private static final int EVENT_THREAD_COUNT = 4;
+
+    @Test
+    public void when_batchFilled_then_remoteEventsDeliveredInOrder() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        // the linger is long, so only the full batches are dispatched
+        HazelcastInstance publisher = factory.newHazelcastInstance(newConfig(100, 60_000));
+        HazelcastInstance subscriber = factory.newHazelcastInstance(newConfig(100, 60_000));
+
+        Queue<Object> received = new ConcurrentLinkedQueue<>();
+        getEventService(subscriber).registerListener(SERVICE_NAME, TOPIC, (RecordingListener) received::add);
+
+        // other services publish events too, so we check the metrics relative to the current values
+        long batchCountBefore = readMetric(publisher, "event.batchCount");
+        long batchedEventCountBefore = readMetric(publisher, "event.batchedEventCount");
+        EventService eventService = getEventService(publisher);
+        for (int i = 0; i < 1000; i++) {
+            eventService.publishEvent(SERVICE_NAME, TOPIC, i, 0);
+        }
+
+        assertTrueEventually(() -> assertEquals(1000, received.size()));
+        assertEquals(IntStream.range(0, 1000).boxed().collect(toList()), new ArrayList<>(received));
+        assertEquals(10, readMetric(publisher, "event.batchCount") - batchCountBefore);
+        assertEquals(1000, readMetric(publisher, "event.batchedEventCount") - batchedEventCountBefore);
+    }
+
+    @Test
+    public void when_orderKeysDiffer_then_remoteEventsBatchedPerEventThread() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance publisher = factory.newHazelcastInstance(newConfig(100, 60_000));
+        HazelcastInstance subscriber = factory.newHazelcastInstance(newConfig(100, 60_000));
+
+        Queue<Object> received = new ConcurrentLinkedQueue<>();
+        getEventService(subscriber).registerListener(SERVICE_NAME, TOPIC, (RecordingListener) received::add);
+
+        long batchCountBefore = readMetric(publisher, "event.batchCount");
+        EventService eventService = getEventService(publisher);
+        for (int i = 0; i < 1000; i++) {
+            eventService.publishEvent(SERVICE_NAME, TOPIC, i, i % EVENT_THREAD_COUNT);
+        }
+
+        // each of the event threads gets 250 events, that is 2 full batches
+        assertTrueEventually(() -> assertEquals(800, received.size()));
+        assertEquals(2 * EVENT_THREAD_COUNT, readMetric(publisher, "event.batchCount") - batchCountBefore);
+        assertOrderedPerOrderKey(received);
+    }
+
+    @Test
+    public void when_syncEventsInterleaved_then_remoteEventsDeliveredInOrderPerOrderKey() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance publisher = factory.newHazelcastInstance(newConfig(100, 60_000));
+        HazelcastInstance subscriber = factory.newHazelcastInstance(newConfig(100, 60_000));
+
+        Queue<Object> received = new ConcurrentLinkedQueue<>();
+        getEventService(subscriber).registerListener(SERVICE_NAME, TOPIC, (RecordingListener) received::add);
+
+        // every 10th event is sent synchronously, after the batched events with the same order key
+        EventServiceImpl eventService = (EventServiceImpl) getEventService(publisher);
+        setFieldValueReflectively(eventService, "eventSyncFrequency", 10);
+        for (int i = 0; i < 1000; i++) {
+            eventService.publishEvent(SERVICE_NAME, TOPIC, i, i % EVENT_THREAD_COUNT);
+        }
+        // the events published after the last synchronous ones are batched
+        ((EventBatcher) getFieldValueReflectively(eventService, "eventBatcher")).flushAll();
+
+        assertTrueEventually(() -> assertEquals(1000, received.size()));
+        assertOrderedPerOrderKey(received);
+    }
+
+    @Test
+    public void when_batchNotFilled_then_localEventsDeliveredAfterLinger() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig(100, 10));
+
+        List<Object> received = new ArrayList<>();
+        EventService eventService = getEventService(instance);
+        eventService.registerLocalListener(SERVICE_NAME, TOPIC, (RecordingListener) event -> {
+            synchronized (received) {
+                received.add(event);
+            }
+        });
+
+        for (int i = 0; i < 5; i++) {
+            eventService.publishEvent(SERVICE_NAME, TOPIC, i, 0);
+        }
+
+        assertTrueEventually(() -> {
+            synchronized (received) {
+                assertEquals(List.of(0, 1, 2, 3, 4), received);
+            }
+        });
+    }
+
+    private static void assertOrderedPerOrderKey(Queue<Object> received) {
+        for (int orderKey = 0; orderKey < EVENT_THREAD_COUNT; orderKey++) {
+            int key = orderKey;
+            List<Object> actual = received.stream().filter(i -> (int) i % EVENT_THREAD_COUNT == key).collect(toList());
+            List<Object> expected = IntStream.iterate(key, i -> i + EVENT_THREAD_COUNT).limit(actual.size())
+                    .boxed().collect(toList());
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static long readMetric(HazelcastInstance instance, String name) {
+        MetricsRegistry registry = getNodeEngineImpl(instance).getMetricsRegistry();
+        return registry.newLongGauge(name).read();
+    }
+
+    private static Config newConfig(int batchSize, int lingerMillis) {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.EVENT_BATCH_SIZE.getName(), String.valueOf(batchSize))
+                .setProperty(ClusterProperty.EVENT_BATCH_LINGER_MILLIS.getName(), String.valueOf(lingerMillis))
+                .setProperty(ClusterProperty.EVENT_THREAD_COUNT.getName(), String.valueOf(EVENT_THREAD_COUNT));
+        ServiceConfig serviceConfig = new ServiceConfig().setEnabled(true).setName(SERVICE_NAME)
+                .setImplementation(new RecordingService());
+        ConfigAccessor.getServicesConfig(config).addServiceConfig(serviceConfig);
+        return config;
+    }
+
+    @FunctionalInterface
+    private interface RecordingListener {
+        void onEvent(Object event);
+    }
+
+    private static class RecordingService implements EventPublishingService<Object, RecordingListener> {
+        @Override
+        public void dispatchEvent(Object event, RecordingListener listener) {
+            listener.onEvent(event);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2008-2025, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.impl;
+
+import com.hazelcast.internal.util.concurrent.BackoffIdleStrategy;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ArrayOperationQueueTest extends HazelcastTestSupport {
+
+    private ArrayOperationQueue operationQueue;
+
+    private ArrayOperationQueue newQueue(int capacity) {
+        ArrayOperationQueue queue = new ArrayOperationQueue(capacity, null);
+        queue.setConsumerThread(Thread.currentThread());
+        return queue;
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void add_whenNull() {
+        operationQueue = newQueue(16);
+        operationQueue.add(null, false);
+    }
+
+    @Test
+    public void add_whenNormal() {
+        operationQueue = newQueue(16);
+        operationQueue.add("task", false);
+
+        assertEquals(0, operationQueue.prioritySize());
+        assertEquals(1, operationQueue.normalSize());
+        assertEquals(1, operationQueue.size());
+    }
+
+    @Test
+    public void add_whenPriority() {
+        operationQueue = newQueue(16);
+        operationQueue.add("task", true);
+
+        assertEquals(1, operationQueue.prioritySize());
+        assertEquals(0, operationQueue.normalSize());
+        assertEquals(1, operationQueue.size());
+    }
+
+    @Test
+    public void add_whenFull_thenOverflows() {
+        operationQueue = newQueue(2);
+        for (int i = 0; i < 5; i++) {
+            operationQueue.add(i, false);
+        }
+
+        assertEquals(5, operationQueue.normalSize());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, operationQueue.poll());
+        }
+        assertNull(operationQueue.poll());
+        assertTrue(operationQueue.isEmpty());
+    }
+
+    @Test
+    public void poll_whenArrayFreedAfterOverflow_thenOverflowingTaskTakenBeforeLaterTasks() {
+        operationQueue = newQueue(2);
+        operationQueue.add("task1", false);
+        operationQueue.add("task2", false);
+        // the array is full
+        operationQueue.add("task3", false);
+
+        assertSame("task1", operationQueue.poll());
+        // there is a free slot in the array now
+        operationQueue.add("task4", false);
+
+        assertSame("task2", operationQueue.poll());
+        assertSame("task3", operationQueue.poll());
+        assertSame("task4", operationQueue.poll());
+        assertNull(operationQueue.poll());
+    }
+
+    @Test
+    public void poll_whenOverflowingTasksAddedOutOfTicketOrder_thenTakenInTicketOrder() {
+        operationQueue = newQueue(2);
+        operationQueue.add("task1", false);
+        operationQueue.add("task2", false);
+        // a producer got ticket 2 after its offer failed, but is descheduled before it adds its task
+        assertSame("task1", operationQueue.poll());
+        operationQueue.add("task3", false);
+        // another producer gets ticket 3 and adds its task first
+        operationQueue.add("task4", false);
+        operationQueue.addOverflowing("delayed", 2);
+
+        assertSame("task2", operationQueue.poll());
+        assertSame("delayed", operationQueue.poll());
+        assertSame("task3", operationQueue.poll());
+        assertSame("task4", operationQueue.poll());
+        assertNull(operationQueue.poll());
+        assertTrue(operationQueue.isEmpty());
+    }
+
+    @Test
+    public void take_priorityIsRetrievedFirst() throws InterruptedException {
+        operationQueue = newQueue(16);
+        operationQueue.add("normal1", false);
+        operationQueue.add("priority1", true);
+        operationQueue.add("normal2", false);
+        operationQueue.add("priority2", true);
+
+        assertSame("priority1", operationQueue.take(false));
+        assertSame("priority2", operationQueue.take(false));
+        assertSame("normal1", operationQueue.take(false));
+        assertSame("normal2", operationQueue.take(false));
+        assertEquals(0, operationQueue.size());
+    }
+
+    @Test
+    public void take_whenPriorityOnly_thenNormalTasksSkipped() throws InterruptedException {
+        operationQueue = newQueue(16);
+        operationQueue.add("normal", false);
+        operationQueue.add("priority", true);
+
+        assertSame("priority", operationQueue.take(true));
+        assertEquals(1, operationQueue.normalSize());
+    }
+
+    @Test
+    public void take_whenNoTaskAvailable_thenBlockTillTaskAdded() throws InterruptedException {
+        operationQueue = newQueue(16);
+
+        spawn(() -> {
+            sleepMillis(500);
+            operationQueue.add("task", false);
+        });
+
+        assertSame("task", operationQueue.take(false));
+    }
+
+    @Test
+    public void take_whenNoTaskAvailable_andIdleStrategy_thenIdleTillTaskAdded() throws InterruptedException {
+        operationQueue = new ArrayOperationQueue(16, new BackoffIdleStrategy(10, 10, MICROSECONDS.toNanos(1),
+                MILLISECONDS.toNanos(1)));
+        operationQueue.setConsumerThread(Thread.currentThread());
+
+        spawn(() -> {
+            sleepMillis(500);
+            operationQueue.add("task", true);
+        });
+
+        assertSame("task", operationQueue.take(false));
+    }
+
+    @Test(expected = InterruptedException.class)
+    public void take_whenInterrupted() throws InterruptedException {
+        operationQueue = newQueue(16);
+        Thread.currentThread().interrupt();
+        try {
+            operationQueue.take(false);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void take_whenConcurrentProducers_andOverflow_thenOrderPerProducerKept() throws Exception {
+        take_whenConcurrentProducers_thenOrderPerProducerKept(4, 8);
+    }
+
+    @Test
+    public void take_whenMoreConcurrentProducersThanCapacity_thenOrderPerProducerKept() throws Exception {
+        // the array is full almost all the time, the producers keep racing each other
+        // between a failed offer and adding the task to the overflow queue
+        take_whenConcurrentProducers_thenOrderPerProducerKept(8, 2);
+    }
+
+    private void take_whenConcurrentProducers_thenOrderPerProducerKept(int producerCount, int capacity) throws Exception {
+        int tasksPerProducer = 100_000;
+        operationQueue = newQueue(capacity);
+
+        List<Future<?>> producers = new ArrayList<>();
+        for (int producerId = 0; producerId < producerCount; producerId++) {
+            int id = producerId;
+            producers.add(spawn(() -> {
+                for (int i = 0; i < tasksPerProducer; i++) {
+                    operationQueue.add(new long[]{id, i}, false);
+                }
+            }));
+        }
+
+        long[] expected = new long[producerCount];
+        for (int i = 0; i < producerCount * tasksPerProducer; i++) {
+            long[] task = (long[]) operationQueue.take(false);
+            int producerId = (int) task[0];
+            assertEquals("producer " + producerId, expected[producerId], task[1]);
+            expected[producerId]++;
+        }
+        for (Future<?> producer : producers) {
+            producer.get();
+        }
+        assertTrue(operationQueue.isEmpty());
+    }
+}